@@ -0,0 +1,500 @@
+/*!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!\
+!! THIS FILE IS GENERATED WITH genBenchmarks.pl SCRIPT. DO NOT EDIT! !!
+\!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!*/
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vector;
+
+import vectorapi.VOd;
+import vectorapi.VOVecd;
+import vectorapi.VSpecies;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+
+@Fork(2)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 5)
+@Threads(1)
+@State(org.openjdk.jmh.annotations.Scope.Thread)
+public class VectorBenchmarksDoubleOutOfPlace {
+    private final static int SEED = 42; // Carefully selected, plucked by hands random number
+
+    private final static int DATA_SIZE = 65536;
+
+    @Param({"3", "4", "7", "8", "15", "128", "1024", "65536"})
+    public int callSize;
+
+    private final static int MAX_OFFSET = 512 / 64 - 1; // Max vector size in `double`s;
+    @Param({"0", "1", "2", "3", "4", "5", "6", "7"})
+    public int startOffset;
+
+    // Size of VOVec vectors in bits, 0 is preferred size; run with "-p vectorBits=128,256,512" to compare
+    @Param({"0"})
+    public int vectorBits;
+
+    private double rvx[];
+    private double rvy[];
+    private double rvz[];
+    private double rvd[];
+
+    private double cvx[];
+    private double cvy[];
+    private double cvz[];
+    private double cvd[];
+
+    private double rsx;
+    private double rsy;
+    private double rsz;
+
+    private double csx[];
+    private double csy[];
+    private double csz[];
+
+
+    @Setup(Level.Trial)
+    public void Setup() {
+        // Each set of parameters is run in new JVM, so VOVec is not initialized yet
+        if (vectorBits != 0) {
+            System.setProperty(VSpecies.BITS_PROPERTY, Integer.toString(vectorBits));
+            if (VSpecies.DOUBLE.bitSize() != vectorBits)
+                throw new IllegalStateException("VOVec is initialized with " + VSpecies.DOUBLE.bitSize() + "-bit vectors already");
+        }
+
+        Random r = new Random(SEED);
+
+        rvx = new double[DATA_SIZE + MAX_OFFSET];
+        rvy = new double[DATA_SIZE + MAX_OFFSET];
+        rvz = new double[DATA_SIZE + MAX_OFFSET];
+        rvd = new double[DATA_SIZE + MAX_OFFSET];
+        for (int i = 0; i < rvx.length; i++) {
+            rvx[i] = r.nextDouble() * 2.0 - 1.0;
+            rvy[i] = r.nextDouble() * 2.0 - 1.0;
+            rvd[i] = rvz[i] = r.nextDouble() * 2.0 - 1.0;
+        }
+
+        cvx = new double[(DATA_SIZE + MAX_OFFSET) * 2];
+        cvy = new double[(DATA_SIZE + MAX_OFFSET) * 2];
+        cvz = new double[(DATA_SIZE + MAX_OFFSET) * 2];
+        cvd = new double[(DATA_SIZE + MAX_OFFSET) * 2];
+        for (int i = 0; i < cvx.length; i++) {
+            cvx[i] = r.nextDouble() * 2.0 - 1.0;
+            cvy[i] = r.nextDouble() * 2.0 - 1.0;
+            cvd[i] = cvz[i] = r.nextDouble() * 2.0 - 1.0;
+        }
+
+        rsx = r.nextDouble() * 2.0 - 1.0;
+        rsy = r.nextDouble() * 2.0 - 1.0;
+        rsz = r.nextDouble() * 2.0 - 1.0;
+
+        csx = new double[] { r.nextDouble() * 2.0 - 1.0, r.nextDouble() * 2.0 - 1.0 };
+        csy = new double[] { r.nextDouble() * 2.0 - 1.0, r.nextDouble() * 2.0 - 1.0 };
+        csz = new double[] { r.nextDouble() * 2.0 - 1.0, r.nextDouble() * 2.0 - 1.0 };
+    }
+
+
+    @Benchmark
+    public void VOd_cv_10log10() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_10log10(cvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_10log10() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_10log10(cvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_abs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_abs(cvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_abs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_abs(cvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_add_cs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_add_cs(cvz, i, cvx, i, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_add_cs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_add_cs(cvz, i, cvx, i, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_add_cv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_add_cv(cvz, i, cvx, i, cvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_add_cv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_add_cv(cvz, i, cvx, i, cvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_conj() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_conj(cvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_conj() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_conj(cvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_cpy() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_cpy(cvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_cpy() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_cpy(cvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_cs_lin_cv_cs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_cs_lin_cv_cs(cvz, i, cvx, i, csx, cvy, i, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_cs_lin_cv_cs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_cs_lin_cv_cs(cvz, i, cvx, i, csx, cvy, i, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_dot_cv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_dot_cv(csz, cvx, i, cvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_dot_cv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_dot_cv(csz, cvx, i, cvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_im() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_im(rvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_im() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_im(rvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_mul_cs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_mul_cs(cvz, i, cvx, i, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_mul_cs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_mul_cs(cvz, i, cvx, i, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_mul_cv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_mul_cv(cvz, i, cvx, i, cvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_mul_cv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_mul_cv(cvz, i, cvx, i, cvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_mul_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_mul_rs(cvz, i, cvx, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_mul_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_mul_rs(cvz, i, cvx, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_mul_rv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_mul_rv(cvz, i, cvx, i, rvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_mul_rv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_mul_rv(cvz, i, cvx, i, rvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_re() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_re(rvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_re() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_re(rvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_sum() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_sum(csz, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_sum() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_sum(csz, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_10log10() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_10log10(rvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_10log10() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_10log10(rvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_abs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_abs(rvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_abs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_abs(rvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_add_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_add_rs(rvz, i, rvx, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_add_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_add_rs(rvz, i, rvx, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_add_rv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_add_rv(rvz, i, rvx, i, rvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_add_rv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_add_rv(rvz, i, rvx, i, rvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_cpy() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_cpy(rvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_cpy() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_cpy(rvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_cvt() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_cvt(cvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_cvt() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_cvt(cvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_dot_cv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_dot_cv(csz, rvx, i, cvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_dot_cv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_dot_cv(csz, rvx, i, cvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_dot_rv(Blackhole bh) {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            bh.consume(VOd.rv_dot_rv(rvx, i, rvy, i, callSize));
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_dot_rv(Blackhole bh) {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            bh.consume(VOVecd.rv_dot_rv(rvx, i, rvy, i, callSize));
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_mul_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_mul_rs(rvz, i, rvx, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_mul_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_mul_rs(rvz, i, rvx, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_mul_rv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_mul_rv(rvz, i, rvx, i, rvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_mul_rv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_mul_rv(rvz, i, rvx, i, rvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_rs_lin_rv_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_rs_lin_rv_rs(rvz, i, rvx, i, rsx, rvy, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_rs_lin_rv_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_rs_lin_rv_rs(rvz, i, rvx, i, rsx, rvy, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_sum(Blackhole bh) {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            bh.consume(VOd.rv_sum(rvx, i, callSize));
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_sum(Blackhole bh) {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            bh.consume(VOVecd.rv_sum(rvx, i, callSize));
+        }
+    }
+}
\ No newline at end of file
@@ -32,6 +32,7 @@ package vector;
 
 import vectorapi.VO;
 import vectorapi.VOVec;
+import vectorapi.VSpecies;
 
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
@@ -55,6 +56,10 @@ public class VectorBenchmarksInPlaceC {
     @Param({"0", "1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "13", "14", "15"})
     public int startOffset;
 
+    // Size of VOVec vectors in bits, 0 is preferred size; run with "-p vectorBits=128,256,512" to compare
+    @Param({"0"})
+    public int vectorBits;
+
     private float rvx[];
     private float rvy[];
     private float rvz[];
@@ -76,6 +81,13 @@ public class VectorBenchmarksInPlaceC {
 
     @Setup(Level.Trial)
     public void Setup() {
+        // Each set of parameters is run in new JVM, so VOVec is not initialized yet
+        if (vectorBits != 0) {
+            System.setProperty(VSpecies.BITS_PROPERTY, Integer.toString(vectorBits));
+            if (VSpecies.FLOAT.bitSize() != vectorBits)
+                throw new IllegalStateException("VOVec is initialized with " + VSpecies.FLOAT.bitSize() + "-bit vectors already");
+        }
+
         Random r = new Random(SEED);
 
         rvx = new float[DATA_SIZE + MAX_OFFSET];
@@ -183,6 +195,62 @@ public class VectorBenchmarksInPlaceC {
         }
     }
 
+    @Benchmark
+    public void VO_cv_cs_lin_cv_cs_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_cs_lin_cv_cs_i(cvz, i, csz, cvx, i, csx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_cs_lin_cv_cs_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_cs_lin_cv_cs_i(cvz, i, csz, cvx, i, csx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_cs_lin_cv_rs_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_cs_lin_cv_rs_i(cvz, i, csz, cvx, i, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_cs_lin_cv_rs_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_cs_lin_cv_rs_i(cvz, i, csz, cvx, i, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_cs_lin_rv_cs_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_cs_lin_rv_cs_i(cvz, i, csz, rvx, i, csx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_cs_lin_rv_cs_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_cs_lin_rv_cs_i(cvz, i, csz, rvx, i, csx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_cs_lin_rv_rs_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_cs_lin_rv_rs_i(cvz, i, csz, rvx, i, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_cs_lin_rv_rs_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_cs_lin_rv_rs_i(cvz, i, csz, rvx, i, rsx, callSize);
+        }
+    }
+
     @Benchmark
     public void VO_cv_div_cs_i() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
@@ -351,6 +419,48 @@ public class VectorBenchmarksInPlaceC {
         }
     }
 
+    @Benchmark
+    public void VO_cv_r2p_if() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_r2p_if(cvz, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_r2p_if() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_r2p_if(cvz, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_rs_lin_cv_rs_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_rs_lin_cv_rs_i(cvz, i, rsz, cvx, i, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_rs_lin_cv_rs_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_rs_lin_cv_rs_i(cvz, i, rsz, cvx, i, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_rs_lin_rv_cs_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_rs_lin_rv_cs_i(cvz, i, rsz, rvx, i, csx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_rs_lin_rv_cs_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_rs_lin_rv_cs_i(cvz, i, rsz, rvx, i, csx, callSize);
+        }
+    }
+
     @Benchmark
     public void VO_cv_rs_lin_rv_rs_i() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
@@ -32,6 +32,7 @@ package vector;
 
 import vectorapi.VO;
 import vectorapi.VOVec;
+import vectorapi.VSpecies;
 
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
@@ -55,6 +56,10 @@ public class VectorBenchmarksInPlaceR {
     @Param({"0", "1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "13", "14", "15"})
     public int startOffset;
 
+    // Size of VOVec vectors in bits, 0 is preferred size; run with "-p vectorBits=128,256,512" to compare
+    @Param({"0"})
+    public int vectorBits;
+
     private float rvx[];
     private float rvy[];
     private float rvz[];
@@ -76,6 +81,13 @@ public class VectorBenchmarksInPlaceR {
 
     @Setup(Level.Trial)
     public void Setup() {
+        // Each set of parameters is run in new JVM, so VOVec is not initialized yet
+        if (vectorBits != 0) {
+            System.setProperty(VSpecies.BITS_PROPERTY, Integer.toString(vectorBits));
+            if (VSpecies.FLOAT.bitSize() != vectorBits)
+                throw new IllegalStateException("VOVec is initialized with " + VSpecies.FLOAT.bitSize() + "-bit vectors already");
+        }
+
         Random r = new Random(SEED);
 
         rvx = new float[DATA_SIZE + MAX_OFFSET];
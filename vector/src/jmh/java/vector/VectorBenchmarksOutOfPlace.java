@@ -32,6 +32,7 @@ package vector;
 
 import vectorapi.VO;
 import vectorapi.VOVec;
+import vectorapi.VSpecies;
 
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
@@ -55,6 +56,10 @@ public class VectorBenchmarksOutOfPlace {
     @Param({"0", "1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "13", "14", "15"})
     public int startOffset;
 
+    // Size of VOVec vectors in bits, 0 is preferred size; run with "-p vectorBits=128,256,512" to compare
+    @Param({"0"})
+    public int vectorBits;
+
     private float rvx[];
     private float rvy[];
     private float rvz[];
@@ -76,6 +81,13 @@ public class VectorBenchmarksOutOfPlace {
 
     @Setup(Level.Trial)
     public void Setup() {
+        // Each set of parameters is run in new JVM, so VOVec is not initialized yet
+        if (vectorBits != 0) {
+            System.setProperty(VSpecies.BITS_PROPERTY, Integer.toString(vectorBits));
+            if (VSpecies.FLOAT.bitSize() != vectorBits)
+                throw new IllegalStateException("VOVec is initialized with " + VSpecies.FLOAT.bitSize() + "-bit vectors already");
+        }
+
         Random r = new Random(SEED);
 
         rvx = new float[DATA_SIZE + MAX_OFFSET];
@@ -234,6 +246,20 @@ public class VectorBenchmarksOutOfPlace {
         }
     }
 
+    @Benchmark
+    public void VO_cv_arg_f() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_arg_f(cvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_arg_f() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_arg_f(cvz, i, cvx, i, callSize);
+        }
+    }
+
     @Benchmark
     public void VO_cv_argmul_rs() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
@@ -248,6 +274,20 @@ public class VectorBenchmarksOutOfPlace {
         }
     }
 
+    @Benchmark
+    public void VO_cv_argmul_rs_f() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_argmul_rs_f(cvz, i, cvx, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_argmul_rs_f() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_argmul_rs_f(cvz, i, cvx, i, rsy, callSize);
+        }
+    }
+
     @Benchmark
     public void VO_cv_conj() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
@@ -276,6 +316,62 @@ public class VectorBenchmarksOutOfPlace {
         }
     }
 
+    @Benchmark
+    public void VO_cv_cs_lin_cv_cs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_cs_lin_cv_cs(cvz, i, cvx, i, csx, cvy, i, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_cs_lin_cv_cs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_cs_lin_cv_cs(cvz, i, cvx, i, csx, cvy, i, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_cs_lin_cv_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_cs_lin_cv_rs(cvz, i, cvx, i, csx, cvy, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_cs_lin_cv_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_cs_lin_cv_rs(cvz, i, cvx, i, csx, cvy, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_cs_lin_rv_cs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_cs_lin_rv_cs(cvz, i, cvx, i, csx, rvy, i, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_cs_lin_rv_cs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_cs_lin_rv_cs(cvz, i, cvx, i, csx, rvy, i, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_cs_lin_rv_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_cs_lin_rv_rs(cvz, i, cvx, i, csx, rvy, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_cs_lin_rv_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_cs_lin_rv_rs(cvz, i, cvx, i, csx, rvy, i, rsy, callSize);
+        }
+    }
+
     @Benchmark
     public void VO_cv_div_cs() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
@@ -500,6 +596,20 @@ public class VectorBenchmarksOutOfPlace {
         }
     }
 
+    @Benchmark
+    public void VO_cv_r2p_f() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_r2p_f(cvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_r2p_f() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_r2p_f(cvz, i, cvx, i, callSize);
+        }
+    }
+
     @Benchmark
     public void VO_cv_re() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
@@ -514,6 +624,34 @@ public class VectorBenchmarksOutOfPlace {
         }
     }
 
+    @Benchmark
+    public void VO_cv_rs_lin_cv_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_rs_lin_cv_rs(cvz, i, cvx, i, rsx, cvy, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_rs_lin_cv_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_rs_lin_cv_rs(cvz, i, cvx, i, rsx, cvy, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_rs_lin_rv_cs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_rs_lin_rv_cs(cvz, i, cvx, i, rsx, rvy, i, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_rs_lin_rv_cs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_rs_lin_rv_cs(cvz, i, cvx, i, rsx, rvy, i, csy, callSize);
+        }
+    }
+
     @Benchmark
     public void VO_cv_rs_lin_rv_rs() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
@@ -0,0 +1,129 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vector.dsp;
+
+import org.openjdk.jmh.annotations.*;
+import vectorapi.dsp.Biquad;
+import vectorapi.dsp.BiquadBank;
+
+import java.util.Random;
+
+/**
+ * Cascade of biquads for several channels: scalar transposed direct form II for each channel,
+ * {@link BiquadBank} with one lane per channel, and look-ahead {@link Biquad} for each channel.
+ * Data is interleaved by channels for first two, and stored channel by channel for last one.
+ *
+ * @noinspection CStyleArrayDeclaration
+ */
+@Fork(2)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Threads(1)
+@State(Scope.Thread)
+public class BiquadFilter {
+	private final static int SEED = 42; // Carefully selected, plucked by hands random number
+
+	/** @noinspection unused */
+	@Param({"1", "2", "8", "16", "32", "64"})
+	public int channels;
+
+	/** @noinspection unused */
+	@Param({"1", "4"})
+	public int sections;
+
+	/** @noinspection unused */
+	@Param({"1024"})
+	public int frames;
+
+	private float x[];
+	private float z[];
+	private float sos[];
+	private float state[];
+	private BiquadBank bank;
+	private Biquad single[];
+
+	@Setup(Level.Trial)
+	public void Setup() {
+		Random r = new Random(SEED);
+
+		x = new float[frames * channels];
+		for (int i = 0; i < x.length; i++)
+			x[i] = r.nextFloat() * 2.0f - 1.0f;
+		z = new float[frames * channels];
+
+		// Butterworth-like low-pass sections
+		sos = new float[sections * 5];
+		for (int s = 0; s < sections; s++) {
+			final double w = Math.PI * 0.1;
+			final double alpha = Math.sin(w) / (2.0 * (0.55 + s * 0.3));
+			final double a0 = 1.0 + alpha;
+			sos[s * 5 + 0] = (float)((1.0 - Math.cos(w)) / 2.0 / a0);
+			sos[s * 5 + 1] = (float)((1.0 - Math.cos(w)) / a0);
+			sos[s * 5 + 2] = (float)((1.0 - Math.cos(w)) / 2.0 / a0);
+			sos[s * 5 + 3] = (float)(-2.0 * Math.cos(w) / a0);
+			sos[s * 5 + 4] = (float)((1.0 - alpha) / a0);
+		}
+		state = new float[channels * sections * 2];
+		bank = new BiquadBank(channels, sos);
+		single = new Biquad[channels];
+		for (int c = 0; c < channels; c++)
+			single[c] = new Biquad(sos);
+	}
+
+	@Benchmark
+	public void scalar() {
+		for (int c = 0; c < channels; c++) {
+			for (int s = 0; s < sections; s++) {
+				final float src[] = (s == 0) ? x : z;
+				final float b0 = sos[s * 5], b1 = sos[s * 5 + 1], b2 = sos[s * 5 + 2], a1 = sos[s * 5 + 3], a2 = sos[s * 5 + 4];
+				final int si = (c * sections + s) * 2;
+				float s1 = state[si], s2 = state[si + 1];
+				for (int i = c; i < frames * channels; i += channels) {
+					final float xv = src[i];
+					final float y = b0 * xv + s1;
+					s1 = b1 * xv - a1 * y + s2;
+					s2 = b2 * xv - a2 * y;
+					z[i] = y;
+				}
+				state[si] = s1;
+				state[si + 1] = s2;
+			}
+		}
+	}
+
+	@Benchmark
+	public void bank() {
+		bank.filter(z, 0, x, 0, frames);
+	}
+
+	@Benchmark
+	public void lookahead() {
+		for (int c = 0; c < channels; c++)
+			single[c].filter(z, c * frames, x, c * frames, frames);
+	}
+}
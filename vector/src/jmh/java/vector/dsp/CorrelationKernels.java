@@ -0,0 +1,130 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vector.dsp;
+
+import org.openjdk.jmh.annotations.*;
+import vectorapi.VOVec;
+import vectorapi.dsp.Correlation;
+
+import java.util.Random;
+
+/**
+ * Cross-correlation of {@code cv} and {@code rv} vectors by {@link Correlation}, direct and with FFT,
+ * in full range of lags and in narrow window of lags, against {@link VOVec#cv_conjmul_cv(float[], int, float[], int, float[], int, int)}
+ * and {@link VOVec#cv_sum(float[], int, float[], int, int)} per lag. Shows crossover of direct and FFT
+ * methods by length of kernel.
+ *
+ * @noinspection CStyleArrayDeclaration
+ */
+@Fork(2)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Threads(1)
+@State(Scope.Thread)
+public class CorrelationKernels {
+	private final static int SEED = 42; // Carefully selected, plucked by hands random number
+	private final static int X_COUNT = 8192;
+	// Narrow window of lags
+	private final static int LAGS = 64;
+
+	/** @noinspection unused */
+	@Param({"16", "64", "256", "1024"})
+	public int yCount;
+
+	private float x[];
+	private float y[];
+	private float z[];
+	private float tmp[];
+	private Correlation correlation;
+
+	@Setup(Level.Trial)
+	public void Setup() {
+		Random r = new Random(SEED);
+
+		x = new float[X_COUNT * 2];
+		for (int i = 0; i < x.length; i++)
+			x[i] = r.nextFloat() * 2.0f - 1.0f;
+		y = new float[yCount * 2];
+		for (int i = 0; i < y.length; i++)
+			y[i] = r.nextFloat() * 2.0f - 1.0f;
+		z = new float[(X_COUNT + yCount) * 2];
+		tmp = new float[yCount * 2];
+		correlation = new Correlation();
+	}
+
+	@Benchmark
+	public float[] rv_direct() {
+		correlation.rv_xcorr_rv(z, 0, x, 0, X_COUNT, y, 0, yCount, -(yCount - 1), X_COUNT + yCount - 1, false);
+		return z;
+	}
+
+	@Benchmark
+	public float[] rv_fft() {
+		correlation.rv_xcorr_rv(z, 0, x, 0, X_COUNT, y, 0, yCount, -(yCount - 1), X_COUNT + yCount - 1, true);
+		return z;
+	}
+
+	@Benchmark
+	public float[] rv_auto() {
+		correlation.rv_xcorr_rv(z, 0, x, 0, X_COUNT, y, 0, yCount);
+		return z;
+	}
+
+	@Benchmark
+	public float[] cv_direct() {
+		correlation.cv_xcorr_cv(z, 0, x, 0, X_COUNT, y, 0, yCount, -(yCount - 1), X_COUNT + yCount - 1, false);
+		return z;
+	}
+
+	@Benchmark
+	public float[] cv_fft() {
+		correlation.cv_xcorr_cv(z, 0, x, 0, X_COUNT, y, 0, yCount, -(yCount - 1), X_COUNT + yCount - 1, true);
+		return z;
+	}
+
+	@Benchmark
+	public float[] cv_auto() {
+		correlation.cv_xcorr_cv(z, 0, x, 0, X_COUNT, y, 0, yCount);
+		return z;
+	}
+
+	@Benchmark
+	public float[] cv_window() {
+		correlation.cv_xcorr_cv(z, 0, x, 0, X_COUNT, y, 0, yCount, X_COUNT / 2, LAGS);
+		return z;
+	}
+
+	@Benchmark
+	public float[] cv_window_per_lag() {
+		for (int k = 0; k < LAGS; k++) {
+			VOVec.cv_conjmul_cv(tmp, 0, x, X_COUNT / 2 + k, y, 0, yCount);
+			VOVec.cv_sum(z, k, tmp, 0, yCount);
+		}
+		return z;
+	}
+}
@@ -0,0 +1,130 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vector.dsp;
+
+import org.openjdk.jmh.annotations.*;
+import vectorapi.VOVec;
+import vectorapi.dsp.FIR;
+
+import java.util.Random;
+
+/**
+ * Direct and overlap-save modes of {@link FIR} for different number of taps, to find
+ * {@link FIR#FFT_FROM} for host, and naive filter made from one
+ * {@link VOVec#rv_rs_lin_rv_rs_i(float[], int, float, float[], int, float, int)} per tap.
+ *
+ * @noinspection CStyleArrayDeclaration
+ */
+@Fork(2)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Threads(1)
+@State(Scope.Thread)
+public class FIRFilter {
+	private final static int SEED = 42; // Carefully selected, plucked by hands random number
+
+	/** @noinspection unused */
+	@Param({"8", "16", "32", "64", "96", "128", "192", "256", "512", "1024"})
+	public int taps;
+
+	/** @noinspection unused */
+	@Param({"4096"})
+	public int block;
+
+	private float x[];
+	private float z[];
+	private float h[];
+	private float buf[];
+	private FIR rvDirect;
+	private FIR rvFFT;
+	private FIR cvDirect;
+	private FIR cvFFT;
+	private FIR rvcvDirect;
+	private FIR rvcvFFT;
+
+	@Setup(Level.Trial)
+	public void Setup() {
+		Random r = new Random(SEED);
+
+		x = new float[block * 2];
+		for (int i = 0; i < x.length; i++)
+			x[i] = r.nextFloat() * 2.0f - 1.0f;
+		z = new float[block * 2];
+		h = new float[taps * 2];
+		for (int i = 0; i < h.length; i++)
+			h[i] = r.nextFloat() * 2.0f - 1.0f;
+		buf = new float[taps - 1 + block];
+
+		final float rh[] = java.util.Arrays.copyOf(h, taps);
+		rvDirect = FIR.rv(rh, false);
+		rvFFT = FIR.rv(rh, true);
+		cvDirect = FIR.cv(h, false);
+		cvFFT = FIR.cv(h, true);
+		rvcvDirect = FIR.rv_cv(rh, false);
+		rvcvFFT = FIR.rv_cv(rh, true);
+	}
+
+	@Benchmark
+	public void rv_direct() {
+		rvDirect.filter(z, 0, x, 0, block);
+	}
+
+	@Benchmark
+	public void rv_fft() {
+		rvFFT.filter(z, 0, x, 0, block);
+	}
+
+	@Benchmark
+	public void rv_lin_per_tap() {
+		System.arraycopy(x, 0, buf, taps - 1, block);
+		java.util.Arrays.fill(z, 0, block, 0.0f);
+		for (int k = 0; k < taps; k++)
+			VOVec.rv_rs_lin_rv_rs_i(z, 0, 1.0f, buf, taps - 1 - k, h[k], block);
+		System.arraycopy(buf, block, buf, 0, taps - 1);
+	}
+
+	@Benchmark
+	public void cv_direct() {
+		cvDirect.filter(z, 0, x, 0, block);
+	}
+
+	@Benchmark
+	public void cv_fft() {
+		cvFFT.filter(z, 0, x, 0, block);
+	}
+
+	@Benchmark
+	public void rv_cv_direct() {
+		rvcvDirect.filter(z, 0, x, 0, block);
+	}
+
+	@Benchmark
+	public void rv_cv_fft() {
+		rvcvFFT.filter(z, 0, x, 0, block);
+	}
+}
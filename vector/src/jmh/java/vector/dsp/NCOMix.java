@@ -0,0 +1,101 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vector.dsp;
+
+import org.openjdk.jmh.annotations.*;
+import vectorapi.VOVec;
+import vectorapi.dsp.NCO;
+
+import java.util.Random;
+
+/**
+ * Frequency shift of complex vector by {@link NCO} against table of phasors from
+ * {@link VOVec#rv_expi(float[], int, float[], int, int)} and
+ * {@link VOVec#cv_mul_cv(float[], int, float[], int, float[], int, int)}, and against
+ * multiplication by ready table alone.
+ *
+ * @noinspection CStyleArrayDeclaration
+ */
+@Fork(2)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Threads(1)
+@State(Scope.Thread)
+public class NCOMix {
+	private final static int SEED = 42; // Carefully selected, plucked by hands random number
+	private final static double STEP = 0.0123;
+
+	/** @noinspection unused */
+	@Param({"128", "1024", "65536"})
+	public int size;
+
+	private float x[];
+	private float z[];
+	private float phases[];
+	private float table[];
+	private double phase;
+	private NCO nco;
+
+	@Setup(Level.Trial)
+	public void Setup() {
+		Random r = new Random(SEED);
+
+		x = new float[size * 2];
+		for (int i = 0; i < x.length; i++)
+			x[i] = r.nextFloat() * 2.0f - 1.0f;
+		z = new float[size * 2];
+		phases = new float[size];
+		table = new float[size * 2];
+		VOVec.rv_expi(table, 0, phases, 0, size);
+		nco = new NCO(0.0, STEP);
+	}
+
+	@Benchmark
+	public void nco_mix() {
+		nco.mix(z, 0, x, 0, size);
+	}
+
+	@Benchmark
+	public void nco_generate() {
+		nco.generate(z, 0, size);
+	}
+
+	@Benchmark
+	public void rv_expi_cv_mul_cv() {
+		for (int i = 0; i < size; i++)
+			phases[i] = (float)(phase + i * STEP);
+		phase = Math.IEEEremainder(phase + size * STEP, 2.0 * Math.PI);
+		VOVec.rv_expi(table, 0, phases, 0, size);
+		VOVec.cv_mul_cv(z, 0, x, 0, table, 0, size);
+	}
+
+	@Benchmark
+	public void cv_mul_cv() {
+		VOVec.cv_mul_cv(z, 0, x, 0, table, 0, size);
+	}
+}
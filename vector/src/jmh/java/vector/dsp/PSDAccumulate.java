@@ -0,0 +1,116 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vector.dsp;
+
+import org.openjdk.jmh.annotations.*;
+import vectorapi.VOVec;
+import vectorapi.dsp.PSD;
+
+import java.util.Random;
+
+/**
+ * Accumulation of power of block of spectra by {@link PSD} in one pass against separate passes of
+ * magnitude, square and addition (or maximum) by {@link VOVec}.
+ *
+ * @noinspection CStyleArrayDeclaration
+ */
+@Fork(2)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Threads(1)
+@State(Scope.Thread)
+public class PSDAccumulate {
+	private final static int SEED = 42; // Carefully selected, plucked by hands random number
+	private final static int FRAMES = 64;
+
+	/** @noinspection unused */
+	@Param({"129", "513", "2049"})
+	public int bins;
+
+	private float x[];
+	private float p[];
+	private float acc[];
+	private PSD linear;
+	private PSD exponential;
+	private PSD max;
+
+	@Setup(Level.Trial)
+	public void Setup() {
+		Random r = new Random(SEED);
+
+		x = new float[bins * FRAMES * 2];
+		for (int i = 0; i < x.length; i++)
+			x[i] = r.nextFloat() * 2.0f - 1.0f;
+		p = new float[bins];
+		acc = new float[bins];
+		linear = new PSD(bins, PSD.Averaging.LINEAR);
+		exponential = new PSD(bins, PSD.Averaging.EXPONENTIAL, 0.1f);
+		max = new PSD(bins, PSD.Averaging.MAX_HOLD);
+	}
+
+	@Benchmark
+	public PSD linear() {
+		linear.reset();
+		linear.accumulate(x, 0, FRAMES);
+		return linear;
+	}
+
+	@Benchmark
+	public PSD exponential() {
+		exponential.reset();
+		exponential.accumulate(x, 0, FRAMES);
+		return exponential;
+	}
+
+	@Benchmark
+	public PSD max() {
+		max.reset();
+		max.accumulate(x, 0, FRAMES);
+		return max;
+	}
+
+	@Benchmark
+	public float[] separate_linear() {
+		for (int f = 0; f < FRAMES; f++) {
+			VOVec.cv_abs(p, 0, x, f * bins, bins);
+			VOVec.rv_mul_rv(p, 0, p, 0, p, 0, bins);
+			VOVec.rv_add_rv_i(acc, 0, p, 0, bins);
+		}
+		return acc;
+	}
+
+	@Benchmark
+	public float[] separate_max() {
+		for (int f = 0; f < FRAMES; f++) {
+			VOVec.cv_abs(p, 0, x, f * bins, bins);
+			VOVec.rv_mul_rv(p, 0, p, 0, p, 0, bins);
+			VOVec.rv_max_rv_i(acc, 0, p, 0, bins);
+		}
+		return acc;
+	}
+}
@@ -0,0 +1,135 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vector.dsp;
+
+import org.openjdk.jmh.annotations.*;
+import vectorapi.VOVec;
+import vectorapi.dsp.FIR;
+import vectorapi.dsp.Resampler;
+
+import java.util.Random;
+
+/**
+ * Polyphase {@link Resampler} for common ratios against naive resampling: insertion of zeros,
+ * {@link FIR} at high rate and dropping of unneeded outputs, and against polyphase resampling
+ * with one {@link VOVec#rv_dot_rv(float[], int, float[], int, int)} per output.
+ *
+ * @noinspection CStyleArrayDeclaration
+ */
+@Fork(2)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Threads(1)
+@State(Scope.Thread)
+public class Resampling {
+	private final static int SEED = 42; // Carefully selected, plucked by hands random number
+
+	/** @noinspection unused */
+	@Param({"1/2", "1/4", "1/8", "2/1", "4/1", "3/2", "2/3", "147/160", "160/147"})
+	public String ratio;
+
+	/** @noinspection unused */
+	@Param({"16"})
+	public int phaseTaps;
+
+	/** @noinspection unused */
+	@Param({"4096"})
+	public int block;
+
+	private int up;
+	private int down;
+	private float x[];
+	private float z[];
+	private float stuffed[];
+	private float filtered[];
+	private Resampler rv;
+	private Resampler cv;
+	private FIR fir;
+	private float phases[][];
+	private float delay[];
+
+	@Setup(Level.Trial)
+	public void Setup() {
+		up = Integer.parseInt(ratio.substring(0, ratio.indexOf('/')));
+		down = Integer.parseInt(ratio.substring(ratio.indexOf('/') + 1));
+
+		Random r = new Random(SEED);
+
+		x = new float[block * 2];
+		for (int i = 0; i < x.length; i++)
+			x[i] = r.nextFloat() * 2.0f - 1.0f;
+		final float h[] = new float[phaseTaps * Math.max(up, down)];
+		for (int i = 0; i < h.length; i++)
+			h[i] = r.nextFloat() * 2.0f - 1.0f;
+
+		rv = Resampler.rv(up, down, h);
+		cv = Resampler.cv(up, down, h);
+		fir = FIR.rv(h);
+		z = new float[(block * up / down + 2) * 2];
+		stuffed = new float[block * up];
+		filtered = new float[block * up];
+
+		phases = new float[up][phaseTaps];
+		for (int p = 0; p < up; p++)
+			for (int k = 0; k < phaseTaps; k++)
+				phases[p][phaseTaps - 1 - k] = (p + k * up < h.length) ? h[p + k * up] : 0.0f;
+		delay = new float[phaseTaps - 1 + block];
+	}
+
+	@Benchmark
+	public int rv() {
+		return rv.filter(z, 0, x, 0, block);
+	}
+
+	@Benchmark
+	public int cv() {
+		return cv.filter(z, 0, x, 0, block);
+	}
+
+	@Benchmark
+	public int rv_dot_per_output() {
+		System.arraycopy(x, 0, delay, phaseTaps - 1, block);
+		int n = 0;
+		for (int t = 0; t < block * up; t += down)
+			z[n++] = VOVec.rv_dot_rv(phases[t % up], 0, delay, t / up, phaseTaps);
+		System.arraycopy(delay, block, delay, 0, phaseTaps - 1);
+		return n;
+	}
+
+	@Benchmark
+	public int rv_naive() {
+		for (int i = 0; i < block; i++)
+			stuffed[i * up] = x[i];
+		fir.filter(filtered, 0, stuffed, 0, stuffed.length);
+		int n = 0;
+		// Block is multiple of both factors in all cases, so phase of output is always same
+		for (int i = 0; i < filtered.length; i += down)
+			z[n++] = filtered[i];
+		return n;
+	}
+}
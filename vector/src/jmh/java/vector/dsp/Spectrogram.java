@@ -0,0 +1,115 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vector.dsp;
+
+import org.openjdk.jmh.annotations.*;
+import vectorapi.VOVec;
+import vectorapi.dsp.STFT;
+import vectorapi.dsp.Window;
+import vectorapi.fft.RFFT;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Spectrogram in decibels of 10 seconds of real signal at 48kHz (chirp with noise) by {@link STFT} against
+ * same steps by separate passes with fresh arrays for each frame: copy of frame, window, FFT,
+ * magnitude, square and logarithm.
+ *
+ * @noinspection CStyleArrayDeclaration
+ */
+@Fork(2)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Threads(1)
+@State(Scope.Thread)
+public class Spectrogram {
+	private final static int SEED = 42; // Carefully selected, plucked by hands random number
+	private final static int RATE = 48000;
+	private final static int COUNT = RATE * 10;
+	// Input comes in blocks, like from sound card
+	private final static int BLOCK = 4800;
+
+	/** @noinspection unused */
+	@Param({"256", "1024", "4096"})
+	public int size;
+
+	private float x[];
+	private float z[];
+	private int hop;
+	private Window window;
+	private STFT stft;
+	private RFFT rfft;
+
+	@Setup(Level.Trial)
+	public void Setup() {
+		Random r = new Random(SEED);
+
+		x = new float[COUNT];
+		for (int i = 0; i < x.length; i++) {
+			// From 100Hz to 20kHz
+			final double t = (double)i / RATE;
+			final double f = 100.0 + (20000.0 - 100.0) * t / 20.0;
+			x[i] = (float)(0.5 * Math.sin(2.0 * Math.PI * f * t) + 0.01 * r.nextGaussian());
+		}
+		hop = size / 4;
+		window = Window.hann(size);
+		stft = new STFT(size, hop, window, false, STFT.Output.DB);
+		z = new float[((COUNT - size) / hop + 1) * stft.getRowSize()];
+		rfft = new RFFT(size);
+	}
+
+	@Benchmark
+	public float[] stft() {
+		stft.reset();
+		int rows = 0;
+		for (int i = 0; i < COUNT; i += BLOCK)
+			rows += stft.process(z, rows * stft.getRowSize(), x, i, BLOCK);
+		return z;
+	}
+
+	@Benchmark
+	public float[] separate() {
+		final int bins = size / 2 + 1;
+		int row = 0;
+		for (int i = 0; i + size <= COUNT; i += hop) {
+			final float frame[] = Arrays.copyOfRange(x, i, i + size);
+			window.apply_rv(frame, 0, frame, 0);
+			final float spectrum[] = new float[bins * 2];
+			rfft.forward(spectrum, 0, frame, 0);
+			spectrum[size] = spectrum[1];
+			spectrum[1] = 0.0f;
+			final float magnitude[] = new float[bins];
+			VOVec.cv_abs(magnitude, 0, spectrum, 0, bins);
+			VOVec.rv_mul_rv(magnitude, 0, magnitude, 0, magnitude, 0, bins);
+			VOVec.rv_10log10(z, row, magnitude, 0, bins);
+			row += bins;
+		}
+		return z;
+	}
+}
@@ -0,0 +1,128 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vector.dsp;
+
+import org.openjdk.jmh.annotations.*;
+import vectorapi.VOVec;
+import vectorapi.dsp.Goertzel;
+import vectorapi.dsp.SlidingDFT;
+import vectorapi.fft.RFFT;
+
+import java.util.Random;
+
+/**
+ * Power of several bins of one block of real signal: {@link Goertzel} bank and {@link SlidingDFT}
+ * against full {@link RFFT} with pick of bins, and against two dot products with precomputed
+ * phasors per bin. Shows crossover of sparse methods and FFT by number of bins.
+ *
+ * @noinspection CStyleArrayDeclaration
+ */
+@Fork(2)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Threads(1)
+@State(Scope.Thread)
+public class ToneDetection {
+	private final static int SEED = 42; // Carefully selected, plucked by hands random number
+
+	/** @noinspection unused */
+	@Param({"256", "1024", "4096"})
+	public int size;
+
+	/** @noinspection unused */
+	@Param({"8", "16", "32", "64"})
+	public int bins;
+
+	private float x[];
+	private float z[];
+	private float fft[];
+	private int k[];
+	private float cos[][];
+	private float sin[][];
+	private Goertzel goertzel;
+	private SlidingDFT sdft;
+	private RFFT rfft;
+
+	@Setup(Level.Trial)
+	public void Setup() {
+		Random r = new Random(SEED);
+
+		x = new float[size];
+		for (int i = 0; i < x.length; i++)
+			x[i] = r.nextFloat() * 2.0f - 1.0f;
+		z = new float[bins];
+		fft = new float[size];
+		k = new int[bins];
+		cos = new float[bins][size];
+		sin = new float[bins][size];
+		for (int i = 0; i < bins; i++) {
+			k[i] = 1 + r.nextInt(size / 2 - 1);
+			for (int n = 0; n < size; n++) {
+				cos[i][n] = (float)Math.cos(2.0 * Math.PI * k[i] * n / size);
+				sin[i][n] = (float)-Math.sin(2.0 * Math.PI * k[i] * n / size);
+			}
+		}
+		goertzel = Goertzel.bins(size, k);
+		sdft = new SlidingDFT(size, k);
+		rfft = new RFFT(size);
+	}
+
+	@Benchmark
+	public float[] goertzel() {
+		goertzel.process(z, 0, x, 0, size);
+		return z;
+	}
+
+	@Benchmark
+	public float[] sdft() {
+		sdft.process(x, 0, size);
+		sdft.read_power(z, 0);
+		return z;
+	}
+
+	@Benchmark
+	public float[] fft() {
+		rfft.forward(fft, 0, x, 0);
+		for (int i = 0; i < bins; i++) {
+			final float re = fft[k[i] * 2];
+			final float im = fft[k[i] * 2 + 1];
+			z[i] = re * re + im * im;
+		}
+		return z;
+	}
+
+	@Benchmark
+	public float[] dot() {
+		for (int i = 0; i < bins; i++) {
+			final float re = VOVec.rv_dot_rv(x, 0, cos[i], 0, size);
+			final float im = VOVec.rv_dot_rv(x, 0, sin[i], 0, size);
+			z[i] = re * re + im * im;
+		}
+		return z;
+	}
+}
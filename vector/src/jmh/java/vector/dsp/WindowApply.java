@@ -0,0 +1,91 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vector.dsp;
+
+import org.openjdk.jmh.annotations.*;
+import vectorapi.VOVec;
+import vectorapi.dsp.Window;
+
+import java.util.Random;
+
+/**
+ * Windowing of complex frame by {@link VOVec#cv_mul_rv(float[], int, float[], int, float[], int, int)}
+ * against {@link Window#apply_cv(float[], int, float[], int)} with spread coefficients, and
+ * generation of window against lookup in cache.
+ *
+ * @noinspection CStyleArrayDeclaration
+ */
+@Fork(2)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Threads(1)
+@State(Scope.Thread)
+public class WindowApply {
+	private final static int SEED = 42; // Carefully selected, plucked by hands random number
+
+	/** @noinspection unused */
+	@Param({"256", "1024", "4096"})
+	public int size;
+
+	private float x[];
+	private float z[];
+	private float w[];
+	private Window window;
+
+	@Setup(Level.Trial)
+	public void Setup() {
+		Random r = new Random(SEED);
+
+		x = new float[size * 2];
+		for (int i = 0; i < x.length; i++)
+			x[i] = r.nextFloat() * 2.0f - 1.0f;
+		z = new float[size * 2];
+		window = Window.blackman(size);
+		w = window.rv();
+	}
+
+	@Benchmark
+	public void cv_mul_rv() {
+		VOVec.cv_mul_rv(z, 0, x, 0, w, 0, size);
+	}
+
+	@Benchmark
+	public void apply_cv() {
+		window.apply_cv(z, 0, x, 0);
+	}
+
+	@Benchmark
+	public float[] generate() {
+		return Window.generate(Window.Type.BLACKMAN, size, true, 0.0);
+	}
+
+	@Benchmark
+	public Window cached() {
+		return Window.blackman(size);
+	}
+}
@@ -0,0 +1,112 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vector.fft;
+
+import org.jtransforms.fft.DoubleFFT_1D;
+import org.jtransforms.fft.FloatFFT_1D;
+import org.openjdk.jmh.annotations.*;
+import vectorapi.VOVec;
+import vectorapi.fft.CFFT;
+import vectorapi.fft.RFFT;
+
+import java.util.Random;
+
+/**
+ * Real FFT of {@link RFFT} against widening of signal to complex one and {@link CFFT}
+ * of full size, and against {@code realForward()} of JTransforms (single thread).
+ *
+ * @noinspection CStyleArrayDeclaration
+ */
+@Fork(2)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Threads(1)
+@State(Scope.Thread)
+public class RealFFT {
+	private final static int SEED = 42; // Carefully selected, plucked by hands random number
+
+	/** @noinspection unused */
+	@Param({"16", "32", "64", "128", "256", "512", "1024", "2048", "4096", "8192", "16384", "32768", "65536", "131072"})
+	public int size;
+
+	private float x[];
+	private float z[];
+	private float c[];
+	private double dx[];
+	private double dz[];
+	private RFFT rfft;
+	private CFFT cfft;
+	private FloatFFT_1D ffft;
+	private DoubleFFT_1D dfft;
+
+	@Setup(Level.Trial)
+	public void Setup() {
+		org.jtransforms.utils.CommonUtils.setThreadsBeginN_1D_FFT_2Threads(Integer.MAX_VALUE);
+		org.jtransforms.utils.CommonUtils.setThreadsBeginN_1D_FFT_4Threads(Integer.MAX_VALUE);
+
+		Random r = new Random(SEED);
+
+		x = new float[size];
+		dx = new double[size];
+		for (int i = 0; i < x.length; i++) {
+			x[i] = r.nextFloat() * 2.0f - 1.0f;
+			dx[i] = x[i];
+		}
+		z = new float[size];
+		c = new float[size * 2];
+		dz = new double[size];
+
+		rfft = new RFFT(size);
+		cfft = new CFFT(size);
+		ffft = new FloatFFT_1D(size);
+		dfft = new DoubleFFT_1D(size);
+	}
+
+	@Benchmark
+	public void rfft() {
+		rfft.forward(z, 0, x, 0);
+	}
+
+	@Benchmark
+	public void rv_cvt_cfft() {
+		VOVec.rv_cvt(c, 0, x, 0, size);
+		cfft.forward(c, 0);
+	}
+
+	@Benchmark
+	public void jtransforms_float() {
+		System.arraycopy(x, 0, z, 0, x.length);
+		ffft.realForward(z);
+	}
+
+	@Benchmark
+	public void jtransforms_double() {
+		System.arraycopy(dx, 0, dz, 0, dx.length);
+		dfft.realForward(dz);
+	}
+}
@@ -0,0 +1,138 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vector.micro;
+
+import org.openjdk.jmh.annotations.*;
+import vectorapi.VAlign;
+import vectorapi.VOBuffer;
+import vectorapi.VOVec;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+/**
+ * Kernels on data which starts {@code offset} floats after aligned address: {@link VOVec} on arrays
+ * (real alignment of arrays is unknown), and {@link VOBuffer} on aligned direct buffers, with alignment
+ * prologue and without it.
+ *
+ * @noinspection CStyleArrayDeclaration
+ */
+@Fork(2)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Threads(1)
+@State(org.openjdk.jmh.annotations.Scope.Thread)
+public class AlignedOffsets {
+	private final static int SEED = 42; // Carefully selected, plucked by hands random number
+	private final static int COUNT = 2048;
+	private final static String NO_PEEL = "-D" + VOBuffer.PEEL_PROPERTY + "=false";
+
+	private float x[];
+	private float y[];
+	private float z[];
+	private ByteBuffer bx;
+	private ByteBuffer by;
+	private ByteBuffer bz;
+	/** @noinspection unused */
+	@Param({"0", "1", "2", "3", "4", "8", "15"})
+	private int offset;
+
+	@Setup(Level.Trial)
+	public void Setup() {
+		Random r = new Random(SEED);
+
+		// Room for complex vectors
+		x = new float[(COUNT + offset) * 2];
+		y = new float[(COUNT + offset) * 2];
+		z = new float[(COUNT + offset) * 2];
+		for (int i = 0; i < x.length; i++) {
+			x[i] = r.nextFloat() * 2.0f - 1.0f;
+			y[i] = r.nextFloat() * 2.0f - 1.0f;
+		}
+
+		bx = VAlign.allocate(x.length);
+		by = VAlign.allocate(y.length);
+		bz = VAlign.allocate(z.length);
+		bx.asFloatBuffer().put(x);
+		by.asFloatBuffer().put(y);
+	}
+
+	@Benchmark
+	public float[] rv_mul_rv_array() {
+		VOVec.rv_mul_rv(z, offset, x, offset, y, offset, COUNT);
+		return z;
+	}
+
+	@Benchmark
+	public ByteBuffer rv_mul_rv_buffer() {
+		VOBuffer.rv_mul_rv(bz, offset, bx, offset, by, offset, COUNT);
+		return bz;
+	}
+
+	@Benchmark
+	@Fork(value = 2, jvmArgsAppend = NO_PEEL)
+	public ByteBuffer rv_mul_rv_buffer_nopeel() {
+		VOBuffer.rv_mul_rv(bz, offset, bx, offset, by, offset, COUNT);
+		return bz;
+	}
+
+	@Benchmark
+	public float rv_dot_rv_array() {
+		return VOVec.rv_dot_rv(x, offset, y, offset, COUNT);
+	}
+
+	@Benchmark
+	public float rv_dot_rv_buffer() {
+		return VOBuffer.rv_dot_rv(bx, offset, by, offset, COUNT);
+	}
+
+	@Benchmark
+	@Fork(value = 2, jvmArgsAppend = NO_PEEL)
+	public float rv_dot_rv_buffer_nopeel() {
+		return VOBuffer.rv_dot_rv(bx, offset, by, offset, COUNT);
+	}
+
+	@Benchmark
+	public float[] cv_mul_cv_array() {
+		VOVec.cv_mul_cv(z, offset, x, offset, y, offset, COUNT);
+		return z;
+	}
+
+	@Benchmark
+	public ByteBuffer cv_mul_cv_buffer() {
+		VOBuffer.cv_mul_cv(bz, offset, bx, offset, by, offset, COUNT);
+		return bz;
+	}
+
+	@Benchmark
+	@Fork(value = 2, jvmArgsAppend = NO_PEEL)
+	public ByteBuffer cv_mul_cv_buffer_nopeel() {
+		VOBuffer.cv_mul_cv(bz, offset, bx, offset, by, offset, COUNT);
+		return bz;
+	}
+}
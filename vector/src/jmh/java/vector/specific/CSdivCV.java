@@ -32,6 +32,7 @@ import jdk.incubator.vector.VectorMask;
 import jdk.incubator.vector.VectorShuffle;
 import jdk.incubator.vector.VectorSpecies;
 import org.openjdk.jmh.annotations.*;
+import vectorapi.VOVecVariants;
 
 import java.util.Random;
 
@@ -56,10 +57,6 @@ public class CSdivCV {
 	private final static VectorShuffle<Float> SHUFFLE_CV_SPREAD_IM;
 	private final static VectorShuffle<Float> SHUFFLE_CV_SWAP_RE_IM;
 
-	private final static int[] LOAD_CS_TO_CV_SPREAD;
-	private final static int[] LOAD_CV_TO_CV_SPREAD_RE;
-	private final static int[] LOAD_CV_TO_CV_SPREAD_IM;
-
 	static {
 		boolean[] alter = new boolean[EPV + 1];
 		alter[0] = true;
@@ -75,10 +72,6 @@ public class CSdivCV {
 		SHUFFLE_CV_SPREAD_IM = VectorShuffle.shuffle(PFS, i -> i - i % 2 + 1);
 		// [(re0, im0), (re1, im1), ...] -> [(im0, re0), (im1, re1), ...]
 		SHUFFLE_CV_SWAP_RE_IM = VectorShuffle.shuffle(PFS, i -> (i % 2 == 0) ? i + 1 : i - 1);
-
-		LOAD_CS_TO_CV_SPREAD = SHUFFLE_CS_TO_CV_SPREAD.toArray();
-		LOAD_CV_TO_CV_SPREAD_RE = SHUFFLE_CV_SPREAD_RE.toArray();
-		LOAD_CV_TO_CV_SPREAD_IM = SHUFFLE_CV_SPREAD_IM.toArray();
 	}
 
 	private float x[];
@@ -106,16 +99,16 @@ public class CSdivCV {
 	public void nv() { cs_div_cv_0(z, 0, x, y, 0, count); }
 
 	@Benchmark
-	public void spread_rearrange() { cs_div_cv_1(z, 0, x, y, 0, count); }
+	public void spread_rearrange() { VOVecVariants.cs_div_cv_spread_rearrange(z, 0, x, y, 0, count); }
 
 	@Benchmark
 	public void reshape_rearrange() { cs_div_cv_2(z, 0, x, y, 0, count); }
 
 	@Benchmark
-	public void spread_spread() { cs_div_cv_3(z, 0, x, y, 0, count); }
+	public void spread_spread() { VOVecVariants.cs_div_cv_spread_spread(z, 0, x, y, 0, count); }
 
 	@Benchmark
-	public void reshape_spread() { cs_div_cv_4(z, 0, x, y, 0, count); }
+	public void reshape_spread() { VOVecVariants.cs_div_cv_reshape_spread(z, 0, x, y, 0, count); }
 
 	private static void cs_div_cv_0(float z[], int zOffset, float x[], float y[], int yOffset, int count) {
 		float sq;
@@ -130,55 +123,6 @@ public class CSdivCV {
 		}
 	}
 
-	private static void cs_div_cv_1(float z[], int zOffset, float x[], float y[], int yOffset, int count) {
-		FloatVector vx = null;
-		if (count >= EPV2)
-			vx = FloatVector.fromArray(PFS, x, 0, LOAD_CS_TO_CV_SPREAD, 0);
-
-		zOffset <<= 1;
-		yOffset <<= 1;
-
-		while (count >= EPV2) {
-			// vy is [(y[0].re, y[0].im), (y[1].re, y[1].im), ...]
-			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
-			// vyre is [(y[0].re, y[0].re), (y[1].re, y[1].re), ...]
-			final FloatVector vyre = vy.rearrange(SHUFFLE_CV_SPREAD_RE);
-			// vyim is [(y[0].im, y[0].im), (y[1].im, y[1].im), ...]
-			final FloatVector vyim = vy.rearrange(SHUFFLE_CV_SPREAD_IM);
-
-			// vmulxre [(x.re * y[0].re, x.im * y[0].re), (x.re * y[1].re, x.im * y[1].re), ...]
-			final FloatVector vmulxre = vx.mul(vyre);
-			// vmulxim [(x.re * y[0].im, x.im * y[0].im), (x.re * y[1].im, x.im * y[1].im), ...]
-			final FloatVector vmulxim = vx.mul(vyim);
-			// vmulximswap is [(x.im * y[0].im, x.re * y[0].im), (x.im * y[1].im, x.re * y[1].im), ...]
-			final FloatVector vmulximswap = vmulxim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
-
-			// Get abs to divide
-			final FloatVector vysq = vyre.mul(vyre).add(vyim.mul(vyim));
-
-			// vrre is [(x.re * y[0].re + x.im * y[0].im, ?), (x.re * y[1].re + x.im * y[1].im, ?), ...]
-			final FloatVector vrre = vmulxre.add(vmulximswap);
-			// vrim it is [(?, x.im * y[0].re - x.re * y[0].im), (?, x.im * y[1].re - x.re * y[1].im), ...]
-			final FloatVector vrim = vmulxre.sub(vmulximswap);
-
-			// Divide, Blend together & save
-			vrre.blend(vrim, MASK_C_IM).div(vysq).intoArray(z, zOffset);
-
-			yOffset += EPV;
-			zOffset += EPV;
-			count -= EPV2;
-		}
-
-		float sq;
-		while (count-- > 0) {
-			sq = y[yOffset + 0] * y[yOffset + 0] + y[yOffset + 1] * y[yOffset + 1];
-			z[zOffset + 0] = (x[0] * y[yOffset + 0] + x[1] * y[yOffset + 1]) / sq;
-			z[zOffset + 1] = (x[1] * y[yOffset + 0] - x[0] * y[yOffset + 1]) / sq;
-			yOffset += 2;
-			zOffset += 2;
-		}
-	}
-
 	private static void cs_div_cv_2(float z[], int zOffset, float x[], float y[], int yOffset, int count) {
 		FloatVector vx = null;
 		if (count >= EPV2)
@@ -227,98 +171,4 @@ public class CSdivCV {
 			zOffset += 2;
 		}
 	}
-
-	private static void cs_div_cv_3(float z[], int zOffset, float x[], float y[], int yOffset, int count) {
-		FloatVector vx = null;
-		if (count >= EPV2)
-			vx = FloatVector.fromArray(PFS, x, 0, LOAD_CS_TO_CV_SPREAD, 0);
-
-		zOffset <<= 1;
-		yOffset <<= 1;
-
-		while (count >= EPV2) {
-			// vyre is [(y[0].re, y[0].re), (y[1].re, y[1].re), ...]
-			final FloatVector vyre = FloatVector.fromArray(PFS, y, yOffset, LOAD_CV_TO_CV_SPREAD_RE, 0);
-			// vyim is [(y[0].im, y[0].im), (y[1].im, y[1].im), ...]
-			final FloatVector vyim = FloatVector.fromArray(PFS, y, yOffset, LOAD_CV_TO_CV_SPREAD_IM, 0);
-
-			// vmulxre [(x.re * y[0].re, x.im * y[0].re), (x.re * y[1].re, x.im * y[1].re), ...]
-			final FloatVector vmulxre = vx.mul(vyre);
-			// vmulxim [(x.re * y[0].im, x.im * y[0].im), (x.re * y[1].im, x.im * y[1].im), ...]
-			final FloatVector vmulxim = vx.mul(vyim);
-			// vmulximswap is [(x.im * y[0].im, x.re * y[0].im), (x.im * y[1].im, x.re * y[1].im), ...]
-			final FloatVector vmulximswap = vmulxim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
-
-			// Get abs to divide
-			final FloatVector vysq = vyre.mul(vyre).add(vyim.mul(vyim));
-
-			// vrre is [(x.re * y[0].re + x.im * y[0].im, ?), (x.re * y[1].re + x.im * y[1].im, ?), ...]
-			final FloatVector vrre = vmulxre.add(vmulximswap);
-			// vrim it is [(?, x.im * y[0].re - x.re * y[0].im), (?, x.im * y[1].re - x.re * y[1].im), ...]
-			final FloatVector vrim = vmulxre.sub(vmulximswap);
-
-			// Divide, Blend together & save
-			vrre.blend(vrim, MASK_C_IM).div(vysq).intoArray(z, zOffset);
-
-			yOffset += EPV;
-			zOffset += EPV;
-			count -= EPV2;
-		}
-
-		float sq;
-		while (count-- > 0) {
-			sq = y[yOffset + 0] * y[yOffset + 0] + y[yOffset + 1] * y[yOffset + 1];
-			z[zOffset + 0] = (x[0] * y[yOffset + 0] + x[1] * y[yOffset + 1]) / sq;
-			z[zOffset + 1] = (x[1] * y[yOffset + 0] - x[0] * y[yOffset + 1]) / sq;
-			yOffset += 2;
-			zOffset += 2;
-		}
-	}
-
-	private static void cs_div_cv_4(float z[], int zOffset, float x[], float y[], int yOffset, int count) {
-		FloatVector vx = null;
-		if (count >= EPV2)
-			vx = FloatVector.fromArray(FS64, x, 0).reshape(PFS).rearrange(SHUFFLE_CS_TO_CV_SPREAD);
-
-		zOffset <<= 1;
-		yOffset <<= 1;
-
-		while (count >= EPV2) {
-			// vyre is [(y[0].re, y[0].re), (y[1].re, y[1].re), ...]
-			final FloatVector vyre = FloatVector.fromArray(PFS, y, yOffset, LOAD_CV_TO_CV_SPREAD_RE, 0);
-			// vyim is [(y[0].im, y[0].im), (y[1].im, y[1].im), ...]
-			final FloatVector vyim = FloatVector.fromArray(PFS, y, yOffset, LOAD_CV_TO_CV_SPREAD_IM, 0);
-
-			// vmulxre [(x.re * y[0].re, x.im * y[0].re), (x.re * y[1].re, x.im * y[1].re), ...]
-			final FloatVector vmulxre = vx.mul(vyre);
-			// vmulxim [(x.re * y[0].im, x.im * y[0].im), (x.re * y[1].im, x.im * y[1].im), ...]
-			final FloatVector vmulxim = vx.mul(vyim);
-			// vmulximswap is [(x.im * y[0].im, x.re * y[0].im), (x.im * y[1].im, x.re * y[1].im), ...]
-			final FloatVector vmulximswap = vmulxim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
-
-			// Get abs to divide
-			final FloatVector vysq = vyre.mul(vyre).add(vyim.mul(vyim));
-
-			// vrre is [(x.re * y[0].re + x.im * y[0].im, ?), (x.re * y[1].re + x.im * y[1].im, ?), ...]
-			final FloatVector vrre = vmulxre.add(vmulximswap);
-			// vrim it is [(?, x.im * y[0].re - x.re * y[0].im), (?, x.im * y[1].re - x.re * y[1].im), ...]
-			final FloatVector vrim = vmulxre.sub(vmulximswap);
-
-			// Divide, Blend together & save
-			vrre.blend(vrim, MASK_C_IM).div(vysq).intoArray(z, zOffset);
-
-			yOffset += EPV;
-			zOffset += EPV;
-			count -= EPV2;
-		}
-
-		float sq;
-		while (count-- > 0) {
-			sq = y[yOffset + 0] * y[yOffset + 0] + y[yOffset + 1] * y[yOffset + 1];
-			z[zOffset + 0] = (x[0] * y[yOffset + 0] + x[1] * y[yOffset + 1]) / sq;
-			z[zOffset + 1] = (x[1] * y[yOffset + 0] - x[0] * y[yOffset + 1]) / sq;
-			yOffset += 2;
-			zOffset += 2;
-		}
-	}
 }
@@ -0,0 +1,88 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vector.specific;
+
+import org.openjdk.jmh.annotations.*;
+import vectorapi.VO;
+import vectorapi.VOVec;
+
+import java.util.Random;
+
+/** @noinspection CStyleArrayDeclaration */
+@Fork(2)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Threads(1)
+@State(Scope.Thread)
+public class CVargFast {
+	private final static int SEED = 42; // Carefully selected, plucked by hands random number
+
+	private float x[];
+	private float z[];
+	private float zp[];
+	/** @noinspection unused */
+	@Param({"128", "1024", "65536"})
+	private int count;
+
+	@Setup(Level.Trial)
+	public void Setup() {
+		Random r = new Random(SEED);
+
+		x = new float[count * 2];
+		z = new float[count];
+		zp = new float[count * 2];
+
+		for (int i = 0; i < x.length; i++) {
+			x[i] = r.nextFloat() * 2.0f - 1.0f;
+		}
+	}
+
+	@Benchmark
+	public void arg_nv_exact() { VO.cv_arg(z, 0, x, 0, count); }
+
+	@Benchmark
+	public void arg_nv_fast() { VO.cv_arg_f(z, 0, x, 0, count); }
+
+	@Benchmark
+	public void arg_vec_exact() { VOVec.cv_arg(z, 0, x, 0, count); }
+
+	@Benchmark
+	public void arg_vec_fast() { VOVec.cv_arg_f(z, 0, x, 0, count); }
+
+	@Benchmark
+	public void r2p_nv_exact() { VO.cv_r2p(zp, 0, x, 0, count); }
+
+	@Benchmark
+	public void r2p_nv_fast() { VO.cv_r2p_f(zp, 0, x, 0, count); }
+
+	@Benchmark
+	public void r2p_vec_exact() { VOVec.cv_r2p(zp, 0, x, 0, count); }
+
+	@Benchmark
+	public void r2p_vec_fast() { VOVec.cv_r2p_f(zp, 0, x, 0, count); }
+}
@@ -29,6 +29,7 @@ package vector.specific;
 
 import jdk.incubator.vector.*;
 import org.openjdk.jmh.annotations.*;
+import vectorapi.VOVecVariants;
 
 import java.util.Arrays;
 import java.util.Random;
@@ -50,8 +51,6 @@ public class CVexp {
 	private final static VectorMask<Float> MASK_C_IM;
 	private final static VectorMask<Float> MASK_SECOND_HALF;
 
-	private final static VectorShuffle<Float> SHUFFLE_CV_SPREAD_IM;
-	private final static VectorShuffle<Float> SHUFFLE_CV_SPREAD_RE;
 	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_PACK_RE_FIRST;
 	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_PACK_IM_FIRST;
 	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_PACK_RE_SECOND;
@@ -72,10 +71,6 @@ public class CVexp {
 		Arrays.fill(sh, EPV / 2, sh.length, true);
 		MASK_SECOND_HALF = VectorMask.fromArray(PFS, sh, 0);
 
-		// [(re0, im0), (re1, im1), ...] -> [(re0, re0), (re1, re1), ...]
-		SHUFFLE_CV_SPREAD_RE = VectorShuffle.shuffle(PFS, i -> i - i % 2);
-		// [(re0, im0), (re1, im1), ...] -> [(im0, im0), (im1, im1), ...]
-		SHUFFLE_CV_SPREAD_IM = VectorShuffle.shuffle(PFS, i -> i - i % 2 + 1);
 		// [(re0, im0), (re1, im1), ...] -> [re0, re1, ..., re_len, ?, ...]
 		SHUFFLE_CV_TO_CV_PACK_RE_FIRST = VectorShuffle.shuffle(PFS, i -> (i < EPV2) ? i * 2 : 0);
 		// [(re0, im0), (re1, im1), ...] -> [im0, im1, ..., im_len, ?, ...]
@@ -116,13 +111,13 @@ public class CVexp {
 	public void nv() { cv_exp_0(z, 0, x, 0, count); }
 
 	@Benchmark
-	public void epv2() { cv_exp_1(z, 0, x, 0, count); }
+	public void epv2() { VOVecVariants.cv_exp_epv2(z, 0, x, 0, count); }
 
 	@Benchmark
 	public void epv() { cv_exp_2(z, 0, x, 0, count); }
 
 	@Benchmark
-	public void epv_epv2() { cv_exp_3(z, 0, x, 0, count); }
+	public void epv_epv2() { VOVecVariants.cv_exp_epv_epv2(z, 0, x, 0, count); }
 
 	private static void cv_exp_0(float z[], int zOffset, float x[], int xOffset, int count) {
 		zOffset <<= 1;
@@ -136,40 +131,6 @@ public class CVexp {
 		}
 	}
 
-	private static void cv_exp_1(float z[], int zOffset, float x[], int xOffset, int count) {
-		xOffset <<= 1;
-		zOffset <<= 1;
-
-		while (count >= EPV2) {
-			//@DONE: one load & two reshuffles are faster
-			//@TODO: check, do we need pack and process twice elements, and save result twice
-			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
-			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
-			// vxreexp is [(exp(x[0].re), exp(x[0].re)), (exp(x[1].re), exp(x[1].re)), ...]
-			final FloatVector vxreexp = vx.rearrange(SHUFFLE_CV_SPREAD_RE).exp();
-			// vxim is [(x[0].im, x[0].im), (x[1].im, x[1].im), ...]
-			final FloatVector vxim = vx.rearrange(SHUFFLE_CV_SPREAD_IM);
-
-			//@DONE: .cos(MASK_C_IM)/.sin(MASK_C_RE) is much slower
-			final FloatVector vrre = vxreexp.mul(vxim.cos());
-			final FloatVector vrim = vxreexp.mul(vxim.sin());
-
-			vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset);
-
-			xOffset += EPV;
-			zOffset += EPV;
-			count -= EPV2;
-		}
-
-		while (count-- > 0) {
-			float g = (float)Math.exp(x[xOffset + 0]);
-			z[zOffset + 0] = g * (float)Math.cos(x[xOffset + 1]);
-			z[zOffset + 1] = g * (float)Math.sin(x[xOffset + 1]);
-			xOffset += 2;
-			zOffset += 2;
-		}
-	}
-
 	private static void cv_exp_2(float z[], int zOffset, float x[], int xOffset, int count) {
 		xOffset <<= 1;
 		zOffset <<= 1;
@@ -216,70 +177,4 @@ public class CVexp {
 			zOffset += 2;
 		}
 	}
-
-	private static void cv_exp_3(float z[], int zOffset, float x[], int xOffset, int count) {
-		xOffset <<= 1;
-		zOffset <<= 1;
-
-		// To process
-		while (count >= EPV) {
-			//@DONE: one load & two reshuffles are faster
-			//@DONE: it is better than process one vector
-			final FloatVector vx1 = FloatVector.fromArray(PFS, x, xOffset);
-			final FloatVector vx2 = FloatVector.fromArray(PFS, x, xOffset + EPV);
-
-			// Ger vx1re/vx1im till vx2 is loading
-			final FloatVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
-			final FloatVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
-
-			// Ger vx2re/vx2im
-			final FloatVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
-			final FloatVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
-
-			// Combine them
-			final FloatVector vxreexp = vx1re.blend(vx2re, MASK_SECOND_HALF).exp();
-			final FloatVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
-
-			final FloatVector vrre = vxreexp.mul(vxim.cos());
-			final FloatVector vrim = vxreexp.mul(vxim.sin());
-
-			// And combine & store twice
-			vrre.rearrange(SHUFFLE_CV_TO_CV_UNPACK_RE_FIRST).blend(vrim.rearrange(SHUFFLE_CV_TO_CV_UNPACK_IM_FIRST), MASK_C_IM).intoArray(z, zOffset);
-			vrre.rearrange(SHUFFLE_CV_TO_CV_UNPACK_RE_SECOND).blend(vrim.rearrange(SHUFFLE_CV_TO_CV_UNPACK_IM_SECOND), MASK_C_IM).intoArray(z, zOffset + EPV);
-
-			// We loaded and stored twice as many numbers
-			xOffset += EPV * 2;
-			zOffset += EPV * 2;
-			count -= EPV;
-		}
-
-		if (count >= EPV2) {
-			//@DONE: one load & two reshuffles are faster
-			//@TODO: check, do we need pack and process twice elements, and save result twice
-			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
-			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
-			// vxreexp is [(exp(x[0].re), exp(x[0].re)), (exp(x[1].re), exp(x[1].re)), ...]
-			final FloatVector vxreexp = vx.rearrange(SHUFFLE_CV_SPREAD_RE).exp();
-			// vxim is [(x[0].im, x[0].im), (x[1].im, x[1].im), ...]
-			final FloatVector vxim = vx.rearrange(SHUFFLE_CV_SPREAD_IM);
-
-			//@DONE: .cos(MASK_C_IM)/.sin(MASK_C_RE) is much slower
-			final FloatVector vrre = vxreexp.mul(vxim.cos());
-			final FloatVector vrim = vxreexp.mul(vxim.sin());
-
-			vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset);
-
-			xOffset += EPV;
-			zOffset += EPV;
-			count -= EPV2;
-		}
-
-		while (count-- > 0) {
-			float g = (float)Math.exp(x[xOffset + 0]);
-			z[zOffset + 0] = g * (float)Math.cos(x[xOffset + 1]);
-			z[zOffset + 1] = g * (float)Math.sin(x[xOffset + 1]);
-			xOffset += 2;
-			zOffset += 2;
-		}
-	}
 }
@@ -29,6 +29,7 @@ package vector.specific;
 
 import jdk.incubator.vector.*;
 import org.openjdk.jmh.annotations.*;
+import vectorapi.VOVecVariants;
 
 import java.util.Arrays;
 import java.util.Random;
@@ -91,7 +92,7 @@ public class CVmax {
 	public void nv() { cv_max_0(z, x, 0, count); }
 
 	@Benchmark
-	public void in_loop_lane() { cv_max_1(z, x, 0, count); }
+	public void in_loop_lane() { VOVecVariants.cv_max_in_loop_lane(z, 0, x, 0, count); }
 
 	@Benchmark
 	public void out_of_loop_lane() { cv_max_2(z, x, 0, count); }
@@ -100,7 +101,13 @@ public class CVmax {
 	public void in_loop_into_array() { cv_max_3(z, x, 0, count); }
 
 	@Benchmark
-	public void out_of_loop_into_array() { cv_max_4(z, x, 0, count); }
+	public void out_of_loop_into_array() { VOVecVariants.cv_max_out_of_loop(z, 0, x, 0, count); }
+
+	@Benchmark
+	public void in_loop_lane_fma() { cv_max_5(z, x, 0, count); }
+
+	@Benchmark
+	public void out_of_loop_into_array_fma() { cv_max_6(z, x, 0, count); }
 
 	private static void cv_max_0(float z[], float x[], int xOffset, int count) {
 		float max = Float.NEGATIVE_INFINITY;
@@ -118,8 +125,9 @@ public class CVmax {
 		z[1] = x[i + 1];
 	}
 
-	private static void cv_max_1(float z[], float x[], int xOffset, int count) {
+	private static void cv_max_2(float z[], float x[], int xOffset, int count) {
 		float max = Float.NEGATIVE_INFINITY;
+		FloatVector vmax = null;
 		int i = -1;
 		xOffset <<= 1;
 
@@ -140,13 +148,8 @@ public class CVmax {
 			final FloatVector vxabs = vxre.mul(vxre).add(vxim.mul(vxim));
 			float localMax = vxabs.maxLanes();
 			if (max < localMax) {
-				// Find it now
-				for (int j = 0; j < EPV; j++) {
-					if (vxabs.lane(j) == localMax) {
-						i = xOffset + j * 2;
-						break;
-					}
-				}
+				vmax = vxabs;
+				i = xOffset;
 				max = localMax;
 			}
 
@@ -154,6 +157,16 @@ public class CVmax {
 			count -= EPV;
 		}
 
+		// Find max in stored vector
+		if (i >= 0) {
+			for (int j = 0; j < EPV; j++) {
+				if (vmax.lane(j) == max) {
+					i += j * 2;
+					break;
+				}
+			}
+		}
+
 		while (count-- > 0) {
 			float abs = x[xOffset + 0] * x[xOffset + 0] + x[xOffset + 1] * x[xOffset + 1];
 			if (max < abs) {
@@ -166,12 +179,13 @@ public class CVmax {
 		z[1] = x[i + 1];
 	}
 
-	private static void cv_max_2(float z[], float x[], int xOffset, int count) {
+	private static void cv_max_3(float z[], float x[], int xOffset, int count) {
 		float max = Float.NEGATIVE_INFINITY;
-		FloatVector vmax = null;
 		int i = -1;
 		xOffset <<= 1;
 
+		float aabs[] = new float[EPV];
+
 		while (count >= EPV) {
 			//@DONE: It is faster than FloatVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
 			final FloatVector vx1 = FloatVector.fromArray(PFS, x, xOffset);
@@ -187,27 +201,18 @@ public class CVmax {
 			final FloatVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
 
 			final FloatVector vxabs = vxre.mul(vxre).add(vxim.mul(vxim));
-			float localMax = vxabs.maxLanes();
-			if (max < localMax) {
-				vmax = vxabs;
-				i = xOffset;
-				max = localMax;
+			vxabs.intoArray(aabs, 0);
+			for (int j = 0; j < EPV; j++) {
+				if (max < aabs[j]) {
+					max = aabs[j];
+					i = xOffset + j;
+				}
 			}
 
 			xOffset += EPV * 2;
 			count -= EPV;
 		}
 
-		// Find max in stored vector
-		if (i >= 0) {
-			for (int j = 0; j < EPV; j++) {
-				if (vmax.lane(j) == max) {
-					i += j * 2;
-					break;
-				}
-			}
-		}
-
 		while (count-- > 0) {
 			float abs = x[xOffset + 0] * x[xOffset + 0] + x[xOffset + 1] * x[xOffset + 1];
 			if (max < abs) {
@@ -220,13 +225,11 @@ public class CVmax {
 		z[1] = x[i + 1];
 	}
 
-	private static void cv_max_3(float z[], float x[], int xOffset, int count) {
+	private static void cv_max_5(float z[], float x[], int xOffset, int count) {
 		float max = Float.NEGATIVE_INFINITY;
 		int i = -1;
 		xOffset <<= 1;
 
-		float aabs[] = new float[EPV];
-
 		while (count >= EPV) {
 			//@DONE: It is faster than FloatVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
 			final FloatVector vx1 = FloatVector.fromArray(PFS, x, xOffset);
@@ -241,13 +244,17 @@ public class CVmax {
 			final FloatVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
 			final FloatVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
 
-			final FloatVector vxabs = vxre.mul(vxre).add(vxim.mul(vxim));
-			vxabs.intoArray(aabs, 0);
-			for (int j = 0; j < EPV; j++) {
-				if (max < aabs[j]) {
-					max = aabs[j];
-					i = xOffset + j;
+			final FloatVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+			float localMax = vxabs.maxLanes();
+			if (max < localMax) {
+				// Find it now
+				for (int j = 0; j < EPV; j++) {
+					if (vxabs.lane(j) == localMax) {
+						i = xOffset + j * 2;
+						break;
+					}
 				}
+				max = localMax;
 			}
 
 			xOffset += EPV * 2;
@@ -266,7 +273,7 @@ public class CVmax {
 		z[1] = x[i + 1];
 	}
 
-	private static void cv_max_4(float z[], float x[], int xOffset, int count) {
+	private static void cv_max_6(float z[], float x[], int xOffset, int count) {
 		float max = Float.NEGATIVE_INFINITY;
 		FloatVector vmax = null;
 		int i = -1;
@@ -286,7 +293,7 @@ public class CVmax {
 			final FloatVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
 			final FloatVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
 
-			final FloatVector vxabs = vxre.mul(vxre).add(vxim.mul(vxim));
+			final FloatVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
 			float localMax = vxabs.maxLanes();
 			if (max < localMax) {
 				vmax = vxabs;
@@ -0,0 +1,273 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vector.specific;
+
+import jdk.incubator.vector.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import vectorapi.VO;
+import vectorapi.VOVec;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/** @noinspection PointlessArithmeticExpression, CStyleArrayDeclaration, SameParameterValue */
+@Fork(2)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Threads(1)
+@State(Scope.Thread)
+public class CVmaxarg {
+	private final static int SEED = 42; // Carefully selected, plucked by hands random number
+
+	private final static VectorSpecies<Float> PFS = FloatVector.SPECIES_PREFERRED;
+	private final static VectorSpecies<Integer> PIS = VectorSpecies.of(Integer.TYPE, PFS.shape());
+	private final static int EPV = PFS.length();
+	private final static VectorSpecies<Float> PFS2 = VectorSpecies.of(Float.TYPE, VectorShape.forBitSize(PFS.bitSize() / 2));
+	private final static int EPV2 = PFS2.length();
+
+	private final static VectorMask<Float> MASK_SECOND_HALF;
+
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_PACK_RE_FIRST;
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_PACK_IM_FIRST;
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_PACK_RE_SECOND;
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_PACK_IM_SECOND;
+
+	private final static VectorShuffle<Float> SHUFFLE_CV_SWAP_RE_IM;
+
+	private final static int IOTA[];
+	private final static int IOTA_HALF[];
+
+	static {
+		boolean[] sh = new boolean[EPV];
+		Arrays.fill(sh, EPV / 2, sh.length, true);
+		MASK_SECOND_HALF = VectorMask.fromArray(PFS, sh, 0);
+
+		// [(re0, im0), (re1, im1), ...] -> [(im0, re0), (im1, re1), ...]
+		SHUFFLE_CV_SWAP_RE_IM = VectorShuffle.shuffle(PFS, i -> (i % 2 == 0) ? i + 1 : i - 1);
+
+		IOTA = new int[EPV];
+		IOTA_HALF = new int[EPV];
+		for (int i = 0; i < IOTA.length; i++) {
+			IOTA[i] = i;
+			IOTA_HALF[i] = i / 2;
+		}
+
+		// [(re0, im0), (re1, im1), ...] -> [re0, re1, ..., re_len, ?, ...]
+		SHUFFLE_CV_TO_CV_PACK_RE_FIRST = VectorShuffle.shuffle(PFS, i -> (i < EPV2) ? i * 2 : 0);
+		// [(re0, im0), (re1, im1), ...] -> [im0, im1, ..., im_len, ?, ...]
+		SHUFFLE_CV_TO_CV_PACK_IM_FIRST = VectorShuffle.shuffle(PFS, i -> (i < EPV2) ? i * 2 + 1 : 0);
+		// [(re0, im0), (re1, im1), ...] -> [?, ..., re0, re1, ..., re_len]
+		SHUFFLE_CV_TO_CV_PACK_RE_SECOND = VectorShuffle.shuffle(PFS, i -> (i >= EPV2) ? i * 2 - EPV : 0);
+		// [(re0, im0), (re1, im1), ...] -> [?, ..., im0, im1, ..., im_len]
+		SHUFFLE_CV_TO_CV_PACK_IM_SECOND = VectorShuffle.shuffle(PFS, i -> (i >= EPV2) ? i * 2 - EPV + 1 : 0);
+	}
+
+	private float x[];
+	/** @noinspection unused */
+	@Param({"1024", "65536"})
+	private int count;
+
+	@Setup(Level.Trial)
+	public void Setup() {
+		Random r = new Random(SEED);
+
+		x = new float[count * 2];
+
+		for (int i = 0; i < x.length; i++) {
+			x[i] = r.nextFloat() * 2.0f - 1.0f;
+		}
+	}
+
+	@Benchmark
+	public void nv(Blackhole bh) { bh.consume(VO.cv_maxarg(x, 0, count)); }
+
+	@Benchmark
+	public void into_array(Blackhole bh) { bh.consume(cv_maxarg_1(x, 0, count)); }
+
+	@Benchmark
+	public void index_vector(Blackhole bh) { bh.consume(VOVec.cv_maxarg(x, 0, count)); }
+
+	@Benchmark
+	public void index_vector_interleaved(Blackhole bh) { bh.consume(cv_maxarg_3(x, 0, count)); }
+
+	@Benchmark
+	public void index_vector_interleaved_x2(Blackhole bh) { bh.consume(cv_maxarg_4(x, 0, count)); }
+
+	private static int cv_maxarg_1(float x[], int xOffset, int count) {
+		float max = Float.NEGATIVE_INFINITY;
+		int i = -1;
+		final float aabs[] = new float[EPV];
+		xOffset <<= 1;
+
+		while (count >= EPV) {
+			//@DONE: It is faster than FloatVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
+			final FloatVector vx1 = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vx2 = FloatVector.fromArray(PFS, x, xOffset + PFS.length());
+
+			final FloatVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final FloatVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final FloatVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final FloatVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final FloatVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+			final FloatVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+			final FloatVector vxabs = vxre.mul(vxre).add(vxim.mul(vxim));
+
+			vxabs.intoArray(aabs, 0);
+			for (int j = 0; j < EPV; j++) {
+				if (max < aabs[j]) {
+					max = aabs[j];
+					i = xOffset + (j << 1);
+				}
+			}
+
+			xOffset += EPV * 2;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			float abs = x[xOffset + 0] * x[xOffset + 0] + x[xOffset + 1] * x[xOffset + 1];
+			if (max < abs) {
+				max = abs;
+				i = xOffset;
+			}
+			xOffset += 2;
+		}
+		return i >> 1;
+	}
+
+	private static int cv_maxarg_3(float x[], int xOffset, int count) {
+		float max = Float.NEGATIVE_INFINITY;
+		int i = -1;
+		xOffset <<= 1;
+
+		if (count >= EPV2) {
+			final IntVector vstep = IntVector.broadcast(PIS, EPV2);
+			FloatVector vmax = FloatVector.broadcast(PFS, Float.NEGATIVE_INFINITY);
+			IntVector vi = IntVector.broadcast(PIS, -1);
+			IntVector vj = IntVector.fromArray(PIS, IOTA_HALF, 0).add(xOffset >> 1);
+
+			while (count >= EPV2) {
+				final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+				final FloatVector vx2 = vx.mul(vx);
+				// [(re0^2 + im0^2, im0^2 + re0^2), ...], both are same
+				final FloatVector vxabs = vx2.add(vx2.rearrange(SHUFFLE_CV_SWAP_RE_IM));
+
+				final VectorMask<Float> m = vmax.lessThan(vxabs);
+				vmax = vmax.blend(vxabs, m);
+				vi = vi.blend(vj, m.cast(PIS));
+
+				vj = vj.add(vstep);
+				xOffset += EPV;
+				count -= EPV2;
+			}
+
+			max = vmax.maxLanes();
+			i = firstLane(vmax, vi, max) << 1;
+		}
+
+		while (count-- > 0) {
+			float abs = x[xOffset + 0] * x[xOffset + 0] + x[xOffset + 1] * x[xOffset + 1];
+			if (max < abs) {
+				max = abs;
+				i = xOffset;
+			}
+			xOffset += 2;
+		}
+		return i >> 1;
+	}
+
+	private static int cv_maxarg_4(float x[], int xOffset, int count) {
+		float max = Float.NEGATIVE_INFINITY;
+		int i = -1;
+		xOffset <<= 1;
+
+		if (count >= EPV2) {
+			final IntVector vstep = IntVector.broadcast(PIS, EPV);
+			FloatVector vmax1 = FloatVector.broadcast(PFS, Float.NEGATIVE_INFINITY);
+			FloatVector vmax2 = FloatVector.broadcast(PFS, Float.NEGATIVE_INFINITY);
+			IntVector vi1 = IntVector.broadcast(PIS, -1);
+			IntVector vi2 = IntVector.broadcast(PIS, -1);
+			IntVector vj1 = IntVector.fromArray(PIS, IOTA_HALF, 0).add(xOffset >> 1);
+			IntVector vj2 = vj1.add(EPV2);
+
+			while (count >= EPV) {
+				final FloatVector vx1 = FloatVector.fromArray(PFS, x, xOffset);
+				final FloatVector vx2 = FloatVector.fromArray(PFS, x, xOffset + EPV);
+				final FloatVector vx1sq = vx1.mul(vx1);
+				final FloatVector vx2sq = vx2.mul(vx2);
+				final FloatVector vx1abs = vx1sq.add(vx1sq.rearrange(SHUFFLE_CV_SWAP_RE_IM));
+				final FloatVector vx2abs = vx2sq.add(vx2sq.rearrange(SHUFFLE_CV_SWAP_RE_IM));
+
+				final VectorMask<Float> m1 = vmax1.lessThan(vx1abs);
+				final VectorMask<Float> m2 = vmax2.lessThan(vx2abs);
+				vmax1 = vmax1.blend(vx1abs, m1);
+				vmax2 = vmax2.blend(vx2abs, m2);
+				vi1 = vi1.blend(vj1, m1.cast(PIS));
+				vi2 = vi2.blend(vj2, m2.cast(PIS));
+
+				vj1 = vj1.add(vstep);
+				vj2 = vj2.add(vstep);
+				xOffset += EPV * 2;
+				count -= EPV;
+			}
+
+			if (count >= EPV2) {
+				final FloatVector vx1 = FloatVector.fromArray(PFS, x, xOffset);
+				final FloatVector vx1sq = vx1.mul(vx1);
+				final FloatVector vx1abs = vx1sq.add(vx1sq.rearrange(SHUFFLE_CV_SWAP_RE_IM));
+				final VectorMask<Float> m1 = vmax1.lessThan(vx1abs);
+				vmax1 = vmax1.blend(vx1abs, m1);
+				vi1 = vi1.blend(vj1, m1.cast(PIS));
+
+				xOffset += EPV;
+				count -= EPV2;
+			}
+
+			max = Math.max(vmax1.maxLanes(), vmax2.maxLanes());
+			i = Math.min(firstLane(vmax1, vi1, max), firstLane(vmax2, vi2, max)) << 1;
+		}
+
+		while (count-- > 0) {
+			float abs = x[xOffset + 0] * x[xOffset + 0] + x[xOffset + 1] * x[xOffset + 1];
+			if (max < abs) {
+				max = abs;
+				i = xOffset;
+			}
+			xOffset += 2;
+		}
+		return i >> 1;
+	}
+
+	private static int firstLane(FloatVector v, IntVector vi, float value) {
+		return IntVector.broadcast(PIS, Integer.MAX_VALUE).blend(vi, v.equal(FloatVector.broadcast(PFS, value)).cast(PIS)).minLanes();
+	}
+}
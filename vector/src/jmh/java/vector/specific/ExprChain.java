@@ -0,0 +1,114 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vector.specific;
+
+import org.openjdk.jmh.annotations.*;
+import vectorapi.VO;
+import vectorapi.VOVec;
+import vectorapi.expr.VExpr;
+
+import java.util.Random;
+
+/**
+ * Chain {@code 10 * log10(|(x * y) * conj(w)|)} calculated step-by-step with full-size
+ * intermediate arrays and fused by {@link VExpr}.
+ *
+ * @noinspection CStyleArrayDeclaration
+ */
+@Fork(2)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Threads(1)
+@State(Scope.Thread)
+public class ExprChain {
+	private final static int SEED = 42; // Carefully selected, plucked by hands random number
+
+	private float x[];
+	private float y[];
+	private float w[];
+	private float t1[];
+	private float t2[];
+	private float t3[];
+	private float z[];
+	private VExpr expr;
+	/** @noinspection unused */
+	@Param({"65536"})
+	private int count;
+
+	@Setup(Level.Trial)
+	public void Setup() {
+		Random r = new Random(SEED);
+
+		x = new float[count * 2];
+		y = new float[count * 2];
+		w = new float[count * 2];
+		t1 = new float[count * 2];
+		t2 = new float[count * 2];
+		t3 = new float[count];
+		z = new float[count];
+
+		for (int i = 0; i < x.length; i++) {
+			x[i] = r.nextFloat() * 2.0f - 1.0f;
+			y[i] = r.nextFloat() * 2.0f - 1.0f;
+			w[i] = r.nextFloat() * 2.0f - 1.0f;
+		}
+
+		expr = VExpr.cv(x, 0).mul(VExpr.cv(y, 0)).conjmul(VExpr.cv(w, 0)).abs().tenLog10();
+	}
+
+	@Benchmark
+	public void nv_unfused() {
+		VO.cv_mul_cv(t1, 0, x, 0, y, 0, count);
+		VO.cv_conjmul_cv(t2, 0, t1, 0, w, 0, count);
+		VO.cv_abs(t3, 0, t2, 0, count);
+		VO.rv_10log10(z, 0, t3, 0, count);
+	}
+
+	@Benchmark
+	public void vec_unfused() {
+		VOVec.cv_mul_cv(t1, 0, x, 0, y, 0, count);
+		VOVec.cv_conjmul_cv(t2, 0, t1, 0, w, 0, count);
+		VOVec.cv_abs(t3, 0, t2, 0, count);
+		VOVec.rv_10log10(z, 0, t3, 0, count);
+	}
+
+	@Benchmark
+	public void vec_unfused_inplace() {
+		VOVec.cv_mul_cv(t1, 0, x, 0, y, 0, count);
+		VOVec.cv_conjmul_cv_i(t1, 0, w, 0, count);
+		VOVec.cv_10log10(z, 0, t1, 0, count);
+	}
+
+	@Benchmark
+	public void vec_fused() { expr.into(z, 0, count); }
+
+	@Benchmark
+	public void vec_fused_build() {
+		VExpr.cv(x, 0).mul(VExpr.cv(y, 0)).conjmul(VExpr.cv(w, 0)).abs().tenLog10().into(z, 0, count);
+	}
+}
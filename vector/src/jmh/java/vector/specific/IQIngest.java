@@ -0,0 +1,157 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vector.specific;
+
+import org.openjdk.jmh.annotations.*;
+import vectorapi.VOFixed;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion of interleaved fixed-point IQ samples from SDR front-ends to complex float vectors and
+ * back, plain loops against {@link VOFixed}. Results are in complex samples per second.
+ *
+ * @noinspection CStyleArrayDeclaration
+ */
+@Fork(2)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Threads(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(IQIngest.COUNT)
+public class IQIngest {
+	private final static int SEED = 42; // Carefully selected, plucked by hands random number
+	final static int COUNT = 16384;
+	private final static float SCALE16 = 1.0f / 32768.0f;
+	private final static float SCALE8 = 1.0f / 128.0f;
+	private final static float DC[] = { 0.75f, -0.25f };
+
+	private short i16[];
+	private byte i8[];
+	private float cv[];
+	private float z[];
+	private ByteBuffer b16;
+	private ByteBuffer b8;
+
+	@Setup(Level.Trial)
+	public void Setup() {
+		Random r = new Random(SEED);
+
+		i16 = new short[COUNT * 2];
+		i8 = new byte[COUNT * 2];
+		cv = new float[COUNT * 2];
+		z = new float[COUNT * 2];
+		for (int i = 0; i < COUNT * 2; i++) {
+			i16[i] = (short)r.nextInt(65536);
+			i8[i] = (byte)r.nextInt(256);
+			cv[i] = r.nextFloat() * 2.0f - 1.0f;
+		}
+
+		b16 = ByteBuffer.allocateDirect(i16.length * Short.BYTES).order(ByteOrder.nativeOrder());
+		b16.asShortBuffer().put(i16);
+		b8 = ByteBuffer.allocateDirect(i8.length);
+		b8.put(i8).clear();
+	}
+
+	@Benchmark
+	public float[] i16_to_cv_scalar() {
+		for (int i = 0; i < COUNT * 2; i += 2) {
+			z[i + 0] = (i16[i + 0] - DC[0]) * SCALE16;
+			z[i + 1] = (i16[i + 1] - DC[1]) * SCALE16;
+		}
+		return z;
+	}
+
+	@Benchmark
+	public float[] i16_to_cv_vector() {
+		VOFixed.i16_to_cv(z, 0, i16, 0, SCALE16, DC, COUNT);
+		return z;
+	}
+
+	@Benchmark
+	public float[] i16_to_cv_buffer_scalar() {
+		for (int i = 0; i < COUNT * 2; i += 2) {
+			z[i + 0] = (b16.getShort(i * Short.BYTES) - DC[0]) * SCALE16;
+			z[i + 1] = (b16.getShort((i + 1) * Short.BYTES) - DC[1]) * SCALE16;
+		}
+		return z;
+	}
+
+	@Benchmark
+	public float[] i16_to_cv_buffer_vector() {
+		VOFixed.i16_to_cv(z, 0, b16, 0, SCALE16, DC, COUNT);
+		return z;
+	}
+
+	@Benchmark
+	public float[] i8_to_cv_scalar() {
+		for (int i = 0; i < COUNT * 2; i += 2) {
+			z[i + 0] = (i8[i + 0] - DC[0]) * SCALE8;
+			z[i + 1] = (i8[i + 1] - DC[1]) * SCALE8;
+		}
+		return z;
+	}
+
+	@Benchmark
+	public float[] i8_to_cv_vector() {
+		VOFixed.i8_to_cv(z, 0, i8, 0, SCALE8, DC, COUNT);
+		return z;
+	}
+
+	@Benchmark
+	public float[] i8_to_cv_buffer_vector() {
+		VOFixed.i8_to_cv(z, 0, b8, 0, SCALE8, DC, COUNT);
+		return z;
+	}
+
+	@Benchmark
+	public short[] cv_to_i16_scalar() {
+		for (int i = 0; i < COUNT * 2; i++) {
+			float v = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, cv[i] * 32767.0f));
+			i16[i] = (short)(v < 0.0f ? v - 0.5f : v + 0.5f);
+		}
+		return i16;
+	}
+
+	@Benchmark
+	public short[] cv_to_i16_vector() {
+		VOFixed.cv_to_i16(i16, 0, cv, 0, 32767.0f, COUNT);
+		return i16;
+	}
+
+	@Benchmark
+	public ByteBuffer cv_to_i16_buffer_vector() {
+		VOFixed.cv_to_i16(b16, 0, cv, 0, 32767.0f, COUNT);
+		return b16;
+	}
+}
@@ -0,0 +1,168 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vector.specific;
+
+import org.openjdk.jmh.annotations.*;
+import vectorapi.VOBuffer;
+import vectorapi.VOVec;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.Random;
+
+/**
+ * Same operations on heap arrays by {@link VOVec} and on direct buffers by {@link VOBuffer}, and
+ * on direct buffers copied to heap arrays and back, which is only way to use {@link VOVec} with
+ * off-heap data.
+ *
+ * @noinspection CStyleArrayDeclaration
+ */
+@Fork(2)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Threads(1)
+@State(Scope.Thread)
+public class OffHeap {
+	private final static int SEED = 42; // Carefully selected, plucked by hands random number
+
+	private float x[];
+	private float y[];
+	private float z[];
+	private ByteBuffer bx;
+	private ByteBuffer by;
+	private ByteBuffer bz;
+	private FloatBuffer fx;
+	private FloatBuffer fy;
+	private FloatBuffer fz;
+	/** @noinspection unused */
+	@Param({"1024", "65536"})
+	private int count;
+
+	@Setup(Level.Trial)
+	public void Setup() {
+		Random r = new Random(SEED);
+
+		// Room for complex vectors
+		x = new float[count * 2];
+		y = new float[count * 2];
+		z = new float[count * 2];
+		for (int i = 0; i < x.length; i++) {
+			x[i] = r.nextFloat() * 2.0f - 1.0f;
+			y[i] = r.nextFloat() * 2.0f - 1.0f;
+		}
+
+		bx = ByteBuffer.allocateDirect(x.length * Float.BYTES).order(ByteOrder.nativeOrder());
+		by = ByteBuffer.allocateDirect(y.length * Float.BYTES).order(ByteOrder.nativeOrder());
+		bz = ByteBuffer.allocateDirect(z.length * Float.BYTES).order(ByteOrder.nativeOrder());
+		fx = bx.asFloatBuffer();
+		fy = by.asFloatBuffer();
+		fz = bz.asFloatBuffer();
+		fx.put(x).clear();
+		fy.put(y).clear();
+	}
+
+	@Benchmark
+	public float[] rv_mul_rv_array() {
+		VOVec.rv_mul_rv(z, 0, x, 0, y, 0, count);
+		return z;
+	}
+
+	@Benchmark
+	public ByteBuffer rv_mul_rv_buffer() {
+		VOBuffer.rv_mul_rv(bz, 0, bx, 0, by, 0, count);
+		return bz;
+	}
+
+	@Benchmark
+	public ByteBuffer rv_mul_rv_copy() {
+		fx.get(x, 0, count).clear();
+		fy.get(y, 0, count).clear();
+		VOVec.rv_mul_rv(z, 0, x, 0, y, 0, count);
+		fz.put(z, 0, count).clear();
+		return bz;
+	}
+
+	@Benchmark
+	public float rv_dot_rv_array() {
+		return VOVec.rv_dot_rv(x, 0, y, 0, count);
+	}
+
+	@Benchmark
+	public float rv_dot_rv_buffer() {
+		return VOBuffer.rv_dot_rv(bx, 0, by, 0, count);
+	}
+
+	@Benchmark
+	public float rv_dot_rv_copy() {
+		fx.get(x, 0, count).clear();
+		fy.get(y, 0, count).clear();
+		return VOVec.rv_dot_rv(x, 0, y, 0, count);
+	}
+
+	@Benchmark
+	public float[] cv_mul_cv_array() {
+		VOVec.cv_mul_cv(z, 0, x, 0, y, 0, count);
+		return z;
+	}
+
+	@Benchmark
+	public ByteBuffer cv_mul_cv_buffer() {
+		VOBuffer.cv_mul_cv(bz, 0, bx, 0, by, 0, count);
+		return bz;
+	}
+
+	@Benchmark
+	public ByteBuffer cv_mul_cv_copy() {
+		fx.get(x, 0, count * 2).clear();
+		fy.get(y, 0, count * 2).clear();
+		VOVec.cv_mul_cv(z, 0, x, 0, y, 0, count);
+		fz.put(z, 0, count * 2).clear();
+		return bz;
+	}
+
+	@Benchmark
+	public float[] cv_10log10_array() {
+		VOVec.cv_10log10(z, 0, x, 0, count);
+		return z;
+	}
+
+	@Benchmark
+	public ByteBuffer cv_10log10_buffer() {
+		VOBuffer.cv_10log10(bz, 0, bx, 0, count);
+		return bz;
+	}
+
+	@Benchmark
+	public ByteBuffer cv_10log10_copy() {
+		fx.get(x, 0, count * 2).clear();
+		VOVec.cv_10log10(z, 0, x, 0, count);
+		fz.put(z, 0, count).clear();
+		return bz;
+	}
+}
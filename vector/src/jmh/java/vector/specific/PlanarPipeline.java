@@ -0,0 +1,161 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vector.specific;
+
+import org.openjdk.jmh.annotations.*;
+import vectorapi.VOPlanar;
+import vectorapi.VOVec;
+
+import java.util.Random;
+
+/**
+ * Complex operations on interleaved ({@code cv}) layout by {@link VOVec} against planar ({@code pv})
+ * layout by {@link VOPlanar}: single multiplication, conversions between layouts, and chain
+ * {@code 10 * log10(|(x * y) * conj(w)|)} with data kept planar and with data converted to planar
+ * layout on input.
+ *
+ * @noinspection CStyleArrayDeclaration
+ */
+@Fork(2)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Threads(1)
+@State(Scope.Thread)
+public class PlanarPipeline {
+	private final static int SEED = 42; // Carefully selected, plucked by hands random number
+
+	private float x[];
+	private float y[];
+	private float w[];
+	private float xre[];
+	private float xim[];
+	private float yre[];
+	private float yim[];
+	private float wre[];
+	private float wim[];
+	private float t[];
+	private float tre[];
+	private float tim[];
+	private float ure[];
+	private float uim[];
+	private float z[];
+	/** @noinspection unused */
+	@Param({"1024", "16384"})
+	private int count;
+
+	@Setup(Level.Trial)
+	public void Setup() {
+		Random r = new Random(SEED);
+
+		x = new float[count * 2];
+		y = new float[count * 2];
+		w = new float[count * 2];
+		t = new float[count * 2];
+		z = new float[count];
+		for (int i = 0; i < x.length; i++) {
+			x[i] = r.nextFloat() * 2.0f - 1.0f;
+			y[i] = r.nextFloat() * 2.0f - 1.0f;
+			w[i] = r.nextFloat() * 2.0f - 1.0f;
+		}
+
+		xre = new float[count];
+		xim = new float[count];
+		yre = new float[count];
+		yim = new float[count];
+		wre = new float[count];
+		wim = new float[count];
+		tre = new float[count];
+		tim = new float[count];
+		ure = new float[count];
+		uim = new float[count];
+		VOPlanar.cv_deinterleave(xre, xim, 0, x, 0, count);
+		VOPlanar.cv_deinterleave(yre, yim, 0, y, 0, count);
+		VOPlanar.cv_deinterleave(wre, wim, 0, w, 0, count);
+	}
+
+	@Benchmark
+	public float[] cv_mul_cv() {
+		VOVec.cv_mul_cv(t, 0, x, 0, y, 0, count);
+		return t;
+	}
+
+	@Benchmark
+	public float[] pv_mul_pv() {
+		VOPlanar.pv_mul_pv(tre, tim, 0, xre, xim, 0, yre, yim, 0, count);
+		return tre;
+	}
+
+	@Benchmark
+	public float[] cv_deinterleave() {
+		VOPlanar.cv_deinterleave(tre, tim, 0, x, 0, count);
+		return tre;
+	}
+
+	@Benchmark
+	public float[] pv_interleave() {
+		VOPlanar.pv_interleave(t, 0, xre, xim, 0, count);
+		return t;
+	}
+
+	@Benchmark
+	public float[] mul_converted() {
+		VOPlanar.cv_deinterleave(tre, tim, 0, x, 0, count);
+		VOPlanar.cv_deinterleave(ure, uim, 0, y, 0, count);
+		VOPlanar.pv_mul_pv_i(tre, tim, 0, ure, uim, 0, count);
+		VOPlanar.pv_interleave(t, 0, tre, tim, 0, count);
+		return t;
+	}
+
+	@Benchmark
+	public float[] chain_cv() {
+		VOVec.cv_mul_cv(t, 0, x, 0, y, 0, count);
+		VOVec.cv_conjmul_cv_i(t, 0, w, 0, count);
+		VOVec.cv_10log10(z, 0, t, 0, count);
+		return z;
+	}
+
+	@Benchmark
+	public float[] chain_pv() {
+		VOPlanar.pv_mul_pv(tre, tim, 0, xre, xim, 0, yre, yim, 0, count);
+		VOPlanar.pv_conjmul_pv_i(tre, tim, 0, wre, wim, 0, count);
+		VOPlanar.pv_10log10(z, 0, tre, tim, 0, count);
+		return z;
+	}
+
+	@Benchmark
+	public float[] chain_pv_converted() {
+		// Third input is converted in place of second one, which is not needed after first step
+		VOPlanar.cv_deinterleave(tre, tim, 0, x, 0, count);
+		VOPlanar.cv_deinterleave(ure, uim, 0, y, 0, count);
+		VOPlanar.pv_mul_pv_i(tre, tim, 0, ure, uim, 0, count);
+		VOPlanar.cv_deinterleave(ure, uim, 0, w, 0, count);
+		VOPlanar.pv_conjmul_pv_i(tre, tim, 0, ure, uim, 0, count);
+		VOPlanar.pv_10log10(z, 0, tre, tim, 0, count);
+		return z;
+	}
+}
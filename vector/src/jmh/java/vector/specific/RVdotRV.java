@@ -31,6 +31,7 @@ import jdk.incubator.vector.FloatVector;
 import jdk.incubator.vector.VectorSpecies;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
+import vectorapi.VOVecVariants;
 
 import java.util.Random;
 
@@ -74,10 +75,10 @@ public class RVdotRV {
 	public void saccum_add_lanes(Blackhole bh) { bh.consume(rv_dot_rv_1(x, 0, y, 0, count)); }
 
 	@Benchmark
-	public void saccum_unroll_2_1_fma_add_lanes(Blackhole bh) { bh.consume(rv_dot_rv_2(x, 0, y, 0, count)); }
+	public void saccum_unroll_2_1_fma_add_lanes(Blackhole bh) { bh.consume(VOVecVariants.rv_dot_rv_saccum_unroll_2(x, 0, y, 0, count)); }
 
 	@Benchmark
-	public void saccum_unroll_4_2_fma_add_lanes(Blackhole bh) { bh.consume(rv_dot_rv_3(x, 0, y, 0, count)); }
+	public void saccum_unroll_4_2_fma_add_lanes(Blackhole bh) { bh.consume(VOVecVariants.rv_dot_rv_saccum_unroll_4(x, 0, y, 0, count)); }
 
 	@Benchmark
 	public void saccum_unroll_4_2_1_fma_add_lanes(Blackhole bh) { bh.consume(rv_dot_rv_4(x, 0, y, 0, count)); }
@@ -94,6 +95,9 @@ public class RVdotRV {
 	@Benchmark
 	public void vaccum_add_lanes(Blackhole bh) { bh.consume(rv_dot_rv_8(x, 0, y, 0, count)); }
 
+	@Benchmark
+	public void vaccum_fma_add_lanes(Blackhole bh) { bh.consume(VOVecVariants.rv_dot_rv_vaccum(x, 0, y, 0, count)); }
+
 	@Benchmark
 	public void vaccum_unroll_2_1_personal_add_lanes(Blackhole bh) { bh.consume(rv_dot_rv_9(x, 0, y, 0, count)); }
 
@@ -139,77 +143,6 @@ public class RVdotRV {
 		return sum;
 	}
 
-	private static float rv_dot_rv_2(float x[], int xOffset, float y[], int yOffset, int count) {
-		float sum = 0.0f;
-
-		while (count >= EPVx2) {
-			final FloatVector vx1 = FloatVector.fromArray(PFS, x, xOffset);
-			final FloatVector vy1 = FloatVector.fromArray(PFS, y, yOffset);
-			final FloatVector vx2 = FloatVector.fromArray(PFS, x, xOffset + EPV);
-			final FloatVector vy2 = FloatVector.fromArray(PFS, y, yOffset + EPV);
-
-			// sum += vx1.mul(vy1).add(vx2.mul(vy2)).addLanes();
-			sum += vx1.fma(vy1, vx2.mul(vy2)).addLanes();
-
-			xOffset += EPVx2;
-			yOffset += EPVx2;
-			count -= EPVx2;
-		}
-
-		if (count >= EPV) {
-			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
-			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
-			sum += vx.mul(vy).addLanes();
-
-			xOffset += EPV;
-			yOffset += EPV;
-			count -= EPV;
-		}
-
-		while (count-- > 0)
-			sum += x[xOffset++] * y[yOffset++];
-
-		return sum;
-	}
-
-	private static float rv_dot_rv_3(float x[], int xOffset, float y[], int yOffset, int count) {
-		float sum = 0.0f;
-
-		while (count >= EPVx4) {
-			final FloatVector vx1 = FloatVector.fromArray(PFS, x, xOffset);
-			final FloatVector vy1 = FloatVector.fromArray(PFS, y, yOffset);
-			final FloatVector vx2 = FloatVector.fromArray(PFS, x, xOffset + EPV);
-			final FloatVector vy2 = FloatVector.fromArray(PFS, y, yOffset + EPV);
-			final FloatVector vx3 = FloatVector.fromArray(PFS, x, xOffset + EPVx2);
-			final FloatVector vy3 = FloatVector.fromArray(PFS, y, yOffset + EPVx2);
-			final FloatVector vx4 = FloatVector.fromArray(PFS, x, xOffset + EPVx3);
-			final FloatVector vy4 = FloatVector.fromArray(PFS, y, yOffset + EPVx3);
-
-			// sum += vx1.mul(vy1).add(vx2.mul(vy2)).add(vx3.mul(vy3)).add(vx4.mul(vy4)).addLanes();
-			// Strange, but it is better than 3 fma and one mul
-			sum += vx1.fma(vy1, vx2.mul(vy2)).add(vx3.fma(vy3, vx4.mul(vy4))).addLanes();
-
-			xOffset += EPVx4;
-			yOffset += EPVx4;
-			count -= EPVx4;
-		}
-
-		while (count >= EPV) {
-			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
-			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
-			sum += vx.mul(vy).addLanes();
-
-			xOffset += EPV;
-			yOffset += EPV;
-			count -= EPV;
-		}
-
-		while (count-- > 0)
-			sum += x[xOffset++] * y[yOffset++];
-
-		return sum;
-	}
-
 	private static float rv_dot_rv_4(float x[], int xOffset, float y[], int yOffset, int count) {
 		float sum = 0.0f;
 
@@ -29,6 +29,7 @@ use warnings;
 use strict;
 
 use Cwd qw(abs_path);
+use File::Basename;
 use FindBin;
 use lib abs_path("$FindBin::Bin/../../main/perl");
 
@@ -42,7 +43,22 @@ my $SKIPPED_OPS = {
 	'minarg'  => 'maxarg'
 };
 
-die "Syntax: $0 <BaseImpl.java> <VectorImpl.java>\n" unless @ARGV == 2;
+# Element type of implementations, "-d" selects double precision ones
+my $T = 'float';
+if (@ARGV && $ARGV[0] eq '-d') {
+	$T = 'double';
+	shift @ARGV;
+}
+die "Syntax: $0 [-d] <BaseImpl.java> <VectorImpl.java>\n" unless @ARGV == 2;
+$OpAnalyzer::REAL = $T;
+
+my $BASE_CLASS = basename($ARGV[0], '.java');
+my $VEC_CLASS  = basename($ARGV[1], '.java');
+my $CLASS_PREFIX = ($T eq 'float') ? 'VectorBenchmarks' : 'VectorBenchmarksDouble';
+my $SPECIES = uc($T);
+my $BITS = ($T eq 'float') ? 32 : 64;
+my $OFFSETS = join(', ', map { "\"$_\"" } (0 .. 512 / $BITS - 1));
+my $RANDOM = ($T eq 'float') ? 'r.nextFloat() * 2.0f - 1.0f' : 'r.nextDouble() * 2.0 - 1.0';
 
 my $BASE = &OpAnalyzer::loadFile($ARGV[0], 1);
 my $VEC  = &OpAnalyzer::loadFile($ARGV[1], 0);
@@ -61,7 +77,7 @@ for my $name (sort keys %{$VEC}) {
 my $CODE_INDENT = "            ";
 
 for my $mode ('OutOfPlace', 'InPlaceR', 'InPlaceC') {
-	my $className = 'VectorBenchmarks'.$mode;
+	my $className = $CLASS_PREFIX.$mode;
 	my $FH;
 	open($FH, '>', $className.'.java') or die "Can not open output file \"$className.java\"\n";
 	&generateBenchmarks($FH, $className, $mode);
@@ -116,6 +132,10 @@ sub generateBenchmarks {
 		# Next skip count as generated
 		$GEN->{$name} = 1;
 
+		# Benchmark data never crosses array boundaries, so wrapping variants
+		# measure the same code as non-wrapping ones
+		next if $op->{'w'};
+
 		if (exists $SKIPPED_OPS->{$op->{'op'}}) {
 			print STDERR "Skip \"$name\" as it is not interesting, because \"".$SKIPPED_OPS->{$op->{'op'}}."\"\n";
 			next;
@@ -123,23 +143,23 @@ sub generateBenchmarks {
 
 		# Call generators
 		if      ($op->{'type'} eq 'u' &&  $op->{'ip'}) {
-			&generateBenchmark1i($FH, $op, 'VO');
-			&generateBenchmark1i($FH, $op, 'VOVec');
+			&generateBenchmark1i($FH, $op, $BASE_CLASS);
+			&generateBenchmark1i($FH, $op, $VEC_CLASS);
 		} elsif ($op->{'type'} eq 'u' && !$op->{'ip'}) {
-			&generateBenchmark1o($FH, $op, 'VO');
-			&generateBenchmark1o($FH, $op, 'VOVec');
+			&generateBenchmark1o($FH, $op, $BASE_CLASS);
+			&generateBenchmark1o($FH, $op, $VEC_CLASS);
 		} elsif ($op->{'type'} eq 'b' &&  $op->{'ip'}) {
-			&generateBenchmark2i($FH, $op, 'VO');
-			&generateBenchmark2i($FH, $op, 'VOVec');
+			&generateBenchmark2i($FH, $op, $BASE_CLASS);
+			&generateBenchmark2i($FH, $op, $VEC_CLASS);
 		} elsif ($op->{'type'} eq 'b' && !$op->{'ip'}) {
-			&generateBenchmark2o($FH, $op, 'VO');
-			&generateBenchmark2o($FH, $op, 'VOVec');
+			&generateBenchmark2o($FH, $op, $BASE_CLASS);
+			&generateBenchmark2o($FH, $op, $VEC_CLASS);
 		} elsif ($op->{'type'} eq 'q' &&  $op->{'ip'}) {
-			&generateBenchmark4i($FH, $op, 'VO');
-			&generateBenchmark4i($FH, $op, 'VOVec');
+			&generateBenchmark4i($FH, $op, $BASE_CLASS);
+			&generateBenchmark4i($FH, $op, $VEC_CLASS);
 		} elsif ($op->{'type'} eq 'q' && !$op->{'ip'}) {
-			&generateBenchmark4o($FH, $op, 'VO');
-			&generateBenchmark4o($FH, $op, 'VOVec');
+			&generateBenchmark4o($FH, $op, $BASE_CLASS);
+			&generateBenchmark4o($FH, $op, $VEC_CLASS);
 		} else {
 			print STDERR 'Unknown ', ($op->{'ip'} ? 'in-place' : 'out-of-place'), " operation '$name' type '", $op->{'type'}, "'\n";
 		}
@@ -186,8 +206,9 @@ sub generateHeader {
 
 package vector;
 
-import vectorapi.VO;
-import vectorapi.VOVec;
+import vectorapi.$BASE_CLASS;
+import vectorapi.$VEC_CLASS;
+import vectorapi.VSpecies;
 
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
@@ -207,60 +228,71 @@ public class $class {
     \@Param({"3", "4", "7", "8", "15", "128", "1024", "65536"})
     public int callSize;
 
-    private final static int MAX_OFFSET = 512 / 32 - 1; // Max vector size in `float`s;
-    \@Param({"0", "1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "13", "14", "15"})
+    private final static int MAX_OFFSET = 512 / $BITS - 1; // Max vector size in `${T}`s;
+    \@Param({$OFFSETS})
     public int startOffset;
 
-    private float rvx[];
-    private float rvy[];
-    private float rvz[];
-    private float rvd[];
+    // Size of VOVec vectors in bits, 0 is preferred size; run with "-p vectorBits=128,256,512" to compare
+    \@Param({"0"})
+    public int vectorBits;
 
-    private float cvx[];
-    private float cvy[];
-    private float cvz[];
-    private float cvd[];
+    private $T rvx[];
+    private $T rvy[];
+    private $T rvz[];
+    private $T rvd[];
 
-    private float rsx;
-    private float rsy;
-    private float rsz;
+    private $T cvx[];
+    private $T cvy[];
+    private $T cvz[];
+    private $T cvd[];
 
-    private float csx[];
-    private float csy[];
-    private float csz[];
+    private $T rsx;
+    private $T rsy;
+    private $T rsz;
+
+    private $T csx[];
+    private $T csy[];
+    private $T csz[];
 
 
     \@Setup(Level.Trial)
     public void Setup() {
+        // Each set of parameters is run in new JVM, so VOVec is not initialized yet
+        if (vectorBits != 0) {
+            System.setProperty(VSpecies.BITS_PROPERTY, Integer.toString(vectorBits));
+            if (VSpecies.$SPECIES.bitSize() != vectorBits)
+                throw new IllegalStateException("VOVec is initialized with " + VSpecies.$SPECIES.bitSize() + "-bit vectors already");
+        }
+
         Random r = new Random(SEED);
 
-        rvx = new float[DATA_SIZE + MAX_OFFSET];
-        rvy = new float[DATA_SIZE + MAX_OFFSET];
-        rvz = new float[DATA_SIZE + MAX_OFFSET];
-        rvd = new float[DATA_SIZE + MAX_OFFSET];
+        rvx = new ${T}[DATA_SIZE + MAX_OFFSET];
+        rvy = new ${T}[DATA_SIZE + MAX_OFFSET];
+        rvz = new ${T}[DATA_SIZE + MAX_OFFSET];
+        rvd = new ${T}[DATA_SIZE + MAX_OFFSET];
         for (int i = 0; i < rvx.length; i++) {
-            rvx[i] = r.nextFloat() * 2.0f - 1.0f;
-            rvy[i] = r.nextFloat() * 2.0f - 1.0f;
-            rvd[i] = rvz[i] = r.nextFloat() * 2.0f - 1.0f;
+            rvx[i] = $RANDOM;
+            rvy[i] = $RANDOM;
+            rvd[i] = rvz[i] = $RANDOM;
         }
 
-        cvx = new float[(DATA_SIZE + MAX_OFFSET) * 2];
-        cvy = new float[(DATA_SIZE + MAX_OFFSET) * 2];
-        cvz = new float[(DATA_SIZE + MAX_OFFSET) * 2];
-        cvd = new float[(DATA_SIZE + MAX_OFFSET) * 2];
+        cvx = new ${T}[(DATA_SIZE + MAX_OFFSET) * 2];
+        cvy = new ${T}[(DATA_SIZE + MAX_OFFSET) * 2];
+        cvz = new ${T}[(DATA_SIZE + MAX_OFFSET) * 2];
+        cvd = new ${T}[(DATA_SIZE + MAX_OFFSET) * 2];
         for (int i = 0; i < cvx.length; i++) {
-            cvx[i] = r.nextFloat() * 2.0f - 1.0f;
-            cvy[i] = r.nextFloat() * 2.0f - 1.0f;
-            cvd[i] = cvz[i] = r.nextFloat() * 2.0f - 1.0f;
+            cvx[i] = $RANDOM;
+            cvy[i] = $RANDOM;
+            cvd[i] = cvz[i] = $RANDOM;
         }
 
-        rsx = r.nextFloat() * 2.0f - 1.0f;
-        rsy = r.nextFloat() * 2.0f - 1.0f;
-        rsz = r.nextFloat() * 2.0f - 1.0f;
+        rsx = $RANDOM;
+        rsy = $RANDOM;
+        rsz = $RANDOM;
 
-        csx = new float[] { r.nextFloat() * 2.0f - 1.0f, r.nextFloat() * 2.0f - 1.0f };
-        csy = new float[] { r.nextFloat() * 2.0f - 1.0f, r.nextFloat() * 2.0f - 1.0f };
-        csz = new float[] { r.nextFloat() * 2.0f - 1.0f, r.nextFloat() * 2.0f - 1.0f };
+        csx = new ${T}[] { $RANDOM, $RANDOM };
+        csy = new ${T}[] { $RANDOM, $RANDOM };
+        csz = new ${T}[] { $RANDOM, $RANDOM };
     }
 
 __HEADER
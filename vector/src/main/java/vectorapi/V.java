@@ -0,0 +1,2149 @@
+/*!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!\
+!! THIS FILE IS GENERATED WITH genDispatcher.pl SCRIPT. DO NOT EDIT! !!
+\!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!*/
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi;
+
+/**
+ * Facade with API of {@link VO}, which dispatches each call to {@link VO} or
+ * {@link VOVec} depending on number of processed elements. Thresholds are
+ * per-operation and are provided by {@link VThresholds}.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration
+ */
+public final class V {
+	private static final int TH_RV_ADD_RS_I = VThresholds.get("rv_add_rs_i");
+	private static final int TH_RV_ADD_RV_I = VThresholds.get("rv_add_rv_i");
+	private static final int TH_CV_ADD_RS_I = VThresholds.get("cv_add_rs_i");
+	private static final int TH_CV_ADD_RV_I = VThresholds.get("cv_add_rv_i");
+	private static final int TH_CV_ADD_CS_I = VThresholds.get("cv_add_cs_i");
+	private static final int TH_CV_ADD_CV_I = VThresholds.get("cv_add_cv_i");
+	private static final int TH_RV_ADD_RS = VThresholds.get("rv_add_rs");
+	private static final int TH_RV_ADD_RV = VThresholds.get("rv_add_rv");
+	private static final int TH_CV_ADD_RS = VThresholds.get("cv_add_rs");
+	private static final int TH_CV_ADD_RV = VThresholds.get("cv_add_rv");
+	private static final int TH_CV_ADD_CS = VThresholds.get("cv_add_cs");
+	private static final int TH_CV_ADD_CV = VThresholds.get("cv_add_cv");
+	private static final int TH_RV_SUB_RS_I = VThresholds.get("rv_sub_rs_i");
+	private static final int TH_RV_SUB_RV_I = VThresholds.get("rv_sub_rv_i");
+	private static final int TH_CV_SUB_RS_I = VThresholds.get("cv_sub_rs_i");
+	private static final int TH_CV_SUB_RV_I = VThresholds.get("cv_sub_rv_i");
+	private static final int TH_CV_SUB_CS_I = VThresholds.get("cv_sub_cs_i");
+	private static final int TH_CV_SUB_CV_I = VThresholds.get("cv_sub_cv_i");
+	private static final int TH_RV_SUB_RS = VThresholds.get("rv_sub_rs");
+	private static final int TH_RS_SUB_RV = VThresholds.get("rs_sub_rv");
+	private static final int TH_RV_SUB_RV = VThresholds.get("rv_sub_rv");
+	private static final int TH_CV_SUB_RS = VThresholds.get("cv_sub_rs");
+	private static final int TH_RS_SUB_CV = VThresholds.get("rs_sub_cv");
+	private static final int TH_CV_SUB_RV = VThresholds.get("cv_sub_rv");
+	private static final int TH_RV_SUB_CV = VThresholds.get("rv_sub_cv");
+	private static final int TH_CV_SUB_CS = VThresholds.get("cv_sub_cs");
+	private static final int TH_CS_SUB_CV = VThresholds.get("cs_sub_cv");
+	private static final int TH_CV_SUB_CV = VThresholds.get("cv_sub_cv");
+	private static final int TH_RV_MUL_RS_I = VThresholds.get("rv_mul_rs_i");
+	private static final int TH_RV_MUL_RV_I = VThresholds.get("rv_mul_rv_i");
+	private static final int TH_CV_MUL_RS_I = VThresholds.get("cv_mul_rs_i");
+	private static final int TH_CV_MUL_RV_I = VThresholds.get("cv_mul_rv_i");
+	private static final int TH_CV_MUL_CS_I = VThresholds.get("cv_mul_cs_i");
+	private static final int TH_CV_MUL_CV_I = VThresholds.get("cv_mul_cv_i");
+	private static final int TH_RV_MUL_RS = VThresholds.get("rv_mul_rs");
+	private static final int TH_RV_MUL_RV = VThresholds.get("rv_mul_rv");
+	private static final int TH_CV_MUL_RS = VThresholds.get("cv_mul_rs");
+	private static final int TH_CV_MUL_RV = VThresholds.get("cv_mul_rv");
+	private static final int TH_CV_MUL_CS = VThresholds.get("cv_mul_cs");
+	private static final int TH_CV_MUL_CV = VThresholds.get("cv_mul_cv");
+	private static final int TH_RV_DIV_RS_I = VThresholds.get("rv_div_rs_i");
+	private static final int TH_RV_DIV_RV_I = VThresholds.get("rv_div_rv_i");
+	private static final int TH_CV_DIV_RS_I = VThresholds.get("cv_div_rs_i");
+	private static final int TH_CV_DIV_RV_I = VThresholds.get("cv_div_rv_i");
+	private static final int TH_CV_DIV_CS_I = VThresholds.get("cv_div_cs_i");
+	private static final int TH_CV_DIV_CV_I = VThresholds.get("cv_div_cv_i");
+	private static final int TH_RV_DIV_RS = VThresholds.get("rv_div_rs");
+	private static final int TH_RS_DIV_RV = VThresholds.get("rs_div_rv");
+	private static final int TH_RV_DIV_RV = VThresholds.get("rv_div_rv");
+	private static final int TH_CV_DIV_RS = VThresholds.get("cv_div_rs");
+	private static final int TH_RS_DIV_CV = VThresholds.get("rs_div_cv");
+	private static final int TH_CV_DIV_RV = VThresholds.get("cv_div_rv");
+	private static final int TH_RV_DIV_CV = VThresholds.get("rv_div_cv");
+	private static final int TH_CV_DIV_CS = VThresholds.get("cv_div_cs");
+	private static final int TH_CS_DIV_CV = VThresholds.get("cs_div_cv");
+	private static final int TH_CV_DIV_CV = VThresholds.get("cv_div_cv");
+	private static final int TH_RV_CONJMUL_CV = VThresholds.get("rv_conjmul_cv");
+	private static final int TH_CV_CONJMUL_CV_I = VThresholds.get("cv_conjmul_cv_i");
+	private static final int TH_CV_CONJMUL_CV = VThresholds.get("cv_conjmul_cv");
+	private static final int TH_CV_CONJ_I = VThresholds.get("cv_conj_i");
+	private static final int TH_CV_CONJ = VThresholds.get("cv_conj");
+	private static final int TH_RV_EXPI = VThresholds.get("rv_expi");
+	private static final int TH_RV_EXP_I = VThresholds.get("rv_exp_i");
+	private static final int TH_CV_EXP_I = VThresholds.get("cv_exp_i");
+	private static final int TH_RV_EXP = VThresholds.get("rv_exp");
+	private static final int TH_CV_EXP = VThresholds.get("cv_exp");
+	private static final int TH_CV_IM = VThresholds.get("cv_im");
+	private static final int TH_CV_RE = VThresholds.get("cv_re");
+	private static final int TH_CV_ABS = VThresholds.get("cv_abs");
+	private static final int TH_CV_ARG = VThresholds.get("cv_arg");
+	private static final int TH_CV_ARG_F = VThresholds.get("cv_arg_f");
+	private static final int TH_CV_ARGMUL_RS = VThresholds.get("cv_argmul_rs");
+	private static final int TH_CV_ARGMUL_RS_F = VThresholds.get("cv_argmul_rs_f");
+	private static final int TH_RV_ABS_I = VThresholds.get("rv_abs_i");
+	private static final int TH_RV_ABS = VThresholds.get("rv_abs");
+	private static final int TH_RV_CVT = VThresholds.get("rv_cvt");
+	private static final int TH_CV_R2P_I = VThresholds.get("cv_r2p_i");
+	private static final int TH_CV_R2P_IF = VThresholds.get("cv_r2p_if");
+	private static final int TH_CV_R2P = VThresholds.get("cv_r2p");
+	private static final int TH_CV_R2P_F = VThresholds.get("cv_r2p_f");
+	private static final int TH_CV_P2R_I = VThresholds.get("cv_p2r_i");
+	private static final int TH_CV_P2R = VThresholds.get("cv_p2r");
+	private static final int TH_RV_SUM = VThresholds.get("rv_sum");
+	private static final int TH_CV_SUM = VThresholds.get("cv_sum");
+	private static final int TH_RV_DOT_RV = VThresholds.get("rv_dot_rv");
+	private static final int TH_RV_DOT_CV = VThresholds.get("rv_dot_cv");
+	private static final int TH_CV_DOT_CV = VThresholds.get("cv_dot_cv");
+	private static final int TH_RV_CPY = VThresholds.get("rv_cpy");
+	private static final int TH_CV_CPY = VThresholds.get("cv_cpy");
+	private static final int TH_RV_MAX = VThresholds.get("rv_max");
+	private static final int TH_RV_MAX_RV_I = VThresholds.get("rv_max_rv_i");
+	private static final int TH_RV_MAX_RV = VThresholds.get("rv_max_rv");
+	private static final int TH_CV_MAX = VThresholds.get("cv_max");
+	private static final int TH_CV_MAX_CV_I = VThresholds.get("cv_max_cv_i");
+	private static final int TH_CV_MAX_CV = VThresholds.get("cv_max_cv");
+	private static final int TH_RV_MIN = VThresholds.get("rv_min");
+	private static final int TH_RV_MIN_RV_I = VThresholds.get("rv_min_rv_i");
+	private static final int TH_RV_MIN_RV = VThresholds.get("rv_min_rv");
+	private static final int TH_CV_MIN = VThresholds.get("cv_min");
+	private static final int TH_CV_MIN_CV_I = VThresholds.get("cv_min_cv_i");
+	private static final int TH_CV_MIN_CV = VThresholds.get("cv_min_cv");
+	private static final int TH_RV_MAXARG = VThresholds.get("rv_maxarg");
+	private static final int TH_CV_MAXARG = VThresholds.get("cv_maxarg");
+	private static final int TH_RV_MINARG = VThresholds.get("rv_minarg");
+	private static final int TH_CV_MINARG = VThresholds.get("cv_minarg");
+	private static final int TH_RV_RS_LIN_RV_RS_I = VThresholds.get("rv_rs_lin_rv_rs_i");
+	private static final int TH_RV_RS_LIN_RV_RS = VThresholds.get("rv_rs_lin_rv_rs");
+	private static final int TH_RV_RS_LIN_RV_CS = VThresholds.get("rv_rs_lin_rv_cs");
+	private static final int TH_RV_CS_LIN_RV_CS = VThresholds.get("rv_cs_lin_rv_cs");
+	private static final int TH_CV_RS_LIN_RV_RS_I = VThresholds.get("cv_rs_lin_rv_rs_i");
+	private static final int TH_CV_RS_LIN_RV_RS = VThresholds.get("cv_rs_lin_rv_rs");
+	private static final int TH_CV_CS_LIN_RV_RS_I = VThresholds.get("cv_cs_lin_rv_rs_i");
+	private static final int TH_CV_CS_LIN_RV_RS = VThresholds.get("cv_cs_lin_rv_rs");
+	private static final int TH_CV_RS_LIN_RV_CS_I = VThresholds.get("cv_rs_lin_rv_cs_i");
+	private static final int TH_CV_RS_LIN_RV_CS = VThresholds.get("cv_rs_lin_rv_cs");
+	private static final int TH_CV_CS_LIN_RV_CS_I = VThresholds.get("cv_cs_lin_rv_cs_i");
+	private static final int TH_CV_CS_LIN_RV_CS = VThresholds.get("cv_cs_lin_rv_cs");
+	private static final int TH_CV_RS_LIN_CV_RS_I = VThresholds.get("cv_rs_lin_cv_rs_i");
+	private static final int TH_CV_RS_LIN_CV_RS = VThresholds.get("cv_rs_lin_cv_rs");
+	private static final int TH_CV_CS_LIN_CV_RS_I = VThresholds.get("cv_cs_lin_cv_rs_i");
+	private static final int TH_CV_CS_LIN_CV_RS = VThresholds.get("cv_cs_lin_cv_rs");
+	private static final int TH_CV_CS_LIN_CV_CS_I = VThresholds.get("cv_cs_lin_cv_cs_i");
+	private static final int TH_CV_CS_LIN_CV_CS = VThresholds.get("cv_cs_lin_cv_cs");
+	private static final int TH_RV_10LOG10_I = VThresholds.get("rv_10log10_i");
+	private static final int TH_RV_10LOG10 = VThresholds.get("rv_10log10");
+	private static final int TH_RV_10LOG10_RS_I = VThresholds.get("rv_10log10_rs_i");
+	private static final int TH_RV_10LOG10_RS = VThresholds.get("rv_10log10_rs");
+	private static final int TH_CV_10LOG10 = VThresholds.get("cv_10log10");
+	private static final int TH_CV_10LOG10_RS = VThresholds.get("cv_10log10_rs");
+	private static final int TH_RV_20LOG10_I = VThresholds.get("rv_20log10_i");
+	private static final int TH_RV_20LOG10 = VThresholds.get("rv_20log10");
+	private static final int TH_RV_20LOG10_RS_I = VThresholds.get("rv_20log10_rs_i");
+	private static final int TH_RV_20LOG10_RS = VThresholds.get("rv_20log10_rs");
+	private static final int TH_CV_20LOG10 = VThresholds.get("cv_20log10");
+	private static final int TH_CV_20LOG10_RS = VThresholds.get("cv_20log10_rs");
+
+	public static void rv_add_rs_i(float z[], int zOffset, float x, int count) {
+		if (count < TH_RV_ADD_RS_I)
+			VO.rv_add_rs_i(z, zOffset, x, count);
+		else
+			VOVec.rv_add_rs_i(z, zOffset, x, count);
+	}
+
+	public static void rv_add_rs_iw(float z[], int zOffset, float x, int count) {
+		if (count < TH_RV_ADD_RS_I)
+			VO.rv_add_rs_iw(z, zOffset, x, count);
+		else
+			VOVec.rv_add_rs_iw(z, zOffset, x, count);
+	}
+
+	public static void rv_add_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_RV_ADD_RV_I)
+			VO.rv_add_rv_i(z, zOffset, x, xOffset, count);
+		else
+			VOVec.rv_add_rv_i(z, zOffset, x, xOffset, count);
+	}
+
+	public static void rv_add_rv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_RV_ADD_RV_I)
+			VO.rv_add_rv_iw(z, zOffset, x, xOffset, count);
+		else
+			VOVec.rv_add_rv_iw(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_add_rs_i(float z[], int zOffset, float x, int count) {
+		if (count < TH_CV_ADD_RS_I)
+			VO.cv_add_rs_i(z, zOffset, x, count);
+		else
+			VOVec.cv_add_rs_i(z, zOffset, x, count);
+	}
+
+	public static void cv_add_rs_iw(float z[], int zOffset, float x, int count) {
+		if (count < TH_CV_ADD_RS_I)
+			VO.cv_add_rs_iw(z, zOffset, x, count);
+		else
+			VOVec.cv_add_rs_iw(z, zOffset, x, count);
+	}
+
+	public static void cv_add_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_ADD_RV_I)
+			VO.cv_add_rv_i(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_add_rv_i(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_add_rv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_ADD_RV_I)
+			VO.cv_add_rv_iw(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_add_rv_iw(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_add_cs_i(float z[], int zOffset, float x[], int count) {
+		if (count < TH_CV_ADD_CS_I)
+			VO.cv_add_cs_i(z, zOffset, x, count);
+		else
+			VOVec.cv_add_cs_i(z, zOffset, x, count);
+	}
+
+	public static void cv_add_cs_iw(float z[], int zOffset, float x[], int count) {
+		if (count < TH_CV_ADD_CS_I)
+			VO.cv_add_cs_iw(z, zOffset, x, count);
+		else
+			VOVec.cv_add_cs_iw(z, zOffset, x, count);
+	}
+
+	public static void cv_add_cv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_ADD_CV_I)
+			VO.cv_add_cv_i(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_add_cv_i(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_add_cv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_ADD_CV_I)
+			VO.cv_add_cv_iw(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_add_cv_iw(z, zOffset, x, xOffset, count);
+	}
+
+	public static void rv_add_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		if (count < TH_RV_ADD_RS)
+			VO.rv_add_rs(z, zOffset, x, xOffset, y, count);
+		else
+			VOVec.rv_add_rs(z, zOffset, x, xOffset, y, count);
+	}
+
+	public static void rv_add_rs_w(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		if (count < TH_RV_ADD_RS)
+			VO.rv_add_rs_w(z, zOffset, x, xOffset, y, count);
+		else
+			VOVec.rv_add_rs_w(z, zOffset, x, xOffset, y, count);
+	}
+
+	public static void rv_add_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < TH_RV_ADD_RV)
+			VO.rv_add_rv(z, zOffset, x, xOffset, y, yOffset, count);
+		else
+			VOVec.rv_add_rv(z, zOffset, x, xOffset, y, yOffset, count);
+	}
+
+	public static void rv_add_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < TH_RV_ADD_RV)
+			VO.rv_add_rv_w(z, zOffset, x, xOffset, y, yOffset, count);
+		else
+			VOVec.rv_add_rv_w(z, zOffset, x, xOffset, y, yOffset, count);
+	}
+
+	public static void cv_add_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		if (count < TH_CV_ADD_RS)
+			VO.cv_add_rs(z, zOffset, x, xOffset, y, count);
+		else
+			VOVec.cv_add_rs(z, zOffset, x, xOffset, y, count);
+	}
+
+	public static void cv_add_rs_w(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		if (count < TH_CV_ADD_RS)
+			VO.cv_add_rs_w(z, zOffset, x, xOffset, y, count);
+		else
+			VOVec.cv_add_rs_w(z, zOffset, x, xOffset, y, count);
+	}
+
+	public static void cv_add_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < TH_CV_ADD_RV)
+			VO.cv_add_rv(z, zOffset, x, xOffset, y, yOffset, count);
+		else
+			VOVec.cv_add_rv(z, zOffset, x, xOffset, y, yOffset, count);
+	}
+
+	public static void cv_add_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < TH_CV_ADD_RV)
+			VO.cv_add_rv_w(z, zOffset, x, xOffset, y, yOffset, count);
+		else
+			VOVec.cv_add_rv_w(z, zOffset, x, xOffset, y, yOffset, count);
+	}
+
+	public static void cv_add_cs(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
+		if (count < TH_CV_ADD_CS)
+			VO.cv_add_cs(z, zOffset, x, xOffset, y, count);
+		else
+			VOVec.cv_add_cs(z, zOffset, x, xOffset, y, count);
+	}
+
+	public static void cv_add_cs_w(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
+		if (count < TH_CV_ADD_CS)
+			VO.cv_add_cs_w(z, zOffset, x, xOffset, y, count);
+		else
+			VOVec.cv_add_cs_w(z, zOffset, x, xOffset, y, count);
+	}
+
+	public static void cv_add_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < TH_CV_ADD_CV)
+			VO.cv_add_cv(z, zOffset, x, xOffset, y, yOffset, count);
+		else
+			VOVec.cv_add_cv(z, zOffset, x, xOffset, y, yOffset, count);
+	}
+
+	public static void cv_add_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < TH_CV_ADD_CV)
+			VO.cv_add_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+		else
+			VOVec.cv_add_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+	}
+
+	public static void rv_sub_rs_i(float z[], int zOffset, float x, int count) {
+		if (count < TH_RV_SUB_RS_I)
+			VO.rv_sub_rs_i(z, zOffset, x, count);
+		else
+			VOVec.rv_sub_rs_i(z, zOffset, x, count);
+	}
+
+	public static void rv_sub_rs_iw(float z[], int zOffset, float x, int count) {
+		if (count < TH_RV_SUB_RS_I)
+			VO.rv_sub_rs_iw(z, zOffset, x, count);
+		else
+			VOVec.rv_sub_rs_iw(z, zOffset, x, count);
+	}
+
+	public static void rv_sub_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_RV_SUB_RV_I)
+			VO.rv_sub_rv_i(z, zOffset, x, xOffset, count);
+		else
+			VOVec.rv_sub_rv_i(z, zOffset, x, xOffset, count);
+	}
+
+	public static void rv_sub_rv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_RV_SUB_RV_I)
+			VO.rv_sub_rv_iw(z, zOffset, x, xOffset, count);
+		else
+			VOVec.rv_sub_rv_iw(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_sub_rs_i(float z[], int zOffset, float x, int count) {
+		if (count < TH_CV_SUB_RS_I)
+			VO.cv_sub_rs_i(z, zOffset, x, count);
+		else
+			VOVec.cv_sub_rs_i(z, zOffset, x, count);
+	}
+
+	public static void cv_sub_rs_iw(float z[], int zOffset, float x, int count) {
+		if (count < TH_CV_SUB_RS_I)
+			VO.cv_sub_rs_iw(z, zOffset, x, count);
+		else
+			VOVec.cv_sub_rs_iw(z, zOffset, x, count);
+	}
+
+	public static void cv_sub_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_SUB_RV_I)
+			VO.cv_sub_rv_i(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_sub_rv_i(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_sub_rv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_SUB_RV_I)
+			VO.cv_sub_rv_iw(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_sub_rv_iw(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_sub_cs_i(float z[], int zOffset, float x[], int count) {
+		if (count < TH_CV_SUB_CS_I)
+			VO.cv_sub_cs_i(z, zOffset, x, count);
+		else
+			VOVec.cv_sub_cs_i(z, zOffset, x, count);
+	}
+
+	public static void cv_sub_cs_iw(float z[], int zOffset, float x[], int count) {
+		if (count < TH_CV_SUB_CS_I)
+			VO.cv_sub_cs_iw(z, zOffset, x, count);
+		else
+			VOVec.cv_sub_cs_iw(z, zOffset, x, count);
+	}
+
+	public static void cv_sub_cv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_SUB_CV_I)
+			VO.cv_sub_cv_i(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_sub_cv_i(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_sub_cv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_SUB_CV_I)
+			VO.cv_sub_cv_iw(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_sub_cv_iw(z, zOffset, x, xOffset, count);
+	}
+
+	public static void rv_sub_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		if (count < TH_RV_SUB_RS)
+			VO.rv_sub_rs(z, zOffset, x, xOffset, y, count);
+		else
+			VOVec.rv_sub_rs(z, zOffset, x, xOffset, y, count);
+	}
+
+	public static void rv_sub_rs_w(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		if (count < TH_RV_SUB_RS)
+			VO.rv_sub_rs_w(z, zOffset, x, xOffset, y, count);
+		else
+			VOVec.rv_sub_rs_w(z, zOffset, x, xOffset, y, count);
+	}
+
+	public static void rs_sub_rv(float z[], int zOffset, float x, float y[], int yOffset, int count) {
+		if (count < TH_RS_SUB_RV)
+			VO.rs_sub_rv(z, zOffset, x, y, yOffset, count);
+		else
+			VOVec.rs_sub_rv(z, zOffset, x, y, yOffset, count);
+	}
+
+	public static void rs_sub_rv_w(float z[], int zOffset, float x, float y[], int yOffset, int count) {
+		if (count < TH_RS_SUB_RV)
+			VO.rs_sub_rv_w(z, zOffset, x, y, yOffset, count);
+		else
+			VOVec.rs_sub_rv_w(z, zOffset, x, y, yOffset, count);
+	}
+
+	public static void rv_sub_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < TH_RV_SUB_RV)
+			VO.rv_sub_rv(z, zOffset, x, xOffset, y, yOffset, count);
+		else
+			VOVec.rv_sub_rv(z, zOffset, x, xOffset, y, yOffset, count);
+	}
+
+	public static void rv_sub_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < TH_RV_SUB_RV)
+			VO.rv_sub_rv_w(z, zOffset, x, xOffset, y, yOffset, count);
+		else
+			VOVec.rv_sub_rv_w(z, zOffset, x, xOffset, y, yOffset, count);
+	}
+
+	public static void cv_sub_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		if (count < TH_CV_SUB_RS)
+			VO.cv_sub_rs(z, zOffset, x, xOffset, y, count);
+		else
+			VOVec.cv_sub_rs(z, zOffset, x, xOffset, y, count);
+	}
+
+	public static void cv_sub_rs_w(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		if (count < TH_CV_SUB_RS)
+			VO.cv_sub_rs_w(z, zOffset, x, xOffset, y, count);
+		else
+			VOVec.cv_sub_rs_w(z, zOffset, x, xOffset, y, count);
+	}
+
+	public static void rs_sub_cv(float z[], int zOffset, float x, float y[], int yOffset, int count) {
+		if (count < TH_RS_SUB_CV)
+			VO.rs_sub_cv(z, zOffset, x, y, yOffset, count);
+		else
+			VOVec.rs_sub_cv(z, zOffset, x, y, yOffset, count);
+	}
+
+	public static void rs_sub_cv_w(float z[], int zOffset, float x, float y[], int yOffset, int count) {
+		if (count < TH_RS_SUB_CV)
+			VO.rs_sub_cv_w(z, zOffset, x, y, yOffset, count);
+		else
+			VOVec.rs_sub_cv_w(z, zOffset, x, y, yOffset, count);
+	}
+
+	public static void cv_sub_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < TH_CV_SUB_RV)
+			VO.cv_sub_rv(z, zOffset, x, xOffset, y, yOffset, count);
+		else
+			VOVec.cv_sub_rv(z, zOffset, x, xOffset, y, yOffset, count);
+	}
+
+	public static void cv_sub_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < TH_CV_SUB_RV)
+			VO.cv_sub_rv_w(z, zOffset, x, xOffset, y, yOffset, count);
+		else
+			VOVec.cv_sub_rv_w(z, zOffset, x, xOffset, y, yOffset, count);
+	}
+
+	public static void rv_sub_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < TH_RV_SUB_CV)
+			VO.rv_sub_cv(z, zOffset, x, xOffset, y, yOffset, count);
+		else
+			VOVec.rv_sub_cv(z, zOffset, x, xOffset, y, yOffset, count);
+	}
+
+	public static void rv_sub_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < TH_RV_SUB_CV)
+			VO.rv_sub_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+		else
+			VOVec.rv_sub_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+	}
+
+	public static void cv_sub_cs(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
+		if (count < TH_CV_SUB_CS)
+			VO.cv_sub_cs(z, zOffset, x, xOffset, y, count);
+		else
+			VOVec.cv_sub_cs(z, zOffset, x, xOffset, y, count);
+	}
+
+	public static void cv_sub_cs_w(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
+		if (count < TH_CV_SUB_CS)
+			VO.cv_sub_cs_w(z, zOffset, x, xOffset, y, count);
+		else
+			VOVec.cv_sub_cs_w(z, zOffset, x, xOffset, y, count);
+	}
+
+	public static void cs_sub_cv(float z[], int zOffset, float x[], float y[], int yOffset, int count) {
+		if (count < TH_CS_SUB_CV)
+			VO.cs_sub_cv(z, zOffset, x, y, yOffset, count);
+		else
+			VOVec.cs_sub_cv(z, zOffset, x, y, yOffset, count);
+	}
+
+	public static void cs_sub_cv_w(float z[], int zOffset, float x[], float y[], int yOffset, int count) {
+		if (count < TH_CS_SUB_CV)
+			VO.cs_sub_cv_w(z, zOffset, x, y, yOffset, count);
+		else
+			VOVec.cs_sub_cv_w(z, zOffset, x, y, yOffset, count);
+	}
+
+	public static void cv_sub_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < TH_CV_SUB_CV)
+			VO.cv_sub_cv(z, zOffset, x, xOffset, y, yOffset, count);
+		else
+			VOVec.cv_sub_cv(z, zOffset, x, xOffset, y, yOffset, count);
+	}
+
+	public static void cv_sub_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < TH_CV_SUB_CV)
+			VO.cv_sub_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+		else
+			VOVec.cv_sub_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+	}
+
+	public static void rv_mul_rs_i(float z[], int zOffset, float x, int count) {
+		if (count < TH_RV_MUL_RS_I)
+			VO.rv_mul_rs_i(z, zOffset, x, count);
+		else
+			VOVec.rv_mul_rs_i(z, zOffset, x, count);
+	}
+
+	public static void rv_mul_rs_iw(float z[], int zOffset, float x, int count) {
+		if (count < TH_RV_MUL_RS_I)
+			VO.rv_mul_rs_iw(z, zOffset, x, count);
+		else
+			VOVec.rv_mul_rs_iw(z, zOffset, x, count);
+	}
+
+	public static void rv_mul_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_RV_MUL_RV_I)
+			VO.rv_mul_rv_i(z, zOffset, x, xOffset, count);
+		else
+			VOVec.rv_mul_rv_i(z, zOffset, x, xOffset, count);
+	}
+
+	public static void rv_mul_rv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_RV_MUL_RV_I)
+			VO.rv_mul_rv_iw(z, zOffset, x, xOffset, count);
+		else
+			VOVec.rv_mul_rv_iw(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_mul_rs_i(float z[], int zOffset, float x, int count) {
+		if (count < TH_CV_MUL_RS_I)
+			VO.cv_mul_rs_i(z, zOffset, x, count);
+		else
+			VOVec.cv_mul_rs_i(z, zOffset, x, count);
+	}
+
+	public static void cv_mul_rs_iw(float z[], int zOffset, float x, int count) {
+		if (count < TH_CV_MUL_RS_I)
+			VO.cv_mul_rs_iw(z, zOffset, x, count);
+		else
+			VOVec.cv_mul_rs_iw(z, zOffset, x, count);
+	}
+
+	public static void cv_mul_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_MUL_RV_I)
+			VO.cv_mul_rv_i(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_mul_rv_i(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_mul_rv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_MUL_RV_I)
+			VO.cv_mul_rv_iw(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_mul_rv_iw(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_mul_cs_i(float z[], int zOffset, float x[], int count) {
+		if (count < TH_CV_MUL_CS_I)
+			VO.cv_mul_cs_i(z, zOffset, x, count);
+		else
+			VOVec.cv_mul_cs_i(z, zOffset, x, count);
+	}
+
+	public static void cv_mul_cs_iw(float z[], int zOffset, float x[], int count) {
+		if (count < TH_CV_MUL_CS_I)
+			VO.cv_mul_cs_iw(z, zOffset, x, count);
+		else
+			VOVec.cv_mul_cs_iw(z, zOffset, x, count);
+	}
+
+	public static void cv_mul_cv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_MUL_CV_I)
+			VO.cv_mul_cv_i(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_mul_cv_i(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_mul_cv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_MUL_CV_I)
+			VO.cv_mul_cv_iw(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_mul_cv_iw(z, zOffset, x, xOffset, count);
+	}
+
+	public static void rv_mul_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		if (count < TH_RV_MUL_RS)
+			VO.rv_mul_rs(z, zOffset, x, xOffset, y, count);
+		else
+			VOVec.rv_mul_rs(z, zOffset, x, xOffset, y, count);
+	}
+
+	public static void rv_mul_rs_w(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		if (count < TH_RV_MUL_RS)
+			VO.rv_mul_rs_w(z, zOffset, x, xOffset, y, count);
+		else
+			VOVec.rv_mul_rs_w(z, zOffset, x, xOffset, y, count);
+	}
+
+	public static void rv_mul_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < TH_RV_MUL_RV)
+			VO.rv_mul_rv(z, zOffset, x, xOffset, y, yOffset, count);
+		else
+			VOVec.rv_mul_rv(z, zOffset, x, xOffset, y, yOffset, count);
+	}
+
+	public static void rv_mul_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < TH_RV_MUL_RV)
+			VO.rv_mul_rv_w(z, zOffset, x, xOffset, y, yOffset, count);
+		else
+			VOVec.rv_mul_rv_w(z, zOffset, x, xOffset, y, yOffset, count);
+	}
+
+	public static void cv_mul_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		if (count < TH_CV_MUL_RS)
+			VO.cv_mul_rs(z, zOffset, x, xOffset, y, count);
+		else
+			VOVec.cv_mul_rs(z, zOffset, x, xOffset, y, count);
+	}
+
+	public static void cv_mul_rs_w(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		if (count < TH_CV_MUL_RS)
+			VO.cv_mul_rs_w(z, zOffset, x, xOffset, y, count);
+		else
+			VOVec.cv_mul_rs_w(z, zOffset, x, xOffset, y, count);
+	}
+
+	public static void cv_mul_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < TH_CV_MUL_RV)
+			VO.cv_mul_rv(z, zOffset, x, xOffset, y, yOffset, count);
+		else
+			VOVec.cv_mul_rv(z, zOffset, x, xOffset, y, yOffset, count);
+	}
+
+	public static void cv_mul_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < TH_CV_MUL_RV)
+			VO.cv_mul_rv_w(z, zOffset, x, xOffset, y, yOffset, count);
+		else
+			VOVec.cv_mul_rv_w(z, zOffset, x, xOffset, y, yOffset, count);
+	}
+
+	public static void cv_mul_cs(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
+		if (count < TH_CV_MUL_CS)
+			VO.cv_mul_cs(z, zOffset, x, xOffset, y, count);
+		else
+			VOVec.cv_mul_cs(z, zOffset, x, xOffset, y, count);
+	}
+
+	public static void cv_mul_cs_w(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
+		if (count < TH_CV_MUL_CS)
+			VO.cv_mul_cs_w(z, zOffset, x, xOffset, y, count);
+		else
+			VOVec.cv_mul_cs_w(z, zOffset, x, xOffset, y, count);
+	}
+
+	public static void cv_mul_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < TH_CV_MUL_CV)
+			VO.cv_mul_cv(z, zOffset, x, xOffset, y, yOffset, count);
+		else
+			VOVec.cv_mul_cv(z, zOffset, x, xOffset, y, yOffset, count);
+	}
+
+	public static void cv_mul_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < TH_CV_MUL_CV)
+			VO.cv_mul_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+		else
+			VOVec.cv_mul_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+	}
+
+	public static void rv_div_rs_i(float z[], int zOffset, float x, int count) {
+		if (count < TH_RV_DIV_RS_I)
+			VO.rv_div_rs_i(z, zOffset, x, count);
+		else
+			VOVec.rv_div_rs_i(z, zOffset, x, count);
+	}
+
+	public static void rv_div_rs_iw(float z[], int zOffset, float x, int count) {
+		if (count < TH_RV_DIV_RS_I)
+			VO.rv_div_rs_iw(z, zOffset, x, count);
+		else
+			VOVec.rv_div_rs_iw(z, zOffset, x, count);
+	}
+
+	public static void rv_div_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_RV_DIV_RV_I)
+			VO.rv_div_rv_i(z, zOffset, x, xOffset, count);
+		else
+			VOVec.rv_div_rv_i(z, zOffset, x, xOffset, count);
+	}
+
+	public static void rv_div_rv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_RV_DIV_RV_I)
+			VO.rv_div_rv_iw(z, zOffset, x, xOffset, count);
+		else
+			VOVec.rv_div_rv_iw(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_div_rs_i(float z[], int zOffset, float x, int count) {
+		if (count < TH_CV_DIV_RS_I)
+			VO.cv_div_rs_i(z, zOffset, x, count);
+		else
+			VOVec.cv_div_rs_i(z, zOffset, x, count);
+	}
+
+	public static void cv_div_rs_iw(float z[], int zOffset, float x, int count) {
+		if (count < TH_CV_DIV_RS_I)
+			VO.cv_div_rs_iw(z, zOffset, x, count);
+		else
+			VOVec.cv_div_rs_iw(z, zOffset, x, count);
+	}
+
+	public static void cv_div_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_DIV_RV_I)
+			VO.cv_div_rv_i(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_div_rv_i(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_div_rv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_DIV_RV_I)
+			VO.cv_div_rv_iw(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_div_rv_iw(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_div_cs_i(float z[], int zOffset, float x[], int count) {
+		if (count < TH_CV_DIV_CS_I)
+			VO.cv_div_cs_i(z, zOffset, x, count);
+		else
+			VOVec.cv_div_cs_i(z, zOffset, x, count);
+	}
+
+	public static void cv_div_cs_iw(float z[], int zOffset, float x[], int count) {
+		if (count < TH_CV_DIV_CS_I)
+			VO.cv_div_cs_iw(z, zOffset, x, count);
+		else
+			VOVec.cv_div_cs_iw(z, zOffset, x, count);
+	}
+
+	public static void cv_div_cv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_DIV_CV_I)
+			VO.cv_div_cv_i(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_div_cv_i(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_div_cv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_DIV_CV_I)
+			VO.cv_div_cv_iw(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_div_cv_iw(z, zOffset, x, xOffset, count);
+	}
+
+	public static void rv_div_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		if (count < TH_RV_DIV_RS)
+			VO.rv_div_rs(z, zOffset, x, xOffset, y, count);
+		else
+			VOVec.rv_div_rs(z, zOffset, x, xOffset, y, count);
+	}
+
+	public static void rv_div_rs_w(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		if (count < TH_RV_DIV_RS)
+			VO.rv_div_rs_w(z, zOffset, x, xOffset, y, count);
+		else
+			VOVec.rv_div_rs_w(z, zOffset, x, xOffset, y, count);
+	}
+
+	public static void rs_div_rv(float z[], int zOffset, float x, float y[], int yOffset, int count) {
+		if (count < TH_RS_DIV_RV)
+			VO.rs_div_rv(z, zOffset, x, y, yOffset, count);
+		else
+			VOVec.rs_div_rv(z, zOffset, x, y, yOffset, count);
+	}
+
+	public static void rs_div_rv_w(float z[], int zOffset, float x, float y[], int yOffset, int count) {
+		if (count < TH_RS_DIV_RV)
+			VO.rs_div_rv_w(z, zOffset, x, y, yOffset, count);
+		else
+			VOVec.rs_div_rv_w(z, zOffset, x, y, yOffset, count);
+	}
+
+	public static void rv_div_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < TH_RV_DIV_RV)
+			VO.rv_div_rv(z, zOffset, x, xOffset, y, yOffset, count);
+		else
+			VOVec.rv_div_rv(z, zOffset, x, xOffset, y, yOffset, count);
+	}
+
+	public static void rv_div_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < TH_RV_DIV_RV)
+			VO.rv_div_rv_w(z, zOffset, x, xOffset, y, yOffset, count);
+		else
+			VOVec.rv_div_rv_w(z, zOffset, x, xOffset, y, yOffset, count);
+	}
+
+	public static void cv_div_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		if (count < TH_CV_DIV_RS)
+			VO.cv_div_rs(z, zOffset, x, xOffset, y, count);
+		else
+			VOVec.cv_div_rs(z, zOffset, x, xOffset, y, count);
+	}
+
+	public static void cv_div_rs_w(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		if (count < TH_CV_DIV_RS)
+			VO.cv_div_rs_w(z, zOffset, x, xOffset, y, count);
+		else
+			VOVec.cv_div_rs_w(z, zOffset, x, xOffset, y, count);
+	}
+
+	public static void rs_div_cv(float z[], int zOffset, float x, float y[], int yOffset, int count) {
+		if (count < TH_RS_DIV_CV)
+			VO.rs_div_cv(z, zOffset, x, y, yOffset, count);
+		else
+			VOVec.rs_div_cv(z, zOffset, x, y, yOffset, count);
+	}
+
+	public static void rs_div_cv_w(float z[], int zOffset, float x, float y[], int yOffset, int count) {
+		if (count < TH_RS_DIV_CV)
+			VO.rs_div_cv_w(z, zOffset, x, y, yOffset, count);
+		else
+			VOVec.rs_div_cv_w(z, zOffset, x, y, yOffset, count);
+	}
+
+	public static void cv_div_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < TH_CV_DIV_RV)
+			VO.cv_div_rv(z, zOffset, x, xOffset, y, yOffset, count);
+		else
+			VOVec.cv_div_rv(z, zOffset, x, xOffset, y, yOffset, count);
+	}
+
+	public static void cv_div_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < TH_CV_DIV_RV)
+			VO.cv_div_rv_w(z, zOffset, x, xOffset, y, yOffset, count);
+		else
+			VOVec.cv_div_rv_w(z, zOffset, x, xOffset, y, yOffset, count);
+	}
+
+	public static void rv_div_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < TH_RV_DIV_CV)
+			VO.rv_div_cv(z, zOffset, x, xOffset, y, yOffset, count);
+		else
+			VOVec.rv_div_cv(z, zOffset, x, xOffset, y, yOffset, count);
+	}
+
+	public static void rv_div_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < TH_RV_DIV_CV)
+			VO.rv_div_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+		else
+			VOVec.rv_div_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+	}
+
+	public static void cv_div_cs(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
+		if (count < TH_CV_DIV_CS)
+			VO.cv_div_cs(z, zOffset, x, xOffset, y, count);
+		else
+			VOVec.cv_div_cs(z, zOffset, x, xOffset, y, count);
+	}
+
+	public static void cv_div_cs_w(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
+		if (count < TH_CV_DIV_CS)
+			VO.cv_div_cs_w(z, zOffset, x, xOffset, y, count);
+		else
+			VOVec.cv_div_cs_w(z, zOffset, x, xOffset, y, count);
+	}
+
+	public static void cs_div_cv(float z[], int zOffset, float x[], float y[], int yOffset, int count) {
+		if (count < TH_CS_DIV_CV)
+			VO.cs_div_cv(z, zOffset, x, y, yOffset, count);
+		else
+			VOVec.cs_div_cv(z, zOffset, x, y, yOffset, count);
+	}
+
+	public static void cs_div_cv_w(float z[], int zOffset, float x[], float y[], int yOffset, int count) {
+		if (count < TH_CS_DIV_CV)
+			VO.cs_div_cv_w(z, zOffset, x, y, yOffset, count);
+		else
+			VOVec.cs_div_cv_w(z, zOffset, x, y, yOffset, count);
+	}
+
+	public static void cv_div_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < TH_CV_DIV_CV)
+			VO.cv_div_cv(z, zOffset, x, xOffset, y, yOffset, count);
+		else
+			VOVec.cv_div_cv(z, zOffset, x, xOffset, y, yOffset, count);
+	}
+
+	public static void cv_div_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < TH_CV_DIV_CV)
+			VO.cv_div_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+		else
+			VOVec.cv_div_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+	}
+
+	public static void rv_conjmul_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < TH_RV_CONJMUL_CV)
+			VO.rv_conjmul_cv(z, zOffset, x, xOffset, y, yOffset, count);
+		else
+			VOVec.rv_conjmul_cv(z, zOffset, x, xOffset, y, yOffset, count);
+	}
+
+	public static void rv_conjmul_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < TH_RV_CONJMUL_CV)
+			VO.rv_conjmul_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+		else
+			VOVec.rv_conjmul_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+	}
+
+	public static void cv_conjmul_cv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_CONJMUL_CV_I)
+			VO.cv_conjmul_cv_i(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_conjmul_cv_i(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_conjmul_cv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_CONJMUL_CV_I)
+			VO.cv_conjmul_cv_iw(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_conjmul_cv_iw(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_conjmul_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < TH_CV_CONJMUL_CV)
+			VO.cv_conjmul_cv(z, zOffset, x, xOffset, y, yOffset, count);
+		else
+			VOVec.cv_conjmul_cv(z, zOffset, x, xOffset, y, yOffset, count);
+	}
+
+	public static void cv_conjmul_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < TH_CV_CONJMUL_CV)
+			VO.cv_conjmul_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+		else
+			VOVec.cv_conjmul_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+	}
+
+	public static void cv_conj_i(float z[], int zOffset, int count) {
+		if (count < TH_CV_CONJ_I)
+			VO.cv_conj_i(z, zOffset, count);
+		else
+			VOVec.cv_conj_i(z, zOffset, count);
+	}
+
+	public static void cv_conj_iw(float z[], int zOffset, int count) {
+		if (count < TH_CV_CONJ_I)
+			VO.cv_conj_iw(z, zOffset, count);
+		else
+			VOVec.cv_conj_iw(z, zOffset, count);
+	}
+
+	public static void cv_conj(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_CONJ)
+			VO.cv_conj(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_conj(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_conj_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_CONJ)
+			VO.cv_conj_w(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_conj_w(z, zOffset, x, xOffset, count);
+	}
+
+	public static void rv_expi(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_RV_EXPI)
+			VO.rv_expi(z, zOffset, x, xOffset, count);
+		else
+			VOVec.rv_expi(z, zOffset, x, xOffset, count);
+	}
+
+	public static void rv_expi_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_RV_EXPI)
+			VO.rv_expi_w(z, zOffset, x, xOffset, count);
+		else
+			VOVec.rv_expi_w(z, zOffset, x, xOffset, count);
+	}
+
+	public static void rv_exp_i(float z[], int zOffset, int count) {
+		if (count < TH_RV_EXP_I)
+			VO.rv_exp_i(z, zOffset, count);
+		else
+			VOVec.rv_exp_i(z, zOffset, count);
+	}
+
+	public static void rv_exp_iw(float z[], int zOffset, int count) {
+		if (count < TH_RV_EXP_I)
+			VO.rv_exp_iw(z, zOffset, count);
+		else
+			VOVec.rv_exp_iw(z, zOffset, count);
+	}
+
+	public static void cv_exp_i(float z[], int zOffset, int count) {
+		if (count < TH_CV_EXP_I)
+			VO.cv_exp_i(z, zOffset, count);
+		else
+			VOVec.cv_exp_i(z, zOffset, count);
+	}
+
+	public static void cv_exp_iw(float z[], int zOffset, int count) {
+		if (count < TH_CV_EXP_I)
+			VO.cv_exp_iw(z, zOffset, count);
+		else
+			VOVec.cv_exp_iw(z, zOffset, count);
+	}
+
+	public static void rv_exp(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_RV_EXP)
+			VO.rv_exp(z, zOffset, x, xOffset, count);
+		else
+			VOVec.rv_exp(z, zOffset, x, xOffset, count);
+	}
+
+	public static void rv_exp_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_RV_EXP)
+			VO.rv_exp_w(z, zOffset, x, xOffset, count);
+		else
+			VOVec.rv_exp_w(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_exp(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_EXP)
+			VO.cv_exp(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_exp(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_exp_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_EXP)
+			VO.cv_exp_w(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_exp_w(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_im(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_IM)
+			VO.cv_im(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_im(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_im_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_IM)
+			VO.cv_im_w(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_im_w(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_re(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_RE)
+			VO.cv_re(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_re(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_re_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_RE)
+			VO.cv_re_w(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_re_w(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_abs(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_ABS)
+			VO.cv_abs(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_abs(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_abs_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_ABS)
+			VO.cv_abs_w(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_abs_w(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_arg(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_ARG)
+			VO.cv_arg(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_arg(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_arg_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_ARG)
+			VO.cv_arg_w(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_arg_w(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_arg_f(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_ARG_F)
+			VO.cv_arg_f(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_arg_f(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_arg_fw(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_ARG_F)
+			VO.cv_arg_fw(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_arg_fw(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_argmul_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		if (count < TH_CV_ARGMUL_RS)
+			VO.cv_argmul_rs(z, zOffset, x, xOffset, y, count);
+		else
+			VOVec.cv_argmul_rs(z, zOffset, x, xOffset, y, count);
+	}
+
+	public static void cv_argmul_rs_w(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		if (count < TH_CV_ARGMUL_RS)
+			VO.cv_argmul_rs_w(z, zOffset, x, xOffset, y, count);
+		else
+			VOVec.cv_argmul_rs_w(z, zOffset, x, xOffset, y, count);
+	}
+
+	public static void cv_argmul_rs_f(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		if (count < TH_CV_ARGMUL_RS_F)
+			VO.cv_argmul_rs_f(z, zOffset, x, xOffset, y, count);
+		else
+			VOVec.cv_argmul_rs_f(z, zOffset, x, xOffset, y, count);
+	}
+
+	public static void cv_argmul_rs_fw(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		if (count < TH_CV_ARGMUL_RS_F)
+			VO.cv_argmul_rs_fw(z, zOffset, x, xOffset, y, count);
+		else
+			VOVec.cv_argmul_rs_fw(z, zOffset, x, xOffset, y, count);
+	}
+
+	public static void rv_abs_i(float z[], int zOffset, int count) {
+		if (count < TH_RV_ABS_I)
+			VO.rv_abs_i(z, zOffset, count);
+		else
+			VOVec.rv_abs_i(z, zOffset, count);
+	}
+
+	public static void rv_abs_iw(float z[], int zOffset, int count) {
+		if (count < TH_RV_ABS_I)
+			VO.rv_abs_iw(z, zOffset, count);
+		else
+			VOVec.rv_abs_iw(z, zOffset, count);
+	}
+
+	public static void rv_abs(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_RV_ABS)
+			VO.rv_abs(z, zOffset, x, xOffset, count);
+		else
+			VOVec.rv_abs(z, zOffset, x, xOffset, count);
+	}
+
+	public static void rv_abs_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_RV_ABS)
+			VO.rv_abs_w(z, zOffset, x, xOffset, count);
+		else
+			VOVec.rv_abs_w(z, zOffset, x, xOffset, count);
+	}
+
+	public static void rv_cvt(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_RV_CVT)
+			VO.rv_cvt(z, zOffset, x, xOffset, count);
+		else
+			VOVec.rv_cvt(z, zOffset, x, xOffset, count);
+	}
+
+	public static void rv_cvt_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_RV_CVT)
+			VO.rv_cvt_w(z, zOffset, x, xOffset, count);
+		else
+			VOVec.rv_cvt_w(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_r2p_i(float z[], int zOffset, int count) {
+		if (count < TH_CV_R2P_I)
+			VO.cv_r2p_i(z, zOffset, count);
+		else
+			VOVec.cv_r2p_i(z, zOffset, count);
+	}
+
+	public static void cv_r2p_iw(float z[], int zOffset, int count) {
+		if (count < TH_CV_R2P_I)
+			VO.cv_r2p_iw(z, zOffset, count);
+		else
+			VOVec.cv_r2p_iw(z, zOffset, count);
+	}
+
+	public static void cv_r2p_if(float z[], int zOffset, int count) {
+		if (count < TH_CV_R2P_IF)
+			VO.cv_r2p_if(z, zOffset, count);
+		else
+			VOVec.cv_r2p_if(z, zOffset, count);
+	}
+
+	public static void cv_r2p_ifw(float z[], int zOffset, int count) {
+		if (count < TH_CV_R2P_IF)
+			VO.cv_r2p_ifw(z, zOffset, count);
+		else
+			VOVec.cv_r2p_ifw(z, zOffset, count);
+	}
+
+	public static void cv_r2p(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_R2P)
+			VO.cv_r2p(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_r2p(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_r2p_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_R2P)
+			VO.cv_r2p_w(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_r2p_w(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_r2p_f(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_R2P_F)
+			VO.cv_r2p_f(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_r2p_f(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_r2p_fw(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_R2P_F)
+			VO.cv_r2p_fw(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_r2p_fw(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_p2r_i(float z[], int zOffset, int count) {
+		if (count < TH_CV_P2R_I)
+			VO.cv_p2r_i(z, zOffset, count);
+		else
+			VOVec.cv_p2r_i(z, zOffset, count);
+	}
+
+	public static void cv_p2r_iw(float z[], int zOffset, int count) {
+		if (count < TH_CV_P2R_I)
+			VO.cv_p2r_iw(z, zOffset, count);
+		else
+			VOVec.cv_p2r_iw(z, zOffset, count);
+	}
+
+	public static void cv_p2r(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_P2R)
+			VO.cv_p2r(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_p2r(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_p2r_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_P2R)
+			VO.cv_p2r_w(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_p2r_w(z, zOffset, x, xOffset, count);
+	}
+
+	public static float rv_sum(float x[], int xOffset, int count) {
+		return (count < TH_RV_SUM) ? VO.rv_sum(x, xOffset, count) : VOVec.rv_sum(x, xOffset, count);
+	}
+
+	public static float rv_sum_w(float x[], int xOffset, int count) {
+		return (count < TH_RV_SUM) ? VO.rv_sum_w(x, xOffset, count) : VOVec.rv_sum_w(x, xOffset, count);
+	}
+
+	public static void cv_sum(float z[], float x[], int xOffset, int count) {
+		if (count < TH_CV_SUM)
+			VO.cv_sum(z, x, xOffset, count);
+		else
+			VOVec.cv_sum(z, x, xOffset, count);
+	}
+
+	public static void cv_sum(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_SUM)
+			VO.cv_sum(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_sum(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_sum_w(float z[], float x[], int xOffset, int count) {
+		if (count < TH_CV_SUM)
+			VO.cv_sum_w(z, x, xOffset, count);
+		else
+			VOVec.cv_sum_w(z, x, xOffset, count);
+	}
+
+	public static void cv_sum_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_SUM)
+			VO.cv_sum_w(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_sum_w(z, zOffset, x, xOffset, count);
+	}
+
+	public static float rv_dot_rv(float x[], int xOffset, float y[], int yOffset, int count) {
+		return (count < TH_RV_DOT_RV) ? VO.rv_dot_rv(x, xOffset, y, yOffset, count) : VOVec.rv_dot_rv(x, xOffset, y, yOffset, count);
+	}
+
+	public static float rv_dot_rv_w(float x[], int xOffset, float y[], int count) {
+		return VO.rv_dot_rv_w(x, xOffset, y, count);
+	}
+
+	public static float rv_dot_rv_w(float x[], int xOffset, float y[], int yOffset, int count) {
+		return (count < TH_RV_DOT_RV) ? VO.rv_dot_rv_w(x, xOffset, y, yOffset, count) : VOVec.rv_dot_rv_w(x, xOffset, y, yOffset, count);
+	}
+
+	public static void rv_dot_cv(float z[], float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < TH_RV_DOT_CV)
+			VO.rv_dot_cv(z, x, xOffset, y, yOffset, count);
+		else
+			VOVec.rv_dot_cv(z, x, xOffset, y, yOffset, count);
+	}
+
+	public static void rv_dot_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < TH_RV_DOT_CV)
+			VO.rv_dot_cv(z, zOffset, x, xOffset, y, yOffset, count);
+		else
+			VOVec.rv_dot_cv(z, zOffset, x, xOffset, y, yOffset, count);
+	}
+
+	public static void rv_dot_cv_w(float z[], float x[], int xOffset, float y[], int count) {
+		VO.rv_dot_cv_w(z, x, xOffset, y, count);
+	}
+
+	public static void rv_dot_cv_w(float z[], float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < TH_RV_DOT_CV)
+			VO.rv_dot_cv_w(z, x, xOffset, y, yOffset, count);
+		else
+			VOVec.rv_dot_cv_w(z, x, xOffset, y, yOffset, count);
+	}
+
+	public static void rv_dot_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
+		VO.rv_dot_cv_w(z, zOffset, x, xOffset, y, count);
+	}
+
+	public static void rv_dot_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < TH_RV_DOT_CV)
+			VO.rv_dot_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+		else
+			VOVec.rv_dot_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+	}
+
+	public static void cv_dot_rv_w(float z[], float x[], int xOffset, float y[], int count) {
+		VO.cv_dot_rv_w(z, x, xOffset, y, count);
+	}
+
+	public static void cv_dot_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
+		VO.cv_dot_rv_w(z, zOffset, x, xOffset, y, count);
+	}
+
+	public static void cv_dot_cv(float z[], float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < TH_CV_DOT_CV)
+			VO.cv_dot_cv(z, x, xOffset, y, yOffset, count);
+		else
+			VOVec.cv_dot_cv(z, x, xOffset, y, yOffset, count);
+	}
+
+	public static void cv_dot_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < TH_CV_DOT_CV)
+			VO.cv_dot_cv(z, zOffset, x, xOffset, y, yOffset, count);
+		else
+			VOVec.cv_dot_cv(z, zOffset, x, xOffset, y, yOffset, count);
+	}
+
+	public static void cv_dot_cv_w(float z[], float x[], int xOffset, float y[], int count) {
+		VO.cv_dot_cv_w(z, x, xOffset, y, count);
+	}
+
+	public static void cv_dot_cv_w(float z[], float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < TH_CV_DOT_CV)
+			VO.cv_dot_cv_w(z, x, xOffset, y, yOffset, count);
+		else
+			VOVec.cv_dot_cv_w(z, x, xOffset, y, yOffset, count);
+	}
+
+	public static void cv_dot_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
+		VO.cv_dot_cv_w(z, zOffset, x, xOffset, y, count);
+	}
+
+	public static void cv_dot_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < TH_CV_DOT_CV)
+			VO.cv_dot_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+		else
+			VOVec.cv_dot_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+	}
+
+	public static void rv_cpy(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_RV_CPY)
+			VO.rv_cpy(z, zOffset, x, xOffset, count);
+		else
+			VOVec.rv_cpy(z, zOffset, x, xOffset, count);
+	}
+
+	public static void rv_cpy_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_RV_CPY)
+			VO.rv_cpy_w(z, zOffset, x, xOffset, count);
+		else
+			VOVec.rv_cpy_w(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_cpy(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_CPY)
+			VO.cv_cpy(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_cpy(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_cpy_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_CPY)
+			VO.cv_cpy_w(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_cpy_w(z, zOffset, x, xOffset, count);
+	}
+
+	public static void rv_rev_i(float z[], int zOffset, int count) {
+		VO.rv_rev_i(z, zOffset, count);
+	}
+
+	public static void rv_rev_iw(float z[], int zOffset, int count) {
+		VO.rv_rev_iw(z, zOffset, count);
+	}
+
+	public static void cv_rev_i(float z[], int zOffset, int count) {
+		VO.cv_rev_i(z, zOffset, count);
+	}
+
+	public static void cv_rev_iw(float z[], int zOffset, int count) {
+		VO.cv_rev_iw(z, zOffset, count);
+	}
+
+	public static void rv_rev(float z[], int zOffset, float x[], int xOffset, int count) {
+		VO.rv_rev(z, zOffset, x, xOffset, count);
+	}
+
+	public static void rv_rev_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		VO.rv_rev_w(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_rev(float z[], int zOffset, float x[], int xOffset, int count) {
+		VO.cv_rev(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_rev_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		VO.cv_rev_w(z, zOffset, x, xOffset, count);
+	}
+
+	public static float rv_max(float x[], int xOffset, int count) {
+		return (count < TH_RV_MAX) ? VO.rv_max(x, xOffset, count) : VOVec.rv_max(x, xOffset, count);
+	}
+
+	public static float rv_max_w(float x[], int xOffset, int count) {
+		return (count < TH_RV_MAX) ? VO.rv_max_w(x, xOffset, count) : VOVec.rv_max_w(x, xOffset, count);
+	}
+
+	public static void rv_max_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_RV_MAX_RV_I)
+			VO.rv_max_rv_i(z, zOffset, x, xOffset, count);
+		else
+			VOVec.rv_max_rv_i(z, zOffset, x, xOffset, count);
+	}
+
+	public static void rv_max_rv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_RV_MAX_RV_I)
+			VO.rv_max_rv_iw(z, zOffset, x, xOffset, count);
+		else
+			VOVec.rv_max_rv_iw(z, zOffset, x, xOffset, count);
+	}
+
+	public static void rv_max_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < TH_RV_MAX_RV)
+			VO.rv_max_rv(z, zOffset, x, xOffset, y, yOffset, count);
+		else
+			VOVec.rv_max_rv(z, zOffset, x, xOffset, y, yOffset, count);
+	}
+
+	public static void rv_max_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < TH_RV_MAX_RV)
+			VO.rv_max_rv_w(z, zOffset, x, xOffset, y, yOffset, count);
+		else
+			VOVec.rv_max_rv_w(z, zOffset, x, xOffset, y, yOffset, count);
+	}
+
+	public static void cv_max(float z[], float x[], int xOffset, int count) {
+		if (count < TH_CV_MAX)
+			VO.cv_max(z, x, xOffset, count);
+		else
+			VOVec.cv_max(z, x, xOffset, count);
+	}
+
+	public static void cv_max(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_MAX)
+			VO.cv_max(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_max(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_max_w(float z[], float x[], int xOffset, int count) {
+		if (count < TH_CV_MAX)
+			VO.cv_max_w(z, x, xOffset, count);
+		else
+			VOVec.cv_max_w(z, x, xOffset, count);
+	}
+
+	public static void cv_max_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_MAX)
+			VO.cv_max_w(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_max_w(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_max_cv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_MAX_CV_I)
+			VO.cv_max_cv_i(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_max_cv_i(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_max_cv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_MAX_CV_I)
+			VO.cv_max_cv_iw(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_max_cv_iw(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_max_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < TH_CV_MAX_CV)
+			VO.cv_max_cv(z, zOffset, x, xOffset, y, yOffset, count);
+		else
+			VOVec.cv_max_cv(z, zOffset, x, xOffset, y, yOffset, count);
+	}
+
+	public static void cv_max_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < TH_CV_MAX_CV)
+			VO.cv_max_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+		else
+			VOVec.cv_max_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+	}
+
+	public static float rv_min(float x[], int xOffset, int count) {
+		return (count < TH_RV_MIN) ? VO.rv_min(x, xOffset, count) : VOVec.rv_min(x, xOffset, count);
+	}
+
+	public static float rv_min_w(float x[], int xOffset, int count) {
+		return (count < TH_RV_MIN) ? VO.rv_min_w(x, xOffset, count) : VOVec.rv_min_w(x, xOffset, count);
+	}
+
+	public static void rv_min_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_RV_MIN_RV_I)
+			VO.rv_min_rv_i(z, zOffset, x, xOffset, count);
+		else
+			VOVec.rv_min_rv_i(z, zOffset, x, xOffset, count);
+	}
+
+	public static void rv_min_rv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_RV_MIN_RV_I)
+			VO.rv_min_rv_iw(z, zOffset, x, xOffset, count);
+		else
+			VOVec.rv_min_rv_iw(z, zOffset, x, xOffset, count);
+	}
+
+	public static void rv_min_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < TH_RV_MIN_RV)
+			VO.rv_min_rv(z, zOffset, x, xOffset, y, yOffset, count);
+		else
+			VOVec.rv_min_rv(z, zOffset, x, xOffset, y, yOffset, count);
+	}
+
+	public static void rv_min_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < TH_RV_MIN_RV)
+			VO.rv_min_rv_w(z, zOffset, x, xOffset, y, yOffset, count);
+		else
+			VOVec.rv_min_rv_w(z, zOffset, x, xOffset, y, yOffset, count);
+	}
+
+	public static void cv_min(float z[], float x[], int xOffset, int count) {
+		if (count < TH_CV_MIN)
+			VO.cv_min(z, x, xOffset, count);
+		else
+			VOVec.cv_min(z, x, xOffset, count);
+	}
+
+	public static void cv_min(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_MIN)
+			VO.cv_min(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_min(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_min_w(float z[], float x[], int xOffset, int count) {
+		if (count < TH_CV_MIN)
+			VO.cv_min_w(z, x, xOffset, count);
+		else
+			VOVec.cv_min_w(z, x, xOffset, count);
+	}
+
+	public static void cv_min_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_MIN)
+			VO.cv_min_w(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_min_w(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_min_cv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_MIN_CV_I)
+			VO.cv_min_cv_i(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_min_cv_i(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_min_cv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_MIN_CV_I)
+			VO.cv_min_cv_iw(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_min_cv_iw(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_min_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < TH_CV_MIN_CV)
+			VO.cv_min_cv(z, zOffset, x, xOffset, y, yOffset, count);
+		else
+			VOVec.cv_min_cv(z, zOffset, x, xOffset, y, yOffset, count);
+	}
+
+	public static void cv_min_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < TH_CV_MIN_CV)
+			VO.cv_min_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+		else
+			VOVec.cv_min_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+	}
+
+	public static int rv_maxarg(float x[], int xOffset, int count) {
+		return (count < TH_RV_MAXARG) ? VO.rv_maxarg(x, xOffset, count) : VOVec.rv_maxarg(x, xOffset, count);
+	}
+
+	public static int rv_maxarg_w(float x[], int xOffset, int count) {
+		return (count < TH_RV_MAXARG) ? VO.rv_maxarg_w(x, xOffset, count) : VOVec.rv_maxarg_w(x, xOffset, count);
+	}
+
+	public static int cv_maxarg(float x[], int xOffset, int count) {
+		return (count < TH_CV_MAXARG) ? VO.cv_maxarg(x, xOffset, count) : VOVec.cv_maxarg(x, xOffset, count);
+	}
+
+	public static int cv_maxarg_w(float x[], int xOffset, int count) {
+		return (count < TH_CV_MAXARG) ? VO.cv_maxarg_w(x, xOffset, count) : VOVec.cv_maxarg_w(x, xOffset, count);
+	}
+
+	public static int rv_minarg(float x[], int xOffset, int count) {
+		return (count < TH_RV_MINARG) ? VO.rv_minarg(x, xOffset, count) : VOVec.rv_minarg(x, xOffset, count);
+	}
+
+	public static int rv_minarg_w(float x[], int xOffset, int count) {
+		return (count < TH_RV_MINARG) ? VO.rv_minarg_w(x, xOffset, count) : VOVec.rv_minarg_w(x, xOffset, count);
+	}
+
+	public static int cv_minarg(float x[], int xOffset, int count) {
+		return (count < TH_CV_MINARG) ? VO.cv_minarg(x, xOffset, count) : VOVec.cv_minarg(x, xOffset, count);
+	}
+
+	public static int cv_minarg_w(float x[], int xOffset, int count) {
+		return (count < TH_CV_MINARG) ? VO.cv_minarg_w(x, xOffset, count) : VOVec.cv_minarg_w(x, xOffset, count);
+	}
+
+	public static void rv_rs_lin_rv_rs_i(float z[], int zOffset, float a1, float x[], int xOffset, float a2, int count) {
+		if (count < TH_RV_RS_LIN_RV_RS_I)
+			VO.rv_rs_lin_rv_rs_i(z, zOffset, a1, x, xOffset, a2, count);
+		else
+			VOVec.rv_rs_lin_rv_rs_i(z, zOffset, a1, x, xOffset, a2, count);
+	}
+
+	public static void rv_rs_lin_rv_rs_iw(float z[], int zOffset, float a1, float x[], int xOffset, float a2, int count) {
+		if (count < TH_RV_RS_LIN_RV_RS_I)
+			VO.rv_rs_lin_rv_rs_iw(z, zOffset, a1, x, xOffset, a2, count);
+		else
+			VOVec.rv_rs_lin_rv_rs_iw(z, zOffset, a1, x, xOffset, a2, count);
+	}
+
+	public static void rv_rs_lin_rv_rs(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2, int count) {
+		if (count < TH_RV_RS_LIN_RV_RS)
+			VO.rv_rs_lin_rv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+		else
+			VOVec.rv_rs_lin_rv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+	}
+
+	public static void rv_rs_lin_rv_rs_w(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2, int count) {
+		if (count < TH_RV_RS_LIN_RV_RS)
+			VO.rv_rs_lin_rv_rs_w(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+		else
+			VOVec.rv_rs_lin_rv_rs_w(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+	}
+
+	public static void rv_rs_lin_rv_cs(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2[], int count) {
+		if (count < TH_RV_RS_LIN_RV_CS)
+			VO.rv_rs_lin_rv_cs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+		else
+			VOVec.rv_rs_lin_rv_cs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+	}
+
+	public static void rv_rs_lin_rv_cs_w(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2[], int count) {
+		if (count < TH_RV_RS_LIN_RV_CS)
+			VO.rv_rs_lin_rv_cs_w(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+		else
+			VOVec.rv_rs_lin_rv_cs_w(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+	}
+
+	public static void rv_cs_lin_rv_cs(float z[], int zOffset, float x[], int xOffset, float a1[], float y[], int yOffset, float a2[], int count) {
+		if (count < TH_RV_CS_LIN_RV_CS)
+			VO.rv_cs_lin_rv_cs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+		else
+			VOVec.rv_cs_lin_rv_cs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+	}
+
+	public static void rv_cs_lin_rv_cs_w(float z[], int zOffset, float x[], int xOffset, float a1[], float y[], int yOffset, float a2[], int count) {
+		if (count < TH_RV_CS_LIN_RV_CS)
+			VO.rv_cs_lin_rv_cs_w(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+		else
+			VOVec.rv_cs_lin_rv_cs_w(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+	}
+
+	public static void cv_rs_lin_rv_rs_i(float z[], int zOffset, float a1, float x[], int xOffset, float a2, int count) {
+		if (count < TH_CV_RS_LIN_RV_RS_I)
+			VO.cv_rs_lin_rv_rs_i(z, zOffset, a1, x, xOffset, a2, count);
+		else
+			VOVec.cv_rs_lin_rv_rs_i(z, zOffset, a1, x, xOffset, a2, count);
+	}
+
+	public static void cv_rs_lin_rv_rs_iw(float z[], int zOffset, float a1, float x[], int xOffset, float a2, int count) {
+		if (count < TH_CV_RS_LIN_RV_RS_I)
+			VO.cv_rs_lin_rv_rs_iw(z, zOffset, a1, x, xOffset, a2, count);
+		else
+			VOVec.cv_rs_lin_rv_rs_iw(z, zOffset, a1, x, xOffset, a2, count);
+	}
+
+	public static void cv_rs_lin_rv_rs(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2, int count) {
+		if (count < TH_CV_RS_LIN_RV_RS)
+			VO.cv_rs_lin_rv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+		else
+			VOVec.cv_rs_lin_rv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+	}
+
+	public static void cv_rs_lin_rv_rs_w(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2, int count) {
+		if (count < TH_CV_RS_LIN_RV_RS)
+			VO.cv_rs_lin_rv_rs_w(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+		else
+			VOVec.cv_rs_lin_rv_rs_w(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+	}
+
+	public static void cv_cs_lin_rv_rs_i(float z[], int zOffset, float a1[], float x[], int xOffset, float a2, int count) {
+		if (count < TH_CV_CS_LIN_RV_RS_I)
+			VO.cv_cs_lin_rv_rs_i(z, zOffset, a1, x, xOffset, a2, count);
+		else
+			VOVec.cv_cs_lin_rv_rs_i(z, zOffset, a1, x, xOffset, a2, count);
+	}
+
+	public static void cv_cs_lin_rv_rs_iw(float z[], int zOffset, float a1[], float x[], int xOffset, float a2, int count) {
+		if (count < TH_CV_CS_LIN_RV_RS_I)
+			VO.cv_cs_lin_rv_rs_iw(z, zOffset, a1, x, xOffset, a2, count);
+		else
+			VOVec.cv_cs_lin_rv_rs_iw(z, zOffset, a1, x, xOffset, a2, count);
+	}
+
+	public static void cv_cs_lin_rv_rs(float z[], int zOffset, float x[], int xOffset, float a1[], float y[], int yOffset, float a2, int count) {
+		if (count < TH_CV_CS_LIN_RV_RS)
+			VO.cv_cs_lin_rv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+		else
+			VOVec.cv_cs_lin_rv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+	}
+
+	public static void cv_cs_lin_rv_rs_w(float z[], int zOffset, float x[], int xOffset, float a1[], float y[], int yOffset, float a2, int count) {
+		if (count < TH_CV_CS_LIN_RV_RS)
+			VO.cv_cs_lin_rv_rs_w(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+		else
+			VOVec.cv_cs_lin_rv_rs_w(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+	}
+
+	public static void cv_rs_lin_rv_cs_i(float z[], int zOffset, float a1, float x[], int xOffset, float a2[], int count) {
+		if (count < TH_CV_RS_LIN_RV_CS_I)
+			VO.cv_rs_lin_rv_cs_i(z, zOffset, a1, x, xOffset, a2, count);
+		else
+			VOVec.cv_rs_lin_rv_cs_i(z, zOffset, a1, x, xOffset, a2, count);
+	}
+
+	public static void cv_rs_lin_rv_cs_iw(float z[], int zOffset, float a1, float x[], int xOffset, float a2[], int count) {
+		if (count < TH_CV_RS_LIN_RV_CS_I)
+			VO.cv_rs_lin_rv_cs_iw(z, zOffset, a1, x, xOffset, a2, count);
+		else
+			VOVec.cv_rs_lin_rv_cs_iw(z, zOffset, a1, x, xOffset, a2, count);
+	}
+
+	public static void cv_rs_lin_rv_cs(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2[], int count) {
+		if (count < TH_CV_RS_LIN_RV_CS)
+			VO.cv_rs_lin_rv_cs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+		else
+			VOVec.cv_rs_lin_rv_cs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+	}
+
+	public static void cv_rs_lin_rv_cs_w(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2[], int count) {
+		if (count < TH_CV_RS_LIN_RV_CS)
+			VO.cv_rs_lin_rv_cs_w(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+		else
+			VOVec.cv_rs_lin_rv_cs_w(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+	}
+
+	public static void cv_cs_lin_rv_cs_i(float z[], int zOffset, float a1[], float x[], int xOffset, float a2[], int count) {
+		if (count < TH_CV_CS_LIN_RV_CS_I)
+			VO.cv_cs_lin_rv_cs_i(z, zOffset, a1, x, xOffset, a2, count);
+		else
+			VOVec.cv_cs_lin_rv_cs_i(z, zOffset, a1, x, xOffset, a2, count);
+	}
+
+	public static void cv_cs_lin_rv_cs_iw(float z[], int zOffset, float a1[], float x[], int xOffset, float a2[], int count) {
+		if (count < TH_CV_CS_LIN_RV_CS_I)
+			VO.cv_cs_lin_rv_cs_iw(z, zOffset, a1, x, xOffset, a2, count);
+		else
+			VOVec.cv_cs_lin_rv_cs_iw(z, zOffset, a1, x, xOffset, a2, count);
+	}
+
+	public static void cv_cs_lin_rv_cs(float z[], int zOffset, float x[], int xOffset, float a1[], float y[], int yOffset, float a2[], int count) {
+		if (count < TH_CV_CS_LIN_RV_CS)
+			VO.cv_cs_lin_rv_cs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+		else
+			VOVec.cv_cs_lin_rv_cs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+	}
+
+	public static void cv_cs_lin_rv_cs_w(float z[], int zOffset, float x[], int xOffset, float a1[], float y[], int yOffset, float a2[], int count) {
+		if (count < TH_CV_CS_LIN_RV_CS)
+			VO.cv_cs_lin_rv_cs_w(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+		else
+			VOVec.cv_cs_lin_rv_cs_w(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+	}
+
+	public static void cv_rs_lin_cv_rs_i(float z[], int zOffset, float a1, float x[], int xOffset, float a2, int count) {
+		if (count < TH_CV_RS_LIN_CV_RS_I)
+			VO.cv_rs_lin_cv_rs_i(z, zOffset, a1, x, xOffset, a2, count);
+		else
+			VOVec.cv_rs_lin_cv_rs_i(z, zOffset, a1, x, xOffset, a2, count);
+	}
+
+	public static void cv_rs_lin_cv_rs_iw(float z[], int zOffset, float a1, float x[], int xOffset, float a2, int count) {
+		if (count < TH_CV_RS_LIN_CV_RS_I)
+			VO.cv_rs_lin_cv_rs_iw(z, zOffset, a1, x, xOffset, a2, count);
+		else
+			VOVec.cv_rs_lin_cv_rs_iw(z, zOffset, a1, x, xOffset, a2, count);
+	}
+
+	public static void cv_rs_lin_cv_rs(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2, int count) {
+		if (count < TH_CV_RS_LIN_CV_RS)
+			VO.cv_rs_lin_cv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+		else
+			VOVec.cv_rs_lin_cv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+	}
+
+	public static void cv_rs_lin_cv_rs_w(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2, int count) {
+		if (count < TH_CV_RS_LIN_CV_RS)
+			VO.cv_rs_lin_cv_rs_w(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+		else
+			VOVec.cv_rs_lin_cv_rs_w(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+	}
+
+	public static void cv_cs_lin_cv_rs_i(float z[], int zOffset, float a1[], float x[], int xOffset, float a2, int count) {
+		if (count < TH_CV_CS_LIN_CV_RS_I)
+			VO.cv_cs_lin_cv_rs_i(z, zOffset, a1, x, xOffset, a2, count);
+		else
+			VOVec.cv_cs_lin_cv_rs_i(z, zOffset, a1, x, xOffset, a2, count);
+	}
+
+	public static void cv_cs_lin_cv_rs_iw(float z[], int zOffset, float a1[], float x[], int xOffset, float a2, int count) {
+		if (count < TH_CV_CS_LIN_CV_RS_I)
+			VO.cv_cs_lin_cv_rs_iw(z, zOffset, a1, x, xOffset, a2, count);
+		else
+			VOVec.cv_cs_lin_cv_rs_iw(z, zOffset, a1, x, xOffset, a2, count);
+	}
+
+	public static void cv_cs_lin_cv_rs(float z[], int zOffset, float x[], int xOffset, float a1[], float y[], int yOffset, float a2, int count) {
+		if (count < TH_CV_CS_LIN_CV_RS)
+			VO.cv_cs_lin_cv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+		else
+			VOVec.cv_cs_lin_cv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+	}
+
+	public static void cv_cs_lin_cv_rs_w(float z[], int zOffset, float x[], int xOffset, float a1[], float y[], int yOffset, float a2, int count) {
+		if (count < TH_CV_CS_LIN_CV_RS)
+			VO.cv_cs_lin_cv_rs_w(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+		else
+			VOVec.cv_cs_lin_cv_rs_w(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+	}
+
+	public static void cv_cs_lin_cv_cs_i(float z[], int zOffset, float a1[], float x[], int xOffset, float a2[], int count) {
+		if (count < TH_CV_CS_LIN_CV_CS_I)
+			VO.cv_cs_lin_cv_cs_i(z, zOffset, a1, x, xOffset, a2, count);
+		else
+			VOVec.cv_cs_lin_cv_cs_i(z, zOffset, a1, x, xOffset, a2, count);
+	}
+
+	public static void cv_cs_lin_cv_cs_iw(float z[], int zOffset, float a1[], float x[], int xOffset, float a2[], int count) {
+		if (count < TH_CV_CS_LIN_CV_CS_I)
+			VO.cv_cs_lin_cv_cs_iw(z, zOffset, a1, x, xOffset, a2, count);
+		else
+			VOVec.cv_cs_lin_cv_cs_iw(z, zOffset, a1, x, xOffset, a2, count);
+	}
+
+	public static void cv_cs_lin_cv_cs(float z[], int zOffset, float x[], int xOffset, float a1[], float y[], int yOffset, float a2[], int count) {
+		if (count < TH_CV_CS_LIN_CV_CS)
+			VO.cv_cs_lin_cv_cs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+		else
+			VOVec.cv_cs_lin_cv_cs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+	}
+
+	public static void cv_cs_lin_cv_cs_w(float z[], int zOffset, float x[], int xOffset, float a1[], float y[], int yOffset, float a2[], int count) {
+		if (count < TH_CV_CS_LIN_CV_CS)
+			VO.cv_cs_lin_cv_cs_w(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+		else
+			VOVec.cv_cs_lin_cv_cs_w(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+	}
+
+	public static void rv_10log10_i(float z[], int zOffset, int count) {
+		if (count < TH_RV_10LOG10_I)
+			VO.rv_10log10_i(z, zOffset, count);
+		else
+			VOVec.rv_10log10_i(z, zOffset, count);
+	}
+
+	public static void rv_10log10_iw(float z[], int zOffset, int count) {
+		if (count < TH_RV_10LOG10_I)
+			VO.rv_10log10_iw(z, zOffset, count);
+		else
+			VOVec.rv_10log10_iw(z, zOffset, count);
+	}
+
+	public static void rv_10log10(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_RV_10LOG10)
+			VO.rv_10log10(z, zOffset, x, xOffset, count);
+		else
+			VOVec.rv_10log10(z, zOffset, x, xOffset, count);
+	}
+
+	public static void rv_10log10_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_RV_10LOG10)
+			VO.rv_10log10_w(z, zOffset, x, xOffset, count);
+		else
+			VOVec.rv_10log10_w(z, zOffset, x, xOffset, count);
+	}
+
+	public static void rv_10log10_rs_i(float z[], int zOffset, float base, int count) {
+		if (count < TH_RV_10LOG10_RS_I)
+			VO.rv_10log10_rs_i(z, zOffset, base, count);
+		else
+			VOVec.rv_10log10_rs_i(z, zOffset, base, count);
+	}
+
+	public static void rv_10log10_rs_iw(float z[], int zOffset, float base, int count) {
+		if (count < TH_RV_10LOG10_RS_I)
+			VO.rv_10log10_rs_iw(z, zOffset, base, count);
+		else
+			VOVec.rv_10log10_rs_iw(z, zOffset, base, count);
+	}
+
+	public static void rv_10log10_rs(float z[], int zOffset, float x[], int xOffset, float base, int count) {
+		if (count < TH_RV_10LOG10_RS)
+			VO.rv_10log10_rs(z, zOffset, x, xOffset, base, count);
+		else
+			VOVec.rv_10log10_rs(z, zOffset, x, xOffset, base, count);
+	}
+
+	public static void rv_10log10_rs_w(float z[], int zOffset, float x[], int xOffset, float base, int count) {
+		if (count < TH_RV_10LOG10_RS)
+			VO.rv_10log10_rs_w(z, zOffset, x, xOffset, base, count);
+		else
+			VOVec.rv_10log10_rs_w(z, zOffset, x, xOffset, base, count);
+	}
+
+	public static void cv_10log10(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_10LOG10)
+			VO.cv_10log10(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_10log10(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_10log10_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_10LOG10)
+			VO.cv_10log10_w(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_10log10_w(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_10log10_rs(float z[], int zOffset, float x[], int xOffset, float base, int count) {
+		if (count < TH_CV_10LOG10_RS)
+			VO.cv_10log10_rs(z, zOffset, x, xOffset, base, count);
+		else
+			VOVec.cv_10log10_rs(z, zOffset, x, xOffset, base, count);
+	}
+
+	public static void cv_10log10_rs_w(float z[], int zOffset, float x[], int xOffset, float base, int count) {
+		if (count < TH_CV_10LOG10_RS)
+			VO.cv_10log10_rs_w(z, zOffset, x, xOffset, base, count);
+		else
+			VOVec.cv_10log10_rs_w(z, zOffset, x, xOffset, base, count);
+	}
+
+	public static void rv_20log10_i(float z[], int zOffset, int count) {
+		if (count < TH_RV_20LOG10_I)
+			VO.rv_20log10_i(z, zOffset, count);
+		else
+			VOVec.rv_20log10_i(z, zOffset, count);
+	}
+
+	public static void rv_20log10_iw(float z[], int zOffset, int count) {
+		if (count < TH_RV_20LOG10_I)
+			VO.rv_20log10_iw(z, zOffset, count);
+		else
+			VOVec.rv_20log10_iw(z, zOffset, count);
+	}
+
+	public static void rv_20log10(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_RV_20LOG10)
+			VO.rv_20log10(z, zOffset, x, xOffset, count);
+		else
+			VOVec.rv_20log10(z, zOffset, x, xOffset, count);
+	}
+
+	public static void rv_20log10_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_RV_20LOG10)
+			VO.rv_20log10_w(z, zOffset, x, xOffset, count);
+		else
+			VOVec.rv_20log10_w(z, zOffset, x, xOffset, count);
+	}
+
+	public static void rv_20log10_rs_i(float z[], int zOffset, float base, int count) {
+		if (count < TH_RV_20LOG10_RS_I)
+			VO.rv_20log10_rs_i(z, zOffset, base, count);
+		else
+			VOVec.rv_20log10_rs_i(z, zOffset, base, count);
+	}
+
+	public static void rv_20log10_rs_iw(float z[], int zOffset, float base, int count) {
+		if (count < TH_RV_20LOG10_RS_I)
+			VO.rv_20log10_rs_iw(z, zOffset, base, count);
+		else
+			VOVec.rv_20log10_rs_iw(z, zOffset, base, count);
+	}
+
+	public static void rv_20log10_rs(float z[], int zOffset, float x[], int xOffset, float base, int count) {
+		if (count < TH_RV_20LOG10_RS)
+			VO.rv_20log10_rs(z, zOffset, x, xOffset, base, count);
+		else
+			VOVec.rv_20log10_rs(z, zOffset, x, xOffset, base, count);
+	}
+
+	public static void rv_20log10_rs_w(float z[], int zOffset, float x[], int xOffset, float base, int count) {
+		if (count < TH_RV_20LOG10_RS)
+			VO.rv_20log10_rs_w(z, zOffset, x, xOffset, base, count);
+		else
+			VOVec.rv_20log10_rs_w(z, zOffset, x, xOffset, base, count);
+	}
+
+	public static void cv_20log10(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_20LOG10)
+			VO.cv_20log10(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_20log10(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_20log10_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < TH_CV_20LOG10)
+			VO.cv_20log10_w(z, zOffset, x, xOffset, count);
+		else
+			VOVec.cv_20log10_w(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_20log10_rs(float z[], int zOffset, float x[], int xOffset, float base, int count) {
+		if (count < TH_CV_20LOG10_RS)
+			VO.cv_20log10_rs(z, zOffset, x, xOffset, base, count);
+		else
+			VOVec.cv_20log10_rs(z, zOffset, x, xOffset, base, count);
+	}
+
+	public static void cv_20log10_rs_w(float z[], int zOffset, float x[], int xOffset, float base, int count) {
+		if (count < TH_CV_20LOG10_RS)
+			VO.cv_20log10_rs_w(z, zOffset, x, xOffset, base, count);
+		else
+			VOVec.cv_20log10_rs_w(z, zOffset, x, xOffset, base, count);
+	}
+}
@@ -0,0 +1,71 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Allocation of aligned data for {@link VOBuffer} and {@link VOVec}.
+ *
+ * Direct buffers are allocated aligned to {@value #ALIGNMENT} bytes, which is size of cache line
+ * and of widest vector, and in native byte order, as {@link VOBuffer} needs.
+ *
+ * Java arrays could not be aligned: first element of {@code float[]} is placed at offset from
+ * start of object which depends on object header layout of JVM, and object could be placed
+ * (and moved by GC) at any address aligned to {@code -XX:ObjectAlignmentInBytes}. So
+ * {@link VOVec} kernels don't try to align vectors. Use direct buffers and {@link VOBuffer}
+ * when alignment matters.
+ *
+ * @author Lev Serebryakov
+ */
+public final class VAlign {
+	public static final int ALIGNMENT = 64;
+
+	private VAlign() {
+	}
+
+	/**
+	 * Allocates direct buffer for {@code count} floats (use {@code count * 2} for complex vector),
+	 * aligned to {@value #ALIGNMENT} bytes, in native byte order.
+	 */
+	public static ByteBuffer allocate(int count) {
+		final int size = count * Float.BYTES;
+		// Aligned slice is shrunk from both ends
+		final ByteBuffer b = ByteBuffer.allocateDirect(size + ALIGNMENT * 2).alignedSlice(ALIGNMENT);
+		return b.limit(size).slice().order(ByteOrder.nativeOrder());
+	}
+
+	/**
+	 * Checks, is float with given index in direct buffer aligned to vector size.
+	 * Heap buffers are never reported as aligned, as their data could be moved by GC.
+	 */
+	public static boolean isAligned(ByteBuffer x, int xOffset) {
+		return x.isDirect() && x.alignmentOffset(xOffset * Float.BYTES, VSpecies.FLOAT.bitSize() / 8) == 0;
+	}
+}
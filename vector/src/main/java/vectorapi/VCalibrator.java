@@ -0,0 +1,179 @@
+/*!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!\
+!! THIS FILE IS GENERATED WITH genDispatcher.pl SCRIPT. DO NOT EDIT! !!
+\!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!*/
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi;
+
+/**
+ * List of operations for {@link VThresholds.Calibration}.
+ *
+ * @author Lev Serebryakov
+ */
+final class VCalibrator {
+	private VCalibrator() {
+	}
+
+	static void calibrate(VThresholds.Calibration c) {
+		c.op("rv_add_rs_i", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.rv_add_rs_i(c.z, o, c.rs, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.rv_add_rs_i(c.z, o, c.rs, n); });
+		c.op("rv_add_rv_i", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.rv_add_rv_i(c.z, o, c.x, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.rv_add_rv_i(c.z, o, c.x, o, n); });
+		c.op("cv_add_rs_i", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_add_rs_i(c.z, o, c.rs, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_add_rs_i(c.z, o, c.rs, n); });
+		c.op("cv_add_rv_i", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_add_rv_i(c.z, o, c.x, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_add_rv_i(c.z, o, c.x, o, n); });
+		c.op("cv_add_cs_i", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_add_cs_i(c.z, o, c.cs1, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_add_cs_i(c.z, o, c.cs1, n); });
+		c.op("cv_add_cv_i", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_add_cv_i(c.z, o, c.x, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_add_cv_i(c.z, o, c.x, o, n); });
+		c.op("rv_add_rs", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.rv_add_rs(c.z, o, c.x, o, c.rs, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.rv_add_rs(c.z, o, c.x, o, c.rs, n); });
+		c.op("rv_add_rv", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.rv_add_rv(c.z, o, c.x, o, c.y, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.rv_add_rv(c.z, o, c.x, o, c.y, o, n); });
+		c.op("cv_add_rs", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_add_rs(c.z, o, c.x, o, c.rs, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_add_rs(c.z, o, c.x, o, c.rs, n); });
+		c.op("cv_add_rv", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_add_rv(c.z, o, c.x, o, c.y, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_add_rv(c.z, o, c.x, o, c.y, o, n); });
+		c.op("cv_add_cs", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_add_cs(c.z, o, c.x, o, c.cs2, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_add_cs(c.z, o, c.x, o, c.cs2, n); });
+		c.op("cv_add_cv", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_add_cv(c.z, o, c.x, o, c.y, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_add_cv(c.z, o, c.x, o, c.y, o, n); });
+		c.op("rv_sub_rs_i", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.rv_sub_rs_i(c.z, o, c.rs, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.rv_sub_rs_i(c.z, o, c.rs, n); });
+		c.op("rv_sub_rv_i", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.rv_sub_rv_i(c.z, o, c.x, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.rv_sub_rv_i(c.z, o, c.x, o, n); });
+		c.op("cv_sub_rs_i", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_sub_rs_i(c.z, o, c.rs, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_sub_rs_i(c.z, o, c.rs, n); });
+		c.op("cv_sub_rv_i", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_sub_rv_i(c.z, o, c.x, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_sub_rv_i(c.z, o, c.x, o, n); });
+		c.op("cv_sub_cs_i", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_sub_cs_i(c.z, o, c.cs1, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_sub_cs_i(c.z, o, c.cs1, n); });
+		c.op("cv_sub_cv_i", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_sub_cv_i(c.z, o, c.x, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_sub_cv_i(c.z, o, c.x, o, n); });
+		c.op("rv_sub_rs", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.rv_sub_rs(c.z, o, c.x, o, c.rs, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.rv_sub_rs(c.z, o, c.x, o, c.rs, n); });
+		c.op("rs_sub_rv", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.rs_sub_rv(c.z, o, c.rs, c.y, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.rs_sub_rv(c.z, o, c.rs, c.y, o, n); });
+		c.op("rv_sub_rv", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.rv_sub_rv(c.z, o, c.x, o, c.y, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.rv_sub_rv(c.z, o, c.x, o, c.y, o, n); });
+		c.op("cv_sub_rs", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_sub_rs(c.z, o, c.x, o, c.rs, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_sub_rs(c.z, o, c.x, o, c.rs, n); });
+		c.op("rs_sub_cv", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.rs_sub_cv(c.z, o, c.rs, c.y, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.rs_sub_cv(c.z, o, c.rs, c.y, o, n); });
+		c.op("cv_sub_rv", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_sub_rv(c.z, o, c.x, o, c.y, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_sub_rv(c.z, o, c.x, o, c.y, o, n); });
+		c.op("rv_sub_cv", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.rv_sub_cv(c.z, o, c.x, o, c.y, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.rv_sub_cv(c.z, o, c.x, o, c.y, o, n); });
+		c.op("cv_sub_cs", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_sub_cs(c.z, o, c.x, o, c.cs2, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_sub_cs(c.z, o, c.x, o, c.cs2, n); });
+		c.op("cs_sub_cv", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cs_sub_cv(c.z, o, c.cs1, c.y, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cs_sub_cv(c.z, o, c.cs1, c.y, o, n); });
+		c.op("cv_sub_cv", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_sub_cv(c.z, o, c.x, o, c.y, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_sub_cv(c.z, o, c.x, o, c.y, o, n); });
+		c.op("rv_mul_rs_i", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.rv_mul_rs_i(c.z, o, c.rs, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.rv_mul_rs_i(c.z, o, c.rs, n); });
+		c.op("rv_mul_rv_i", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.rv_mul_rv_i(c.z, o, c.x, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.rv_mul_rv_i(c.z, o, c.x, o, n); });
+		c.op("cv_mul_rs_i", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_mul_rs_i(c.z, o, c.rs, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_mul_rs_i(c.z, o, c.rs, n); });
+		c.op("cv_mul_rv_i", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_mul_rv_i(c.z, o, c.x, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_mul_rv_i(c.z, o, c.x, o, n); });
+		c.op("cv_mul_cs_i", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_mul_cs_i(c.z, o, c.cs1, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_mul_cs_i(c.z, o, c.cs1, n); });
+		c.op("cv_mul_cv_i", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_mul_cv_i(c.z, o, c.x, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_mul_cv_i(c.z, o, c.x, o, n); });
+		c.op("rv_mul_rs", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.rv_mul_rs(c.z, o, c.x, o, c.rs, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.rv_mul_rs(c.z, o, c.x, o, c.rs, n); });
+		c.op("rv_mul_rv", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.rv_mul_rv(c.z, o, c.x, o, c.y, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.rv_mul_rv(c.z, o, c.x, o, c.y, o, n); });
+		c.op("cv_mul_rs", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_mul_rs(c.z, o, c.x, o, c.rs, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_mul_rs(c.z, o, c.x, o, c.rs, n); });
+		c.op("cv_mul_rv", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_mul_rv(c.z, o, c.x, o, c.y, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_mul_rv(c.z, o, c.x, o, c.y, o, n); });
+		c.op("cv_mul_cs", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_mul_cs(c.z, o, c.x, o, c.cs2, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_mul_cs(c.z, o, c.x, o, c.cs2, n); });
+		c.op("cv_mul_cv", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_mul_cv(c.z, o, c.x, o, c.y, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_mul_cv(c.z, o, c.x, o, c.y, o, n); });
+		c.op("rv_div_rs_i", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.rv_div_rs_i(c.z, o, c.rs, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.rv_div_rs_i(c.z, o, c.rs, n); });
+		c.op("rv_div_rv_i", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.rv_div_rv_i(c.z, o, c.x, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.rv_div_rv_i(c.z, o, c.x, o, n); });
+		c.op("cv_div_rs_i", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_div_rs_i(c.z, o, c.rs, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_div_rs_i(c.z, o, c.rs, n); });
+		c.op("cv_div_rv_i", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_div_rv_i(c.z, o, c.x, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_div_rv_i(c.z, o, c.x, o, n); });
+		c.op("cv_div_cs_i", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_div_cs_i(c.z, o, c.cs1, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_div_cs_i(c.z, o, c.cs1, n); });
+		c.op("cv_div_cv_i", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_div_cv_i(c.z, o, c.x, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_div_cv_i(c.z, o, c.x, o, n); });
+		c.op("rv_div_rs", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.rv_div_rs(c.z, o, c.x, o, c.rs, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.rv_div_rs(c.z, o, c.x, o, c.rs, n); });
+		c.op("rs_div_rv", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.rs_div_rv(c.z, o, c.rs, c.y, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.rs_div_rv(c.z, o, c.rs, c.y, o, n); });
+		c.op("rv_div_rv", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.rv_div_rv(c.z, o, c.x, o, c.y, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.rv_div_rv(c.z, o, c.x, o, c.y, o, n); });
+		c.op("cv_div_rs", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_div_rs(c.z, o, c.x, o, c.rs, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_div_rs(c.z, o, c.x, o, c.rs, n); });
+		c.op("rs_div_cv", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.rs_div_cv(c.z, o, c.rs, c.y, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.rs_div_cv(c.z, o, c.rs, c.y, o, n); });
+		c.op("cv_div_rv", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_div_rv(c.z, o, c.x, o, c.y, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_div_rv(c.z, o, c.x, o, c.y, o, n); });
+		c.op("rv_div_cv", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.rv_div_cv(c.z, o, c.x, o, c.y, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.rv_div_cv(c.z, o, c.x, o, c.y, o, n); });
+		c.op("cv_div_cs", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_div_cs(c.z, o, c.x, o, c.cs2, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_div_cs(c.z, o, c.x, o, c.cs2, n); });
+		c.op("cs_div_cv", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cs_div_cv(c.z, o, c.cs1, c.y, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cs_div_cv(c.z, o, c.cs1, c.y, o, n); });
+		c.op("cv_div_cv", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_div_cv(c.z, o, c.x, o, c.y, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_div_cv(c.z, o, c.x, o, c.y, o, n); });
+		c.op("rv_conjmul_cv", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.rv_conjmul_cv(c.z, o, c.x, o, c.y, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.rv_conjmul_cv(c.z, o, c.x, o, c.y, o, n); });
+		c.op("cv_conjmul_cv_i", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_conjmul_cv_i(c.z, o, c.x, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_conjmul_cv_i(c.z, o, c.x, o, n); });
+		c.op("cv_conjmul_cv", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_conjmul_cv(c.z, o, c.x, o, c.y, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_conjmul_cv(c.z, o, c.x, o, c.y, o, n); });
+		c.op("cv_conj_i", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_conj_i(c.z, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_conj_i(c.z, o, n); });
+		c.op("cv_conj", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_conj(c.z, o, c.x, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_conj(c.z, o, c.x, o, n); });
+		c.op("rv_expi", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.rv_expi(c.z, o, c.x, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.rv_expi(c.z, o, c.x, o, n); });
+		c.op("rv_exp_i", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.rv_exp_i(c.z, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.rv_exp_i(c.z, o, n); });
+		c.op("cv_exp_i", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_exp_i(c.z, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_exp_i(c.z, o, n); });
+		c.op("rv_exp", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.rv_exp(c.z, o, c.x, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.rv_exp(c.z, o, c.x, o, n); });
+		c.op("cv_exp", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_exp(c.z, o, c.x, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_exp(c.z, o, c.x, o, n); });
+		c.op("cv_im", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_im(c.z, o, c.x, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_im(c.z, o, c.x, o, n); });
+		c.op("cv_re", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_re(c.z, o, c.x, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_re(c.z, o, c.x, o, n); });
+		c.op("cv_abs", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_abs(c.z, o, c.x, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_abs(c.z, o, c.x, o, n); });
+		c.op("cv_arg", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_arg(c.z, o, c.x, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_arg(c.z, o, c.x, o, n); });
+		c.op("cv_arg_f", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_arg_f(c.z, o, c.x, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_arg_f(c.z, o, c.x, o, n); });
+		c.op("cv_argmul_rs", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_argmul_rs(c.z, o, c.x, o, c.rs, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_argmul_rs(c.z, o, c.x, o, c.rs, n); });
+		c.op("cv_argmul_rs_f", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_argmul_rs_f(c.z, o, c.x, o, c.rs, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_argmul_rs_f(c.z, o, c.x, o, c.rs, n); });
+		c.op("rv_abs_i", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.rv_abs_i(c.z, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.rv_abs_i(c.z, o, n); });
+		c.op("rv_abs", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.rv_abs(c.z, o, c.x, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.rv_abs(c.z, o, c.x, o, n); });
+		c.op("rv_cvt", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.rv_cvt(c.z, o, c.x, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.rv_cvt(c.z, o, c.x, o, n); });
+		c.op("cv_r2p_i", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_r2p_i(c.z, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_r2p_i(c.z, o, n); });
+		c.op("cv_r2p_if", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_r2p_if(c.z, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_r2p_if(c.z, o, n); });
+		c.op("cv_r2p", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_r2p(c.z, o, c.x, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_r2p(c.z, o, c.x, o, n); });
+		c.op("cv_r2p_f", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_r2p_f(c.z, o, c.x, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_r2p_f(c.z, o, c.x, o, n); });
+		c.op("cv_p2r_i", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_p2r_i(c.z, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_p2r_i(c.z, o, n); });
+		c.op("cv_p2r", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_p2r(c.z, o, c.x, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_p2r(c.z, o, c.x, o, n); });
+		c.op("rv_sum", (n, calls) -> { for (int o = 0; o < calls * n; o += n) c.sink += VO.rv_sum(c.x, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) c.sink += VOVec.rv_sum(c.x, o, n); });
+		c.op("cv_sum", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_sum(c.csz, c.x, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_sum(c.csz, c.x, o, n); });
+		c.op("rv_dot_rv", (n, calls) -> { for (int o = 0; o < calls * n; o += n) c.sink += VO.rv_dot_rv(c.x, o, c.y, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) c.sink += VOVec.rv_dot_rv(c.x, o, c.y, o, n); });
+		c.op("rv_dot_cv", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.rv_dot_cv(c.csz, c.x, o, c.y, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.rv_dot_cv(c.csz, c.x, o, c.y, o, n); });
+		c.op("cv_dot_cv", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_dot_cv(c.csz, c.x, o, c.y, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_dot_cv(c.csz, c.x, o, c.y, o, n); });
+		c.op("rv_cpy", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.rv_cpy(c.z, o, c.x, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.rv_cpy(c.z, o, c.x, o, n); });
+		c.op("cv_cpy", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_cpy(c.z, o, c.x, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_cpy(c.z, o, c.x, o, n); });
+		c.op("rv_max", (n, calls) -> { for (int o = 0; o < calls * n; o += n) c.sink += VO.rv_max(c.x, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) c.sink += VOVec.rv_max(c.x, o, n); });
+		c.op("rv_max_rv_i", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.rv_max_rv_i(c.z, o, c.x, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.rv_max_rv_i(c.z, o, c.x, o, n); });
+		c.op("rv_max_rv", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.rv_max_rv(c.z, o, c.x, o, c.y, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.rv_max_rv(c.z, o, c.x, o, c.y, o, n); });
+		c.op("cv_max", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_max(c.csz, c.x, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_max(c.csz, c.x, o, n); });
+		c.op("cv_max_cv_i", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_max_cv_i(c.z, o, c.x, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_max_cv_i(c.z, o, c.x, o, n); });
+		c.op("cv_max_cv", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_max_cv(c.z, o, c.x, o, c.y, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_max_cv(c.z, o, c.x, o, c.y, o, n); });
+		c.op("rv_min", (n, calls) -> { for (int o = 0; o < calls * n; o += n) c.sink += VO.rv_min(c.x, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) c.sink += VOVec.rv_min(c.x, o, n); });
+		c.op("rv_min_rv_i", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.rv_min_rv_i(c.z, o, c.x, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.rv_min_rv_i(c.z, o, c.x, o, n); });
+		c.op("rv_min_rv", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.rv_min_rv(c.z, o, c.x, o, c.y, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.rv_min_rv(c.z, o, c.x, o, c.y, o, n); });
+		c.op("cv_min", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_min(c.csz, c.x, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_min(c.csz, c.x, o, n); });
+		c.op("cv_min_cv_i", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_min_cv_i(c.z, o, c.x, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_min_cv_i(c.z, o, c.x, o, n); });
+		c.op("cv_min_cv", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_min_cv(c.z, o, c.x, o, c.y, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_min_cv(c.z, o, c.x, o, c.y, o, n); });
+		c.op("rv_maxarg", (n, calls) -> { for (int o = 0; o < calls * n; o += n) c.sink += VO.rv_maxarg(c.x, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) c.sink += VOVec.rv_maxarg(c.x, o, n); });
+		c.op("cv_maxarg", (n, calls) -> { for (int o = 0; o < calls * n; o += n) c.sink += VO.cv_maxarg(c.x, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) c.sink += VOVec.cv_maxarg(c.x, o, n); });
+		c.op("rv_minarg", (n, calls) -> { for (int o = 0; o < calls * n; o += n) c.sink += VO.rv_minarg(c.x, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) c.sink += VOVec.rv_minarg(c.x, o, n); });
+		c.op("cv_minarg", (n, calls) -> { for (int o = 0; o < calls * n; o += n) c.sink += VO.cv_minarg(c.x, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) c.sink += VOVec.cv_minarg(c.x, o, n); });
+		c.op("rv_rs_lin_rv_rs_i", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.rv_rs_lin_rv_rs_i(c.z, o, c.rs, c.x, o, c.rs, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.rv_rs_lin_rv_rs_i(c.z, o, c.rs, c.x, o, c.rs, n); });
+		c.op("rv_rs_lin_rv_rs", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.rv_rs_lin_rv_rs(c.z, o, c.x, o, c.rs, c.y, o, c.rs, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.rv_rs_lin_rv_rs(c.z, o, c.x, o, c.rs, c.y, o, c.rs, n); });
+		c.op("rv_rs_lin_rv_cs", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.rv_rs_lin_rv_cs(c.z, o, c.x, o, c.rs, c.y, o, c.cs2, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.rv_rs_lin_rv_cs(c.z, o, c.x, o, c.rs, c.y, o, c.cs2, n); });
+		c.op("rv_cs_lin_rv_cs", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.rv_cs_lin_rv_cs(c.z, o, c.x, o, c.cs1, c.y, o, c.cs2, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.rv_cs_lin_rv_cs(c.z, o, c.x, o, c.cs1, c.y, o, c.cs2, n); });
+		c.op("cv_rs_lin_rv_rs_i", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_rs_lin_rv_rs_i(c.z, o, c.rs, c.x, o, c.rs, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_rs_lin_rv_rs_i(c.z, o, c.rs, c.x, o, c.rs, n); });
+		c.op("cv_rs_lin_rv_rs", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_rs_lin_rv_rs(c.z, o, c.x, o, c.rs, c.y, o, c.rs, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_rs_lin_rv_rs(c.z, o, c.x, o, c.rs, c.y, o, c.rs, n); });
+		c.op("cv_cs_lin_rv_rs_i", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_cs_lin_rv_rs_i(c.z, o, c.cs1, c.x, o, c.rs, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_cs_lin_rv_rs_i(c.z, o, c.cs1, c.x, o, c.rs, n); });
+		c.op("cv_cs_lin_rv_rs", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_cs_lin_rv_rs(c.z, o, c.x, o, c.cs1, c.y, o, c.rs, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_cs_lin_rv_rs(c.z, o, c.x, o, c.cs1, c.y, o, c.rs, n); });
+		c.op("cv_rs_lin_rv_cs_i", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_rs_lin_rv_cs_i(c.z, o, c.rs, c.x, o, c.cs2, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_rs_lin_rv_cs_i(c.z, o, c.rs, c.x, o, c.cs2, n); });
+		c.op("cv_rs_lin_rv_cs", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_rs_lin_rv_cs(c.z, o, c.x, o, c.rs, c.y, o, c.cs2, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_rs_lin_rv_cs(c.z, o, c.x, o, c.rs, c.y, o, c.cs2, n); });
+		c.op("cv_cs_lin_rv_cs_i", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_cs_lin_rv_cs_i(c.z, o, c.cs1, c.x, o, c.cs2, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_cs_lin_rv_cs_i(c.z, o, c.cs1, c.x, o, c.cs2, n); });
+		c.op("cv_cs_lin_rv_cs", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_cs_lin_rv_cs(c.z, o, c.x, o, c.cs1, c.y, o, c.cs2, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_cs_lin_rv_cs(c.z, o, c.x, o, c.cs1, c.y, o, c.cs2, n); });
+		c.op("cv_rs_lin_cv_rs_i", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_rs_lin_cv_rs_i(c.z, o, c.rs, c.x, o, c.rs, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_rs_lin_cv_rs_i(c.z, o, c.rs, c.x, o, c.rs, n); });
+		c.op("cv_rs_lin_cv_rs", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_rs_lin_cv_rs(c.z, o, c.x, o, c.rs, c.y, o, c.rs, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_rs_lin_cv_rs(c.z, o, c.x, o, c.rs, c.y, o, c.rs, n); });
+		c.op("cv_cs_lin_cv_rs_i", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_cs_lin_cv_rs_i(c.z, o, c.cs1, c.x, o, c.rs, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_cs_lin_cv_rs_i(c.z, o, c.cs1, c.x, o, c.rs, n); });
+		c.op("cv_cs_lin_cv_rs", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_cs_lin_cv_rs(c.z, o, c.x, o, c.cs1, c.y, o, c.rs, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_cs_lin_cv_rs(c.z, o, c.x, o, c.cs1, c.y, o, c.rs, n); });
+		c.op("cv_cs_lin_cv_cs_i", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_cs_lin_cv_cs_i(c.z, o, c.cs1, c.x, o, c.cs2, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_cs_lin_cv_cs_i(c.z, o, c.cs1, c.x, o, c.cs2, n); });
+		c.op("cv_cs_lin_cv_cs", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_cs_lin_cv_cs(c.z, o, c.x, o, c.cs1, c.y, o, c.cs2, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_cs_lin_cv_cs(c.z, o, c.x, o, c.cs1, c.y, o, c.cs2, n); });
+		c.op("rv_10log10_i", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.rv_10log10_i(c.z, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.rv_10log10_i(c.z, o, n); });
+		c.op("rv_10log10", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.rv_10log10(c.z, o, c.x, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.rv_10log10(c.z, o, c.x, o, n); });
+		c.op("rv_10log10_rs_i", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.rv_10log10_rs_i(c.z, o, c.rs, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.rv_10log10_rs_i(c.z, o, c.rs, n); });
+		c.op("rv_10log10_rs", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.rv_10log10_rs(c.z, o, c.x, o, c.rs, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.rv_10log10_rs(c.z, o, c.x, o, c.rs, n); });
+		c.op("cv_10log10", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_10log10(c.z, o, c.x, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_10log10(c.z, o, c.x, o, n); });
+		c.op("cv_10log10_rs", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_10log10_rs(c.z, o, c.x, o, c.rs, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_10log10_rs(c.z, o, c.x, o, c.rs, n); });
+		c.op("rv_20log10_i", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.rv_20log10_i(c.z, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.rv_20log10_i(c.z, o, n); });
+		c.op("rv_20log10", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.rv_20log10(c.z, o, c.x, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.rv_20log10(c.z, o, c.x, o, n); });
+		c.op("rv_20log10_rs_i", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.rv_20log10_rs_i(c.z, o, c.rs, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.rv_20log10_rs_i(c.z, o, c.rs, n); });
+		c.op("rv_20log10_rs", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.rv_20log10_rs(c.z, o, c.x, o, c.rs, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.rv_20log10_rs(c.z, o, c.x, o, c.rs, n); });
+		c.op("cv_20log10", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_20log10(c.z, o, c.x, o, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_20log10(c.z, o, c.x, o, n); });
+		c.op("cv_20log10_rs", (n, calls) -> { for (int o = 0; o < calls * n; o += n) VO.cv_20log10_rs(c.z, o, c.x, o, c.rs, n); }, (n, calls) -> { for (int o = 0; o < calls * n; o += n) VOVec.cv_20log10_rs(c.z, o, c.x, o, c.rs, n); });
+	}
+}
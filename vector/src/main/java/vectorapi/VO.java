@@ -91,6 +91,7 @@ public final class VO {
 
 	public static void cv_add_rv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
 		zOffset = preWrap(zOffset << 1, z.length);
+		xOffset = preWrap(xOffset, x.length);
 		while (count-- > 0) {
 			z[zOffset + 0] += x[xOffset];
 			zOffset += 2;
@@ -0,0 +1,582 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi;
+
+import jdk.incubator.vector.*;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Subset of {@link VOVec} operations on off-heap data: vectors are {@link ByteBuffer}s instead of
+ * {@code float[]} arrays, so buffers of capture devices, memory-mapped files or native libraries
+ * (for example FFTW buffers, see {@code foreign} sub-project) are processed in place, without copy
+ * to heap and back.
+ *
+ * Naming and arguments are same as in {@link VO}, and offsets and counts are in real or complex numbers,
+ * not in bytes. Buffers must be in native byte order ({@code bb.order(ByteOrder.nativeOrder())}), as
+ * vectors are loaded and stored in native order. Direct buffers are best, but heap buffers work too.
+ * Positions and limits of buffers are neither used nor changed, all accesses are absolute.
+ *
+ * Unlike arrays, direct buffers don't move, so kernels process several first elements with scalar
+ * code till vectors of output (or input for reductions) become aligned to vector size, and then
+ * main loop doesn't split vectors between cache lines. Use {@link VAlign#allocate(int)} to get buffers
+ * aligned to cache line. Prologue could be disabled with {@value #PEEL_PROPERTY} system property
+ * set to {@code false}, to measure its effect.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration
+ */
+@SuppressWarnings({"PointlessArithmeticExpression", "UnusedDeclaration"})
+public final class VOBuffer {
+	private final static VectorSpecies<Float> PFS = VSpecies.FLOAT;
+	private final static int EPV = PFS.length();
+	private final static int EPV2 = EPV / 2;
+	// Sizes of vector and of two vectors in bytes
+	private final static int BPV = EPV * Float.BYTES;
+	private final static int BPVx2 = BPV * 2;
+
+	public static final String PEEL_PROPERTY = "vectorapi.VOBuffer.peel";
+	private final static boolean PEEL = Boolean.parseBoolean(System.getProperty(PEEL_PROPERTY, "true"));
+
+	private final static VectorShuffle<Float> SHUFFLE_CV_SPREAD_RE = VectorShuffle.shuffle(PFS, i -> i - i % 2);
+	private final static VectorShuffle<Float> SHUFFLE_CV_SPREAD_IM = VectorShuffle.shuffle(PFS, i -> i - i % 2 + 1);
+	private final static VectorShuffle<Float> SHUFFLE_CV_SWAP_RE_IM = VectorShuffle.shuffle(PFS, i -> (i % 2 == 0) ? i + 1 : i - 1);
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_PACK_RE_FIRST = VectorShuffle.shuffle(PFS, i -> (i < EPV2) ? i * 2 : 0);
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_PACK_IM_FIRST = VectorShuffle.shuffle(PFS, i -> (i < EPV2) ? i * 2 + 1 : 0);
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_PACK_RE_SECOND = VectorShuffle.shuffle(PFS, i -> (i >= EPV2) ? i * 2 - EPV : 0);
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_PACK_IM_SECOND = VectorShuffle.shuffle(PFS, i -> (i >= EPV2) ? i * 2 - EPV + 1 : 0);
+	// [r0, r1, ...] -> [(r0, r0), (r1, r1), ...] and same for second half of vector
+	private final static VectorShuffle<Float> SHUFFLE_RV_TO_CV_BOTH_LOW = VectorShuffle.shuffle(PFS, i -> i / 2);
+	private final static VectorShuffle<Float> SHUFFLE_RV_TO_CV_BOTH_HIGH = VectorShuffle.shuffle(PFS, i -> i / 2 + EPV2);
+	private final static VectorMask<Float> MASK_C_RE;
+	private final static VectorMask<Float> MASK_C_IM;
+	private final static VectorMask<Float> MASK_SECOND_HALF;
+
+	static {
+		final boolean re[] = new boolean[EPV];
+		final boolean im[] = new boolean[EPV];
+		final boolean secondhalf[] = new boolean[EPV];
+		for (int i = 0; i < EPV; i++) {
+			re[i] = i % 2 == 0;
+			im[i] = i % 2 == 1;
+			secondhalf[i] = i >= EPV2;
+		}
+		MASK_C_RE = VectorMask.fromArray(PFS, re, 0);
+		MASK_C_IM = VectorMask.fromArray(PFS, im, 0);
+		MASK_SECOND_HALF = VectorMask.fromArray(PFS, secondhalf, 0);
+	}
+
+	public static void rv_add_rv(ByteBuffer z, int zOffset, ByteBuffer x, int xOffset, ByteBuffer y, int yOffset, int count) {
+		// Offsets are in bytes from here
+		zOffset <<= 2;
+		xOffset <<= 2;
+		yOffset <<= 2;
+
+		// Scalar prologue, so main loop loads or stores vectors of aligned off-heap data
+		int head = head(z, zOffset, 4, count);
+		count -= head;
+		while (head-- > 0) {
+			z.putFloat(zOffset, x.getFloat(xOffset) + y.getFloat(yOffset));
+			xOffset += 4;
+			yOffset += 4;
+			zOffset += 4;
+		}
+
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromByteBuffer(PFS, x, xOffset);
+			final FloatVector vy = FloatVector.fromByteBuffer(PFS, y, yOffset);
+			vx.add(vy).intoByteBuffer(z, zOffset);
+
+			xOffset += BPV;
+			yOffset += BPV;
+			zOffset += BPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z.putFloat(zOffset, x.getFloat(xOffset) + y.getFloat(yOffset));
+			xOffset += 4;
+			yOffset += 4;
+			zOffset += 4;
+		}
+	}
+
+	public static void rv_add_rv_i(ByteBuffer z, int zOffset, ByteBuffer x, int xOffset, int count) {
+		rv_add_rv(z, zOffset, z, zOffset, x, xOffset, count);
+	}
+
+	public static void rv_sub_rv(ByteBuffer z, int zOffset, ByteBuffer x, int xOffset, ByteBuffer y, int yOffset, int count) {
+		zOffset <<= 2;
+		xOffset <<= 2;
+		yOffset <<= 2;
+
+		int head = head(z, zOffset, 4, count);
+		count -= head;
+		while (head-- > 0) {
+			z.putFloat(zOffset, x.getFloat(xOffset) - y.getFloat(yOffset));
+			xOffset += 4;
+			yOffset += 4;
+			zOffset += 4;
+		}
+
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromByteBuffer(PFS, x, xOffset);
+			final FloatVector vy = FloatVector.fromByteBuffer(PFS, y, yOffset);
+			vx.sub(vy).intoByteBuffer(z, zOffset);
+
+			xOffset += BPV;
+			yOffset += BPV;
+			zOffset += BPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z.putFloat(zOffset, x.getFloat(xOffset) - y.getFloat(yOffset));
+			xOffset += 4;
+			yOffset += 4;
+			zOffset += 4;
+		}
+	}
+
+	public static void rv_sub_rv_i(ByteBuffer z, int zOffset, ByteBuffer x, int xOffset, int count) {
+		rv_sub_rv(z, zOffset, z, zOffset, x, xOffset, count);
+	}
+
+	public static void rv_mul_rv(ByteBuffer z, int zOffset, ByteBuffer x, int xOffset, ByteBuffer y, int yOffset, int count) {
+		zOffset <<= 2;
+		xOffset <<= 2;
+		yOffset <<= 2;
+
+		int head = head(z, zOffset, 4, count);
+		count -= head;
+		while (head-- > 0) {
+			z.putFloat(zOffset, x.getFloat(xOffset) * y.getFloat(yOffset));
+			xOffset += 4;
+			yOffset += 4;
+			zOffset += 4;
+		}
+
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromByteBuffer(PFS, x, xOffset);
+			final FloatVector vy = FloatVector.fromByteBuffer(PFS, y, yOffset);
+			vx.mul(vy).intoByteBuffer(z, zOffset);
+
+			xOffset += BPV;
+			yOffset += BPV;
+			zOffset += BPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z.putFloat(zOffset, x.getFloat(xOffset) * y.getFloat(yOffset));
+			xOffset += 4;
+			yOffset += 4;
+			zOffset += 4;
+		}
+	}
+
+	public static void rv_mul_rv_i(ByteBuffer z, int zOffset, ByteBuffer x, int xOffset, int count) {
+		rv_mul_rv(z, zOffset, z, zOffset, x, xOffset, count);
+	}
+
+	public static void rv_mul_rs(ByteBuffer z, int zOffset, ByteBuffer x, int xOffset, float y, int count) {
+		zOffset <<= 2;
+		xOffset <<= 2;
+
+		int head = head(z, zOffset, 4, count);
+		count -= head;
+		while (head-- > 0) {
+			z.putFloat(zOffset, x.getFloat(xOffset) * y);
+			xOffset += 4;
+			zOffset += 4;
+		}
+
+		while (count >= EPV) {
+			FloatVector.fromByteBuffer(PFS, x, xOffset).mul(y).intoByteBuffer(z, zOffset);
+
+			xOffset += BPV;
+			zOffset += BPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z.putFloat(zOffset, x.getFloat(xOffset) * y);
+			xOffset += 4;
+			zOffset += 4;
+		}
+	}
+
+	public static void rv_mul_rs_i(ByteBuffer z, int zOffset, float x, int count) {
+		rv_mul_rs(z, zOffset, z, zOffset, x, count);
+	}
+
+	public static float rv_sum(ByteBuffer x, int xOffset, int count) {
+		FloatVector vsum1 = FloatVector.zero(PFS);
+		FloatVector vsum2 = FloatVector.zero(PFS);
+		float sum = 0.0f;
+		xOffset <<= 2;
+
+		int head = head(x, xOffset, 4, count);
+		count -= head;
+		while (head-- > 0) {
+			sum += x.getFloat(xOffset);
+			xOffset += 4;
+		}
+
+		while (count >= EPV * 2) {
+			vsum1 = vsum1.add(FloatVector.fromByteBuffer(PFS, x, xOffset));
+			vsum2 = vsum2.add(FloatVector.fromByteBuffer(PFS, x, xOffset + BPV));
+
+			xOffset += BPVx2;
+			count -= EPV * 2;
+		}
+
+		sum += vsum1.add(vsum2).addLanes();
+		while (count-- > 0) {
+			sum += x.getFloat(xOffset);
+			xOffset += 4;
+		}
+		return sum;
+	}
+
+	public static float rv_dot_rv(ByteBuffer x, int xOffset, ByteBuffer y, int yOffset, int count) {
+		FloatVector vsum1 = FloatVector.zero(PFS);
+		FloatVector vsum2 = FloatVector.zero(PFS);
+		float sum = 0.0f;
+		xOffset <<= 2;
+		yOffset <<= 2;
+
+		int head = head(x, xOffset, 4, count);
+		count -= head;
+		while (head-- > 0) {
+			sum += x.getFloat(xOffset) * y.getFloat(yOffset);
+			xOffset += 4;
+			yOffset += 4;
+		}
+
+		while (count >= EPV * 2) {
+			vsum1 = FloatVector.fromByteBuffer(PFS, x, xOffset).fma(FloatVector.fromByteBuffer(PFS, y, yOffset), vsum1);
+			vsum2 = FloatVector.fromByteBuffer(PFS, x, xOffset + BPV).fma(FloatVector.fromByteBuffer(PFS, y, yOffset + BPV), vsum2);
+
+			xOffset += BPVx2;
+			yOffset += BPVx2;
+			count -= EPV * 2;
+		}
+
+		sum += vsum1.add(vsum2).addLanes();
+		while (count-- > 0) {
+			sum += x.getFloat(xOffset) * y.getFloat(yOffset);
+			xOffset += 4;
+			yOffset += 4;
+		}
+		return sum;
+	}
+
+	public static void cv_mul_cv(ByteBuffer z, int zOffset, ByteBuffer x, int xOffset, ByteBuffer y, int yOffset, int count) {
+		// Offsets are in bytes from here, 8 bytes per complex number
+		zOffset <<= 3;
+		xOffset <<= 3;
+		yOffset <<= 3;
+
+		int head = head(z, zOffset, 8, count);
+		count -= head;
+		while (head-- > 0) {
+			final float xre = x.getFloat(xOffset);
+			final float xim = x.getFloat(xOffset + 4);
+			final float yre = y.getFloat(yOffset);
+			final float yim = y.getFloat(yOffset + 4);
+			z.putFloat(zOffset, xre * yre - xim * yim);
+			z.putFloat(zOffset + 4, xre * yim + xim * yre);
+			xOffset += 8;
+			yOffset += 8;
+			zOffset += 8;
+		}
+
+		while (count >= EPV2) {
+			final FloatVector vy = FloatVector.fromByteBuffer(PFS, y, yOffset);
+			final FloatVector vx = FloatVector.fromByteBuffer(PFS, x, xOffset);
+
+			// Same as VOVec.cv_mul_cv(): x * y.re +/- swap(x * y.im)
+			final FloatVector vmulyre = vx.mul(vy.rearrange(SHUFFLE_CV_SPREAD_RE));
+			final FloatVector vmulximswap = vx.mul(vy.rearrange(SHUFFLE_CV_SPREAD_IM)).rearrange(SHUFFLE_CV_SWAP_RE_IM);
+			vmulyre.sub(vmulximswap).blend(vmulyre.add(vmulximswap), MASK_C_IM).intoByteBuffer(z, zOffset);
+
+			xOffset += BPV;
+			yOffset += BPV;
+			zOffset += BPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			final float xre = x.getFloat(xOffset);
+			final float xim = x.getFloat(xOffset + 4);
+			final float yre = y.getFloat(yOffset);
+			final float yim = y.getFloat(yOffset + 4);
+			z.putFloat(zOffset, xre * yre - xim * yim);
+			z.putFloat(zOffset + 4, xre * yim + xim * yre);
+			xOffset += 8;
+			yOffset += 8;
+			zOffset += 8;
+		}
+	}
+
+	public static void cv_mul_cv_i(ByteBuffer z, int zOffset, ByteBuffer x, int xOffset, int count) {
+		cv_mul_cv(z, zOffset, z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_conjmul_cv(ByteBuffer z, int zOffset, ByteBuffer x, int xOffset, ByteBuffer y, int yOffset, int count) {
+		zOffset <<= 3;
+		xOffset <<= 3;
+		yOffset <<= 3;
+
+		int head = head(z, zOffset, 8, count);
+		count -= head;
+		while (head-- > 0) {
+			final float xre = x.getFloat(xOffset);
+			final float xim = x.getFloat(xOffset + 4);
+			final float yre = y.getFloat(yOffset);
+			final float yim = y.getFloat(yOffset + 4);
+			z.putFloat(zOffset, xre * yre + xim * yim);
+			z.putFloat(zOffset + 4, xim * yre - xre * yim);
+			xOffset += 8;
+			yOffset += 8;
+			zOffset += 8;
+		}
+
+		while (count >= EPV2) {
+			final FloatVector vy = FloatVector.fromByteBuffer(PFS, y, yOffset);
+			final FloatVector vx = FloatVector.fromByteBuffer(PFS, x, xOffset);
+
+			// x * conj(y) = x * y.re -/+ swap(x * y.im)
+			final FloatVector vmulyre = vx.mul(vy.rearrange(SHUFFLE_CV_SPREAD_RE));
+			final FloatVector vmulximswap = vx.mul(vy.rearrange(SHUFFLE_CV_SPREAD_IM)).rearrange(SHUFFLE_CV_SWAP_RE_IM);
+			vmulyre.add(vmulximswap).blend(vmulyre.sub(vmulximswap), MASK_C_IM).intoByteBuffer(z, zOffset);
+
+			xOffset += BPV;
+			yOffset += BPV;
+			zOffset += BPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			final float xre = x.getFloat(xOffset);
+			final float xim = x.getFloat(xOffset + 4);
+			final float yre = y.getFloat(yOffset);
+			final float yim = y.getFloat(yOffset + 4);
+			z.putFloat(zOffset, xre * yre + xim * yim);
+			z.putFloat(zOffset + 4, xim * yre - xre * yim);
+			xOffset += 8;
+			yOffset += 8;
+			zOffset += 8;
+		}
+	}
+
+	public static void cv_conjmul_cv_i(ByteBuffer z, int zOffset, ByteBuffer x, int xOffset, int count) {
+		cv_conjmul_cv(z, zOffset, z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_mul_rv(ByteBuffer z, int zOffset, ByteBuffer x, int xOffset, ByteBuffer y, int yOffset, int count) {
+		zOffset <<= 3;
+		xOffset <<= 3;
+		yOffset <<= 2;
+
+		int head = head(z, zOffset, 8, count);
+		count -= head;
+		while (head-- > 0) {
+			final float k = y.getFloat(yOffset);
+			z.putFloat(zOffset, x.getFloat(xOffset) * k);
+			z.putFloat(zOffset + 4, x.getFloat(xOffset + 4) * k);
+			xOffset += 8;
+			yOffset += 4;
+			zOffset += 8;
+		}
+
+		while (count >= EPV) {
+			// Whole vector of reals is needed for two vectors of complex numbers, as partial loads
+			// could read past end of buffer
+			final FloatVector vy = FloatVector.fromByteBuffer(PFS, y, yOffset);
+			FloatVector.fromByteBuffer(PFS, x, xOffset).mul(vy.rearrange(SHUFFLE_RV_TO_CV_BOTH_LOW)).intoByteBuffer(z, zOffset);
+			FloatVector.fromByteBuffer(PFS, x, xOffset + BPV).mul(vy.rearrange(SHUFFLE_RV_TO_CV_BOTH_HIGH)).intoByteBuffer(z, zOffset + BPV);
+
+			xOffset += BPVx2;
+			yOffset += BPV;
+			zOffset += BPVx2;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			final float k = y.getFloat(yOffset);
+			z.putFloat(zOffset, x.getFloat(xOffset) * k);
+			z.putFloat(zOffset + 4, x.getFloat(xOffset + 4) * k);
+			xOffset += 8;
+			yOffset += 4;
+			zOffset += 8;
+		}
+	}
+
+	public static void cv_mul_rv_i(ByteBuffer z, int zOffset, ByteBuffer x, int xOffset, int count) {
+		cv_mul_rv(z, zOffset, z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_abs(ByteBuffer z, int zOffset, ByteBuffer x, int xOffset, int count) {
+		zOffset <<= 2;
+		xOffset <<= 3;
+
+		int head = head(x, xOffset, 8, count);
+		count -= head;
+		while (head-- > 0) {
+			final float re = x.getFloat(xOffset);
+			final float im = x.getFloat(xOffset + 4);
+			z.putFloat(zOffset, (float)Math.sqrt(re * re + im * im));
+			xOffset += 8;
+			zOffset += 4;
+		}
+
+		while (count >= EPV) {
+			final FloatVector vx1 = FloatVector.fromByteBuffer(PFS, x, xOffset);
+			final FloatVector vx2 = FloatVector.fromByteBuffer(PFS, x, xOffset + BPV);
+			final FloatVector vxre = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST).blend(vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND), MASK_SECOND_HALF);
+			final FloatVector vxim = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST).blend(vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND), MASK_SECOND_HALF);
+			vxre.fma(vxre, vxim.mul(vxim)).sqrt().intoByteBuffer(z, zOffset);
+
+			xOffset += BPVx2;
+			zOffset += BPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			final float re = x.getFloat(xOffset);
+			final float im = x.getFloat(xOffset + 4);
+			z.putFloat(zOffset, (float)Math.sqrt(re * re + im * im));
+			xOffset += 8;
+			zOffset += 4;
+		}
+	}
+
+	public static void cv_10log10(ByteBuffer z, int zOffset, ByteBuffer x, int xOffset, int count) {
+		zOffset <<= 2;
+		xOffset <<= 3;
+
+		int head = head(x, xOffset, 8, count);
+		count -= head;
+		while (head-- > 0) {
+			final float re = x.getFloat(xOffset);
+			final float im = x.getFloat(xOffset + 4);
+			z.putFloat(zOffset, 5 * (float)Math.log10(re * re + im * im + Float.MIN_NORMAL));
+			xOffset += 8;
+			zOffset += 4;
+		}
+
+		while (count >= EPV) {
+			final FloatVector vx1 = FloatVector.fromByteBuffer(PFS, x, xOffset);
+			final FloatVector vx2 = FloatVector.fromByteBuffer(PFS, x, xOffset + BPV);
+			final FloatVector vxre = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST).blend(vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND), MASK_SECOND_HALF);
+			final FloatVector vxim = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST).blend(vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND), MASK_SECOND_HALF);
+			// 10 * log10(|x|) = 5 * log10(|x|^2)
+			vxre.fma(vxre, vxim.mul(vxim)).log10().mul(5.0f).intoByteBuffer(z, zOffset);
+
+			xOffset += BPVx2;
+			zOffset += BPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			final float re = x.getFloat(xOffset);
+			final float im = x.getFloat(xOffset + 4);
+			z.putFloat(zOffset, 5 * (float)Math.log10(re * re + im * im + Float.MIN_NORMAL));
+			xOffset += 8;
+			zOffset += 4;
+		}
+	}
+
+	public static void cv_dot_cv(float z[], ByteBuffer x, int xOffset, ByteBuffer y, int yOffset, int count) {
+		cv_dot_cv(z, 0, x, xOffset, y, yOffset, count);
+	}
+
+	public static void cv_dot_cv(float z[], int zOffset, ByteBuffer x, int xOffset, ByteBuffer y, int yOffset, int count) {
+		// As in VOVec: sum(x * y) = sum(x * y.re) -/+ swap(sum(x * y.im))
+		FloatVector vmulyre = FloatVector.zero(PFS);
+		FloatVector vmulyim = FloatVector.zero(PFS);
+		float re = 0.0f;
+		float im = 0.0f;
+		xOffset <<= 3;
+		yOffset <<= 3;
+
+		int head = head(x, xOffset, 8, count);
+		count -= head;
+		while (head-- > 0) {
+			final float xre = x.getFloat(xOffset);
+			final float xim = x.getFloat(xOffset + 4);
+			final float yre = y.getFloat(yOffset);
+			final float yim = y.getFloat(yOffset + 4);
+			re += xre * yre - xim * yim;
+			im += xre * yim + xim * yre;
+			xOffset += 8;
+			yOffset += 8;
+		}
+
+		while (count >= EPV2) {
+			final FloatVector vy = FloatVector.fromByteBuffer(PFS, y, yOffset);
+			final FloatVector vx = FloatVector.fromByteBuffer(PFS, x, xOffset);
+			vmulyre = vx.fma(vy.rearrange(SHUFFLE_CV_SPREAD_RE), vmulyre);
+			vmulyim = vx.fma(vy.rearrange(SHUFFLE_CV_SPREAD_IM), vmulyim);
+
+			xOffset += BPV;
+			yOffset += BPV;
+			count -= EPV2;
+		}
+
+		final FloatVector vswap = vmulyim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+		re += vmulyre.sub(vswap).addLanes(MASK_C_RE);
+		im += vmulyre.add(vswap).addLanes(MASK_C_IM);
+		while (count-- > 0) {
+			final float xre = x.getFloat(xOffset);
+			final float xim = x.getFloat(xOffset + 4);
+			final float yre = y.getFloat(yOffset);
+			final float yim = y.getFloat(yOffset + 4);
+			re += xre * yre - xim * yim;
+			im += xre * yim + xim * yre;
+			xOffset += 8;
+			yOffset += 8;
+		}
+		z[(zOffset << 1) + 0] = re;
+		z[(zOffset << 1) + 1] = im;
+	}
+
+	// Number of elements of given size in bytes, which must be processed before offset in bytes in buffer
+	// becomes aligned to vector size. It is zero for heap buffers, as arrays could be moved by GC,
+	// and when offset could not be aligned by whole elements.
+	private static int head(ByteBuffer x, int xOffset, int unit, int count) {
+		if (!PEEL || !x.isDirect())
+			return 0;
+		final int misalignment = x.alignmentOffset(xOffset, BPV);
+		if (misalignment == 0 || misalignment % unit != 0)
+			return 0;
+		return Math.min(count, (BPV - misalignment) / unit);
+	}
+}
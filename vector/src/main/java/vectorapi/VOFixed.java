@@ -0,0 +1,244 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi;
+
+import jdk.incubator.vector.*;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Conversions between fixed-point samples of receivers and transmitters and {@code rv}/{@code cv} vectors.
+ *
+ * Input samples are signed 16-bit ({@code i16}) or 8-bit ({@code i8}) integers, complex ones are
+ * interleaved I/Q pairs, like {@code cv}. They could be passed as {@code short[]}/{@code byte[]}
+ * arrays or as {@link ByteBuffer}s in native byte order (see {@link VOBuffer}), offsets and counts
+ * are in samples (complex samples for {@code cv}) in both cases. Each sample is converted as
+ * {@code (x - dc) * scale}, where {@code dc} is DC offset of receiver in input units, real or
+ * complex one.
+ *
+ * Output to 16-bit samples is {@code x * scale}, rounded half away from zero and saturated to
+ * {@code [-32768, 32767]}.
+ *
+ * Lanes are converted with {@code cast()}, so vectors of samples have same number of lanes as
+ * vectors of {@code float}s. There are no 32-bit vectors of bytes, so {@code i8} kernels use
+ * scalar code when {@link VOVec} uses 128-bit vectors.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration
+ */
+@SuppressWarnings({"PointlessArithmeticExpression", "UnusedDeclaration"})
+public final class VOFixed {
+	private final static VectorSpecies<Float> PFS = VSpecies.FLOAT;
+	private final static int EPV = PFS.length();
+	// Same lanes count as PFS
+	private final static VectorSpecies<Short> SS = VectorSpecies.of(Short.TYPE, VectorShape.forBitSize(PFS.bitSize() / 2));
+	private final static VectorSpecies<Integer> IS = VectorSpecies.of(Integer.TYPE, PFS.shape());
+	private final static VectorSpecies<Byte> BS = PFS.bitSize() >= 256 ? VectorSpecies.of(Byte.TYPE, VectorShape.forBitSize(PFS.bitSize() / 4)) : null;
+	private final static boolean BYTES = BS != null;
+	private final static VectorMask<Float> MASK_C_IM;
+
+	static {
+		final boolean im[] = new boolean[EPV];
+		for (int i = 0; i < EPV; i++)
+			im[i] = i % 2 == 1;
+		MASK_C_IM = VectorMask.fromArray(PFS, im, 0);
+	}
+
+	public static void i16_to_rv(float z[], int zOffset, short x[], int xOffset, float scale, float dc, int count) {
+		i16_to_fv(z, zOffset, x, xOffset, scale, -dc * scale, -dc * scale, count);
+	}
+
+	public static void i16_to_cv(float z[], int zOffset, short x[], int xOffset, float scale, float dc[], int count) {
+		i16_to_fv(z, zOffset << 1, x, xOffset << 1, scale, -dc[0] * scale, -dc[1] * scale, count << 1);
+	}
+
+	public static void i16_to_rv(float z[], int zOffset, ByteBuffer x, int xOffset, float scale, float dc, int count) {
+		i16_to_fv(z, zOffset, x, xOffset, scale, -dc * scale, -dc * scale, count);
+	}
+
+	public static void i16_to_cv(float z[], int zOffset, ByteBuffer x, int xOffset, float scale, float dc[], int count) {
+		i16_to_fv(z, zOffset << 1, x, xOffset << 1, scale, -dc[0] * scale, -dc[1] * scale, count << 1);
+	}
+
+	public static void i8_to_rv(float z[], int zOffset, byte x[], int xOffset, float scale, float dc, int count) {
+		i8_to_fv(z, zOffset, x, xOffset, scale, -dc * scale, -dc * scale, count);
+	}
+
+	public static void i8_to_cv(float z[], int zOffset, byte x[], int xOffset, float scale, float dc[], int count) {
+		i8_to_fv(z, zOffset << 1, x, xOffset << 1, scale, -dc[0] * scale, -dc[1] * scale, count << 1);
+	}
+
+	public static void i8_to_rv(float z[], int zOffset, ByteBuffer x, int xOffset, float scale, float dc, int count) {
+		i8_to_fv(z, zOffset, x, xOffset, scale, -dc * scale, -dc * scale, count);
+	}
+
+	public static void i8_to_cv(float z[], int zOffset, ByteBuffer x, int xOffset, float scale, float dc[], int count) {
+		i8_to_fv(z, zOffset << 1, x, xOffset << 1, scale, -dc[0] * scale, -dc[1] * scale, count << 1);
+	}
+
+	public static void rv_to_i16(short z[], int zOffset, float x[], int xOffset, float scale, int count) {
+		fv_to_i16(z, zOffset, x, xOffset, scale, count);
+	}
+
+	public static void cv_to_i16(short z[], int zOffset, float x[], int xOffset, float scale, int count) {
+		fv_to_i16(z, zOffset << 1, x, xOffset << 1, scale, count << 1);
+	}
+
+	public static void rv_to_i16(ByteBuffer z, int zOffset, float x[], int xOffset, float scale, int count) {
+		fv_to_i16(z, zOffset, x, xOffset, scale, count);
+	}
+
+	public static void cv_to_i16(ByteBuffer z, int zOffset, float x[], int xOffset, float scale, int count) {
+		fv_to_i16(z, zOffset << 1, x, xOffset << 1, scale, count << 1);
+	}
+
+	// Here and below offsets and count are in floats, and complex vectors start at even offsets,
+	// so offsets of real and imaginary parts alternate in each vector and in tail
+	private static void i16_to_fv(float z[], int zOffset, short x[], int xOffset, float scale, float offRe, float offIm, int count) {
+		final FloatVector vscale = FloatVector.broadcast(PFS, scale);
+		final FloatVector voff = FloatVector.broadcast(PFS, offRe).blend(FloatVector.broadcast(PFS, offIm), MASK_C_IM);
+
+		while (count >= EPV) {
+			final FloatVector vx = (FloatVector)ShortVector.fromArray(SS, x, xOffset).cast(PFS);
+			vx.fma(vscale, voff).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		for (int i = 0; i < count; i++)
+			z[zOffset + i] = x[xOffset + i] * scale + ((i & 1) == 0 ? offRe : offIm);
+	}
+
+	private static void i16_to_fv(float z[], int zOffset, ByteBuffer x, int xOffset, float scale, float offRe, float offIm, int count) {
+		final FloatVector vscale = FloatVector.broadcast(PFS, scale);
+		final FloatVector voff = FloatVector.broadcast(PFS, offRe).blend(FloatVector.broadcast(PFS, offIm), MASK_C_IM);
+		// Offset is in bytes from here
+		xOffset <<= 1;
+
+		while (count >= EPV) {
+			final FloatVector vx = (FloatVector)ShortVector.fromByteBuffer(SS, x, xOffset).cast(PFS);
+			vx.fma(vscale, voff).intoArray(z, zOffset);
+
+			xOffset += EPV * Short.BYTES;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		for (int i = 0; i < count; i++)
+			z[zOffset + i] = x.getShort(xOffset + i * Short.BYTES) * scale + ((i & 1) == 0 ? offRe : offIm);
+	}
+
+	private static void i8_to_fv(float z[], int zOffset, byte x[], int xOffset, float scale, float offRe, float offIm, int count) {
+		final FloatVector vscale = FloatVector.broadcast(PFS, scale);
+		final FloatVector voff = FloatVector.broadcast(PFS, offRe).blend(FloatVector.broadcast(PFS, offIm), MASK_C_IM);
+
+		while (BYTES && count >= EPV) {
+			final FloatVector vx = (FloatVector)ByteVector.fromArray(BS, x, xOffset).cast(PFS);
+			vx.fma(vscale, voff).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		for (int i = 0; i < count; i++)
+			z[zOffset + i] = x[xOffset + i] * scale + ((i & 1) == 0 ? offRe : offIm);
+	}
+
+	private static void i8_to_fv(float z[], int zOffset, ByteBuffer x, int xOffset, float scale, float offRe, float offIm, int count) {
+		final FloatVector vscale = FloatVector.broadcast(PFS, scale);
+		final FloatVector voff = FloatVector.broadcast(PFS, offRe).blend(FloatVector.broadcast(PFS, offIm), MASK_C_IM);
+
+		while (BYTES && count >= EPV) {
+			final FloatVector vx = (FloatVector)ByteVector.fromByteBuffer(BS, x, xOffset).cast(PFS);
+			vx.fma(vscale, voff).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		for (int i = 0; i < count; i++)
+			z[zOffset + i] = x.get(xOffset + i) * scale + ((i & 1) == 0 ? offRe : offIm);
+	}
+
+	private static void fv_to_i16(short z[], int zOffset, float x[], int xOffset, float scale, int count) {
+		final FloatVector vscale = FloatVector.broadcast(PFS, scale);
+
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			((ShortVector)round(vx.mul(vscale)).cast(SS)).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z[zOffset++] = round(x[xOffset++] * scale);
+	}
+
+	private static void fv_to_i16(ByteBuffer z, int zOffset, float x[], int xOffset, float scale, int count) {
+		final FloatVector vscale = FloatVector.broadcast(PFS, scale);
+		// Offset is in bytes from here
+		zOffset <<= 1;
+
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			((ShortVector)round(vx.mul(vscale)).cast(SS)).intoByteBuffer(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV * Short.BYTES;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z.putShort(zOffset, round(x[xOffset++] * scale));
+			zOffset += Short.BYTES;
+		}
+	}
+
+	// Saturates and rounds half away from zero as trunc(x) + sign(x) when |x - trunc(x)| >= 0.5,
+	// x + 0.5 is not exact: 0.49999997f + 0.5f is rounded to 1.0f
+	private static FloatVector round(FloatVector x) {
+		final FloatVector vx = x.max(Short.MIN_VALUE).min(Short.MAX_VALUE);
+		// cast() to int truncates fraction, and both casts are exact in range of short
+		final FloatVector vt = (FloatVector)vx.cast(IS).cast(PFS);
+		final FloatVector vone = FloatVector.broadcast(PFS, 1.0f);
+		final FloatVector vsign = vone.blend(vone.neg(), vx.lessThan(0.0f));
+		return vt.add(FloatVector.zero(PFS).blend(vsign, vx.sub(vt).abs().greaterThanEq(0.5f)));
+	}
+
+	private static short round(float x) {
+		x = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, x));
+		final int t = (int)x;
+		return (short)(Math.abs(x - t) >= 0.5f ? (x < 0.0f ? t - 1 : t + 1) : t);
+	}
+}
@@ -0,0 +1,459 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi;
+
+import jdk.incubator.vector.*;
+
+/**
+ * Complex vectors in planar layout ({@code pv}): real and imaginary parts are kept in two separate
+ * arrays with common offset, instead of interleaved {@code cv} layout of {@link VO} and {@link VOVec}.
+ *
+ * Planar vector is passed as three arguments: array of real parts, array of imaginary parts and offset,
+ * for example {@code zre, zim, zOffset}. Naming and other conventions are same as in {@link VO}, and
+ * operations have same semantics as their {@code cv} counterparts.
+ *
+ * In planar layout lane {@code i} of real and imaginary vectors belongs to same complex number, so
+ * kernels need no spread, swap, pack or unpack shuffles: complex multiplication is four FMA-friendly
+ * multiplications, and power is two. Only {@link #cv_deinterleave(float[], float[], int, float[], int, int)}
+ * and {@link #pv_interleave(float[], int, float[], float[], int, int)}, which convert between layouts,
+ * shuffle data. They are worth calling on borders of long pipelines, see {@code vector.specific.PlanarPipeline}
+ * benchmark.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration
+ */
+@SuppressWarnings({"PointlessArithmeticExpression", "UnusedDeclaration"})
+public final class VOPlanar {
+	private final static VectorSpecies<Float> PFS = VSpecies.FLOAT;
+	private final static int EPV = PFS.length();
+	private final static int EPV2 = EPV / 2;
+	private final static int EPVx2 = EPV * 2;
+
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_PACK_RE_FIRST = VectorShuffle.shuffle(PFS, i -> (i < EPV2) ? i * 2 : 0);
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_PACK_IM_FIRST = VectorShuffle.shuffle(PFS, i -> (i < EPV2) ? i * 2 + 1 : 0);
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_PACK_RE_SECOND = VectorShuffle.shuffle(PFS, i -> (i >= EPV2) ? i * 2 - EPV : 0);
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_PACK_IM_SECOND = VectorShuffle.shuffle(PFS, i -> (i >= EPV2) ? i * 2 - EPV + 1 : 0);
+	// [re0, re1, ...] -> [re0, re0, re1, re1, ...] of first and second halves
+	private final static VectorShuffle<Float> SHUFFLE_RV_TO_CV_UNPACK_FIRST = VectorShuffle.shuffle(PFS, i -> i / 2);
+	private final static VectorShuffle<Float> SHUFFLE_RV_TO_CV_UNPACK_SECOND = VectorShuffle.shuffle(PFS, i -> EPV2 + i / 2);
+	private final static VectorMask<Float> MASK_SECOND_HALF;
+	private final static VectorMask<Float> MASK_C_IM;
+
+	static {
+		final boolean secondhalf[] = new boolean[EPV];
+		final boolean im[] = new boolean[EPV];
+		for (int i = 0; i < EPV; i++) {
+			secondhalf[i] = i >= EPV2;
+			im[i] = i % 2 == 1;
+		}
+		MASK_SECOND_HALF = VectorMask.fromArray(PFS, secondhalf, 0);
+		MASK_C_IM = VectorMask.fromArray(PFS, im, 0);
+	}
+
+	public static void cv_deinterleave(float zre[], float zim[], int zOffset, float x[], int xOffset, int count) {
+		xOffset <<= 1;
+
+		while (count >= EPV) {
+			final FloatVector vx1 = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vx2 = FloatVector.fromArray(PFS, x, xOffset + EPV);
+
+			vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST).blend(vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND), MASK_SECOND_HALF).intoArray(zre, zOffset);
+			vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST).blend(vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND), MASK_SECOND_HALF).intoArray(zim, zOffset);
+
+			xOffset += EPVx2;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			zre[zOffset] = x[xOffset + 0];
+			zim[zOffset] = x[xOffset + 1];
+			xOffset += 2;
+			zOffset += 1;
+		}
+	}
+
+	public static void pv_interleave(float z[], int zOffset, float xre[], float xim[], int xOffset, int count) {
+		zOffset <<= 1;
+
+		while (count >= EPV) {
+			final FloatVector vxre = FloatVector.fromArray(PFS, xre, xOffset);
+			final FloatVector vxim = FloatVector.fromArray(PFS, xim, xOffset);
+
+			vxre.rearrange(SHUFFLE_RV_TO_CV_UNPACK_FIRST).blend(vxim.rearrange(SHUFFLE_RV_TO_CV_UNPACK_FIRST), MASK_C_IM).intoArray(z, zOffset);
+			vxre.rearrange(SHUFFLE_RV_TO_CV_UNPACK_SECOND).blend(vxim.rearrange(SHUFFLE_RV_TO_CV_UNPACK_SECOND), MASK_C_IM).intoArray(z, zOffset + EPV);
+
+			xOffset += EPV;
+			zOffset += EPVx2;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = xre[xOffset];
+			z[zOffset + 1] = xim[xOffset];
+			xOffset += 1;
+			zOffset += 2;
+		}
+	}
+
+	public static void pv_add_pv(float zre[], float zim[], int zOffset, float xre[], float xim[], int xOffset, float yre[], float yim[], int yOffset, int count) {
+		while (count >= EPV) {
+			FloatVector.fromArray(PFS, xre, xOffset).add(FloatVector.fromArray(PFS, yre, yOffset)).intoArray(zre, zOffset);
+			FloatVector.fromArray(PFS, xim, xOffset).add(FloatVector.fromArray(PFS, yim, yOffset)).intoArray(zim, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			zre[zOffset] = xre[xOffset] + yre[yOffset];
+			zim[zOffset] = xim[xOffset] + yim[yOffset];
+			xOffset += 1;
+			yOffset += 1;
+			zOffset += 1;
+		}
+	}
+
+	public static void pv_add_pv_i(float zre[], float zim[], int zOffset, float xre[], float xim[], int xOffset, int count) {
+		pv_add_pv(zre, zim, zOffset, zre, zim, zOffset, xre, xim, xOffset, count);
+	}
+
+	public static void pv_sub_pv(float zre[], float zim[], int zOffset, float xre[], float xim[], int xOffset, float yre[], float yim[], int yOffset, int count) {
+		while (count >= EPV) {
+			FloatVector.fromArray(PFS, xre, xOffset).sub(FloatVector.fromArray(PFS, yre, yOffset)).intoArray(zre, zOffset);
+			FloatVector.fromArray(PFS, xim, xOffset).sub(FloatVector.fromArray(PFS, yim, yOffset)).intoArray(zim, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			zre[zOffset] = xre[xOffset] - yre[yOffset];
+			zim[zOffset] = xim[xOffset] - yim[yOffset];
+			xOffset += 1;
+			yOffset += 1;
+			zOffset += 1;
+		}
+	}
+
+	public static void pv_sub_pv_i(float zre[], float zim[], int zOffset, float xre[], float xim[], int xOffset, int count) {
+		pv_sub_pv(zre, zim, zOffset, zre, zim, zOffset, xre, xim, xOffset, count);
+	}
+
+	public static void pv_mul_pv(float zre[], float zim[], int zOffset, float xre[], float xim[], int xOffset, float yre[], float yim[], int yOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vxre = FloatVector.fromArray(PFS, xre, xOffset);
+			final FloatVector vxim = FloatVector.fromArray(PFS, xim, xOffset);
+			final FloatVector vyre = FloatVector.fromArray(PFS, yre, yOffset);
+			final FloatVector vyim = FloatVector.fromArray(PFS, yim, yOffset);
+
+			// re = x.re * y.re - x.im * y.im, im = x.re * y.im + x.im * y.re
+			vxre.fma(vyre, vxim.mul(vyim).neg()).intoArray(zre, zOffset);
+			vxre.fma(vyim, vxim.mul(vyre)).intoArray(zim, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			final float re = xre[xOffset] * yre[yOffset] - xim[xOffset] * yim[yOffset];
+			final float im = xre[xOffset] * yim[yOffset] + xim[xOffset] * yre[yOffset];
+			zre[zOffset] = re;
+			zim[zOffset] = im;
+			xOffset += 1;
+			yOffset += 1;
+			zOffset += 1;
+		}
+	}
+
+	public static void pv_mul_pv_i(float zre[], float zim[], int zOffset, float xre[], float xim[], int xOffset, int count) {
+		pv_mul_pv(zre, zim, zOffset, zre, zim, zOffset, xre, xim, xOffset, count);
+	}
+
+	public static void pv_conjmul_pv(float zre[], float zim[], int zOffset, float xre[], float xim[], int xOffset, float yre[], float yim[], int yOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vxre = FloatVector.fromArray(PFS, xre, xOffset);
+			final FloatVector vxim = FloatVector.fromArray(PFS, xim, xOffset);
+			final FloatVector vyre = FloatVector.fromArray(PFS, yre, yOffset);
+			final FloatVector vyim = FloatVector.fromArray(PFS, yim, yOffset);
+
+			// re = x.re * y.re + x.im * y.im, im = x.im * y.re - x.re * y.im
+			vxre.fma(vyre, vxim.mul(vyim)).intoArray(zre, zOffset);
+			vxim.fma(vyre, vxre.mul(vyim).neg()).intoArray(zim, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			final float re = xre[xOffset] * yre[yOffset] + xim[xOffset] * yim[yOffset];
+			final float im = xim[xOffset] * yre[yOffset] - xre[xOffset] * yim[yOffset];
+			zre[zOffset] = re;
+			zim[zOffset] = im;
+			xOffset += 1;
+			yOffset += 1;
+			zOffset += 1;
+		}
+	}
+
+	public static void pv_conjmul_pv_i(float zre[], float zim[], int zOffset, float xre[], float xim[], int xOffset, int count) {
+		pv_conjmul_pv(zre, zim, zOffset, zre, zim, zOffset, xre, xim, xOffset, count);
+	}
+
+	public static void pv_div_pv(float zre[], float zim[], int zOffset, float xre[], float xim[], int xOffset, float yre[], float yim[], int yOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vxre = FloatVector.fromArray(PFS, xre, xOffset);
+			final FloatVector vxim = FloatVector.fromArray(PFS, xim, xOffset);
+			final FloatVector vyre = FloatVector.fromArray(PFS, yre, yOffset);
+			final FloatVector vyim = FloatVector.fromArray(PFS, yim, yOffset);
+
+			// x / y = x * conj(y) / |y|^2
+			final FloatVector vysq = vyre.fma(vyre, vyim.mul(vyim));
+			vxre.fma(vyre, vxim.mul(vyim)).div(vysq).intoArray(zre, zOffset);
+			vxim.fma(vyre, vxre.mul(vyim).neg()).div(vysq).intoArray(zim, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			final float ysq = yre[yOffset] * yre[yOffset] + yim[yOffset] * yim[yOffset];
+			final float re = (xre[xOffset] * yre[yOffset] + xim[xOffset] * yim[yOffset]) / ysq;
+			final float im = (xim[xOffset] * yre[yOffset] - xre[xOffset] * yim[yOffset]) / ysq;
+			zre[zOffset] = re;
+			zim[zOffset] = im;
+			xOffset += 1;
+			yOffset += 1;
+			zOffset += 1;
+		}
+	}
+
+	public static void pv_div_pv_i(float zre[], float zim[], int zOffset, float xre[], float xim[], int xOffset, int count) {
+		pv_div_pv(zre, zim, zOffset, zre, zim, zOffset, xre, xim, xOffset, count);
+	}
+
+	public static void pv_mul_rv(float zre[], float zim[], int zOffset, float xre[], float xim[], int xOffset, float y[], int yOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
+			FloatVector.fromArray(PFS, xre, xOffset).mul(vy).intoArray(zre, zOffset);
+			FloatVector.fromArray(PFS, xim, xOffset).mul(vy).intoArray(zim, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			zre[zOffset] = xre[xOffset] * y[yOffset];
+			zim[zOffset] = xim[xOffset] * y[yOffset];
+			xOffset += 1;
+			yOffset += 1;
+			zOffset += 1;
+		}
+	}
+
+	public static void pv_mul_rv_i(float zre[], float zim[], int zOffset, float x[], int xOffset, int count) {
+		pv_mul_rv(zre, zim, zOffset, zre, zim, zOffset, x, xOffset, count);
+	}
+
+	public static void pv_mul_cs(float zre[], float zim[], int zOffset, float xre[], float xim[], int xOffset, float y[], int count) {
+		final float re = y[0];
+		final float im = y[1];
+		final FloatVector vyre = FloatVector.broadcast(PFS, re);
+		final FloatVector vyim = FloatVector.broadcast(PFS, im);
+		final FloatVector vyimn = FloatVector.broadcast(PFS, -im);
+
+		while (count >= EPV) {
+			final FloatVector vxre = FloatVector.fromArray(PFS, xre, xOffset);
+			final FloatVector vxim = FloatVector.fromArray(PFS, xim, xOffset);
+
+			vxre.fma(vyre, vxim.mul(vyimn)).intoArray(zre, zOffset);
+			vxre.fma(vyim, vxim.mul(vyre)).intoArray(zim, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			final float r = xre[xOffset] * re - xim[xOffset] * im;
+			final float i = xre[xOffset] * im + xim[xOffset] * re;
+			zre[zOffset] = r;
+			zim[zOffset] = i;
+			xOffset += 1;
+			zOffset += 1;
+		}
+	}
+
+	public static void pv_mul_cs_i(float zre[], float zim[], int zOffset, float x[], int count) {
+		pv_mul_cs(zre, zim, zOffset, zre, zim, zOffset, x, count);
+	}
+
+	public static void pv_conj(float zre[], float zim[], int zOffset, float xre[], float xim[], int xOffset, int count) {
+		if (zre != xre || zOffset != xOffset)
+			System.arraycopy(xre, xOffset, zre, zOffset, count);
+
+		while (count >= EPV) {
+			FloatVector.fromArray(PFS, xim, xOffset).neg().intoArray(zim, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			zim[zOffset] = -xim[xOffset];
+			xOffset += 1;
+			zOffset += 1;
+		}
+	}
+
+	public static void pv_conj_i(float zre[], float zim[], int zOffset, int count) {
+		pv_conj(zre, zim, zOffset, zre, zim, zOffset, count);
+	}
+
+	public static void pv_abs(float z[], int zOffset, float xre[], float xim[], int xOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vxre = FloatVector.fromArray(PFS, xre, xOffset);
+			final FloatVector vxim = FloatVector.fromArray(PFS, xim, xOffset);
+
+			vxre.fma(vxre, vxim.mul(vxim)).sqrt().intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z[zOffset] = (float)Math.sqrt(xre[xOffset] * xre[xOffset] + xim[xOffset] * xim[xOffset]);
+			xOffset += 1;
+			zOffset += 1;
+		}
+	}
+
+	public static void pv_10log10(float z[], int zOffset, float xre[], float xim[], int xOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vxre = FloatVector.fromArray(PFS, xre, xOffset);
+			final FloatVector vxim = FloatVector.fromArray(PFS, xim, xOffset);
+
+			// 10 * log10(|x|) = 5 * log10(|x|^2)
+			vxre.fma(vxre, vxim.mul(vxim)).log10().mul(5.0f).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z[zOffset] = 5 * (float)Math.log10(xre[xOffset] * xre[xOffset] + xim[xOffset] * xim[xOffset] + Float.MIN_NORMAL);
+			xOffset += 1;
+			zOffset += 1;
+		}
+	}
+
+	public static void pv_sum(float z[], float xre[], float xim[], int xOffset, int count) {
+		pv_sum(z, 0, xre, xim, xOffset, count);
+	}
+
+	public static void pv_sum(float z[], int zOffset, float xre[], float xim[], int xOffset, int count) {
+		FloatVector vre1 = FloatVector.zero(PFS);
+		FloatVector vre2 = FloatVector.zero(PFS);
+		FloatVector vim1 = FloatVector.zero(PFS);
+		FloatVector vim2 = FloatVector.zero(PFS);
+
+		while (count >= EPVx2) {
+			vre1 = vre1.add(FloatVector.fromArray(PFS, xre, xOffset));
+			vre2 = vre2.add(FloatVector.fromArray(PFS, xre, xOffset + EPV));
+			vim1 = vim1.add(FloatVector.fromArray(PFS, xim, xOffset));
+			vim2 = vim2.add(FloatVector.fromArray(PFS, xim, xOffset + EPV));
+
+			xOffset += EPVx2;
+			count -= EPVx2;
+		}
+
+		float re = vre1.add(vre2).addLanes();
+		float im = vim1.add(vim2).addLanes();
+		while (count-- > 0) {
+			re += xre[xOffset];
+			im += xim[xOffset];
+			xOffset += 1;
+		}
+		z[(zOffset << 1) + 0] = re;
+		z[(zOffset << 1) + 1] = im;
+	}
+
+	public static void pv_dot_pv(float z[], float xre[], float xim[], int xOffset, float yre[], float yim[], int yOffset, int count) {
+		pv_dot_pv(z, 0, xre, xim, xOffset, yre, yim, yOffset, count);
+	}
+
+	public static void pv_dot_pv(float z[], int zOffset, float xre[], float xim[], int xOffset, float yre[], float yim[], int yOffset, int count) {
+		// sum(x.re * y.re) - sum(x.im * y.im) and sum(x.re * y.im) + sum(x.im * y.re), each in own accumulator
+		FloatVector vrere = FloatVector.zero(PFS);
+		FloatVector vimim = FloatVector.zero(PFS);
+		FloatVector vreim = FloatVector.zero(PFS);
+		FloatVector vimre = FloatVector.zero(PFS);
+
+		while (count >= EPV) {
+			final FloatVector vxre = FloatVector.fromArray(PFS, xre, xOffset);
+			final FloatVector vxim = FloatVector.fromArray(PFS, xim, xOffset);
+			final FloatVector vyre = FloatVector.fromArray(PFS, yre, yOffset);
+			final FloatVector vyim = FloatVector.fromArray(PFS, yim, yOffset);
+
+			vrere = vxre.fma(vyre, vrere);
+			vimim = vxim.fma(vyim, vimim);
+			vreim = vxre.fma(vyim, vreim);
+			vimre = vxim.fma(vyre, vimre);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			count -= EPV;
+		}
+
+		float re = vrere.sub(vimim).addLanes();
+		float im = vreim.add(vimre).addLanes();
+		while (count-- > 0) {
+			re += xre[xOffset] * yre[yOffset] - xim[xOffset] * yim[yOffset];
+			im += xre[xOffset] * yim[yOffset] + xim[xOffset] * yre[yOffset];
+			xOffset += 1;
+			yOffset += 1;
+		}
+		z[(zOffset << 1) + 0] = re;
+		z[(zOffset << 1) + 1] = im;
+	}
+}
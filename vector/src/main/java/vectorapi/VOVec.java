@@ -40,26 +40,9 @@ public final class VOVec {
 	//@TODO: Global idea: check extraction of complex multiply/division code
 	//       to helper methods (and pray for inlining)
 	/* Missing methods which make sense:
-		cv_cs_lin_cv_cs
-		cv_cs_lin_cv_cs_i
-		cv_cs_lin_cv_rs
-		cv_cs_lin_cv_rs_i
-		cv_cs_lin_rv_cs
-		cv_cs_lin_rv_cs_i
-		cv_cs_lin_rv_rs
-		cv_cs_lin_rv_rs_i
-		cv_rs_lin_cv_rs
-		cv_rs_lin_cv_rs_i
-		cv_rs_lin_rv_cs
-		cv_rs_lin_rv_cs_i
-		cv_rs_lin_rv_rs
-		cv_rs_lin_rv_rs_i
-		rv_cs_lin_rv_cs
-		rv_rs_lin_rv_cs
-
-		And some one-complex-return function with "offset" result placement
+		Some one-complex-return function with "offset" result placement
 	 */
-	private final static VectorSpecies<Float> PFS = FloatVector.SPECIES_PREFERRED;
+	private final static VectorSpecies<Float> PFS = VSpecies.FLOAT;
 	private final static VectorSpecies<Float> PFS2 = VectorSpecies.of(Float.TYPE, VectorShape.forBitSize(PFS.bitSize() / 2));
 	private final static int EPV = PFS.length();
 	private final static int EPV2 = EPV / 2;
@@ -67,10 +50,21 @@ public final class VOVec {
 	private final static int EPVx3 = EPV * 3;
 	private final static int EPVx4 = EPV * 4;
 	private final static VectorSpecies<Float> FS64 = FloatVector.SPECIES_64;
+	// Same lanes count as PFS, for indices of maxarg/minarg
+	private final static VectorSpecies<Integer> PIS = VectorSpecies.of(Integer.TYPE, PFS.shape());
 	private final static VectorMask<Float> MASK_C_RE;
 	private final static VectorMask<Float> MASK_C_IM;
 	private final static VectorMask<Float> MASK_SECOND_HALF;
+	// Only for compares: loop accumulator initialized from static field is boxed by JIT, use local zero()
 	private final static FloatVector ZERO = FloatVector.zero(PFS);
+	private final static FloatVector ATAN_MIN_DENOMINATOR = FloatVector.broadcast(PFS, Float.MIN_VALUE);
+	private final static FloatVector ATAN_C1 = FloatVector.broadcast(PFS, 0.9998660f);
+	private final static FloatVector ATAN_C3 = FloatVector.broadcast(PFS, -0.3302995f);
+	private final static FloatVector ATAN_C5 = FloatVector.broadcast(PFS, 0.1801410f);
+	private final static FloatVector ATAN_C7 = FloatVector.broadcast(PFS, -0.0851330f);
+	private final static FloatVector ATAN_C9 = FloatVector.broadcast(PFS, 0.0208351f);
+	private final static FloatVector ATAN_PI2 = FloatVector.broadcast(PFS, FastTrig._1PI2);
+	private final static FloatVector ATAN_PI = FloatVector.broadcast(PFS, FastTrig._2PI2);
 	private final static VectorShuffle<Float> SHUFFLE_RV_TO_CV_RE;
 	private final static VectorShuffle<Float> SHUFFLE_RV_TO_CV_BOTH;
 	private final static VectorShuffle<Float> SHUFFLE_RV_TO_CV_RE_LOW;
@@ -95,6 +89,26 @@ public final class VOVec {
 	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_UNPACK_RE_SECOND;
 	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_UNPACK_IM_SECOND;
 
+	// [0, 1, 2, ...], loaded into local vector, as loop-carried vectors from static fields are boxed
+	private final static int IOTA[];
+
+	// Reductions of this or more elements use compensated summation, see rv_sum_kahan()
+	private final static int COMPENSATED_FROM = Integer.getInteger("vectorapi.VOVec.compensated", Integer.MAX_VALUE);
+
+	// Variants selected by VProfile for each size class, 0 is implementation from this class
+	private final static int RV_DOT_RV_SMALL = VProfile.variant("rv_dot_rv", VProfile.SMALL, VOVecVariants.RV_DOT_RV);
+	private final static int RV_DOT_RV_MEDIUM = VProfile.variant("rv_dot_rv", VProfile.MEDIUM, VOVecVariants.RV_DOT_RV);
+	private final static int RV_DOT_RV_LARGE = VProfile.variant("rv_dot_rv", VProfile.LARGE, VOVecVariants.RV_DOT_RV);
+	private final static int CV_MAX_SMALL = VProfile.variant("cv_max", VProfile.SMALL, VOVecVariants.CV_MAX);
+	private final static int CV_MAX_MEDIUM = VProfile.variant("cv_max", VProfile.MEDIUM, VOVecVariants.CV_MAX);
+	private final static int CV_MAX_LARGE = VProfile.variant("cv_max", VProfile.LARGE, VOVecVariants.CV_MAX);
+	private final static int CS_DIV_CV_SMALL = VProfile.variant("cs_div_cv", VProfile.SMALL, VOVecVariants.CS_DIV_CV);
+	private final static int CS_DIV_CV_MEDIUM = VProfile.variant("cs_div_cv", VProfile.MEDIUM, VOVecVariants.CS_DIV_CV);
+	private final static int CS_DIV_CV_LARGE = VProfile.variant("cs_div_cv", VProfile.LARGE, VOVecVariants.CS_DIV_CV);
+	private final static int CV_EXP_SMALL = VProfile.variant("cv_exp", VProfile.SMALL, VOVecVariants.CV_EXP);
+	private final static int CV_EXP_MEDIUM = VProfile.variant("cv_exp", VProfile.MEDIUM, VOVecVariants.CV_EXP);
+	private final static int CV_EXP_LARGE = VProfile.variant("cv_exp", VProfile.LARGE, VOVecVariants.CV_EXP);
+
 
 	static {
 		boolean[] alter = new boolean[EPV + 1];
@@ -109,6 +123,10 @@ public final class VOVec {
 		Arrays.fill(secondhalf, PFS.length() / 2, secondhalf.length, true);
 		MASK_SECOND_HALF = VectorMask.fromArray(PFS, secondhalf, 0);
 
+		IOTA = new int[EPV];
+		for (int i = 0; i < IOTA.length; i++)
+			IOTA[i] = i;
+
 		// [r0, r1, ...] -> [(r0, ?), (r1, ?), ...], take ? from last element for now
 		SHUFFLE_RV_TO_CV_RE = VectorShuffle.shuffle(PFS, i -> (i % 2 == 0) ? (i / 2) : (EPV - 1));
 		// [r0, r1, ...] -> [(r0, r0), (r1, r1), ...]
@@ -173,6 +191,20 @@ public final class VOVec {
 			z[zOffset++] += x;
 	}
 
+	public static void rv_add_rs_iw(float z[], int zOffset, float x, int count) {
+		final int zLength = z.length;
+		zOffset = preWrap(zOffset, zLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, zLength - zOffset);
+			rv_add_rs_i(z, zOffset, x, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void rv_add_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
 		while (count >= EPV) {
 			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
@@ -187,6 +219,24 @@ public final class VOVec {
 			z[zOffset++] += x[xOffset++];
 	}
 
+	public static void rv_add_rv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		final int zLength = z.length;
+		final int xLength = x.length;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			rv_add_rv_i(z, zOffset, x, xOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_add_rs_i(float z[], int zOffset, float x, int count) {
 		FloatVector vx = null;
 		if (count >= EPV2)
@@ -209,6 +259,20 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_add_rs_iw(float z[], int zOffset, float x, int count) {
+		final int zLength = z.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, zLength - zOffset);
+			cv_add_rs_i(z, zOffset, x, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_add_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
 		zOffset <<= 1;
 
@@ -229,6 +293,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_add_rv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			cv_add_rv_i(z, zOffset, x, xOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_add_cs_i(float z[], int zOffset, float x[], int count) {
 		FloatVector vx = null;
 		//@DONE: It is faster than FloatVector.fromArray(PFS, x, 0, LOAD_CS_TO_CV_SPREAD, 0)
@@ -251,6 +333,20 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_add_cs_iw(float z[], int zOffset, float x[], int count) {
+		final int zLength = z.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, zLength - zOffset);
+			cv_add_cs_i(z, zOffset, x, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_add_cv_i(float z[], int zOffset, float x[], int xOffset, int count) {
 		xOffset <<= 1;
 		zOffset <<= 1;
@@ -273,6 +369,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_add_cv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			cv_add_cv_i(z, zOffset, x, xOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void rv_add_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
 		while (count >= EPV) {
 			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
@@ -287,6 +401,24 @@ public final class VOVec {
 			z[zOffset++] = x[xOffset++] + y;
 	}
 
+	public static void rv_add_rs_w(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		final int zLength = z.length;
+		final int xLength = x.length;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			rv_add_rs(z, zOffset, x, xOffset, y, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void rv_add_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
 		while (count >= EPV) {
 			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
@@ -303,6 +435,28 @@ public final class VOVec {
 			z[zOffset++] = x[xOffset++] + y[yOffset++];
 	}
 
+	public static void rv_add_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		final int zLength = z.length;
+		final int xLength = x.length;
+		final int yLength = y.length;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+		yOffset = preWrap(yOffset, yLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, Math.min(xLength - xOffset, yLength - yOffset)));
+			rv_add_rv(z, zOffset, x, xOffset, y, yOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			yOffset += n;
+			if (yOffset == yLength) yOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_add_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
 		FloatVector vy = null;
 		if (count >= EPV2)
@@ -329,6 +483,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_add_rs_w(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			cv_add_rs(z, zOffset, x, xOffset, y, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_add_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
 		xOffset <<= 1;
 		zOffset <<= 1;
@@ -354,6 +526,28 @@ public final class VOVec {
 
 	}
 
+	public static void cv_add_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length >> 1;
+		final int yLength = y.length;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+		yOffset = preWrap(yOffset, yLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, Math.min(xLength - xOffset, yLength - yOffset)));
+			cv_add_rv(z, zOffset, x, xOffset, y, yOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			yOffset += n;
+			if (yOffset == yLength) yOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_add_cs(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
 		FloatVector vy = null;
 		//@DONE: It is faster than FloatVector.fromArray(PFS, y, 0, LOAD_CS_TO_CV_SPREAD, 0)
@@ -380,6 +574,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_add_cs_w(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			cv_add_cs(z, zOffset, x, xOffset, y, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_add_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
 		xOffset <<= 1;
 		yOffset <<= 1;
@@ -405,6 +617,28 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_add_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length >> 1;
+		final int yLength = y.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+		yOffset = preWrap(yOffset, yLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, Math.min(xLength - xOffset, yLength - yOffset)));
+			cv_add_cv(z, zOffset, x, xOffset, y, yOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			yOffset += n;
+			if (yOffset == yLength) yOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void rv_sub_rs_i(float z[], int zOffset, float x, int count) {
 		while (count >= EPV) {
 			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
@@ -418,6 +652,20 @@ public final class VOVec {
 			z[zOffset++] -= x;
 	}
 
+	public static void rv_sub_rs_iw(float z[], int zOffset, float x, int count) {
+		final int zLength = z.length;
+		zOffset = preWrap(zOffset, zLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, zLength - zOffset);
+			rv_sub_rs_i(z, zOffset, x, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void rv_sub_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
 		while (count >= EPV) {
 			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
@@ -433,6 +681,24 @@ public final class VOVec {
 			z[zOffset++] -= x[xOffset++];
 	}
 
+	public static void rv_sub_rv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		final int zLength = z.length;
+		final int xLength = x.length;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			rv_sub_rv_i(z, zOffset, x, xOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_sub_rs_i(float z[], int zOffset, float x, int count) {
 		FloatVector vx = null;
 		if (count >= EPV2)
@@ -455,6 +721,20 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_sub_rs_iw(float z[], int zOffset, float x, int count) {
+		final int zLength = z.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, zLength - zOffset);
+			cv_sub_rs_i(z, zOffset, x, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_sub_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
 		zOffset <<= 1;
 
@@ -475,6 +755,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_sub_rv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			cv_sub_rv_i(z, zOffset, x, xOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_sub_cs_i(float z[], int zOffset, float x[], int count) {
 		FloatVector vx = null;
 		//@DONE: It is faster than FloatVector.fromArray(PFS, x, 0, LOAD_CS_TO_CV_SPREAD, 0)
@@ -498,6 +796,20 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_sub_cs_iw(float z[], int zOffset, float x[], int count) {
+		final int zLength = z.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, zLength - zOffset);
+			cv_sub_cs_i(z, zOffset, x, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_sub_cv_i(float z[], int zOffset, float x[], int xOffset, int count) {
 		xOffset <<= 1;
 		zOffset <<= 1;
@@ -520,6 +832,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_sub_cv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			cv_sub_cv_i(z, zOffset, x, xOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void rv_sub_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
 		while (count >= EPV) {
 			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
@@ -534,6 +864,24 @@ public final class VOVec {
 			z[zOffset++] = x[xOffset++] - y;
 	}
 
+	public static void rv_sub_rs_w(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		final int zLength = z.length;
+		final int xLength = x.length;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			rv_sub_rs(z, zOffset, x, xOffset, y, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void rs_sub_rv(float z[], int zOffset, float x, float y[], int yOffset, int count) {
 		FloatVector vx = null;
 		if (count >= EPV)
@@ -552,6 +900,24 @@ public final class VOVec {
 			z[zOffset++] = x - y[yOffset++];
 	}
 
+	public static void rs_sub_rv_w(float z[], int zOffset, float x, float y[], int yOffset, int count) {
+		final int zLength = z.length;
+		final int yLength = y.length;
+		zOffset = preWrap(zOffset, zLength);
+		yOffset = preWrap(yOffset, yLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, yLength - yOffset));
+			rs_sub_rv(z, zOffset, x, y, yOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			yOffset += n;
+			if (yOffset == yLength) yOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void rv_sub_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
 		while (count >= EPV) {
 			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
@@ -568,6 +934,28 @@ public final class VOVec {
 			z[zOffset++] = x[xOffset++] - y[yOffset++];
 	}
 
+	public static void rv_sub_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		final int zLength = z.length;
+		final int xLength = x.length;
+		final int yLength = y.length;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+		yOffset = preWrap(yOffset, yLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, Math.min(xLength - xOffset, yLength - yOffset)));
+			rv_sub_rv(z, zOffset, x, xOffset, y, yOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			yOffset += n;
+			if (yOffset == yLength) yOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_sub_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
 		FloatVector vy = null;
 		if (count >= EPV2)
@@ -594,6 +982,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_sub_rs_w(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			cv_sub_rs(z, zOffset, x, xOffset, y, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void rs_sub_cv(float z[], int zOffset, float x, float y[], int yOffset, int count) {
 		FloatVector vx = null;
 		if (count >= EPV2)
@@ -619,6 +1025,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void rs_sub_cv_w(float z[], int zOffset, float x, float y[], int yOffset, int count) {
+		final int zLength = z.length >> 1;
+		final int yLength = y.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		yOffset = preWrap(yOffset, yLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, yLength - yOffset));
+			rs_sub_cv(z, zOffset, x, y, yOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			yOffset += n;
+			if (yOffset == yLength) yOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_sub_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
 		xOffset <<= 1;
 		zOffset <<= 1;
@@ -643,6 +1067,28 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_sub_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length >> 1;
+		final int yLength = y.length;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+		yOffset = preWrap(yOffset, yLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, Math.min(xLength - xOffset, yLength - yOffset)));
+			cv_sub_rv(z, zOffset, x, xOffset, y, yOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			yOffset += n;
+			if (yOffset == yLength) yOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void rv_sub_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
 		yOffset <<= 1;
 		zOffset <<= 1;
@@ -668,6 +1114,28 @@ public final class VOVec {
 		}
 	}
 
+	public static void rv_sub_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length;
+		final int yLength = y.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+		yOffset = preWrap(yOffset, yLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, Math.min(xLength - xOffset, yLength - yOffset)));
+			rv_sub_cv(z, zOffset, x, xOffset, y, yOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			yOffset += n;
+			if (yOffset == yLength) yOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_sub_cs(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
 		FloatVector vy = null;
 		//@DONE: It is faster than FloatVector.fromArray(PFS, y, 0, LOAD_CS_TO_CV_SPREAD, 0)
@@ -694,6 +1162,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_sub_cs_w(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			cv_sub_cs(z, zOffset, x, xOffset, y, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cs_sub_cv(float z[], int zOffset, float x[], float y[], int yOffset, int count) {
 		FloatVector vx = null;
 		//@DONE: It is faster than FloatVector.fromArray(PFS, x, 0, LOAD_CS_TO_CV_SPREAD, 0)
@@ -720,6 +1206,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void cs_sub_cv_w(float z[], int zOffset, float x[], float y[], int yOffset, int count) {
+		final int zLength = z.length >> 1;
+		final int yLength = y.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		yOffset = preWrap(yOffset, yLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, yLength - yOffset));
+			cs_sub_cv(z, zOffset, x, y, yOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			yOffset += n;
+			if (yOffset == yLength) yOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_sub_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
 		xOffset <<= 1;
 		yOffset <<= 1;
@@ -745,6 +1249,28 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_sub_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length >> 1;
+		final int yLength = y.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+		yOffset = preWrap(yOffset, yLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, Math.min(xLength - xOffset, yLength - yOffset)));
+			cv_sub_cv(z, zOffset, x, xOffset, y, yOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			yOffset += n;
+			if (yOffset == yLength) yOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void rv_mul_rs_i(float z[], int zOffset, float x, int count) {
 		while (count >= EPV) {
 			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
@@ -758,6 +1284,20 @@ public final class VOVec {
 			z[zOffset++] *= x;
 	}
 
+	public static void rv_mul_rs_iw(float z[], int zOffset, float x, int count) {
+		final int zLength = z.length;
+		zOffset = preWrap(zOffset, zLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, zLength - zOffset);
+			rv_mul_rs_i(z, zOffset, x, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void rv_mul_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
 		while (count >= EPV) {
 			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
@@ -773,6 +1313,24 @@ public final class VOVec {
 			z[zOffset++] *= x[xOffset++];
 	}
 
+	public static void rv_mul_rv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		final int zLength = z.length;
+		final int xLength = x.length;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			rv_mul_rv_i(z, zOffset, x, xOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_mul_rs_i(float z[], int zOffset, float x, int count) {
 		zOffset <<= 1;
 
@@ -791,6 +1349,20 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_mul_rs_iw(float z[], int zOffset, float x, int count) {
+		final int zLength = z.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, zLength - zOffset);
+			cv_mul_rs_i(z, zOffset, x, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_mul_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
 		zOffset <<= 1;
 
@@ -813,6 +1385,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_mul_rv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			cv_mul_rv_i(z, zOffset, x, xOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_mul_cs_i(float z[], int zOffset, float x[], int count) {
 		FloatVector vxre = null, vxim = null;
 		if (count >= EPV2) {
@@ -859,6 +1449,20 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_mul_cs_iw(float z[], int zOffset, float x[], int count) {
+		final int zLength = z.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, zLength - zOffset);
+			cv_mul_cs_i(z, zOffset, x, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_mul_cv_i(float z[], int zOffset, float x[], int xOffset, int count) {
 		xOffset <<= 1;
 		zOffset <<= 1;
@@ -910,6 +1514,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_mul_cv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			cv_mul_cv_i(z, zOffset, x, xOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void rv_mul_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
 		FloatVector vy = null;
 		//@DONE: it is fater thab vx.mul(y)
@@ -928,6 +1550,24 @@ public final class VOVec {
 			z[zOffset++] = x[xOffset++] * y;
 	}
 
+	public static void rv_mul_rs_w(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		final int zLength = z.length;
+		final int xLength = x.length;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			rv_mul_rs(z, zOffset, x, xOffset, y, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void rv_mul_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
 		while (count >= EPV) {
 			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
@@ -944,6 +1584,28 @@ public final class VOVec {
 			z[zOffset++] = x[xOffset++] * y[yOffset++];
 	}
 
+	public static void rv_mul_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		final int zLength = z.length;
+		final int xLength = x.length;
+		final int yLength = y.length;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+		yOffset = preWrap(yOffset, yLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, Math.min(xLength - xOffset, yLength - yOffset)));
+			rv_mul_rv(z, zOffset, x, xOffset, y, yOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			yOffset += n;
+			if (yOffset == yLength) yOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_mul_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
 		FloatVector vy = null;
 		//@DONE: it is fater thab vx.mul(y)
@@ -970,6 +1632,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_mul_rs_w(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			cv_mul_rs(z, zOffset, x, xOffset, y, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_mul_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
 		xOffset <<= 1;
 		zOffset <<= 1;
@@ -993,6 +1673,28 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_mul_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length >> 1;
+		final int yLength = y.length;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+		yOffset = preWrap(yOffset, yLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, Math.min(xLength - xOffset, yLength - yOffset)));
+			cv_mul_rv(z, zOffset, x, xOffset, y, yOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			yOffset += n;
+			if (yOffset == yLength) yOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_mul_cs(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
 		FloatVector vyre = null, vyim = null;
 		if (count >= EPV2) {
@@ -1040,6 +1742,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_mul_cs_w(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			cv_mul_cs(z, zOffset, x, xOffset, y, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_mul_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
 		xOffset <<= 1;
 		yOffset <<= 1;
@@ -1091,6 +1811,28 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_mul_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length >> 1;
+		final int yLength = y.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+		yOffset = preWrap(yOffset, yLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, Math.min(xLength - xOffset, yLength - yOffset)));
+			cv_mul_cv(z, zOffset, x, xOffset, y, yOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			yOffset += n;
+			if (yOffset == yLength) yOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void rv_div_rs_i(float z[], int zOffset, float x, int count) {
 		FloatVector vx = null;
 		//@DONE: it is fater thab vz.mul(x)
@@ -1109,6 +1851,20 @@ public final class VOVec {
 			z[zOffset++] /= x;
 	}
 
+	public static void rv_div_rs_iw(float z[], int zOffset, float x, int count) {
+		final int zLength = z.length;
+		zOffset = preWrap(zOffset, zLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, zLength - zOffset);
+			rv_div_rs_i(z, zOffset, x, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void rv_div_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
 		while (count >= EPV) {
 			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
@@ -1124,6 +1880,24 @@ public final class VOVec {
 			z[zOffset++] /= x[xOffset++];
 	}
 
+	public static void rv_div_rv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		final int zLength = z.length;
+		final int xLength = x.length;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			rv_div_rv_i(z, zOffset, x, xOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_div_rs_i(float z[], int zOffset, float x, int count) {
 		FloatVector vx = null;
 		//@DONE: it is fater thab vz.mul(x)
@@ -1147,6 +1921,20 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_div_rs_iw(float z[], int zOffset, float x, int count) {
+		final int zLength = z.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, zLength - zOffset);
+			cv_div_rs_i(z, zOffset, x, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_div_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
 		zOffset <<= 1;
 
@@ -1169,6 +1957,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_div_rv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			cv_div_rv_i(z, zOffset, x, xOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_div_cs_i(float z[], int zOffset, float x[], int count) {
 		FloatVector vxre = null;
 		FloatVector vxim = null;
@@ -1221,6 +2027,20 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_div_cs_iw(float z[], int zOffset, float x[], int count) {
+		final int zLength = z.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, zLength - zOffset);
+			cv_div_cs_i(z, zOffset, x, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_div_cv_i(float z[], int zOffset, float x[], int xOffset, int count) {
 		zOffset <<= 1;
 		xOffset <<= 1;
@@ -1273,6 +2093,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_div_cv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			cv_div_cv_i(z, zOffset, x, xOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void rv_div_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
 		FloatVector vy = null;
 		//@DONE: it is fater thab vx.div(y)
@@ -1292,6 +2130,24 @@ public final class VOVec {
 			z[zOffset++] = x[xOffset++] / y;
 	}
 
+	public static void rv_div_rs_w(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		final int zLength = z.length;
+		final int xLength = x.length;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			rv_div_rs(z, zOffset, x, xOffset, y, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void rs_div_rv(float z[], int zOffset, float x, float y[], int yOffset, int count) {
 		FloatVector vx = null;
 		if (count >= EPV)
@@ -1310,6 +2166,24 @@ public final class VOVec {
 			z[zOffset++] = x / y[yOffset++];
 	}
 
+	public static void rs_div_rv_w(float z[], int zOffset, float x, float y[], int yOffset, int count) {
+		final int zLength = z.length;
+		final int yLength = y.length;
+		zOffset = preWrap(zOffset, zLength);
+		yOffset = preWrap(yOffset, yLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, yLength - yOffset));
+			rs_div_rv(z, zOffset, x, y, yOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			yOffset += n;
+			if (yOffset == yLength) yOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void rv_div_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
 		while (count >= EPV) {
 			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
@@ -1326,6 +2200,28 @@ public final class VOVec {
 			z[zOffset++] = x[xOffset++] / y[yOffset++];
 	}
 
+	public static void rv_div_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		final int zLength = z.length;
+		final int xLength = x.length;
+		final int yLength = y.length;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+		yOffset = preWrap(yOffset, yLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, Math.min(xLength - xOffset, yLength - yOffset)));
+			rv_div_rv(z, zOffset, x, xOffset, y, yOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			yOffset += n;
+			if (yOffset == yLength) yOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_div_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
 		FloatVector vy = null;
 		//@DONE: it is fater thab vx.div(y)
@@ -1352,6 +2248,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_div_rs_w(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			cv_div_rs(z, zOffset, x, xOffset, y, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void rs_div_cv(float z[], int zOffset, float x, float y[], int yOffset, int count) {
 		FloatVector vx = null;
 		if (count >= EPV2) {
@@ -1401,6 +2315,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void rs_div_cv_w(float z[], int zOffset, float x, float y[], int yOffset, int count) {
+		final int zLength = z.length >> 1;
+		final int yLength = y.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		yOffset = preWrap(yOffset, yLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, yLength - yOffset));
+			rs_div_cv(z, zOffset, x, y, yOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			yOffset += n;
+			if (yOffset == yLength) yOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_div_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
 		zOffset <<= 1;
 		xOffset <<= 1;
@@ -1426,6 +2358,28 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_div_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length >> 1;
+		final int yLength = y.length;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+		yOffset = preWrap(yOffset, yLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, Math.min(xLength - xOffset, yLength - yOffset)));
+			cv_div_rv(z, zOffset, x, xOffset, y, yOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			yOffset += n;
+			if (yOffset == yLength) yOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void rv_div_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
 		zOffset <<= 1;
 		yOffset <<= 1;
@@ -1475,6 +2429,28 @@ public final class VOVec {
 		}
 	}
 
+	public static void rv_div_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length;
+		final int yLength = y.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+		yOffset = preWrap(yOffset, yLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, Math.min(xLength - xOffset, yLength - yOffset)));
+			rv_div_cv(z, zOffset, x, xOffset, y, yOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			yOffset += n;
+			if (yOffset == yLength) yOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_div_cs(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
 		FloatVector vyre = null;
 		FloatVector vyim = null;
@@ -1528,7 +2504,31 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_div_cs_w(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			cv_div_cs(z, zOffset, x, xOffset, y, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cs_div_cv(float z[], int zOffset, float x[], float y[], int yOffset, int count) {
+		final int variant = variant(count, CS_DIV_CV_SMALL, CS_DIV_CV_MEDIUM, CS_DIV_CV_LARGE);
+		if (variant != 0) {
+			VOVecVariants.cs_div_cv(variant, z, zOffset, x, y, yOffset, count);
+			return;
+		}
+
 		FloatVector vx = null;
 		//@DONE: It is faster than FloatVector.fromArray(PFS, x, 0, LOAD_CS_TO_CV_SPREAD, 0)
 		if (count >= EPV2)
@@ -1580,6 +2580,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void cs_div_cv_w(float z[], int zOffset, float x[], float y[], int yOffset, int count) {
+		final int zLength = z.length >> 1;
+		final int yLength = y.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		yOffset = preWrap(yOffset, yLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, yLength - yOffset));
+			cs_div_cv(z, zOffset, x, y, yOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			yOffset += n;
+			if (yOffset == yLength) yOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_div_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
 		xOffset <<= 1;
 		yOffset <<= 1;
@@ -1632,7 +2650,29 @@ public final class VOVec {
 		}
 	}
 
-	public static void rv_conjmul_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+	public static void cv_div_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length >> 1;
+		final int yLength = y.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+		yOffset = preWrap(yOffset, yLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, Math.min(xLength - xOffset, yLength - yOffset)));
+			cv_div_cv(z, zOffset, x, xOffset, y, yOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			yOffset += n;
+			if (yOffset == yLength) yOffset = 0;
+			count -= n;
+		}
+	}
+
+	public static void rv_conjmul_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
 		zOffset <<= 1;
 		yOffset <<= 1;
 
@@ -1657,6 +2697,28 @@ public final class VOVec {
 		}
 	}
 
+	public static void rv_conjmul_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length;
+		final int yLength = y.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+		yOffset = preWrap(yOffset, yLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, Math.min(xLength - xOffset, yLength - yOffset)));
+			rv_conjmul_cv(z, zOffset, x, xOffset, y, yOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			yOffset += n;
+			if (yOffset == yLength) yOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_conjmul_cv_i(float z[], int zOffset, float x[], int xOffset, int count) {
 		zOffset <<= 1;
 		xOffset <<= 1;
@@ -1706,6 +2768,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_conjmul_cv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			cv_conjmul_cv_i(z, zOffset, x, xOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_conjmul_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
 		zOffset <<= 1;
 		xOffset <<= 1;
@@ -1758,6 +2838,28 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_conjmul_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length >> 1;
+		final int yLength = y.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+		yOffset = preWrap(yOffset, yLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, Math.min(xLength - xOffset, yLength - yOffset)));
+			cv_conjmul_cv(z, zOffset, x, xOffset, y, yOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			yOffset += n;
+			if (yOffset == yLength) yOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_conj_i(float z[], int zOffset, int count) {
 		zOffset <<= 1;
 
@@ -1776,6 +2878,20 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_conj_iw(float z[], int zOffset, int count) {
+		final int zLength = z.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, zLength - zOffset);
+			cv_conj_i(z, zOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_conj(float z[], int zOffset, float x[], int xOffset, int count) {
 		zOffset <<= 1;
 		xOffset <<= 1;
@@ -1797,6 +2913,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_conj_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			cv_conj(z, zOffset, x, xOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void rv_expi(float z[], int zOffset, float x[], int xOffset, int count) {
 		zOffset <<= 1;
 		while (count >= EPV) {
@@ -1834,6 +2968,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void rv_expi_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			rv_expi(z, zOffset, x, xOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void rv_exp_i(float z[], int zOffset, int count) {
 		while (count >= EPV) {
 			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
@@ -1849,6 +3001,20 @@ public final class VOVec {
 		}
 	}
 
+	public static void rv_exp_iw(float z[], int zOffset, int count) {
+		final int zLength = z.length;
+		zOffset = preWrap(zOffset, zLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, zLength - zOffset);
+			rv_exp_i(z, zOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_exp_i(float z[], int zOffset, int count) {
 		zOffset <<= 1;
 
@@ -1893,6 +3059,20 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_exp_iw(float z[], int zOffset, int count) {
+		final int zLength = z.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, zLength - zOffset);
+			cv_exp_i(z, zOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void rv_exp(float z[], int zOffset, float x[], int xOffset, int count) {
 		while (count >= EPV) {
 			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
@@ -1907,7 +3087,31 @@ public final class VOVec {
 			z[zOffset++] = (float)Math.exp(x[xOffset++]);
 	}
 
+	public static void rv_exp_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		final int zLength = z.length;
+		final int xLength = x.length;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			rv_exp(z, zOffset, x, xOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_exp(float z[], int zOffset, float x[], int xOffset, int count) {
+		final int variant = variant(count, CV_EXP_SMALL, CV_EXP_MEDIUM, CV_EXP_LARGE);
+		if (variant != 0) {
+			VOVecVariants.cv_exp(variant, z, zOffset, x, xOffset, count);
+			return;
+		}
+
 		xOffset <<= 1;
 		zOffset <<= 1;
 
@@ -1954,6 +3158,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_exp_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			cv_exp(z, zOffset, x, xOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_im(float z[], int zOffset, float x[], int xOffset, int count) {
 		xOffset <<= 1;
 
@@ -1979,6 +3201,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_im_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		final int zLength = z.length;
+		final int xLength = x.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			cv_im(z, zOffset, x, xOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_re(float z[], int zOffset, float x[], int xOffset, int count) {
 		xOffset <<= 1;
 
@@ -2003,6 +3243,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_re_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		final int zLength = z.length;
+		final int xLength = x.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			cv_re(z, zOffset, x, xOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_abs(float z[], int zOffset, float x[], int xOffset, int count) {
 		xOffset <<= 1;
 
@@ -2033,6 +3291,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_abs_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		final int zLength = z.length;
+		final int xLength = x.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			cv_abs(z, zOffset, x, xOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_arg(float z[], int zOffset, float x[], int xOffset, int count) {
 		xOffset <<= 1;
 
@@ -2063,6 +3339,72 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_arg_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		final int zLength = z.length;
+		final int xLength = x.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			cv_arg(z, zOffset, x, xOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
+	public static void cv_arg_f(float z[], int zOffset, float x[], int xOffset, int count) {
+		xOffset <<= 1;
+
+		while (count >= EPV) {
+			//@DONE: It is faster than FloatVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
+			final FloatVector vx1 = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vx2 = FloatVector.fromArray(PFS, x, xOffset + PFS.length());
+
+			final FloatVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final FloatVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final FloatVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final FloatVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final FloatVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+			final FloatVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+			fastAtan2(vxim, vxre).intoArray(z, zOffset);
+			// We load twice as much complex numbers
+			xOffset += EPV * 2;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z[zOffset++] = FastTrig.atan2(x[xOffset + 1], x[xOffset + 0]);
+			xOffset += 2;
+		}
+	}
+
+	public static void cv_arg_fw(float z[], int zOffset, float x[], int xOffset, int count) {
+		final int zLength = z.length;
+		final int xLength = x.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			cv_arg_f(z, zOffset, x, xOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_argmul_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
 		FloatVector vy = null;
 		//@DONE: it is fater thab ...mul(y)
@@ -2099,6 +3441,78 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_argmul_rs_w(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		final int zLength = z.length;
+		final int xLength = x.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			cv_argmul_rs(z, zOffset, x, xOffset, y, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
+	public static void cv_argmul_rs_f(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		FloatVector vy = null;
+		//@DONE: it is fater thab ...mul(y)
+		if (count >= EPV)
+			vy = FloatVector.broadcast(PFS, y);
+
+		xOffset <<= 1;
+
+		while (count >= EPV) {
+			//@DONE: It is faster than FloatVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
+			final FloatVector vx1 = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vx2 = FloatVector.fromArray(PFS, x, xOffset + PFS.length());
+
+			final FloatVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final FloatVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final FloatVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final FloatVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final FloatVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+			final FloatVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+			fastAtan2(vxim, vxre).mul(vy).intoArray(z, zOffset);
+
+			// We load twice as much complex numbers
+			xOffset += EPV * 2;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z[zOffset++] = y * FastTrig.atan2(x[xOffset + 1], x[xOffset + 0]);
+			xOffset += 2;
+		}
+	}
+
+	public static void cv_argmul_rs_fw(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		final int zLength = z.length;
+		final int xLength = x.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			cv_argmul_rs_f(z, zOffset, x, xOffset, y, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void rv_abs_i(float z[], int zOffset, int count) {
 		while (count >= EPV) {
 			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
@@ -2114,6 +3528,20 @@ public final class VOVec {
 		}
 	}
 
+	public static void rv_abs_iw(float z[], int zOffset, int count) {
+		final int zLength = z.length;
+		zOffset = preWrap(zOffset, zLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, zLength - zOffset);
+			rv_abs_i(z, zOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void rv_abs(float z[], int zOffset, float x[], int xOffset, int count) {
 		while (count >= EPV) {
 			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
@@ -2128,6 +3556,24 @@ public final class VOVec {
 			z[zOffset++] = Math.abs(x[xOffset++]);
 	}
 
+	public static void rv_abs_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		final int zLength = z.length;
+		final int xLength = x.length;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			rv_abs(z, zOffset, x, xOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void rv_cvt(float z[], int zOffset, float x[], int xOffset, int count) {
 		zOffset <<= 1;
 		while (count >= EPV2) {
@@ -2148,6 +3594,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void rv_cvt_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			rv_cvt(z, zOffset, x, xOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_r2p_i(float z[], int zOffset, int count) {
 		zOffset <<= 1;
 
@@ -2180,6 +3644,66 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_r2p_iw(float z[], int zOffset, int count) {
+		final int zLength = z.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, zLength - zOffset);
+			cv_r2p_i(z, zOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			count -= n;
+		}
+	}
+
+	public static void cv_r2p_if(float z[], int zOffset, int count) {
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vz is [(z[0].re, z[0].im), (z[1].re, z[1].im), ...]
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+			// vzreezp is [(z[0].re, z[0].re), (z[1].re, z[1].re), ...]
+			final FloatVector vzre = vz.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vzim is [(z[0].im, z[0].im), (z[1].im, z[1].im), ...]
+			final FloatVector vzim = vz.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			//@DONE: Masks are insanely expensive here
+			final FloatVector vrre = vzre.hypot(vzim);
+			final FloatVector vrim = fastAtan2(vzim, vzre);
+
+			vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		float abs, arg;
+		while (count-- > 0) {
+			abs = (float)Math.hypot(z[zOffset + 0], z[zOffset + 1]);
+			arg = FastTrig.atan2(z[zOffset + 1], z[zOffset + 0]);
+			z[zOffset + 0] = abs;
+			z[zOffset + 1] = arg;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_r2p_ifw(float z[], int zOffset, int count) {
+		final int zLength = z.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, zLength - zOffset);
+			cv_r2p_if(z, zOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_r2p(float z[], int zOffset, float x[], int xOffset, int count) {
 		zOffset <<= 1;
 		xOffset <<= 1;
@@ -2212,6 +3736,74 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_r2p_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			cv_r2p(z, zOffset, x, xOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
+	public static void cv_r2p_f(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset <<= 1;
+		xOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			// vxreexp is [(x[0].re, x[0].re), (x[1].re, x[1].re), ...]
+			final FloatVector vxre = vx.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vxim is [(x[0].im, x[0].im), (x[1].im, x[1].im), ...]
+			final FloatVector vxim = vx.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			//@DONE: Masks are insanely expensive here
+			final FloatVector vrre = vxre.hypot(vxim);
+			final FloatVector vrim = fastAtan2(vxim, vxre);
+
+			vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = (float)Math.hypot(x[xOffset + 0], x[xOffset + 1]);
+			z[zOffset + 1] = FastTrig.atan2(x[xOffset + 1], x[xOffset + 0]);
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_r2p_fw(float z[], int zOffset, float x[], int xOffset, int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			cv_r2p_f(z, zOffset, x, xOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_p2r_i(float z[], int zOffset, int count) {
 		zOffset <<= 1;
 
@@ -2245,6 +3837,20 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_p2r_iw(float z[], int zOffset, int count) {
+		final int zLength = z.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, zLength - zOffset);
+			cv_p2r_i(z, zOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_p2r(float z[], int zOffset, float x[], int xOffset, int count) {
 		zOffset <<= 1;
 		xOffset <<= 1;
@@ -2278,79 +3884,173 @@ public final class VOVec {
 		}
 	}
 
-	public static float rv_sum(float x[], int xOffset, int count) {
-		float sum = 0.0f;
+	public static void cv_p2r_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
 
-		while (count >= EPV) {
-			sum += FloatVector.fromArray(PFS, x, xOffset).addLanes();
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			cv_p2r(z, zOffset, x, xOffset, n);
 
-			xOffset += EPV;
-			count -= EPV;
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
 		}
-
-		while (count-- > 0)
-			sum += x[xOffset++];
-		return sum;
 	}
 
-	public static void cv_sum(float z[], float x[], int xOffset, int count) {
-		float re = 0.0f;
-		float im = 0.0f;
-		xOffset <<= 1;
+	public static float rv_sum(float x[], int xOffset, int count) {
+		if (count >= COMPENSATED_FROM)
+			return rv_sum_kahan(x, xOffset, count);
 
-		while (count >= EPV2) {
-			//@TODO Check, can we pack and process twice elements, and save result twice
-			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+		// Independent accumulators hide latency of additions, and lanes are added only once
+		// See specific.RVsum benchmark
+		FloatVector vsum1 = FloatVector.zero(PFS);
+		FloatVector vsum2 = FloatVector.zero(PFS);
+		FloatVector vsum3 = FloatVector.zero(PFS);
+		FloatVector vsum4 = FloatVector.zero(PFS);
+		final boolean needLanes = count >= EPV;
 
-			// It is faster than addLanes(MASK)
-			re += vx.rearrange(SHUFFLE_CV_TO_CV_FRONT_RE).reshape(PFS2).addLanes();
-			im += vx.rearrange(SHUFFLE_CV_TO_CV_FRONT_IM).reshape(PFS2).addLanes();
+		while (count >= EPVx4) {
+			vsum1 = vsum1.add(FloatVector.fromArray(PFS, x, xOffset));
+			vsum2 = vsum2.add(FloatVector.fromArray(PFS, x, xOffset + EPV));
+			vsum3 = vsum3.add(FloatVector.fromArray(PFS, x, xOffset + EPVx2));
+			vsum4 = vsum4.add(FloatVector.fromArray(PFS, x, xOffset + EPVx3));
+
+			xOffset += EPVx4;
+			count -= EPVx4;
+		}
+
+		while (count >= EPV) {
+			vsum1 = vsum1.add(FloatVector.fromArray(PFS, x, xOffset));
 
 			xOffset += EPV;
-			count -= EPV2;
+			count -= EPV;
 		}
 
-		while (count-- > 0) {
-			re += x[xOffset + 0];
-			im += x[xOffset + 1];
-			xOffset += 2;
+		float sum = 0.0f;
+		while (count-- > 0)
+			sum += x[xOffset++];
+
+		if (needLanes)
+			sum += vsum1.add(vsum2).add(vsum3.add(vsum4)).addLanes();
+		return sum;
+	}
+
+	public static float rv_sum_w(float x[], int xOffset, int count) {
+		float sum = 0.0f;
+		xOffset = preWrap(xOffset, x.length);
+
+		while (count > 0) {
+			final int n = Math.min(count, x.length - xOffset);
+			sum += rv_sum(x, xOffset, n);
+
+			xOffset += n;
+			if (xOffset == x.length) xOffset = 0;
+			count -= n;
 		}
-		z[0] = re;
-		z[1] = im;
+		return sum;
+	}
+
+	public static void cv_sum(float z[], float x[], int xOffset, int count) {
+		cv_sum(z, 0, x, xOffset, count);
+	}
+
+	public static void cv_sum_w(float z[], float x[], int xOffset, int count) {
+		cv_sum_w(z, 0, x, xOffset, count);
 	}
 
 	public static void cv_sum(float z[], int zOffset, float x[], int xOffset, int count) {
-		float re = 0.0f;
-		float im = 0.0f;
+		if (count >= COMPENSATED_FROM) {
+			cv_sum_kahan(z, zOffset, x, xOffset, count);
+			return;
+		}
+
+		// Accumulate interleaved complex numbers as is, re and im are separated only once
+		FloatVector vsum1 = FloatVector.zero(PFS);
+		FloatVector vsum2 = FloatVector.zero(PFS);
+		FloatVector vsum3 = FloatVector.zero(PFS);
+		FloatVector vsum4 = FloatVector.zero(PFS);
+		final boolean needLanes = count >= EPV2;
 		xOffset <<= 1;
 		zOffset <<= 1;
 
-		while (count >= EPV2) {
-			//@TODO Check, can we pack and process twice elements, and save result twice
-			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+		// Four vectors contain EPV * 2 complex numbers
+		while (count >= EPVx2) {
+			vsum1 = vsum1.add(FloatVector.fromArray(PFS, x, xOffset));
+			vsum2 = vsum2.add(FloatVector.fromArray(PFS, x, xOffset + EPV));
+			vsum3 = vsum3.add(FloatVector.fromArray(PFS, x, xOffset + EPVx2));
+			vsum4 = vsum4.add(FloatVector.fromArray(PFS, x, xOffset + EPVx3));
 
-			// It is faster than addLanes(MASK)
-			re += vx.rearrange(SHUFFLE_CV_TO_CV_FRONT_RE).reshape(PFS2).addLanes();
-			im += vx.rearrange(SHUFFLE_CV_TO_CV_FRONT_IM).reshape(PFS2).addLanes();
+			xOffset += EPVx4;
+			count -= EPVx2;
+		}
+
+		while (count >= EPV2) {
+			vsum1 = vsum1.add(FloatVector.fromArray(PFS, x, xOffset));
 
 			xOffset += EPV;
 			count -= EPV2;
 		}
 
+		float re = 0.0f;
+		float im = 0.0f;
 		while (count-- > 0) {
 			re += x[xOffset + 0];
 			im += x[xOffset + 1];
 			xOffset += 2;
 		}
+
+		if (needLanes) {
+			final FloatVector vsum = vsum1.add(vsum2).add(vsum3.add(vsum4));
+			// It is faster than addLanes(MASK)
+			re += vsum.rearrange(SHUFFLE_CV_TO_CV_FRONT_RE).reshape(PFS2).addLanes();
+			im += vsum.rearrange(SHUFFLE_CV_TO_CV_FRONT_IM).reshape(PFS2).addLanes();
+		}
 		z[zOffset + 0] = re;
 		z[zOffset + 1] = im;
 	}
 
+	public static void cv_sum_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		float re = 0.0f;
+		float im = 0.0f;
+		final int xLength = x.length >> 1;
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, xLength - xOffset);
+			// Result place is used to collect sum of each segment
+			cv_sum(z, zOffset, x, xOffset, n);
+			re += z[(zOffset << 1) + 0];
+			im += z[(zOffset << 1) + 1];
+
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+		z[(zOffset << 1) + 0] = re;
+		z[(zOffset << 1) + 1] = im;
+	}
+
 	public static float rv_dot_rv(float x[], int xOffset, float y[], int yOffset, int count) {
-		float sum = 0.0f;
+		if (count >= COMPENSATED_FROM)
+			return rv_dot_rv_kahan(x, xOffset, y, yOffset, count);
 
-		// Strange, but accumulating EPV-sized vector ad one addLines() at end is slower
+		final int variant = variant(count, RV_DOT_RV_SMALL, RV_DOT_RV_MEDIUM, RV_DOT_RV_LARGE);
+		if (variant != 0)
+			return VOVecVariants.rv_dot_rv(variant, x, xOffset, y, yOffset, count);
+
+		// Independent accumulators hide latency of FMA, and lanes are added only once
 		// See specific.RVdotRV benchmark
+		FloatVector vsum1 = FloatVector.zero(PFS);
+		FloatVector vsum2 = FloatVector.zero(PFS);
+		FloatVector vsum3 = FloatVector.zero(PFS);
+		FloatVector vsum4 = FloatVector.zero(PFS);
+		final boolean needLanes = count >= EPV;
+
 		while (count >= EPVx4) {
 			final FloatVector vx1 = FloatVector.fromArray(PFS, x, xOffset);
 			final FloatVector vy1 = FloatVector.fromArray(PFS, y, yOffset);
@@ -2361,8 +4061,10 @@ public final class VOVec {
 			final FloatVector vx4 = FloatVector.fromArray(PFS, x, xOffset + EPVx3);
 			final FloatVector vy4 = FloatVector.fromArray(PFS, y, yOffset + EPVx3);
 
-			// Strange, but it is better than 3 fma and one mul
-			sum += vx1.fma(vy1, vx2.mul(vy2)).add(vx3.fma(vy3, vx4.mul(vy4))).addLanes();
+			vsum1 = vx1.fma(vy1, vsum1);
+			vsum2 = vx2.fma(vy2, vsum2);
+			vsum3 = vx3.fma(vy3, vsum3);
+			vsum4 = vx4.fma(vy4, vsum4);
 
 			xOffset += EPVx4;
 			yOffset += EPVx4;
@@ -2372,191 +4074,205 @@ public final class VOVec {
 		while (count >= EPV) {
 			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
 			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
-			sum += vx.mul(vy).addLanes();
+			vsum1 = vx.fma(vy, vsum1);
 
 			xOffset += EPV;
 			yOffset += EPV;
 			count -= EPV;
 		}
 
+		float sum = 0.0f;
 		while (count-- > 0)
 			sum += x[xOffset++] * y[yOffset++];
 
+		if (needLanes)
+			sum += vsum1.add(vsum2).add(vsum3.add(vsum4)).addLanes();
 		return sum;
 	}
 
-	public static void rv_dot_cv(float z[], float x[], int xOffset, float y[], int yOffset, int count) {
-		float re = 0.0f;
-		float im = 0.0f;
-		yOffset <<= 1;
-
-		while (count >= EPV) {
-			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
-			//@DONE: It is faster than FloatVector.fromArray(PFS, y, yOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
-			final FloatVector vy1 = FloatVector.fromArray(PFS, y, yOffset);
-			final FloatVector vy2 = FloatVector.fromArray(PFS, y, yOffset + PFS.length());
-
-			final FloatVector vy1re = vy1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
-			final FloatVector vy1im = vy1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
-
-			final FloatVector vy2re = vy2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
-			final FloatVector vy2im = vy2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
-
-			final FloatVector vyre = vy1re.blend(vy2re, MASK_SECOND_HALF);
-			final FloatVector vyim = vy1im.blend(vy2im, MASK_SECOND_HALF);
+	public static float rv_dot_rv_w(float x[], int xOffset, float y[], int yOffset, int count) {
+		float sum = 0.0f;
+		xOffset = preWrap(xOffset, x.length);
+		yOffset = preWrap(yOffset, y.length);
 
-			re += vx.mul(vyre).addLanes();
-			im += vx.mul(vyim).addLanes();
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(x.length - xOffset, y.length - yOffset));
+			sum += rv_dot_rv(x, xOffset, y, yOffset, n);
 
-			xOffset += EPV;
-			yOffset += EPV * 2; // We load twice as much complex numbers
-			count -= EPV;
+			xOffset += n;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += n;
+			if (yOffset == y.length) yOffset = 0;
+			count -= n;
 		}
+		return sum;
+	}
 
-		while (count-- > 0) {
-			re += x[xOffset] * y[yOffset + 0];
-			im += x[xOffset] * y[yOffset + 1];
-			xOffset += 1;
-			yOffset += 2;
-		}
-		z[0] = re;
-		z[1] = im;
+	public static void rv_dot_cv(float z[], float x[], int xOffset, float y[], int yOffset, int count) {
+		rv_dot_cv(z, 0, x, xOffset, y, yOffset, count);
+	}
+
+	public static void rv_dot_cv_w(float z[], float x[], int xOffset, float y[], int yOffset, int count) {
+		rv_dot_cv_w(z, 0, x, xOffset, y, yOffset, count);
 	}
 
 	public static void rv_dot_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
-		float re = 0.0f;
-		float im = 0.0f;
+		if (count >= COMPENSATED_FROM) {
+			rv_dot_cv_kahan(z, zOffset, x, xOffset, y, yOffset, count);
+			return;
+		}
+
+		// Two independent accumulators for each part, lanes are added only once
+		FloatVector vre1 = FloatVector.zero(PFS);
+		FloatVector vim1 = FloatVector.zero(PFS);
+		FloatVector vre2 = FloatVector.zero(PFS);
+		FloatVector vim2 = FloatVector.zero(PFS);
+		final boolean needLanes = count >= EPV;
 		yOffset <<= 1;
 		zOffset <<= 1;
 
-		while (count >= EPV) {
-			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+		while (count >= EPVx2) {
+			final FloatVector vx1 = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vx2 = FloatVector.fromArray(PFS, x, xOffset + EPV);
 			//@DONE: It is faster than FloatVector.fromArray(PFS, y, yOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
 			final FloatVector vy1 = FloatVector.fromArray(PFS, y, yOffset);
-			final FloatVector vy2 = FloatVector.fromArray(PFS, y, yOffset + PFS.length());
+			final FloatVector vy2 = FloatVector.fromArray(PFS, y, yOffset + EPV);
+			final FloatVector vy3 = FloatVector.fromArray(PFS, y, yOffset + EPVx2);
+			final FloatVector vy4 = FloatVector.fromArray(PFS, y, yOffset + EPVx3);
 
-			final FloatVector vy1re = vy1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
-			final FloatVector vy1im = vy1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+			final FloatVector vy12re = vy1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST).blend(vy2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND), MASK_SECOND_HALF);
+			final FloatVector vy12im = vy1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST).blend(vy2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND), MASK_SECOND_HALF);
+			final FloatVector vy34re = vy3.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST).blend(vy4.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND), MASK_SECOND_HALF);
+			final FloatVector vy34im = vy3.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST).blend(vy4.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND), MASK_SECOND_HALF);
 
-			final FloatVector vy2re = vy2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
-			final FloatVector vy2im = vy2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+			vre1 = vx1.fma(vy12re, vre1);
+			vim1 = vx1.fma(vy12im, vim1);
+			vre2 = vx2.fma(vy34re, vre2);
+			vim2 = vx2.fma(vy34im, vim2);
 
-			final FloatVector vyre = vy1re.blend(vy2re, MASK_SECOND_HALF);
-			final FloatVector vyim = vy1im.blend(vy2im, MASK_SECOND_HALF);
+			xOffset += EPVx2;
+			yOffset += EPVx4; // We load twice as much complex numbers
+			count -= EPVx2;
+		}
+
+		if (count >= EPV) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vy1 = FloatVector.fromArray(PFS, y, yOffset);
+			final FloatVector vy2 = FloatVector.fromArray(PFS, y, yOffset + EPV);
+
+			final FloatVector vyre = vy1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST).blend(vy2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND), MASK_SECOND_HALF);
+			final FloatVector vyim = vy1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST).blend(vy2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND), MASK_SECOND_HALF);
 
-			re += vx.mul(vyre).addLanes();
-			im += vx.mul(vyim).addLanes();
+			vre1 = vx.fma(vyre, vre1);
+			vim1 = vx.fma(vyim, vim1);
 
 			xOffset += EPV;
-			yOffset += EPV * 2; // We load twice as much complex numbers
+			yOffset += EPVx2; // We load twice as much complex numbers
 			count -= EPV;
 		}
 
+		float re = 0.0f;
+		float im = 0.0f;
 		while (count-- > 0) {
 			re += x[xOffset] * y[yOffset + 0];
 			im += x[xOffset] * y[yOffset + 1];
 			xOffset += 1;
 			yOffset += 2;
 		}
+
+		if (needLanes) {
+			re += vre1.add(vre2).addLanes();
+			im += vim1.add(vim2).addLanes();
+		}
 		z[zOffset + 0] = re;
 		z[zOffset + 1] = im;
 	}
 
-	public static void cv_dot_cv(float z[], float x[], int xOffset, float y[], int yOffset, int count) {
+	public static void rv_dot_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
 		float re = 0.0f;
 		float im = 0.0f;
-		xOffset <<= 1;
-		yOffset <<= 1;
-
-		while (count >= EPV2) {
-			//@DONE: one load & two reshuffles are faster
-			// vy is [(y[0].re, y[0].im), (y[1].re, y[1].im), ...]
-			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
-			// vyre is [(y[0].re, y[0].re), (y[1].re, y[1].re), ...]
-			final FloatVector vyre = vy.rearrange(SHUFFLE_CV_SPREAD_RE);
-			// vyim is [(y[0].im, y[0].im), (y[1].im, y[1].im), ...]
-			final FloatVector vyim = vy.rearrange(SHUFFLE_CV_SPREAD_IM);
-
-			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
-			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
-
-			// vmulyre is [(x[0].re * y[0].re, x[0].im * y.re), (x[1].re * y[1].re, x[1].im * y[1].re), ...]
-			final FloatVector vmulyre = vx.mul(vyre);
-			// vmulyim is [(x[0].re * y.im, x[0].im * y.im), (x[1].re * y.im, x[1].im * y[1].im), ...]
-			final FloatVector vmulyim = vx.mul(vyim);
-			// vmulximswap is [(x[0].im * y[0].im, x[0].re * x[0].im), (x[1].im * y[1].im, x[1].re * y[1].im), ...]
-			final FloatVector vmulximswap = vmulyim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
-
-			//@DONE: vmulyre.sub(vmulximswap, MASK_C_RE) / vmulyre.add(vmulximswap, MASK_C_IM) are slower
-			// vrre is ([x[0].re * y.re - x[0].im * y.im, ?], ...)
-			final FloatVector vrre = vmulyre.sub(vmulximswap);
-			// vrim is ([?, x[0].im * y.re + x[0].re * y.im], ...)
-			final FloatVector vrim = vmulyre.add(vmulximswap);
-
-			// It is faster than addLanes(MASK)
-			// And it is same as reshuffle + reshape, but easier to understand
-			re += vrre.rearrange(SHUFFLE_CV_TO_CV_FRONT_RE).reshape(PFS2).addLanes();
-			im += vrim.rearrange(SHUFFLE_CV_TO_CV_FRONT_IM).reshape(PFS2).addLanes();
+		final int xLength = x.length;
+		final int yLength = y.length >> 1;
+		xOffset = preWrap(xOffset, xLength);
+		yOffset = preWrap(yOffset, yLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(xLength - xOffset, yLength - yOffset));
+			// Result place is used to collect product of each segment
+			rv_dot_cv(z, zOffset, x, xOffset, y, yOffset, n);
+			re += z[(zOffset << 1) + 0];
+			im += z[(zOffset << 1) + 1];
+
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			yOffset += n;
+			if (yOffset == yLength) yOffset = 0;
+			count -= n;
+		}
+		z[(zOffset << 1) + 0] = re;
+		z[(zOffset << 1) + 1] = im;
+	}
 
-			xOffset += EPV;
-			yOffset += EPV;
-			count -= EPV2;
-		}
+	public static void cv_dot_cv(float z[], float x[], int xOffset, float y[], int yOffset, int count) {
+		cv_dot_cv(z, 0, x, xOffset, y, yOffset, count);
+	}
 
-		float k0, k1;
-		while (count-- > 0) {
-			k0 = x[xOffset + 0] * y[yOffset + 0];
-			k1 = x[xOffset + 1] * y[yOffset + 1];
-			re += k0 - k1;
-			im += (x[xOffset + 0] + x[xOffset + 1]) * (y[yOffset + 0] + y[yOffset + 1]) - k0 - k1;
-			xOffset += 2;
-			yOffset += 2;
-		}
-		z[0] = re;
-		z[1] = im;
+	public static void cv_dot_cv_w(float z[], float x[], int xOffset, float y[], int yOffset, int count) {
+		cv_dot_cv_w(z, 0, x, xOffset, y, yOffset, count);
 	}
 
 	public static void cv_dot_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
-		float re = 0.0f;
-		float im = 0.0f;
+		if (count >= COMPENSATED_FROM) {
+			cv_dot_cv_kahan(z, zOffset, x, xOffset, y, yOffset, count);
+			return;
+		}
+
+		// Products are linear, so x * y.re and x * y.im are accumulated separately
+		// and combined only once: sum(x * y) = sum(x * y.re) -/+ swap(sum(x * y.im))
+		FloatVector vmulyre1 = FloatVector.zero(PFS);
+		FloatVector vmulyim1 = FloatVector.zero(PFS);
+		FloatVector vmulyre2 = FloatVector.zero(PFS);
+		FloatVector vmulyim2 = FloatVector.zero(PFS);
+		final boolean needLanes = count >= EPV2;
 		xOffset <<= 1;
 		yOffset <<= 1;
 		zOffset <<= 1;
 
-		while (count >= EPV2) {
+		while (count >= EPV) {
 			//@DONE: one load & two reshuffles are faster
 			// vy is [(y[0].re, y[0].im), (y[1].re, y[1].im), ...]
-			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
-			// vyre is [(y[0].re, y[0].re), (y[1].re, y[1].re), ...]
-			final FloatVector vyre = vy.rearrange(SHUFFLE_CV_SPREAD_RE);
-			// vyim is [(y[0].im, y[0].im), (y[1].im, y[1].im), ...]
-			final FloatVector vyim = vy.rearrange(SHUFFLE_CV_SPREAD_IM);
-
+			final FloatVector vy1 = FloatVector.fromArray(PFS, y, yOffset);
+			final FloatVector vy2 = FloatVector.fromArray(PFS, y, yOffset + EPV);
 			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
-			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vx1 = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vx2 = FloatVector.fromArray(PFS, x, xOffset + EPV);
 
-			// vmulyre is [(x[0].re * y[0].re, x[0].im * y.re), (x[1].re * y[1].re, x[1].im * y[1].re), ...]
-			final FloatVector vmulyre = vx.mul(vyre);
-			// vmulyim is [(x[0].re * y.im, x[0].im * y.im), (x[1].re * y.im, x[1].im * y[1].im), ...]
-			final FloatVector vmulyim = vx.mul(vyim);
-			// vmulximswap is [(x[0].im * y[0].im, x[0].re * x[0].im), (x[1].im * y[1].im, x[1].re * y[1].im), ...]
-			final FloatVector vmulximswap = vmulyim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+			// vmulyre is [(x[0].re * y[0].re, x[0].im * y[0].re), ...]
+			vmulyre1 = vx1.fma(vy1.rearrange(SHUFFLE_CV_SPREAD_RE), vmulyre1);
+			vmulyre2 = vx2.fma(vy2.rearrange(SHUFFLE_CV_SPREAD_RE), vmulyre2);
+			// vmulyim is [(x[0].re * y[0].im, x[0].im * y[0].im), ...]
+			vmulyim1 = vx1.fma(vy1.rearrange(SHUFFLE_CV_SPREAD_IM), vmulyim1);
+			vmulyim2 = vx2.fma(vy2.rearrange(SHUFFLE_CV_SPREAD_IM), vmulyim2);
 
-			//@DONE: vmulyre.sub(vmulximswap, MASK_C_RE) / vmulyre.add(vmulximswap, MASK_C_IM) are slower
-			// vrre is ([x[0].re * y.re - x[0].im * y.im, ?], ...)
-			final FloatVector vrre = vmulyre.sub(vmulximswap);
-			// vrim is ([?, x[0].im * y.re + x[0].re * y.im], ...)
-			final FloatVector vrim = vmulyre.add(vmulximswap);
+			xOffset += EPVx2;
+			yOffset += EPVx2;
+			count -= EPV;
+		}
 
-			// It is faster than addLanes(MASK)
-			re += vrre.rearrange(SHUFFLE_CV_TO_CV_FRONT_RE).reshape(PFS2).addLanes();
-			im += vrim.rearrange(SHUFFLE_CV_TO_CV_FRONT_IM).reshape(PFS2).addLanes();
+		if (count >= EPV2) {
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+
+			vmulyre1 = vx.fma(vy.rearrange(SHUFFLE_CV_SPREAD_RE), vmulyre1);
+			vmulyim1 = vx.fma(vy.rearrange(SHUFFLE_CV_SPREAD_IM), vmulyim1);
 
 			xOffset += EPV;
 			yOffset += EPV;
 			count -= EPV2;
 		}
 
+		float re = 0.0f;
+		float im = 0.0f;
 		float k0, k1;
 		while (count-- > 0) {
 			k0 = x[xOffset + 0] * y[yOffset + 0];
@@ -2566,10 +4282,44 @@ public final class VOVec {
 			xOffset += 2;
 			yOffset += 2;
 		}
+
+		if (needLanes) {
+			final FloatVector vmulyre = vmulyre1.add(vmulyre2);
+			// vmulyimswap is [(x[0].im * y[0].im, x[0].re * y[0].im), ...]
+			final FloatVector vmulyimswap = vmulyim1.add(vmulyim2).rearrange(SHUFFLE_CV_SWAP_RE_IM);
+			// It is faster than addLanes(MASK)
+			re += vmulyre.sub(vmulyimswap).rearrange(SHUFFLE_CV_TO_CV_FRONT_RE).reshape(PFS2).addLanes();
+			im += vmulyre.add(vmulyimswap).rearrange(SHUFFLE_CV_TO_CV_FRONT_IM).reshape(PFS2).addLanes();
+		}
 		z[zOffset + 0] = re;
 		z[zOffset + 1] = im;
 	}
 
+	public static void cv_dot_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		float re = 0.0f;
+		float im = 0.0f;
+		final int xLength = x.length >> 1;
+		final int yLength = y.length >> 1;
+		xOffset = preWrap(xOffset, xLength);
+		yOffset = preWrap(yOffset, yLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(xLength - xOffset, yLength - yOffset));
+			// Result place is used to collect product of each segment
+			cv_dot_cv(z, zOffset, x, xOffset, y, yOffset, n);
+			re += z[(zOffset << 1) + 0];
+			im += z[(zOffset << 1) + 1];
+
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			yOffset += n;
+			if (yOffset == yLength) yOffset = 0;
+			count -= n;
+		}
+		z[(zOffset << 1) + 0] = re;
+		z[(zOffset << 1) + 1] = im;
+	}
+
 	public static void rv_cpy(float z[], int zOffset, float x[], int xOffset, int count) {
 		// Just for fun: maybe, it is faster than System.arraycopy()? :-)
 		while (count >= EPV) {
@@ -2582,6 +4332,24 @@ public final class VOVec {
 		System.arraycopy(x, xOffset, z, zOffset, count);
 	}
 
+	public static void rv_cpy_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		final int zLength = z.length;
+		final int xLength = x.length;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			rv_cpy(z, zOffset, x, xOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_cpy(float z[], int zOffset, float x[], int xOffset, int count) {
 		xOffset <<= 1;
 		zOffset <<= 1;
@@ -2597,6 +4365,24 @@ public final class VOVec {
 		System.arraycopy(x, xOffset, z, zOffset, count * 2);
 	}
 
+	public static void cv_cpy_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			cv_cpy(z, zOffset, x, xOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static float rv_max(float x[], int xOffset, int count) {
 		float max = Float.NEGATIVE_INFINITY;
 
@@ -2617,6 +4403,23 @@ public final class VOVec {
 		return max;
 	}
 
+	public static float rv_max_w(float x[], int xOffset, int count) {
+		float max = Float.NEGATIVE_INFINITY;
+		xOffset = preWrap(xOffset, x.length);
+
+		while (count > 0) {
+			final int n = Math.min(count, x.length - xOffset);
+			final float localMax = rv_max(x, xOffset, n);
+			if (max < localMax)
+				max = localMax;
+
+			xOffset += n;
+			if (xOffset == x.length) xOffset = 0;
+			count -= n;
+		}
+		return max;
+	}
+
 	public static void rv_max_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
 		while (count >= EPV) {
 			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
@@ -2636,6 +4439,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void rv_max_rv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		final int zLength = z.length;
+		final int xLength = x.length;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			rv_max_rv_i(z, zOffset, x, xOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void rv_max_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
 		while (count >= EPV) {
 			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
@@ -2656,7 +4477,35 @@ public final class VOVec {
 		}
 	}
 
+	public static void rv_max_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		final int zLength = z.length;
+		final int xLength = x.length;
+		final int yLength = y.length;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+		yOffset = preWrap(yOffset, yLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, Math.min(xLength - xOffset, yLength - yOffset)));
+			rv_max_rv(z, zOffset, x, xOffset, y, yOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			yOffset += n;
+			if (yOffset == yLength) yOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_max(float z[], float x[], int xOffset, int count) {
+		final int variant = variant(count, CV_MAX_SMALL, CV_MAX_MEDIUM, CV_MAX_LARGE);
+		if (variant != 0) {
+			VOVecVariants.cv_max(variant, z, 0, x, xOffset, count);
+			return;
+		}
+
 		float max = Float.NEGATIVE_INFINITY;
 		int i = -1;
 		final float aabs[] = count >= EPV ? new float[EPV] : null;
@@ -2702,7 +4551,17 @@ public final class VOVec {
 		z[1] = x[i + 1];
 	}
 
+	public static void cv_max_w(float z[], float x[], int xOffset, int count) {
+		cv_max_w(z, 0, x, xOffset, count);
+	}
+
 	public static void cv_max(float z[], int zOffset, float x[], int xOffset, int count) {
+		final int variant = variant(count, CV_MAX_SMALL, CV_MAX_MEDIUM, CV_MAX_LARGE);
+		if (variant != 0) {
+			VOVecVariants.cv_max(variant, z, zOffset, x, xOffset, count);
+			return;
+		}
+
 		float max = Float.NEGATIVE_INFINITY;
 		int i = -1;
 		final float aabs[] = count >= EPV ? new float[EPV] : null;
@@ -2748,6 +4607,12 @@ public final class VOVec {
 		z[zOffset + 1] = x[i + 1];
 	}
 
+	public static void cv_max_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		final int i = cv_maxarg_w(x, xOffset, count) << 1;
+		z[(zOffset << 1) + 0] = x[i + 0];
+		z[(zOffset << 1) + 1] = x[i + 1];
+	}
+
 	public static void cv_max_cv_i(float z[], int zOffset, float x[], int xOffset, int count) {
 		zOffset <<= 1;
 		xOffset <<= 1;
@@ -2790,6 +4655,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_max_cv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			cv_max_cv_i(z, zOffset, x, xOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_max_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
 		xOffset <<= 1;
 		yOffset <<= 1;
@@ -2838,6 +4721,28 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_max_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length >> 1;
+		final int yLength = y.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+		yOffset = preWrap(yOffset, yLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, Math.min(xLength - xOffset, yLength - yOffset)));
+			cv_max_cv(z, zOffset, x, xOffset, y, yOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			yOffset += n;
+			if (yOffset == yLength) yOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static float rv_min(float x[], int xOffset, int count) {
 		float min = Float.POSITIVE_INFINITY;
 
@@ -2857,6 +4762,23 @@ public final class VOVec {
 		return min;
 	}
 
+	public static float rv_min_w(float x[], int xOffset, int count) {
+		float min = Float.POSITIVE_INFINITY;
+		xOffset = preWrap(xOffset, x.length);
+
+		while (count > 0) {
+			final int n = Math.min(count, x.length - xOffset);
+			final float localMin = rv_min(x, xOffset, n);
+			if (min > localMin)
+				min = localMin;
+
+			xOffset += n;
+			if (xOffset == x.length) xOffset = 0;
+			count -= n;
+		}
+		return min;
+	}
+
 	public static void rv_min_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
 		while (count >= EPV) {
 			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
@@ -2876,6 +4798,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void rv_min_rv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		final int zLength = z.length;
+		final int xLength = x.length;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			rv_min_rv_i(z, zOffset, x, xOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void rv_min_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
 		while (count >= EPV) {
 			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
@@ -2896,6 +4836,28 @@ public final class VOVec {
 		}
 	}
 
+	public static void rv_min_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		final int zLength = z.length;
+		final int xLength = x.length;
+		final int yLength = y.length;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+		yOffset = preWrap(yOffset, yLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, Math.min(xLength - xOffset, yLength - yOffset)));
+			rv_min_rv(z, zOffset, x, xOffset, y, yOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			yOffset += n;
+			if (yOffset == yLength) yOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_min(float z[], float x[], int xOffset, int count) {
 		float min = Float.POSITIVE_INFINITY;
 		int i = -1;
@@ -2942,7 +4904,11 @@ public final class VOVec {
 		z[1] = x[i + 1];
 	}
 
-	public static void cv_min(float z[], int zOffset, float x[], int xOffset, int count) {
+	public static void cv_min_w(float z[], float x[], int xOffset, int count) {
+		cv_min_w(z, 0, x, xOffset, count);
+	}
+
+	public static void cv_min(float z[], int zOffset, float x[], int xOffset, int count) {
 		float min = Float.POSITIVE_INFINITY;
 		int i = -1;
 		final float aabs[] = count >= EPV ? new float[EPV] : null;
@@ -2990,6 +4956,12 @@ public final class VOVec {
 		z[zOffset + 1] = x[i + 1];
 	}
 
+	public static void cv_min_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		final int i = cv_minarg_w(x, xOffset, count) << 1;
+		z[(zOffset << 1) + 0] = x[i + 0];
+		z[(zOffset << 1) + 1] = x[i + 1];
+	}
+
 	public static void cv_min_cv_i(float z[], int zOffset, float x[], int xOffset, int count) {
 		zOffset <<= 1;
 		xOffset <<= 1;
@@ -3032,6 +5004,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_min_cv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			cv_min_cv_i(z, zOffset, x, xOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_min_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
 		xOffset <<= 1;
 		yOffset <<= 1;
@@ -3080,31 +5070,72 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_min_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length >> 1;
+		final int yLength = y.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+		yOffset = preWrap(yOffset, yLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, Math.min(xLength - xOffset, yLength - yOffset)));
+			cv_min_cv(z, zOffset, x, xOffset, y, yOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			yOffset += n;
+			if (yOffset == yLength) yOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static int rv_maxarg(float x[], int xOffset, int count) {
 		float max = Float.NEGATIVE_INFINITY;
 		int i = -1;
 
-		while (count >= EPV) {
-			float localMax = FloatVector.fromArray(PFS, x, xOffset).maxLanes();
-			if (max < localMax) {
-				max = localMax;
-				i = xOffset;
+		if (count >= EPV) {
+			// Each lane keeps its max and index of its first occurrence, strict compare doesn't replace equal value.
+			// Two accumulators hide latency of compare and blend, smallest index of lanes with result wins.
+			final IntVector vstep = IntVector.broadcast(PIS, EPVx2);
+			FloatVector vmax1 = FloatVector.broadcast(PFS, Float.NEGATIVE_INFINITY);
+			FloatVector vmax2 = FloatVector.broadcast(PFS, Float.NEGATIVE_INFINITY);
+			IntVector vi1 = IntVector.broadcast(PIS, -1);
+			IntVector vi2 = IntVector.broadcast(PIS, -1);
+			IntVector vj1 = IntVector.fromArray(PIS, IOTA, 0).add(xOffset);
+			IntVector vj2 = vj1.add(EPV);
+
+			while (count >= EPVx2) {
+				final FloatVector vx1 = FloatVector.fromArray(PFS, x, xOffset);
+				final FloatVector vx2 = FloatVector.fromArray(PFS, x, xOffset + EPV);
+
+				final VectorMask<Float> m1 = vmax1.lessThan(vx1);
+				final VectorMask<Float> m2 = vmax2.lessThan(vx2);
+				vmax1 = vmax1.blend(vx1, m1);
+				vmax2 = vmax2.blend(vx2, m2);
+				vi1 = vi1.blend(vj1, m1.cast(PIS));
+				vi2 = vi2.blend(vj2, m2.cast(PIS));
+
+				vj1 = vj1.add(vstep);
+				vj2 = vj2.add(vstep);
+				xOffset += EPVx2;
+				count -= EPVx2;
 			}
-			xOffset += EPV;
-			count -= EPV;
-		}
 
-		// Find max in vector
-		if (i >= 0) {
-			int i2 = i;
-			for (int j = i; j < i + EPV; j++) {
-				// We could compare here, as max got from here
-				if (max == x[j]) {
-					i2 = j;
-					break;
-				}
+			if (count >= EPV) {
+				final FloatVector vx1 = FloatVector.fromArray(PFS, x, xOffset);
+				final VectorMask<Float> m1 = vmax1.lessThan(vx1);
+				vmax1 = vmax1.blend(vx1, m1);
+				vi1 = vi1.blend(vj1, m1.cast(PIS));
+
+				xOffset += EPV;
+				count -= EPV;
 			}
-			i = i2;
+
+			max = Math.max(vmax1.maxLanes(), vmax2.maxLanes());
+			i = Math.min(firstLane(vmax1, vi1, max), firstLane(vmax2, vi2, max));
 		}
 
 		while (count-- > 0) {
@@ -3117,38 +5148,67 @@ public final class VOVec {
 		return i;
 	}
 
+	public static int rv_maxarg_w(float x[], int xOffset, int count) {
+		float max = Float.NEGATIVE_INFINITY;
+		int i = -1;
+		xOffset = preWrap(xOffset, x.length);
+
+		// First segment wins on equal values, as in non-wrapping implementation
+		while (count > 0) {
+			final int n = Math.min(count, x.length - xOffset);
+			final int j = rv_maxarg(x, xOffset, n);
+			if (j >= 0 && max < x[j]) {
+				max = x[j];
+				i = j;
+			}
+
+			xOffset += n;
+			if (xOffset == x.length) xOffset = 0;
+			count -= n;
+		}
+		return i;
+	}
+
 	public static int cv_maxarg(float x[], int xOffset, int count) {
 		float max = Float.NEGATIVE_INFINITY;
 		int i = -1;
-		final float aabs[] = count >= EPV ? new float[EPV] : null;
 		xOffset <<= 1;
 
-		while (count >= EPV) {
-			//@DONE: It is faster than FloatVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
-			final FloatVector vx1 = FloatVector.fromArray(PFS, x, xOffset);
-			final FloatVector vx2 = FloatVector.fromArray(PFS, x, xOffset + PFS.length());
+		if (count >= EPV) {
+			// See rv_maxarg(), lanes are complex elements here
+			final IntVector vstep = IntVector.broadcast(PIS, EPV);
+			FloatVector vmax1 = FloatVector.broadcast(PFS, Float.NEGATIVE_INFINITY);
+			IntVector vi1 = IntVector.broadcast(PIS, -1);
+			IntVector vj1 = IntVector.fromArray(PIS, IOTA, 0).add(xOffset >> 1);
 
-			final FloatVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
-			final FloatVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+			while (count >= EPV) {
+				//@DONE: It is faster than FloatVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
+				final FloatVector vx1 = FloatVector.fromArray(PFS, x, xOffset);
+				final FloatVector vx2 = FloatVector.fromArray(PFS, x, xOffset + PFS.length());
 
-			final FloatVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
-			final FloatVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+				final FloatVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+				final FloatVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
 
-			final FloatVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
-			final FloatVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+				final FloatVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+				final FloatVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
 
-			final FloatVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+				final FloatVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+				final FloatVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
 
-			vxabs.intoArray(aabs, 0);
-			for (int j = 0; j < EPV; j++) {
-				if (max < aabs[j]) {
-					max = aabs[j];
-					i = xOffset + (j << 1);
-				}
+				// Not fma(), to get exactly same values as VO and scalar tail, which matters on ties
+				final FloatVector vxabs = vxre.mul(vxre).add(vxim.mul(vxim));
+
+				final VectorMask<Float> m1 = vmax1.lessThan(vxabs);
+				vmax1 = vmax1.blend(vxabs, m1);
+				vi1 = vi1.blend(vj1, m1.cast(PIS));
+
+				vj1 = vj1.add(vstep);
+				xOffset += EPV * 2;
+				count -= EPV;
 			}
 
-			xOffset += EPV * 2;
-			count -= EPV;
+			max = vmax1.maxLanes();
+			i = firstLane(vmax1, vi1, max) << 1;
 		}
 
 		while (count-- > 0) {
@@ -3163,32 +5223,75 @@ public final class VOVec {
 		return i >> 1;
 	}
 
+	public static int cv_maxarg_w(float x[], int xOffset, int count) {
+		float max = Float.NEGATIVE_INFINITY;
+		int i = -1;
+		final int xLength = x.length >> 1;
+		xOffset = preWrap(xOffset, xLength);
+
+		// First segment wins on equal values, as in non-wrapping implementation
+		while (count > 0) {
+			final int n = Math.min(count, xLength - xOffset);
+			final int j = cv_maxarg(x, xOffset, n);
+			if (j >= 0) {
+				final float abs = x[(j << 1) + 0] * x[(j << 1) + 0] + x[(j << 1) + 1] * x[(j << 1) + 1];
+				if (max < abs) {
+					max = abs;
+					i = j;
+				}
+			}
+
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+		return i;
+	}
+
 	public static int rv_minarg(float x[], int xOffset, int count) {
 		float min = Float.POSITIVE_INFINITY;
 		int i = -1;
 
-		while (count >= EPV) {
-			float localMin = FloatVector.fromArray(PFS, x, xOffset).minLanes();
-			if (min > localMin) {
-				min = localMin;
-				i = xOffset;
+		if (count >= EPV) {
+			// Each lane keeps its min and index of its first occurrence, strict compare doesn't replace equal value.
+			// Two accumulators hide latency of compare and blend, smallest index of lanes with result wins.
+			final IntVector vstep = IntVector.broadcast(PIS, EPVx2);
+			FloatVector vmin1 = FloatVector.broadcast(PFS, Float.POSITIVE_INFINITY);
+			FloatVector vmin2 = FloatVector.broadcast(PFS, Float.POSITIVE_INFINITY);
+			IntVector vi1 = IntVector.broadcast(PIS, -1);
+			IntVector vi2 = IntVector.broadcast(PIS, -1);
+			IntVector vj1 = IntVector.fromArray(PIS, IOTA, 0).add(xOffset);
+			IntVector vj2 = vj1.add(EPV);
+
+			while (count >= EPVx2) {
+				final FloatVector vx1 = FloatVector.fromArray(PFS, x, xOffset);
+				final FloatVector vx2 = FloatVector.fromArray(PFS, x, xOffset + EPV);
+
+				final VectorMask<Float> m1 = vmin1.greaterThan(vx1);
+				final VectorMask<Float> m2 = vmin2.greaterThan(vx2);
+				vmin1 = vmin1.blend(vx1, m1);
+				vmin2 = vmin2.blend(vx2, m2);
+				vi1 = vi1.blend(vj1, m1.cast(PIS));
+				vi2 = vi2.blend(vj2, m2.cast(PIS));
+
+				vj1 = vj1.add(vstep);
+				vj2 = vj2.add(vstep);
+				xOffset += EPVx2;
+				count -= EPVx2;
 			}
 
-			xOffset += EPV;
-			count -= EPV;
-		}
+			if (count >= EPV) {
+				final FloatVector vx1 = FloatVector.fromArray(PFS, x, xOffset);
+				final VectorMask<Float> m1 = vmin1.greaterThan(vx1);
+				vmin1 = vmin1.blend(vx1, m1);
+				vi1 = vi1.blend(vj1, m1.cast(PIS));
 
-		// Find min in vector
-		if (i >= 0) {
-			int i2 = i;
-			for (int j = i; j < i + EPV; j++) {
-				// We could compare here, as min got from here
-				if (min == x[j]) {
-					i2 = j;
-					break;
-				}
+				xOffset += EPV;
+				count -= EPV;
 			}
-			i = i2;
+
+			min = Math.min(vmin1.minLanes(), vmin2.minLanes());
+			i = Math.min(firstLane(vmin1, vi1, min), firstLane(vmin2, vi2, min));
 		}
 
 		while (count-- > 0) {
@@ -3201,38 +5304,67 @@ public final class VOVec {
 		return i;
 	}
 
+	public static int rv_minarg_w(float x[], int xOffset, int count) {
+		float min = Float.POSITIVE_INFINITY;
+		int i = -1;
+		xOffset = preWrap(xOffset, x.length);
+
+		// First segment wins on equal values, as in non-wrapping implementation
+		while (count > 0) {
+			final int n = Math.min(count, x.length - xOffset);
+			final int j = rv_minarg(x, xOffset, n);
+			if (j >= 0 && min > x[j]) {
+				min = x[j];
+				i = j;
+			}
+
+			xOffset += n;
+			if (xOffset == x.length) xOffset = 0;
+			count -= n;
+		}
+		return i;
+	}
+
 	public static int cv_minarg(float x[], int xOffset, int count) {
 		float min = Float.POSITIVE_INFINITY;
 		int i = -1;
-		final float aabs[] = count >= EPV ? new float[EPV] : null;
 		xOffset <<= 1;
 
-		while (count >= EPV) {
-			//@DONE: It is faster than FloatVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
-			final FloatVector vx1 = FloatVector.fromArray(PFS, x, xOffset);
-			final FloatVector vx2 = FloatVector.fromArray(PFS, x, xOffset + PFS.length());
+		if (count >= EPV) {
+			// See rv_minarg(), lanes are complex elements here
+			final IntVector vstep = IntVector.broadcast(PIS, EPV);
+			FloatVector vmin1 = FloatVector.broadcast(PFS, Float.POSITIVE_INFINITY);
+			IntVector vi1 = IntVector.broadcast(PIS, -1);
+			IntVector vj1 = IntVector.fromArray(PIS, IOTA, 0).add(xOffset >> 1);
 
-			final FloatVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
-			final FloatVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+			while (count >= EPV) {
+				//@DONE: It is faster than FloatVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
+				final FloatVector vx1 = FloatVector.fromArray(PFS, x, xOffset);
+				final FloatVector vx2 = FloatVector.fromArray(PFS, x, xOffset + PFS.length());
 
-			final FloatVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
-			final FloatVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+				final FloatVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+				final FloatVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
 
-			final FloatVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
-			final FloatVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+				final FloatVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+				final FloatVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
 
-			final FloatVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+				final FloatVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+				final FloatVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
 
-			vxabs.intoArray(aabs, 0);
-			for (int j = 0; j < EPV; j++) {
-				if (min > aabs[j]) {
-					min = aabs[j];
-					i = xOffset + (j << 1);
-				}
+				// Not fma(), to get exactly same values as VO and scalar tail, which matters on ties
+				final FloatVector vxabs = vxre.mul(vxre).add(vxim.mul(vxim));
+
+				final VectorMask<Float> m1 = vmin1.greaterThan(vxabs);
+				vmin1 = vmin1.blend(vxabs, m1);
+				vi1 = vi1.blend(vj1, m1.cast(PIS));
+
+				vj1 = vj1.add(vstep);
+				xOffset += EPV * 2;
+				count -= EPV;
 			}
 
-			xOffset += EPV * 2;
-			count -= EPV;
+			min = vmin1.minLanes();
+			i = firstLane(vmin1, vi1, min) << 1;
 		}
 
 		while (count-- > 0) {
@@ -3247,6 +5379,31 @@ public final class VOVec {
 		return i >> 1;
 	}
 
+	public static int cv_minarg_w(float x[], int xOffset, int count) {
+		float min = Float.POSITIVE_INFINITY;
+		int i = -1;
+		final int xLength = x.length >> 1;
+		xOffset = preWrap(xOffset, xLength);
+
+		// First segment wins on equal values, as in non-wrapping implementation
+		while (count > 0) {
+			final int n = Math.min(count, xLength - xOffset);
+			final int j = cv_minarg(x, xOffset, n);
+			if (j >= 0) {
+				final float abs = x[(j << 1) + 0] * x[(j << 1) + 0] + x[(j << 1) + 1] * x[(j << 1) + 1];
+				if (min > abs) {
+					min = abs;
+					i = j;
+				}
+			}
+
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+		return i;
+	}
+
 	public static void rv_rs_lin_rv_rs_i(float z[], int zOffset, float a1, float x[], int xOffset, float a2, int count) {
 		FloatVector va1 = null;
 		FloatVector va2 = null;
@@ -3273,6 +5430,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void rv_rs_lin_rv_rs_iw(float z[], int zOffset, float a1, float x[], int xOffset, float a2, int count) {
+		final int zLength = z.length;
+		final int xLength = x.length;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			rv_rs_lin_rv_rs_i(z, zOffset, a1, x, xOffset, a2, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void rv_rs_lin_rv_rs(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2, int count) {
 		FloatVector va1 = null;
 		FloatVector va2 = null;
@@ -3297,6 +5472,28 @@ public final class VOVec {
 			z[zOffset++] = x[xOffset++] * a1 + y[yOffset++] * a2;
 	}
 
+	public static void rv_rs_lin_rv_rs_w(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2, int count) {
+		final int zLength = z.length;
+		final int xLength = x.length;
+		final int yLength = y.length;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+		yOffset = preWrap(yOffset, yLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, Math.min(xLength - xOffset, yLength - yOffset)));
+			rv_rs_lin_rv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			yOffset += n;
+			if (yOffset == yLength) yOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void rv_rs_lin_rv_cs(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2[], int count) {
 		FloatVector va1 = null;
 		FloatVector va2re = null;
@@ -3335,6 +5532,28 @@ public final class VOVec {
 		}
 	}
 
+	public static void rv_rs_lin_rv_cs_w(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2[], int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length;
+		final int yLength = y.length;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+		yOffset = preWrap(yOffset, yLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, Math.min(xLength - xOffset, yLength - yOffset)));
+			rv_rs_lin_rv_cs(z, zOffset, x, xOffset, a1, y, yOffset, a2, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			yOffset += n;
+			if (yOffset == yLength) yOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void rv_cs_lin_rv_cs(float z[], int zOffset, float x[], int xOffset, float a1[], float y[], int yOffset, float a2[], int count) {
 		FloatVector va1re = null;
 		FloatVector va1im = null;
@@ -3375,6 +5594,28 @@ public final class VOVec {
 		}
 	}
 
+	public static void rv_cs_lin_rv_cs_w(float z[], int zOffset, float x[], int xOffset, float a1[], float y[], int yOffset, float a2[], int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length;
+		final int yLength = y.length;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+		yOffset = preWrap(yOffset, yLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, Math.min(xLength - xOffset, yLength - yOffset)));
+			rv_cs_lin_rv_cs(z, zOffset, x, xOffset, a1, y, yOffset, a2, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			yOffset += n;
+			if (yOffset == yLength) yOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_rs_lin_rv_rs_i(float z[], int zOffset, float a1, float x[], int xOffset, float a2, int count) {
 		FloatVector va1 = null;
 		FloatVector va2 = null;
@@ -3405,6 +5646,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_rs_lin_rv_rs_iw(float z[], int zOffset, float a1, float x[], int xOffset, float a2, int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			cv_rs_lin_rv_rs_i(z, zOffset, a1, x, xOffset, a2, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_rs_lin_rv_rs(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2, int count) {
 		FloatVector va1 = null;
 		FloatVector va2 = null;
@@ -3438,112 +5697,920 @@ public final class VOVec {
 		}
 	}
 
-	public static void rv_10log10_i(float z[], int zOffset, int count) {
-		while (count >= EPV) {
-			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
-			vz.abs().log10().mul(10.0f).intoArray(z, zOffset);
-
-			zOffset += EPV;
-			count -= EPV;
+	public static void cv_rs_lin_rv_rs_w(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2, int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length >> 1;
+		final int yLength = y.length;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+		yOffset = preWrap(yOffset, yLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, Math.min(xLength - xOffset, yLength - yOffset)));
+			cv_rs_lin_rv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			yOffset += n;
+			if (yOffset == yLength) yOffset = 0;
+			count -= n;
 		}
+	}
 
-		while (count-- > 0) {
-			z[zOffset] = 10 * (float)Math.log10(Math.abs(z[zOffset]) + Float.MIN_NORMAL);
-			zOffset += 1;
+	public static void cv_cs_lin_rv_rs_i(float z[], int zOffset, float a1[], float x[], int xOffset, float a2, int count) {
+		FloatVector va1re = null, va1im = null;
+		FloatVector va2 = null;
+		if (count >= EPV2) {
+			// va1re is [(a1.re, a1.re), (a1.re, a1.re), ...]
+			va1re = FloatVector.broadcast(PFS, a1[0]);
+			// va1im is [(-a1.im, a1.im), (-a1.im, a1.im), ...]
+			va1im = FloatVector.broadcast(PFS, a1[1]).neg(MASK_C_RE);
+			va2 = FloatVector.broadcast(PFS2, a2);
 		}
-	}
 
-	public static void rv_10log10(float z[], int zOffset, float x[], int xOffset, int count) {
-		while (count >= EPV) {
-			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
-			vx.abs().log10().mul(10.0f).intoArray(z, zOffset);
+		zOffset <<= 1;
 
-			xOffset += EPV;
+		while (count >= EPV2) {
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+			final FloatVector vx = FloatVector.fromArray(PFS2, x, xOffset);
+
+			// Rearrange of vx gives zeroes in im-parts and it could be added without any masks or blends
+			final FloatVector vxa2 = vx.mul(va2).reshape(PFS).rearrange(SHUFFLE_RV_TO_CV_RE);
+			// z * a1 is z * a1.re + swap(z) * (-a1.im, a1.im), each product is fused with following addition
+			vz.fma(va1re, vz.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(va1im, vxa2)).intoArray(z, zOffset);
+
+			xOffset += EPV2;
 			zOffset += EPV;
-			count -= EPV;
+			count -= EPV2;
 		}
 
-		while (count-- > 0)
-			z[zOffset++] = 10 * (float)Math.log10(Math.abs(x[xOffset++]) + Float.MIN_NORMAL);
+		float k0, k1, k2;
+		while (count-- > 0) {
+			k0 = z[zOffset + 0] * a1[0];
+			k1 = z[zOffset + 1] * a1[1];
+			k2 = (z[zOffset + 0] + z[zOffset + 1]) * (a1[0] + a1[1]);
+			z[zOffset + 0] = k0 - k1 + x[xOffset] * a2;
+			z[zOffset + 1] = k2 - k0 - k1;
+			xOffset += 1;
+			zOffset += 2;
+		}
 	}
 
-	public static void rv_10log10_rs_i(float z[], int zOffset, float base, int count) {
-		base = 10 * (float)Math.log10(Math.abs(base) + Float.MIN_NORMAL);
+	public static void cv_cs_lin_rv_rs_iw(float z[], int zOffset, float a1[], float x[], int xOffset, float a2, int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
 
-		while (count >= EPV) {
-			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
-			vz.abs().log10().mul(10.0f).sub(base).intoArray(z, zOffset);
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			cv_cs_lin_rv_rs_i(z, zOffset, a1, x, xOffset, a2, n);
 
-			zOffset += EPV;
-			count -= EPV;
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
 		}
+	}
 
-		while (count-- > 0) {
-			z[zOffset] = 10 * (float)Math.log10(Math.abs(z[zOffset]) + Float.MIN_NORMAL) - base;
-			zOffset += 1;
+	public static void cv_cs_lin_rv_rs(float z[], int zOffset, float x[], int xOffset, float a1[], float y[], int yOffset, float a2, int count) {
+		FloatVector va1re = null, va1im = null;
+		FloatVector va2 = null;
+		if (count >= EPV2) {
+			// va1re is [(a1.re, a1.re), (a1.re, a1.re), ...]
+			va1re = FloatVector.broadcast(PFS, a1[0]);
+			// va1im is [(-a1.im, a1.im), (-a1.im, a1.im), ...]
+			va1im = FloatVector.broadcast(PFS, a1[1]).neg(MASK_C_RE);
+			va2 = FloatVector.broadcast(PFS2, a2);
 		}
-	}
 
-	public static void rv_10log10_rs(float z[], int zOffset, float x[], int xOffset, float base, int count) {
-		base = 10 * (float)Math.log10(Math.abs(base) + Float.MIN_NORMAL);
+		xOffset <<= 1;
+		zOffset <<= 1;
 
-		while (count >= EPV) {
+		while (count >= EPV2) {
 			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
-			vx.abs().log10().mul(10.0f).sub(base).intoArray(z, zOffset);
+			final FloatVector vy = FloatVector.fromArray(PFS2, y, yOffset);
+
+			// Rearrange of vy gives zeroes in im-parts and it could be added without any masks or blends
+			final FloatVector vya2 = vy.mul(va2).reshape(PFS).rearrange(SHUFFLE_RV_TO_CV_RE);
+			// x * a1 is x * a1.re + swap(x) * (-a1.im, a1.im), each product is fused with following addition
+			vx.fma(va1re, vx.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(va1im, vya2)).intoArray(z, zOffset);
 
 			xOffset += EPV;
+			yOffset += EPV2;
 			zOffset += EPV;
-			count -= EPV;
+			count -= EPV2;
 		}
 
-		while (count-- > 0)
-			z[zOffset++] = 10 * (float)Math.log10(Math.abs(x[xOffset++]) + Float.MIN_NORMAL) - base;
+		float k0, k1, k2;
+		while (count-- > 0) {
+			k0 = x[xOffset + 0] * a1[0];
+			k1 = x[xOffset + 1] * a1[1];
+			k2 = (x[xOffset + 0] + x[xOffset + 1]) * (a1[0] + a1[1]);
+			z[zOffset + 0] = k0 - k1 + y[yOffset] * a2;
+			z[zOffset + 1] = k2 - k0 - k1;
+			xOffset += 2;
+			yOffset += 1;
+			zOffset += 2;
+		}
 	}
 
-	public static void cv_10log10(float z[], int zOffset, float x[], int xOffset, int count) {
-		xOffset <<= 1;
-
-		while (count >= EPV) {
-			//@DONE: It is faster than FloatVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
-			final FloatVector vx1 = FloatVector.fromArray(PFS, x, xOffset);
-			final FloatVector vx2 = FloatVector.fromArray(PFS, x, xOffset + PFS.length());
-
-			final FloatVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
-			final FloatVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+	public static void cv_cs_lin_rv_rs_w(float z[], int zOffset, float x[], int xOffset, float a1[], float y[], int yOffset, float a2, int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length >> 1;
+		final int yLength = y.length;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+		yOffset = preWrap(yOffset, yLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, Math.min(xLength - xOffset, yLength - yOffset)));
+			cv_cs_lin_rv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			yOffset += n;
+			if (yOffset == yLength) yOffset = 0;
+			count -= n;
+		}
+	}
 
-			final FloatVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
-			final FloatVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+	public static void cv_rs_lin_rv_cs_i(float z[], int zOffset, float a1, float x[], int xOffset, float a2[], int count) {
+		FloatVector va1 = null;
+		FloatVector va2 = null;
+		if (count >= EPV2) {
+			va1 = FloatVector.broadcast(PFS, a1);
+			// va2 is [(a2.re, a2.im), (a2.re, a2.im), ...]
+			va2 = FloatVector.fromArray(FS64, a2, 0).reshape(PFS).rearrange(SHUFFLE_CS_TO_CV_SPREAD);
+		}
 
-			final FloatVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
-			final FloatVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+		zOffset <<= 1;
 
-			final FloatVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+		while (count >= EPV2) {
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+			// vx is [(x[0], x[0]), (x[1], x[1]), ...]
+			final FloatVector vx = FloatVector.fromArray(PFS2, x, xOffset).reshape(PFS).rearrange(SHUFFLE_RV_TO_CV_BOTH);
 
-			vxabs.log10().mul(5.0f).intoArray(z, zOffset);
+			vz.fma(va1, vx.mul(va2)).intoArray(z, zOffset);
 
-			// We load twice as much complex numbers
-			xOffset += EPV * 2;
+			xOffset += EPV2;
 			zOffset += EPV;
-			count -= EPV;
+			count -= EPV2;
 		}
 
 		while (count-- > 0) {
-			z[zOffset] = 5 * (float)Math.log10(x[xOffset + 0] * x[xOffset + 0] + x[xOffset + 1] * x[xOffset + 1] + Float.MIN_NORMAL);
-			xOffset += 2;
-			zOffset += 1;
+			z[zOffset + 0] = z[zOffset + 0] * a1 + x[xOffset] * a2[0];
+			z[zOffset + 1] = z[zOffset + 1] * a1 + x[xOffset] * a2[1];
+			xOffset += 1;
+			zOffset += 2;
 		}
 	}
 
-	public static void cv_10log10_rs(float z[], int zOffset, float x[], int xOffset, float base, int count) {
-		base = 10 * (float)Math.log10(Math.abs(base) + Float.MIN_NORMAL);
-		xOffset <<= 1;
+	public static void cv_rs_lin_rv_cs_iw(float z[], int zOffset, float a1, float x[], int xOffset, float a2[], int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
 
-		while (count >= EPV) {
-			//@DONE: It is faster than FloatVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
-			final FloatVector vx1 = FloatVector.fromArray(PFS, x, xOffset);
-			final FloatVector vx2 = FloatVector.fromArray(PFS, x, xOffset + PFS.length());
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			cv_rs_lin_rv_cs_i(z, zOffset, a1, x, xOffset, a2, n);
 
-			final FloatVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
+	public static void cv_rs_lin_rv_cs(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2[], int count) {
+		FloatVector va1 = null;
+		FloatVector va2 = null;
+		if (count >= EPV2) {
+			va1 = FloatVector.broadcast(PFS, a1);
+			// va2 is [(a2.re, a2.im), (a2.re, a2.im), ...]
+			va2 = FloatVector.fromArray(FS64, a2, 0).reshape(PFS).rearrange(SHUFFLE_CS_TO_CV_SPREAD);
+		}
+
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			// vy is [(y[0], y[0]), (y[1], y[1]), ...]
+			final FloatVector vy = FloatVector.fromArray(PFS2, y, yOffset).reshape(PFS).rearrange(SHUFFLE_RV_TO_CV_BOTH);
+
+			vx.fma(va1, vy.mul(va2)).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV2;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = x[xOffset + 0] * a1 + y[yOffset] * a2[0];
+			z[zOffset + 1] = x[xOffset + 1] * a1 + y[yOffset] * a2[1];
+			xOffset += 2;
+			yOffset += 1;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_rs_lin_rv_cs_w(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2[], int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length >> 1;
+		final int yLength = y.length;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+		yOffset = preWrap(yOffset, yLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, Math.min(xLength - xOffset, yLength - yOffset)));
+			cv_rs_lin_rv_cs(z, zOffset, x, xOffset, a1, y, yOffset, a2, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			yOffset += n;
+			if (yOffset == yLength) yOffset = 0;
+			count -= n;
+		}
+	}
+
+	public static void cv_cs_lin_rv_cs_i(float z[], int zOffset, float a1[], float x[], int xOffset, float a2[], int count) {
+		FloatVector va1re = null, va1im = null;
+		FloatVector va2 = null;
+		if (count >= EPV2) {
+			// va1re is [(a1.re, a1.re), (a1.re, a1.re), ...]
+			va1re = FloatVector.broadcast(PFS, a1[0]);
+			// va1im is [(-a1.im, a1.im), (-a1.im, a1.im), ...]
+			va1im = FloatVector.broadcast(PFS, a1[1]).neg(MASK_C_RE);
+			// va2 is [(a2.re, a2.im), (a2.re, a2.im), ...]
+			va2 = FloatVector.fromArray(FS64, a2, 0).reshape(PFS).rearrange(SHUFFLE_CS_TO_CV_SPREAD);
+		}
+
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+			// vx is [(x[0], x[0]), (x[1], x[1]), ...]
+			final FloatVector vx = FloatVector.fromArray(PFS2, x, xOffset).reshape(PFS).rearrange(SHUFFLE_RV_TO_CV_BOTH);
+
+			// z * a1 is z * a1.re + swap(z) * (-a1.im, a1.im), each product is fused with following addition
+			vz.fma(va1re, vz.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(va1im, vx.mul(va2))).intoArray(z, zOffset);
+
+			xOffset += EPV2;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		float k0, k1, k2;
+		while (count-- > 0) {
+			k0 = z[zOffset + 0] * a1[0];
+			k1 = z[zOffset + 1] * a1[1];
+			k2 = (z[zOffset + 0] + z[zOffset + 1]) * (a1[0] + a1[1]);
+			z[zOffset + 0] = k0 - k1 + x[xOffset] * a2[0];
+			z[zOffset + 1] = k2 - k0 - k1 + x[xOffset] * a2[1];
+			xOffset += 1;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_cs_lin_rv_cs_iw(float z[], int zOffset, float a1[], float x[], int xOffset, float a2[], int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			cv_cs_lin_rv_cs_i(z, zOffset, a1, x, xOffset, a2, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
+	public static void cv_cs_lin_rv_cs(float z[], int zOffset, float x[], int xOffset, float a1[], float y[], int yOffset, float a2[], int count) {
+		FloatVector va1re = null, va1im = null;
+		FloatVector va2 = null;
+		if (count >= EPV2) {
+			// va1re is [(a1.re, a1.re), (a1.re, a1.re), ...]
+			va1re = FloatVector.broadcast(PFS, a1[0]);
+			// va1im is [(-a1.im, a1.im), (-a1.im, a1.im), ...]
+			va1im = FloatVector.broadcast(PFS, a1[1]).neg(MASK_C_RE);
+			// va2 is [(a2.re, a2.im), (a2.re, a2.im), ...]
+			va2 = FloatVector.fromArray(FS64, a2, 0).reshape(PFS).rearrange(SHUFFLE_CS_TO_CV_SPREAD);
+		}
+
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			// vy is [(y[0], y[0]), (y[1], y[1]), ...]
+			final FloatVector vy = FloatVector.fromArray(PFS2, y, yOffset).reshape(PFS).rearrange(SHUFFLE_RV_TO_CV_BOTH);
+
+			// x * a1 is x * a1.re + swap(x) * (-a1.im, a1.im), each product is fused with following addition
+			vx.fma(va1re, vx.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(va1im, vy.mul(va2))).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV2;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		float k0, k1, k2;
+		while (count-- > 0) {
+			k0 = x[xOffset + 0] * a1[0];
+			k1 = x[xOffset + 1] * a1[1];
+			k2 = (x[xOffset + 0] + x[xOffset + 1]) * (a1[0] + a1[1]);
+			z[zOffset + 0] = k0 - k1 + y[yOffset] * a2[0];
+			z[zOffset + 1] = k2 - k0 - k1 + y[yOffset] * a2[1];
+			xOffset += 2;
+			yOffset += 1;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_cs_lin_rv_cs_w(float z[], int zOffset, float x[], int xOffset, float a1[], float y[], int yOffset, float a2[], int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length >> 1;
+		final int yLength = y.length;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+		yOffset = preWrap(yOffset, yLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, Math.min(xLength - xOffset, yLength - yOffset)));
+			cv_cs_lin_rv_cs(z, zOffset, x, xOffset, a1, y, yOffset, a2, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			yOffset += n;
+			if (yOffset == yLength) yOffset = 0;
+			count -= n;
+		}
+	}
+
+	public static void cv_rs_lin_cv_rs_i(float z[], int zOffset, float a1, float x[], int xOffset, float a2, int count) {
+		FloatVector va1 = null;
+		FloatVector va2 = null;
+		if (count >= EPV2) {
+			va1 = FloatVector.broadcast(PFS, a1);
+			va2 = FloatVector.broadcast(PFS, a2);
+		}
+
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+
+			vz.fma(va1, vx.mul(va2)).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = z[zOffset + 0] * a1 + x[xOffset + 0] * a2;
+			z[zOffset + 1] = z[zOffset + 1] * a1 + x[xOffset + 1] * a2;
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_rs_lin_cv_rs_iw(float z[], int zOffset, float a1, float x[], int xOffset, float a2, int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			cv_rs_lin_cv_rs_i(z, zOffset, a1, x, xOffset, a2, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
+	public static void cv_rs_lin_cv_rs(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2, int count) {
+		FloatVector va1 = null;
+		FloatVector va2 = null;
+		if (count >= EPV2) {
+			va1 = FloatVector.broadcast(PFS, a1);
+			va2 = FloatVector.broadcast(PFS, a2);
+		}
+
+		xOffset <<= 1;
+		yOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
+
+			vx.fma(va1, vy.mul(va2)).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = x[xOffset + 0] * a1 + y[yOffset + 0] * a2;
+			z[zOffset + 1] = x[xOffset + 1] * a1 + y[yOffset + 1] * a2;
+			xOffset += 2;
+			yOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_rs_lin_cv_rs_w(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2, int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length >> 1;
+		final int yLength = y.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+		yOffset = preWrap(yOffset, yLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, Math.min(xLength - xOffset, yLength - yOffset)));
+			cv_rs_lin_cv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			yOffset += n;
+			if (yOffset == yLength) yOffset = 0;
+			count -= n;
+		}
+	}
+
+	public static void cv_cs_lin_cv_rs_i(float z[], int zOffset, float a1[], float x[], int xOffset, float a2, int count) {
+		FloatVector va1re = null, va1im = null;
+		FloatVector va2 = null;
+		if (count >= EPV2) {
+			// va1re is [(a1.re, a1.re), (a1.re, a1.re), ...]
+			va1re = FloatVector.broadcast(PFS, a1[0]);
+			// va1im is [(-a1.im, a1.im), (-a1.im, a1.im), ...]
+			va1im = FloatVector.broadcast(PFS, a1[1]).neg(MASK_C_RE);
+			va2 = FloatVector.broadcast(PFS, a2);
+		}
+
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+
+			// z * a1 is z * a1.re + swap(z) * (-a1.im, a1.im), each product is fused with following addition
+			vz.fma(va1re, vz.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(va1im, vx.mul(va2))).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		float k0, k1, k2;
+		while (count-- > 0) {
+			k0 = z[zOffset + 0] * a1[0];
+			k1 = z[zOffset + 1] * a1[1];
+			k2 = (z[zOffset + 0] + z[zOffset + 1]) * (a1[0] + a1[1]);
+			z[zOffset + 0] = k0 - k1 + x[xOffset + 0] * a2;
+			z[zOffset + 1] = k2 - k0 - k1 + x[xOffset + 1] * a2;
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_cs_lin_cv_rs_iw(float z[], int zOffset, float a1[], float x[], int xOffset, float a2, int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			cv_cs_lin_cv_rs_i(z, zOffset, a1, x, xOffset, a2, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
+	public static void cv_cs_lin_cv_rs(float z[], int zOffset, float x[], int xOffset, float a1[], float y[], int yOffset, float a2, int count) {
+		FloatVector va1re = null, va1im = null;
+		FloatVector va2 = null;
+		if (count >= EPV2) {
+			// va1re is [(a1.re, a1.re), (a1.re, a1.re), ...]
+			va1re = FloatVector.broadcast(PFS, a1[0]);
+			// va1im is [(-a1.im, a1.im), (-a1.im, a1.im), ...]
+			va1im = FloatVector.broadcast(PFS, a1[1]).neg(MASK_C_RE);
+			va2 = FloatVector.broadcast(PFS, a2);
+		}
+
+		xOffset <<= 1;
+		yOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
+
+			// x * a1 is x * a1.re + swap(x) * (-a1.im, a1.im), each product is fused with following addition
+			vx.fma(va1re, vx.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(va1im, vy.mul(va2))).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		float k0, k1, k2;
+		while (count-- > 0) {
+			k0 = x[xOffset + 0] * a1[0];
+			k1 = x[xOffset + 1] * a1[1];
+			k2 = (x[xOffset + 0] + x[xOffset + 1]) * (a1[0] + a1[1]);
+			z[zOffset + 0] = k0 - k1 + y[yOffset + 0] * a2;
+			z[zOffset + 1] = k2 - k0 - k1 + y[yOffset + 1] * a2;
+			xOffset += 2;
+			yOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_cs_lin_cv_rs_w(float z[], int zOffset, float x[], int xOffset, float a1[], float y[], int yOffset, float a2, int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length >> 1;
+		final int yLength = y.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+		yOffset = preWrap(yOffset, yLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, Math.min(xLength - xOffset, yLength - yOffset)));
+			cv_cs_lin_cv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			yOffset += n;
+			if (yOffset == yLength) yOffset = 0;
+			count -= n;
+		}
+	}
+
+	public static void cv_cs_lin_cv_cs_i(float z[], int zOffset, float a1[], float x[], int xOffset, float a2[], int count) {
+		FloatVector va1re = null, va1im = null;
+		FloatVector va2re = null, va2im = null;
+		if (count >= EPV2) {
+			// va1re is [(a1.re, a1.re), (a1.re, a1.re), ...]
+			va1re = FloatVector.broadcast(PFS, a1[0]);
+			// va1im is [(-a1.im, a1.im), (-a1.im, a1.im), ...]
+			va1im = FloatVector.broadcast(PFS, a1[1]).neg(MASK_C_RE);
+			// va2re is [(a2.re, a2.re), (a2.re, a2.re), ...]
+			va2re = FloatVector.broadcast(PFS, a2[0]);
+			// va2im is [(-a2.im, a2.im), (-a2.im, a2.im), ...]
+			va2im = FloatVector.broadcast(PFS, a2[1]).neg(MASK_C_RE);
+		}
+
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+
+			// z * a1 is z * a1.re + swap(z) * (-a1.im, a1.im), each product is fused with following addition
+			final FloatVector vxa2 = vx.fma(va2re, vx.rearrange(SHUFFLE_CV_SWAP_RE_IM).mul(va2im));
+			vz.fma(va1re, vz.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(va1im, vxa2)).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		float k0_1, k1_1, k2_1;
+		float k0_2, k1_2, k2_2;
+		while (count-- > 0) {
+			k0_1 = z[zOffset + 0] * a1[0];
+			k1_1 = z[zOffset + 1] * a1[1];
+			k2_1 = (z[zOffset + 0] + z[zOffset + 1]) * (a1[0] + a1[1]);
+			k0_2 = x[xOffset + 0] * a2[0];
+			k1_2 = x[xOffset + 1] * a2[1];
+			k2_2 = (x[xOffset + 0] + x[xOffset + 1]) * (a2[0] + a2[1]);
+			z[zOffset + 0] = k0_1 - k1_1 + k0_2 - k1_2;
+			z[zOffset + 1] = k2_1 - k0_1 - k1_1 + k2_2 - k0_2 - k1_2;
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_cs_lin_cv_cs_iw(float z[], int zOffset, float a1[], float x[], int xOffset, float a2[], int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			cv_cs_lin_cv_cs_i(z, zOffset, a1, x, xOffset, a2, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
+	public static void cv_cs_lin_cv_cs(float z[], int zOffset, float x[], int xOffset, float a1[], float y[], int yOffset, float a2[], int count) {
+		FloatVector va1re = null, va1im = null;
+		FloatVector va2re = null, va2im = null;
+		if (count >= EPV2) {
+			// va1re is [(a1.re, a1.re), (a1.re, a1.re), ...]
+			va1re = FloatVector.broadcast(PFS, a1[0]);
+			// va1im is [(-a1.im, a1.im), (-a1.im, a1.im), ...]
+			va1im = FloatVector.broadcast(PFS, a1[1]).neg(MASK_C_RE);
+			// va2re is [(a2.re, a2.re), (a2.re, a2.re), ...]
+			va2re = FloatVector.broadcast(PFS, a2[0]);
+			// va2im is [(-a2.im, a2.im), (-a2.im, a2.im), ...]
+			va2im = FloatVector.broadcast(PFS, a2[1]).neg(MASK_C_RE);
+		}
+
+		xOffset <<= 1;
+		yOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
+
+			// x * a1 is x * a1.re + swap(x) * (-a1.im, a1.im), each product is fused with following addition
+			final FloatVector vya2 = vy.fma(va2re, vy.rearrange(SHUFFLE_CV_SWAP_RE_IM).mul(va2im));
+			vx.fma(va1re, vx.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(va1im, vya2)).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		float k0_1, k1_1, k2_1;
+		float k0_2, k1_2, k2_2;
+		while (count-- > 0) {
+			k0_1 = x[xOffset + 0] * a1[0];
+			k1_1 = x[xOffset + 1] * a1[1];
+			k2_1 = (x[xOffset + 0] + x[xOffset + 1]) * (a1[0] + a1[1]);
+			k0_2 = y[yOffset + 0] * a2[0];
+			k1_2 = y[yOffset + 1] * a2[1];
+			k2_2 = (y[yOffset + 0] + y[yOffset + 1]) * (a2[0] + a2[1]);
+			z[zOffset + 0] = k0_1 - k1_1 + k0_2 - k1_2;
+			z[zOffset + 1] = k2_1 - k0_1 - k1_1 + k2_2 - k0_2 - k1_2;
+			xOffset += 2;
+			yOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_cs_lin_cv_cs_w(float z[], int zOffset, float x[], int xOffset, float a1[], float y[], int yOffset, float a2[], int count) {
+		final int zLength = z.length >> 1;
+		final int xLength = x.length >> 1;
+		final int yLength = y.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+		yOffset = preWrap(yOffset, yLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, Math.min(xLength - xOffset, yLength - yOffset)));
+			cv_cs_lin_cv_cs(z, zOffset, x, xOffset, a1, y, yOffset, a2, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			yOffset += n;
+			if (yOffset == yLength) yOffset = 0;
+			count -= n;
+		}
+	}
+
+	public static void rv_10log10_i(float z[], int zOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+			vz.abs().log10().mul(10.0f).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z[zOffset] = 10 * (float)Math.log10(Math.abs(z[zOffset]) + Float.MIN_NORMAL);
+			zOffset += 1;
+		}
+	}
+
+	public static void rv_10log10_iw(float z[], int zOffset, int count) {
+		final int zLength = z.length;
+		zOffset = preWrap(zOffset, zLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, zLength - zOffset);
+			rv_10log10_i(z, zOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			count -= n;
+		}
+	}
+
+	public static void rv_10log10(float z[], int zOffset, float x[], int xOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			vx.abs().log10().mul(10.0f).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z[zOffset++] = 10 * (float)Math.log10(Math.abs(x[xOffset++]) + Float.MIN_NORMAL);
+	}
+
+	public static void rv_10log10_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		final int zLength = z.length;
+		final int xLength = x.length;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			rv_10log10(z, zOffset, x, xOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
+	public static void rv_10log10_rs_i(float z[], int zOffset, float base, int count) {
+		base = 10 * (float)Math.log10(Math.abs(base) + Float.MIN_NORMAL);
+
+		while (count >= EPV) {
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+			vz.abs().log10().mul(10.0f).sub(base).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z[zOffset] = 10 * (float)Math.log10(Math.abs(z[zOffset]) + Float.MIN_NORMAL) - base;
+			zOffset += 1;
+		}
+	}
+
+	public static void rv_10log10_rs_iw(float z[], int zOffset, float base, int count) {
+		final int zLength = z.length;
+		zOffset = preWrap(zOffset, zLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, zLength - zOffset);
+			rv_10log10_rs_i(z, zOffset, base, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			count -= n;
+		}
+	}
+
+	public static void rv_10log10_rs(float z[], int zOffset, float x[], int xOffset, float base, int count) {
+		base = 10 * (float)Math.log10(Math.abs(base) + Float.MIN_NORMAL);
+
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			vx.abs().log10().mul(10.0f).sub(base).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z[zOffset++] = 10 * (float)Math.log10(Math.abs(x[xOffset++]) + Float.MIN_NORMAL) - base;
+	}
+
+	public static void rv_10log10_rs_w(float z[], int zOffset, float x[], int xOffset, float base, int count) {
+		final int zLength = z.length;
+		final int xLength = x.length;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			rv_10log10_rs(z, zOffset, x, xOffset, base, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
+	public static void cv_10log10(float z[], int zOffset, float x[], int xOffset, int count) {
+		xOffset <<= 1;
+
+		while (count >= EPV) {
+			//@DONE: It is faster than FloatVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
+			final FloatVector vx1 = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vx2 = FloatVector.fromArray(PFS, x, xOffset + PFS.length());
+
+			final FloatVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final FloatVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final FloatVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final FloatVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final FloatVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+			final FloatVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+			final FloatVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+
+			vxabs.log10().mul(5.0f).intoArray(z, zOffset);
+
+			// We load twice as much complex numbers
+			xOffset += EPV * 2;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z[zOffset] = 5 * (float)Math.log10(x[xOffset + 0] * x[xOffset + 0] + x[xOffset + 1] * x[xOffset + 1] + Float.MIN_NORMAL);
+			xOffset += 2;
+			zOffset += 1;
+		}
+	}
+
+	public static void cv_10log10_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		final int zLength = z.length;
+		final int xLength = x.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			cv_10log10(z, zOffset, x, xOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
+	public static void cv_10log10_rs(float z[], int zOffset, float x[], int xOffset, float base, int count) {
+		base = 10 * (float)Math.log10(Math.abs(base) + Float.MIN_NORMAL);
+		xOffset <<= 1;
+
+		while (count >= EPV) {
+			//@DONE: It is faster than FloatVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
+			final FloatVector vx1 = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vx2 = FloatVector.fromArray(PFS, x, xOffset + PFS.length());
+
+			final FloatVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
 			final FloatVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
 
 			final FloatVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
@@ -3569,6 +6636,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_10log10_rs_w(float z[], int zOffset, float x[], int xOffset, float base, int count) {
+		final int zLength = z.length;
+		final int xLength = x.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			cv_10log10_rs(z, zOffset, x, xOffset, base, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void rv_20log10_i(float z[], int zOffset, int count) {
 		while (count >= EPV) {
 			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
@@ -3584,6 +6669,20 @@ public final class VOVec {
 		}
 	}
 
+	public static void rv_20log10_iw(float z[], int zOffset, int count) {
+		final int zLength = z.length;
+		zOffset = preWrap(zOffset, zLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, zLength - zOffset);
+			rv_20log10_i(z, zOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void rv_20log10(float z[], int zOffset, float x[], int xOffset, int count) {
 		while (count >= EPV) {
 			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
@@ -3598,6 +6697,24 @@ public final class VOVec {
 			z[zOffset++] = 20 * (float)Math.log10(Math.abs(x[xOffset++]) + Float.MIN_NORMAL);
 	}
 
+	public static void rv_20log10_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		final int zLength = z.length;
+		final int xLength = x.length;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			rv_20log10(z, zOffset, x, xOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void rv_20log10_rs_i(float z[], int zOffset, float base, int count) {
 		base = 20 * (float)Math.log10(Math.abs(base) + Float.MIN_NORMAL);
 
@@ -3615,6 +6732,20 @@ public final class VOVec {
 		}
 	}
 
+	public static void rv_20log10_rs_iw(float z[], int zOffset, float base, int count) {
+		final int zLength = z.length;
+		zOffset = preWrap(zOffset, zLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, zLength - zOffset);
+			rv_20log10_rs_i(z, zOffset, base, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void rv_20log10_rs(float z[], int zOffset, float x[], int xOffset, float base, int count) {
 		base = 20 * (float)Math.log10(Math.abs(base) + Float.MIN_NORMAL);
 
@@ -3631,6 +6762,24 @@ public final class VOVec {
 			z[zOffset++] = 20 * (float)Math.log10(Math.abs(x[xOffset++]) + Float.MIN_NORMAL) - base;
 	}
 
+	public static void rv_20log10_rs_w(float z[], int zOffset, float x[], int xOffset, float base, int count) {
+		final int zLength = z.length;
+		final int xLength = x.length;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			rv_20log10_rs(z, zOffset, x, xOffset, base, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_20log10(float z[], int zOffset, float x[], int xOffset, int count) {
 		xOffset <<= 1;
 
@@ -3665,6 +6814,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_20log10_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		final int zLength = z.length;
+		final int xLength = x.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			cv_20log10(z, zOffset, x, xOffset, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
 	public static void cv_20log10_rs(float z[], int zOffset, float x[], int xOffset, float base, int count) {
 		base = 20 * (float)Math.log10(Math.abs(base) + Float.MIN_NORMAL);
 		xOffset <<= 1;
@@ -3699,4 +6866,222 @@ public final class VOVec {
 			zOffset += 1;
 		}
 	}
+
+	public static void cv_20log10_rs_w(float z[], int zOffset, float x[], int xOffset, float base, int count) {
+		final int zLength = z.length;
+		final int xLength = x.length >> 1;
+		zOffset = preWrap(zOffset, zLength);
+		xOffset = preWrap(xOffset, xLength);
+
+		while (count > 0) {
+			final int n = Math.min(count, Math.min(zLength - zOffset, xLength - xOffset));
+			cv_20log10_rs(z, zOffset, x, xOffset, base, n);
+
+			zOffset += n;
+			if (zOffset == zLength) zOffset = 0;
+			xOffset += n;
+			if (xOffset == xLength) xOffset = 0;
+			count -= n;
+		}
+	}
+
+	// Vectorized counterpart of FastTrig.atan2(): octant reduction and
+	// polynomial instead of table lookup, as gathers are slower than a few
+	// FMAs. Polynomial is Abramowitz & Stegun 4.4.49, |error| <= 1e-5 on [0, 1],
+	// which is well inside FastTrig error budget (~0.002)
+	private static FloatVector fastAtan2(FloatVector vy, FloatVector vx) {
+		final FloatVector vay = vy.abs();
+		final FloatVector vax = vx.abs();
+
+		// Float.MIN_VALUE instead of zero in denominator gives 0 for (0, 0), like FastTrig.atan2()
+		final FloatVector vrel = vay.min(vax).div(vay.max(vax).max(ATAN_MIN_DENOMINATOR));
+		final FloatVector vrel2 = vrel.mul(vrel);
+
+		FloatVector va = vrel2.fma(ATAN_C9, ATAN_C7).fma(vrel2, ATAN_C5).fma(vrel2, ATAN_C3).fma(vrel2, ATAN_C1).mul(vrel);
+
+		// [45, 90] -> PI/2 - angle
+		va = va.blend(ATAN_PI2.sub(va), vay.greaterThan(vax));
+		// [90, 180] -> PI - angle
+		va = va.blend(ATAN_PI.sub(va), vx.lessThan(ZERO));
+		// Lower half-plane -> -angle
+		return va.blend(va.neg(), vy.lessThan(ZERO));
+	}
+
+	// Compensated reductions: Kahan summation in each lane, lanes and tail are added in double.
+	// They are slower than plain ones, and are used only for long vectors, where error of
+	// float accumulators grows, if "vectorapi.VOVec.compensated" system property is set.
+	static float rv_sum_kahan(float x[], int xOffset, int count) {
+		FloatVector vsum = FloatVector.zero(PFS);
+		FloatVector vc = FloatVector.zero(PFS);
+
+		while (count >= EPV) {
+			final FloatVector vy = FloatVector.fromArray(PFS, x, xOffset).sub(vc);
+			final FloatVector vt = vsum.add(vy);
+			vc = vt.sub(vsum).sub(vy);
+			vsum = vt;
+
+			xOffset += EPV;
+			count -= EPV;
+		}
+
+		double sum = kahanLanes(vsum, vc, 0, 1);
+		while (count-- > 0)
+			sum += x[xOffset++];
+		return (float)sum;
+	}
+
+	static void cv_sum_kahan(float z[], int zOffset, float x[], int xOffset, int count) {
+		FloatVector vsum = FloatVector.zero(PFS);
+		FloatVector vc = FloatVector.zero(PFS);
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vy = FloatVector.fromArray(PFS, x, xOffset).sub(vc);
+			final FloatVector vt = vsum.add(vy);
+			vc = vt.sub(vsum).sub(vy);
+			vsum = vt;
+
+			xOffset += EPV;
+			count -= EPV2;
+		}
+
+		double re = kahanLanes(vsum, vc, 0, 2);
+		double im = kahanLanes(vsum, vc, 1, 2);
+		while (count-- > 0) {
+			re += x[xOffset + 0];
+			im += x[xOffset + 1];
+			xOffset += 2;
+		}
+		z[zOffset + 0] = (float)re;
+		z[zOffset + 1] = (float)im;
+	}
+
+	static float rv_dot_rv_kahan(float x[], int xOffset, float y[], int yOffset, int count) {
+		FloatVector vsum = FloatVector.zero(PFS);
+		FloatVector vc = FloatVector.zero(PFS);
+
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
+			final FloatVector vp = vx.mul(vy).sub(vc);
+			final FloatVector vt = vsum.add(vp);
+			vc = vt.sub(vsum).sub(vp);
+			vsum = vt;
+
+			xOffset += EPV;
+			yOffset += EPV;
+			count -= EPV;
+		}
+
+		double sum = kahanLanes(vsum, vc, 0, 1);
+		while (count-- > 0)
+			sum += x[xOffset++] * y[yOffset++];
+		return (float)sum;
+	}
+
+	static void rv_dot_cv_kahan(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		FloatVector vsum = FloatVector.zero(PFS);
+		FloatVector vc = FloatVector.zero(PFS);
+		yOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			// vx is [(x[0], x[0]), (x[1], x[1]), ...]
+			final FloatVector vx = FloatVector.fromArray(PFS2, x, xOffset).reshape(PFS).rearrange(SHUFFLE_RV_TO_CV_BOTH);
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
+			final FloatVector vp = vx.mul(vy).sub(vc);
+			final FloatVector vt = vsum.add(vp);
+			vc = vt.sub(vsum).sub(vp);
+			vsum = vt;
+
+			xOffset += EPV2;
+			yOffset += EPV;
+			count -= EPV2;
+		}
+
+		double re = kahanLanes(vsum, vc, 0, 2);
+		double im = kahanLanes(vsum, vc, 1, 2);
+		while (count-- > 0) {
+			re += x[xOffset] * y[yOffset + 0];
+			im += x[xOffset] * y[yOffset + 1];
+			xOffset += 1;
+			yOffset += 2;
+		}
+		z[zOffset + 0] = (float)re;
+		z[zOffset + 1] = (float)im;
+	}
+
+	static void cv_dot_cv_kahan(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		// Same decomposition as in cv_dot_cv(): sum(x * y.re) and sum(x * y.im) are accumulated separately
+		FloatVector vsumre = FloatVector.zero(PFS);
+		FloatVector vcre = FloatVector.zero(PFS);
+		FloatVector vsumim = FloatVector.zero(PFS);
+		FloatVector vcim = FloatVector.zero(PFS);
+		xOffset <<= 1;
+		yOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+
+			final FloatVector vpre = vx.mul(vy.rearrange(SHUFFLE_CV_SPREAD_RE)).sub(vcre);
+			final FloatVector vtre = vsumre.add(vpre);
+			vcre = vtre.sub(vsumre).sub(vpre);
+			vsumre = vtre;
+
+			final FloatVector vpim = vx.mul(vy.rearrange(SHUFFLE_CV_SPREAD_IM)).sub(vcim);
+			final FloatVector vtim = vsumim.add(vpim);
+			vcim = vtim.sub(vsumim).sub(vpim);
+			vsumim = vtim;
+
+			xOffset += EPV;
+			yOffset += EPV;
+			count -= EPV2;
+		}
+
+		// Real part is x.re * y.re - x.im * y.im, imaginary part is x.im * y.re + x.re * y.im
+		double re = kahanLanes(vsumre, vcre, 0, 2) - kahanLanes(vsumim, vcim, 1, 2);
+		double im = kahanLanes(vsumre, vcre, 1, 2) + kahanLanes(vsumim, vcim, 0, 2);
+		while (count-- > 0) {
+			re += (double)x[xOffset + 0] * y[yOffset + 0] - (double)x[xOffset + 1] * y[yOffset + 1];
+			im += (double)x[xOffset + 1] * y[yOffset + 0] + (double)x[xOffset + 0] * y[yOffset + 1];
+			xOffset += 2;
+			yOffset += 2;
+		}
+		z[zOffset + 0] = (float)re;
+		z[zOffset + 1] = (float)im;
+	}
+
+	// Sum of lanes first, first + step, ... of compensated accumulator
+	private static double kahanLanes(FloatVector vsum, FloatVector vc, int first, int step) {
+		final float asum[] = new float[EPV];
+		final float ac[] = new float[EPV];
+		vsum.intoArray(asum, 0);
+		vc.intoArray(ac, 0);
+
+		double sum = 0.0;
+		for (int i = first; i < EPV; i += step)
+			sum += (double)asum[i] - (double)ac[i];
+		return sum;
+	}
+
+	// Smallest index of lanes which are equal to value, or Integer.MAX_VALUE
+	private static int firstLane(FloatVector v, IntVector vi, float value) {
+		return IntVector.broadcast(PIS, Integer.MAX_VALUE).blend(vi, v.equal(FloatVector.broadcast(PFS, value)).cast(PIS)).minLanes();
+	}
+
+	// Variant selected by VProfile for size class of count
+	private static int variant(int count, int small, int medium, int large) {
+		return count < VProfile.MEDIUM_FROM ? small : count < VProfile.LARGE_FROM ? medium : large;
+	}
+
+	// All wrapping implementations split call to contiguous segments which
+	// don't cross boundary of any array and process them with non-wrapping
+	// implementations, so there is no branching in tight loops
+	private static int preWrap(int i, int length) {
+		i %= length;
+		return (i < 0) ? (i + length) : i;
+	}
 }
@@ -0,0 +1,508 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi;
+
+import jdk.incubator.vector.*;
+
+import java.util.Arrays;
+
+/**
+ * Alternative implementations of some {@link VOVec} operations, which win or lose
+ * depending on CPU (see {@code specific} benchmarks). Variant 0 of each operation
+ * is implementation built into {@link VOVec}, other ones are here, and
+ * {@link VProfile} selects one of them for each operation and size class.
+ * Benchmarks in {@code vector.specific} call these methods directly, so
+ * there is only one copy of each variant.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration
+ */
+@SuppressWarnings({"PointlessArithmeticExpression", "UnusedDeclaration"})
+public final class VOVecVariants {
+	// Names of variants as they are stored in profile, index is variant number
+	static final String RV_DOT_RV[] = { "vaccum_unroll_4_fma", "saccum_unroll_2_fma", "saccum_unroll_4_fma", "vaccum" };
+	static final String CV_MAX[] = { "in_loop_into_array", "in_loop_lane", "out_of_loop_into_array" };
+	static final String CS_DIV_CV[] = { "reshape_rearrange", "spread_rearrange", "reshape_spread", "spread_spread" };
+	static final String CV_EXP[] = { "epv", "epv2", "epv_epv2" };
+
+	private final static VectorSpecies<Float> PFS = VSpecies.FLOAT;
+	private final static int EPV = PFS.length();
+	private final static int EPV2 = EPV / 2;
+	private final static int EPVx2 = EPV * 2;
+	private final static int EPVx3 = EPV * 3;
+	private final static int EPVx4 = EPV * 4;
+	private final static VectorSpecies<Float> FS64 = FloatVector.SPECIES_64;
+	private final static VectorMask<Float> MASK_C_IM;
+	private final static VectorMask<Float> MASK_SECOND_HALF;
+	private final static VectorShuffle<Float> SHUFFLE_CS_TO_CV_SPREAD;
+	private final static VectorShuffle<Float> SHUFFLE_CV_SWAP_RE_IM;
+	private final static VectorShuffle<Float> SHUFFLE_CV_SPREAD_RE;
+	private final static VectorShuffle<Float> SHUFFLE_CV_SPREAD_IM;
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_PACK_RE_FIRST;
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_PACK_IM_FIRST;
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_PACK_RE_SECOND;
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_PACK_IM_SECOND;
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_UNPACK_RE_FIRST;
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_UNPACK_IM_FIRST;
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_UNPACK_RE_SECOND;
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_UNPACK_IM_SECOND;
+	private final static int LOAD_CS_TO_CV_SPREAD[];
+	private final static int LOAD_CV_TO_CV_SPREAD_RE[];
+	private final static int LOAD_CV_TO_CV_SPREAD_IM[];
+
+	static {
+		boolean[] alter = new boolean[EPV + 1];
+
+		alter[0] = true;
+		for (int i = 1; i < alter.length; i++)
+			alter[i] = !alter[i - 1];
+		MASK_C_IM = VectorMask.fromArray(PFS, alter, 1);
+
+		boolean[] secondhalf = new boolean[EPV];
+		Arrays.fill(secondhalf, PFS.length() / 2, secondhalf.length, true);
+		MASK_SECOND_HALF = VectorMask.fromArray(PFS, secondhalf, 0);
+
+		// [re, im] -> [(re, im), (re, im), (re, im), ...]
+		SHUFFLE_CS_TO_CV_SPREAD = VectorShuffle.shuffle(PFS, i -> i % 2);
+
+		// [(re0, im0), (re1, im1), ...] -> [(re0, re0), (re1, re1), ...]
+		SHUFFLE_CV_SPREAD_RE = VectorShuffle.shuffle(PFS, i -> i - i % 2);
+		// [(re0, im0), (re1, im1), ...] -> [(im0, im0), (im1, im1), ...]
+		SHUFFLE_CV_SPREAD_IM = VectorShuffle.shuffle(PFS, i -> i - i % 2 + 1);
+
+		// [(re0, im0), (re1, im1), ...] -> [re0, re1, ..., re_len, ?, ...]
+		SHUFFLE_CV_TO_CV_PACK_RE_FIRST = VectorShuffle.shuffle(PFS, i -> (i < EPV2) ? i * 2 : 0);
+		// [(re0, im0), (re1, im1), ...] -> [im0, im1, ..., im_len, ?, ...]
+		SHUFFLE_CV_TO_CV_PACK_IM_FIRST = VectorShuffle.shuffle(PFS, i -> (i < EPV2) ? i * 2 + 1 : 0);
+		// [(re0, im0), (re1, im1), ...] -> [?, ..., re0, re1, ..., re_len]
+		SHUFFLE_CV_TO_CV_PACK_RE_SECOND = VectorShuffle.shuffle(PFS, i -> (i >= EPV2) ? i * 2 - EPV : 0);
+		// [(re0, im0), (re1, im1), ...] -> [?, ..., im0, im1, ..., im_len]
+		SHUFFLE_CV_TO_CV_PACK_IM_SECOND = VectorShuffle.shuffle(PFS, i -> (i >= EPV2) ? i * 2 - EPV + 1 : 0);
+
+		// [re0, re1, re2, ...] -> [(re0, ?), (re1, ?), ..., (re_{len/2}, ?)]
+		SHUFFLE_CV_TO_CV_UNPACK_RE_FIRST = VectorShuffle.shuffle(PFS, i -> (i % 2 == 0) ? i / 2 : 0);
+		// [im0, im1, im2, ...] -> [(?, im0), (?, im1), ..., (?, im_{len/2})]
+		SHUFFLE_CV_TO_CV_UNPACK_IM_FIRST = VectorShuffle.shuffle(PFS, i -> (i % 2 == 1) ? i / 2 : 0);
+		// [..., re_{len/2}, ..., re_len] -> [(re_{len/2}, ?), ..., (re_len, ?)]
+		SHUFFLE_CV_TO_CV_UNPACK_RE_SECOND = VectorShuffle.shuffle(PFS, i -> (i % 2 == 0) ? i / 2 + EPV2 : 0);
+		// [..., im_{len/2}, ..., im_len] -> [(?, im_{len/2}), ..., (?, im_len)]
+		SHUFFLE_CV_TO_CV_UNPACK_IM_SECOND = VectorShuffle.shuffle(PFS, i -> (i % 2 == 1) ? i / 2 + EPV2 : 0);
+
+		// [(re0, im0), (re1, im1), ...] -> [(im0, re0), (im1, re1), ...]
+		SHUFFLE_CV_SWAP_RE_IM = VectorShuffle.shuffle(PFS, i -> (i % 2 == 0) ? i + 1 : i - 1);
+
+		// Same as shuffles above, but as index maps for gathering loads
+		LOAD_CS_TO_CV_SPREAD = SHUFFLE_CS_TO_CV_SPREAD.toArray();
+		LOAD_CV_TO_CV_SPREAD_RE = SHUFFLE_CV_SPREAD_RE.toArray();
+		LOAD_CV_TO_CV_SPREAD_IM = SHUFFLE_CV_SPREAD_IM.toArray();
+	}
+
+	private VOVecVariants() {
+	}
+
+	static float rv_dot_rv(int variant, float x[], int xOffset, float y[], int yOffset, int count) {
+		switch (variant) {
+			case 0: return VOVec.rv_dot_rv(x, xOffset, y, yOffset, count);
+			case 1: return rv_dot_rv_saccum_unroll_2(x, xOffset, y, yOffset, count);
+			case 2: return rv_dot_rv_saccum_unroll_4(x, xOffset, y, yOffset, count);
+			case 3: return rv_dot_rv_vaccum(x, xOffset, y, yOffset, count);
+			default: throw new IllegalArgumentException("Unknown rv_dot_rv variant " + variant);
+		}
+	}
+
+	static void cv_max(int variant, float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (variant) {
+			case 0: VOVec.cv_max(z, zOffset, x, xOffset, count); break;
+			case 1: cv_max_in_loop_lane(z, zOffset, x, xOffset, count); break;
+			case 2: cv_max_out_of_loop(z, zOffset, x, xOffset, count); break;
+			default: throw new IllegalArgumentException("Unknown cv_max variant " + variant);
+		}
+	}
+
+	static void cs_div_cv(int variant, float z[], int zOffset, float x[], float y[], int yOffset, int count) {
+		switch (variant) {
+			case 0: VOVec.cs_div_cv(z, zOffset, x, y, yOffset, count); break;
+			case 1: cs_div_cv_spread_rearrange(z, zOffset, x, y, yOffset, count); break;
+			case 2: cs_div_cv_reshape_spread(z, zOffset, x, y, yOffset, count); break;
+			case 3: cs_div_cv_spread_spread(z, zOffset, x, y, yOffset, count); break;
+			default: throw new IllegalArgumentException("Unknown cs_div_cv variant " + variant);
+		}
+	}
+
+	static void cv_exp(int variant, float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (variant) {
+			case 0: VOVec.cv_exp(z, zOffset, x, xOffset, count); break;
+			case 1: cv_exp_epv2(z, zOffset, x, xOffset, count); break;
+			case 2: cv_exp_epv_epv2(z, zOffset, x, xOffset, count); break;
+			default: throw new IllegalArgumentException("Unknown cv_exp variant " + variant);
+		}
+	}
+
+	public static float rv_dot_rv_saccum_unroll_2(float x[], int xOffset, float y[], int yOffset, int count) {
+		float sum = 0.0f;
+
+		while (count >= EPVx2) {
+			final FloatVector vx1 = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vy1 = FloatVector.fromArray(PFS, y, yOffset);
+			final FloatVector vx2 = FloatVector.fromArray(PFS, x, xOffset + EPV);
+			final FloatVector vy2 = FloatVector.fromArray(PFS, y, yOffset + EPV);
+
+			sum += vx1.fma(vy1, vx2.mul(vy2)).addLanes();
+
+			xOffset += EPVx2;
+			yOffset += EPVx2;
+			count -= EPVx2;
+		}
+
+		if (count >= EPV) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
+			sum += vx.mul(vy).addLanes();
+
+			xOffset += EPV;
+			yOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			sum += x[xOffset++] * y[yOffset++];
+
+		return sum;
+	}
+
+	public static float rv_dot_rv_saccum_unroll_4(float x[], int xOffset, float y[], int yOffset, int count) {
+		float sum = 0.0f;
+
+		while (count >= EPVx4) {
+			final FloatVector vx1 = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vy1 = FloatVector.fromArray(PFS, y, yOffset);
+			final FloatVector vx2 = FloatVector.fromArray(PFS, x, xOffset + EPV);
+			final FloatVector vy2 = FloatVector.fromArray(PFS, y, yOffset + EPV);
+			final FloatVector vx3 = FloatVector.fromArray(PFS, x, xOffset + EPVx2);
+			final FloatVector vy3 = FloatVector.fromArray(PFS, y, yOffset + EPVx2);
+			final FloatVector vx4 = FloatVector.fromArray(PFS, x, xOffset + EPVx3);
+			final FloatVector vy4 = FloatVector.fromArray(PFS, y, yOffset + EPVx3);
+
+			// Strange, but it is better than 3 fma and one mul
+			sum += vx1.fma(vy1, vx2.mul(vy2)).add(vx3.fma(vy3, vx4.mul(vy4))).addLanes();
+
+			xOffset += EPVx4;
+			yOffset += EPVx4;
+			count -= EPVx4;
+		}
+
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
+			sum += vx.mul(vy).addLanes();
+
+			xOffset += EPV;
+			yOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			sum += x[xOffset++] * y[yOffset++];
+
+		return sum;
+	}
+
+	public static float rv_dot_rv_vaccum(float x[], int xOffset, float y[], int yOffset, int count) {
+		FloatVector vsum = FloatVector.zero(PFS);
+		final boolean needLanes = count >= EPV;
+
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
+			vsum = vx.fma(vy, vsum);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			count -= EPV;
+		}
+
+		float sum = 0.0f;
+		while (count-- > 0)
+			sum += x[xOffset++] * y[yOffset++];
+
+		if (needLanes)
+			sum += vsum.addLanes();
+
+		return sum;
+	}
+
+	public static void cv_max_in_loop_lane(float z[], int zOffset, float x[], int xOffset, int count) {
+		float max = Float.NEGATIVE_INFINITY;
+		int i = -1;
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV) {
+			final FloatVector vx1 = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vx2 = FloatVector.fromArray(PFS, x, xOffset + EPV);
+
+			final FloatVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final FloatVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final FloatVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final FloatVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final FloatVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+			final FloatVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+			// Not fma(), to get exactly same values as VO and scalar tail, as VOVec.cv_maxarg() does
+			final FloatVector vxabs = vxre.mul(vxre).add(vxim.mul(vxim));
+			final float localMax = vxabs.maxLanes();
+			if (max < localMax) {
+				// Find it now, first one wins
+				for (int j = 0; j < EPV; j++) {
+					if (vxabs.lane(j) == localMax) {
+						i = xOffset + (j << 1);
+						break;
+					}
+				}
+				max = localMax;
+			}
+
+			xOffset += EPVx2;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			float abs = x[xOffset + 0] * x[xOffset + 0] + x[xOffset + 1] * x[xOffset + 1];
+			if (max < abs) {
+				max = abs;
+				i = xOffset;
+			}
+			xOffset += 2;
+		}
+		z[zOffset + 0] = x[i + 0];
+		z[zOffset + 1] = x[i + 1];
+	}
+
+	public static void cv_max_out_of_loop(float z[], int zOffset, float x[], int xOffset, int count) {
+		float max = Float.NEGATIVE_INFINITY;
+		FloatVector vmax = null;
+		int i = -1;
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV) {
+			final FloatVector vx1 = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vx2 = FloatVector.fromArray(PFS, x, xOffset + EPV);
+
+			final FloatVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final FloatVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final FloatVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final FloatVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final FloatVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+			final FloatVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+			// Not fma(), to get exactly same values as VO and scalar tail, as VOVec.cv_maxarg() does
+			final FloatVector vxabs = vxre.mul(vxre).add(vxim.mul(vxim));
+			final float localMax = vxabs.maxLanes();
+			if (max < localMax) {
+				vmax = vxabs;
+				i = xOffset;
+				max = localMax;
+			}
+
+			xOffset += EPVx2;
+			count -= EPV;
+		}
+
+		// Find max in stored vector, first one wins
+		if (i >= 0) {
+			final float amax[] = new float[EPV];
+			vmax.intoArray(amax, 0);
+			for (int j = 0; j < EPV; j++) {
+				if (amax[j] == max) {
+					i += j << 1;
+					break;
+				}
+			}
+		}
+
+		while (count-- > 0) {
+			float abs = x[xOffset + 0] * x[xOffset + 0] + x[xOffset + 1] * x[xOffset + 1];
+			if (max < abs) {
+				max = abs;
+				i = xOffset;
+			}
+			xOffset += 2;
+		}
+		z[zOffset + 0] = x[i + 0];
+		z[zOffset + 1] = x[i + 1];
+	}
+
+	public static void cs_div_cv_spread_rearrange(float z[], int zOffset, float x[], float y[], int yOffset, int count) {
+		cs_div_cv_gather(z, zOffset, x, y, yOffset, count, true, false);
+	}
+
+	public static void cs_div_cv_reshape_spread(float z[], int zOffset, float x[], float y[], int yOffset, int count) {
+		cs_div_cv_gather(z, zOffset, x, y, yOffset, count, false, true);
+	}
+
+	public static void cs_div_cv_spread_spread(float z[], int zOffset, float x[], float y[], int yOffset, int count) {
+		cs_div_cv_gather(z, zOffset, x, y, yOffset, count, true, true);
+	}
+
+	// Spreads x and y with gathering loads or with rearranges
+	private static void cs_div_cv_gather(float z[], int zOffset, float x[], float y[], int yOffset, int count, boolean gatherX, boolean gatherY) {
+		FloatVector vx = null;
+		if (count >= EPV2) {
+			if (gatherX)
+				vx = FloatVector.fromArray(PFS, x, 0, LOAD_CS_TO_CV_SPREAD, 0);
+			else
+				vx = FloatVector.fromArray(FS64, x, 0).reshape(PFS).rearrange(SHUFFLE_CS_TO_CV_SPREAD);
+		}
+
+		zOffset <<= 1;
+		yOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vyre;
+			final FloatVector vyim;
+			if (gatherY) {
+				vyre = FloatVector.fromArray(PFS, y, yOffset, LOAD_CV_TO_CV_SPREAD_RE, 0);
+				vyim = FloatVector.fromArray(PFS, y, yOffset, LOAD_CV_TO_CV_SPREAD_IM, 0);
+			} else {
+				final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
+				vyre = vy.rearrange(SHUFFLE_CV_SPREAD_RE);
+				vyim = vy.rearrange(SHUFFLE_CV_SPREAD_IM);
+			}
+
+			final FloatVector vmulxre = vx.mul(vyre);
+			final FloatVector vmulximswap = vx.mul(vyim).rearrange(SHUFFLE_CV_SWAP_RE_IM);
+
+			final FloatVector vysq = vyre.fma(vyre, vyim.mul(vyim));
+
+			final FloatVector vrre = vmulxre.add(vmulximswap);
+			final FloatVector vrim = vmulxre.sub(vmulximswap);
+
+			vrre.blend(vrim, MASK_C_IM).div(vysq).intoArray(z, zOffset);
+
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		float sq;
+		while (count-- > 0) {
+			sq = y[yOffset + 0] * y[yOffset + 0] + y[yOffset + 1] * y[yOffset + 1];
+			z[zOffset + 0] = (x[0] * y[yOffset + 0] + x[1] * y[yOffset + 1]) / sq;
+			z[zOffset + 1] = (x[1] * y[yOffset + 0] - x[0] * y[yOffset + 1]) / sq;
+			yOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_exp_epv2(float z[], int zOffset, float x[], int xOffset, int count) {
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			cv_exp_half(z, zOffset, x, xOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			float g = (float)Math.exp(x[xOffset + 0]);
+			z[zOffset + 0] = g * (float)Math.cos(x[xOffset + 1]);
+			z[zOffset + 1] = g * (float)Math.sin(x[xOffset + 1]);
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_exp_epv_epv2(float z[], int zOffset, float x[], int xOffset, int count) {
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV) {
+			final FloatVector vx1 = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vx2 = FloatVector.fromArray(PFS, x, xOffset + EPV);
+
+			final FloatVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final FloatVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final FloatVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final FloatVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final FloatVector vxreexp = vx1re.blend(vx2re, MASK_SECOND_HALF).exp();
+			final FloatVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+			final FloatVector vrre = vxreexp.mul(vxim.cos());
+			final FloatVector vrim = vxreexp.mul(vxim.sin());
+
+			vrre.rearrange(SHUFFLE_CV_TO_CV_UNPACK_RE_FIRST).blend(vrim.rearrange(SHUFFLE_CV_TO_CV_UNPACK_IM_FIRST), MASK_C_IM).intoArray(z, zOffset);
+			vrre.rearrange(SHUFFLE_CV_TO_CV_UNPACK_RE_SECOND).blend(vrim.rearrange(SHUFFLE_CV_TO_CV_UNPACK_IM_SECOND), MASK_C_IM).intoArray(z, zOffset + EPV);
+
+			xOffset += EPVx2;
+			zOffset += EPVx2;
+			count -= EPV;
+		}
+
+		// Unlike VOVec.cv_exp(), process half-filled vector too
+		if (count >= EPV2) {
+			cv_exp_half(z, zOffset, x, xOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			float g = (float)Math.exp(x[xOffset + 0]);
+			z[zOffset + 0] = g * (float)Math.cos(x[xOffset + 1]);
+			z[zOffset + 1] = g * (float)Math.sin(x[xOffset + 1]);
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	// Process EPV2 complex numbers as one vector, offsets are in floats
+	private static void cv_exp_half(float z[], int zOffset, float x[], int xOffset) {
+		// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+		final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+		// vxreexp is [(exp(x[0].re), exp(x[0].re)), (exp(x[1].re), exp(x[1].re)), ...]
+		final FloatVector vxreexp = vx.rearrange(SHUFFLE_CV_SPREAD_RE).exp();
+		// vxim is [(x[0].im, x[0].im), (x[1].im, x[1].im), ...]
+		final FloatVector vxim = vx.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+		final FloatVector vrre = vxreexp.mul(vxim.cos());
+		final FloatVector vrim = vxreexp.mul(vxim.sin());
+
+		vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset);
+	}
+}
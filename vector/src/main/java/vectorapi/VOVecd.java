@@ -0,0 +1,1535 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi;
+
+import jdk.incubator.vector.*;
+
+import java.util.Arrays;
+
+/**
+ * Double precision counterpart of {@link VOVec} for subset of operations, which are needed
+ * for long accumulations: arithmetic, conjugation, magnitudes, sums, dot products and linear
+ * combinations. Vectors have same size as in {@link VOVec}, and contain half as much elements.
+ *
+ * Naming and arguments are same as in {@link VO}, with {@code double} instead of {@code float}.
+ * Reference implementation is {@link VOd}.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration
+ */
+@SuppressWarnings({"PointlessArithmeticExpression", "UnusedDeclaration"})
+public final class VOVecd {
+	private final static VectorSpecies<Double> PFS = VSpecies.DOUBLE;
+	private final static VectorSpecies<Double> PFS2 = VectorSpecies.of(Double.TYPE, VectorShape.forBitSize(PFS.bitSize() / 2));
+	private final static int EPV = PFS.length();
+	private final static int EPV2 = EPV / 2;
+	private final static int EPVx2 = EPV * 2;
+	private final static int EPVx3 = EPV * 3;
+	private final static int EPVx4 = EPV * 4;
+	// One complex number
+	private final static VectorSpecies<Double> DS128 = DoubleVector.SPECIES_128;
+	private final static VectorMask<Double> MASK_C_RE;
+	private final static VectorMask<Double> MASK_C_IM;
+	private final static VectorMask<Double> MASK_SECOND_HALF;
+	private final static VectorShuffle<Double> SHUFFLE_RV_TO_CV_RE;
+	private final static VectorShuffle<Double> SHUFFLE_RV_TO_CV_BOTH;
+	private final static VectorShuffle<Double> SHUFFLE_CS_TO_CV_SPREAD;
+	private final static VectorShuffle<Double> SHUFFLE_CV_SWAP_RE_IM;
+	private final static VectorShuffle<Double> SHUFFLE_CV_SPREAD_RE;
+	private final static VectorShuffle<Double> SHUFFLE_CV_SPREAD_IM;
+
+	private final static VectorShuffle<Double> SHUFFLE_CV_TO_CV_PACK_RE_FIRST;
+	private final static VectorShuffle<Double> SHUFFLE_CV_TO_CV_PACK_IM_FIRST;
+	private final static VectorShuffle<Double> SHUFFLE_CV_TO_CV_PACK_RE_SECOND;
+	private final static VectorShuffle<Double> SHUFFLE_CV_TO_CV_PACK_IM_SECOND;
+
+	private final static VectorShuffle<Double> SHUFFLE_CV_TO_CV_FRONT_RE;
+	private final static VectorShuffle<Double> SHUFFLE_CV_TO_CV_FRONT_IM;
+
+	static {
+		boolean[] alter = new boolean[EPV + 1];
+
+		alter[0] = true;
+		for (int i = 1; i < alter.length; i++)
+			alter[i] = !alter[i - 1];
+		MASK_C_RE = VectorMask.fromArray(PFS, alter, 0);
+		MASK_C_IM = VectorMask.fromArray(PFS, alter, 1);
+
+		boolean[] secondhalf = new boolean[EPV];
+		Arrays.fill(secondhalf, PFS.length() / 2, secondhalf.length, true);
+		MASK_SECOND_HALF = VectorMask.fromArray(PFS, secondhalf, 0);
+
+		// [r0, r1, ...] -> [(r0, ?), (r1, ?), ...], take ? from last element for now
+		SHUFFLE_RV_TO_CV_RE = VectorShuffle.shuffle(PFS, i -> (i % 2 == 0) ? (i / 2) : (EPV - 1));
+		// [r0, r1, ...] -> [(r0, r0), (r1, r1), ...]
+		SHUFFLE_RV_TO_CV_BOTH = VectorShuffle.shuffle(PFS, i -> i / 2);
+
+		// [re, im] -> [(re, im), (re, im), (re, im), ...]
+		SHUFFLE_CS_TO_CV_SPREAD = VectorShuffle.shuffle(PFS, i -> i % 2);
+
+		// [(re0, im0), (re1, im1), ...] -> [(re0, re0), (re1, re1), ...]
+		SHUFFLE_CV_SPREAD_RE = VectorShuffle.shuffle(PFS, i -> i - i % 2);
+		// [(re0, im0), (re1, im1), ...] -> [(im0, im0), (im1, im1), ...]
+		SHUFFLE_CV_SPREAD_IM = VectorShuffle.shuffle(PFS, i -> i - i % 2 + 1);
+
+		// [(re0, im0), (re1, im1), ...] -> [re0, re1, ..., re_len, ?, ...]
+		SHUFFLE_CV_TO_CV_PACK_RE_FIRST = VectorShuffle.shuffle(PFS, i -> (i < EPV2) ? i * 2 : 0);
+		// [(re0, im0), (re1, im1), ...] -> [im0, im1, ..., im_len, ?, ...]
+		SHUFFLE_CV_TO_CV_PACK_IM_FIRST = VectorShuffle.shuffle(PFS, i -> (i < EPV2) ? i * 2 + 1 : 0);
+		// [(re0, im0), (re1, im1), ...] -> [?, ..., re0, re1, ..., re_len]
+		SHUFFLE_CV_TO_CV_PACK_RE_SECOND = VectorShuffle.shuffle(PFS, i -> (i >= EPV2) ? i * 2 - EPV : 0);
+		// [(re0, im0), (re1, im1), ...] -> [?, ..., im0, im1, ..., im_len]
+		SHUFFLE_CV_TO_CV_PACK_IM_SECOND = VectorShuffle.shuffle(PFS, i -> (i >= EPV2) ? i * 2 - EPV + 1 : 0);
+
+		// [(re0, im0), (re1, im1), ...] -> [(im0, re0), (im1, re1), ...]
+		SHUFFLE_CV_SWAP_RE_IM = VectorShuffle.shuffle(PFS, i -> (i % 2 == 0) ? i + 1 : i - 1);
+
+		// [(re0, im0), (re1, im1), ...] -> [re0, re1, ...]
+		SHUFFLE_CV_TO_CV_FRONT_RE = VectorShuffle.shuffle(PFS, i -> i * 2 < EPV ? i * 2 : i);
+
+		// [(re0, im0), (re1, im1), ...] -> [im0, im1, ...]
+		SHUFFLE_CV_TO_CV_FRONT_IM = VectorShuffle.shuffle(PFS, i -> i * 2 + 1 < EPV ? i * 2 + 1 : i);
+	}
+
+	public static void rv_add_rs_i(double z[], int zOffset, double x, int count) {
+		while (count >= EPV) {
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			vz.add(x).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z[zOffset++] += x;
+	}
+
+	public static void rv_add_rv_i(double z[], int zOffset, double x[], int xOffset, int count) {
+		while (count >= EPV) {
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			vz.add(vx).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+		while (count-- > 0)
+			z[zOffset++] += x[xOffset++];
+	}
+
+	public static void cv_add_cs_i(double z[], int zOffset, double x[], int count) {
+		DoubleVector vx = null;
+		//@DONE: It is faster than DoubleVector.fromArray(PFS, x, 0, LOAD_CS_TO_CV_SPREAD, 0)
+		if (count >= EPV2)
+			vx = DoubleVector.fromArray(DS128, x, 0).reshape(PFS).reshape(PFS).rearrange(SHUFFLE_CS_TO_CV_SPREAD);
+
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			vz.add(vx).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV2;
+		}
+		while (count-- > 0) {
+			z[zOffset + 0] += x[0];
+			z[zOffset + 1] += x[1];
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_add_cv_i(double z[], int zOffset, double x[], int xOffset, int count) {
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			vz.add(vx).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] += x[xOffset + 0];
+			z[zOffset + 1] += x[xOffset + 1];
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void rv_add_rs(double z[], int zOffset, double x[], int xOffset, double y, int count) {
+		while (count >= EPV) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			vx.add(y).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z[zOffset++] = x[xOffset++] + y;
+	}
+
+	public static void rv_add_rv(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		while (count >= EPV) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vy = DoubleVector.fromArray(PFS, y, yOffset);
+			vx.add(vy).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z[zOffset++] = x[xOffset++] + y[yOffset++];
+	}
+
+	public static void cv_add_cs(double z[], int zOffset, double x[], int xOffset, double y[], int count) {
+		DoubleVector vy = null;
+		//@DONE: It is faster than DoubleVector.fromArray(PFS, y, 0, LOAD_CS_TO_CV_SPREAD, 0)
+		if (count >= EPV2)
+			vy = DoubleVector.fromArray(DS128, y, 0).reshape(PFS).rearrange(SHUFFLE_CS_TO_CV_SPREAD);
+
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			vx.add(vy).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = x[xOffset + 0] + y[0];
+			z[zOffset + 1] = x[xOffset + 1] + y[1];
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_add_cv(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		xOffset <<= 1;
+		yOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vy = DoubleVector.fromArray(PFS, y, yOffset);
+			vx.add(vy).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = x[xOffset + 0] + y[yOffset + 0];
+			z[zOffset + 1] = x[xOffset + 1] + y[yOffset + 1];
+			xOffset += 2;
+			yOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void rv_sub_rs_i(double z[], int zOffset, double x, int count) {
+		while (count >= EPV) {
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			vz.sub(x).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z[zOffset++] -= x;
+	}
+
+	public static void rv_sub_rv_i(double z[], int zOffset, double x[], int xOffset, int count) {
+		while (count >= EPV) {
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			vz.sub(vx).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z[zOffset++] -= x[xOffset++];
+	}
+
+	public static void cv_sub_cs_i(double z[], int zOffset, double x[], int count) {
+		DoubleVector vx = null;
+		//@DONE: It is faster than DoubleVector.fromArray(PFS, x, 0, LOAD_CS_TO_CV_SPREAD, 0)
+		if (count >= EPV2)
+			vx = DoubleVector.fromArray(DS128, x, 0).reshape(PFS).rearrange(SHUFFLE_CS_TO_CV_SPREAD);
+
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			vz.sub(vx).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] -= x[0];
+			z[zOffset + 1] -= x[1];
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_sub_cv_i(double z[], int zOffset, double x[], int xOffset, int count) {
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			vz.sub(vx).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] -= x[xOffset + 0];
+			z[zOffset + 1] -= x[xOffset + 1];
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void rv_sub_rs(double z[], int zOffset, double x[], int xOffset, double y, int count) {
+		while (count >= EPV) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			vx.sub(y).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z[zOffset++] = x[xOffset++] - y;
+	}
+
+	public static void rv_sub_rv(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		while (count >= EPV) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vy = DoubleVector.fromArray(PFS, y, yOffset);
+			vx.sub(vy).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z[zOffset++] = x[xOffset++] - y[yOffset++];
+	}
+
+	public static void cv_sub_cs(double z[], int zOffset, double x[], int xOffset, double y[], int count) {
+		DoubleVector vy = null;
+		//@DONE: It is faster than DoubleVector.fromArray(PFS, y, 0, LOAD_CS_TO_CV_SPREAD, 0)
+		if (count >= EPV2)
+			vy = DoubleVector.fromArray(DS128, y, 0).reshape(PFS).rearrange(SHUFFLE_CS_TO_CV_SPREAD);
+
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			vx.sub(vy).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = x[xOffset + 0] - y[0];
+			z[zOffset + 1] = x[xOffset + 1] - y[1];
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_sub_cv(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		xOffset <<= 1;
+		yOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vy = DoubleVector.fromArray(PFS, y, yOffset);
+			vx.sub(vy).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = x[xOffset + 0] - y[yOffset + 0];
+			z[zOffset + 1] = x[xOffset + 1] - y[yOffset + 1];
+			xOffset += 2;
+			yOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void rv_mul_rs_i(double z[], int zOffset, double x, int count) {
+		while (count >= EPV) {
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			vz.mul(x).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z[zOffset++] *= x;
+	}
+
+	public static void rv_mul_rv_i(double z[], int zOffset, double x[], int xOffset, int count) {
+		while (count >= EPV) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			vz.mul(vx).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z[zOffset++] *= x[xOffset++];
+	}
+
+	public static void cv_mul_rs_i(double z[], int zOffset, double x, int count) {
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			vz.mul(x).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] *= x;
+			z[zOffset + 1] *= x;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_mul_rv_i(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: It is faster than DoubleVector.fromArray(PFS, x, xOffset, LOAD_RV_TO_CV_BOTH, 0);
+			final DoubleVector vx = DoubleVector.fromArray(PFS2, x, xOffset).reshape(PFS).rearrange(SHUFFLE_RV_TO_CV_BOTH);
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			vz.mul(vx).intoArray(z, zOffset);
+
+			xOffset += EPV2;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] *= x[xOffset];
+			z[zOffset + 1] *= x[xOffset];
+			xOffset += 1;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_mul_cs_i(double z[], int zOffset, double x[], int count) {
+		DoubleVector vxre = null, vxim = null;
+		if (count >= EPV2) {
+			// vxre is [(x.re, x.re), (x.re, x.re), ...]
+			vxre = DoubleVector.broadcast(PFS, x[0]);
+			// vxim is [(x.im, x.im), (x.im, x.im), ...]
+			vxim = DoubleVector.broadcast(PFS, x[1]);
+		}
+
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			// vz is [(z[0].re, z[0].im), (z[1].re, z[1].im), ...]
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+
+			// vmulxre [(z[0].re * x.re, z[0].im * x.re), (z[1].re * x.re, z[1].im * x.re), ...]
+			final DoubleVector vmulxre = vz.mul(vxre);
+			// vmulxim [(z[0].re * x.im, z[0].im * x.im), (z[1].re * x.im, z[1].im * x.im), ...]
+			final DoubleVector vmulxim = vz.mul(vxim);
+			// vmulximswap is [(z[0].im * x.im, z[0].re * x.im), (z[1].im * x.im, z[1].re * x.im), ...]
+			final DoubleVector vmulximswap = vmulxim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+
+			//@DONE: Looks like sub(vmulximswap, MASK_C_RE) and add(vmulximswap, MASK_C_IM) is slower
+			// vrre ([z[0].re * x.re - z[0].im * x.im, ?], ...)
+			final DoubleVector vrre = vmulxre.sub(vmulximswap);
+			// vrim ([?, z[0].im * x.re + z[0].re * x.im], ...)
+			final DoubleVector vrim = vmulxre.add(vmulximswap);
+
+			// Blend together & save
+			vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		double k0, k1, k2;
+		while (count-- > 0) {
+			k0 = z[zOffset + 0] * x[0];
+			k1 = z[zOffset + 1] * x[1];
+			k2 = (z[zOffset + 0] + z[zOffset + 1]) * (x[0] + x[1]);
+			z[zOffset + 0] = k0 - k1;
+			z[zOffset + 1] = k2 - k0 - k1;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_mul_cv_i(double z[], int zOffset, double x[], int xOffset, int count) {
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			// vxre is [(x[0].re, x[0].re), (x[1].re, x[1].re), ...]
+			final DoubleVector vxre = vx.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vxim is [(x[0].im, x[0].im), (x[1].im, x[1].im), ...]
+			final DoubleVector vxim = vx.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			// vz is [(z[0].re, z[0].im), (z[1].re, z[1].im), ...]
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+
+			// vmulxre is [(z[0].re * x.re, z[0].im * x.re), (z[1].re * x.re, z[1].im * x.re), ...]
+			final DoubleVector vmulxre = vz.mul(vxre);
+
+			// vmulxre is [(z[0].re * x.im, z[0].im * x.im), (z[1].re * x.im, z[1].im * x.im), ...]
+			final DoubleVector vmulxim = vz.mul(vxim);
+
+			// vmulximswap is [(z[0].im * x.im, z[0].re * x.im), (z[1].im * x.im, z[1].re * x.im), ...]
+			final DoubleVector vmulximswap = vmulxim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+
+			//@DONE: Looks like sub(vmulximswap, MASK_C_RE) and add(vmulximswap, MASK_C_IM) is slower
+			// vrre is ([z[0].re * x.re - z[0].im * x.im, ?], ...)
+			final DoubleVector vrre = vmulxre.sub(vmulximswap);
+			// vrim is ([?, z[0].im * x.re + z[0].re * x.im], ...)
+			final DoubleVector vrim = vmulxre.add(vmulximswap);
+
+			// Blend together & save
+			vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		double k0, k1, k2;
+		while (count-- > 0) {
+			k0 = z[zOffset + 0] * x[xOffset + 0];
+			k1 = z[zOffset + 1] * x[xOffset + 1];
+			k2 = (z[zOffset + 0] + z[zOffset + 1]) * (x[xOffset + 0] + x[xOffset + 1]);
+			z[zOffset + 0] = k0 - k1;
+			z[zOffset + 1] = k2 - k0 - k1;
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void rv_mul_rs(double z[], int zOffset, double x[], int xOffset, double y, int count) {
+		DoubleVector vy = null;
+		//@DONE: it is fater thab vx.mul(y)
+		if (count >= EPV)
+			vy = DoubleVector.broadcast(PFS, y);
+
+		while (count >= EPV) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			vx.mul(vy).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+		while (count-- > 0)
+			z[zOffset++] = x[xOffset++] * y;
+	}
+
+	public static void rv_mul_rv(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		while (count >= EPV) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vy = DoubleVector.fromArray(PFS, y, yOffset);
+
+			vx.mul(vy).intoArray(z, zOffset);
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z[zOffset++] = x[xOffset++] * y[yOffset++];
+	}
+
+	public static void cv_mul_rs(double z[], int zOffset, double x[], int xOffset, double y, int count) {
+		DoubleVector vy = null;
+		//@DONE: it is fater thab vx.mul(y)
+		if (count >= EPV2)
+			vy = DoubleVector.broadcast(PFS, y);
+
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			vx.mul(vy).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = x[xOffset + 0] * y;
+			z[zOffset + 1] = x[xOffset + 1] * y;
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_mul_rv(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			//@DONE: It is faster than DoubleVector.fromArray(PFS, y, yOffset, LOAD_RV_TO_CV_BOTH, 0);
+			final DoubleVector vy = DoubleVector.fromArray(PFS2, y, yOffset).reshape(PFS).rearrange(SHUFFLE_RV_TO_CV_BOTH);
+			vx.mul(vy).intoArray(z, zOffset);
+			yOffset += EPV2;
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+		while (count-- > 0) {
+			z[zOffset + 0] = x[xOffset + 0] * y[yOffset];
+			z[zOffset + 1] = x[xOffset + 1] * y[yOffset];
+			zOffset += 2;
+			xOffset += 2;
+			yOffset += 1;
+		}
+	}
+
+	public static void cv_mul_cs(double z[], int zOffset, double x[], int xOffset, double y[], int count) {
+		DoubleVector vyre = null, vyim = null;
+		if (count >= EPV2) {
+			// vyre is [(y.re, y.re), (y.re, y.re), ...]
+			vyre = DoubleVector.broadcast(PFS, y[0]);
+			// vyim is [(y.im, y.im), (y.im, y.im), ...]
+			vyim = DoubleVector.broadcast(PFS, y[1]);
+		}
+
+		zOffset <<= 1;
+		xOffset <<= 1;
+		while (count >= EPV2) {
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+
+			// vmulyre [(x[0].re * y.re, x[0].im * y.re), (x[1].re * y.re, x[1].im * y.re), ...]
+			final DoubleVector vmulyre = vx.mul(vyre);
+			// vmulyim [(x[0].re * y.im, x[0].im * y.im), (x[1].re * y.im, x[1].im * y.im), ...]
+			final DoubleVector vmulyim = vx.mul(vyim);
+			// vmulximswap [(x[0].im * y.im, x[0].re y x.im), (x[1].im * y.im, x[1].re * y.im), ...]
+			final DoubleVector vmulximswap = vmulyim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+
+			//@DONE: Looks like sub(vmulximswap, MASK_C_RE) and add(vmulximswap, MASK_C_IM) is slower
+			// it is ([x[0].re * y.re - x[0].im * y.im, ?], ...)
+			final DoubleVector vrre = vmulyre.sub(vmulximswap);
+			// it is ([?, x[0].im * y.re + x[0].re * y.im], ...)
+			final DoubleVector vrim = vmulyre.add(vmulximswap);
+
+			// Blend together & save
+			vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		double k0, k1;
+		while (count-- > 0) {
+			k0 = x[xOffset + 0] * y[0];
+			k1 = x[xOffset + 1] * y[1];
+			z[zOffset + 0] = k0 - k1;
+			z[zOffset + 1] = (x[xOffset + 0] + x[xOffset + 1]) * (y[0] + y[1]) - k0 - k1;
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_mul_cv(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		xOffset <<= 1;
+		yOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vy is [(y[0].re, y[0].im), (y[1].re, y[1].im), ...]
+			final DoubleVector vy = DoubleVector.fromArray(PFS, y, yOffset);
+			// vyre is [(y[0].re, y[0].re), (y[1].re, y[1].re), ...]
+			final DoubleVector vyre = vy.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vyim is [(y[0].im, y[0].im), (y[1].im, y[1].im), ...]
+			final DoubleVector vyim = vy.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+
+			// vmulyre is [(x[0].re * y[0].re, x[0].im * y.re), (x[1].re * y[1].re, x[1].im * y[1].re), ...]
+			final DoubleVector vmulyre = vx.mul(vyre);
+			// vmulyim is [(x[0].re * y.im, x[0].im * y.im), (x[1].re * y.im, x[1].im * y[1].im), ...]
+			final DoubleVector vmulyim = vx.mul(vyim);
+			// vmulximswap is [(x[0].im * y[0].im, x[0].re * x[0].im), (x[1].im * y[1].im, x[1].re * y[1].im), ...]
+			final DoubleVector vmulximswap = vmulyim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+
+			//@DONE: Looks like sub(vmulximswap, MASK_C_RE) and add(vmulximswap, MASK_C_IM) is slower
+			// vrre is ([x[0].re * y.re - x[0].im * y.im, ?], ...)
+			final DoubleVector vrre = vmulyre.sub(vmulximswap);
+			// vrim is ([?, x[0].im * y.re + x[0].re * y.im], ...)
+			final DoubleVector vrim = vmulyre.add(vmulximswap);
+
+			// Blend together & save
+			vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		double k0, k1;
+		while (count-- > 0) {
+			k0 = x[xOffset + 0] * y[yOffset + 0];
+			k1 = x[xOffset + 1] * y[yOffset + 1];
+			z[zOffset + 0] = k0 - k1;
+			z[zOffset + 1] = (x[xOffset + 0] + x[xOffset + 1]) * (y[yOffset + 0] + y[yOffset + 1]) - k0 - k1;
+			xOffset += 2;
+			yOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_conjmul_cv_i(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset <<= 1;
+		xOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			// vxre is [(x[0].re, x[0].re), (x[1].re, x[1].re), ...]
+			final DoubleVector vxre = vx.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vxim is [(x[0].im, x[0].im), (x[1].im, x[1].im), ...]
+			final DoubleVector vxim = vx.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			// vz is [(z[0].re, z[0].im), (z[1].re, z[1].im), ...]
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+
+			// vmulxre is [(z[0].re * x[0].re, z[0].im * x[0].re), (z[1].re * x[0].re, z[1].im * x[0].re), ...]
+			final DoubleVector vmulxre = vz.mul(vxre);
+			// vmulxim is [(z[0].re * x[0].im, z[0].im * x[0].im), (z[1].re * x[1].im, z[1].im * x[1].im), ...]
+			final DoubleVector vmulxim = vz.mul(vxim);
+			// vmulximswap is [(z[0].im * x[0].im, z[0].re * x[0].im), (z[1].im * x[1].im, z[1].re * x[1].im), ...]
+			final DoubleVector vmulximswap = vmulxim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+
+			//@DONE: Looks like sub(vmulximswap, MASK_C_RE) and add(vmulximswap, MASK_C_IM) is slower
+			// vrre it is [(z[0].re * x[0].re + z[0].im * x[0].im, ?), (z[1].re * x[1].re + z[1].im * x[1].im, ?)]
+			final DoubleVector vrre = vmulxre.add(vmulximswap);
+			// vrim it is [(?, z[0].im * x[0].re - z[0].re * x[0].im), (?, z[1].im * x[1].re - z[1].re * x[1].im), ...]
+			final DoubleVector vrim = vmulxre.sub(vmulximswap);
+
+			// Blend together & save
+			vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		double k0, k1, k2;
+		while (count-- > 0) {
+			k0 = z[zOffset + 0] * x[xOffset + 0];
+			k1 = z[zOffset + 1] * x[xOffset + 1];
+			k2 = (z[zOffset + 0] + z[zOffset + 1]) * (x[xOffset + 0] - x[xOffset + 1]);
+			z[zOffset + 0] = k0 + k1;
+			z[zOffset + 1] = k2 - k0 + k1;
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_conjmul_cv(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		zOffset <<= 1;
+		xOffset <<= 1;
+		yOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vy is [(y[0].re, y[0].im), (y[1].re, y[1].im), ...]
+			final DoubleVector vy = DoubleVector.fromArray(PFS, y, yOffset);
+			// vyre is [(y[0].re, y[0].re), (y[1].re, y[1].re), ...]
+			final DoubleVector vyre = vy.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vyim is [(y[0].im, y[0].im), (y[1].im, y[1].im), ...]
+			final DoubleVector vyim = vy.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			// Load x
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+
+			// vmuly is [(x[0].re * y[0].re, x[0].im * y.re), (x[1].re * y[1].re, x[1].im * y[1].re), ...]
+			final DoubleVector vmulyre = vx.mul(vyre);
+			// vmuly is [(x[0].re * y.im, x[0].im * y.im), (x[1].re * y.im, x[1].im * y[1].im), ...]
+			final DoubleVector vmulyim = vx.mul(vyim);
+			// vmulyswap is [(x[0].im * y[0].im, x[0].re * x[0].im), (x[1].im * y[1].im, x[1].re * y[1].im), ...]
+			final DoubleVector vmulyimswap = vmulyim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+
+			//@DONE: Looks like sub(vmulximswap, MASK_C_RE) and add(vmulximswap, MASK_C_IM) is slower
+			// vrre it is [(x[0].re * y[0].re + x[0].im * y[0].im, ?), (x[1].re * y[1].re + x[1].im * y[1].im, ?)]
+			final DoubleVector vrre = vmulyre.add(vmulyimswap);
+			// vrim it is [(?, x[0].im * y[0].re - x[0].re * y[0].im), (?, x[1].im * y[1].re - x[1].re * y[1].im), ...]
+			final DoubleVector vrim = vmulyre.sub(vmulyimswap);
+
+			// Blend together & save
+			vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		double k0, k1;
+		while (count-- > 0) {
+			k0 = x[xOffset + 0] * y[yOffset + 0];
+			k1 = x[xOffset + 1] * y[yOffset + 1];
+			z[zOffset + 0] = k0 + k1;
+			z[zOffset + 1] = (x[xOffset + 0] + x[xOffset + 1]) * (y[yOffset + 0] - y[yOffset + 1]) - k0 + k1;
+			xOffset += 2;
+			yOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_conj_i(double z[], int zOffset, int count) {
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			vz.neg(MASK_C_IM).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		zOffset++;
+		while (count-- > 0) {
+			z[zOffset] = -z[zOffset]; // + 1
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_conj(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset <<= 1;
+		xOffset <<= 1;
+
+		while (count >= EPV2) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			vx.neg(MASK_C_IM).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = x[xOffset + 0];
+			z[zOffset + 1] = -x[xOffset + 1];
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_im(double z[], int zOffset, double x[], int xOffset, int count) {
+		xOffset <<= 1;
+
+		while (count >= EPV) {
+			//@DONE: It is faster than DoubleVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_IM, 0)
+			final DoubleVector vx1 = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vx2 = DoubleVector.fromArray(PFS, x, xOffset + EPV);
+
+			final DoubleVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+			final DoubleVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+			final DoubleVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+			vxim.intoArray(z, zOffset);
+
+			xOffset += EPV * 2;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		xOffset += 1;
+		while (count-- > 0) {
+			z[zOffset++] = x[xOffset]; // + 1
+			xOffset += 2;
+		}
+	}
+
+	public static void cv_re(double z[], int zOffset, double x[], int xOffset, int count) {
+		xOffset <<= 1;
+
+		while (count >= EPV) {
+			//@DONE: It is faster than DoubleVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_RE, 0)
+			final DoubleVector vx1 = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vx2 = DoubleVector.fromArray(PFS, x, xOffset + EPV);
+
+			final DoubleVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final DoubleVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final DoubleVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+			vxre.intoArray(z, zOffset);
+
+			xOffset += EPV * 2;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z[zOffset++] = x[xOffset];
+			xOffset += 2;
+		}
+	}
+
+	public static void cv_abs(double z[], int zOffset, double x[], int xOffset, int count) {
+		xOffset <<= 1;
+
+		while (count >= EPV) {
+			//@DONE: It is faster than DoubleVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
+			final DoubleVector vx1 = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vx2 = DoubleVector.fromArray(PFS, x, xOffset + PFS.length());
+
+			final DoubleVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final DoubleVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final DoubleVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final DoubleVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final DoubleVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+			final DoubleVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+			vxre.hypot(vxim).intoArray(z, zOffset);
+			// We load twice as much complex numbers
+			xOffset += EPV * 2;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z[zOffset++] = Math.hypot(x[xOffset + 0], x[xOffset + 1]);
+			xOffset += 2;
+		}
+	}
+
+	public static void rv_abs_i(double z[], int zOffset, int count) {
+		while (count >= EPV) {
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			vz.abs().intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z[zOffset] = Math.abs(z[zOffset]);
+			zOffset += 1;
+		}
+	}
+
+	public static void rv_abs(double z[], int zOffset, double x[], int xOffset, int count) {
+		while (count >= EPV) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			vx.abs().intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z[zOffset++] = Math.abs(x[xOffset++]);
+	}
+
+	public static void rv_cvt(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset <<= 1;
+		while (count >= EPV2) {
+			//@DONE: It is faster than DoubleVector.fromArray(PFS, x, xOffset, MASK_C_RE, LOAD_RV_TO_CV_RE, 0);
+			final DoubleVector vx = DoubleVector.fromArray(PFS2, x, xOffset).reshape(PFS).rearrange(SHUFFLE_RV_TO_CV_RE);
+			vx.intoArray(z, zOffset);
+
+			xOffset += EPV2;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = x[xOffset];
+			z[zOffset + 1] = 0.0;
+			zOffset += 2;
+			xOffset += 1;
+		}
+	}
+
+	public static double rv_sum(double x[], int xOffset, int count) {
+		// Independent accumulators hide latency of additions, and lanes are added only once
+		// See specific.RVsum benchmark
+		DoubleVector vsum1 = DoubleVector.zero(PFS);
+		DoubleVector vsum2 = DoubleVector.zero(PFS);
+		DoubleVector vsum3 = DoubleVector.zero(PFS);
+		DoubleVector vsum4 = DoubleVector.zero(PFS);
+		final boolean needLanes = count >= EPV;
+
+		while (count >= EPVx4) {
+			vsum1 = vsum1.add(DoubleVector.fromArray(PFS, x, xOffset));
+			vsum2 = vsum2.add(DoubleVector.fromArray(PFS, x, xOffset + EPV));
+			vsum3 = vsum3.add(DoubleVector.fromArray(PFS, x, xOffset + EPVx2));
+			vsum4 = vsum4.add(DoubleVector.fromArray(PFS, x, xOffset + EPVx3));
+
+			xOffset += EPVx4;
+			count -= EPVx4;
+		}
+
+		while (count >= EPV) {
+			vsum1 = vsum1.add(DoubleVector.fromArray(PFS, x, xOffset));
+
+			xOffset += EPV;
+			count -= EPV;
+		}
+
+		double sum = 0.0;
+		while (count-- > 0)
+			sum += x[xOffset++];
+
+		if (needLanes)
+			sum += vsum1.add(vsum2).add(vsum3.add(vsum4)).addLanes();
+		return sum;
+	}
+
+	public static void cv_sum(double z[], double x[], int xOffset, int count) {
+		cv_sum(z, 0, x, xOffset, count);
+	}
+
+	public static void cv_sum(double z[], int zOffset, double x[], int xOffset, int count) {
+		// Accumulate interleaved complex numbers as is, re and im are separated only once
+		DoubleVector vsum1 = DoubleVector.zero(PFS);
+		DoubleVector vsum2 = DoubleVector.zero(PFS);
+		DoubleVector vsum3 = DoubleVector.zero(PFS);
+		DoubleVector vsum4 = DoubleVector.zero(PFS);
+		final boolean needLanes = count >= EPV2;
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		// Four vectors contain EPV * 2 complex numbers
+		while (count >= EPVx2) {
+			vsum1 = vsum1.add(DoubleVector.fromArray(PFS, x, xOffset));
+			vsum2 = vsum2.add(DoubleVector.fromArray(PFS, x, xOffset + EPV));
+			vsum3 = vsum3.add(DoubleVector.fromArray(PFS, x, xOffset + EPVx2));
+			vsum4 = vsum4.add(DoubleVector.fromArray(PFS, x, xOffset + EPVx3));
+
+			xOffset += EPVx4;
+			count -= EPVx2;
+		}
+
+		while (count >= EPV2) {
+			vsum1 = vsum1.add(DoubleVector.fromArray(PFS, x, xOffset));
+
+			xOffset += EPV;
+			count -= EPV2;
+		}
+
+		double re = 0.0;
+		double im = 0.0;
+		while (count-- > 0) {
+			re += x[xOffset + 0];
+			im += x[xOffset + 1];
+			xOffset += 2;
+		}
+
+		if (needLanes) {
+			final DoubleVector vsum = vsum1.add(vsum2).add(vsum3.add(vsum4));
+			// It is faster than addLanes(MASK)
+			re += vsum.rearrange(SHUFFLE_CV_TO_CV_FRONT_RE).reshape(PFS2).addLanes();
+			im += vsum.rearrange(SHUFFLE_CV_TO_CV_FRONT_IM).reshape(PFS2).addLanes();
+		}
+		z[zOffset + 0] = re;
+		z[zOffset + 1] = im;
+	}
+
+	public static double rv_dot_rv(double x[], int xOffset, double y[], int yOffset, int count) {
+		// Independent accumulators hide latency of FMA, and lanes are added only once
+		// See specific.RVdotRV benchmark
+		DoubleVector vsum1 = DoubleVector.zero(PFS);
+		DoubleVector vsum2 = DoubleVector.zero(PFS);
+		DoubleVector vsum3 = DoubleVector.zero(PFS);
+		DoubleVector vsum4 = DoubleVector.zero(PFS);
+		final boolean needLanes = count >= EPV;
+
+		while (count >= EPVx4) {
+			final DoubleVector vx1 = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vy1 = DoubleVector.fromArray(PFS, y, yOffset);
+			final DoubleVector vx2 = DoubleVector.fromArray(PFS, x, xOffset + EPV);
+			final DoubleVector vy2 = DoubleVector.fromArray(PFS, y, yOffset + EPV);
+			final DoubleVector vx3 = DoubleVector.fromArray(PFS, x, xOffset + EPVx2);
+			final DoubleVector vy3 = DoubleVector.fromArray(PFS, y, yOffset + EPVx2);
+			final DoubleVector vx4 = DoubleVector.fromArray(PFS, x, xOffset + EPVx3);
+			final DoubleVector vy4 = DoubleVector.fromArray(PFS, y, yOffset + EPVx3);
+
+			vsum1 = vx1.fma(vy1, vsum1);
+			vsum2 = vx2.fma(vy2, vsum2);
+			vsum3 = vx3.fma(vy3, vsum3);
+			vsum4 = vx4.fma(vy4, vsum4);
+
+			xOffset += EPVx4;
+			yOffset += EPVx4;
+			count -= EPVx4;
+		}
+
+		while (count >= EPV) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vy = DoubleVector.fromArray(PFS, y, yOffset);
+			vsum1 = vx.fma(vy, vsum1);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			count -= EPV;
+		}
+
+		double sum = 0.0;
+		while (count-- > 0)
+			sum += x[xOffset++] * y[yOffset++];
+
+		if (needLanes)
+			sum += vsum1.add(vsum2).add(vsum3.add(vsum4)).addLanes();
+		return sum;
+	}
+
+	public static void rv_dot_cv(double z[], double x[], int xOffset, double y[], int yOffset, int count) {
+		rv_dot_cv(z, 0, x, xOffset, y, yOffset, count);
+	}
+
+	public static void rv_dot_cv(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		// Two independent accumulators for each part, lanes are added only once
+		DoubleVector vre1 = DoubleVector.zero(PFS);
+		DoubleVector vim1 = DoubleVector.zero(PFS);
+		DoubleVector vre2 = DoubleVector.zero(PFS);
+		DoubleVector vim2 = DoubleVector.zero(PFS);
+		final boolean needLanes = count >= EPV;
+		yOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPVx2) {
+			final DoubleVector vx1 = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vx2 = DoubleVector.fromArray(PFS, x, xOffset + EPV);
+			//@DONE: It is faster than DoubleVector.fromArray(PFS, y, yOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
+			final DoubleVector vy1 = DoubleVector.fromArray(PFS, y, yOffset);
+			final DoubleVector vy2 = DoubleVector.fromArray(PFS, y, yOffset + EPV);
+			final DoubleVector vy3 = DoubleVector.fromArray(PFS, y, yOffset + EPVx2);
+			final DoubleVector vy4 = DoubleVector.fromArray(PFS, y, yOffset + EPVx3);
+
+			final DoubleVector vy12re = vy1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST).blend(vy2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND), MASK_SECOND_HALF);
+			final DoubleVector vy12im = vy1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST).blend(vy2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND), MASK_SECOND_HALF);
+			final DoubleVector vy34re = vy3.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST).blend(vy4.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND), MASK_SECOND_HALF);
+			final DoubleVector vy34im = vy3.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST).blend(vy4.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND), MASK_SECOND_HALF);
+
+			vre1 = vx1.fma(vy12re, vre1);
+			vim1 = vx1.fma(vy12im, vim1);
+			vre2 = vx2.fma(vy34re, vre2);
+			vim2 = vx2.fma(vy34im, vim2);
+
+			xOffset += EPVx2;
+			yOffset += EPVx4; // We load twice as much complex numbers
+			count -= EPVx2;
+		}
+
+		if (count >= EPV) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vy1 = DoubleVector.fromArray(PFS, y, yOffset);
+			final DoubleVector vy2 = DoubleVector.fromArray(PFS, y, yOffset + EPV);
+
+			final DoubleVector vyre = vy1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST).blend(vy2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND), MASK_SECOND_HALF);
+			final DoubleVector vyim = vy1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST).blend(vy2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND), MASK_SECOND_HALF);
+
+			vre1 = vx.fma(vyre, vre1);
+			vim1 = vx.fma(vyim, vim1);
+
+			xOffset += EPV;
+			yOffset += EPVx2; // We load twice as much complex numbers
+			count -= EPV;
+		}
+
+		double re = 0.0;
+		double im = 0.0;
+		while (count-- > 0) {
+			re += x[xOffset] * y[yOffset + 0];
+			im += x[xOffset] * y[yOffset + 1];
+			xOffset += 1;
+			yOffset += 2;
+		}
+
+		if (needLanes) {
+			re += vre1.add(vre2).addLanes();
+			im += vim1.add(vim2).addLanes();
+		}
+		z[zOffset + 0] = re;
+		z[zOffset + 1] = im;
+	}
+
+	public static void cv_dot_cv(double z[], double x[], int xOffset, double y[], int yOffset, int count) {
+		cv_dot_cv(z, 0, x, xOffset, y, yOffset, count);
+	}
+
+	public static void cv_dot_cv(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		// Products are linear, so x * y.re and x * y.im are accumulated separately
+		// and combined only once: sum(x * y) = sum(x * y.re) -/+ swap(sum(x * y.im))
+		DoubleVector vmulyre1 = DoubleVector.zero(PFS);
+		DoubleVector vmulyim1 = DoubleVector.zero(PFS);
+		DoubleVector vmulyre2 = DoubleVector.zero(PFS);
+		DoubleVector vmulyim2 = DoubleVector.zero(PFS);
+		final boolean needLanes = count >= EPV2;
+		xOffset <<= 1;
+		yOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV) {
+			//@DONE: one load & two reshuffles are faster
+			// vy is [(y[0].re, y[0].im), (y[1].re, y[1].im), ...]
+			final DoubleVector vy1 = DoubleVector.fromArray(PFS, y, yOffset);
+			final DoubleVector vy2 = DoubleVector.fromArray(PFS, y, yOffset + EPV);
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final DoubleVector vx1 = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vx2 = DoubleVector.fromArray(PFS, x, xOffset + EPV);
+
+			// vmulyre is [(x[0].re * y[0].re, x[0].im * y[0].re), ...]
+			vmulyre1 = vx1.fma(vy1.rearrange(SHUFFLE_CV_SPREAD_RE), vmulyre1);
+			vmulyre2 = vx2.fma(vy2.rearrange(SHUFFLE_CV_SPREAD_RE), vmulyre2);
+			// vmulyim is [(x[0].re * y[0].im, x[0].im * y[0].im), ...]
+			vmulyim1 = vx1.fma(vy1.rearrange(SHUFFLE_CV_SPREAD_IM), vmulyim1);
+			vmulyim2 = vx2.fma(vy2.rearrange(SHUFFLE_CV_SPREAD_IM), vmulyim2);
+
+			xOffset += EPVx2;
+			yOffset += EPVx2;
+			count -= EPV;
+		}
+
+		if (count >= EPV2) {
+			final DoubleVector vy = DoubleVector.fromArray(PFS, y, yOffset);
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+
+			vmulyre1 = vx.fma(vy.rearrange(SHUFFLE_CV_SPREAD_RE), vmulyre1);
+			vmulyim1 = vx.fma(vy.rearrange(SHUFFLE_CV_SPREAD_IM), vmulyim1);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			count -= EPV2;
+		}
+
+		double re = 0.0;
+		double im = 0.0;
+		double k0, k1;
+		while (count-- > 0) {
+			k0 = x[xOffset + 0] * y[yOffset + 0];
+			k1 = x[xOffset + 1] * y[yOffset + 1];
+			re += k0 - k1;
+			im += (x[xOffset + 0] + x[xOffset + 1]) * (y[yOffset + 0] + y[yOffset + 1]) - k0 - k1;
+			xOffset += 2;
+			yOffset += 2;
+		}
+
+		if (needLanes) {
+			final DoubleVector vmulyre = vmulyre1.add(vmulyre2);
+			// vmulyimswap is [(x[0].im * y[0].im, x[0].re * y[0].im), ...]
+			final DoubleVector vmulyimswap = vmulyim1.add(vmulyim2).rearrange(SHUFFLE_CV_SWAP_RE_IM);
+			// It is faster than addLanes(MASK)
+			re += vmulyre.sub(vmulyimswap).rearrange(SHUFFLE_CV_TO_CV_FRONT_RE).reshape(PFS2).addLanes();
+			im += vmulyre.add(vmulyimswap).rearrange(SHUFFLE_CV_TO_CV_FRONT_IM).reshape(PFS2).addLanes();
+		}
+		z[zOffset + 0] = re;
+		z[zOffset + 1] = im;
+	}
+
+	public static void rv_cpy(double z[], int zOffset, double x[], int xOffset, int count) {
+		// Just for fun: maybe, it is faster than System.arraycopy()? :-)
+		while (count >= EPV) {
+			DoubleVector.fromArray(PFS, x, xOffset).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+		System.arraycopy(x, xOffset, z, zOffset, count);
+	}
+
+	public static void cv_cpy(double z[], int zOffset, double x[], int xOffset, int count) {
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		// Just for fun: maybe, it is faster than System.arraycopy()? :-)
+		while (count >= EPV2) {
+			DoubleVector.fromArray(PFS, x, xOffset).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+		System.arraycopy(x, xOffset, z, zOffset, count * 2);
+	}
+
+	public static void rv_rs_lin_rv_rs_i(double z[], int zOffset, double a1, double x[], int xOffset, double a2, int count) {
+		DoubleVector va1 = null;
+		DoubleVector va2 = null;
+		//@DONE: it is fater thab ...mul(a1)
+		if (count >= EPV) {
+			va1 = DoubleVector.broadcast(PFS, a1);
+			va2 = DoubleVector.broadcast(PFS, a2);
+		}
+
+		while (count >= EPV) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			vz.fma(va1, vx.mul(va2)).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z[zOffset] = z[zOffset] * a1 + x[xOffset] * a2;
+			xOffset += 1;
+			zOffset += 1;
+		}
+	}
+
+	public static void rv_rs_lin_rv_rs(double z[], int zOffset, double x[], int xOffset, double a1, double y[], int yOffset, double a2, int count) {
+		DoubleVector va1 = null;
+		DoubleVector va2 = null;
+		//@DONE: it is fater thab ...mul(a1)
+		if (count >= EPV) {
+			va1 = DoubleVector.broadcast(PFS, a1);
+			va2 = DoubleVector.broadcast(PFS, a2);
+		}
+
+		while (count >= EPV) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vy = DoubleVector.fromArray(PFS, y, yOffset);
+			vx.fma(va1, vy.mul(va2)).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z[zOffset++] = x[xOffset++] * a1 + y[yOffset++] * a2;
+	}
+
+	public static void cv_cs_lin_cv_cs_i(double z[], int zOffset, double a1[], double x[], int xOffset, double a2[], int count) {
+		DoubleVector va1re = null, va1im = null;
+		DoubleVector va2re = null, va2im = null;
+		if (count >= EPV2) {
+			// va1re is [(a1.re, a1.re), (a1.re, a1.re), ...]
+			va1re = DoubleVector.broadcast(PFS, a1[0]);
+			// va1im is [(-a1.im, a1.im), (-a1.im, a1.im), ...]
+			va1im = DoubleVector.broadcast(PFS, a1[1]).neg(MASK_C_RE);
+			// va2re is [(a2.re, a2.re), (a2.re, a2.re), ...]
+			va2re = DoubleVector.broadcast(PFS, a2[0]);
+			// va2im is [(-a2.im, a2.im), (-a2.im, a2.im), ...]
+			va2im = DoubleVector.broadcast(PFS, a2[1]).neg(MASK_C_RE);
+		}
+
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+
+			// z * a1 is z * a1.re + swap(z) * (-a1.im, a1.im), each product is fused with following addition
+			final DoubleVector vxa2 = vx.fma(va2re, vx.rearrange(SHUFFLE_CV_SWAP_RE_IM).mul(va2im));
+			vz.fma(va1re, vz.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(va1im, vxa2)).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		double k0_1, k1_1, k2_1;
+		double k0_2, k1_2, k2_2;
+		while (count-- > 0) {
+			k0_1 = z[zOffset + 0] * a1[0];
+			k1_1 = z[zOffset + 1] * a1[1];
+			k2_1 = (z[zOffset + 0] + z[zOffset + 1]) * (a1[0] + a1[1]);
+			k0_2 = x[xOffset + 0] * a2[0];
+			k1_2 = x[xOffset + 1] * a2[1];
+			k2_2 = (x[xOffset + 0] + x[xOffset + 1]) * (a2[0] + a2[1]);
+			z[zOffset + 0] = k0_1 - k1_1 + k0_2 - k1_2;
+			z[zOffset + 1] = k2_1 - k0_1 - k1_1 + k2_2 - k0_2 - k1_2;
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_cs_lin_cv_cs(double z[], int zOffset, double x[], int xOffset, double a1[], double y[], int yOffset, double a2[], int count) {
+		DoubleVector va1re = null, va1im = null;
+		DoubleVector va2re = null, va2im = null;
+		if (count >= EPV2) {
+			// va1re is [(a1.re, a1.re), (a1.re, a1.re), ...]
+			va1re = DoubleVector.broadcast(PFS, a1[0]);
+			// va1im is [(-a1.im, a1.im), (-a1.im, a1.im), ...]
+			va1im = DoubleVector.broadcast(PFS, a1[1]).neg(MASK_C_RE);
+			// va2re is [(a2.re, a2.re), (a2.re, a2.re), ...]
+			va2re = DoubleVector.broadcast(PFS, a2[0]);
+			// va2im is [(-a2.im, a2.im), (-a2.im, a2.im), ...]
+			va2im = DoubleVector.broadcast(PFS, a2[1]).neg(MASK_C_RE);
+		}
+
+		xOffset <<= 1;
+		yOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vy = DoubleVector.fromArray(PFS, y, yOffset);
+
+			// x * a1 is x * a1.re + swap(x) * (-a1.im, a1.im), each product is fused with following addition
+			final DoubleVector vya2 = vy.fma(va2re, vy.rearrange(SHUFFLE_CV_SWAP_RE_IM).mul(va2im));
+			vx.fma(va1re, vx.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(va1im, vya2)).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		double k0_1, k1_1, k2_1;
+		double k0_2, k1_2, k2_2;
+		while (count-- > 0) {
+			k0_1 = x[xOffset + 0] * a1[0];
+			k1_1 = x[xOffset + 1] * a1[1];
+			k2_1 = (x[xOffset + 0] + x[xOffset + 1]) * (a1[0] + a1[1]);
+			k0_2 = y[yOffset + 0] * a2[0];
+			k1_2 = y[yOffset + 1] * a2[1];
+			k2_2 = (y[yOffset + 0] + y[yOffset + 1]) * (a2[0] + a2[1]);
+			z[zOffset + 0] = k0_1 - k1_1 + k0_2 - k1_2;
+			z[zOffset + 1] = k2_1 - k0_1 - k1_1 + k2_2 - k0_2 - k1_2;
+			xOffset += 2;
+			yOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void rv_10log10(double z[], int zOffset, double x[], int xOffset, int count) {
+		while (count >= EPV) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			vx.abs().log10().mul(10.0).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z[zOffset++] = 10 * Math.log10(Math.abs(x[xOffset++]) + Double.MIN_NORMAL);
+	}
+
+	public static void cv_10log10(double z[], int zOffset, double x[], int xOffset, int count) {
+		xOffset <<= 1;
+
+		while (count >= EPV) {
+			//@DONE: It is faster than DoubleVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
+			final DoubleVector vx1 = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vx2 = DoubleVector.fromArray(PFS, x, xOffset + PFS.length());
+
+			final DoubleVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final DoubleVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final DoubleVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final DoubleVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final DoubleVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+			final DoubleVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+			final DoubleVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+
+			vxabs.log10().mul(5.0).intoArray(z, zOffset);
+
+			// We load twice as much complex numbers
+			xOffset += EPV * 2;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z[zOffset] = 5 * Math.log10(x[xOffset + 0] * x[xOffset + 0] + x[xOffset + 1] * x[xOffset + 1] + Double.MIN_NORMAL);
+			xOffset += 2;
+			zOffset += 1;
+		}
+	}
+}
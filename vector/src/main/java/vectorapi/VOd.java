@@ -0,0 +1,560 @@
+/*****************************************************************************
+ * Copyright (c) 2014-2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi;
+
+/**
+ * Double precision counterpart of {@link VO}, reference implementation for {@link VOVecd}.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration
+ */
+@SuppressWarnings({ "PointlessArithmeticExpression", "UnusedDeclaration" })
+public final class VOd {
+	public static void rv_add_rs_i(double z[], int zOffset, double x, int count) {
+		while (count-- > 0)
+			z[zOffset++] += x;
+	}
+
+	public static void rv_add_rv_i(double z[], int zOffset, double x[], int xOffset, int count) {
+		while (count-- > 0)
+			z[zOffset++] += x[xOffset++];
+	}
+
+	public static void cv_add_cs_i(double z[], int zOffset, double x[], int count) {
+		zOffset <<= 1;
+		while (count-- > 0) {
+			z[zOffset + 0] += x[0];
+			z[zOffset + 1] += x[1];
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_add_cv_i(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset <<= 1;
+		xOffset <<= 1;
+		while (count-- > 0) {
+			z[zOffset + 0] += x[xOffset + 0];
+			z[zOffset + 1] += x[xOffset + 1];
+			zOffset += 2;
+			xOffset += 2;
+		}
+	}
+
+	public static void rv_add_rs(double z[], int zOffset, double x[], int xOffset, double y, int count) {
+		while (count-- > 0)
+			z[zOffset++] = x[xOffset++] + y;
+	}
+
+	public static void rv_add_rv(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		while (count-- > 0)
+			z[zOffset++] = x[xOffset++] + y[yOffset++];
+	}
+
+	public static void cv_add_cs(double z[], int zOffset, double x[], int xOffset, double y[], int count) {
+		zOffset <<= 1;
+		xOffset <<= 1;
+		while (count-- > 0) {
+			z[zOffset + 0] = x[xOffset + 0] + y[0];
+			z[zOffset + 1] = x[xOffset + 1] + y[1];
+			zOffset += 2;
+			xOffset += 2;
+		}
+	}
+
+	public static void cv_add_cv(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		zOffset <<= 1;
+		xOffset <<= 1;
+		yOffset <<= 1;
+		while (count-- > 0) {
+			z[zOffset + 0] = x[xOffset + 0] + y[yOffset + 0];
+			z[zOffset + 1] = x[xOffset + 1] + y[yOffset + 1];
+			zOffset += 2;
+			xOffset += 2;
+			yOffset += 2;
+		}
+	}
+
+	public static void rv_sub_rs_i(double z[], int zOffset, double x, int count) {
+		while (count-- > 0)
+			z[zOffset++] -= x;
+	}
+
+	public static void rv_sub_rv_i(double z[], int zOffset, double x[], int xOffset, int count) {
+		while (count-- > 0)
+			z[zOffset++] -= x[xOffset++];
+	}
+
+	public static void cv_sub_cs_i(double z[], int zOffset, double x[], int count) {
+		zOffset <<= 1;
+		while (count-- > 0) {
+			z[zOffset + 0] -= x[0];
+			z[zOffset + 1] -= x[1];
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_sub_cv_i(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset <<= 1;
+		xOffset <<= 1;
+		while (count-- > 0) {
+			z[zOffset + 0] -= x[xOffset + 0];
+			z[zOffset + 1] -= x[xOffset + 1];
+			zOffset += 2;
+			xOffset += 2;
+		}
+	}
+
+	public static void rv_sub_rs(double z[], int zOffset, double x[], int xOffset, double y, int count) {
+		while (count-- > 0)
+			z[zOffset++] = x[xOffset++] - y;
+	}
+
+	public static void rv_sub_rv(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		while (count-- > 0)
+			z[zOffset++] = x[xOffset++] - y[yOffset++];
+	}
+
+	public static void cv_sub_cs(double z[], int zOffset, double x[], int xOffset, double y[], int count) {
+		zOffset <<= 1;
+		xOffset <<= 1;
+		while (count-- > 0) {
+			z[zOffset + 0] = x[xOffset + 0] - y[0];
+			z[zOffset + 1] = x[xOffset + 1] - y[1];
+			zOffset += 2;
+			xOffset += 2;
+		}
+	}
+
+	public static void cv_sub_cv(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		zOffset <<= 1;
+		xOffset <<= 1;
+		yOffset <<= 1;
+		while (count-- > 0) {
+			z[zOffset + 0] = x[xOffset + 0] - y[yOffset + 0];
+			z[zOffset + 1] = x[xOffset + 1] - y[yOffset + 1];
+			zOffset += 2;
+			xOffset += 2;
+			yOffset += 2;
+		}
+	}
+
+	public static void rv_mul_rs_i(double z[], int zOffset, double x, int count) {
+		while (count-- > 0)
+			z[zOffset++] *= x;
+	}
+
+	public static void rv_mul_rv_i(double z[], int zOffset, double x[], int xOffset, int count) {
+		while (count-- > 0)
+			z[zOffset++] *= x[xOffset++];
+	}
+
+	public static void cv_mul_rs_i(double z[], int zOffset, double x, int count) {
+		zOffset <<= 1;
+		while (count-- > 0) {
+			z[zOffset + 0] *= x;
+			z[zOffset + 1] *= x;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_mul_rv_i(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset <<= 1;
+		while (count-- > 0) {
+			z[zOffset + 0] *= x[xOffset];
+			z[zOffset + 1] *= x[xOffset];
+			zOffset += 2;
+			xOffset += 1;
+		}
+	}
+
+	public static void cv_mul_cs_i(double z[], int zOffset, double x[], int count) {
+		double k0, k1, k2;
+		zOffset <<= 1;
+		while (count-- > 0) {
+			k0 = z[zOffset + 0] * x[0];
+			k1 = z[zOffset + 1] * x[1];
+			k2 = (z[zOffset + 0] + z[zOffset + 1]) * (x[0] + x[1]);
+			z[zOffset + 0] = k0 - k1;
+			z[zOffset + 1] = k2 - k0 - k1;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_mul_cv_i(double z[], int zOffset, double x[], int xOffset, int count) {
+		double k0, k1, k2;
+		zOffset <<= 1;
+		xOffset <<= 1;
+		while (count-- > 0) {
+			k0 = z[zOffset + 0] * x[xOffset + 0];
+			k1 = z[zOffset + 1] * x[xOffset + 1];
+			k2 = (z[zOffset + 0] + z[zOffset + 1]) * (x[xOffset + 0] + x[xOffset + 1]);
+			z[zOffset + 0] = k0 - k1;
+			z[zOffset + 1] = k2 - k0 - k1;
+			zOffset += 2;
+			xOffset += 2;
+		}
+	}
+
+	public static void rv_mul_rs(double z[], int zOffset, double x[], int xOffset, double y, int count) {
+		while (count-- > 0)
+			z[zOffset++] = x[xOffset++] * y;
+	}
+
+	public static void rv_mul_rv(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		while (count-- > 0)
+			z[zOffset++] = x[xOffset++] * y[yOffset++];
+	}
+
+	public static void cv_mul_rs(double z[], int zOffset, double x[], int xOffset, double y, int count) {
+		zOffset <<= 1;
+		xOffset <<= 1;
+		while (count-- > 0) {
+			z[zOffset + 0] = x[xOffset + 0] * y;
+			z[zOffset + 1] = x[xOffset + 1] * y;
+			zOffset += 2;
+			xOffset += 2;
+		}
+	}
+
+	public static void cv_mul_rv(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		zOffset <<= 1;
+		xOffset <<= 1;
+		while (count-- > 0) {
+			z[zOffset + 0] = x[xOffset + 0] * y[yOffset];
+			z[zOffset + 1] = x[xOffset + 1] * y[yOffset];
+			zOffset += 2;
+			xOffset += 2;
+			yOffset += 1;
+		}
+	}
+
+	public static void cv_mul_cs(double z[], int zOffset, double x[], int xOffset, double y[], int count) {
+		double k0, k1;
+		zOffset <<= 1;
+		xOffset <<= 1;
+		while (count-- > 0) {
+			k0 = x[xOffset + 0] * y[0];
+			k1 = x[xOffset + 1] * y[1];
+			z[zOffset + 0] = k0 - k1;
+			z[zOffset + 1] = (x[xOffset + 0] + x[xOffset + 1]) * (y[0] + y[1]) - k0 - k1;
+			zOffset += 2;
+			xOffset += 2;
+		}
+	}
+
+	public static void cv_mul_cv(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		double k0, k1;
+		zOffset <<= 1;
+		xOffset <<= 1;
+		yOffset <<= 1;
+		while (count-- > 0) {
+			k0 = x[xOffset + 0] * y[yOffset + 0];
+			k1 = x[xOffset + 1] * y[yOffset + 1];
+			z[zOffset + 0] = k0 - k1;
+			z[zOffset + 1] = (x[xOffset + 0] + x[xOffset + 1]) * (y[yOffset + 0] + y[yOffset + 1]) - k0 - k1;
+			zOffset += 2;
+			xOffset += 2;
+			yOffset += 2;
+		}
+	}
+
+	public static void cv_conjmul_cv_i(double z[], int zOffset, double x[], int xOffset, int count) {
+		double k0, k1, k2;
+		zOffset <<= 1;
+		xOffset <<= 1;
+		while (count-- > 0) {
+			k0 = z[zOffset + 0] * x[xOffset + 0];
+			k1 = z[zOffset + 1] * x[xOffset + 1];
+			k2 = (z[zOffset + 0] + z[zOffset + 1]) * (x[xOffset + 0] - x[xOffset + 1]);
+			z[zOffset + 0] = k0 + k1;
+			z[zOffset + 1] = k2 - k0 + k1;
+			zOffset += 2;
+			xOffset += 2;
+		}
+	}
+
+	public static void cv_conjmul_cv(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		double k0, k1;
+		zOffset <<= 1;
+		xOffset <<= 1;
+		yOffset <<= 1;
+		while (count-- > 0) {
+			k0 = x[xOffset + 0] * y[yOffset + 0];
+			k1 = x[xOffset + 1] * y[yOffset + 1];
+			z[zOffset + 0] = k0 + k1;
+			z[zOffset + 1] = (x[xOffset + 0] + x[xOffset + 1]) * (y[yOffset + 0] - y[yOffset + 1]) - k0 + k1;
+			zOffset += 2;
+			xOffset += 2;
+			yOffset += 2;
+		}
+	}
+
+	public static void cv_conj_i(double z[], int zOffset, int count) {
+		zOffset = (zOffset << 1) + 1;
+		while (count-- > 0) {
+			z[zOffset] = -z[zOffset]; // + 1
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_conj(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset <<= 1;
+		xOffset <<= 1;
+		while (count-- > 0) {
+			z[zOffset + 0] = x[xOffset + 0];
+			z[zOffset + 1] = -x[xOffset + 1];
+			zOffset += 2;
+			xOffset += 2;
+		}
+	}
+
+	public static void cv_im(double z[], int zOffset, double x[], int xOffset, int count) {
+		xOffset <<= 1;
+		xOffset += 1;
+		while (count-- > 0) {
+			z[zOffset++] = x[xOffset]; // + 1
+			xOffset += 2;
+		}
+	}
+
+	public static void cv_re(double z[], int zOffset, double x[], int xOffset, int count) {
+		xOffset <<= 1;
+		while (count-- > 0) {
+			z[zOffset++] = x[xOffset];
+			xOffset += 2;
+		}
+	}
+
+	public static void cv_abs(double z[], int zOffset, double x[], int xOffset, int count) {
+		xOffset <<= 1;
+		while (count-- > 0) {
+			z[zOffset++] = Math.hypot(x[xOffset + 0], x[xOffset + 1]);
+			xOffset += 2;
+		}
+	}
+
+	public static void rv_abs_i(double z[], int zOffset, int count) {
+		while (count-- > 0) {
+			z[zOffset] = Math.abs(z[zOffset]);
+			zOffset += 1;
+		}
+	}
+
+	public static void rv_abs(double z[], int zOffset, double x[], int xOffset, int count) {
+		while (count-- > 0)
+			z[zOffset++] = Math.abs(x[xOffset++]);
+	}
+
+	public static void rv_cvt(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset <<= 1;
+		while (count-- > 0) {
+			z[zOffset + 0] = x[xOffset];
+			z[zOffset + 1] = 0.0;
+			zOffset += 2;
+			xOffset += 1;
+		}
+	}
+
+	public static double rv_sum(double x[], int xOffset, int count) {
+		double sum = 0.0;
+		while (count-- > 0)
+			sum += x[xOffset++];
+		return sum;
+	}
+
+	public static void cv_sum(double z[], double x[], int xOffset, int count) {
+		double re = 0.0;
+		double im = 0.0;
+		xOffset <<= 1;
+		while (count-- > 0) {
+			re += x[xOffset + 0];
+			im += x[xOffset + 1];
+			xOffset += 2;
+		}
+		z[0] = re;
+		z[1] = im;
+	}
+
+	public static void cv_sum(double z[], int zOffset, double x[], int xOffset, int count) {
+		double re = 0.0;
+		double im = 0.0;
+		xOffset <<= 1;
+		while (count-- > 0) {
+			re += x[xOffset + 0];
+			im += x[xOffset + 1];
+			xOffset += 2;
+		}
+		z[(zOffset << 1) + 0] = re;
+		z[(zOffset << 1) + 1] = im;
+	}
+
+	public static double rv_dot_rv(double x[], int xOffset, double y[], int yOffset, int count) {
+		double sum = 0.0;
+		while (count-- > 0)
+			sum += x[xOffset++] * y[yOffset++];
+		return sum;
+	}
+
+	public static void rv_dot_cv(double z[], double x[], int xOffset, double y[], int yOffset, int count) {
+		double re = 0.0;
+		double im = 0.0;
+		yOffset <<= 1;
+		while (count-- > 0) {
+			re += x[xOffset] * y[yOffset + 0];
+			im += x[xOffset] * y[yOffset + 1];
+			xOffset += 1;
+			yOffset += 2;
+		}
+		z[0] = re;
+		z[1] = im;
+	}
+
+	public static void rv_dot_cv(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		double re = 0.0;
+		double im = 0.0;
+		yOffset <<= 1;
+		while (count-- > 0) {
+			re += x[xOffset] * y[yOffset + 0];
+			im += x[xOffset] * y[yOffset + 1];
+			xOffset += 1;
+			yOffset += 2;
+		}
+		z[(zOffset << 1) + 0] = re;
+		z[(zOffset << 1) + 1] = im;
+	}
+
+	public static void cv_dot_cv(double z[], double x[], int xOffset, double y[], int yOffset, int count) {
+		double re = 0.0;
+		double im = 0.0;
+		xOffset <<= 1;
+		yOffset <<= 1;
+		while (count-- > 0) {
+			re += x[xOffset + 0] * y[yOffset + 0] - x[xOffset + 1] * y[yOffset + 1];
+			im += x[xOffset + 1] * y[yOffset + 0] + x[xOffset + 0] * y[yOffset + 1];
+			xOffset += 2;
+			yOffset += 2;
+		}
+		z[0] = re;
+		z[1] = im;
+	}
+
+	public static void cv_dot_cv(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		double re = 0.0;
+		double im = 0.0;
+		zOffset <<= 1;
+		xOffset <<= 1;
+		yOffset <<= 1;
+		while (count-- > 0) {
+			re += x[xOffset + 0] * y[yOffset + 0] - x[xOffset + 1] * y[yOffset + 1];
+			im += x[xOffset + 1] * y[yOffset + 0] + x[xOffset + 0] * y[yOffset + 1];
+			xOffset += 2;
+			yOffset += 2;
+		}
+		z[zOffset + 0] = re;
+		z[zOffset + 1] = im;
+	}
+
+	public static void rv_cpy(double z[], int zOffset, double x[], int xOffset, int count) {
+		System.arraycopy(x, xOffset, z, zOffset, count);
+	}
+
+	public static void cv_cpy(double z[], int zOffset, double x[], int xOffset, int count) {
+		System.arraycopy(x, xOffset << 1, z, zOffset << 1, count * 2);
+	}
+
+	public static void rv_rs_lin_rv_rs_i(double z[], int zOffset, double a1, double x[], int xOffset, double a2, int count) {
+		while (count-- > 0) {
+			z[zOffset] = z[zOffset] * a1 + x[xOffset] * a2;
+			zOffset += 1;
+			xOffset += 1;
+		}
+	}
+
+	public static void rv_rs_lin_rv_rs(double z[], int zOffset, double x[], int xOffset, double a1, double y[], int yOffset, double a2, int count) {
+		while (count-- > 0)
+			z[zOffset++] = x[xOffset++] * a1 + y[yOffset++] * a2;
+	}
+
+	public static void cv_cs_lin_cv_cs_i(double z[], int zOffset, double a1[], double x[], int xOffset, double a2[], int count) {
+		double k0_1, k1_1, k2_1;
+		double a1s = a1[0] + a1[1];
+		double k0_2, k1_2, k2_2;
+		double a2s = a2[0] + a2[1];
+		zOffset <<= 1;
+		xOffset <<= 1;
+		while (count-- > 0) {
+			k0_1 = z[zOffset + 0] * a1[0];
+			k1_1 = z[zOffset + 1] * a1[1];
+			k2_1 = (z[zOffset + 0] + z[zOffset + 1]) * a1s;
+			k0_2 = x[xOffset + 0] * a2[0];
+			k1_2 = x[xOffset + 1] * a2[1];
+			k2_2 = (x[xOffset + 0] + x[xOffset + 1]) * a2s;
+			z[zOffset + 0] = k0_1 - k1_1 + k0_2 - k1_2;
+			z[zOffset + 1] = k2_1 - k0_1 - k1_1 + k2_2 - k0_2 - k1_2;
+			zOffset += 2;
+			xOffset += 2;
+		}
+	}
+
+	public static void cv_cs_lin_cv_cs(double z[], int zOffset, double x[], int xOffset, double a1[], double y[], int yOffset, double a2[], int count) {
+		double k0_1, k1_1, k2_1;
+		double a1s = a1[0] + a1[1];
+		double k0_2, k1_2, k2_2;
+		double a2s = a2[0] + a2[1];
+		zOffset <<= 1;
+		xOffset <<= 1;
+		yOffset <<= 1;
+		while (count-- > 0) {
+			k0_1 = x[xOffset + 0] * a1[0];
+			k1_1 = x[xOffset + 1] * a1[1];
+			k2_1 = (x[xOffset + 0] + x[xOffset + 1]) * a1s;
+			k0_2 = y[yOffset + 0] * a2[0];
+			k1_2 = y[yOffset + 1] * a2[1];
+			k2_2 = (y[yOffset + 0] + y[yOffset + 1]) * a2s;
+			z[zOffset + 0] = k0_1 - k1_1 + k0_2 - k1_2;
+			z[zOffset + 1] = k2_1 - k0_1 - k1_1 + k2_2 - k0_2 - k1_2;
+			zOffset += 2;
+			xOffset += 2;
+			yOffset += 2;
+		}
+	}
+
+	public static void rv_10log10(double z[], int zOffset, double x[], int xOffset, int count) {
+		while (count-- > 0)
+			z[zOffset++] = 10 * Math.log10(Math.abs(x[xOffset++]));
+	}
+
+	public static void cv_10log10(double z[], int zOffset, double x[], int xOffset, int count) {
+		xOffset <<= 1;
+		while (count-- > 0) {
+			z[zOffset] = 5 * Math.log10(x[xOffset + 0] * x[xOffset + 0] + x[xOffset + 1] * x[xOffset + 1]);
+			zOffset += 1;
+			xOffset += 2;
+		}
+	}
+}
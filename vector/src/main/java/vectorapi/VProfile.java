@@ -0,0 +1,257 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.Random;
+
+/**
+ * Selection of {@link VOVec} implementation variants (see {@link VOVecVariants}) for this host.
+ *
+ * Profile is properties file named by {@value #FILE_PROPERTY} system property. It is read once,
+ * when {@link VOVec} is initialized, and chosen variants become static final constants of
+ * {@link VOVec}, so there is no dispatch overhead after JIT compilation. One file can contain
+ * profiles of many hosts: keys are {@code host:operation.size_class}, where host is CPU model
+ * and bit size of {@link VSpecies#FLOAT}, so mixed fleet could share one file.
+ * Operations without entry for current host use built-in {@link VOVec} implementation. File
+ * with other {@value #VERSION_KEY} is ignored, as variants could be renamed between versions.
+ *
+ * Profile is created or updated by {@link #main(String[])}, which measures all variants
+ * on this host.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration
+ */
+public final class VProfile {
+	public static final String FILE_PROPERTY = "vectorapi.VOVec.profile";
+	public static final String VERSION_KEY = "version";
+	public static final int VERSION = 2;
+	/** Key of this host in profile */
+	public static final String HOST = cpuModel() + "/" + VSpecies.FLOAT.bitSize();
+
+	// Size classes: counts below MEDIUM_FROM are small, from LARGE_FROM are large
+	static final int SMALL = 0;
+	static final int MEDIUM = 1;
+	static final int LARGE = 2;
+	static final int MEDIUM_FROM = 64;
+	static final int LARGE_FROM = 4096;
+	private static final String SIZE_CLASSES[] = { "small", "medium", "large" };
+
+	private static final Properties PROFILE = load();
+
+	private VProfile() {
+	}
+
+	static int variant(String op, int sizeClass, String names[]) {
+		final String key = key(op, sizeClass);
+		final String name = PROFILE.getProperty(key);
+		if (name == null)
+			return 0;
+		final int variant = Arrays.asList(names).indexOf(name.trim());
+		if (variant < 0)
+			throw new IllegalStateException("Unknown VOVec variant for \"" + key + "\": \"" + name + "\"");
+		return variant;
+	}
+
+	/**
+	 * Measures all variants on this host and stores best ones to profile file.
+	 * Entries of other hosts are kept, if file exists already.
+	 * Must be run without {@value #FILE_PROPERTY} system property, so {@link VOVec} uses built-in variants.
+	 * @param args name of profile file, standard output is used if missing
+	 * @throws IOException if profile file could not be read or written
+	 */
+	public static void main(String[] args) throws IOException {
+		if (System.getProperty(FILE_PROPERTY) != null)
+			throw new IllegalStateException("VOVec could not be tuned with \"" + FILE_PROPERTY + "\" set");
+
+		final Properties p = new Properties();
+		if (args.length > 0 && new File(args[0]).exists()) {
+			try (InputStream is = new FileInputStream(args[0])) {
+				p.load(is);
+			}
+			if (!Integer.toString(VERSION).equals(p.getProperty(VERSION_KEY)))
+				p.clear();
+		}
+		p.setProperty(VERSION_KEY, Integer.toString(VERSION));
+		p.putAll(new Tuner().tune());
+
+		final String comment = "VOVec variants";
+		if (args.length > 0) {
+			try (OutputStream os = new FileOutputStream(args[0])) {
+				p.store(os, comment);
+			}
+		} else {
+			p.store(System.out, comment);
+		}
+	}
+
+	private static String key(String op, int sizeClass) {
+		return HOST + ":" + op + "." + SIZE_CLASSES[sizeClass];
+	}
+
+	private static Properties load() {
+		final Properties p = new Properties();
+		final String file = System.getProperty(FILE_PROPERTY);
+		if (file == null)
+			return p;
+		try (InputStream is = new FileInputStream(file)) {
+			p.load(is);
+		} catch (IOException e) {
+			throw new IllegalStateException("Can not load VOVec profile from \"" + file + "\"", e);
+		}
+		if (!Integer.toString(VERSION).equals(p.getProperty(VERSION_KEY)))
+			p.clear();
+		return p;
+	}
+
+	private static String cpuModel() {
+		// Linux only, other systems are identified by architecture alone
+		try (BufferedReader r = new BufferedReader(new FileReader("/proc/cpuinfo"))) {
+			String line;
+			while ((line = r.readLine()) != null) {
+				if (line.startsWith("model name")) {
+					final int colon = line.indexOf(':');
+					if (colon >= 0)
+						return line.substring(colon + 1).trim().replaceAll("\\s+", " ");
+				}
+			}
+		} catch (IOException ignored) {
+		}
+		return System.getProperty("os.arch");
+	}
+
+	/**
+	 * Measures all variants of each operation on several call sizes of each size class
+	 * and selects one with minimal total time for each class.
+	 */
+	private static final class Tuner {
+		private static final int SIZES[][] = {
+			{ 8, 17, 32, 48 },
+			{ 64, 200, 512, 2048 },
+			{ 4096, 10000, 32768 }
+		};
+		private static final int MAX_SIZE = 32768;
+		// Enough calls of moderate sizes for C2 to compile all variants
+		private static final int WARMUP_SIZES[] = { 8, 17, 48, 200 };
+		private static final int WARMUP_CALLS = 10000;
+		// Number of elements processed in one measurement
+		private static final int ELEMENTS = 1 << 17;
+		private static final int RUNS = 5;
+
+		private final float z[] = new float[MAX_SIZE * 2];
+		private final float x[] = new float[MAX_SIZE * 2];
+		private final float y[] = new float[MAX_SIZE * 2];
+		private final float cs[] = { 0.75f, -0.5f };
+		// Results of reductions go here, so JIT could not throw calls away
+		private float sink = 0.0f;
+
+		private final Properties result = new Properties();
+
+		// Makes given number of calls of one variant on given size, in its own loop,
+		// so every variant is inlined into separate monomorphic call site
+		private interface Sweep {
+			void run(int size, int calls);
+		}
+
+		private Tuner() {
+			final Random r = new Random(42);
+			for (int i = 0; i < x.length; i++) {
+				x[i] = r.nextFloat() * 2.0f - 1.0f;
+				y[i] = r.nextFloat() * 2.0f - 1.0f;
+			}
+		}
+
+		private Properties tune() {
+			op("rv_dot_rv", VOVecVariants.RV_DOT_RV,
+				(n, calls) -> { float s = 0.0f; for (int i = 0; i < calls; i++) s += VOVec.rv_dot_rv(x, 0, y, 0, n); sink += s; },
+				(n, calls) -> { float s = 0.0f; for (int i = 0; i < calls; i++) s += VOVecVariants.rv_dot_rv_saccum_unroll_2(x, 0, y, 0, n); sink += s; },
+				(n, calls) -> { float s = 0.0f; for (int i = 0; i < calls; i++) s += VOVecVariants.rv_dot_rv_saccum_unroll_4(x, 0, y, 0, n); sink += s; },
+				(n, calls) -> { float s = 0.0f; for (int i = 0; i < calls; i++) s += VOVecVariants.rv_dot_rv_vaccum(x, 0, y, 0, n); sink += s; });
+			op("cv_max", VOVecVariants.CV_MAX,
+				(n, calls) -> { for (int i = 0; i < calls; i++) VOVec.cv_max(z, 0, x, 0, n); },
+				(n, calls) -> { for (int i = 0; i < calls; i++) VOVecVariants.cv_max_in_loop_lane(z, 0, x, 0, n); },
+				(n, calls) -> { for (int i = 0; i < calls; i++) VOVecVariants.cv_max_out_of_loop(z, 0, x, 0, n); });
+			op("cs_div_cv", VOVecVariants.CS_DIV_CV,
+				(n, calls) -> { for (int i = 0; i < calls; i++) VOVec.cs_div_cv(z, 0, cs, y, 0, n); },
+				(n, calls) -> { for (int i = 0; i < calls; i++) VOVecVariants.cs_div_cv_spread_rearrange(z, 0, cs, y, 0, n); },
+				(n, calls) -> { for (int i = 0; i < calls; i++) VOVecVariants.cs_div_cv_reshape_spread(z, 0, cs, y, 0, n); },
+				(n, calls) -> { for (int i = 0; i < calls; i++) VOVecVariants.cs_div_cv_spread_spread(z, 0, cs, y, 0, n); });
+			op("cv_exp", VOVecVariants.CV_EXP,
+				(n, calls) -> { for (int i = 0; i < calls; i++) VOVec.cv_exp(z, 0, x, 0, n); },
+				(n, calls) -> { for (int i = 0; i < calls; i++) VOVecVariants.cv_exp_epv2(z, 0, x, 0, n); },
+				(n, calls) -> { for (int i = 0; i < calls; i++) VOVecVariants.cv_exp_epv_epv2(z, 0, x, 0, n); });
+			return result;
+		}
+
+		private void op(String name, String variants[], Sweep... sweeps) {
+			if (sweeps.length != variants.length)
+				throw new IllegalArgumentException("Expected " + variants.length + " variants of " + name + ", got " + sweeps.length);
+
+			for (Sweep sweep : sweeps)
+				for (int size : WARMUP_SIZES)
+					sweep.run(size, WARMUP_CALLS / WARMUP_SIZES.length);
+
+			for (int c = 0; c < SIZES.length; c++) {
+				int best = 0;
+				long bestTime = Long.MAX_VALUE;
+				for (int v = 0; v < sweeps.length; v++) {
+					long time = 0;
+					for (int size : SIZES[c])
+						time += measure(sweeps[v], size);
+					if (time < bestTime) {
+						bestTime = time;
+						best = v;
+					}
+				}
+				result.setProperty(key(name, c), variants[best]);
+			}
+		}
+
+		// Returns minimal time of processing ELEMENTS elements with calls of given size
+		private static long measure(Sweep sweep, int size) {
+			final long times[] = new long[RUNS];
+			final int calls = Math.max(ELEMENTS / size, 1);
+			for (int r = 0; r < RUNS; r++) {
+				final long start = System.nanoTime();
+				sweep.run(size, calls);
+				times[r] = System.nanoTime() - start;
+			}
+			Arrays.sort(times);
+			return times[0];
+		}
+	}
+}
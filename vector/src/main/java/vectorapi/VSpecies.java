@@ -0,0 +1,68 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Species of vectors used by {@link VOVec} and all classes built on it, and by {@link VOVecd}.
+ *
+ * It is {@code FloatVector.SPECIES_PREFERRED} by default, and could be replaced
+ * by narrower one with {@value #BITS_PROPERTY} system property, which contains
+ * vector size in bits (128, 256 or 512). It is useful on CPUs which lower frequency
+ * when widest vectors are used. 64-bit vectors are not supported, as complex
+ * kernels need vectors of half size too.
+ *
+ * Species must be constant for JIT, so it is selected once per JVM,
+ * when this class is initialized.
+ *
+ * @author Lev Serebryakov
+ */
+public final class VSpecies {
+	public static final String BITS_PROPERTY = "vectorapi.VOVec.bits";
+
+	public static final VectorSpecies<Float> FLOAT = select(Integer.getInteger(BITS_PROPERTY, 0));
+
+	/** Species of {@link VOVecd}, same vector size as {@link #FLOAT}. */
+	public static final VectorSpecies<Double> DOUBLE = VectorSpecies.of(Double.TYPE, FLOAT.shape());
+
+	private VSpecies() {
+	}
+
+	private static VectorSpecies<Float> select(int bits) {
+		if (bits == 0)
+			return FloatVector.SPECIES_PREFERRED;
+		if (bits != 128 && bits != 256 && bits != 512)
+			throw new IllegalStateException("Invalid VOVec vector size " + bits + ", must be 128, 256 or 512");
+		if (bits > FloatVector.SPECIES_PREFERRED.bitSize())
+			throw new IllegalStateException("VOVec vector size " + bits + " is larger than preferred size " + FloatVector.SPECIES_PREFERRED.bitSize());
+		return VectorSpecies.of(Float.TYPE, VectorShape.forBitSize(bits));
+	}
+}
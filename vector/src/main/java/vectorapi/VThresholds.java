@@ -0,0 +1,224 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi;
+
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.Random;
+
+/**
+ * Per-operation call sizes from which {@link V} uses {@link VOVec} instead of {@link VO}.
+ *
+ * Thresholds are loaded once, when {@link V} is initialized, from first available source:
+ * <ol>
+ *     <li>properties file named by {@value #FILE_PROPERTY} system property,</li>
+ *     <li>built-in calibration, if {@value #CALIBRATE_PROPERTY} system property is {@code true},</li>
+ *     <li>defaults.</li>
+ * </ol>
+ * Properties file contains {@code operation=threshold} lines, where operation is name of method
+ * without wrapping suffix ({@code cv_mul_cv_i} is used for both {@code cv_mul_cv_i} and
+ * {@code cv_mul_cv_iw}). Key {@value #DEFAULT_KEY} sets threshold for all missing operations.
+ * Such file could be created by {@link #main(String[])}.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration
+ */
+public final class VThresholds {
+	public static final String FILE_PROPERTY = "vectorapi.V.thresholds";
+	public static final String CALIBRATE_PROPERTY = "vectorapi.V.calibrate";
+	public static final String DEFAULT_KEY = "default";
+
+	// VOVec processes less than one vector with scalar code copied from VO
+	private static final int DEFAULT = VSpecies.FLOAT.length();
+
+	private static final Properties THRESHOLDS = load();
+	private static final int DEFAULT_THRESHOLD = parse(DEFAULT_KEY, THRESHOLDS.getProperty(DEFAULT_KEY), DEFAULT);
+
+	private VThresholds() {
+	}
+
+	static int get(String name) {
+		return parse(name, THRESHOLDS.getProperty(name), DEFAULT_THRESHOLD);
+	}
+
+	/**
+	 * Calibrates thresholds on this host and stores them as properties file.
+	 * @param args name of output file, standard output is used if missing
+	 * @throws IOException if output file could not be written
+	 */
+	public static void main(String[] args) throws IOException {
+		final Properties p = calibrate();
+		final String comment = "VO/VOVec thresholds for " + VSpecies.FLOAT;
+		if (args.length > 0) {
+			try (OutputStream os = new FileOutputStream(args[0])) {
+				p.store(os, comment);
+			}
+		} else {
+			p.store(System.out, comment);
+		}
+	}
+
+	private static Properties load() {
+		final String file = System.getProperty(FILE_PROPERTY);
+		if (file != null) {
+			final Properties p = new Properties();
+			try (InputStream is = new FileInputStream(file)) {
+				p.load(is);
+			} catch (IOException e) {
+				throw new IllegalStateException("Can not load VO/VOVec thresholds from \"" + file + "\"", e);
+			}
+			return p;
+		}
+		if (Boolean.getBoolean(CALIBRATE_PROPERTY))
+			return calibrate();
+		return new Properties();
+	}
+
+	private static int parse(String name, String value, int def) {
+		if (value == null)
+			return def;
+		try {
+			return Integer.parseInt(value.trim());
+		} catch (NumberFormatException e) {
+			throw new IllegalStateException("Invalid VO/VOVec threshold for \"" + name + "\": \"" + value + "\"", e);
+		}
+	}
+
+	private static Properties calibrate() {
+		final Calibration c = new Calibration();
+		VCalibrator.calibrate(c);
+		return c.result;
+	}
+
+	/**
+	 * Measures both implementations of each operation registered by {@link VCalibrator}
+	 * on several call sizes and finds size from which {@link VOVec} should be used
+	 * to minimize total time over all sizes.
+	 *
+	 * Each measured run processes {@value #ELEMENTS} elements with consecutive calls, each on
+	 * its own part of data, and output is restored from pristine copy before each run, so
+	 * in-place operations never process their own results and both implementations are
+	 * timed on same data.
+	 */
+	static final class Calibration {
+		static final int SIZES[] = { 1, 2, 3, 4, 6, 8, 12, 16, 24, 32, 48, 64, 96, 128, 192, 256 };
+		// Number of elements processed in one measurement
+		private static final int ELEMENTS = 1 << 14;
+		private static final int RUNS = 5;
+
+		/**
+		 * Processes {@code calls * size} elements by {@code calls} consecutive calls of given size.
+		 */
+		@FunctionalInterface
+		interface Sweep {
+			void run(int size, int calls);
+		}
+
+		// Input and output vectors, large enough to be complex ones
+		final float z[] = new float[ELEMENTS * 2];
+		final float x[] = new float[ELEMENTS * 2];
+		final float y[] = new float[ELEMENTS * 2];
+		// Complex scalars
+		final float csz[] = new float[2];
+		final float cs1[] = { 0.75f, -0.5f };
+		final float cs2[] = { -0.25f, 0.5f };
+		// Real scalar
+		final float rs = 0.75f;
+		// Results of reductions go here, so JIT could not throw calls away
+		float sink = 0.0f;
+
+		// Initial content of z
+		private final float pristine[] = new float[ELEMENTS * 2];
+		private final Properties result = new Properties();
+
+		private Calibration() {
+			final Random r = new Random(42);
+			for (int i = 0; i < x.length; i++) {
+				pristine[i] = r.nextFloat() * 2.0f - 1.0f;
+				x[i] = r.nextFloat() * 2.0f - 1.0f;
+				y[i] = r.nextFloat() * 2.0f - 1.0f;
+			}
+		}
+
+		void op(String name, Sweep vo, Sweep vovec) {
+			// It is enough calls for C2 to compile both implementations
+			for (int size : SIZES) {
+				measure(vo, size);
+				measure(vovec, size);
+			}
+
+			final long tvo[] = new long[SIZES.length];
+			final long tvovec[] = new long[SIZES.length];
+			for (int s = 0; s < SIZES.length; s++) {
+				tvo[s] = measure(vo, SIZES[s]);
+				tvovec[s] = measure(vovec, SIZES[s]);
+			}
+
+			result.setProperty(name, Integer.toString(threshold(tvo, tvovec)));
+		}
+
+		// Split point k means VO for SIZES[0..k) and VOVec for SIZES[k..],
+		// choose one with minimal total time, so single noisy size doesn't matter.
+		// If VO wins everywhere, VOVec is still used above largest measured size,
+		// as nothing is known about larger calls
+		static int threshold(long tvo[], long tvovec[]) {
+			long total = 0;
+			for (long t : tvo)
+				total += t;
+			long best = total;
+			int threshold = SIZES[SIZES.length - 1] + 1;
+			for (int k = SIZES.length - 1; k >= 0; k--) {
+				total += tvovec[k] - tvo[k];
+				if (total <= best) {
+					best = total;
+					threshold = SIZES[k];
+				}
+			}
+			return threshold;
+		}
+
+		// Returns minimal time of processing ELEMENTS elements with calls of given size
+		private long measure(Sweep op, int size) {
+			final long times[] = new long[RUNS];
+			final int calls = ELEMENTS / size;
+			for (int r = 0; r < RUNS; r++) {
+				System.arraycopy(pristine, 0, z, 0, z.length);
+				final long start = System.nanoTime();
+				op.run(size, calls);
+				times[r] = System.nanoTime() - start;
+			}
+			Arrays.sort(times);
+			return times[0];
+		}
+	}
+}
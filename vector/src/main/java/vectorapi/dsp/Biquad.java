@@ -0,0 +1,230 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi.dsp;
+
+import jdk.incubator.vector.*;
+import vectorapi.VSpecies;
+
+/**
+ * Cascade of biquad IIR sections for one real channel ({@code rv}), vectorized along time by look-ahead.
+ *
+ * Each section is given by five coefficients {@code b0, b1, b2, a1, a2} of
+ * {@code H(z) = (b0 + b1 z^-1 + b2 z^-2) / (1 + a1 z^-1 + a2 z^-2)}, as in {@link BiquadBank}.
+ *
+ * Section is linear system with state of two last inputs and two last outputs (direct form I),
+ * so vector of next {@code N} outputs is sum of responses to each of next {@code N} inputs and
+ * to each element of state. These responses are precomputed: vector of outputs is accumulated
+ * by {@code N + 4} FMA with broadcasted inputs and state, and new state is taken from last inputs
+ * and outputs. Only two of these FMA, ones with {@code y[-1]} and {@code y[-2]}, depend on previous
+ * vector of outputs (ones with {@code x[-1]} and {@code x[-2]} depend on inputs), so recursion costs
+ * one dependency chain per vector instead of one per sample.
+ *
+ * Block is processed by chunks, which stay in cache while all sections are applied.
+ * Filter is stateful and must not be used by several threads at once.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration, WeakerAccess
+ */
+public final class Biquad {
+	private final static VectorSpecies<Float> PFS = VSpecies.FLOAT;
+	private final static int EPV = PFS.length();
+
+	// Number of samples, processed by all sections at once
+	private final static int CHUNK = 1024;
+
+	private final int sections;
+	// Coefficients b0, b1, b2, -a1, -a2 of each section
+	private final float b0[];
+	private final float b1[];
+	private final float b2[];
+	private final float na1[];
+	private final float na2[];
+	// Responses of next EPV outputs: to input k as EPV vectors, and to x[-1], x[-2], y[-1], y[-2]
+	private final float hx[][];
+	private final float hxm1[][];
+	private final float hxm2[][];
+	private final float hym1[][];
+	private final float hym2[][];
+	// State: x[-1], x[-2], y[-1], y[-2] of each section
+	private final float xm1[];
+	private final float xm2[];
+	private final float ym1[];
+	private final float ym2[];
+
+	/**
+	 * Creates filter.
+	 * @param sos sections, five coefficients {@code b0, b1, b2, a1, a2} for each one
+	 */
+	public Biquad(float sos[]) {
+		if (sos.length == 0 || sos.length % 5 != 0)
+			throw new IllegalArgumentException("Each section must have five coefficients, got " + sos.length);
+		sections = sos.length / 5;
+		b0 = new float[sections];
+		b1 = new float[sections];
+		b2 = new float[sections];
+		na1 = new float[sections];
+		na2 = new float[sections];
+		hx = new float[sections][];
+		hxm1 = new float[sections][];
+		hxm2 = new float[sections][];
+		hym1 = new float[sections][];
+		hym2 = new float[sections][];
+		xm1 = new float[sections];
+		xm2 = new float[sections];
+		ym1 = new float[sections];
+		ym2 = new float[sections];
+
+		for (int s = 0; s < sections; s++) {
+			b0[s] = sos[s * 5 + 0];
+			b1[s] = sos[s * 5 + 1];
+			b2[s] = sos[s * 5 + 2];
+			na1[s] = -sos[s * 5 + 3];
+			na2[s] = -sos[s * 5 + 4];
+
+			// Impulse response, vector k is it delayed by k
+			final float h[] = response(sos, s, 1.0, 0.0, 0.0, 0.0, 0.0);
+			hx[s] = new float[EPV * EPV];
+			for (int k = 0; k < EPV; k++)
+				System.arraycopy(h, 0, hx[s], k * EPV + k, EPV - k);
+			hxm1[s] = response(sos, s, 0.0, 1.0, 0.0, 0.0, 0.0);
+			hxm2[s] = response(sos, s, 0.0, 0.0, 1.0, 0.0, 0.0);
+			hym1[s] = response(sos, s, 0.0, 0.0, 0.0, 1.0, 0.0);
+			hym2[s] = response(sos, s, 0.0, 0.0, 0.0, 0.0, 1.0);
+		}
+	}
+
+	// EPV outputs of section for given first input (others are zero) and state
+	private static float[] response(float sos[], int s, double x0, double xm1, double xm2, double ym1, double ym2) {
+		final double b0 = sos[s * 5 + 0], b1 = sos[s * 5 + 1], b2 = sos[s * 5 + 2];
+		final double a1 = sos[s * 5 + 3], a2 = sos[s * 5 + 4];
+		final float r[] = new float[EPV];
+		double x = x0;
+		for (int i = 0; i < EPV; i++) {
+			final double y = b0 * x + b1 * xm1 + b2 * xm2 - a1 * ym1 - a2 * ym2;
+			r[i] = (float)y;
+			xm2 = xm1;
+			xm1 = x;
+			ym2 = ym1;
+			ym1 = y;
+			x = 0.0;
+		}
+		return r;
+	}
+
+	/**
+	 * @return number of sections in cascade
+	 */
+	public int getSections() {
+		return sections;
+	}
+
+	/**
+	 * Clears state of all sections, as if filter got only zeros before.
+	 */
+	public void reset() {
+		java.util.Arrays.fill(xm1, 0.0f);
+		java.util.Arrays.fill(xm2, 0.0f);
+		java.util.Arrays.fill(ym1, 0.0f);
+		java.util.Arrays.fill(ym2, 0.0f);
+	}
+
+	/**
+	 * Filters next block.
+	 * @param z output
+	 * @param zOffset offset in {@code z}
+	 * @param x input
+	 * @param xOffset offset in {@code x}
+	 * @param count number of samples
+	 */
+	public void filter(float z[], int zOffset, float x[], int xOffset, int count) {
+		while (count > 0) {
+			final int n = Math.min(count, CHUNK);
+			// First section reads input, others work in place
+			filter(z, zOffset, x, xOffset, n, 0);
+			for (int s = 1; s < sections; s++)
+				filter(z, zOffset, z, zOffset, n, s);
+			zOffset += n;
+			xOffset += n;
+			count -= n;
+		}
+	}
+
+	private void filter(float z[], int zOffset, float x[], int xOffset, int count, int s) {
+		final float hx[] = this.hx[s];
+		final FloatVector vhxm1 = FloatVector.fromArray(PFS, hxm1[s], 0);
+		final FloatVector vhxm2 = FloatVector.fromArray(PFS, hxm2[s], 0);
+		final FloatVector vhym1 = FloatVector.fromArray(PFS, hym1[s], 0);
+		final FloatVector vhym2 = FloatVector.fromArray(PFS, hym2[s], 0);
+		float xm1 = this.xm1[s];
+		float xm2 = this.xm2[s];
+		float ym1 = this.ym1[s];
+		float ym2 = this.ym2[s];
+
+		while (count >= EPV) {
+			// Part which doesn't depend on previous outputs, by two independent chains
+			FloatVector vacc1 = vhxm1.mul(xm1);
+			FloatVector vacc2 = vhxm2.mul(xm2);
+			for (int k = 0; k < EPV; k += 2) {
+				vacc1 = FloatVector.fromArray(PFS, hx, k * EPV).fma(FloatVector.broadcast(PFS, x[xOffset + k]), vacc1);
+				vacc2 = FloatVector.fromArray(PFS, hx, k * EPV + EPV).fma(FloatVector.broadcast(PFS, x[xOffset + k + 1]), vacc2);
+			}
+			// Inputs must be read before store, as filter could work in place
+			xm1 = x[xOffset + EPV - 1];
+			xm2 = x[xOffset + EPV - 2];
+
+			final FloatVector vy = vhym1.fma(FloatVector.broadcast(PFS, ym1), vhym2.fma(FloatVector.broadcast(PFS, ym2), vacc1.add(vacc2)));
+			vy.intoArray(z, zOffset);
+			ym1 = z[zOffset + EPV - 1];
+			ym2 = z[zOffset + EPV - 2];
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		final float b0 = this.b0[s];
+		final float b1 = this.b1[s];
+		final float b2 = this.b2[s];
+		final float na1 = this.na1[s];
+		final float na2 = this.na2[s];
+		while (count-- > 0) {
+			final float xv = x[xOffset++];
+			final float y = xv * b0 + xm1 * b1 + xm2 * b2 + ym1 * na1 + ym2 * na2;
+			z[zOffset++] = y;
+			xm2 = xm1;
+			xm1 = xv;
+			ym2 = ym1;
+			ym1 = y;
+		}
+
+		this.xm1[s] = xm1;
+		this.xm2[s] = xm2;
+		this.ym1[s] = ym1;
+		this.ym2[s] = ym2;
+	}
+}
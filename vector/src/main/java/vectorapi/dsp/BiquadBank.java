@@ -0,0 +1,263 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi.dsp;
+
+import jdk.incubator.vector.*;
+import vectorapi.VSpecies;
+
+/**
+ * Cascades of biquad IIR sections for many channels at once, one channel per lane.
+ *
+ * IIR filter can not be vectorized along time, as each output depends on previous ones,
+ * but independent channels can. Data is interleaved by channels: frame {@code n} occupies
+ * {@code x[xOffset + n * channels ... xOffset + n * channels + channels - 1]}, so each vector
+ * load takes same sample of several adjacent channels. Channels, which don't fill whole vector,
+ * are filtered by scalar code.
+ *
+ * Each section is given by five coefficients {@code b0, b1, b2, a1, a2} of
+ * {@code H(z) = (b0 + b1 z^-1 + b2 z^-2) / (1 + a1 z^-1 + a2 z^-2)} and computed in transposed
+ * direct form II. Sections are applied one after another to whole block, and state of section
+ * for group of channels stays in registers for all frames of block. Two groups of channels are
+ * processed together, to hide latency of recursion.
+ *
+ * For one channel see {@link Biquad}. Filter is stateful and must not be used by several threads at once.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration, WeakerAccess
+ */
+public final class BiquadBank {
+	private final static VectorSpecies<Float> PFS = VSpecies.FLOAT;
+	private final static int EPV = PFS.length();
+	private final static int EPVx2 = EPV * 2;
+
+	private final int channels;
+	private final int sections;
+	// Channels, filtered by vectors
+	private final int vectorChannels;
+	// Coefficients b0, b1, b2, -a1, -a2 and state of each section, by channels
+	private final float b0[][];
+	private final float b1[][];
+	private final float b2[][];
+	private final float na1[][];
+	private final float na2[][];
+	private final float s1[][];
+	private final float s2[][];
+
+	/**
+	 * Creates filter with same cascade for all channels.
+	 * @param channels number of channels
+	 * @param sos sections, five coefficients {@code b0, b1, b2, a1, a2} for each one
+	 */
+	public BiquadBank(int channels, float sos[]) {
+		this(channels, sos, true);
+	}
+
+	/**
+	 * Creates filter with different cascades for channels.
+	 * @param sos sections of each channel, five coefficients {@code b0, b1, b2, a1, a2} for each one,
+	 *            all channels must have same number of sections
+	 */
+	public BiquadBank(float sos[][]) {
+		this(sos.length, flatten(sos), false);
+	}
+
+	private BiquadBank(int channels, float sos[], boolean shared) {
+		if (channels < 1)
+			throw new IllegalArgumentException("Number of channels must be positive, got " + channels);
+		final int perChannel = shared ? sos.length : sos.length / channels;
+		if (perChannel == 0 || perChannel % 5 != 0)
+			throw new IllegalArgumentException("Each section must have five coefficients, got " + perChannel);
+		this.channels = channels;
+		this.sections = perChannel / 5;
+		this.vectorChannels = channels - channels % EPV;
+
+		b0 = new float[sections][channels];
+		b1 = new float[sections][channels];
+		b2 = new float[sections][channels];
+		na1 = new float[sections][channels];
+		na2 = new float[sections][channels];
+		s1 = new float[sections][channels];
+		s2 = new float[sections][channels];
+		for (int c = 0; c < channels; c++) {
+			for (int s = 0; s < sections; s++) {
+				final int i = (shared ? 0 : c * perChannel) + s * 5;
+				b0[s][c] = sos[i + 0];
+				b1[s][c] = sos[i + 1];
+				b2[s][c] = sos[i + 2];
+				na1[s][c] = -sos[i + 3];
+				na2[s][c] = -sos[i + 4];
+			}
+		}
+	}
+
+	private static float[] flatten(float sos[][]) {
+		if (sos.length == 0)
+			throw new IllegalArgumentException("Number of channels must be positive, got 0");
+		final int perChannel = sos[0].length;
+		final float r[] = new float[sos.length * perChannel];
+		for (int c = 0; c < sos.length; c++) {
+			if (sos[c].length != perChannel)
+				throw new IllegalArgumentException("All channels must have same number of sections");
+			System.arraycopy(sos[c], 0, r, c * perChannel, perChannel);
+		}
+		return r;
+	}
+
+	/**
+	 * @return number of channels
+	 */
+	public int getChannels() {
+		return channels;
+	}
+
+	/**
+	 * @return number of sections in cascade of each channel
+	 */
+	public int getSections() {
+		return sections;
+	}
+
+	/**
+	 * Clears state of all sections, as if filter got only zeros before.
+	 */
+	public void reset() {
+		for (int s = 0; s < sections; s++) {
+			java.util.Arrays.fill(s1[s], 0.0f);
+			java.util.Arrays.fill(s2[s], 0.0f);
+		}
+	}
+
+	/**
+	 * Filters next block of all channels.
+	 * @param z output, interleaved by channels
+	 * @param zOffset offset in {@code z}, in elements
+	 * @param x input, interleaved by channels
+	 * @param xOffset offset in {@code x}, in elements
+	 * @param count number of frames, each of them has sample of every channel
+	 */
+	public void filter(float z[], int zOffset, float x[], int xOffset, int count) {
+		for (int s = 0; s < sections; s++) {
+			// First section reads input, others work in place
+			final float src[] = (s == 0) ? x : z;
+			final int srcOffset = (s == 0) ? xOffset : zOffset;
+
+			int c = 0;
+			for (; c + EPVx2 <= vectorChannels; c += EPVx2)
+				filter2(z, zOffset + c, src, srcOffset + c, count, s, c);
+			for (; c < vectorChannels; c += EPV)
+				filter1(z, zOffset + c, src, srcOffset + c, count, s, c);
+			for (; c < channels; c++)
+				filterScalar(z, zOffset + c, src, srcOffset + c, count, s, c);
+		}
+	}
+
+	private void filter2(float z[], int zOffset, float x[], int xOffset, int count, int s, int c) {
+		final FloatVector vb01 = FloatVector.fromArray(PFS, b0[s], c);
+		final FloatVector vb11 = FloatVector.fromArray(PFS, b1[s], c);
+		final FloatVector vb21 = FloatVector.fromArray(PFS, b2[s], c);
+		final FloatVector vna11 = FloatVector.fromArray(PFS, na1[s], c);
+		final FloatVector vna21 = FloatVector.fromArray(PFS, na2[s], c);
+		final FloatVector vb02 = FloatVector.fromArray(PFS, b0[s], c + EPV);
+		final FloatVector vb12 = FloatVector.fromArray(PFS, b1[s], c + EPV);
+		final FloatVector vb22 = FloatVector.fromArray(PFS, b2[s], c + EPV);
+		final FloatVector vna12 = FloatVector.fromArray(PFS, na1[s], c + EPV);
+		final FloatVector vna22 = FloatVector.fromArray(PFS, na2[s], c + EPV);
+		FloatVector vs11 = FloatVector.fromArray(PFS, s1[s], c);
+		FloatVector vs21 = FloatVector.fromArray(PFS, s2[s], c);
+		FloatVector vs12 = FloatVector.fromArray(PFS, s1[s], c + EPV);
+		FloatVector vs22 = FloatVector.fromArray(PFS, s2[s], c + EPV);
+
+		while (count-- > 0) {
+			final FloatVector vx1 = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vx2 = FloatVector.fromArray(PFS, x, xOffset + EPV);
+
+			final FloatVector vy1 = vx1.fma(vb01, vs11);
+			final FloatVector vy2 = vx2.fma(vb02, vs12);
+			vs11 = vx1.fma(vb11, vy1.fma(vna11, vs21));
+			vs12 = vx2.fma(vb12, vy2.fma(vna12, vs22));
+			vs21 = vx1.fma(vb21, vy1.mul(vna21));
+			vs22 = vx2.fma(vb22, vy2.mul(vna22));
+
+			vy1.intoArray(z, zOffset);
+			vy2.intoArray(z, zOffset + EPV);
+			xOffset += channels;
+			zOffset += channels;
+		}
+
+		vs11.intoArray(s1[s], c);
+		vs21.intoArray(s2[s], c);
+		vs12.intoArray(s1[s], c + EPV);
+		vs22.intoArray(s2[s], c + EPV);
+	}
+
+	private void filter1(float z[], int zOffset, float x[], int xOffset, int count, int s, int c) {
+		final FloatVector vb0 = FloatVector.fromArray(PFS, b0[s], c);
+		final FloatVector vb1 = FloatVector.fromArray(PFS, b1[s], c);
+		final FloatVector vb2 = FloatVector.fromArray(PFS, b2[s], c);
+		final FloatVector vna1 = FloatVector.fromArray(PFS, na1[s], c);
+		final FloatVector vna2 = FloatVector.fromArray(PFS, na2[s], c);
+		FloatVector vs1 = FloatVector.fromArray(PFS, s1[s], c);
+		FloatVector vs2 = FloatVector.fromArray(PFS, s2[s], c);
+
+		while (count-- > 0) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vy = vx.fma(vb0, vs1);
+			vs1 = vx.fma(vb1, vy.fma(vna1, vs2));
+			vs2 = vx.fma(vb2, vy.mul(vna2));
+			vy.intoArray(z, zOffset);
+			xOffset += channels;
+			zOffset += channels;
+		}
+
+		vs1.intoArray(s1[s], c);
+		vs2.intoArray(s2[s], c);
+	}
+
+	private void filterScalar(float z[], int zOffset, float x[], int xOffset, int count, int s, int c) {
+		final float b0 = this.b0[s][c];
+		final float b1 = this.b1[s][c];
+		final float b2 = this.b2[s][c];
+		final float na1 = this.na1[s][c];
+		final float na2 = this.na2[s][c];
+		float s1 = this.s1[s][c];
+		float s2 = this.s2[s][c];
+
+		while (count-- > 0) {
+			final float xv = x[xOffset];
+			final float y = xv * b0 + s1;
+			s1 = xv * b1 + y * na1 + s2;
+			s2 = xv * b2 + y * na2;
+			z[zOffset] = y;
+			xOffset += channels;
+			zOffset += channels;
+		}
+
+		this.s1[s][c] = s1;
+		this.s2[s][c] = s2;
+	}
+}
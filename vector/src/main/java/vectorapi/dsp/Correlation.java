@@ -0,0 +1,357 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi.dsp;
+
+import vectorapi.VOVec;
+import vectorapi.fft.CFFT;
+import vectorapi.fft.RFFT;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cross-correlation and convolution of finite real ({@code rv}) and complex ({@code cv}) vectors, for
+ * matched filtering and estimation of delays.
+ *
+ * Correlation is {@code z[k] = sum(x[n + lag + k] * conj(y[n]))} and convolution is
+ * {@code z[k] = sum(x[m] * y[first + k - m])}, where values outside of {@code x} and {@code y} are zeroes.
+ * Only requested window of lags or outputs is computed, so search of delay in known range doesn't pay
+ * for all {@code xCount + yCount - 1} outputs.
+ *
+ * Both are reduced to one kernel, sliding dot product of window of {@code x} and prepared copy of {@code y}.
+ * Short kernels or narrow windows are computed directly, by same blocked FMA loops as {@link FIR}: several
+ * vectors of outputs are accumulated in registers over all elements of {@code y}. Otherwise window of
+ * {@code x} is convolved with {@code y} by overlap-save, with transforms at least four times longer than
+ * {@code y}, but not longer than needed for whole window. Choice is made by estimation of operations,
+ * see {@link #FFT_COST}; each method has variant, which forces choice.
+ *
+ * Object keeps scratch buffers and transforms of used sizes, so repeated calls with same sizes don't
+ * allocate memory. It must not be used by several threads at once.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration, WeakerAccess
+ */
+public final class Correlation {
+	/**
+	 * Cost of one element of pass of FFT in multiplications of direct kernel: FFT is used when
+	 * {@code count * yCount} is more than {@code FFT_COST * M * log2(M) / 2} for each transform, where
+	 * {@code M} is transform size, and complex operations are counted twice. Set by
+	 * {@code vectorapi.dsp.Correlation.fft} system property, see {@code vector.dsp.CorrelationKernels}
+	 * benchmark for crossover on your host.
+	 */
+	public static final int FFT_COST = Integer.getInteger("vectorapi.dsp.Correlation.fft", 14);
+
+	// Smaller transforms are dominated by overhead of calls
+	private final static int MIN_FFT = 1024;
+
+	private final Map<Integer, RFFT> rffts = new HashMap<>();
+	private final Map<Integer, CFFT> cffts = new HashMap<>();
+	// Window of x, prepared y (re and im separately for complex direct kernel), its spectrum and block of transform
+	private float xs[] = new float[0];
+	private float hre[] = new float[0];
+	private float him[] = new float[0];
+	private float hs[] = new float[0];
+	private float work[] = new float[0];
+
+	/**
+	 * Full cross-correlation of real vectors, lags from {@code -(yCount - 1)} to {@code xCount - 1}.
+	 * @param z output, {@code xCount + yCount - 1} elements
+	 * @param zOffset offset in {@code z}
+	 * @param x first vector
+	 * @param xOffset offset in {@code x}
+	 * @param xCount number of elements in {@code x}
+	 * @param y second vector
+	 * @param yOffset offset in {@code y}
+	 * @param yCount number of elements in {@code y}
+	 */
+	public void rv_xcorr_rv(float z[], int zOffset, float x[], int xOffset, int xCount, float y[], int yOffset, int yCount) {
+		rv_xcorr_rv(z, zOffset, x, xOffset, xCount, y, yOffset, yCount, -(yCount - 1), xCount + yCount - 1);
+	}
+
+	/**
+	 * Cross-correlation of real vectors in window of lags, {@code z[k] = sum(x[n + lag + k] * y[n])}.
+	 * @param z output, {@code lags} elements
+	 * @param zOffset offset in {@code z}
+	 * @param x first vector
+	 * @param xOffset offset in {@code x}
+	 * @param xCount number of elements in {@code x}
+	 * @param y second vector
+	 * @param yOffset offset in {@code y}
+	 * @param yCount number of elements in {@code y}
+	 * @param lag first lag of window, could be negative
+	 * @param lags number of lags
+	 */
+	public void rv_xcorr_rv(float z[], int zOffset, float x[], int xOffset, int xCount, float y[], int yOffset, int yCount, int lag, int lags) {
+		rv_xcorr_rv(z, zOffset, x, xOffset, xCount, y, yOffset, yCount, lag, lags, useFFT(lags, yCount, false));
+	}
+
+	/**
+	 * Cross-correlation of real vectors in window of lags with forced method.
+	 * @param fft use FFT instead of direct computation
+	 * @see #rv_xcorr_rv(float[], int, float[], int, int, float[], int, int, int, int)
+	 */
+	public void rv_xcorr_rv(float z[], int zOffset, float x[], int xOffset, int xCount, float y[], int yOffset, int yCount, int lag, int lags, boolean fft) {
+		hre = grow(hre, yCount);
+		System.arraycopy(y, yOffset, hre, 0, yCount);
+		slide(z, zOffset, x, xOffset, xCount, yCount, lag, lags, false, fft);
+	}
+
+	/**
+	 * Full cross-correlation of complex vectors, lags from {@code -(yCount - 1)} to {@code xCount - 1}.
+	 * @param z output, {@code xCount + yCount - 1} complex numbers
+	 * @param zOffset offset in {@code z}, in complex numbers
+	 * @param x first vector
+	 * @param xOffset offset in {@code x}, in complex numbers
+	 * @param xCount number of complex numbers in {@code x}
+	 * @param y second vector
+	 * @param yOffset offset in {@code y}, in complex numbers
+	 * @param yCount number of complex numbers in {@code y}
+	 */
+	public void cv_xcorr_cv(float z[], int zOffset, float x[], int xOffset, int xCount, float y[], int yOffset, int yCount) {
+		cv_xcorr_cv(z, zOffset, x, xOffset, xCount, y, yOffset, yCount, -(yCount - 1), xCount + yCount - 1);
+	}
+
+	/**
+	 * Cross-correlation of complex vectors in window of lags, {@code z[k] = sum(x[n + lag + k] * conj(y[n]))}.
+	 * @param z output, {@code lags} complex numbers
+	 * @param zOffset offset in {@code z}, in complex numbers
+	 * @param x first vector
+	 * @param xOffset offset in {@code x}, in complex numbers
+	 * @param xCount number of complex numbers in {@code x}
+	 * @param y second vector
+	 * @param yOffset offset in {@code y}, in complex numbers
+	 * @param yCount number of complex numbers in {@code y}
+	 * @param lag first lag of window, could be negative
+	 * @param lags number of lags
+	 */
+	public void cv_xcorr_cv(float z[], int zOffset, float x[], int xOffset, int xCount, float y[], int yOffset, int yCount, int lag, int lags) {
+		cv_xcorr_cv(z, zOffset, x, xOffset, xCount, y, yOffset, yCount, lag, lags, useFFT(lags, yCount, true));
+	}
+
+	/**
+	 * Cross-correlation of complex vectors in window of lags with forced method.
+	 * @param fft use FFT instead of direct computation
+	 * @see #cv_xcorr_cv(float[], int, float[], int, int, float[], int, int, int, int)
+	 */
+	public void cv_xcorr_cv(float z[], int zOffset, float x[], int xOffset, int xCount, float y[], int yOffset, int yCount, int lag, int lags, boolean fft) {
+		hre = grow(hre, yCount);
+		him = grow(him, yCount);
+		yOffset <<= 1;
+		for (int i = 0; i < yCount; i++) {
+			hre[i] = y[yOffset + i * 2];
+			him[i] = -y[yOffset + i * 2 + 1];
+		}
+		slide(z, zOffset, x, xOffset, xCount, yCount, lag, lags, true, fft);
+	}
+
+	/**
+	 * Full convolution of real vectors.
+	 * @param z output, {@code xCount + yCount - 1} elements
+	 * @param zOffset offset in {@code z}
+	 * @param x first vector
+	 * @param xOffset offset in {@code x}
+	 * @param xCount number of elements in {@code x}
+	 * @param y second vector
+	 * @param yOffset offset in {@code y}
+	 * @param yCount number of elements in {@code y}
+	 */
+	public void rv_conv_rv(float z[], int zOffset, float x[], int xOffset, int xCount, float y[], int yOffset, int yCount) {
+		rv_conv_rv(z, zOffset, x, xOffset, xCount, y, yOffset, yCount, 0, xCount + yCount - 1);
+	}
+
+	/**
+	 * Window of convolution of real vectors, {@code z[k] = sum(x[m] * y[first + k - m])}.
+	 * @param z output, {@code count} elements
+	 * @param zOffset offset in {@code z}
+	 * @param x first vector
+	 * @param xOffset offset in {@code x}
+	 * @param xCount number of elements in {@code x}
+	 * @param y second vector
+	 * @param yOffset offset in {@code y}
+	 * @param yCount number of elements in {@code y}
+	 * @param first index of first output in full convolution
+	 * @param count number of outputs
+	 */
+	public void rv_conv_rv(float z[], int zOffset, float x[], int xOffset, int xCount, float y[], int yOffset, int yCount, int first, int count) {
+		rv_conv_rv(z, zOffset, x, xOffset, xCount, y, yOffset, yCount, first, count, useFFT(count, yCount, false));
+	}
+
+	/**
+	 * Window of convolution of real vectors with forced method.
+	 * @param fft use FFT instead of direct computation
+	 * @see #rv_conv_rv(float[], int, float[], int, int, float[], int, int, int, int)
+	 */
+	public void rv_conv_rv(float z[], int zOffset, float x[], int xOffset, int xCount, float y[], int yOffset, int yCount, int first, int count, boolean fft) {
+		hre = grow(hre, yCount);
+		for (int i = 0; i < yCount; i++)
+			hre[i] = y[yOffset + yCount - 1 - i];
+		slide(z, zOffset, x, xOffset, xCount, yCount, first - (yCount - 1), count, false, fft);
+	}
+
+	/**
+	 * Full convolution of complex vectors.
+	 * @param z output, {@code xCount + yCount - 1} complex numbers
+	 * @param zOffset offset in {@code z}, in complex numbers
+	 * @param x first vector
+	 * @param xOffset offset in {@code x}, in complex numbers
+	 * @param xCount number of complex numbers in {@code x}
+	 * @param y second vector
+	 * @param yOffset offset in {@code y}, in complex numbers
+	 * @param yCount number of complex numbers in {@code y}
+	 */
+	public void cv_conv_cv(float z[], int zOffset, float x[], int xOffset, int xCount, float y[], int yOffset, int yCount) {
+		cv_conv_cv(z, zOffset, x, xOffset, xCount, y, yOffset, yCount, 0, xCount + yCount - 1);
+	}
+
+	/**
+	 * Window of convolution of complex vectors, {@code z[k] = sum(x[m] * y[first + k - m])}.
+	 * @param z output, {@code count} complex numbers
+	 * @param zOffset offset in {@code z}, in complex numbers
+	 * @param x first vector
+	 * @param xOffset offset in {@code x}, in complex numbers
+	 * @param xCount number of complex numbers in {@code x}
+	 * @param y second vector
+	 * @param yOffset offset in {@code y}, in complex numbers
+	 * @param yCount number of complex numbers in {@code y}
+	 * @param first index of first output in full convolution
+	 * @param count number of outputs
+	 */
+	public void cv_conv_cv(float z[], int zOffset, float x[], int xOffset, int xCount, float y[], int yOffset, int yCount, int first, int count) {
+		cv_conv_cv(z, zOffset, x, xOffset, xCount, y, yOffset, yCount, first, count, useFFT(count, yCount, true));
+	}
+
+	/**
+	 * Window of convolution of complex vectors with forced method.
+	 * @param fft use FFT instead of direct computation
+	 * @see #cv_conv_cv(float[], int, float[], int, int, float[], int, int, int, int)
+	 */
+	public void cv_conv_cv(float z[], int zOffset, float x[], int xOffset, int xCount, float y[], int yOffset, int yCount, int first, int count, boolean fft) {
+		hre = grow(hre, yCount);
+		him = grow(him, yCount);
+		yOffset <<= 1;
+		for (int i = 0; i < yCount; i++) {
+			hre[i] = y[yOffset + (yCount - 1 - i) * 2];
+			him[i] = y[yOffset + (yCount - 1 - i) * 2 + 1];
+		}
+		slide(z, zOffset, x, xOffset, xCount, yCount, first - (yCount - 1), count, true, fft);
+	}
+
+	private static boolean useFFT(int count, int taps, boolean complex) {
+		final int m = fftSize(count, taps);
+		final long blocks = (count + m - taps) / (m - taps + 1);
+		final long direct = (long)count * taps * (complex ? 2 : 1);
+		// Two transforms per block and one for kernel, real transform is half of complex one
+		final long fft = (long)FFT_COST * m * Integer.numberOfTrailingZeros(m) * (blocks * 2 + 1) * (complex ? 2 : 1) / 2;
+		return direct > fft;
+	}
+
+	// At least four times longer than kernel, so most of each block is new outputs, but not longer than needed
+	private static int fftSize(int count, int taps) {
+		final int span = count + taps - 1;
+		final int needed = Math.max(MIN_FFT, Integer.highestOneBit(span - 1) << 1);
+		return Math.min(needed, Math.max(MIN_FFT, Integer.highestOneBit(taps - 1) * 8));
+	}
+
+	// z[k] = sum(x[from + k + n] * h[n]) for k in [0, count), x is zero outside of [0, xCount)
+	private void slide(float z[], int zOffset, float x[], int xOffset, int xCount, int taps, int from, int count, boolean complex, boolean fft) {
+		if (taps < 1)
+			throw new IllegalArgumentException("Second vector must have at least one element");
+		if (count <= 0)
+			return;
+		final int width = complex ? 2 : 1;
+		final int span = count + taps - 1;
+
+		// Window of x with zeroes around it
+		final int start = Math.max(0, Math.min(span, -from));
+		final int end = Math.max(start, Math.min(span, xCount - from));
+		if (end == start) {
+			// Window is entirely outside of x, and there is no source index to copy from
+			java.util.Arrays.fill(z, zOffset * width, (zOffset + count) * width, 0.0f);
+			return;
+		}
+		xs = grow(xs, span * width);
+		java.util.Arrays.fill(xs, 0, start * width, 0.0f);
+		System.arraycopy(x, (xOffset + from + start) * width, xs, start * width, (end - start) * width);
+		java.util.Arrays.fill(xs, end * width, span * width, 0.0f);
+
+		if (!fft) {
+			if (complex)
+				FIR.directComplex(z, zOffset * 2, xs, hre, him, count * 2);
+			else
+				FIR.directReal(z, zOffset, xs, hre, 1, count);
+			return;
+		}
+
+		// Overlap-save: kernel is reversed, so correlation becomes convolution, and each block
+		// gives size - (taps - 1) outputs, which are not wrapped
+		final int size = fftSize(count, taps);
+		final int outputs = size - (taps - 1);
+		hs = grow(hs, size * width);
+		work = grow(work, size * width);
+		final RFFT rfft = complex ? null : rffts.computeIfAbsent(size, RFFT::new);
+		final CFFT cfft = complex ? cffts.computeIfAbsent(size, CFFT::new) : null;
+		if (complex) {
+			for (int i = 0; i < taps; i++) {
+				hs[i * 2] = hre[taps - 1 - i];
+				hs[i * 2 + 1] = him[taps - 1 - i];
+			}
+			java.util.Arrays.fill(hs, taps * 2, size * 2, 0.0f);
+			cfft.forward(hs, 0);
+		} else {
+			for (int i = 0; i < taps; i++)
+				hs[i] = hre[taps - 1 - i];
+			java.util.Arrays.fill(hs, taps, size, 0.0f);
+			rfft.forward(hs, 0);
+		}
+
+		for (int k = 0; k < count; k += outputs) {
+			final int n = Math.min(outputs, count - k);
+			final int in = n + taps - 1;
+			System.arraycopy(xs, k * width, work, 0, in * width);
+			java.util.Arrays.fill(work, in * width, size * width, 0.0f);
+			if (complex) {
+				cfft.forward(work, 0);
+				VOVec.cv_mul_cv_i(work, 0, hs, 0, size);
+				cfft.inverse(work, 0);
+				System.arraycopy(work, (taps - 1) * 2, z, (zOffset + k) * 2, n * 2);
+			} else {
+				rfft.forward(work, 0);
+				// First complex number is two real bins
+				work[0] *= hs[0];
+				work[1] *= hs[1];
+				VOVec.cv_mul_cv_i(work, 1, hs, 1, size / 2 - 1);
+				rfft.inverse(work, 0);
+				System.arraycopy(work, taps - 1, z, zOffset + k, n);
+			}
+		}
+	}
+
+	private static float[] grow(float a[], int size) {
+		return (a.length >= size) ? a : new float[size];
+	}
+}
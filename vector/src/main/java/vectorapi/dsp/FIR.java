@@ -0,0 +1,361 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi.dsp;
+
+import jdk.incubator.vector.*;
+import vectorapi.VOVec;
+import vectorapi.VSpecies;
+import vectorapi.fft.CFFT;
+import vectorapi.fft.RFFT;
+
+/**
+ * Streaming FIR filter {@code y[n] = sum(h[k] * x[n - k])} with delay line kept between calls.
+ *
+ * There are three kinds of filters: real taps on real data ({@link #rv(float[])}), complex taps
+ * on complex data ({@link #cv(float[])}) and real taps on complex data ({@link #rv_cv(float[])}).
+ * Data is passed as in {@link vectorapi.VO}: array, offset and count in real or complex numbers.
+ * Output could be same array as input, if offsets are same.
+ *
+ * Filters with less than {@link #FFT_FROM} taps are computed directly: input is appended to
+ * delay line, and each group of four output vectors is accumulated in registers over all taps
+ * with FMA. Longer filters use overlap-save with {@link RFFT} or {@link CFFT}. Both give same
+ * result for any split of input into calls.
+ *
+ * Filter is stateful and must not be used by several threads at once.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration, WeakerAccess
+ */
+public final class FIR {
+	/**
+	 * Filters with this or more taps use FFT, complex taps are counted twice, as direct filter
+	 * does twice more multiplications for them. Set by {@code vectorapi.dsp.FIR.fft} system property,
+	 * see {@code vector.dsp.FIRFilter} benchmark for crossover on your host.
+	 */
+	public static final int FFT_FROM = Integer.getInteger("vectorapi.dsp.FIR.fft", 192);
+
+	private final static VectorSpecies<Float> PFS = VSpecies.FLOAT;
+	private final static int EPV = PFS.length();
+	private final static int EPVx2 = EPV * 2;
+	private final static int EPVx4 = EPV * 4;
+
+	// [(re0, im0), (re1, im1), ...] -> [(im0, re0), (im1, re1), ...]
+	private final static VectorShuffle<Float> SHUFFLE_CV_SWAP_RE_IM = VectorShuffle.shuffle(PFS, i -> (i % 2 == 0) ? i + 1 : i - 1);
+	// [-1, 1, ...], multiplied by swapped vector it gives multiplication by i
+	private final static float SIGN_IM[];
+
+	// Number of new samples, processed at once by direct filter
+	private final static int CHUNK = 4096;
+	// Smaller transforms are dominated by overhead of calls and copies
+	private final static int MIN_FFT = 1024;
+
+	private final static int KIND_RV = 0;
+	private final static int KIND_CV = 1;
+	private final static int KIND_RV_CV = 2;
+
+	static {
+		SIGN_IM = new float[EPV];
+		for (int i = 0; i < EPV; i++)
+			SIGN_IM[i] = (i % 2 == 0) ? -1.0f : 1.0f;
+	}
+
+	private final int kind;
+	private final int taps;
+	// Floats per data sample, 1 or 2
+	private final int width;
+	// Delay line: (taps - 1) samples of history, then new samples
+	private final float buf[];
+	private final int history;
+	private final int chunk;
+
+	// Direct form: taps in reverse order, re and im separately for complex taps
+	private final float hre[];
+	private final float him[];
+
+	// Overlap-save: spectrum of taps, its size, transforms and spectrum buffer
+	private final int fftSize;
+	private final float spectrum[];
+	private final float hspectrum[];
+	private final RFFT rfft;
+	private final CFFT cfft;
+
+	/**
+	 * Creates filter with real taps for real data.
+	 * @param taps impulse response, {@code h[0]} is applied to current sample
+	 */
+	public static FIR rv(float taps[]) {
+		return rv(taps, taps.length >= FFT_FROM);
+	}
+
+	/**
+	 * Creates filter with real taps for real data.
+	 * @param taps impulse response, {@code h[0]} is applied to current sample
+	 * @param fft use overlap-save instead of direct convolution
+	 */
+	public static FIR rv(float taps[], boolean fft) {
+		return new FIR(KIND_RV, taps, fft);
+	}
+
+	/**
+	 * Creates filter with complex taps for complex data.
+	 * @param taps impulse response, complex numbers
+	 */
+	public static FIR cv(float taps[]) {
+		return cv(taps, taps.length >= FFT_FROM);
+	}
+
+	/**
+	 * Creates filter with complex taps for complex data.
+	 * @param taps impulse response, complex numbers
+	 * @param fft use overlap-save instead of direct convolution
+	 */
+	public static FIR cv(float taps[], boolean fft) {
+		return new FIR(KIND_CV, taps, fft);
+	}
+
+	/**
+	 * Creates filter with real taps for complex data.
+	 * @param taps impulse response, real numbers
+	 */
+	public static FIR rv_cv(float taps[]) {
+		return rv_cv(taps, taps.length >= FFT_FROM);
+	}
+
+	/**
+	 * Creates filter with real taps for complex data.
+	 * @param taps impulse response, real numbers
+	 * @param fft use overlap-save instead of direct convolution
+	 */
+	public static FIR rv_cv(float taps[], boolean fft) {
+		return new FIR(KIND_RV_CV, taps, fft);
+	}
+
+	private FIR(int kind, float h[], boolean fft) {
+		this.kind = kind;
+		this.width = (kind == KIND_RV) ? 1 : 2;
+		this.taps = (kind == KIND_CV) ? h.length / 2 : h.length;
+		if (taps == 0)
+			throw new IllegalArgumentException("FIR filter must have at least one tap");
+		this.history = (taps - 1) * width;
+
+		if (!fft || taps == 1) {
+			fftSize = 0;
+			spectrum = null;
+			hspectrum = null;
+			rfft = null;
+			cfft = null;
+			chunk = CHUNK;
+			hre = new float[taps];
+			him = (kind == KIND_CV) ? new float[taps] : null;
+			for (int i = 0; i < taps; i++) {
+				if (kind == KIND_CV) {
+					hre[i] = h[(taps - 1 - i) * 2 + 0];
+					him[i] = h[(taps - 1 - i) * 2 + 1];
+				} else {
+					hre[i] = h[taps - 1 - i];
+				}
+			}
+		} else {
+			hre = null;
+			him = null;
+			// At least four times longer than filter, so most of each block is new samples
+			fftSize = Math.max(MIN_FFT, Integer.highestOneBit(taps - 1) * 8);
+			chunk = fftSize - (taps - 1);
+			if (kind == KIND_RV) {
+				rfft = new RFFT(fftSize);
+				cfft = null;
+				hspectrum = new float[fftSize];
+				System.arraycopy(h, 0, hspectrum, 0, taps);
+				rfft.forward(hspectrum, 0);
+			} else {
+				rfft = null;
+				cfft = new CFFT(fftSize);
+				hspectrum = new float[fftSize * 2];
+				if (kind == KIND_CV) {
+					System.arraycopy(h, 0, hspectrum, 0, taps * 2);
+				} else {
+					for (int i = 0; i < taps; i++)
+						hspectrum[i * 2] = h[i];
+				}
+				cfft.forward(hspectrum, 0);
+			}
+			spectrum = new float[fftSize * width];
+		}
+		buf = new float[history + chunk * width];
+	}
+
+	/**
+	 * @return number of taps
+	 */
+	public int getTaps() {
+		return taps;
+	}
+
+	/**
+	 * Clears delay line, as if filter got only zeros before.
+	 */
+	public void reset() {
+		java.util.Arrays.fill(buf, 0, history, 0.0f);
+	}
+
+	/**
+	 * Filters next block of stream.
+	 * @param z output
+	 * @param zOffset offset in {@code z}, in samples (complex numbers for complex data)
+	 * @param x input
+	 * @param xOffset offset in {@code x}, in samples
+	 * @param count number of samples
+	 */
+	public void filter(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset *= width;
+		xOffset *= width;
+		while (count > 0) {
+			final int n = Math.min(count, chunk);
+			final int nf = n * width;
+			System.arraycopy(x, xOffset, buf, history, nf);
+
+			if (fftSize == 0) {
+				if (kind == KIND_CV)
+					directComplex(z, zOffset, buf, hre, him, nf);
+				else
+					directReal(z, zOffset, buf, hre, width, nf);
+			} else {
+				overlapSave(z, zOffset, nf);
+			}
+
+			// Last taps - 1 samples are history for next block
+			System.arraycopy(buf, nf, buf, 0, history);
+			zOffset += nf;
+			xOffset += nf;
+			count -= n;
+		}
+	}
+
+	// Output float j is sum(h[taps - 1 - i] * buf[j + i * step]), step is distance between samples
+	static void directReal(float z[], int zOffset, float buf[], float h[], int step, int count) {
+		final int taps = h.length;
+		int j = 0;
+
+		while (count >= EPVx4) {
+			FloatVector vacc1 = FloatVector.zero(PFS);
+			FloatVector vacc2 = FloatVector.zero(PFS);
+			FloatVector vacc3 = FloatVector.zero(PFS);
+			FloatVector vacc4 = FloatVector.zero(PFS);
+			for (int i = 0, b = j; i < taps; i++, b += step) {
+				final FloatVector vh = FloatVector.broadcast(PFS, h[i]);
+				vacc1 = FloatVector.fromArray(PFS, buf, b).fma(vh, vacc1);
+				vacc2 = FloatVector.fromArray(PFS, buf, b + EPV).fma(vh, vacc2);
+				vacc3 = FloatVector.fromArray(PFS, buf, b + EPVx2).fma(vh, vacc3);
+				vacc4 = FloatVector.fromArray(PFS, buf, b + EPV * 3).fma(vh, vacc4);
+			}
+			vacc1.intoArray(z, zOffset + j);
+			vacc2.intoArray(z, zOffset + j + EPV);
+			vacc3.intoArray(z, zOffset + j + EPVx2);
+			vacc4.intoArray(z, zOffset + j + EPV * 3);
+			j += EPVx4;
+			count -= EPVx4;
+		}
+
+		while (count >= EPV) {
+			FloatVector vacc = FloatVector.zero(PFS);
+			for (int i = 0, b = j; i < taps; i++, b += step)
+				vacc = FloatVector.fromArray(PFS, buf, b).fma(FloatVector.broadcast(PFS, h[i]), vacc);
+			vacc.intoArray(z, zOffset + j);
+			j += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			float acc = 0.0f;
+			for (int i = 0, b = j; i < taps; i++, b += step)
+				acc += buf[b] * h[i];
+			z[zOffset + j] = acc;
+			j++;
+		}
+	}
+
+	// Products by re and im of taps are accumulated separately, without shuffles:
+	// y = sum(x * h.re) + i * sum(x * h.im), and multiplication by i is done once
+	static void directComplex(float z[], int zOffset, float buf[], float hre[], float him[], int count) {
+		final int taps = hre.length;
+		final FloatVector vsign = FloatVector.fromArray(PFS, SIGN_IM, 0);
+		int j = 0;
+
+		while (count >= EPVx2) {
+			FloatVector vre1 = FloatVector.zero(PFS);
+			FloatVector vre2 = FloatVector.zero(PFS);
+			FloatVector vim1 = FloatVector.zero(PFS);
+			FloatVector vim2 = FloatVector.zero(PFS);
+			for (int i = 0, b = j; i < taps; i++, b += 2) {
+				final FloatVector vhre = FloatVector.broadcast(PFS, hre[i]);
+				final FloatVector vhim = FloatVector.broadcast(PFS, him[i]);
+				final FloatVector vx1 = FloatVector.fromArray(PFS, buf, b);
+				final FloatVector vx2 = FloatVector.fromArray(PFS, buf, b + EPV);
+				vre1 = vx1.fma(vhre, vre1);
+				vre2 = vx2.fma(vhre, vre2);
+				vim1 = vx1.fma(vhim, vim1);
+				vim2 = vx2.fma(vhim, vim2);
+			}
+			vim1.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(vsign, vre1).intoArray(z, zOffset + j);
+			vim2.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(vsign, vre2).intoArray(z, zOffset + j + EPV);
+			j += EPVx2;
+			count -= EPVx2;
+		}
+
+		while (count > 0) {
+			float re = 0.0f;
+			float im = 0.0f;
+			for (int i = 0, b = j; i < taps; i++, b += 2) {
+				re += buf[b + 0] * hre[i] - buf[b + 1] * him[i];
+				im += buf[b + 0] * him[i] + buf[b + 1] * hre[i];
+			}
+			z[zOffset + j + 0] = re;
+			z[zOffset + j + 1] = im;
+			j += 2;
+			count -= 2;
+		}
+	}
+
+	// Circular convolution of whole buffer with taps, first taps - 1 outputs are wrapped and dropped.
+	// Buffer could be not full, values after new samples don't affect kept outputs
+	private void overlapSave(float z[], int zOffset, int count) {
+		if (rfft != null) {
+			rfft.forward(spectrum, 0, buf, 0);
+			// First complex number is two real bins
+			spectrum[0] *= hspectrum[0];
+			spectrum[1] *= hspectrum[1];
+			VOVec.cv_mul_cv_i(spectrum, 1, hspectrum, 1, fftSize / 2 - 1);
+			rfft.inverse(spectrum, 0);
+		} else {
+			cfft.forward(spectrum, 0, buf, 0);
+			VOVec.cv_mul_cv_i(spectrum, 0, hspectrum, 0, fftSize);
+			cfft.inverse(spectrum, 0);
+		}
+		System.arraycopy(spectrum, history, z, zOffset, count);
+	}
+}
@@ -0,0 +1,281 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi.dsp;
+
+import jdk.incubator.vector.*;
+import vectorapi.VSpecies;
+
+/**
+ * Bank of Goertzel filters: power of several arbitrary frequencies of real ({@code rv}) signal over
+ * consecutive blocks of {@code size} samples, without full FFT.
+ *
+ * Each filter is second-order resonator {@code s[n] = x[n] + 2 * cos(w) * s[n - 1] - s[n - 2]}, and power
+ * {@code |X(w)|^2 = s1^2 + s2^2 - 2 * cos(w) * s1 * s2} is computed from its state at the end of block.
+ * Filters are vectorized across frequencies: states of several vectors of frequencies are kept in
+ * registers, while samples of input are broadcast one by one, so each sample costs one FMA and one
+ * addition per vector of frequencies. Frequencies need not be bins of {@code size}-point DFT.
+ * Rounding errors of resonator grow near zero and Nyquist frequency, where {@code 2 * cos(w)} is close to 2,
+ * so {@link SlidingDFT} is better for such frequencies.
+ *
+ * Input is accepted in blocks of any size, state of unfinished block is kept till next call.
+ *
+ * Bank is stateful and must not be used by several threads at once.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration, WeakerAccess
+ */
+public final class Goertzel {
+	private final static VectorSpecies<Float> PFS = VSpecies.FLOAT;
+	private final static int EPV = PFS.length();
+	private final static int EPVx2 = EPV * 2;
+	private final static int EPVx3 = EPV * 3;
+	private final static int EPVx4 = EPV * 4;
+
+	private final int size;
+	private final int bins;
+	// Number of frequencies rounded up to whole vectors
+	private final int padded;
+	private final float frequencies[];
+	// 2 * cos(w), padded with zeroes
+	private final float coef[];
+	// s[n - 1] and s[n - 2] of each filter
+	private final float s1[];
+	private final float s2[];
+	// Samples of current block
+	private int filled;
+
+	/**
+	 * Creates bank for DFT bins.
+	 * @param size block size
+	 * @param bins indices of bins of {@code size}-point DFT
+	 * @return new bank
+	 */
+	public static Goertzel bins(int size, int bins[]) {
+		final float f[] = new float[bins.length];
+		for (int i = 0; i < bins.length; i++)
+			f[i] = (float)((double)bins[i] / size);
+		return new Goertzel(size, f);
+	}
+
+	/**
+	 * Creates bank.
+	 * @param size block size
+	 * @param frequencies frequencies in cycles per sample, {@code [0, 0.5]}
+	 */
+	public Goertzel(int size, float frequencies[]) {
+		if (size < 2)
+			throw new IllegalArgumentException("Block size must be at least 2, got " + size);
+		if (frequencies.length == 0)
+			throw new IllegalArgumentException("There must be at least one frequency");
+		this.size = size;
+		this.bins = frequencies.length;
+		this.frequencies = frequencies.clone();
+		padded = (bins + EPV - 1) / EPV * EPV;
+		coef = new float[padded];
+		for (int i = 0; i < bins; i++)
+			coef[i] = (float)(2.0 * Math.cos(2.0 * Math.PI * frequencies[i]));
+		s1 = new float[padded];
+		s2 = new float[padded];
+		filled = 0;
+	}
+
+	/**
+	 * @return block size
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * @return number of frequencies, size of row of output
+	 */
+	public int getBins() {
+		return bins;
+	}
+
+	/**
+	 * @return frequencies in cycles per sample
+	 */
+	public float[] getFrequencies() {
+		return frequencies.clone();
+	}
+
+	/**
+	 * Drops unfinished block.
+	 */
+	public void reset() {
+		filled = 0;
+	}
+
+	/**
+	 * Returns number of rows, which will be produced by next call of
+	 * {@link #process(float[], int, float[], int, int)} with given number of inputs.
+	 * @param count number of input samples
+	 * @return number of rows
+	 */
+	public int blocks(int count) {
+		return (int)(((long)filled + count) / size);
+	}
+
+	/**
+	 * Processes next part of signal.
+	 * @param z powers of all frequencies for each finished block, {@link #getBins()} elements per row
+	 * @param zOffset offset of first row in {@code z}
+	 * @param x signal
+	 * @param xOffset offset in {@code x}
+	 * @param count number of samples
+	 * @return number of rows
+	 */
+	public int process(float z[], int zOffset, float x[], int xOffset, int count) {
+		int rows = 0;
+		while (count > 0) {
+			if (filled == 0) {
+				// Filters start from zero state
+				for (int i = 0; i < padded; i++) {
+					s1[i] = 0.0f;
+					s2[i] = 0.0f;
+				}
+			}
+
+			final int n = Math.min(size - filled, count);
+			filter(x, xOffset, n);
+			filled += n;
+			xOffset += n;
+			count -= n;
+
+			if (filled == size) {
+				power(z, zOffset);
+				zOffset += bins;
+				rows++;
+				filled = 0;
+			}
+		}
+		return rows;
+	}
+
+	private void filter(float x[], int xOffset, int count) {
+		int i = 0;
+		// Four vectors of filters at once, to hide latency of dependent operations
+		while (i <= padded - EPVx4) {
+			final FloatVector vc1 = FloatVector.fromArray(PFS, coef, i);
+			final FloatVector vc2 = FloatVector.fromArray(PFS, coef, i + EPV);
+			final FloatVector vc3 = FloatVector.fromArray(PFS, coef, i + EPVx2);
+			final FloatVector vc4 = FloatVector.fromArray(PFS, coef, i + EPVx3);
+			FloatVector va1 = FloatVector.fromArray(PFS, s1, i);
+			FloatVector va2 = FloatVector.fromArray(PFS, s1, i + EPV);
+			FloatVector va3 = FloatVector.fromArray(PFS, s1, i + EPVx2);
+			FloatVector va4 = FloatVector.fromArray(PFS, s1, i + EPVx3);
+			FloatVector vb1 = FloatVector.fromArray(PFS, s2, i);
+			FloatVector vb2 = FloatVector.fromArray(PFS, s2, i + EPV);
+			FloatVector vb3 = FloatVector.fromArray(PFS, s2, i + EPVx2);
+			FloatVector vb4 = FloatVector.fromArray(PFS, s2, i + EPVx3);
+
+			for (int k = 0; k < count; k++) {
+				// s = x - s2 + c * s1, s2 = s1, s1 = s
+				final FloatVector vx = FloatVector.broadcast(PFS, x[xOffset + k]);
+				final FloatVector vs1 = va1.fma(vc1, vx.sub(vb1));
+				final FloatVector vs2 = va2.fma(vc2, vx.sub(vb2));
+				final FloatVector vs3 = va3.fma(vc3, vx.sub(vb3));
+				final FloatVector vs4 = va4.fma(vc4, vx.sub(vb4));
+				vb1 = va1;
+				vb2 = va2;
+				vb3 = va3;
+				vb4 = va4;
+				va1 = vs1;
+				va2 = vs2;
+				va3 = vs3;
+				va4 = vs4;
+			}
+
+			va1.intoArray(s1, i);
+			va2.intoArray(s1, i + EPV);
+			va3.intoArray(s1, i + EPVx2);
+			va4.intoArray(s1, i + EPVx3);
+			vb1.intoArray(s2, i);
+			vb2.intoArray(s2, i + EPV);
+			vb3.intoArray(s2, i + EPVx2);
+			vb4.intoArray(s2, i + EPVx3);
+			i += EPVx4;
+		}
+
+		if (i <= padded - EPVx2) {
+			final FloatVector vc1 = FloatVector.fromArray(PFS, coef, i);
+			final FloatVector vc2 = FloatVector.fromArray(PFS, coef, i + EPV);
+			FloatVector va1 = FloatVector.fromArray(PFS, s1, i);
+			FloatVector va2 = FloatVector.fromArray(PFS, s1, i + EPV);
+			FloatVector vb1 = FloatVector.fromArray(PFS, s2, i);
+			FloatVector vb2 = FloatVector.fromArray(PFS, s2, i + EPV);
+
+			for (int k = 0; k < count; k++) {
+				final FloatVector vx = FloatVector.broadcast(PFS, x[xOffset + k]);
+				final FloatVector vs1 = va1.fma(vc1, vx.sub(vb1));
+				final FloatVector vs2 = va2.fma(vc2, vx.sub(vb2));
+				vb1 = va1;
+				vb2 = va2;
+				va1 = vs1;
+				va2 = vs2;
+			}
+
+			va1.intoArray(s1, i);
+			va2.intoArray(s1, i + EPV);
+			vb1.intoArray(s2, i);
+			vb2.intoArray(s2, i + EPV);
+			i += EPVx2;
+		}
+
+		if (i < padded) {
+			final FloatVector vc = FloatVector.fromArray(PFS, coef, i);
+			FloatVector va = FloatVector.fromArray(PFS, s1, i);
+			FloatVector vb = FloatVector.fromArray(PFS, s2, i);
+			for (int k = 0; k < count; k++) {
+				final FloatVector vs = va.fma(vc, FloatVector.broadcast(PFS, x[xOffset + k]).sub(vb));
+				vb = va;
+				va = vs;
+			}
+			va.intoArray(s1, i);
+			vb.intoArray(s2, i);
+		}
+	}
+
+	// z = s1^2 + s2^2 - c * s1 * s2
+	private void power(float z[], int zOffset) {
+		int i = 0;
+		while (i <= bins - EPV) {
+			final FloatVector va = FloatVector.fromArray(PFS, s1, i);
+			final FloatVector vb = FloatVector.fromArray(PFS, s2, i);
+			final FloatVector vc = FloatVector.fromArray(PFS, coef, i);
+			va.fma(va.sub(vc.mul(vb)), vb.mul(vb)).intoArray(z, zOffset + i);
+			i += EPV;
+		}
+
+		while (i < bins) {
+			z[zOffset + i] = s1[i] * s1[i] + s2[i] * s2[i] - coef[i] * s1[i] * s2[i];
+			i++;
+		}
+	}
+}
@@ -0,0 +1,289 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi.dsp;
+
+import jdk.incubator.vector.*;
+import vectorapi.VSpecies;
+
+/**
+ * Numerically controlled oscillator: generates phasor {@code exp(i * (phi0 + k * dphi))}
+ * and multiplies complex vectors ({@code cv}) by it, to shift their frequency by {@code dphi}
+ * radians per sample.
+ *
+ * There are no {@code sin()} and {@code cos()} calls per sample, as in
+ * {@link vectorapi.VO#rv_expi(float[], int, float[], int, int)} followed by
+ * {@link vectorapi.VO#cv_mul_cv(float[], int, float[], int, float[], int, int)}. Four vectors
+ * of consecutive phasors are kept in registers, and each of them is rotated by one complex
+ * multiplication after use. Phasors are kept as separate vectors of real and (signed) imaginary
+ * parts, spread to both parts of each complex number, so neither rotation nor multiplication of
+ * data needs more than one shuffle.
+ *
+ * Rotations accumulate rounding errors in magnitude and phase, so phasors are computed anew
+ * after each {@value #ROTATIONS} rotations from first phasor of next chunk. It is rotated in
+ * {@code double}, and {@code sin()} and {@code cos()} are called only once per call. Phase is
+ * kept in {@code double} and carried between calls, so output doesn't depend on split of input
+ * into blocks.
+ *
+ * Oscillator is stateful and must not be used by several threads at once.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration, WeakerAccess
+ */
+public final class NCO {
+	private final static VectorSpecies<Float> PFS = VSpecies.FLOAT;
+	private final static int EPV = PFS.length();
+	private final static int EPV2 = EPV / 2;
+	private final static int EPVx2 = EPV * 2;
+	private final static int EPVx3 = EPV * 3;
+	private final static int EPVx4 = EPV * 4;
+
+	// Number of rotations of vectors before computation of phasors anew
+	private final static int ROTATIONS = 16;
+	private final static int CHUNK = EPVx2 * ROTATIONS;
+	private final static double TWO_PI = 2.0 * Math.PI;
+
+	// [(re0, im0), (re1, im1), ...] -> [(im0, re0), (im1, re1), ...]
+	private final static VectorShuffle<Float> SHUFFLE_CV_SWAP_RE_IM = VectorShuffle.shuffle(PFS, i -> (i % 2 == 0) ? i + 1 : i - 1);
+	// Imaginary parts of complex numbers
+	private final static VectorMask<Float> MASK_C_IM;
+	// [1, -1, ...]
+	private final static float SIGN_RE[];
+
+	static {
+		final boolean im[] = new boolean[EPV];
+		SIGN_RE = new float[EPV];
+		for (int i = 0; i < EPV; i++) {
+			im[i] = i % 2 == 1;
+			SIGN_RE[i] = (i % 2 == 0) ? 1.0f : -1.0f;
+		}
+		MASK_C_IM = VectorMask.fromArray(PFS, im, 0);
+	}
+
+	private double phase;
+	private double step;
+	// exp(i * k * dphi) for k in [0, 2 * EPV): real parts as [re, re], imaginary as [-im, im]
+	private final float offre[] = new float[EPVx4];
+	private final float offim[] = new float[EPVx4];
+	// exp(i * 2 * EPV * dphi), rotation of four vectors
+	private float rotre;
+	private float rotim;
+	// exp(i * CHUNK * dphi), rotation of first phasor of chunk
+	private double chunkre;
+	private double chunkim;
+	// Phasors of tail
+	private final float tailre[] = new float[EPV];
+	private final float tailim[] = new float[EPV];
+
+	/**
+	 * Creates oscillator.
+	 * @param phase phase of first sample, radians
+	 * @param step increment of phase per sample, radians
+	 */
+	public NCO(double phase, double step) {
+		setPhase(phase);
+		setStep(step);
+	}
+
+	/**
+	 * @return phase of next sample, radians in {@code [-pi, pi]}
+	 */
+	public double getPhase() {
+		return phase;
+	}
+
+	/**
+	 * Sets phase of next sample.
+	 * @param phase phase, radians
+	 */
+	public void setPhase(double phase) {
+		this.phase = Math.IEEEremainder(phase, TWO_PI);
+	}
+
+	/**
+	 * @return increment of phase per sample, radians
+	 */
+	public double getStep() {
+		return step;
+	}
+
+	/**
+	 * Sets frequency, phase is continuous.
+	 * @param step increment of phase per sample, radians
+	 */
+	public void setStep(double step) {
+		this.step = step;
+		for (int k = 0; k < EPVx2; k++) {
+			final double a = k * step;
+			offre[k * 2 + 0] = (float)Math.cos(a);
+			offre[k * 2 + 1] = (float)Math.cos(a);
+			offim[k * 2 + 0] = (float)-Math.sin(a);
+			offim[k * 2 + 1] = (float)Math.sin(a);
+		}
+		rotre = (float)Math.cos(EPVx2 * step);
+		rotim = (float)Math.sin(EPVx2 * step);
+		chunkre = Math.cos(CHUNK * step);
+		chunkim = Math.sin(CHUNK * step);
+	}
+
+	/**
+	 * Writes next samples of phasor.
+	 * @param z output, complex
+	 * @param zOffset offset in {@code z}, in complex numbers
+	 * @param count number of samples
+	 */
+	public void generate(float z[], int zOffset, int count) {
+		process(z, zOffset, null, 0, count);
+	}
+
+	/**
+	 * Multiplies next block of stream by phasor, in place is allowed.
+	 * @param z output, complex
+	 * @param zOffset offset in {@code z}, in complex numbers
+	 * @param x input, complex
+	 * @param xOffset offset in {@code x}, in complex numbers
+	 * @param count number of samples
+	 */
+	public void mix(float z[], int zOffset, float x[], int xOffset, int count) {
+		process(z, zOffset, x, xOffset, count);
+	}
+
+	private void process(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset <<= 1;
+		xOffset <<= 1;
+		double sre = Math.cos(phase);
+		double sim = Math.sin(phase);
+		phase = Math.IEEEremainder(phase + count * step, TWO_PI);
+		while (count > 0) {
+			final int n = Math.min(count, CHUNK);
+			chunk(z, zOffset, x, xOffset, n, (float)sre, (float)sim);
+			final double t = sre * chunkre - sim * chunkim;
+			sim = sre * chunkim + sim * chunkre;
+			sre = t;
+			zOffset += n * 2;
+			xOffset += n * 2;
+			count -= n;
+		}
+	}
+
+	// Phasor of sample k is stored as re = [re, re] and im = [-im, im], and rotation by w is
+	// re' = re * w.re + im * [w.im, -w.im], im' = im * w.re + re * [-w.im, w.im].
+	// Product of data and phasor is x * re + swap(x) * im.
+	private void chunk(float z[], int zOffset, float x[], int xOffset, int count, float sre, float sim) {
+		final FloatVector vsign = FloatVector.fromArray(PFS, SIGN_RE, 0);
+
+		// Phasors of first samples are offsets rotated by start phase
+		FloatVector vwre = FloatVector.broadcast(PFS, sre);
+		FloatVector vwim1 = vsign.mul(sim);
+		FloatVector vwim2 = vwim1.neg();
+		FloatVector vre1 = FloatVector.fromArray(PFS, offim, 0).fma(vwim1, FloatVector.fromArray(PFS, offre, 0).mul(vwre));
+		FloatVector vim1 = FloatVector.fromArray(PFS, offre, 0).fma(vwim2, FloatVector.fromArray(PFS, offim, 0).mul(vwre));
+		FloatVector vre2 = FloatVector.fromArray(PFS, offim, EPV).fma(vwim1, FloatVector.fromArray(PFS, offre, EPV).mul(vwre));
+		FloatVector vim2 = FloatVector.fromArray(PFS, offre, EPV).fma(vwim2, FloatVector.fromArray(PFS, offim, EPV).mul(vwre));
+		FloatVector vre3 = FloatVector.fromArray(PFS, offim, EPVx2).fma(vwim1, FloatVector.fromArray(PFS, offre, EPVx2).mul(vwre));
+		FloatVector vim3 = FloatVector.fromArray(PFS, offre, EPVx2).fma(vwim2, FloatVector.fromArray(PFS, offim, EPVx2).mul(vwre));
+		FloatVector vre4 = FloatVector.fromArray(PFS, offim, EPVx3).fma(vwim1, FloatVector.fromArray(PFS, offre, EPVx3).mul(vwre));
+		FloatVector vim4 = FloatVector.fromArray(PFS, offre, EPVx3).fma(vwim2, FloatVector.fromArray(PFS, offim, EPVx3).mul(vwre));
+
+		// Rotation of each vector by four vectors of samples
+		vwre = FloatVector.broadcast(PFS, rotre);
+		vwim1 = vsign.mul(rotim);
+		vwim2 = vwim1.neg();
+
+		while (count >= EPVx2) {
+			if (x == null) {
+				vre1.blend(vim1, MASK_C_IM).intoArray(z, zOffset);
+				vre2.blend(vim2, MASK_C_IM).intoArray(z, zOffset + EPV);
+				vre3.blend(vim3, MASK_C_IM).intoArray(z, zOffset + EPVx2);
+				vre4.blend(vim4, MASK_C_IM).intoArray(z, zOffset + EPVx3);
+			} else {
+				final FloatVector vx1 = FloatVector.fromArray(PFS, x, xOffset);
+				final FloatVector vx2 = FloatVector.fromArray(PFS, x, xOffset + EPV);
+				final FloatVector vx3 = FloatVector.fromArray(PFS, x, xOffset + EPVx2);
+				final FloatVector vx4 = FloatVector.fromArray(PFS, x, xOffset + EPVx3);
+				vx1.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(vim1, vx1.mul(vre1)).intoArray(z, zOffset);
+				vx2.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(vim2, vx2.mul(vre2)).intoArray(z, zOffset + EPV);
+				vx3.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(vim3, vx3.mul(vre3)).intoArray(z, zOffset + EPVx2);
+				vx4.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(vim4, vx4.mul(vre4)).intoArray(z, zOffset + EPVx3);
+			}
+
+			final FloatVector vnre1 = vim1.fma(vwim1, vre1.mul(vwre));
+			final FloatVector vnre2 = vim2.fma(vwim1, vre2.mul(vwre));
+			final FloatVector vnre3 = vim3.fma(vwim1, vre3.mul(vwre));
+			final FloatVector vnre4 = vim4.fma(vwim1, vre4.mul(vwre));
+			vim1 = vre1.fma(vwim2, vim1.mul(vwre));
+			vim2 = vre2.fma(vwim2, vim2.mul(vwre));
+			vim3 = vre3.fma(vwim2, vim3.mul(vwre));
+			vim4 = vre4.fma(vwim2, vim4.mul(vwre));
+			vre1 = vnre1;
+			vre2 = vnre2;
+			vre3 = vnre3;
+			vre4 = vnre4;
+
+			xOffset += EPVx4;
+			zOffset += EPVx4;
+			count -= EPVx2;
+		}
+
+		// Less than four vectors are left, their phasors are ready
+		while (count >= EPV2) {
+			if (x == null) {
+				vre1.blend(vim1, MASK_C_IM).intoArray(z, zOffset);
+			} else {
+				final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+				vx.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(vim1, vx.mul(vre1)).intoArray(z, zOffset);
+			}
+			vre1 = vre2;
+			vim1 = vim2;
+			vre2 = vre3;
+			vim2 = vim3;
+			vre3 = vre4;
+			vim3 = vim4;
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		if (count > 0) {
+			vre1.intoArray(tailre, 0);
+			vim1.intoArray(tailim, 0);
+			for (int i = 0; i < count * 2; i += 2) {
+				final float re = tailre[i];
+				final float im = tailim[i + 1];
+				if (x == null) {
+					z[zOffset + i + 0] = re;
+					z[zOffset + i + 1] = im;
+				} else {
+					final float xre = x[xOffset + i + 0];
+					final float xim = x[xOffset + i + 1];
+					z[zOffset + i + 0] = xre * re - xim * im;
+					z[zOffset + i + 1] = xre * im + xim * re;
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,270 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi.dsp;
+
+import jdk.incubator.vector.*;
+import vectorapi.VSpecies;
+
+/**
+ * Accumulator of power spectral density (Welch method): averages {@code |X|^2} of many spectra,
+ * for example rows of {@link STFT} with {@link STFT.Output#SPECTRUM} output.
+ *
+ * Each spectrum is added to accumulator in one pass, which computes power and averages it at once,
+ * instead of separate passes of magnitude, square and addition. Conversion to decibels is done once,
+ * when result is read.
+ *
+ * Accumulator is stateful and must not be used by several threads at once.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration, WeakerAccess
+ */
+public final class PSD {
+	/**
+	 * Kind of averaging.
+	 */
+	public enum Averaging {
+		/** Mean of all spectra */
+		LINEAR,
+		/** {@code P = P + alpha * (|X|^2 - P)}, first spectrum replaces {@code P} */
+		EXPONENTIAL,
+		/** Maximum of all spectra */
+		MAX_HOLD
+	}
+
+	private final static VectorSpecies<Float> PFS = VSpecies.FLOAT;
+	private final static int EPV = PFS.length();
+
+	private final int bins;
+	private final Averaging averaging;
+	private final float alpha;
+	private final float acc[];
+	private float scale;
+	private long frames;
+
+	/**
+	 * Creates accumulator with linear or max-hold averaging.
+	 * @param bins number of bins in each spectrum
+	 * @param averaging kind of averaging, not {@link Averaging#EXPONENTIAL}
+	 */
+	public PSD(int bins, Averaging averaging) {
+		this(bins, averaging, 1.0f);
+	}
+
+	/**
+	 * Creates accumulator.
+	 * @param bins number of bins in each spectrum
+	 * @param averaging kind of averaging
+	 * @param alpha weight of new spectrum for {@link Averaging#EXPONENTIAL}, in {@code (0, 1]}, ignored otherwise
+	 */
+	public PSD(int bins, Averaging averaging, float alpha) {
+		if (bins < 1)
+			throw new IllegalArgumentException("Number of bins must be positive, got " + bins);
+		if (averaging == Averaging.EXPONENTIAL && !(alpha > 0.0f && alpha <= 1.0f))
+			throw new IllegalArgumentException("Alpha must be in (0, 1], got " + alpha);
+		this.bins = bins;
+		this.averaging = averaging;
+		this.alpha = alpha;
+		acc = new float[bins];
+		scale = 1.0f;
+		frames = 0;
+	}
+
+	/**
+	 * @return number of bins
+	 */
+	public int getBins() {
+		return bins;
+	}
+
+	/**
+	 * @return number of accumulated spectra
+	 */
+	public long getFrames() {
+		return frames;
+	}
+
+	/**
+	 * @return scale applied to result, 1 by default
+	 */
+	public float getScale() {
+		return scale;
+	}
+
+	/**
+	 * Sets scale applied to result when it is read, for example {@code 1 / (fs * sum(w^2))} for
+	 * density or {@code 1 / sum(w)^2} for spectrum of sine.
+	 * @param scale new scale
+	 */
+	public void setScale(float scale) {
+		this.scale = scale;
+	}
+
+	/**
+	 * Forgets all accumulated spectra.
+	 */
+	public void reset() {
+		frames = 0;
+	}
+
+	/**
+	 * Adds one spectrum.
+	 * @param x spectrum, {@link #getBins()} complex numbers
+	 * @param xOffset offset in {@code x}, in complex numbers
+	 */
+	public void accumulate(float x[], int xOffset) {
+		accumulate(x, xOffset, 1);
+	}
+
+	/**
+	 * Adds several spectra, which follow each other, like rows of {@link STFT}.
+	 * @param x spectra, {@link #getBins()} complex numbers each
+	 * @param xOffset offset of first spectrum in {@code x}, in complex numbers
+	 * @param count number of spectra
+	 */
+	public void accumulate(float x[], int xOffset, int count) {
+		xOffset <<= 1;
+		while (count-- > 0) {
+			if (frames == 0)
+				assign(x, xOffset);
+			else if (averaging == Averaging.LINEAR)
+				sum(x, xOffset);
+			else if (averaging == Averaging.EXPONENTIAL)
+				exponential(x, xOffset);
+			else
+				max(x, xOffset);
+			frames++;
+			xOffset += bins * 2;
+		}
+	}
+
+	/**
+	 * Reads averaged power. Result is zero if nothing was accumulated.
+	 * @param z output, {@link #getBins()} elements
+	 * @param zOffset offset in {@code z}
+	 */
+	public void read(float z[], int zOffset) {
+		read(z, zOffset, false);
+	}
+
+	/**
+	 * Reads averaged power in decibels, {@code 10 * log10(P)}. Result is very small number, if nothing was accumulated.
+	 * @param z output, {@link #getBins()} elements
+	 * @param zOffset offset in {@code z}
+	 */
+	public void read_dB(float z[], int zOffset) {
+		read(z, zOffset, true);
+	}
+
+	private void read(float z[], int zOffset, boolean db) {
+		final float k = (frames == 0) ? 0.0f : (averaging == Averaging.LINEAR) ? scale / frames : scale;
+		int i = 0;
+		while (i <= bins - EPV) {
+			final FloatVector vp = FloatVector.fromArray(PFS, acc, i).mul(k);
+			if (db)
+				vp.add(Float.MIN_NORMAL).log10().mul(10.0f).intoArray(z, zOffset + i);
+			else
+				vp.intoArray(z, zOffset + i);
+			i += EPV;
+		}
+
+		while (i < bins) {
+			final float p = acc[i] * k;
+			z[zOffset + i] = db ? 10.0f * (float)Math.log10(p + Float.MIN_NORMAL) : p;
+			i++;
+		}
+	}
+
+	// acc = |x|^2
+	private void assign(float x[], int xOffset) {
+		int i = 0;
+		while (i <= bins - EPV) {
+			Power.vector(x, xOffset).intoArray(acc, i);
+			xOffset += EPV * 2;
+			i += EPV;
+		}
+
+		while (i < bins) {
+			acc[i] = Power.scalar(x, xOffset);
+			xOffset += 2;
+			i++;
+		}
+	}
+
+	// acc += |x|^2
+	private void sum(float x[], int xOffset) {
+		int i = 0;
+		while (i <= bins - EPV) {
+			final FloatVector vacc = FloatVector.fromArray(PFS, acc, i);
+			vacc.add(Power.vector(x, xOffset)).intoArray(acc, i);
+			xOffset += EPV * 2;
+			i += EPV;
+		}
+
+		while (i < bins) {
+			acc[i] += Power.scalar(x, xOffset);
+			xOffset += 2;
+			i++;
+		}
+	}
+
+	// acc += alpha * (|x|^2 - acc)
+	private void exponential(float x[], int xOffset) {
+		final FloatVector valpha = FloatVector.broadcast(PFS, alpha);
+		int i = 0;
+		while (i <= bins - EPV) {
+			final FloatVector vacc = FloatVector.fromArray(PFS, acc, i);
+			Power.vector(x, xOffset).sub(vacc).mul(valpha).add(vacc).intoArray(acc, i);
+			xOffset += EPV * 2;
+			i += EPV;
+		}
+
+		while (i < bins) {
+			final float p = Power.scalar(x, xOffset);
+			acc[i] += alpha * (p - acc[i]);
+			xOffset += 2;
+			i++;
+		}
+	}
+
+	// acc = max(acc, |x|^2)
+	private void max(float x[], int xOffset) {
+		int i = 0;
+		while (i <= bins - EPV) {
+			final FloatVector vacc = FloatVector.fromArray(PFS, acc, i);
+			vacc.max(Power.vector(x, xOffset)).intoArray(acc, i);
+			xOffset += EPV * 2;
+			i += EPV;
+		}
+
+		while (i < bins) {
+			acc[i] = Math.max(acc[i], Power.scalar(x, xOffset));
+			xOffset += 2;
+			i++;
+		}
+	}
+}
@@ -0,0 +1,76 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi.dsp;
+
+import jdk.incubator.vector.*;
+import vectorapi.VSpecies;
+
+/**
+ * Power {@code |x|^2} of complex numbers, shared by {@link PSD} and {@link STFT}.
+ *
+ * Vector and scalar code compute it by same multiplications and addition, without FMA,
+ * so value of bin doesn't depend on whether it is processed by vector loop or by scalar tail.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration
+ */
+final class Power {
+	private final static VectorSpecies<Float> PFS = VSpecies.FLOAT;
+	private final static int EPV = PFS.length();
+	private final static int EPV2 = EPV / 2;
+
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_PACK_RE_FIRST = VectorShuffle.shuffle(PFS, i -> (i < EPV2) ? i * 2 : 0);
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_PACK_IM_FIRST = VectorShuffle.shuffle(PFS, i -> (i < EPV2) ? i * 2 + 1 : 0);
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_PACK_RE_SECOND = VectorShuffle.shuffle(PFS, i -> (i >= EPV2) ? i * 2 - EPV : 0);
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_PACK_IM_SECOND = VectorShuffle.shuffle(PFS, i -> (i >= EPV2) ? i * 2 - EPV + 1 : 0);
+	private final static VectorMask<Float> MASK_SECOND_HALF;
+
+	static {
+		final boolean secondhalf[] = new boolean[EPV];
+		for (int i = 0; i < EPV; i++)
+			secondhalf[i] = i >= EPV2;
+		MASK_SECOND_HALF = VectorMask.fromArray(PFS, secondhalf, 0);
+	}
+
+	private Power() {
+	}
+
+	// |x|^2 of EPV complex numbers, offset is in floats
+	static FloatVector vector(float x[], int xOffset) {
+		final FloatVector vx1 = FloatVector.fromArray(PFS, x, xOffset);
+		final FloatVector vx2 = FloatVector.fromArray(PFS, x, xOffset + EPV);
+		final FloatVector vxre = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST).blend(vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND), MASK_SECOND_HALF);
+		final FloatVector vxim = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST).blend(vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND), MASK_SECOND_HALF);
+		return vxre.mul(vxre).add(vxim.mul(vxim));
+	}
+
+	// |x|^2 of one complex number, offset is in floats
+	static float scalar(float x[], int xOffset) {
+		return x[xOffset] * x[xOffset] + x[xOffset + 1] * x[xOffset + 1];
+	}
+}
@@ -0,0 +1,323 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi.dsp;
+
+import jdk.incubator.vector.*;
+import vectorapi.VSpecies;
+
+/**
+ * Polyphase resampler of real ({@code rv}) or complex ({@code cv}) stream by rational
+ * factor {@code L / M}: interpolation by {@code L}, low-pass filtering by FIR with real taps
+ * and decimation by {@code M}. Decimator is {@code L = 1} and interpolator is {@code M = 1}.
+ *
+ * Taps are designed for rate {@code L} times higher than input rate and include gain,
+ * so interpolator needs taps with sum {@code L} to keep level of signal. Taps are split
+ * into {@code L} phases of {@code ceil(taps / L)} taps. Zeros inserted by interpolation and
+ * outputs dropped by decimation are never computed, so each output costs one multiplication
+ * per tap of its phase.
+ *
+ * Outputs use phases in cycle of {@code L' = L / gcd(L, M)} outputs, during which input advances
+ * by {@code M' = M / gcd(L, M)} samples. So outputs with same position in cycle use same phase and
+ * input samples with step {@code M'}. Input is split into {@code M'} sub-streams, and these
+ * outputs are computed together, as vectors, by FMA of broadcasted tap with contiguous part
+ * of sub-stream, as in {@link FIR}. Then outputs are interleaved. It is several times faster
+ * than separate dot product for each output, which is dominated by sum of lanes.
+ *
+ * Delay line and phase of next output are kept between calls, so output doesn't depend on split
+ * of input into blocks. Number of outputs for each call is returned, and could be found in advance
+ * by {@link #outputs(int)}.
+ *
+ * Resampler is stateful and must not be used by several threads at once.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration, WeakerAccess
+ */
+public final class Resampler {
+	private final static VectorSpecies<Float> PFS = VSpecies.FLOAT;
+	private final static int EPV = PFS.length();
+	private final static int EPVx2 = EPV * 2;
+	private final static int EPVx4 = EPV * 4;
+
+	// Number of new samples, processed at once
+	private final static int CHUNK = 4096;
+	// Minimal number of outputs with same phase in one chunk, to fill vectors
+	private final static int MIN_CYCLES = 64;
+
+	private final int up;
+	private final int down;
+	// Length of cycle of phases in outputs and in inputs
+	private final int cycleOut;
+	private final int cycleIn;
+	// Floats per data sample, 1 or 2
+	private final int width;
+	// Taps per phase
+	private final int phaseTaps;
+	// Phase p is taps[p], taps[p + L], ..., first one is applied to current sample
+	private final float phases[][];
+	// Delay line: (phaseTaps - 1) samples of history, then new samples
+	private final float buf[];
+	private final int history;
+	private final int chunk;
+	// Sub-streams of delay line, each of subStride floats, or delay line itself if M' is 1
+	private final float sub[];
+	private final int subStride;
+	// Offsets of samples for each tap in sub-streams, and outputs with one phase before interleaving
+	private final int offsets[];
+	private final float out[];
+	// Position of next output, in input samples multiplied by up, from start of next input block
+	private int next;
+
+	/**
+	 * Creates resampler for real data.
+	 * @param up interpolation factor {@code L}
+	 * @param down decimation factor {@code M}
+	 * @param taps low-pass filter for rate {@code L} times of input rate
+	 */
+	public static Resampler rv(int up, int down, float taps[]) {
+		return new Resampler(up, down, taps, 1);
+	}
+
+	/**
+	 * Creates resampler for complex data.
+	 * @param up interpolation factor {@code L}
+	 * @param down decimation factor {@code M}
+	 * @param taps low-pass filter for rate {@code L} times of input rate, real numbers
+	 */
+	public static Resampler cv(int up, int down, float taps[]) {
+		return new Resampler(up, down, taps, 2);
+	}
+
+	private Resampler(int up, int down, float taps[], int width) {
+		if (up < 1 || down < 1)
+			throw new IllegalArgumentException("Resampling factors must be positive, got " + up + "/" + down);
+		if (taps.length == 0)
+			throw new IllegalArgumentException("Resampler filter must have at least one tap");
+		this.up = up;
+		this.down = down;
+		this.width = width;
+		final int gcd = gcd(up, down);
+		this.cycleOut = up / gcd;
+		this.cycleIn = down / gcd;
+		this.phaseTaps = (taps.length + up - 1) / up;
+		this.history = (phaseTaps - 1) * width;
+
+		phases = new float[up][phaseTaps];
+		for (int p = 0; p < up; p++) {
+			for (int k = 0; k < phaseTaps; k++) {
+				final int i = p + k * up;
+				phases[p][k] = (i < taps.length) ? taps[i] : 0.0f;
+			}
+		}
+
+		chunk = Math.max(CHUNK, cycleIn * MIN_CYCLES);
+		// Outputs before interleaving are computed by whole vectors, so sources have vector of padding
+		buf = new float[history + chunk * width + EPV];
+		if (cycleIn > 1) {
+			subStride = ((phaseTaps - 1 + chunk) / cycleIn + 1) * width;
+			sub = new float[subStride * cycleIn + EPV];
+		} else {
+			subStride = 0;
+			sub = buf;
+		}
+		offsets = new int[phaseTaps];
+		out = (cycleOut > 1) ? new float[(chunk / cycleIn + 1) * width + EPV] : null;
+		next = 0;
+	}
+
+	/**
+	 * @return interpolation factor {@code L}
+	 */
+	public int getUp() {
+		return up;
+	}
+
+	/**
+	 * @return decimation factor {@code M}
+	 */
+	public int getDown() {
+		return down;
+	}
+
+	/**
+	 * Clears delay line and phase, as if resampler got only zeros before.
+	 */
+	public void reset() {
+		java.util.Arrays.fill(buf, 0, history, 0.0f);
+		next = 0;
+	}
+
+	/**
+	 * Returns number of outputs, which will be produced by next call of
+	 * {@link #filter(float[], int, float[], int, int)} with given number of inputs.
+	 * @param count number of input samples
+	 * @return number of output samples
+	 */
+	public int outputs(int count) {
+		return outputs(next, count);
+	}
+
+	/**
+	 * Resamples next block of stream. Output array must have place for {@link #outputs(int)} samples.
+	 * @param z output
+	 * @param zOffset offset in {@code z}, in samples (complex numbers for complex data)
+	 * @param x input
+	 * @param xOffset offset in {@code x}, in samples
+	 * @param count number of input samples
+	 * @return number of output samples
+	 */
+	public int filter(float z[], int zOffset, float x[], int xOffset, int count) {
+		final int start = zOffset;
+		while (count > 0) {
+			final int n = Math.min(count, chunk);
+			System.arraycopy(x, xOffset * width, buf, history, n * width);
+			if (cycleIn > 1)
+				split(phaseTaps - 1 + n);
+
+			final int outputs = outputs(next, n);
+			for (int s = 0; s < Math.min(cycleOut, outputs); s++) {
+				// Output s of cycle uses sample t / L as current one, and next outputs
+				// with same phase use samples after each M' samples
+				final int t = next + s * down;
+				final int last = t / up + phaseTaps - 1;
+				int q = last % cycleIn;
+				int c = last / cycleIn;
+				for (int k = 0; k < phaseTaps; k++) {
+					offsets[k] = q * subStride + c * width;
+					if (--q < 0) {
+						q = cycleIn - 1;
+						c--;
+					}
+				}
+
+				final int m = (outputs - s + cycleOut - 1) / cycleOut;
+				if (cycleOut == 1) {
+					filter(z, (zOffset + s) * width, sub, offsets, phases[t % up], m * width);
+				} else {
+					// Few outputs with same phase in short blocks, scalar tail would dominate
+					filter(out, 0, sub, offsets, phases[t % up], (m * width + EPV - 1) / EPV * EPV);
+					interleave(z, (zOffset + s) * width, m);
+				}
+			}
+			next = next + outputs * down - n * up;
+
+			System.arraycopy(buf, n * width, buf, 0, history);
+			zOffset += outputs;
+			xOffset += n;
+			count -= n;
+		}
+		return zOffset - start;
+	}
+
+	private int outputs(int next, int count) {
+		final long end = (long)count * up;
+		return (next < end) ? (int)((end - next + down - 1) / down) : 0;
+	}
+
+	// Splits samples of delay line to M' sub-streams
+	private void split(int samples) {
+		for (int q = 0; q < cycleIn; q++) {
+			int to = q * subStride;
+			if (width == 1) {
+				for (int i = q; i < samples; i += cycleIn)
+					sub[to++] = buf[i];
+			} else {
+				for (int i = q; i < samples; i += cycleIn) {
+					sub[to++] = buf[i * 2 + 0];
+					sub[to++] = buf[i * 2 + 1];
+				}
+			}
+		}
+	}
+
+	// Puts m samples from out to z with step L'
+	private void interleave(float z[], int zOffset, int m) {
+		final int step = cycleOut * width;
+		if (width == 1) {
+			for (int i = 0; i < m; i++, zOffset += step)
+				z[zOffset] = out[i];
+		} else {
+			for (int i = 0; i < m; i++, zOffset += step) {
+				z[zOffset + 0] = out[i * 2 + 0];
+				z[zOffset + 1] = out[i * 2 + 1];
+			}
+		}
+	}
+
+	// Output float j is sum(h[k] * x[offsets[k] + j]), re and im of complex samples are filtered independently
+	private static void filter(float z[], int zOffset, float x[], int offsets[], float h[], int count) {
+		final int taps = h.length;
+		int j = 0;
+
+		while (count >= EPVx4) {
+			FloatVector vacc1 = FloatVector.zero(PFS);
+			FloatVector vacc2 = FloatVector.zero(PFS);
+			FloatVector vacc3 = FloatVector.zero(PFS);
+			FloatVector vacc4 = FloatVector.zero(PFS);
+			for (int k = 0; k < taps; k++) {
+				final FloatVector vh = FloatVector.broadcast(PFS, h[k]);
+				final int b = offsets[k] + j;
+				vacc1 = FloatVector.fromArray(PFS, x, b).fma(vh, vacc1);
+				vacc2 = FloatVector.fromArray(PFS, x, b + EPV).fma(vh, vacc2);
+				vacc3 = FloatVector.fromArray(PFS, x, b + EPVx2).fma(vh, vacc3);
+				vacc4 = FloatVector.fromArray(PFS, x, b + EPV * 3).fma(vh, vacc4);
+			}
+			vacc1.intoArray(z, zOffset + j);
+			vacc2.intoArray(z, zOffset + j + EPV);
+			vacc3.intoArray(z, zOffset + j + EPVx2);
+			vacc4.intoArray(z, zOffset + j + EPV * 3);
+			j += EPVx4;
+			count -= EPVx4;
+		}
+
+		while (count >= EPV) {
+			FloatVector vacc = FloatVector.zero(PFS);
+			for (int k = 0; k < taps; k++)
+				vacc = FloatVector.fromArray(PFS, x, offsets[k] + j).fma(FloatVector.broadcast(PFS, h[k]), vacc);
+			vacc.intoArray(z, zOffset + j);
+			j += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			float acc = 0.0f;
+			for (int k = 0; k < taps; k++)
+				acc += x[offsets[k] + j] * h[k];
+			z[zOffset + j] = acc;
+			j++;
+		}
+	}
+
+	private static int gcd(int a, int b) {
+		while (b != 0) {
+			final int t = a % b;
+			a = b;
+			b = t;
+		}
+		return a;
+	}
+}
@@ -0,0 +1,262 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi.dsp;
+
+import jdk.incubator.vector.*;
+import vectorapi.VSpecies;
+import vectorapi.fft.CFFT;
+import vectorapi.fft.RFFT;
+
+/**
+ * Short-time Fourier transform of real ({@code rv}) or complex ({@code cv}) stream: spectra of
+ * frames of {@code size} samples, which start each {@code hop} samples, multiplied by window.
+ *
+ * Each frame produces one row of output: complex spectrum, power {@code |X|^2} or power in decibels
+ * {@code 10 * log10(|X|^2)}, see {@link Output}. Real input gives {@code size / 2 + 1} bins from zero
+ * to Nyquist frequency (spectrum is unpacked from {@link RFFT} layout), complex input gives {@code size}
+ * bins in FFT order. Spectrum is not scaled.
+ *
+ * Input is accepted in blocks of any size, incomplete frame is kept till next call. All buffers are
+ * allocated by constructor: samples of frame are copied and windowed in one pass into FFT buffer, FFT
+ * works in place, and power and decibels are computed in one pass from FFT buffer to row of output.
+ * Rows are written to array given by caller, {@link #frames(int)} tells how many rows next call produces.
+ *
+ * Transform is stateful and must not be used by several threads at once.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration, WeakerAccess
+ */
+public final class STFT {
+	/**
+	 * Content of rows.
+	 */
+	public enum Output {
+		/** Complex spectrum, two floats per bin */
+		SPECTRUM,
+		/** Power of each bin */
+		POWER,
+		/** Power of each bin in decibels */
+		DB
+	}
+
+	private final static VectorSpecies<Float> PFS = VSpecies.FLOAT;
+	private final static int EPV = PFS.length();
+
+	private final int size;
+	private final int hop;
+	private final boolean complex;
+	private final Output output;
+	private final int bins;
+	// Floats per input sample, 1 or 2
+	private final int width;
+	private final Window window;
+	private final RFFT rfft;
+	private final CFFT cfft;
+	// Samples of current frame, and windowed frame transformed in place
+	private final float frame[];
+	private final float fft[];
+	// Samples in frame, and samples to skip before next frame if hop is larger than size
+	private int filled;
+	private int skip;
+
+	/**
+	 * Creates transform.
+	 * @param size frame size, power of 2
+	 * @param hop distance between starts of frames, could be larger than size
+	 * @param window window of {@code size} coefficients
+	 * @param complex {@code true} for complex input
+	 * @param output content of rows
+	 */
+	public STFT(int size, int hop, Window window, boolean complex, Output output) {
+		if (hop < 1)
+			throw new IllegalArgumentException("Hop must be positive, got " + hop);
+		if (window.getSize() != size)
+			throw new IllegalArgumentException("Window size " + window.getSize() + " doesn't match frame size " + size);
+		if (!complex && size < 2)
+			throw new IllegalArgumentException("Frame size of real transform must be at least 2, got " + size);
+		this.size = size;
+		this.hop = hop;
+		this.complex = complex;
+		this.output = output;
+		this.window = window;
+		this.width = complex ? 2 : 1;
+		this.bins = complex ? size : size / 2 + 1;
+		// Transforms check size
+		rfft = complex ? null : new RFFT(size);
+		cfft = complex ? new CFFT(size) : null;
+		frame = new float[size * width];
+		// Real spectrum is unpacked in place, it needs one more bin
+		fft = new float[bins * 2];
+		filled = 0;
+		skip = 0;
+	}
+
+	/**
+	 * @return number of bins in each row
+	 */
+	public int getBins() {
+		return bins;
+	}
+
+	/**
+	 * @return number of floats in each row, twice number of bins for {@link Output#SPECTRUM}
+	 */
+	public int getRowSize() {
+		return (output == Output.SPECTRUM) ? bins * 2 : bins;
+	}
+
+	/**
+	 * Drops incomplete frame, next frame will start with next input sample.
+	 */
+	public void reset() {
+		filled = 0;
+		skip = 0;
+	}
+
+	/**
+	 * Returns number of rows, which will be produced by next call of
+	 * {@link #process(float[], int, float[], int, int)} with given number of inputs.
+	 * @param count number of input samples
+	 * @return number of rows
+	 */
+	public int frames(int count) {
+		// Samples needed to finish current frame, then one hop per frame
+		final long first = (long)skip + size - filled;
+		return (count < first) ? 0 : (int)((count - first) / hop + 1);
+	}
+
+	/**
+	 * Processes next block of stream.
+	 * @param z rows of output, {@link #getRowSize()} floats each, place for {@link #frames(int)} rows
+	 * @param zOffset offset of first row in {@code z}, in floats
+	 * @param x input
+	 * @param xOffset offset in {@code x}, in samples (complex numbers for complex input)
+	 * @param count number of samples
+	 * @return number of rows
+	 */
+	public int process(float z[], int zOffset, float x[], int xOffset, int count) {
+		final int rowSize = getRowSize();
+		final int xStart = xOffset * width;
+		int rows = 0;
+		xOffset *= width;
+		while (true) {
+			if (skip > 0) {
+				final int n = Math.min(skip, count);
+				skip -= n;
+				xOffset += n * width;
+				count -= n;
+				if (skip > 0)
+					break;
+			}
+
+			if (filled == 0 && count >= size) {
+				// Whole frame is in input, it is windowed without copy
+				transform(z, zOffset, x, xOffset);
+				zOffset += rowSize;
+				rows++;
+				final int n = Math.min(hop, size);
+				skip = hop - n;
+				xOffset += n * width;
+				count -= n;
+				continue;
+			}
+
+			final int n = Math.min(size - filled, count);
+			System.arraycopy(x, xOffset, frame, filled * width, n * width);
+			filled += n;
+			xOffset += n * width;
+			count -= n;
+			if (filled < size)
+				break;
+
+			transform(z, zOffset, frame, 0);
+			zOffset += rowSize;
+			rows++;
+			if (hop >= size) {
+				filled = 0;
+				skip = hop - size;
+			} else if ((xOffset - xStart) / width >= size - hop) {
+				// Next frame starts in input, return to frames without copy
+				filled = 0;
+				xOffset -= (size - hop) * width;
+				count += size - hop;
+			} else {
+				filled = size - hop;
+				System.arraycopy(frame, hop * width, frame, 0, filled * width);
+			}
+		}
+		return rows;
+	}
+
+	private void transform(float z[], int zOffset, float x[], int xOffset) {
+		if (complex) {
+			window.apply_cv(fft, 0, x, xOffset / 2);
+			cfft.forward(fft, 0);
+		} else {
+			window.apply_rv(fft, 0, x, xOffset);
+			rfft.forward(fft, 0);
+			// Nyquist bin is packed into imaginary part of first one
+			fft[size] = fft[1];
+			fft[size + 1] = 0.0f;
+			fft[1] = 0.0f;
+		}
+
+		switch (output) {
+			case SPECTRUM:
+				System.arraycopy(fft, 0, z, zOffset, bins * 2);
+				break;
+			case POWER:
+				power(z, zOffset, fft, bins, false);
+				break;
+			case DB:
+				power(z, zOffset, fft, bins, true);
+				break;
+		}
+	}
+
+	// z = |x|^2 or 10 * log10(|x|^2) of count complex numbers
+	private static void power(float z[], int zOffset, float x[], int count, boolean db) {
+		int xOffset = 0;
+		while (count >= EPV) {
+			final FloatVector vp = Power.vector(x, xOffset);
+			if (db)
+				vp.add(Float.MIN_NORMAL).log10().mul(10.0f).intoArray(z, zOffset);
+			else
+				vp.intoArray(z, zOffset);
+			xOffset += EPV * 2;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			final float p = Power.scalar(x, xOffset);
+			z[zOffset++] = db ? 10.0f * (float)Math.log10(p + Float.MIN_NORMAL) : p;
+			xOffset += 2;
+		}
+	}
+}
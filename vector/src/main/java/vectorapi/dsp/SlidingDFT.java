@@ -0,0 +1,318 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi.dsp;
+
+import jdk.incubator.vector.*;
+import vectorapi.VSpecies;
+
+/**
+ * Sliding DFT: several bins of {@code size}-point DFT of last {@code size} samples of real ({@code rv})
+ * signal, updated after each sample, without full FFT.
+ *
+ * Each bin {@code k} is updated by {@code X = r * exp(2 * pi * i * k / N) * (X + x[n] - r^N * x[n - N])},
+ * so after each sample {@code X = sum(r^(N - m) * x[n - N + 1 + m] * exp(-2 * pi * i * k * m / N))}.
+ * Damping {@code r} slightly less than 1 makes rounding errors decay instead of accumulating
+ * forever, at cost of small weighting of window, from {@code r^N} for oldest sample to {@code r} for newest one.
+ *
+ * Bins are vectorized: real and imaginary parts of several vectors of bins are kept in registers, while
+ * differences of new and old samples are broadcast one by one, so each sample costs one complex
+ * multiplication per vector of bins. Differences for whole chunk of input are computed in one vector pass.
+ *
+ * Engine is stateful and must not be used by several threads at once.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration, WeakerAccess
+ */
+public final class SlidingDFT {
+	/** Default damping */
+	public final static float DAMPING = 0.99999f;
+
+	private final static VectorSpecies<Float> PFS = VSpecies.FLOAT;
+	private final static int EPV = PFS.length();
+	private final static int EPVx2 = EPV * 2;
+	private final static int EPVx3 = EPV * 3;
+	private final static int EPVx4 = EPV * 4;
+
+	private final static int CHUNK = 4096;
+
+	private final int size;
+	private final int bins[];
+	private final float damping;
+	// r^N
+	private final float dampingN;
+	// Number of bins rounded up to whole vectors
+	private final int padded;
+	// r * exp(2 * pi * i * k / N), padded with zeroes
+	private final float wre[];
+	private final float wim[];
+	// Bins
+	private final float re[];
+	private final float im[];
+	// Last N samples and next chunk
+	private final float buf[];
+	// x[n] - r^N * x[n - N] of chunk
+	private final float diff[];
+
+	/**
+	 * Creates engine with default damping.
+	 * @param size DFT size
+	 * @param bins indices of bins, {@code [0, size)}
+	 */
+	public SlidingDFT(int size, int bins[]) {
+		this(size, bins, DAMPING);
+	}
+
+	/**
+	 * Creates engine.
+	 * @param size DFT size
+	 * @param bins indices of bins, {@code [0, size)}
+	 * @param damping damping {@code r}, {@code (0, 1]}, {@code 1} for exact DFT without decay of errors
+	 */
+	public SlidingDFT(int size, int bins[], float damping) {
+		if (size < 1)
+			throw new IllegalArgumentException("DFT size must be positive, got " + size);
+		if (bins.length == 0)
+			throw new IllegalArgumentException("There must be at least one bin");
+		if (!(damping > 0.0f && damping <= 1.0f))
+			throw new IllegalArgumentException("Damping must be in (0, 1], got " + damping);
+		for (int k : bins)
+			if (k < 0 || k >= size)
+				throw new IllegalArgumentException("Bin " + k + " is out of [0, " + size + ")");
+		this.size = size;
+		this.bins = bins.clone();
+		this.damping = damping;
+		dampingN = (float)Math.pow(damping, size);
+		padded = (bins.length + EPV - 1) / EPV * EPV;
+		wre = new float[padded];
+		wim = new float[padded];
+		for (int i = 0; i < bins.length; i++) {
+			final double a = 2.0 * Math.PI * bins[i] / size;
+			wre[i] = (float)(damping * Math.cos(a));
+			wim[i] = (float)(damping * Math.sin(a));
+		}
+		re = new float[padded];
+		im = new float[padded];
+		buf = new float[size + CHUNK];
+		diff = new float[CHUNK];
+	}
+
+	/**
+	 * @return DFT size
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * @return indices of bins
+	 */
+	public int[] getBins() {
+		return bins.clone();
+	}
+
+	/**
+	 * @return damping
+	 */
+	public float getDamping() {
+		return damping;
+	}
+
+	/**
+	 * Forgets all samples, as if signal were zero.
+	 */
+	public void reset() {
+		for (int i = 0; i < padded; i++) {
+			re[i] = 0.0f;
+			im[i] = 0.0f;
+		}
+		for (int i = 0; i < size; i++)
+			buf[i] = 0.0f;
+	}
+
+	/**
+	 * Updates bins with next samples.
+	 * @param x signal
+	 * @param xOffset offset in {@code x}
+	 * @param count number of samples
+	 */
+	public void process(float x[], int xOffset, int count) {
+		final FloatVector vrn = FloatVector.broadcast(PFS, dampingN);
+		while (count > 0) {
+			final int n = Math.min(CHUNK, count);
+			System.arraycopy(x, xOffset, buf, size, n);
+
+			int i = 0;
+			while (i <= n - EPV) {
+				final FloatVector vold = FloatVector.fromArray(PFS, buf, i);
+				final FloatVector vnew = FloatVector.fromArray(PFS, buf, size + i);
+				vnew.sub(vold.mul(vrn)).intoArray(diff, i);
+				i += EPV;
+			}
+			while (i < n) {
+				diff[i] = buf[size + i] - dampingN * buf[i];
+				i++;
+			}
+
+			update(n);
+			System.arraycopy(buf, n, buf, 0, size);
+			xOffset += n;
+			count -= n;
+		}
+	}
+
+	/**
+	 * Reads bins.
+	 * @param z complex values of bins, in order of {@link #getBins()}
+	 * @param zOffset offset in {@code z}, in complex numbers
+	 */
+	public void read(float z[], int zOffset) {
+		zOffset <<= 1;
+		for (int i = 0; i < bins.length; i++) {
+			z[zOffset++] = re[i];
+			z[zOffset++] = im[i];
+		}
+	}
+
+	/**
+	 * Reads power of bins.
+	 * @param z powers of bins, in order of {@link #getBins()}
+	 * @param zOffset offset in {@code z}
+	 */
+	public void read_power(float z[], int zOffset) {
+		int i = 0;
+		while (i <= bins.length - EPV) {
+			final FloatVector vre = FloatVector.fromArray(PFS, re, i);
+			final FloatVector vim = FloatVector.fromArray(PFS, im, i);
+			vre.fma(vre, vim.mul(vim)).intoArray(z, zOffset + i);
+			i += EPV;
+		}
+
+		while (i < bins.length) {
+			z[zOffset + i] = re[i] * re[i] + im[i] * im[i];
+			i++;
+		}
+	}
+
+	// X = w * (X + diff[k]) for k in [0, count)
+	private void update(int count) {
+		int i = 0;
+		// Four vectors of bins at once, to hide latency of dependent operations
+		while (i <= padded - EPVx4) {
+			final FloatVector vwre1 = FloatVector.fromArray(PFS, wre, i);
+			final FloatVector vwre2 = FloatVector.fromArray(PFS, wre, i + EPV);
+			final FloatVector vwre3 = FloatVector.fromArray(PFS, wre, i + EPVx2);
+			final FloatVector vwre4 = FloatVector.fromArray(PFS, wre, i + EPVx3);
+			final FloatVector vwim1 = FloatVector.fromArray(PFS, wim, i);
+			final FloatVector vwimn1 = vwim1.neg();
+			final FloatVector vwim2 = FloatVector.fromArray(PFS, wim, i + EPV);
+			final FloatVector vwimn2 = vwim2.neg();
+			final FloatVector vwim3 = FloatVector.fromArray(PFS, wim, i + EPVx2);
+			final FloatVector vwimn3 = vwim3.neg();
+			final FloatVector vwim4 = FloatVector.fromArray(PFS, wim, i + EPVx3);
+			final FloatVector vwimn4 = vwim4.neg();
+			FloatVector vre1 = FloatVector.fromArray(PFS, re, i);
+			FloatVector vre2 = FloatVector.fromArray(PFS, re, i + EPV);
+			FloatVector vre3 = FloatVector.fromArray(PFS, re, i + EPVx2);
+			FloatVector vre4 = FloatVector.fromArray(PFS, re, i + EPVx3);
+			FloatVector vim1 = FloatVector.fromArray(PFS, im, i);
+			FloatVector vim2 = FloatVector.fromArray(PFS, im, i + EPV);
+			FloatVector vim3 = FloatVector.fromArray(PFS, im, i + EPVx2);
+			FloatVector vim4 = FloatVector.fromArray(PFS, im, i + EPVx3);
+
+			for (int k = 0; k < count; k++) {
+				final FloatVector vd = FloatVector.broadcast(PFS, diff[k]);
+				final FloatVector vt1 = vre1.add(vd);
+				final FloatVector vt2 = vre2.add(vd);
+				final FloatVector vt3 = vre3.add(vd);
+				final FloatVector vt4 = vre4.add(vd);
+				vre1 = vt1.fma(vwre1, vim1.mul(vwimn1));
+				vre2 = vt2.fma(vwre2, vim2.mul(vwimn2));
+				vre3 = vt3.fma(vwre3, vim3.mul(vwimn3));
+				vre4 = vt4.fma(vwre4, vim4.mul(vwimn4));
+				vim1 = vt1.fma(vwim1, vim1.mul(vwre1));
+				vim2 = vt2.fma(vwim2, vim2.mul(vwre2));
+				vim3 = vt3.fma(vwim3, vim3.mul(vwre3));
+				vim4 = vt4.fma(vwim4, vim4.mul(vwre4));
+			}
+
+			vre1.intoArray(re, i);
+			vre2.intoArray(re, i + EPV);
+			vre3.intoArray(re, i + EPVx2);
+			vre4.intoArray(re, i + EPVx3);
+			vim1.intoArray(im, i);
+			vim2.intoArray(im, i + EPV);
+			vim3.intoArray(im, i + EPVx2);
+			vim4.intoArray(im, i + EPVx3);
+			i += EPVx4;
+		}
+
+		if (i <= padded - EPVx2) {
+			final FloatVector vwre1 = FloatVector.fromArray(PFS, wre, i);
+			final FloatVector vwre2 = FloatVector.fromArray(PFS, wre, i + EPV);
+			final FloatVector vwim1 = FloatVector.fromArray(PFS, wim, i);
+			final FloatVector vwimn1 = vwim1.neg();
+			final FloatVector vwim2 = FloatVector.fromArray(PFS, wim, i + EPV);
+			final FloatVector vwimn2 = vwim2.neg();
+			FloatVector vre1 = FloatVector.fromArray(PFS, re, i);
+			FloatVector vre2 = FloatVector.fromArray(PFS, re, i + EPV);
+			FloatVector vim1 = FloatVector.fromArray(PFS, im, i);
+			FloatVector vim2 = FloatVector.fromArray(PFS, im, i + EPV);
+
+			for (int k = 0; k < count; k++) {
+				final FloatVector vd = FloatVector.broadcast(PFS, diff[k]);
+				final FloatVector vt1 = vre1.add(vd);
+				final FloatVector vt2 = vre2.add(vd);
+				vre1 = vt1.fma(vwre1, vim1.mul(vwimn1));
+				vre2 = vt2.fma(vwre2, vim2.mul(vwimn2));
+				vim1 = vt1.fma(vwim1, vim1.mul(vwre1));
+				vim2 = vt2.fma(vwim2, vim2.mul(vwre2));
+			}
+
+			vre1.intoArray(re, i);
+			vre2.intoArray(re, i + EPV);
+			vim1.intoArray(im, i);
+			vim2.intoArray(im, i + EPV);
+			i += EPVx2;
+		}
+
+		if (i < padded) {
+			final FloatVector vwre = FloatVector.fromArray(PFS, wre, i);
+			final FloatVector vwim = FloatVector.fromArray(PFS, wim, i);
+			final FloatVector vwimn = vwim.neg();
+			FloatVector vre = FloatVector.fromArray(PFS, re, i);
+			FloatVector vim = FloatVector.fromArray(PFS, im, i);
+			for (int k = 0; k < count; k++) {
+				final FloatVector vt = vre.add(FloatVector.broadcast(PFS, diff[k]));
+				vre = vt.fma(vwre, vim.mul(vwimn));
+				vim = vt.fma(vwim, vim.mul(vwre));
+			}
+			vre.intoArray(re, i);
+			vim.intoArray(im, i);
+		}
+	}
+}
@@ -0,0 +1,307 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi.dsp;
+
+import vectorapi.VOVec;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Window function of given type and size, for framing of {@code rv} and {@code cv} data.
+ *
+ * Windows are immutable and shared: {@link #get(Type, int, boolean, double)} returns window from
+ * bounded cache, keyed by type, size, symmetry and parameter, and computes it only on miss. Cache
+ * keeps {@code vectorapi.dsp.Window.cache} (system property, 32 by default) last used windows.
+ * Tables of coefficients are private to window and are applied by {@link #apply_rv(float[], int, float[], int)}
+ * and {@link #apply_cv(float[], int, float[], int)}, {@link #rv()} and {@link #cv()} return copies of them.
+ *
+ * Window has coefficients as is for real data, and spread coefficients {@code [w0, w0, w1, w1, ...]}
+ * for complex data, so complex frame is windowed by {@link VOVec#rv_mul_rv(float[], int, float[], int, float[], int, int)}
+ * over twice more floats, without rearranges of {@link VOVec#cv_mul_rv(float[], int, float[], int, float[], int, int)}.
+ * See {@code vector.dsp.WindowApply} benchmark.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration, WeakerAccess
+ */
+public final class Window {
+	/**
+	 * Types of windows.
+	 */
+	public enum Type {
+		/** All ones, parameter is ignored */
+		RECTANGULAR,
+		/** Raised cosine, parameter is ignored */
+		HANN,
+		/** Raised cosine on pedestal, parameter is ignored */
+		HAMMING,
+		/** Three-term Blackman window, parameter is ignored */
+		BLACKMAN,
+		/** Kaiser-Bessel window, parameter is {@code beta} */
+		KAISER
+	}
+
+	private final static int CACHE_SIZE = Integer.getInteger("vectorapi.dsp.Window.cache", 32);
+
+	// Access order, eldest is least recently used
+	private final static Map<Key, Window> CACHE = new LinkedHashMap<Key, Window>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, Window> eldest) {
+			return size() > CACHE_SIZE;
+		}
+	};
+
+	private final Type type;
+	private final int size;
+	private final boolean periodic;
+	private final double param;
+	private final float rv[];
+	private final float cv[];
+
+	/**
+	 * Returns periodic Hann window, for spectral analysis.
+	 * @param size number of coefficients
+	 */
+	public static Window hann(int size) {
+		return get(Type.HANN, size, true, 0.0);
+	}
+
+	/**
+	 * Returns periodic Hamming window, for spectral analysis.
+	 * @param size number of coefficients
+	 */
+	public static Window hamming(int size) {
+		return get(Type.HAMMING, size, true, 0.0);
+	}
+
+	/**
+	 * Returns periodic Blackman window, for spectral analysis.
+	 * @param size number of coefficients
+	 */
+	public static Window blackman(int size) {
+		return get(Type.BLACKMAN, size, true, 0.0);
+	}
+
+	/**
+	 * Returns periodic Kaiser window, for spectral analysis.
+	 * @param size number of coefficients
+	 * @param beta shape, bigger values give lower side lobes and wider main lobe
+	 */
+	public static Window kaiser(int size, double beta) {
+		return get(Type.KAISER, size, true, beta);
+	}
+
+	/**
+	 * Returns window from cache, or computes and caches it.
+	 * @param type type of window
+	 * @param size number of coefficients
+	 * @param periodic {@code true} for periodic window (first {@code size} coefficients of symmetric
+	 *                 window of {@code size + 1}), which is used for spectral analysis, {@code false}
+	 *                 for symmetric one, which is used for filter design
+	 * @param param parameter of window, if type has one, ignored and replaced by {@code 0.0} otherwise
+	 * @return shared window
+	 */
+	public static Window get(Type type, int size, boolean periodic, double param) {
+		if (size < 1)
+			throw new IllegalArgumentException("Window size must be positive, got " + size);
+		// Parameter matters only for some types, so all callers get same window for others
+		if (type != Type.KAISER)
+			param = 0.0;
+		final Key key = new Key(type, size, periodic, param);
+		synchronized (CACHE) {
+			final Window w = CACHE.get(key);
+			if (w != null)
+				return w;
+		}
+		// Computed outside of lock, concurrent misses could compute same window twice
+		final Window w = new Window(type, size, periodic, param);
+		synchronized (CACHE) {
+			final Window old = CACHE.putIfAbsent(key, w);
+			return (old != null) ? old : w;
+		}
+	}
+
+	private Window(Type type, int size, boolean periodic, double param) {
+		this.type = type;
+		this.size = size;
+		this.periodic = periodic;
+		this.param = param;
+		rv = generate(type, size, periodic, param);
+		cv = new float[size * 2];
+		for (int i = 0; i < size; i++) {
+			cv[i * 2 + 0] = rv[i];
+			cv[i * 2 + 1] = rv[i];
+		}
+	}
+
+	/**
+	 * Computes coefficients of window, without cache.
+	 * @param type type of window
+	 * @param size number of coefficients
+	 * @param periodic periodic or symmetric window, see {@link #get(Type, int, boolean, double)}
+	 * @param param parameter of window, if type has one
+	 * @return new array of coefficients
+	 */
+	public static float[] generate(Type type, int size, boolean periodic, double param) {
+		final float w[] = new float[size];
+		// Symmetric window of m points, periodic one drops last point
+		final int m = periodic ? size + 1 : size;
+		if (m == 1) {
+			w[0] = 1.0f;
+			return w;
+		}
+		final double i0beta = (type == Type.KAISER) ? besselI0(param) : 1.0;
+		for (int n = 0; n < size; n++) {
+			final double a = 2.0 * Math.PI * n / (m - 1);
+			switch (type) {
+				case RECTANGULAR:
+					w[n] = 1.0f;
+					break;
+				case HANN:
+					w[n] = (float)(0.5 - 0.5 * Math.cos(a));
+					break;
+				case HAMMING:
+					w[n] = (float)(0.54 - 0.46 * Math.cos(a));
+					break;
+				case BLACKMAN:
+					w[n] = (float)(0.42 - 0.5 * Math.cos(a) + 0.08 * Math.cos(2.0 * a));
+					break;
+				case KAISER:
+					final double r = 2.0 * n / (m - 1) - 1.0;
+					w[n] = (float)(besselI0(param * Math.sqrt(Math.max(0.0, 1.0 - r * r))) / i0beta);
+					break;
+			}
+		}
+		return w;
+	}
+
+	// Modified Bessel function of first kind and zero order, by power series
+	private static double besselI0(double x) {
+		final double q = x * x / 4.0;
+		double sum = 1.0;
+		double term = 1.0;
+		for (int k = 1; term > sum * 1e-17; k++) {
+			term *= q / ((double)k * k);
+			sum += term;
+		}
+		return sum;
+	}
+
+	/**
+	 * @return type of window
+	 */
+	public Type getType() {
+		return type;
+	}
+
+	/**
+	 * @return number of coefficients
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * @return {@code true} for periodic window, {@code false} for symmetric one
+	 */
+	public boolean isPeriodic() {
+		return periodic;
+	}
+
+	/**
+	 * @return parameter of window, {@code 0.0} for types without one
+	 */
+	public double getParam() {
+		return param;
+	}
+
+	/**
+	 * Returns copy of coefficients.
+	 * @return new array of {@code size} coefficients
+	 */
+	public float[] rv() {
+		return rv.clone();
+	}
+
+	/**
+	 * Returns copy of coefficients spread for complex data.
+	 * @return new array of {@code 2 * size} coefficients, each one twice
+	 */
+	public float[] cv() {
+		return cv.clone();
+	}
+
+	/**
+	 * Multiplies real frame by window, in place is allowed.
+	 * @param z output, {@code size} elements
+	 * @param zOffset offset in {@code z}
+	 * @param x input, {@code size} elements
+	 * @param xOffset offset in {@code x}
+	 */
+	public void apply_rv(float z[], int zOffset, float x[], int xOffset) {
+		VOVec.rv_mul_rv(z, zOffset, x, xOffset, rv, 0, size);
+	}
+
+	/**
+	 * Multiplies complex frame by window, in place is allowed.
+	 * @param z output, {@code size} complex numbers
+	 * @param zOffset offset in {@code z}, in complex numbers
+	 * @param x input, {@code size} complex numbers
+	 * @param xOffset offset in {@code x}, in complex numbers
+	 */
+	public void apply_cv(float z[], int zOffset, float x[], int xOffset) {
+		VOVec.rv_mul_rv(z, zOffset * 2, x, xOffset * 2, cv, 0, size * 2);
+	}
+
+	private static final class Key {
+		private final Type type;
+		private final int size;
+		private final boolean periodic;
+		private final long param;
+
+		private Key(Type type, int size, boolean periodic, double param) {
+			this.type = type;
+			this.size = size;
+			this.periodic = periodic;
+			this.param = Double.doubleToLongBits(param);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof Key))
+				return false;
+			final Key k = (Key)o;
+			return type == k.type && size == k.size && periodic == k.periodic && param == k.param;
+		}
+
+		@Override
+		public int hashCode() {
+			return ((type.hashCode() * 31 + size) * 31 + (periodic ? 1 : 0)) * 31 + Long.hashCode(param);
+		}
+	}
+}
@@ -0,0 +1,393 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi.expr;
+
+import vectorapi.VOVec;
+
+import java.util.Arrays;
+
+/**
+ * Lazy chain of {@link vectorapi.VO}-style operations.
+ *
+ * Expression is built from sources ({@link #rv(float[], int)} and {@link #cv(float[], int)})
+ * and nothing is calculated until {@link #into(float[], int, int)} is called. Evaluation
+ * is done in one pass by tiles of {@link #TILE} elements: each operation of chain is applied
+ * to tile with {@link VOVec} kernel before next tile is started, so intermediate results
+ * never leave L1 cache. Sources are read in-place, and last operation writes directly to
+ * result.
+ *
+ * Each operation owns small tile buffer, so expression must not be evaluated by several
+ * threads at once.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration, WeakerAccess
+ */
+public abstract class VExpr {
+	// 256 complex numbers are 2KiB, so even long chains fit into L1 cache.
+	// It must be multiple of any vector length to avoid scalar tails in tiles
+	public static final int TILE = 256;
+
+	private static final int OP_ADD = 0;
+	private static final int OP_SUB = 1;
+	private static final int OP_MUL = 2;
+	private static final int OP_DIV = 3;
+	private static final int OP_CONJMUL = 4;
+	private static final int OP_ABS = 5;
+	private static final int OP_CONJ = 6;
+	private static final int OP_RE = 7;
+	private static final int OP_IM = 8;
+	private static final int OP_10LOG10 = 9;
+	private static final int OP_20LOG10 = 10;
+
+	final boolean complex;
+
+	VExpr(boolean complex) {
+		this.complex = complex;
+	}
+
+	/**
+	 * Creates source from real vector.
+	 * @param x real vector
+	 * @param xOffset offset of first element of expression in {@code x}
+	 * @return expression which is elements of {@code x}
+	 */
+	public static VExpr rv(float x[], int xOffset) {
+		return new Source(false, x, xOffset);
+	}
+
+	/**
+	 * Creates source from complex vector.
+	 * @param x complex vector
+	 * @param xOffset offset of first element of expression in {@code x}, in complex numbers
+	 * @return expression which is elements of {@code x}
+	 */
+	public static VExpr cv(float x[], int xOffset) {
+		return new Source(true, x, xOffset);
+	}
+
+	public boolean isComplex() {
+		return complex;
+	}
+
+	public VExpr add(VExpr y) {
+		return new Binary(OP_ADD, this, y, complex || y.complex);
+	}
+
+	public VExpr sub(VExpr y) {
+		return new Binary(OP_SUB, this, y, complex || y.complex);
+	}
+
+	public VExpr mul(VExpr y) {
+		return new Binary(OP_MUL, this, y, complex || y.complex);
+	}
+
+	public VExpr div(VExpr y) {
+		return new Binary(OP_DIV, this, y, complex || y.complex);
+	}
+
+	/**
+	 * Multiplies this expression by complex conjugate of {@code y}.
+	 */
+	public VExpr conjmul(VExpr y) {
+		if (!y.complex)
+			return mul(y);
+		return new Binary(OP_CONJMUL, this, y, true);
+	}
+
+	public VExpr add(float a) {
+		return new Scalar(OP_ADD, this, a, 0.0f, complex);
+	}
+
+	public VExpr mul(float a) {
+		return new Scalar(OP_MUL, this, a, 0.0f, complex);
+	}
+
+	/**
+	 * Multiplies this expression by complex scalar.
+	 * @param a complex scalar as {@code [re, im]}
+	 */
+	public VExpr mul(float a[]) {
+		return new Scalar(OP_MUL, this, a[0], a[1], true);
+	}
+
+	public VExpr abs() {
+		return new Unary(OP_ABS, this, false);
+	}
+
+	public VExpr conj() {
+		if (!complex)
+			return this;
+		return new Unary(OP_CONJ, this, true);
+	}
+
+	public VExpr re() {
+		if (!complex)
+			return this;
+		return new Unary(OP_RE, this, false);
+	}
+
+	public VExpr im() {
+		return new Unary(OP_IM, this, false);
+	}
+
+	/**
+	 * {@code 10 * log10(|x|)}, like {@link vectorapi.VO#rv_10log10} and {@link vectorapi.VO#cv_10log10}.
+	 */
+	public VExpr tenLog10() {
+		// Both kernels take absolute value themselves, and complex one doesn't need square root
+		if (this instanceof Unary && ((Unary)this).op == OP_ABS)
+			return new Unary(OP_10LOG10, ((Unary)this).x, false);
+		return new Unary(OP_10LOG10, this, false);
+	}
+
+	/**
+	 * {@code 20 * log10(|x|)}, like {@link vectorapi.VO#rv_20log10} and {@link vectorapi.VO#cv_20log10}.
+	 */
+	public VExpr twentyLog10() {
+		if (this instanceof Unary && ((Unary)this).op == OP_ABS)
+			return new Unary(OP_20LOG10, ((Unary)this).x, false);
+		return new Unary(OP_20LOG10, this, false);
+	}
+
+	/**
+	 * Evaluates expression.
+	 * @param z output vector, real or complex as {@link #isComplex()} says
+	 * @param zOffset offset in {@code z}, in complex numbers for complex output
+	 * @param count number of elements to evaluate
+	 */
+	public void into(float z[], int zOffset, int count) {
+		int i = 0;
+		while (count > 0) {
+			final int n = Math.min(count, TILE);
+			eval(z, zOffset + i, i, n);
+			i += n;
+			count -= n;
+		}
+	}
+
+	// Evaluates n elements of expression starting from element i into z at zOffset
+	abstract void eval(float z[], int zOffset, int i, int n);
+
+	// Evaluates n elements of expression starting from element i and returns array which
+	// contains them starting from offset(i)
+	abstract float[] array(int i, int n);
+
+	abstract int offset(int i);
+
+	private static final class Source extends VExpr {
+		private final float x[];
+		private final int xOffset;
+
+		Source(boolean complex, float x[], int xOffset) {
+			super(complex);
+			this.x = x;
+			this.xOffset = xOffset;
+		}
+
+		@Override
+		void eval(float z[], int zOffset, int i, int n) {
+			if (complex)
+				VOVec.cv_cpy(z, zOffset, x, xOffset + i, n);
+			else
+				VOVec.rv_cpy(z, zOffset, x, xOffset + i, n);
+		}
+
+		@Override
+		float[] array(int i, int n) {
+			return x;
+		}
+
+		@Override
+		int offset(int i) {
+			return xOffset + i;
+		}
+	}
+
+	private static abstract class Op extends VExpr {
+		private float tile[] = null;
+
+		Op(boolean complex) {
+			super(complex);
+		}
+
+		@Override
+		final float[] array(int i, int n) {
+			if (tile == null)
+				tile = new float[complex ? TILE * 2 : TILE];
+			eval(tile, 0, i, n);
+			return tile;
+		}
+
+		@Override
+		final int offset(int i) {
+			return 0;
+		}
+	}
+
+	private static final class Unary extends Op {
+		private final int op;
+		private final VExpr x;
+
+		Unary(int op, VExpr x, boolean complex) {
+			super(complex);
+			this.op = op;
+			this.x = x;
+		}
+
+		@Override
+		void eval(float z[], int zOffset, int i, int n) {
+			final float xa[] = x.array(i, n);
+			final int xo = x.offset(i);
+			switch (op) {
+				case OP_ABS:
+					if (x.complex) VOVec.cv_abs(z, zOffset, xa, xo, n);
+					else VOVec.rv_abs(z, zOffset, xa, xo, n);
+					break;
+				case OP_CONJ:
+					VOVec.cv_conj(z, zOffset, xa, xo, n);
+					break;
+				case OP_RE:
+					VOVec.cv_re(z, zOffset, xa, xo, n);
+					break;
+				case OP_IM:
+					if (x.complex) VOVec.cv_im(z, zOffset, xa, xo, n);
+					else Arrays.fill(z, zOffset, zOffset + n, 0.0f);
+					break;
+				case OP_10LOG10:
+					if (x.complex) VOVec.cv_10log10(z, zOffset, xa, xo, n);
+					else VOVec.rv_10log10(z, zOffset, xa, xo, n);
+					break;
+				case OP_20LOG10:
+					if (x.complex) VOVec.cv_20log10(z, zOffset, xa, xo, n);
+					else VOVec.rv_20log10(z, zOffset, xa, xo, n);
+					break;
+				default:
+					throw new IllegalStateException("Unknown unary operation " + op);
+			}
+		}
+	}
+
+	private static final class Scalar extends Op {
+		private final int op;
+		private final VExpr x;
+		private final float a[];
+		// Complex scalar repeated for whole tile, if real x is multiplied by it
+		private final float spread[];
+
+		Scalar(int op, VExpr x, float re, float im, boolean complex) {
+			super(complex);
+			this.op = op;
+			this.x = x;
+			this.a = new float[] { re, im };
+			if (complex && !x.complex) {
+				spread = new float[TILE * 2];
+				for (int i = 0; i < spread.length; i += 2) {
+					spread[i + 0] = re;
+					spread[i + 1] = im;
+				}
+			} else {
+				spread = null;
+			}
+		}
+
+		@Override
+		void eval(float z[], int zOffset, int i, int n) {
+			final float xa[] = x.array(i, n);
+			final int xo = x.offset(i);
+			switch (op) {
+				case OP_ADD:
+					if (x.complex) VOVec.cv_add_rs(z, zOffset, xa, xo, a[0], n);
+					else VOVec.rv_add_rs(z, zOffset, xa, xo, a[0], n);
+					break;
+				case OP_MUL:
+					if (x.complex && complex) VOVec.cv_mul_cs(z, zOffset, xa, xo, a, n);
+					else if (x.complex) VOVec.cv_mul_rs(z, zOffset, xa, xo, a[0], n);
+					// There is no rv_mul_cs, multiply tile of copies of a by x
+					else if (complex) VOVec.cv_mul_rv(z, zOffset, spread, 0, xa, xo, n);
+					else VOVec.rv_mul_rs(z, zOffset, xa, xo, a[0], n);
+					break;
+				default:
+					throw new IllegalStateException("Unknown scalar operation " + op);
+			}
+		}
+	}
+
+	private static final class Binary extends Op {
+		private final int op;
+		private final VExpr x;
+		private final VExpr y;
+
+		Binary(int op, VExpr x, VExpr y, boolean complex) {
+			super(complex);
+			this.op = op;
+			this.x = x;
+			this.y = y;
+		}
+
+		@Override
+		void eval(float z[], int zOffset, int i, int n) {
+			final float xa[] = x.array(i, n);
+			final int xo = x.offset(i);
+			final float ya[] = y.array(i, n);
+			final int yo = y.offset(i);
+			switch (op) {
+				case OP_ADD:
+					if      ( x.complex &&  y.complex) VOVec.cv_add_cv(z, zOffset, xa, xo, ya, yo, n);
+					else if ( x.complex && !y.complex) VOVec.cv_add_rv(z, zOffset, xa, xo, ya, yo, n);
+					else if (!x.complex &&  y.complex) VOVec.cv_add_rv(z, zOffset, ya, yo, xa, xo, n);
+					else                               VOVec.rv_add_rv(z, zOffset, xa, xo, ya, yo, n);
+					break;
+				case OP_SUB:
+					if      ( x.complex &&  y.complex) VOVec.cv_sub_cv(z, zOffset, xa, xo, ya, yo, n);
+					else if ( x.complex && !y.complex) VOVec.cv_sub_rv(z, zOffset, xa, xo, ya, yo, n);
+					else if (!x.complex &&  y.complex) VOVec.rv_sub_cv(z, zOffset, xa, xo, ya, yo, n);
+					else                               VOVec.rv_sub_rv(z, zOffset, xa, xo, ya, yo, n);
+					break;
+				case OP_MUL:
+					if      ( x.complex &&  y.complex) VOVec.cv_mul_cv(z, zOffset, xa, xo, ya, yo, n);
+					else if ( x.complex && !y.complex) VOVec.cv_mul_rv(z, zOffset, xa, xo, ya, yo, n);
+					else if (!x.complex &&  y.complex) VOVec.cv_mul_rv(z, zOffset, ya, yo, xa, xo, n);
+					else                               VOVec.rv_mul_rv(z, zOffset, xa, xo, ya, yo, n);
+					break;
+				case OP_DIV:
+					if      ( x.complex &&  y.complex) VOVec.cv_div_cv(z, zOffset, xa, xo, ya, yo, n);
+					else if ( x.complex && !y.complex) VOVec.cv_div_rv(z, zOffset, xa, xo, ya, yo, n);
+					else if (!x.complex &&  y.complex) VOVec.rv_div_cv(z, zOffset, xa, xo, ya, yo, n);
+					else                               VOVec.rv_div_rv(z, zOffset, xa, xo, ya, yo, n);
+					break;
+				case OP_CONJMUL:
+					// y is always complex here
+					if (x.complex) VOVec.cv_conjmul_cv(z, zOffset, xa, xo, ya, yo, n);
+					else VOVec.rv_conjmul_cv(z, zOffset, xa, xo, ya, yo, n);
+					break;
+				default:
+					throw new IllegalStateException("Unknown binary operation " + op);
+			}
+		}
+	}
+}
@@ -0,0 +1,407 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi.fft;
+
+import jdk.incubator.vector.*;
+import vectorapi.VOVec;
+import vectorapi.VSpecies;
+
+/**
+ * Complex FFT of power-of-two size on interleaved complex vectors ({@code cv}) of {@link vectorapi.VO}.
+ *
+ * Forward transform is {@code X[k] = sum(x[j] * exp(-2 * pi * i * j * k / N))}, inverse one
+ * uses {@code exp(+2 * pi * i * j * k / N)} and is scaled by {@code 1 / N}, so it restores
+ * input of forward transform. Offsets are in complex numbers, as everywhere in {@code VO}.
+ *
+ * Stockham stages can not work in place, so each instance owns work buffer
+ * and must not be used by several threads at once. Share {@link FFTPlan} instead.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration, WeakerAccess
+ */
+public final class CFFT {
+	private final static VectorSpecies<Float> PFS = VSpecies.FLOAT;
+	private final static int EPV = PFS.length();
+	private final static int EPV2 = EPV / 2;
+
+	// [(re0, im0), (re1, im1), ...] -> [(im0, re0), (im1, re1), ...]
+	private final static VectorShuffle<Float> SHUFFLE_CV_SWAP_RE_IM;
+	// Multiplied by swapped vector it gives multiplication by i (forward) or -i (inverse)
+	private final static float SIGN_FORWARD[];
+	private final static float SIGN_INVERSE[];
+
+	// Stages with stride s < EPV2 produce four vectors, each of them has EPV2 / s blocks
+	// of s complex numbers, and blocks must be interleaved on store. Out vector r is built
+	// from all four by rearranges and blends: SHUFFLE_TRANSPOSE[log4(s)][r][k] and MASK_TRANSPOSE[log4(s)][r][k]
+	private final static VectorShuffle<Float> SHUFFLE_TRANSPOSE[][][];
+	private final static VectorMask<Float> MASK_TRANSPOSE[][][];
+
+	static {
+		SHUFFLE_CV_SWAP_RE_IM = VectorShuffle.shuffle(PFS, i -> (i % 2 == 0) ? i + 1 : i - 1);
+
+		SIGN_FORWARD = new float[EPV];
+		SIGN_INVERSE = new float[EPV];
+		for (int i = 0; i < EPV; i++) {
+			SIGN_FORWARD[i] = (i % 2 == 0) ? -1.0f : 1.0f;
+			SIGN_INVERSE[i] = -SIGN_FORWARD[i];
+		}
+
+		int smallStrides = 0;
+		for (int s = 1; s < EPV2; s <<= 2)
+			smallStrides++;
+		SHUFFLE_TRANSPOSE = newShuffles(smallStrides);
+		MASK_TRANSPOSE = newMasks(smallStrides);
+		for (int si = 0; si < smallStrides; si++) {
+			final int s = 1 << (si * 2);
+			for (int r = 0; r < 4; r++) {
+				for (int k = 0; k < 4; k++) {
+					final int fr = r;
+					final int fk = k;
+					boolean m[] = new boolean[EPV];
+					for (int i = 0; i < EPV; i++)
+						m[i] = transposeBlock(s, r, i) == k;
+					MASK_TRANSPOSE[si][r][k] = VectorMask.fromArray(PFS, m, 0);
+					SHUFFLE_TRANSPOSE[si][r][k] = VectorShuffle.shuffle(PFS, i -> transposeBlock(s, fr, i) == fk ? transposeLane(s, fr, i) : 0);
+				}
+			}
+		}
+	}
+
+	// Arrays of generic types could not be created without raw types
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static VectorShuffle<Float>[][][] newShuffles(int strides) {
+		return new VectorShuffle[strides][4][4];
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static VectorMask<Float>[][][] newMasks(int strides) {
+		return new VectorMask[strides][4][4];
+	}
+
+	private final FFTPlan plan;
+	private final float work[];
+
+	/**
+	 * Creates transform with its own plan.
+	 * @param size number of complex elements, power of 2
+	 */
+	public CFFT(int size) {
+		this(new FFTPlan(size));
+	}
+
+	/**
+	 * Creates transform with shared plan.
+	 * @param plan plan of transform
+	 */
+	public CFFT(FFTPlan plan) {
+		this.plan = plan;
+		this.work = new float[plan.size * 2];
+	}
+
+	/**
+	 * @return number of complex elements in transform
+	 */
+	public int getSize() {
+		return plan.size;
+	}
+
+	/**
+	 * Forward transform of {@code x} into {@code z}. Input is not changed, unless
+	 * it is same array as output. Output must not overlap input partially.
+	 */
+	public void forward(float z[], int zOffset, float x[], int xOffset) {
+		transform(z, zOffset * 2, x, xOffset * 2, false);
+	}
+
+	/**
+	 * In-place forward transform.
+	 */
+	public void forward(float z[], int zOffset) {
+		transform(z, zOffset * 2, z, zOffset * 2, false);
+	}
+
+	/**
+	 * Inverse transform of {@code x} into {@code z}, scaled by {@code 1 / N}.
+	 */
+	public void inverse(float z[], int zOffset, float x[], int xOffset) {
+		transform(z, zOffset * 2, x, xOffset * 2, true);
+		VOVec.rv_mul_rs_i(z, zOffset * 2, 1.0f / plan.size, plan.size * 2);
+	}
+
+	/**
+	 * In-place inverse transform, scaled by {@code 1 / N}.
+	 */
+	public void inverse(float z[], int zOffset) {
+		inverse(z, zOffset, z, zOffset);
+	}
+
+	// Offsets are in floats here, and inverse transform is not scaled
+	void transform(float z[], int zOffset, float x[], int xOffset, boolean inverse) {
+		final int stages = plan.stages;
+
+		if (stages == 0) {
+			z[zOffset + 0] = x[xOffset + 0];
+			z[zOffset + 1] = x[xOffset + 1];
+			return;
+		}
+
+		// Stages alternate between z and work, and last one must write to z.
+		// With odd number of stages first one writes to z, so input must be moved away if it is same array
+		if (stages % 2 == 1 && x == z) {
+			System.arraycopy(x, xOffset, work, 0, plan.size * 2);
+			x = work;
+			xOffset = 0;
+		}
+
+		float src[] = x;
+		int srcOffset = xOffset;
+		float dst[] = (stages % 2 == 1) ? z : work;
+		int dstOffset = (stages % 2 == 1) ? zOffset : 0;
+
+		for (int i = 0; i < stages; i++) {
+			final int n = plan.stageN[i];
+			final int s = plan.stageS[i];
+			if (!plan.vector) {
+				if (n == 2)
+					radix2(dst, dstOffset, src, srcOffset, s);
+				else
+					radix4(dst, dstOffset, src, srcOffset, n, s, plan.twiddles[i], inverse);
+			} else if (n == 2) {
+				radix2Vector(dst, dstOffset, src, srcOffset, s);
+			} else if (s < EPV2) {
+				radix4Lanes(dst, dstOffset, src, srcOffset, n, s, plan.laneTwiddles[i], inverse);
+			} else {
+				radix4Vector(dst, dstOffset, src, srcOffset, n, s, plan.twiddles[i], inverse);
+			}
+
+			src = dst;
+			srcOffset = dstOffset;
+			if (dst == work) {
+				dst = z;
+				dstOffset = zOffset;
+			} else {
+				dst = work;
+				dstOffset = 0;
+			}
+		}
+	}
+
+	// Block k of source vector, which gives float lane i of out vector r
+	private static int transposeBlock(int s, int r, int i) {
+		return ((r * EPV2 + i / 2) / s) % 4;
+	}
+
+	// Float lane of source vector, which gives float lane i of out vector r
+	private static int transposeLane(int s, int r, int i) {
+		final int c = r * EPV2 + i / 2;
+		return ((c / (s * 4)) * s + c % s) * 2 + i % 2;
+	}
+
+	// All offsets below are in floats
+
+	private static void radix2(float y[], int yOffset, float x[], int xOffset, int s) {
+		for (int q = 0; q < s * 2; q += 2) {
+			final float are = x[xOffset + q + 0];
+			final float aim = x[xOffset + q + 1];
+			final float bre = x[xOffset + q + s * 2 + 0];
+			final float bim = x[xOffset + q + s * 2 + 1];
+			y[yOffset + q + 0] = are + bre;
+			y[yOffset + q + 1] = aim + bim;
+			y[yOffset + q + s * 2 + 0] = are - bre;
+			y[yOffset + q + s * 2 + 1] = aim - bim;
+		}
+	}
+
+	private static void radix4(float y[], int yOffset, float x[], int xOffset, int n, int s, float tw[], boolean inverse) {
+		final int m = n / 4;
+		final int bs = s * 2;
+		final int bm = s * m * 2;
+		// Conjugated twiddles and -i instead of i for inverse transform
+		final float dir = inverse ? -1.0f : 1.0f;
+		for (int p = 0; p < m; p++) {
+			final float w1re = tw[p * 6 + 0];
+			final float w1im = tw[p * 6 + 1] * dir;
+			final float w2re = tw[p * 6 + 2];
+			final float w2im = tw[p * 6 + 3] * dir;
+			final float w3re = tw[p * 6 + 4];
+			final float w3im = tw[p * 6 + 5] * dir;
+			final int ia = xOffset + p * bs;
+			final int iy = yOffset + p * bs * 4;
+			for (int q = 0; q < bs; q += 2) {
+				final float are = x[ia + q + 0];
+				final float aim = x[ia + q + 1];
+				final float bre = x[ia + q + bm + 0];
+				final float bim = x[ia + q + bm + 1];
+				final float cre = x[ia + q + bm * 2 + 0];
+				final float cim = x[ia + q + bm * 2 + 1];
+				final float dre = x[ia + q + bm * 3 + 0];
+				final float dim = x[ia + q + bm * 3 + 1];
+
+				final float apcre = are + cre;
+				final float apcim = aim + cim;
+				final float amcre = are - cre;
+				final float amcim = aim - cim;
+				final float bpdre = bre + dre;
+				final float bpdim = bim + dim;
+				final float jbmdre = -(bim - dim) * dir;
+				final float jbmdim = (bre - dre) * dir;
+
+				final float t1re = amcre - jbmdre;
+				final float t1im = amcim - jbmdim;
+				final float t2re = apcre - bpdre;
+				final float t2im = apcim - bpdim;
+				final float t3re = amcre + jbmdre;
+				final float t3im = amcim + jbmdim;
+
+				y[iy + q + 0] = apcre + bpdre;
+				y[iy + q + 1] = apcim + bpdim;
+				y[iy + q + bs + 0] = t1re * w1re - t1im * w1im;
+				y[iy + q + bs + 1] = t1re * w1im + t1im * w1re;
+				y[iy + q + bs * 2 + 0] = t2re * w2re - t2im * w2im;
+				y[iy + q + bs * 2 + 1] = t2re * w2im + t2im * w2re;
+				y[iy + q + bs * 3 + 0] = t3re * w3re - t3im * w3im;
+				y[iy + q + bs * 3 + 1] = t3re * w3im + t3im * w3re;
+			}
+		}
+	}
+
+	private static void radix2Vector(float y[], int yOffset, float x[], int xOffset, int s) {
+		for (int q = 0; q < s * 2; q += EPV) {
+			final FloatVector va = FloatVector.fromArray(PFS, x, xOffset + q);
+			final FloatVector vb = FloatVector.fromArray(PFS, x, xOffset + q + s * 2);
+			va.add(vb).intoArray(y, yOffset + q);
+			va.sub(vb).intoArray(y, yOffset + q + s * 2);
+		}
+	}
+
+	// Stride is whole number of vectors: vectors run over q, twiddles are same for all lanes
+	private static void radix4Vector(float y[], int yOffset, float x[], int xOffset, int n, int s, float tw[], boolean inverse) {
+		final int m = n / 4;
+		final int bs = s * 2;
+		final int bm = s * m * 2;
+		final FloatVector vsign = FloatVector.fromArray(PFS, inverse ? SIGN_INVERSE : SIGN_FORWARD, 0);
+
+		// First twiddles are 1, and it is only p of last stages
+		for (int q = 0; q < bs; q += EPV) {
+			final FloatVector va = FloatVector.fromArray(PFS, x, xOffset + q);
+			final FloatVector vb = FloatVector.fromArray(PFS, x, xOffset + q + bm);
+			final FloatVector vc = FloatVector.fromArray(PFS, x, xOffset + q + bm * 2);
+			final FloatVector vd = FloatVector.fromArray(PFS, x, xOffset + q + bm * 3);
+
+			final FloatVector vapc = va.add(vc);
+			final FloatVector vamc = va.sub(vc);
+			final FloatVector vbpd = vb.add(vd);
+			final FloatVector vjbmd = vb.sub(vd).rearrange(SHUFFLE_CV_SWAP_RE_IM).mul(vsign);
+
+			vapc.add(vbpd).intoArray(y, yOffset + q);
+			vamc.sub(vjbmd).intoArray(y, yOffset + q + bs);
+			vapc.sub(vbpd).intoArray(y, yOffset + q + bs * 2);
+			vamc.add(vjbmd).intoArray(y, yOffset + q + bs * 3);
+		}
+
+		for (int p = 1; p < m; p++) {
+			final FloatVector vw1re = FloatVector.broadcast(PFS, tw[p * 6 + 0]);
+			final FloatVector vw1im = FloatVector.broadcast(PFS, tw[p * 6 + 1]).mul(vsign);
+			final FloatVector vw2re = FloatVector.broadcast(PFS, tw[p * 6 + 2]);
+			final FloatVector vw2im = FloatVector.broadcast(PFS, tw[p * 6 + 3]).mul(vsign);
+			final FloatVector vw3re = FloatVector.broadcast(PFS, tw[p * 6 + 4]);
+			final FloatVector vw3im = FloatVector.broadcast(PFS, tw[p * 6 + 5]).mul(vsign);
+			final int ia = xOffset + p * bs;
+			final int iy = yOffset + p * bs * 4;
+
+			for (int q = 0; q < bs; q += EPV) {
+				final FloatVector va = FloatVector.fromArray(PFS, x, ia + q);
+				final FloatVector vb = FloatVector.fromArray(PFS, x, ia + q + bm);
+				final FloatVector vc = FloatVector.fromArray(PFS, x, ia + q + bm * 2);
+				final FloatVector vd = FloatVector.fromArray(PFS, x, ia + q + bm * 3);
+
+				final FloatVector vapc = va.add(vc);
+				final FloatVector vamc = va.sub(vc);
+				final FloatVector vbpd = vb.add(vd);
+				final FloatVector vjbmd = vb.sub(vd).rearrange(SHUFFLE_CV_SWAP_RE_IM).mul(vsign);
+
+				final FloatVector vt1 = vamc.sub(vjbmd);
+				final FloatVector vt2 = vapc.sub(vbpd);
+				final FloatVector vt3 = vamc.add(vjbmd);
+
+				vapc.add(vbpd).intoArray(y, iy + q);
+				vt1.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(vw1im, vt1.mul(vw1re)).intoArray(y, iy + q + bs);
+				vt2.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(vw2im, vt2.mul(vw2re)).intoArray(y, iy + q + bs * 2);
+				vt3.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(vw3im, vt3.mul(vw3re)).intoArray(y, iy + q + bs * 3);
+			}
+		}
+	}
+
+	// Stride is less than vector: vectors run over (p, q) pairs with twiddles by lanes,
+	// and results are transposed to interleave blocks of different p on store
+	private static void radix4Lanes(float y[], int yOffset, float x[], int xOffset, int n, int s, float tw[], boolean inverse) {
+		final int bm = n / 4 * s * 2;
+		final float dir = inverse ? -1.0f : 1.0f;
+		final FloatVector vsign = FloatVector.fromArray(PFS, inverse ? SIGN_INVERSE : SIGN_FORWARD, 0);
+		final int si = Integer.numberOfTrailingZeros(s) / 2;
+		final VectorShuffle<Float> sh[][] = SHUFFLE_TRANSPOSE[si];
+		final VectorMask<Float> mk[][] = MASK_TRANSPOSE[si];
+
+		for (int i = 0, t = 0; i < bm; i += EPV, t += EPV * 6) {
+			final FloatVector va = FloatVector.fromArray(PFS, x, xOffset + i);
+			final FloatVector vb = FloatVector.fromArray(PFS, x, xOffset + i + bm);
+			final FloatVector vc = FloatVector.fromArray(PFS, x, xOffset + i + bm * 2);
+			final FloatVector vd = FloatVector.fromArray(PFS, x, xOffset + i + bm * 3);
+
+			final FloatVector vw1re = FloatVector.fromArray(PFS, tw, t);
+			final FloatVector vw1im = FloatVector.fromArray(PFS, tw, t + EPV).mul(dir);
+			final FloatVector vw2re = FloatVector.fromArray(PFS, tw, t + EPV * 2);
+			final FloatVector vw2im = FloatVector.fromArray(PFS, tw, t + EPV * 3).mul(dir);
+			final FloatVector vw3re = FloatVector.fromArray(PFS, tw, t + EPV * 4);
+			final FloatVector vw3im = FloatVector.fromArray(PFS, tw, t + EPV * 5).mul(dir);
+
+			final FloatVector vapc = va.add(vc);
+			final FloatVector vamc = va.sub(vc);
+			final FloatVector vbpd = vb.add(vd);
+			final FloatVector vjbmd = vb.sub(vd).rearrange(SHUFFLE_CV_SWAP_RE_IM).mul(vsign);
+
+			final FloatVector vt1 = vamc.sub(vjbmd);
+			final FloatVector vt2 = vapc.sub(vbpd);
+			final FloatVector vt3 = vamc.add(vjbmd);
+
+			final FloatVector vy0 = vapc.add(vbpd);
+			final FloatVector vy1 = vt1.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(vw1im, vt1.mul(vw1re));
+			final FloatVector vy2 = vt2.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(vw2im, vt2.mul(vw2re));
+			final FloatVector vy3 = vt3.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(vw3im, vt3.mul(vw3re));
+
+			final int iy = yOffset + i * 4;
+			for (int r = 0; r < 4; r++) {
+				vy0.rearrange(sh[r][0])
+					.blend(vy1.rearrange(sh[r][1]), mk[r][1])
+					.blend(vy2.rearrange(sh[r][2]), mk[r][2])
+					.blend(vy3.rearrange(sh[r][3]), mk[r][3])
+					.intoArray(y, iy + r * EPV);
+			}
+		}
+	}
+}
@@ -0,0 +1,139 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi.fft;
+
+import jdk.incubator.vector.VectorSpecies;
+import vectorapi.VSpecies;
+
+/**
+ * Precomputed twiddle factors of complex FFT of one size.
+ *
+ * Transform of size {@code N} is performed by radix-4 Stockham stages, with one
+ * radix-2 stage at the end when {@code N} is odd power of two. Stockham formulation
+ * doesn't need bit reversal, and all stages read and write contiguous blocks, so
+ * they are vectorized without gathers. Stage {@code i} computes sub-transforms of
+ * length {@code n = N / 4^i} with stride {@code s = 4^i}.
+ *
+ * Plan is immutable, so it could be shared between threads and {@link CFFT} instances.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration, WeakerAccess
+ */
+public final class FFTPlan {
+	private final static VectorSpecies<Float> PFS = VSpecies.FLOAT;
+	private final static int EPV = PFS.length();
+	private final static int EPV2 = EPV / 2;
+
+	final int size;
+	// Vector kernels are used if each stage has at least one full vector of work per output block
+	final boolean vector;
+	final int stages;
+	// Length of sub-transforms and stride of each stage, n == 2 means radix-2 stage
+	final int stageN[];
+	final int stageS[];
+	// [w1.re, w1.im, w2.re, w2.im, w3.re, w3.im] for each p of stage, null for radix-2 stage
+	final float twiddles[][];
+	// Twiddles of stages with stride less than one vector, spread by lanes, see laneTwiddles()
+	final float laneTwiddles[][];
+
+	/**
+	 * Creates plan for transforms of given size.
+	 * @param size number of complex elements, power of 2
+	 */
+	public FFTPlan(int size) {
+		if (size < 1 || Integer.bitCount(size) != 1)
+			throw new IllegalArgumentException("FFT size must be power of 2, got " + size);
+		this.size = size;
+		vector = size >= 4 * EPV2;
+
+		final int log2 = Integer.numberOfTrailingZeros(size);
+		stages = log2 / 2 + log2 % 2;
+		stageN = new int[stages];
+		stageS = new int[stages];
+		twiddles = new float[stages][];
+		laneTwiddles = new float[stages][];
+
+		int n = size;
+		int s = 1;
+		for (int i = 0; i < stages; i++) {
+			stageN[i] = n;
+			stageS[i] = s;
+			if (n >= 4) {
+				twiddles[i] = twiddles(n);
+				if (vector && s < EPV2)
+					laneTwiddles[i] = laneTwiddles(n, s);
+			}
+			n >>= 2;
+			s <<= 2;
+		}
+	}
+
+	/**
+	 * @return number of complex elements in transform
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	private static float[] twiddles(int n) {
+		final int m = n / 4;
+		final float tw[] = new float[m * 6];
+		for (int p = 0; p < m; p++) {
+			for (int k = 1; k <= 3; k++) {
+				final double a = -2.0 * Math.PI * k * p / n;
+				tw[p * 6 + (k - 1) * 2 + 0] = (float)Math.cos(a);
+				tw[p * 6 + (k - 1) * 2 + 1] = (float)Math.sin(a);
+			}
+		}
+		return tw;
+	}
+
+	// Complex lane i of stage is (p, q) pair, i = p * s + q, and has twiddles of its p.
+	// For each vector of EPV2 lanes table contains six vectors:
+	// [w1.re, w1.re, ...], [-w1.im, w1.im, ...], same for w2 and w3,
+	// so they are multiplied by interleaved complex vector and its swapped copy directly.
+	private static float[] laneTwiddles(int n, int s) {
+		final int m = n / 4;
+		final float tw[] = new float[m * s * 12];
+		for (int i = 0; i < m * s; i++) {
+			final int p = i / s;
+			final int base = (i / EPV2) * EPV * 6 + (i % EPV2) * 2;
+			for (int k = 1; k <= 3; k++) {
+				final double a = -2.0 * Math.PI * k * p / n;
+				final float re = (float)Math.cos(a);
+				final float im = (float)Math.sin(a);
+				final int o = base + (k - 1) * EPV * 2;
+				tw[o + 0] = re;
+				tw[o + 1] = re;
+				tw[o + EPV + 0] = -im;
+				tw[o + EPV + 1] = im;
+			}
+		}
+		return tw;
+	}
+}
@@ -0,0 +1,280 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi.fft;
+
+import jdk.incubator.vector.*;
+import vectorapi.VSpecies;
+
+/**
+ * FFT of real vectors ({@code rv}) of power-of-two size {@code N}.
+ *
+ * Spectrum of real signal is Hermitian, so only {@code N / 2 + 1} first bins are computed,
+ * and they are packed into {@code N / 2} complex numbers ({@code cv}): first one contains
+ * real parts of bins {@code 0} and {@code N / 2} (both are real), and others are bins
+ * {@code 1 ... N / 2 - 1} as is. It is same layout as {@code realForward()} of JTransforms.
+ *
+ * Real vector is transformed as complex vector of half size, {@code x[2j] + i * x[2j + 1]},
+ * and result is split into spectra of even and odd samples, which are combined with
+ * twiddles. It needs half of memory traffic and arithmetic of complex transform of
+ * {@link vectorapi.VO#rv_cvt(float[], int, float[], int, int)} result.
+ *
+ * Inverse transform is scaled by {@code 1 / N}, so it restores input of forward transform.
+ * Instance owns work buffer of {@link CFFT} and must not be used by several threads at once.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration, WeakerAccess
+ */
+public final class RFFT {
+	private final static VectorSpecies<Float> PFS = VSpecies.FLOAT;
+	private final static int EPV = PFS.length();
+	private final static int EPV2 = EPV / 2;
+
+	// [(re0, im0), (re1, im1), ...] -> [(im0, re0), (im1, re1), ...]
+	private final static VectorShuffle<Float> SHUFFLE_CV_SWAP_RE_IM;
+	// [c0, c1, ..., c_len] -> [c_len, ..., c1, c0]
+	private final static VectorShuffle<Float> SHUFFLE_CV_REVERSE;
+	// [1, -1, ...], conjugation
+	private final static float CONJ[];
+
+	static {
+		SHUFFLE_CV_SWAP_RE_IM = VectorShuffle.shuffle(PFS, i -> (i % 2 == 0) ? i + 1 : i - 1);
+		SHUFFLE_CV_REVERSE = VectorShuffle.shuffle(PFS, i -> (EPV2 - 1 - i / 2) * 2 + i % 2);
+		CONJ = new float[EPV];
+		for (int i = 0; i < EPV; i++)
+			CONJ[i] = (i % 2 == 0) ? 1.0f : -1.0f;
+	}
+
+	private final int size;
+	private final CFFT cfft;
+	// exp(-2 * pi * i * k / N) for k in [0, N / 4], as [w.re, w.re] and [-w.im, w.im] for each k
+	private final float twre[];
+	private final float twim[];
+
+	/**
+	 * Creates transform.
+	 * @param size number of real elements, power of 2, at least 2
+	 */
+	public RFFT(int size) {
+		if (size < 2 || Integer.bitCount(size) != 1)
+			throw new IllegalArgumentException("Real FFT size must be power of 2 and at least 2, got " + size);
+		this.size = size;
+		cfft = new CFFT(size / 2);
+
+		// Vectors of twiddles are loaded at any k up to N / 4, so tables are padded
+		final int k = size / 4 + 1 + EPV2;
+		twre = new float[k * 2];
+		twim = new float[k * 2];
+		for (int i = 0; i < k; i++) {
+			final double a = -2.0 * Math.PI * i / size;
+			final float re = (float)Math.cos(a);
+			final float im = (float)Math.sin(a);
+			twre[i * 2 + 0] = re;
+			twre[i * 2 + 1] = re;
+			twim[i * 2 + 0] = -im;
+			twim[i * 2 + 1] = im;
+		}
+	}
+
+	/**
+	 * @return number of real elements in transform
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * Forward transform of real {@code x} into packed half-spectrum {@code z}.
+	 * @param z packed spectrum, {@code N / 2} complex numbers
+	 * @param zOffset offset in {@code z}, in complex numbers
+	 * @param x real signal, {@code N} numbers
+	 * @param xOffset offset in {@code x}
+	 */
+	public void forward(float z[], int zOffset, float x[], int xOffset) {
+		zOffset <<= 1;
+		cfft.transform(z, zOffset, x, xOffset, false);
+		split(z, zOffset);
+	}
+
+	/**
+	 * In-place forward transform, spectrum replaces signal.
+	 * @param x real signal, {@code N} numbers
+	 * @param xOffset offset in {@code x}, in real numbers
+	 */
+	public void forward(float x[], int xOffset) {
+		cfft.transform(x, xOffset, x, xOffset, false);
+		split(x, xOffset);
+	}
+
+	/**
+	 * Inverse transform of packed half-spectrum {@code x} into real {@code z}, scaled by {@code 1 / N}.
+	 * @param z real signal, {@code N} numbers
+	 * @param zOffset offset in {@code z}
+	 * @param x packed spectrum, {@code N / 2} complex numbers
+	 * @param xOffset offset in {@code x}, in complex numbers
+	 */
+	public void inverse(float z[], int zOffset, float x[], int xOffset) {
+		join(z, zOffset, x, xOffset << 1);
+		cfft.transform(z, zOffset, z, zOffset, true);
+	}
+
+	/**
+	 * In-place inverse transform, signal replaces spectrum.
+	 * @param x packed spectrum, {@code N / 2} complex numbers
+	 * @param xOffset offset in {@code x}, in real numbers
+	 */
+	public void inverse(float x[], int xOffset) {
+		join(x, xOffset, x, xOffset);
+		cfft.transform(x, xOffset, x, xOffset, true);
+	}
+
+	// All offsets below are in floats.
+	// Z is transform of half size of complex vector made from real one, M = N / 2:
+	//   Fe[k] = (Z[k] + conj(Z[M - k])) / 2, spectrum of even samples
+	//   Fo[k] = -i * (Z[k] - conj(Z[M - k])) / 2, spectrum of odd samples
+	//   X[k] = Fe[k] + W^k * Fo[k]
+	//   X[M - k] = conj(Fe[k] - W^k * Fo[k])
+	// so k and M - k are processed together, in place.
+	private void split(float z[], int zOffset) {
+		final int m = size / 2;
+
+		final float z0re = z[zOffset + 0];
+		final float z0im = z[zOffset + 1];
+		z[zOffset + 0] = z0re + z0im;
+		z[zOffset + 1] = z0re - z0im;
+
+		int k = 1;
+		if (m >= EPV * 2) {
+			final FloatVector vconj = FloatVector.fromArray(PFS, CONJ, 0);
+			// Low vector is [k, k + EPV2), high one is [M - k - EPV2 + 1, M - k], they must not overlap
+			while ((k + EPV2) * 2 <= m + 1) {
+				final int lo = zOffset + k * 2;
+				final int hi = zOffset + (m - k - EPV2 + 1) * 2;
+				final FloatVector va = FloatVector.fromArray(PFS, z, lo);
+				final FloatVector vb = FloatVector.fromArray(PFS, z, hi).rearrange(SHUFFLE_CV_REVERSE).mul(vconj);
+				final FloatVector vwre = FloatVector.fromArray(PFS, twre, k * 2);
+				final FloatVector vwim = FloatVector.fromArray(PFS, twim, k * 2);
+
+				final FloatVector vfe = va.add(vb);
+				final FloatVector vd = va.sub(vb);
+				final FloatVector vfo = vd.rearrange(SHUFFLE_CV_SWAP_RE_IM).mul(vconj);
+				final FloatVector vt = vfo.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(vwim, vfo.mul(vwre));
+
+				vfe.add(vt).mul(0.5f).intoArray(z, lo);
+				vfe.sub(vt).mul(vconj).mul(0.5f).rearrange(SHUFFLE_CV_REVERSE).intoArray(z, hi);
+
+				k += EPV2;
+			}
+		}
+
+		for (; k <= m / 2; k++) {
+			final int lo = zOffset + k * 2;
+			final int hi = zOffset + (m - k) * 2;
+			final float are = z[lo + 0];
+			final float aim = z[lo + 1];
+			final float bre = z[hi + 0];
+			final float bim = -z[hi + 1];
+			final float wre = twre[k * 2];
+			final float wim = twim[k * 2 + 1];
+
+			final float fere = are + bre;
+			final float feim = aim + bim;
+			final float fore = aim - bim;
+			final float foim = bre - are;
+			final float tre = fore * wre - foim * wim;
+			final float tim = fore * wim + foim * wre;
+
+			z[lo + 0] = (fere + tre) * 0.5f;
+			z[lo + 1] = (feim + tim) * 0.5f;
+			z[hi + 0] = (fere - tre) * 0.5f;
+			z[hi + 1] = -(feim - tim) * 0.5f;
+		}
+	}
+
+	// Reverse of split(), with 1 / M scale of complex inverse transform:
+	//   Fe[k] = (X[k] + conj(X[M - k])) / 2
+	//   Fo[k] = conj(W^k) * (X[k] - conj(X[M - k])) / 2
+	//   Z[k] = Fe[k] + i * Fo[k]
+	//   Z[M - k] = conj(Fe[k] - i * Fo[k])
+	private void join(float z[], int zOffset, float x[], int xOffset) {
+		final int m = size / 2;
+		final float h = 0.5f / m;
+
+		final float x0re = x[xOffset + 0];
+		final float xmre = x[xOffset + 1];
+		z[zOffset + 0] = (x0re + xmre) * h;
+		z[zOffset + 1] = (x0re - xmre) * h;
+
+		int k = 1;
+		if (m >= EPV * 2) {
+			final FloatVector vconj = FloatVector.fromArray(PFS, CONJ, 0);
+			final FloatVector vmconj = vconj.neg();
+			while ((k + EPV2) * 2 <= m + 1) {
+				final int lo = k * 2;
+				final int hi = (m - k - EPV2 + 1) * 2;
+				final FloatVector va = FloatVector.fromArray(PFS, x, xOffset + lo);
+				final FloatVector vb = FloatVector.fromArray(PFS, x, xOffset + hi).rearrange(SHUFFLE_CV_REVERSE).mul(vconj);
+				final FloatVector vwre = FloatVector.fromArray(PFS, twre, k * 2);
+				final FloatVector vwim = FloatVector.fromArray(PFS, twim, k * 2);
+
+				final FloatVector vfe = va.add(vb).mul(h);
+				final FloatVector vd = va.sub(vb).mul(h);
+				// Conjugated twiddle
+				final FloatVector vfo = vd.mul(vwre).sub(vd.rearrange(SHUFFLE_CV_SWAP_RE_IM).mul(vwim));
+				final FloatVector vifo = vfo.rearrange(SHUFFLE_CV_SWAP_RE_IM).mul(vmconj);
+
+				vfe.add(vifo).intoArray(z, zOffset + lo);
+				vfe.sub(vifo).mul(vconj).rearrange(SHUFFLE_CV_REVERSE).intoArray(z, zOffset + hi);
+
+				k += EPV2;
+			}
+		}
+
+		for (; k <= m / 2; k++) {
+			final int lo = k * 2;
+			final int hi = (m - k) * 2;
+			final float are = x[xOffset + lo + 0];
+			final float aim = x[xOffset + lo + 1];
+			final float bre = x[xOffset + hi + 0];
+			final float bim = -x[xOffset + hi + 1];
+			final float wre = twre[k * 2];
+			final float wim = twim[k * 2 + 1];
+
+			final float fere = (are + bre) * h;
+			final float feim = (aim + bim) * h;
+			final float dre = (are - bre) * h;
+			final float dim = (aim - bim) * h;
+			final float fore = dre * wre + dim * wim;
+			final float foim = dim * wre - dre * wim;
+
+			z[zOffset + lo + 0] = fere - foim;
+			z[zOffset + lo + 1] = feim + fore;
+			z[zOffset + hi + 0] = fere + foim;
+			z[zOffset + hi + 1] = -(feim - fore);
+		}
+	}
+}
@@ -4,43 +4,46 @@ package OpAnalyzer;
 use strict;
 use warnings;
 
-sub cannotVectorize {
-	my $name = shift;
-	return $name =~ /_i?[fw]+$/;
-}
+# Type of real scalars and vector elements of implementation
+our $REAL = 'float';
 
 sub parseOp {
 	my ($name, $rtype) = @_;
 
 	my $res;
-	if      ($name =~ /^(rs|rv|cs|cv)_([a-z0-9]{2,})_(rs|rv|cs|cv)(_i)?$/) {
+	my $sfx;
+	if      ($name =~ /^(rs|rv|cs|cv)_([a-z0-9]{2,})_(rs|rv|cs|cv)(_ifw|_iw|_if|_fw|_i|_f|_w)?$/) {
+		$sfx = $4;
 		$res = {
 			'type' => 'b',
 			'l'    => $1,
 			'op'   => $2,
-			'r'    => $3,
-			'ip'   => defined($4) && $4 eq '_i'
+			'r'    => $3
 		};
-	} elsif ($name =~ /^(rs|rv|cs|cv)_([a-z0-9]{2,})(_i)?$/) {
+	} elsif ($name =~ /^(rs|rv|cs|cv)_([a-z0-9]{2,})(_ifw|_iw|_if|_fw|_i|_f|_w)?$/) {
+		$sfx = $3;
 		$res = {
 			'type' => 'u',
 			'l'    => $1,
-			'op'   => $2,
-			'ip'   => defined($3) && $3 eq '_i'
+			'op'   => $2
 		};
-	} elsif ($name =~ /^(rs|rv|cs|cv)_(rs|rv|cs|cv)_([a-z0-9]{2,})_(rs|rv|cs|cv)_(rs|rv|cs|cv)(_i)?$/) {
+	} elsif ($name =~ /^(rs|rv|cs|cv)_(rs|rv|cs|cv)_([a-z0-9]{2,})_(rs|rv|cs|cv)_(rs|rv|cs|cv)(_ifw|_iw|_if|_fw|_i|_f|_w)?$/) {
+		$sfx = $6;
 		$res = {
 			'type' => 'q',
 			'l1'   => $1,
 			'l2'   => $2,
 			'op'   => $3,
 			'r1'   => $4,
-			'r2'   => $5,
-			'ip'   => defined($6) && $6 eq '_i'
+			'r2'   => $5
 		};
 	} else {
 		die "Unknown oeration name \'$name\'\n";
 	}
+	$sfx = '' unless defined $sfx;
+	$res->{'ip'} = ($sfx =~ /i/) ? 1 : 0;
+	$res->{'w'}  = ($sfx =~ /w/) ? 1 : 0;
+	$res->{'f'}  = ($sfx =~ /f/) ? 1 : 0;
 	$res->{'name'} = $name;
 	$res->{'rt'} = $rtype;
 	return $res;
@@ -69,7 +72,7 @@ sub getOutType {
 	}
 
 	die "Invalid method return type of operation '".$op->{'name'}."': '".$op->{'rt'}."', need 'void'\n" if (&_isVector($ot) || &_isComplex($ot)) && $op->{'rt'} ne 'void';
-	die "Invalid method return type of operation '".$op->{'name'}."': '".$op->{'rt'}."', need 'float'\n" if $ot eq 'rs' && $op->{'rt'} ne 'float';
+	die "Invalid method return type of operation '".$op->{'name'}."': '".$op->{'rt'}."', need '$REAL'\n" if $ot eq 'rs' && $op->{'rt'} ne $REAL;
 	die "Invalid method return type of operation '".$op->{'name'}."': '".$op->{'rt'}."', need 'int'\n" if $ot eq 'int' && $op->{'rt'} ne 'int';
 
 	return $ot;
@@ -179,12 +182,7 @@ sub loadFile {
 		next unless /^public static (\S+) ([a-z0-9_]+)\(.+?\) \{$/;
 		my $rt = $1;
 		my $name = $2;
-		# Check if $name is or _w or _iw or _f or _fw
 		$total++;
-		if (&cannotVectorize($name)) {
-			print STDERR "Vectorized version implements strange method: \"$name\"\n" unless $base;
-			next;
-		}
 		$rv->{$name} = $rt;
 		$loaded++;
 	}
@@ -0,0 +1,352 @@
+#! /usr/bin/perl -w
+#***************************************************************************
+# Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+# All rights reserved.
+#
+# Redistribution and use in source and binary forms, with or without
+# modification, are permitted provided that the following conditions are met:
+#
+# 1. Redistributions of source code must retain the above copyright notice,
+#    this list of conditions and the following disclaimer.
+#
+# 2. Redistributions in binary form must reproduce the above copyright
+#    notice, this list of conditions and the following disclaimer in the
+#    documentation and/or other materials provided with the distribution.
+#
+# THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+# AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+# IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+# ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+# BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+# OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+# OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+# INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+# IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+# ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+# POSSIBILITY OF SUCH DAMAGE.
+#***************************************************************************
+use warnings;
+use strict;
+
+# Generates V.java (VO/VOVec dispatching facade), VCalibrator.java
+# (list of operations for VThresholds calibration) and VTests.java
+# (comparison of V with VO, belongs to test source tree) in current directory
+
+die "Syntax: $0 <BaseImpl.java> <VectorImpl.java>\n" unless @ARGV == 2;
+
+my @BASE = &loadSignatures($ARGV[0]);
+# VO has some overloads which VOVec doesn't, so compare full signatures
+my $VEC  = { map { &getSignature($_) => 1 } &loadSignatures($ARGV[1]) };
+
+my $CODE_INDENT = "\t\t";
+
+my $FH;
+open($FH, '>', 'V.java') or die "Can not open output file \"V.java\"\n";
+&generateDispatcher($FH);
+close($FH);
+
+open($FH, '>', 'VCalibrator.java') or die "Can not open output file \"VCalibrator.java\"\n";
+&generateCalibrator($FH);
+close($FH);
+
+open($FH, '>', 'VTests.java') or die "Can not open output file \"VTests.java\"\n";
+&generateTests($FH);
+close($FH);
+
+exit 0;
+
+# Returns list of [return type, name, [[type, name], ...]] in order of file
+sub loadSignatures {
+	my $name = shift;
+	open(my $fh, '<', $name) or die "Can not open \"$name\"\n";
+	my @rv = ();
+	while (<$fh>) {
+		s/^\s+//; s/\s+$//;
+		next unless /^public static (\S+) ([a-z0-9_]+)\((.+?)\) \{$/;
+		my ($rt, $op, $params) = ($1, $2, $3);
+		my @args = map { /^(\S+) ([A-Za-z0-9_]+)(\[\])?$/ or die "Can not parse argument \"$_\" of \"$op\"\n"; [$1.(defined($3) ? '[]' : ''), $2] } split(/, /, $params);
+		die "Last argument of \"$op\" must be \"count\"\n" unless $args[-1]->[1] eq 'count';
+		push @rv, [$rt, $op, \@args];
+	}
+	close($fh);
+	return @rv;
+}
+
+sub getSignature {
+	my $sig = shift;
+	return $sig->[1].'('.join(', ', map { $_->[0] } @{$sig->[2]}).')';
+}
+
+# Wrapping variant uses threshold of non-wrapping one
+sub getKey {
+	my $name = shift;
+	$name =~ s/_w$//;
+	$name =~ s/_(i?f?)w$/_$1/;
+	return $name;
+}
+
+sub getConstant {
+	return 'TH_'.uc(&getKey(shift));
+}
+
+sub formatParams {
+	my $args = shift;
+	return join(', ', map { $_->[0] =~ /^(\S+)\[\]$/ ? "$1 ".$_->[1].'[]' : $_->[0].' '.$_->[1] } @{$args});
+}
+
+sub generateDispatcher {
+	my $FH = shift;
+	&generateHeader($FH);
+	print $FH <<__HEADER;
+package vectorapi;
+
+/**
+ * Facade with API of {\@link VO}, which dispatches each call to {\@link VO} or
+ * {\@link VOVec} depending on number of processed elements. Thresholds are
+ * per-operation and are provided by {\@link VThresholds}.
+ *
+ * \@author Lev Serebryakov
+ * \@noinspection CStyleArrayDeclaration
+ */
+public final class V {
+__HEADER
+
+	my %seen = ();
+	for my $sig (@BASE) {
+		my $name = $sig->[1];
+		next unless exists $VEC->{&getSignature($sig)};
+		my $const = &getConstant($name);
+		next if $seen{$const}++;
+		print $FH "\tprivate static final int $const = VThresholds.get(\"", &getKey($name), "\");\n";
+	}
+
+	for my $sig (@BASE) {
+		my ($rt, $name, $args) = @{$sig};
+		my $call = $name.'('.join(', ', map { $_->[1] } @{$args}).')';
+		print $FH "\n\tpublic static $rt $name(", &formatParams($args), ") {\n";
+		if (!exists $VEC->{&getSignature($sig)}) {
+			print $FH $CODE_INDENT, ($rt eq 'void' ? '' : 'return '), "VO.$call;\n";
+		} elsif ($rt eq 'void') {
+			print $FH $CODE_INDENT, "if (count < ", &getConstant($name), ")\n";
+			print $FH $CODE_INDENT, "\tVO.$call;\n";
+			print $FH $CODE_INDENT, "else\n";
+			print $FH $CODE_INDENT, "\tVOVec.$call;\n";
+		} else {
+			print $FH $CODE_INDENT, "return (count < ", &getConstant($name), ") ? VO.$call : VOVec.$call;\n";
+		}
+		print $FH "\t}\n";
+	}
+	print $FH "}\n";
+}
+
+sub generateCalibrator {
+	my $FH = shift;
+	&generateHeader($FH);
+	print $FH <<__HEADER;
+package vectorapi;
+
+/**
+ * List of operations for {\@link VThresholds.Calibration}.
+ *
+ * \@author Lev Serebryakov
+ */
+final class VCalibrator {
+	private VCalibrator() {
+	}
+
+	static void calibrate(VThresholds.Calibration c) {
+__HEADER
+
+	my %seen = ();
+	for my $sig (@BASE) {
+		my ($rt, $name, $args) = @{$sig};
+		next unless exists $VEC->{&getSignature($sig)};
+		next if $name ne &getKey($name);
+		next if $seen{$name}++;
+		my %names = map { $_->[1] => 1 } @{$args};
+		my @call = ();
+		for my $arg (@{$args}) {
+			my ($t, $n) = @{$arg};
+			if      ($n eq 'count') {
+				push @call, 'n';
+			} elsif ($n =~ /Offset$/) {
+				push @call, 'o';
+			} elsif ($t eq 'float[]' && exists $names{$n.'Offset'}) {
+				push @call, "c.$n";
+			} elsif ($t eq 'float[]') {
+				push @call, ($n eq 'z' ? 'c.csz' : ($n eq 'x' || $n eq 'a1') ? 'c.cs1' : 'c.cs2');
+			} elsif ($t eq 'float') {
+				push @call, 'c.rs';
+			} else {
+				die "Unknown argument \"$t $n\" of \"$name\"\n";
+			}
+		}
+		my $callArgs = join(', ', @call);
+		my $sink = $rt eq 'void' ? '' : 'c.sink += ';
+		# Each implementation gets its own loop, so kernel call sites are monomorphic
+		my @sweeps = map { "(n, calls) -> { for (int o = 0; o < calls * n; o += n) ${sink}$_.$name($callArgs); }" } ('VO', 'VOVec');
+		print $FH $CODE_INDENT, "c.op(\"$name\", ", join(', ', @sweeps), ");\n";
+	}
+	print $FH "\t}\n}\n";
+}
+
+sub generateTests {
+	my $FH = shift;
+	&generateHeader($FH);
+	print $FH <<__HEADER;
+package vectorapi;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares each method of {\@link V} with {\@link VO} on sizes just below, at and just above
+ * threshold of its operation. Below threshold results must be exactly the same, as call must
+ * be dispatched to {\@link VO}.
+ *
+ * \@author Lev Serebryakov
+ * \@noinspection CStyleArrayDeclaration, WeakerAccess
+ */
+public class VTests {
+	private static final float EPSILON = 0.0001f;
+	// FastTrig.atan2() error is up to ~0.002, vectorized version is much closer to exact one
+	private static final float EPSILON_FAST = 0.0025f;
+
+	private static final int MAX_SIZE = 4096;
+
+	private static float vx[];
+	private static float vy[];
+	private static float vz[];
+	private static float va1[];
+	private static float va2[];
+
+	private static final float sx = 0.75f;
+	private static final float sy = -0.5f;
+	private static final float sa1 = 1.25f;
+	private static final float sa2 = -0.25f;
+	private static final float sbase = 2.0f;
+
+	\@BeforeAll
+	public static void Setup() {
+		final Random r = new Random(42);
+		// Room for complex vectors
+		vx = new float[MAX_SIZE * 2];
+		vy = new float[MAX_SIZE * 2];
+		vz = new float[MAX_SIZE * 2];
+		va1 = new float[MAX_SIZE * 2];
+		va2 = new float[MAX_SIZE * 2];
+		for (int i = 0; i < MAX_SIZE * 2; i++) {
+			vx[i] = r.nextFloat() * 2.0f - 1.0f;
+			vy[i] = r.nextFloat() * 2.0f - 1.0f;
+			vz[i] = r.nextFloat() * 2.0f - 1.0f;
+			va1[i] = r.nextFloat() * 2.0f - 1.0f;
+			va2[i] = r.nextFloat() * 2.0f - 1.0f;
+		}
+	}
+
+	// Sizes around threshold, clamped to test data
+	private static int[] sizes(String name) {
+		final long th = VThresholds.get(name);
+		return LongStream.of(th - 1, th, th + 1).mapToInt(s -> (int)Math.max(1, Math.min(s, MAX_SIZE))).distinct().toArray();
+	}
+
+	private static float delta(String name, int size, float epsilon) {
+		return size < VThresholds.get(name) ? 0.0f : epsilon;
+	}
+__HEADER
+
+	my %seen = ();
+	for my $sig (@BASE) {
+		my ($rt, $name, $args) = @{$sig};
+		my $key = &getKey($name);
+		# Overloads differ by set of offsets
+		my $test = $name;
+		$test .= join('', map { $_->[1] =~ /^(.+)Offset$/ ? "_$1" : () } @{$args}) if $seen{$name}++;
+
+		my $epsilon;
+		if (!exists $VEC->{&getSignature($sig)}) {
+			# Always dispatched to VO
+			$epsilon = '0.0f';
+		} elsif ($key =~ /_i?f$/) {
+			$epsilon = "delta(\"$key\", size, EPSILON_FAST)";
+		} elsif ($key =~ /_(dot|sum)(_|$)/) {
+			$epsilon = "delta(\"$key\", size, EPSILON * size)";
+		} else {
+			$epsilon = "delta(\"$key\", size, EPSILON)";
+		}
+
+		my @call1 = ();
+		my @call2 = ();
+		my $out = 0;
+		for my $arg (@{$args}) {
+			my ($t, $n) = @{$arg};
+			if      ($n eq 'count') {
+				push @call1, 'size';
+				push @call2, 'size';
+			} elsif ($n =~ /Offset$/) {
+				push @call1, '0';
+				push @call2, '0';
+			} elsif ($t eq 'float[]' && $n eq 'z') {
+				push @call1, 'z1';
+				push @call2, 'z2';
+				$out = 1;
+			} elsif ($t eq 'float[]') {
+				push @call1, "v$n";
+				push @call2, "v$n";
+			} elsif ($t eq 'float') {
+				push @call1, "s$n";
+				push @call2, "s$n";
+			} else {
+				die "Unknown argument \"$t $n\" of \"$name\"\n";
+			}
+		}
+
+		print $FH "\n\t\@Test\n";
+		print $FH "\tpublic void Test_$test() {\n";
+		print $FH $CODE_INDENT, "for (int size : sizes(\"$key\")) {\n";
+		if ($out) {
+			print $FH $CODE_INDENT, "\tfinal float z1[] = Arrays.copyOf(vz, vz.length);\n";
+			print $FH $CODE_INDENT, "\tfinal float z2[] = Arrays.copyOf(vz, vz.length);\n";
+		}
+		if ($rt eq 'void') {
+			print $FH $CODE_INDENT, "\tV.$name(", join(', ', @call1), ");\n";
+			print $FH $CODE_INDENT, "\tVO.$name(", join(', ', @call2), ");\n";
+		} else {
+			print $FH $CODE_INDENT, "\tfinal $rt r1 = V.$name(", join(', ', @call1), ");\n";
+			print $FH $CODE_INDENT, "\tfinal $rt r2 = VO.$name(", join(', ', @call2), ");\n";
+			if ($rt eq 'float') {
+				print $FH $CODE_INDENT, "\tassertEquals(r2, r1, $epsilon, \"Size \" + size);\n";
+			} else {
+				print $FH $CODE_INDENT, "\tassertEquals(r2, r1, \"Size \" + size);\n";
+			}
+		}
+		print $FH $CODE_INDENT, "\tassertArrayEquals(z2, z1, $epsilon, \"Size \" + size);\n" if $out;
+		print $FH $CODE_INDENT, "}\n";
+		print $FH "\t}\n";
+	}
+	print $FH "}\n";
+}
+
+sub generateHeader {
+	my $FH = shift;
+	print $FH <<__HEADER;
+/*!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!\\
+!! THIS FILE IS GENERATED WITH genDispatcher.pl SCRIPT. DO NOT EDIT! !!
+\\!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!*/
+__HEADER
+	# License header is same as one of VectorImpl.java
+	open(my $lh, '<', $ARGV[1]) or die "Can not read license header\n";
+	while (<$lh>) {
+		print $FH $_;
+		last if /^ \*{10,}\/$/;
+	}
+	close($lh);
+	print $FH "\n";
+}
@@ -30,6 +30,7 @@
 
 import vectorapi.VO;
 import vectorapi.VOVec;
+import vectorapi.VSpecies;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -39,7 +40,6 @@ import org.junit.jupiter.params.provider.MethodSource;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.stream.Stream;
-import jdk.incubator.vector.FloatVector;
 import jdk.incubator.vector.VectorSpecies;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
@@ -52,11 +52,13 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 public class VectorTests {
     private static final float EPSILON = 0.0001f;
     private static final float EPSILON_APPROX = 0.0001f;
+    // FastTrig.atan2() error is up to ~0.002, vectorized version is much closer to exact one
+    private static final float EPSILON_FAST = 0.0025f;
 
     private static final int DATA_SIZE = 65536;
     private static final int MAX_OFFSET = 1;
 
-    private final static VectorSpecies<Float> PFS = FloatVector.SPECIES_PREFERRED;
+    private final static VectorSpecies<Float> PFS = VSpecies.FLOAT;
 
     static Stream<Arguments> params() {
         ArrayList<Arguments> rv = new ArrayList<>();
@@ -81,6 +83,21 @@ public class VectorTests {
         return rv.stream();
     }
 
+    static Stream<Arguments> wrapParams() {
+        ArrayList<Arguments> rv = new ArrayList<>();
+        final int sizes[] = { 1, PFS.length() - 1, PFS.length(), PFS.length() + 1, PFS.length() * 2 + 1, DATA_SIZE, DATA_SIZE + MAX_OFFSET + PFS.length() + 1 };
+        // Offsets are in logical elements and all vectors have same logical length
+        final int offsets[] = { -1, 0, DATA_SIZE + MAX_OFFSET - PFS.length() - 1, DATA_SIZE + MAX_OFFSET - PFS.length() / 2, DATA_SIZE + MAX_OFFSET - 1 };
+        for (int size : sizes)
+            for (int offset : offsets)
+                rv.add(Arguments.of(size, offset));
+        return rv.stream();
+    }
+
+    static Stream<Arguments> wrapOnceParams() {
+        return wrapParams().filter(a -> (Integer)a.get()[0] <= DATA_SIZE + MAX_OFFSET);
+    }
+
     private static float rvx[];
     private static float rvy[];
     private static float rvz[];
@@ -95,6 +112,7 @@ public class VectorTests {
 
     private static float csx[];
     private static float csy[];
+    private static float csz[];
 
     @BeforeAll
     public static void Setup() {
@@ -122,6 +140,7 @@ public class VectorTests {
 
         csx = new float[] { (float)(Math.random() * 2.0 - 1.0), (float)(Math.random() * 2.0 - 1.0) };
         csy = new float[] { (float)(Math.random() * 2.0 - 1.0), (float)(Math.random() * 2.0 - 1.0) };
+        csz = new float[] { (float)(Math.random() * 2.0 - 1.0), (float)(Math.random() * 2.0 - 1.0) };
     }
 
 
@@ -135,6 +154,16 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cs_div_cv_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cs_div_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cs_div_cv_w(cvz1, offset, csx, cvy, offset + 2, size);
+        VOVec.cs_div_cv_w(cvz2, offset, csx, cvy, offset + 2, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cs_sub_cv({0}, {1})")
     @MethodSource("params")
     public void Test_cs_sub_cv(int size, int offset) {
@@ -145,6 +174,16 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cs_sub_cv_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cs_sub_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cs_sub_cv_w(cvz1, offset, csx, cvy, offset + 2, size);
+        VOVec.cs_sub_cv_w(cvz2, offset, csx, cvy, offset + 2, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cv_10log10({0}, {1})")
     @MethodSource("params")
     public void Test_cv_10log10(int size, int offset) {
@@ -165,6 +204,26 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON_APPROX);
     }
 
+    @ParameterizedTest(name = "cv_10log10_rs_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_10log10_rs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_10log10_rs_w(cvz1, offset, cvx, offset + 1, rsy, size);
+        VOVec.cv_10log10_rs_w(cvz2, offset, cvx, offset + 1, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "cv_10log10_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_10log10_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_10log10_w(cvz1, offset, cvx, offset + 1, size);
+        VOVec.cv_10log10_w(cvz2, offset, cvx, offset + 1, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_APPROX);
+    }
+
     @ParameterizedTest(name = "cv_20log10({0}, {1})")
     @MethodSource("params")
     public void Test_cv_20log10(int size, int offset) {
@@ -185,6 +244,26 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON_APPROX);
     }
 
+    @ParameterizedTest(name = "cv_20log10_rs_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_20log10_rs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_20log10_rs_w(cvz1, offset, cvx, offset + 1, rsy, size);
+        VOVec.cv_20log10_rs_w(cvz2, offset, cvx, offset + 1, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "cv_20log10_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_20log10_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_20log10_w(cvz1, offset, cvx, offset + 1, size);
+        VOVec.cv_20log10_w(cvz2, offset, cvx, offset + 1, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_APPROX);
+    }
+
     @ParameterizedTest(name = "cv_abs({0}, {1})")
     @MethodSource("params")
     public void Test_cv_abs(int size, int offset) {
@@ -195,6 +274,16 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cv_abs_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_abs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_abs_w(cvz1, offset, cvx, offset + 1, size);
+        VOVec.cv_abs_w(cvz2, offset, cvx, offset + 1, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cv_add_cs({0}, {1})")
     @MethodSource("params")
     public void Test_cv_add_cs(int size, int offset) {
@@ -216,6 +305,27 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cv_add_cs_iw({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_add_cs_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_add_cs_iw(cvz1, offset, csx, size);
+        VOVec.cv_add_cs_iw(cvz2, offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_cs_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_add_cs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_add_cs_w(cvz1, offset, cvx, offset + 1, csy, size);
+        VOVec.cv_add_cs_w(cvz2, offset, cvx, offset + 1, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cv_add_cv({0}, {1})")
     @MethodSource("params")
     public void Test_cv_add_cv(int size, int offset) {
@@ -237,6 +347,27 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cv_add_cv_iw({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_add_cv_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_add_cv_iw(cvz1, offset, cvx, offset + 1, size);
+        VOVec.cv_add_cv_iw(cvz2, offset, cvx, offset + 1, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_cv_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_add_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_add_cv_w(cvz1, offset, cvx, offset + 1, cvy, offset + 2, size);
+        VOVec.cv_add_cv_w(cvz2, offset, cvx, offset + 1, cvy, offset + 2, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cv_add_rs({0}, {1})")
     @MethodSource("params")
     public void Test_cv_add_rs(int size, int offset) {
@@ -258,6 +389,27 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cv_add_rs_iw({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_add_rs_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_add_rs_iw(cvz1, offset, rsx, size);
+        VOVec.cv_add_rs_iw(cvz2, offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_rs_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_add_rs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_add_rs_w(cvz1, offset, cvx, offset + 1, rsy, size);
+        VOVec.cv_add_rs_w(cvz2, offset, cvx, offset + 1, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cv_add_rv({0}, {1})")
     @MethodSource("params")
     public void Test_cv_add_rv(int size, int offset) {
@@ -279,6 +431,27 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cv_add_rv_iw({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_add_rv_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_add_rv_iw(cvz1, offset, rvx, offset + 1, size);
+        VOVec.cv_add_rv_iw(cvz2, offset, rvx, offset + 1, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_rv_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_add_rv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_add_rv_w(cvz1, offset, cvx, offset + 1, rvy, offset + 2, size);
+        VOVec.cv_add_rv_w(cvz2, offset, cvx, offset + 1, rvy, offset + 2, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cv_arg({0}, {1})")
     @MethodSource("params")
     public void Test_cv_arg(int size, int offset) {
@@ -289,6 +462,36 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cv_arg_f({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_arg_f(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_arg_f(cvz1, 0, cvx, offset, size);
+        VOVec.cv_arg_f(cvz2, 0, cvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST);
+    }
+
+    @ParameterizedTest(name = "cv_arg_fw({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_arg_fw(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_arg_fw(cvz1, offset, cvx, offset + 1, size);
+        VOVec.cv_arg_fw(cvz2, offset, cvx, offset + 1, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST);
+    }
+
+    @ParameterizedTest(name = "cv_arg_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_arg_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_arg_w(cvz1, offset, cvx, offset + 1, size);
+        VOVec.cv_arg_w(cvz2, offset, cvx, offset + 1, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cv_argmul_rs({0}, {1})")
     @MethodSource("params")
     public void Test_cv_argmul_rs(int size, int offset) {
@@ -299,6 +502,36 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cv_argmul_rs_f({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_argmul_rs_f(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_argmul_rs_f(cvz1, 0, cvx, offset, rsy, size);
+        VOVec.cv_argmul_rs_f(cvz2, 0, cvx, offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST);
+    }
+
+    @ParameterizedTest(name = "cv_argmul_rs_fw({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_argmul_rs_fw(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_argmul_rs_fw(cvz1, offset, cvx, offset + 1, rsy, size);
+        VOVec.cv_argmul_rs_fw(cvz2, offset, cvx, offset + 1, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST);
+    }
+
+    @ParameterizedTest(name = "cv_argmul_rs_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_argmul_rs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_argmul_rs_w(cvz1, offset, cvx, offset + 1, rsy, size);
+        VOVec.cv_argmul_rs_w(cvz2, offset, cvx, offset + 1, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cv_conj({0}, {1})")
     @MethodSource("params")
     public void Test_cv_conj(int size, int offset) {
@@ -319,6 +552,26 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cv_conj_iw({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_conj_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VO.cv_conj_iw(cvz1, offset, size);
+        VOVec.cv_conj_iw(cvz2, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_conj_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_conj_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_conj_w(cvz1, offset, cvx, offset + 1, size);
+        VOVec.cv_conj_w(cvz2, offset, cvx, offset + 1, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cv_conjmul_cv({0}, {1})")
     @MethodSource("params")
     public void Test_cv_conjmul_cv(int size, int offset) {
@@ -340,6 +593,27 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cv_conjmul_cv_iw({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_conjmul_cv_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_conjmul_cv_iw(cvz1, offset, cvx, offset + 1, size);
+        VOVec.cv_conjmul_cv_iw(cvz2, offset, cvx, offset + 1, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_conjmul_cv_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_conjmul_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_conjmul_cv_w(cvz1, offset, cvx, offset + 1, cvy, offset + 2, size);
+        VOVec.cv_conjmul_cv_w(cvz2, offset, cvx, offset + 1, cvy, offset + 2, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cv_cpy({0}, {1})")
     @MethodSource("params")
     public void Test_cv_cpy(int size, int offset) {
@@ -350,6 +624,176 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cv_cpy_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_cpy_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_cpy_w(cvz1, offset, cvx, offset + 1, size);
+        VOVec.cv_cpy_w(cvz2, offset, cvx, offset + 1, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_cv_cs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cs_lin_cv_cs(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_cs_lin_cv_cs(cvz1, 0, cvx, offset, csx, cvy, offset, csy, size);
+        VOVec.cv_cs_lin_cv_cs(cvz2, 0, cvx, offset, csx, cvy, offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_cv_cs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cs_lin_cv_cs_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VO.cv_cs_lin_cv_cs_i(cvz1, offset, csz, cvx, offset, csx, size);
+        VOVec.cv_cs_lin_cv_cs_i(cvz2, offset, csz, cvx, offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_cv_cs_iw({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_cs_lin_cv_cs_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VO.cv_cs_lin_cv_cs_iw(cvz1, offset, csz, cvx, offset + 1, csx, size);
+        VOVec.cv_cs_lin_cv_cs_iw(cvz2, offset, csz, cvx, offset + 1, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_cv_cs_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_cs_lin_cv_cs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_cs_lin_cv_cs_w(cvz1, offset, cvx, offset + 1, csx, cvy, offset + 2, csy, size);
+        VOVec.cv_cs_lin_cv_cs_w(cvz2, offset, cvx, offset + 1, csx, cvy, offset + 2, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_cv_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cs_lin_cv_rs(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_cs_lin_cv_rs(cvz1, 0, cvx, offset, csx, cvy, offset, rsy, size);
+        VOVec.cv_cs_lin_cv_rs(cvz2, 0, cvx, offset, csx, cvy, offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_cv_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cs_lin_cv_rs_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VO.cv_cs_lin_cv_rs_i(cvz1, offset, csz, cvx, offset, rsx, size);
+        VOVec.cv_cs_lin_cv_rs_i(cvz2, offset, csz, cvx, offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_cv_rs_iw({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_cs_lin_cv_rs_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VO.cv_cs_lin_cv_rs_iw(cvz1, offset, csz, cvx, offset + 1, rsx, size);
+        VOVec.cv_cs_lin_cv_rs_iw(cvz2, offset, csz, cvx, offset + 1, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_cv_rs_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_cs_lin_cv_rs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_cs_lin_cv_rs_w(cvz1, offset, cvx, offset + 1, csx, cvy, offset + 2, rsy, size);
+        VOVec.cv_cs_lin_cv_rs_w(cvz2, offset, cvx, offset + 1, csx, cvy, offset + 2, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_rv_cs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cs_lin_rv_cs(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_cs_lin_rv_cs(cvz1, 0, cvx, offset, csx, rvy, offset, csy, size);
+        VOVec.cv_cs_lin_rv_cs(cvz2, 0, cvx, offset, csx, rvy, offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_rv_cs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cs_lin_rv_cs_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VO.cv_cs_lin_rv_cs_i(cvz1, offset, csz, rvx, offset, csx, size);
+        VOVec.cv_cs_lin_rv_cs_i(cvz2, offset, csz, rvx, offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_rv_cs_iw({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_cs_lin_rv_cs_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VO.cv_cs_lin_rv_cs_iw(cvz1, offset, csz, rvx, offset + 1, csx, size);
+        VOVec.cv_cs_lin_rv_cs_iw(cvz2, offset, csz, rvx, offset + 1, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_rv_cs_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_cs_lin_rv_cs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_cs_lin_rv_cs_w(cvz1, offset, cvx, offset + 1, csx, rvy, offset + 2, csy, size);
+        VOVec.cv_cs_lin_rv_cs_w(cvz2, offset, cvx, offset + 1, csx, rvy, offset + 2, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_rv_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cs_lin_rv_rs(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_cs_lin_rv_rs(cvz1, 0, cvx, offset, csx, rvy, offset, rsy, size);
+        VOVec.cv_cs_lin_rv_rs(cvz2, 0, cvx, offset, csx, rvy, offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_rv_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cs_lin_rv_rs_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VO.cv_cs_lin_rv_rs_i(cvz1, offset, csz, rvx, offset, rsx, size);
+        VOVec.cv_cs_lin_rv_rs_i(cvz2, offset, csz, rvx, offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_rv_rs_iw({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_cs_lin_rv_rs_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VO.cv_cs_lin_rv_rs_iw(cvz1, offset, csz, rvx, offset + 1, rsx, size);
+        VOVec.cv_cs_lin_rv_rs_iw(cvz2, offset, csz, rvx, offset + 1, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_rv_rs_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_cs_lin_rv_rs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_cs_lin_rv_rs_w(cvz1, offset, cvx, offset + 1, csx, rvy, offset + 2, rsy, size);
+        VOVec.cv_cs_lin_rv_rs_w(cvz2, offset, cvx, offset + 1, csx, rvy, offset + 2, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cv_div_cs({0}, {1})")
     @MethodSource("params")
     public void Test_cv_div_cs(int size, int offset) {
@@ -371,6 +815,27 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cv_div_cs_iw({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_div_cs_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_div_cs_iw(cvz1, offset, csx, size);
+        VOVec.cv_div_cs_iw(cvz2, offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_cs_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_div_cs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_div_cs_w(cvz1, offset, cvx, offset + 1, csy, size);
+        VOVec.cv_div_cs_w(cvz2, offset, cvx, offset + 1, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cv_div_cv({0}, {1})")
     @MethodSource("params")
     public void Test_cv_div_cv(int size, int offset) {
@@ -392,6 +857,27 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cv_div_cv_iw({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_div_cv_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_div_cv_iw(cvz1, offset, cvx, offset + 1, size);
+        VOVec.cv_div_cv_iw(cvz2, offset, cvx, offset + 1, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_cv_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_div_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_div_cv_w(cvz1, offset, cvx, offset + 1, cvy, offset + 2, size);
+        VOVec.cv_div_cv_w(cvz2, offset, cvx, offset + 1, cvy, offset + 2, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cv_div_rs({0}, {1})")
     @MethodSource("params")
     public void Test_cv_div_rs(int size, int offset) {
@@ -413,6 +899,27 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cv_div_rs_iw({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_div_rs_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_div_rs_iw(cvz1, offset, rsx, size);
+        VOVec.cv_div_rs_iw(cvz2, offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_rs_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_div_rs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_div_rs_w(cvz1, offset, cvx, offset + 1, rsy, size);
+        VOVec.cv_div_rs_w(cvz2, offset, cvx, offset + 1, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cv_div_rv({0}, {1})")
     @MethodSource("params")
     public void Test_cv_div_rv(int size, int offset) {
@@ -434,6 +941,27 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cv_div_rv_iw({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_div_rv_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_div_rv_iw(cvz1, offset, rvx, offset + 1, size);
+        VOVec.cv_div_rv_iw(cvz2, offset, rvx, offset + 1, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_rv_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_div_rv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_div_rv_w(cvz1, offset, cvx, offset + 1, rvy, offset + 2, size);
+        VOVec.cv_div_rv_w(cvz2, offset, cvx, offset + 1, rvy, offset + 2, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cv_dot_cv({0}, {1})")
     @MethodSource("params")
     public void Test_cv_dot_cv(int size, int offset) {
@@ -454,6 +982,26 @@ public class VectorTests {
         assertArrayEquals(csz1, csz2, EPSILON * size);
     }
 
+    @ParameterizedTest(name = "cv_dot_cv_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_dot_cv_w(int size, int offset) {
+        float csz1[] = new float[2];
+        float csz2[] = new float[2];
+        VO.cv_dot_cv_w(csz1, cvx, offset + 1, cvy, offset + 2, size);
+        VOVec.cv_dot_cv_w(csz2, cvx, offset + 1, cvy, offset + 2, size);
+        assertArrayEquals(csz1, csz2, EPSILON * size);
+    }
+
+    @ParameterizedTest(name = "cv_dot_cv_w_zoffset({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_dot_cv_w_zoffset(int size, int offset) {
+        float csz1[] = new float[6];
+        float csz2[] = new float[6];
+        VO.cv_dot_cv_w(csz1, 1, cvx, offset + 1, cvy, offset + 2, size);
+        VOVec.cv_dot_cv_w(csz2, 1, cvx, offset + 1, cvy, offset + 2, size);
+        assertArrayEquals(csz1, csz2, EPSILON * size);
+    }
+
     @ParameterizedTest(name = "cv_exp({0}, {1})")
     @MethodSource("params")
     public void Test_cv_exp(int size, int offset) {
@@ -469,8 +1017,28 @@ public class VectorTests {
     public void Test_cv_exp_i(int size, int offset) {
         float cvz1[] = Arrays.copyOf(cvz, cvz.length);
         float cvz2[] = Arrays.copyOf(cvz, cvz.length);
-        VO.cv_exp_i(cvz1, offset, size);
-        VOVec.cv_exp_i(cvz2, offset, size);
+        VO.cv_exp_i(cvz1, offset, size);
+        VOVec.cv_exp_i(cvz2, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_exp_iw({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_exp_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VO.cv_exp_iw(cvz1, offset, size);
+        VOVec.cv_exp_iw(cvz2, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_exp_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_exp_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_exp_w(cvz1, offset, cvx, offset + 1, size);
+        VOVec.cv_exp_w(cvz2, offset, cvx, offset + 1, size);
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
@@ -484,6 +1052,16 @@ public class VectorTests {
         assertArrayEquals(rvz1, rvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cv_im_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_im_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.cv_im_w(rvz1, offset, cvx, offset + 1, size);
+        VOVec.cv_im_w(rvz2, offset, cvx, offset + 1, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cv_max({0}, {1})")
     @MethodSource("params")
     public void Test_cv_max(int size, int offset) {
@@ -515,6 +1093,37 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cv_max_cv_iw({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_max_cv_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_max_cv_iw(cvz1, offset, cvx, offset + 1, size);
+        VOVec.cv_max_cv_iw(cvz2, offset, cvx, offset + 1, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_max_cv_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_max_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_max_cv_w(cvz1, offset, cvx, offset + 1, cvy, offset + 2, size);
+        VOVec.cv_max_cv_w(cvz2, offset, cvx, offset + 1, cvy, offset + 2, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_max_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_max_w(int size, int offset) {
+        float csz1[] = new float[2];
+        float csz2[] = new float[2];
+        VO.cv_max_w(csz1, cvx, offset + 1, size);
+        VOVec.cv_max_w(csz2, cvx, offset + 1, size);
+        assertArrayEquals(csz1, csz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cv_maxarg({0}, {1})")
     @MethodSource("params")
     public void Test_cv_maxarg(int size, int offset) {
@@ -523,6 +1132,14 @@ public class VectorTests {
         assertEquals(intz1, intz2);
     }
 
+    @ParameterizedTest(name = "cv_maxarg_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_maxarg_w(int size, int offset) {
+        int intz1 = VO.cv_maxarg_w(cvx, offset + 1, size);
+        int intz2 = VOVec.cv_maxarg_w(cvx, offset + 1, size);
+        assertEquals(intz1, intz2);
+    }
+
     @ParameterizedTest(name = "cv_min({0}, {1})")
     @MethodSource("params")
     public void Test_cv_min(int size, int offset) {
@@ -554,6 +1171,37 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cv_min_cv_iw({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_min_cv_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_min_cv_iw(cvz1, offset, cvx, offset + 1, size);
+        VOVec.cv_min_cv_iw(cvz2, offset, cvx, offset + 1, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_min_cv_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_min_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_min_cv_w(cvz1, offset, cvx, offset + 1, cvy, offset + 2, size);
+        VOVec.cv_min_cv_w(cvz2, offset, cvx, offset + 1, cvy, offset + 2, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_min_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_min_w(int size, int offset) {
+        float csz1[] = new float[2];
+        float csz2[] = new float[2];
+        VO.cv_min_w(csz1, cvx, offset + 1, size);
+        VOVec.cv_min_w(csz2, cvx, offset + 1, size);
+        assertArrayEquals(csz1, csz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cv_minarg({0}, {1})")
     @MethodSource("params")
     public void Test_cv_minarg(int size, int offset) {
@@ -562,6 +1210,14 @@ public class VectorTests {
         assertEquals(intz1, intz2);
     }
 
+    @ParameterizedTest(name = "cv_minarg_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_minarg_w(int size, int offset) {
+        int intz1 = VO.cv_minarg_w(cvx, offset + 1, size);
+        int intz2 = VOVec.cv_minarg_w(cvx, offset + 1, size);
+        assertEquals(intz1, intz2);
+    }
+
     @ParameterizedTest(name = "cv_mul_cs({0}, {1})")
     @MethodSource("params")
     public void Test_cv_mul_cs(int size, int offset) {
@@ -583,6 +1239,27 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cv_mul_cs_iw({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_mul_cs_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_mul_cs_iw(cvz1, offset, csx, size);
+        VOVec.cv_mul_cs_iw(cvz2, offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_cs_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_mul_cs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_mul_cs_w(cvz1, offset, cvx, offset + 1, csy, size);
+        VOVec.cv_mul_cs_w(cvz2, offset, cvx, offset + 1, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cv_mul_cv({0}, {1})")
     @MethodSource("params")
     public void Test_cv_mul_cv(int size, int offset) {
@@ -604,6 +1281,27 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cv_mul_cv_iw({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_mul_cv_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_mul_cv_iw(cvz1, offset, cvx, offset + 1, size);
+        VOVec.cv_mul_cv_iw(cvz2, offset, cvx, offset + 1, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_cv_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_mul_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_mul_cv_w(cvz1, offset, cvx, offset + 1, cvy, offset + 2, size);
+        VOVec.cv_mul_cv_w(cvz2, offset, cvx, offset + 1, cvy, offset + 2, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cv_mul_rs({0}, {1})")
     @MethodSource("params")
     public void Test_cv_mul_rs(int size, int offset) {
@@ -625,6 +1323,27 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cv_mul_rs_iw({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_mul_rs_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_mul_rs_iw(cvz1, offset, rsx, size);
+        VOVec.cv_mul_rs_iw(cvz2, offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_rs_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_mul_rs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_mul_rs_w(cvz1, offset, cvx, offset + 1, rsy, size);
+        VOVec.cv_mul_rs_w(cvz2, offset, cvx, offset + 1, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cv_mul_rv({0}, {1})")
     @MethodSource("params")
     public void Test_cv_mul_rv(int size, int offset) {
@@ -646,6 +1365,27 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cv_mul_rv_iw({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_mul_rv_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_mul_rv_iw(cvz1, offset, rvx, offset + 1, size);
+        VOVec.cv_mul_rv_iw(cvz2, offset, rvx, offset + 1, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_rv_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_mul_rv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_mul_rv_w(cvz1, offset, cvx, offset + 1, rvy, offset + 2, size);
+        VOVec.cv_mul_rv_w(cvz2, offset, cvx, offset + 1, rvy, offset + 2, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cv_p2r({0}, {1})")
     @MethodSource("params")
     public void Test_cv_p2r(int size, int offset) {
@@ -666,6 +1406,26 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cv_p2r_iw({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_p2r_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VO.cv_p2r_iw(cvz1, offset, size);
+        VOVec.cv_p2r_iw(cvz2, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_p2r_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_p2r_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_p2r_w(cvz1, offset, cvx, offset + 1, size);
+        VOVec.cv_p2r_w(cvz2, offset, cvx, offset + 1, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cv_r2p({0}, {1})")
     @MethodSource("params")
     public void Test_cv_r2p(int size, int offset) {
@@ -676,6 +1436,26 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cv_r2p_f({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_r2p_f(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_r2p_f(cvz1, 0, cvx, offset, size);
+        VOVec.cv_r2p_f(cvz2, 0, cvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST);
+    }
+
+    @ParameterizedTest(name = "cv_r2p_fw({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_r2p_fw(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_r2p_fw(cvz1, offset, cvx, offset + 1, size);
+        VOVec.cv_r2p_fw(cvz2, offset, cvx, offset + 1, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST);
+    }
+
     @ParameterizedTest(name = "cv_r2p_i({0}, {1})")
     @MethodSource("params")
     public void Test_cv_r2p_i(int size, int offset) {
@@ -686,6 +1466,46 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cv_r2p_if({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_r2p_if(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VO.cv_r2p_if(cvz1, offset, size);
+        VOVec.cv_r2p_if(cvz2, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST);
+    }
+
+    @ParameterizedTest(name = "cv_r2p_ifw({0}, {1})")
+    @MethodSource("wrapOnceParams")
+    public void Test_cv_r2p_ifw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VO.cv_r2p_ifw(cvz1, offset, size);
+        VOVec.cv_r2p_ifw(cvz2, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST);
+    }
+
+    @ParameterizedTest(name = "cv_r2p_iw({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_r2p_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VO.cv_r2p_iw(cvz1, offset, size);
+        VOVec.cv_r2p_iw(cvz2, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_r2p_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_r2p_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_r2p_w(cvz1, offset, cvx, offset + 1, size);
+        VOVec.cv_r2p_w(cvz2, offset, cvx, offset + 1, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cv_re({0}, {1})")
     @MethodSource("params")
     public void Test_cv_re(int size, int offset) {
@@ -696,6 +1516,96 @@ public class VectorTests {
         assertArrayEquals(rvz1, rvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cv_re_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_re_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.cv_re_w(rvz1, offset, cvx, offset + 1, size);
+        VOVec.cv_re_w(rvz2, offset, cvx, offset + 1, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_rs_lin_cv_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_rs_lin_cv_rs(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_rs_lin_cv_rs(cvz1, 0, cvx, offset, rsx, cvy, offset, rsy, size);
+        VOVec.cv_rs_lin_cv_rs(cvz2, 0, cvx, offset, rsx, cvy, offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_rs_lin_cv_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_rs_lin_cv_rs_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VO.cv_rs_lin_cv_rs_i(cvz1, offset, rsz, cvx, offset, rsx, size);
+        VOVec.cv_rs_lin_cv_rs_i(cvz2, offset, rsz, cvx, offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_rs_lin_cv_rs_iw({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_rs_lin_cv_rs_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VO.cv_rs_lin_cv_rs_iw(cvz1, offset, rsz, cvx, offset + 1, rsx, size);
+        VOVec.cv_rs_lin_cv_rs_iw(cvz2, offset, rsz, cvx, offset + 1, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_rs_lin_cv_rs_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_rs_lin_cv_rs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_rs_lin_cv_rs_w(cvz1, offset, cvx, offset + 1, rsx, cvy, offset + 2, rsy, size);
+        VOVec.cv_rs_lin_cv_rs_w(cvz2, offset, cvx, offset + 1, rsx, cvy, offset + 2, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_rs_lin_rv_cs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_rs_lin_rv_cs(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_rs_lin_rv_cs(cvz1, 0, cvx, offset, rsx, rvy, offset, csy, size);
+        VOVec.cv_rs_lin_rv_cs(cvz2, 0, cvx, offset, rsx, rvy, offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_rs_lin_rv_cs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_rs_lin_rv_cs_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VO.cv_rs_lin_rv_cs_i(cvz1, offset, rsz, rvx, offset, csx, size);
+        VOVec.cv_rs_lin_rv_cs_i(cvz2, offset, rsz, rvx, offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_rs_lin_rv_cs_iw({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_rs_lin_rv_cs_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VO.cv_rs_lin_rv_cs_iw(cvz1, offset, rsz, rvx, offset + 1, csx, size);
+        VOVec.cv_rs_lin_rv_cs_iw(cvz2, offset, rsz, rvx, offset + 1, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_rs_lin_rv_cs_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_rs_lin_rv_cs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_rs_lin_rv_cs_w(cvz1, offset, cvx, offset + 1, rsx, rvy, offset + 2, csy, size);
+        VOVec.cv_rs_lin_rv_cs_w(cvz2, offset, cvx, offset + 1, rsx, rvy, offset + 2, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cv_rs_lin_rv_rs({0}, {1})")
     @MethodSource("params")
     public void Test_cv_rs_lin_rv_rs(int size, int offset) {
@@ -713,7 +1623,27 @@ public class VectorTests {
         float cvz2[] = Arrays.copyOf(cvz, cvz.length);
         VO.cv_rs_lin_rv_rs_i(cvz1, offset, rsz, rvx, offset, rsx, size);
         VOVec.cv_rs_lin_rv_rs_i(cvz2, offset, rsz, rvx, offset, rsx, size);
-        assertArrayEquals(cvz2, cvz2, EPSILON);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_rs_lin_rv_rs_iw({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_rs_lin_rv_rs_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VO.cv_rs_lin_rv_rs_iw(cvz1, offset, rsz, rvx, offset + 1, rsx, size);
+        VOVec.cv_rs_lin_rv_rs_iw(cvz2, offset, rsz, rvx, offset + 1, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_rs_lin_rv_rs_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_rs_lin_rv_rs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_rs_lin_rv_rs_w(cvz1, offset, cvx, offset + 1, rsx, rvy, offset + 2, rsy, size);
+        VOVec.cv_rs_lin_rv_rs_w(cvz2, offset, cvx, offset + 1, rsx, rvy, offset + 2, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
     @ParameterizedTest(name = "cv_sub_cs({0}, {1})")
@@ -737,6 +1667,27 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cv_sub_cs_iw({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_sub_cs_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_sub_cs_iw(cvz1, offset, csx, size);
+        VOVec.cv_sub_cs_iw(cvz2, offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_cs_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_sub_cs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_sub_cs_w(cvz1, offset, cvx, offset + 1, csy, size);
+        VOVec.cv_sub_cs_w(cvz2, offset, cvx, offset + 1, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cv_sub_cv({0}, {1})")
     @MethodSource("params")
     public void Test_cv_sub_cv(int size, int offset) {
@@ -758,6 +1709,27 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cv_sub_cv_iw({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_sub_cv_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_sub_cv_iw(cvz1, offset, cvx, offset + 1, size);
+        VOVec.cv_sub_cv_iw(cvz2, offset, cvx, offset + 1, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_cv_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_sub_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_sub_cv_w(cvz1, offset, cvx, offset + 1, cvy, offset + 2, size);
+        VOVec.cv_sub_cv_w(cvz2, offset, cvx, offset + 1, cvy, offset + 2, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cv_sub_rs({0}, {1})")
     @MethodSource("params")
     public void Test_cv_sub_rs(int size, int offset) {
@@ -779,6 +1751,27 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cv_sub_rs_iw({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_sub_rs_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_sub_rs_iw(cvz1, offset, rsx, size);
+        VOVec.cv_sub_rs_iw(cvz2, offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_rs_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_sub_rs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_sub_rs_w(cvz1, offset, cvx, offset + 1, rsy, size);
+        VOVec.cv_sub_rs_w(cvz2, offset, cvx, offset + 1, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cv_sub_rv({0}, {1})")
     @MethodSource("params")
     public void Test_cv_sub_rv(int size, int offset) {
@@ -800,6 +1793,27 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cv_sub_rv_iw({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_sub_rv_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_sub_rv_iw(cvz1, offset, rvx, offset + 1, size);
+        VOVec.cv_sub_rv_iw(cvz2, offset, rvx, offset + 1, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_rv_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_sub_rv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_sub_rv_w(cvz1, offset, cvx, offset + 1, rvy, offset + 2, size);
+        VOVec.cv_sub_rv_w(cvz2, offset, cvx, offset + 1, rvy, offset + 2, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cv_sum({0}, {1})")
     @MethodSource("params")
     public void Test_cv_sum(int size, int offset) {
@@ -810,6 +1824,16 @@ public class VectorTests {
         assertArrayEquals(csz1, csz2, EPSILON * size);
     }
 
+    @ParameterizedTest(name = "cv_sum_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_cv_sum_w(int size, int offset) {
+        float csz1[] = new float[2];
+        float csz2[] = new float[2];
+        VO.cv_sum_w(csz1, cvx, offset + 1, size);
+        VOVec.cv_sum_w(csz2, cvx, offset + 1, size);
+        assertArrayEquals(csz1, csz2, EPSILON * size);
+    }
+
     @ParameterizedTest(name = "rs_div_cv({0}, {1})")
     @MethodSource("params")
     public void Test_rs_div_cv(int size, int offset) {
@@ -820,6 +1844,16 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "rs_div_cv_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rs_div_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.rs_div_cv_w(cvz1, offset, rsx, cvy, offset + 2, size);
+        VOVec.rs_div_cv_w(cvz2, offset, rsx, cvy, offset + 2, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "rs_div_rv({0}, {1})")
     @MethodSource("params")
     public void Test_rs_div_rv(int size, int offset) {
@@ -830,6 +1864,16 @@ public class VectorTests {
         assertArrayEquals(rvz1, rvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "rs_div_rv_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rs_div_rv_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rs_div_rv_w(rvz1, offset, rsx, rvy, offset + 2, size);
+        VOVec.rs_div_rv_w(rvz2, offset, rsx, rvy, offset + 2, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "rs_sub_cv({0}, {1})")
     @MethodSource("params")
     public void Test_rs_sub_cv(int size, int offset) {
@@ -840,6 +1884,16 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "rs_sub_cv_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rs_sub_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.rs_sub_cv_w(cvz1, offset, rsx, cvy, offset + 2, size);
+        VOVec.rs_sub_cv_w(cvz2, offset, rsx, cvy, offset + 2, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "rs_sub_rv({0}, {1})")
     @MethodSource("params")
     public void Test_rs_sub_rv(int size, int offset) {
@@ -850,6 +1904,16 @@ public class VectorTests {
         assertArrayEquals(rvz1, rvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "rs_sub_rv_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rs_sub_rv_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rs_sub_rv_w(rvz1, offset, rsx, rvy, offset + 2, size);
+        VOVec.rs_sub_rv_w(rvz2, offset, rsx, rvy, offset + 2, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "rv_10log10({0}, {1})")
     @MethodSource("params")
     public void Test_rv_10log10(int size, int offset) {
@@ -870,6 +1934,16 @@ public class VectorTests {
         assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
     }
 
+    @ParameterizedTest(name = "rv_10log10_iw({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rv_10log10_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+        VO.rv_10log10_iw(rvz1, offset, size);
+        VOVec.rv_10log10_iw(rvz2, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
     @ParameterizedTest(name = "rv_10log10_rs({0}, {1})")
     @MethodSource("params")
     public void Test_rv_10log10_rs(int size, int offset) {
@@ -891,6 +1965,37 @@ public class VectorTests {
         assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
     }
 
+    @ParameterizedTest(name = "rv_10log10_rs_iw({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rv_10log10_rs_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VO.rv_10log10_rs_iw(rvz1, offset, rsx, size);
+        VOVec.rv_10log10_rs_iw(rvz2, offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_rs_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rv_10log10_rs_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_10log10_rs_w(rvz1, offset, rvx, offset + 1, rsy, size);
+        VOVec.rv_10log10_rs_w(rvz2, offset, rvx, offset + 1, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rv_10log10_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_10log10_w(rvz1, offset, rvx, offset + 1, size);
+        VOVec.rv_10log10_w(rvz2, offset, rvx, offset + 1, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
     @ParameterizedTest(name = "rv_20log10({0}, {1})")
     @MethodSource("params")
     public void Test_rv_20log10(int size, int offset) {
@@ -911,6 +2016,16 @@ public class VectorTests {
         assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
     }
 
+    @ParameterizedTest(name = "rv_20log10_iw({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rv_20log10_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+        VO.rv_20log10_iw(rvz1, offset, size);
+        VOVec.rv_20log10_iw(rvz2, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
     @ParameterizedTest(name = "rv_20log10_rs({0}, {1})")
     @MethodSource("params")
     public void Test_rv_20log10_rs(int size, int offset) {
@@ -932,6 +2047,37 @@ public class VectorTests {
         assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
     }
 
+    @ParameterizedTest(name = "rv_20log10_rs_iw({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rv_20log10_rs_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VO.rv_20log10_rs_iw(rvz1, offset, rsx, size);
+        VOVec.rv_20log10_rs_iw(rvz2, offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_20log10_rs_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rv_20log10_rs_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_20log10_rs_w(rvz1, offset, rvx, offset + 1, rsy, size);
+        VOVec.rv_20log10_rs_w(rvz2, offset, rvx, offset + 1, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_20log10_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rv_20log10_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_20log10_w(rvz1, offset, rvx, offset + 1, size);
+        VOVec.rv_20log10_w(rvz2, offset, rvx, offset + 1, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
     @ParameterizedTest(name = "rv_abs({0}, {1})")
     @MethodSource("params")
     public void Test_rv_abs(int size, int offset) {
@@ -952,6 +2098,26 @@ public class VectorTests {
         assertArrayEquals(rvz1, rvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "rv_abs_iw({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rv_abs_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+        VO.rv_abs_iw(rvz1, offset, size);
+        VOVec.rv_abs_iw(rvz2, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_abs_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rv_abs_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_abs_w(rvz1, offset, rvx, offset + 1, size);
+        VOVec.rv_abs_w(rvz2, offset, rvx, offset + 1, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "rv_add_rs({0}, {1})")
     @MethodSource("params")
     public void Test_rv_add_rs(int size, int offset) {
@@ -973,6 +2139,27 @@ public class VectorTests {
         assertArrayEquals(rvz1, rvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "rv_add_rs_iw({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rv_add_rs_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VO.rv_add_rs_iw(rvz1, offset, rsx, size);
+        VOVec.rv_add_rs_iw(rvz2, offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_add_rs_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rv_add_rs_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_add_rs_w(rvz1, offset, rvx, offset + 1, rsy, size);
+        VOVec.rv_add_rs_w(rvz2, offset, rvx, offset + 1, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "rv_add_rv({0}, {1})")
     @MethodSource("params")
     public void Test_rv_add_rv(int size, int offset) {
@@ -994,6 +2181,27 @@ public class VectorTests {
         assertArrayEquals(rvz1, rvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "rv_add_rv_iw({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rv_add_rv_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VO.rv_add_rv_iw(rvz1, offset, rvx, offset + 1, size);
+        VOVec.rv_add_rv_iw(rvz2, offset, rvx, offset + 1, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_add_rv_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rv_add_rv_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_add_rv_w(rvz1, offset, rvx, offset + 1, rvy, offset + 2, size);
+        VOVec.rv_add_rv_w(rvz2, offset, rvx, offset + 1, rvy, offset + 2, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "rv_conjmul_cv({0}, {1})")
     @MethodSource("params")
     public void Test_rv_conjmul_cv(int size, int offset) {
@@ -1004,6 +2212,16 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "rv_conjmul_cv_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rv_conjmul_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.rv_conjmul_cv_w(cvz1, offset, rvx, offset + 1, cvy, offset + 2, size);
+        VOVec.rv_conjmul_cv_w(cvz2, offset, rvx, offset + 1, cvy, offset + 2, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "rv_cpy({0}, {1})")
     @MethodSource("params")
     public void Test_rv_cpy(int size, int offset) {
@@ -1014,6 +2232,16 @@ public class VectorTests {
         assertArrayEquals(rvz1, rvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "rv_cpy_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rv_cpy_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_cpy_w(rvz1, offset, rvx, offset + 1, size);
+        VOVec.rv_cpy_w(rvz2, offset, rvx, offset + 1, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "rv_cs_lin_rv_cs({0}, {1})")
     @MethodSource("params")
     public void Test_rv_cs_lin_rv_cs(int size, int offset) {
@@ -1024,6 +2252,16 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "rv_cs_lin_rv_cs_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rv_cs_lin_rv_cs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.rv_cs_lin_rv_cs_w(cvz1, offset, rvx, offset + 1, csx, rvy, offset + 2, csy, size);
+        VOVec.rv_cs_lin_rv_cs_w(cvz2, offset, rvx, offset + 1, csx, rvy, offset + 2, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "rv_cvt({0}, {1})")
     @MethodSource("params")
     public void Test_rv_cvt(int size, int offset) {
@@ -1034,6 +2272,16 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "rv_cvt_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rv_cvt_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.rv_cvt_w(cvz1, offset, rvx, offset + 1, size);
+        VOVec.rv_cvt_w(cvz2, offset, rvx, offset + 1, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "rv_div_cv({0}, {1})")
     @MethodSource("params")
     public void Test_rv_div_cv(int size, int offset) {
@@ -1044,6 +2292,16 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "rv_div_cv_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rv_div_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.rv_div_cv_w(cvz1, offset, rvx, offset + 1, cvy, offset + 2, size);
+        VOVec.rv_div_cv_w(cvz2, offset, rvx, offset + 1, cvy, offset + 2, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "rv_div_rs({0}, {1})")
     @MethodSource("params")
     public void Test_rv_div_rs(int size, int offset) {
@@ -1065,6 +2323,27 @@ public class VectorTests {
         assertArrayEquals(rvz1, rvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "rv_div_rs_iw({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rv_div_rs_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VO.rv_div_rs_iw(rvz1, offset, rsx, size);
+        VOVec.rv_div_rs_iw(rvz2, offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_div_rs_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rv_div_rs_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_div_rs_w(rvz1, offset, rvx, offset + 1, rsy, size);
+        VOVec.rv_div_rs_w(rvz2, offset, rvx, offset + 1, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "rv_div_rv({0}, {1})")
     @MethodSource("params")
     public void Test_rv_div_rv(int size, int offset) {
@@ -1086,6 +2365,27 @@ public class VectorTests {
         assertArrayEquals(rvz1, rvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "rv_div_rv_iw({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rv_div_rv_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VO.rv_div_rv_iw(rvz1, offset, rvx, offset + 1, size);
+        VOVec.rv_div_rv_iw(rvz2, offset, rvx, offset + 1, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_div_rv_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rv_div_rv_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_div_rv_w(rvz1, offset, rvx, offset + 1, rvy, offset + 2, size);
+        VOVec.rv_div_rv_w(rvz2, offset, rvx, offset + 1, rvy, offset + 2, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "rv_dot_cv({0}, {1})")
     @MethodSource("params")
     public void Test_rv_dot_cv(int size, int offset) {
@@ -1106,6 +2406,26 @@ public class VectorTests {
         assertArrayEquals(csz1, csz2, EPSILON * size);
     }
 
+    @ParameterizedTest(name = "rv_dot_cv_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rv_dot_cv_w(int size, int offset) {
+        float csz1[] = new float[2];
+        float csz2[] = new float[2];
+        VO.rv_dot_cv_w(csz1, rvx, offset + 1, cvy, offset + 2, size);
+        VOVec.rv_dot_cv_w(csz2, rvx, offset + 1, cvy, offset + 2, size);
+        assertArrayEquals(csz1, csz2, EPSILON * size);
+    }
+
+    @ParameterizedTest(name = "rv_dot_cv_w_zoffset({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rv_dot_cv_w_zoffset(int size, int offset) {
+        float csz1[] = new float[6];
+        float csz2[] = new float[6];
+        VO.rv_dot_cv_w(csz1, 1, rvx, offset + 1, cvy, offset + 2, size);
+        VOVec.rv_dot_cv_w(csz2, 1, rvx, offset + 1, cvy, offset + 2, size);
+        assertArrayEquals(csz1, csz2, EPSILON * size);
+    }
+
     @ParameterizedTest(name = "rv_dot_rv({0}, {1})")
     @MethodSource("params")
     public void Test_rv_dot_rv(int size, int offset) {
@@ -1114,6 +2434,14 @@ public class VectorTests {
         assertEquals(rsz1, rsz2, EPSILON * size);
     }
 
+    @ParameterizedTest(name = "rv_dot_rv_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rv_dot_rv_w(int size, int offset) {
+        float rsz1 = VO.rv_dot_rv_w(rvx, offset + 1, rvy, offset + 2, size);
+        float rsz2 = VOVec.rv_dot_rv_w(rvx, offset + 1, rvy, offset + 2, size);
+        assertEquals(rsz1, rsz2, EPSILON * size);
+    }
+
     @ParameterizedTest(name = "rv_exp({0}, {1})")
     @MethodSource("params")
     public void Test_rv_exp(int size, int offset) {
@@ -1134,6 +2462,26 @@ public class VectorTests {
         assertArrayEquals(rvz1, rvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "rv_exp_iw({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rv_exp_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+        VO.rv_exp_iw(rvz1, offset, size);
+        VOVec.rv_exp_iw(rvz2, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_exp_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rv_exp_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_exp_w(rvz1, offset, rvx, offset + 1, size);
+        VOVec.rv_exp_w(rvz2, offset, rvx, offset + 1, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "rv_expi({0}, {1})")
     @MethodSource("params")
     public void Test_rv_expi(int size, int offset) {
@@ -1144,6 +2492,16 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "rv_expi_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rv_expi_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.rv_expi_w(cvz1, offset, rvx, offset + 1, size);
+        VOVec.rv_expi_w(cvz2, offset, rvx, offset + 1, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "rv_max({0}, {1})")
     @MethodSource("params")
     public void Test_rv_max(int size, int offset) {
@@ -1173,6 +2531,35 @@ public class VectorTests {
         assertArrayEquals(rvz1, rvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "rv_max_rv_iw({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rv_max_rv_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VO.rv_max_rv_iw(rvz1, offset, rvx, offset + 1, size);
+        VOVec.rv_max_rv_iw(rvz2, offset, rvx, offset + 1, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_max_rv_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rv_max_rv_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_max_rv_w(rvz1, offset, rvx, offset + 1, rvy, offset + 2, size);
+        VOVec.rv_max_rv_w(rvz2, offset, rvx, offset + 1, rvy, offset + 2, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_max_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rv_max_w(int size, int offset) {
+        float rsz1 = VO.rv_max_w(rvx, offset + 1, size);
+        float rsz2 = VOVec.rv_max_w(rvx, offset + 1, size);
+        assertEquals(rsz1, rsz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "rv_maxarg({0}, {1})")
     @MethodSource("params")
     public void Test_rv_maxarg(int size, int offset) {
@@ -1181,6 +2568,14 @@ public class VectorTests {
         assertEquals(intz1, intz2);
     }
 
+    @ParameterizedTest(name = "rv_maxarg_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rv_maxarg_w(int size, int offset) {
+        int intz1 = VO.rv_maxarg_w(rvx, offset + 1, size);
+        int intz2 = VOVec.rv_maxarg_w(rvx, offset + 1, size);
+        assertEquals(intz1, intz2);
+    }
+
     @ParameterizedTest(name = "rv_min({0}, {1})")
     @MethodSource("params")
     public void Test_rv_min(int size, int offset) {
@@ -1210,6 +2605,35 @@ public class VectorTests {
         assertArrayEquals(rvz1, rvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "rv_min_rv_iw({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rv_min_rv_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VO.rv_min_rv_iw(rvz1, offset, rvx, offset + 1, size);
+        VOVec.rv_min_rv_iw(rvz2, offset, rvx, offset + 1, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_min_rv_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rv_min_rv_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_min_rv_w(rvz1, offset, rvx, offset + 1, rvy, offset + 2, size);
+        VOVec.rv_min_rv_w(rvz2, offset, rvx, offset + 1, rvy, offset + 2, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_min_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rv_min_w(int size, int offset) {
+        float rsz1 = VO.rv_min_w(rvx, offset + 1, size);
+        float rsz2 = VOVec.rv_min_w(rvx, offset + 1, size);
+        assertEquals(rsz1, rsz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "rv_minarg({0}, {1})")
     @MethodSource("params")
     public void Test_rv_minarg(int size, int offset) {
@@ -1218,6 +2642,14 @@ public class VectorTests {
         assertEquals(intz1, intz2);
     }
 
+    @ParameterizedTest(name = "rv_minarg_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rv_minarg_w(int size, int offset) {
+        int intz1 = VO.rv_minarg_w(rvx, offset + 1, size);
+        int intz2 = VOVec.rv_minarg_w(rvx, offset + 1, size);
+        assertEquals(intz1, intz2);
+    }
+
     @ParameterizedTest(name = "rv_mul_rs({0}, {1})")
     @MethodSource("params")
     public void Test_rv_mul_rs(int size, int offset) {
@@ -1239,6 +2671,27 @@ public class VectorTests {
         assertArrayEquals(rvz1, rvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "rv_mul_rs_iw({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rv_mul_rs_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VO.rv_mul_rs_iw(rvz1, offset, rsx, size);
+        VOVec.rv_mul_rs_iw(rvz2, offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_mul_rs_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rv_mul_rs_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_mul_rs_w(rvz1, offset, rvx, offset + 1, rsy, size);
+        VOVec.rv_mul_rs_w(rvz2, offset, rvx, offset + 1, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "rv_mul_rv({0}, {1})")
     @MethodSource("params")
     public void Test_rv_mul_rv(int size, int offset) {
@@ -1260,6 +2713,27 @@ public class VectorTests {
         assertArrayEquals(rvz1, rvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "rv_mul_rv_iw({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rv_mul_rv_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VO.rv_mul_rv_iw(rvz1, offset, rvx, offset + 1, size);
+        VOVec.rv_mul_rv_iw(rvz2, offset, rvx, offset + 1, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_mul_rv_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rv_mul_rv_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_mul_rv_w(rvz1, offset, rvx, offset + 1, rvy, offset + 2, size);
+        VOVec.rv_mul_rv_w(rvz2, offset, rvx, offset + 1, rvy, offset + 2, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "rv_rs_lin_rv_cs({0}, {1})")
     @MethodSource("params")
     public void Test_rv_rs_lin_rv_cs(int size, int offset) {
@@ -1270,6 +2744,16 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "rv_rs_lin_rv_cs_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rv_rs_lin_rv_cs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.rv_rs_lin_rv_cs_w(cvz1, offset, rvx, offset + 1, rsx, rvy, offset + 2, csy, size);
+        VOVec.rv_rs_lin_rv_cs_w(cvz2, offset, rvx, offset + 1, rsx, rvy, offset + 2, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "rv_rs_lin_rv_rs({0}, {1})")
     @MethodSource("params")
     public void Test_rv_rs_lin_rv_rs(int size, int offset) {
@@ -1287,7 +2771,27 @@ public class VectorTests {
         float rvz2[] = Arrays.copyOf(rvz, rvz.length);
         VO.rv_rs_lin_rv_rs_i(rvz1, offset, rsz, rvx, offset, rsx, size);
         VOVec.rv_rs_lin_rv_rs_i(rvz2, offset, rsz, rvx, offset, rsx, size);
-        assertArrayEquals(rvz2, rvz2, EPSILON);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_rs_lin_rv_rs_iw({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rv_rs_lin_rv_rs_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+        VO.rv_rs_lin_rv_rs_iw(rvz1, offset, rsz, rvx, offset + 1, rsx, size);
+        VOVec.rv_rs_lin_rv_rs_iw(rvz2, offset, rsz, rvx, offset + 1, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_rs_lin_rv_rs_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rv_rs_lin_rv_rs_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_rs_lin_rv_rs_w(rvz1, offset, rvx, offset + 1, rsx, rvy, offset + 2, rsy, size);
+        VOVec.rv_rs_lin_rv_rs_w(rvz2, offset, rvx, offset + 1, rsx, rvy, offset + 2, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
     }
 
     @ParameterizedTest(name = "rv_sub_cv({0}, {1})")
@@ -1300,6 +2804,16 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "rv_sub_cv_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rv_sub_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.rv_sub_cv_w(cvz1, offset, rvx, offset + 1, cvy, offset + 2, size);
+        VOVec.rv_sub_cv_w(cvz2, offset, rvx, offset + 1, cvy, offset + 2, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "rv_sub_rs({0}, {1})")
     @MethodSource("params")
     public void Test_rv_sub_rs(int size, int offset) {
@@ -1321,6 +2835,27 @@ public class VectorTests {
         assertArrayEquals(rvz1, rvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "rv_sub_rs_iw({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rv_sub_rs_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VO.rv_sub_rs_iw(rvz1, offset, rsx, size);
+        VOVec.rv_sub_rs_iw(rvz2, offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_sub_rs_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rv_sub_rs_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_sub_rs_w(rvz1, offset, rvx, offset + 1, rsy, size);
+        VOVec.rv_sub_rs_w(rvz2, offset, rvx, offset + 1, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "rv_sub_rv({0}, {1})")
     @MethodSource("params")
     public void Test_rv_sub_rv(int size, int offset) {
@@ -1342,6 +2877,27 @@ public class VectorTests {
         assertArrayEquals(rvz1, rvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "rv_sub_rv_iw({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rv_sub_rv_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VO.rv_sub_rv_iw(rvz1, offset, rvx, offset + 1, size);
+        VOVec.rv_sub_rv_iw(rvz2, offset, rvx, offset + 1, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_sub_rv_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rv_sub_rv_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_sub_rv_w(rvz1, offset, rvx, offset + 1, rvy, offset + 2, size);
+        VOVec.rv_sub_rv_w(rvz2, offset, rvx, offset + 1, rvy, offset + 2, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "rv_sum({0}, {1})")
     @MethodSource("params")
     public void Test_rv_sum(int size, int offset) {
@@ -1349,4 +2905,12 @@ public class VectorTests {
         float rsz2 = VOVec.rv_sum(rvx, offset, size);
         assertEquals(rsz1, rsz2, EPSILON * size);
     }
+
+    @ParameterizedTest(name = "rv_sum_w({0}, {1})")
+    @MethodSource("wrapParams")
+    public void Test_rv_sum_w(int size, int offset) {
+        float rsz1 = VO.rv_sum_w(rvx, offset + 1, size);
+        float rsz2 = VOVec.rv_sum_w(rvx, offset + 1, size);
+        assertEquals(rsz1, rsz2, EPSILON * size);
+    }
 }
\ No newline at end of file
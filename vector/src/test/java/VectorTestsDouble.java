@@ -0,0 +1,687 @@
+/*!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!\
+!! THIS FILE IS GENERATED WITH genTests.pl SCRIPT. DO NOT EDIT! !!
+\!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!*/
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+import vectorapi.VOd;
+import vectorapi.VOVecd;
+import vectorapi.VSpecies;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.stream.Stream;
+import jdk.incubator.vector.VectorSpecies;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration, WeakerAccess
+ */
+public class VectorTestsDouble {
+    private static final double EPSILON = 1.0e-10;
+    private static final double EPSILON_APPROX = 1.0e-10;
+    // FastTrig.atan2() error is up to ~0.002, vectorized version is much closer to exact one
+    private static final double EPSILON_FAST = 0.0025;
+
+    private static final int DATA_SIZE = 65536;
+    private static final int MAX_OFFSET = 1;
+
+    private final static VectorSpecies<Double> PFS = VSpecies.DOUBLE;
+
+    static Stream<Arguments> params() {
+        ArrayList<Arguments> rv = new ArrayList<>();
+        rv.add(Arguments.of(1, 0));
+        rv.add(Arguments.of(1, 1));
+        rv.add(Arguments.of(PFS.length() / 2 - 1, 0));
+        rv.add(Arguments.of(PFS.length() / 2 - 1, 1));
+        rv.add(Arguments.of(PFS.length() / 2, 0));
+        rv.add(Arguments.of(PFS.length() / 2, 1));
+        rv.add(Arguments.of(PFS.length() - 1, 0));
+        rv.add(Arguments.of(PFS.length() - 1, 1));
+        rv.add(Arguments.of(PFS.length(), 0));
+        rv.add(Arguments.of(PFS.length(), 1));
+        rv.add(Arguments.of(PFS.length() + 1, 0));
+        rv.add(Arguments.of(PFS.length() + 1, 1));
+        rv.add(Arguments.of(PFS.length() * 2, 0));
+        rv.add(Arguments.of(PFS.length() * 2, 1));
+        rv.add(Arguments.of(PFS.length() * 2 + 1, 0));
+        rv.add(Arguments.of(PFS.length() * 2 + 1, 1));
+        rv.add(Arguments.of(DATA_SIZE, 0));
+        rv.add(Arguments.of(DATA_SIZE, 1));
+        return rv.stream();
+    }
+
+    static Stream<Arguments> wrapParams() {
+        ArrayList<Arguments> rv = new ArrayList<>();
+        final int sizes[] = { 1, PFS.length() - 1, PFS.length(), PFS.length() + 1, PFS.length() * 2 + 1, DATA_SIZE, DATA_SIZE + MAX_OFFSET + PFS.length() + 1 };
+        // Offsets are in logical elements and all vectors have same logical length
+        final int offsets[] = { -1, 0, DATA_SIZE + MAX_OFFSET - PFS.length() - 1, DATA_SIZE + MAX_OFFSET - PFS.length() / 2, DATA_SIZE + MAX_OFFSET - 1 };
+        for (int size : sizes)
+            for (int offset : offsets)
+                rv.add(Arguments.of(size, offset));
+        return rv.stream();
+    }
+
+    static Stream<Arguments> wrapOnceParams() {
+        return wrapParams().filter(a -> (Integer)a.get()[0] <= DATA_SIZE + MAX_OFFSET);
+    }
+
+    private static double rvx[];
+    private static double rvy[];
+    private static double rvz[];
+
+    private static double cvx[];
+    private static double cvy[];
+    private static double cvz[];
+
+    private static double rsx;
+    private static double rsy;
+    private static double rsz;
+
+    private static double csx[];
+    private static double csy[];
+    private static double csz[];
+
+    @BeforeAll
+    public static void Setup() {
+        rvx = new double[DATA_SIZE + MAX_OFFSET];
+        rvy = new double[DATA_SIZE + MAX_OFFSET];
+        rvz = new double[DATA_SIZE + MAX_OFFSET];
+        for (int i = 0; i < rvx.length; i++) {
+            rvx[i] = Math.random() * 2.0 - 1.0;
+            rvy[i] = Math.random() * 2.0 - 1.0;
+            rvz[i] = Math.random() * 2.0 - 1.0;
+        }
+
+        cvx = new double[(DATA_SIZE + MAX_OFFSET) * 2];
+        cvy = new double[(DATA_SIZE + MAX_OFFSET) * 2];
+        cvz = new double[(DATA_SIZE + MAX_OFFSET) * 2];
+        for (int i = 0; i < cvx.length; i++) {
+            cvx[i] = Math.random() * 2.0 - 1.0;
+            cvy[i] = Math.random() * 2.0 - 1.0;
+            cvz[i] = Math.random() * 2.0 - 1.0;
+        }
+
+        rsx = Math.random() * 2.0 - 1.0;
+        rsy = Math.random() * 2.0 - 1.0;
+        rsz = Math.random() * 2.0 - 1.0;
+
+        csx = new double[] { Math.random() * 2.0 - 1.0, Math.random() * 2.0 - 1.0 };
+        csy = new double[] { Math.random() * 2.0 - 1.0, Math.random() * 2.0 - 1.0 };
+        csz = new double[] { Math.random() * 2.0 - 1.0, Math.random() * 2.0 - 1.0 };
+    }
+
+
+    @ParameterizedTest(name = "cv_10log10({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_10log10(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_10log10(cvz1, 0, cvx, offset, size);
+        VOVecd.cv_10log10(cvz2, 0, cvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "cv_abs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_abs(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_abs(cvz1, 0, cvx, offset, size);
+        VOVecd.cv_abs(cvz2, 0, cvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_cs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_cs(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_add_cs(cvz1, 0, cvx, offset, csy, size);
+        VOVecd.cv_add_cs(cvz2, 0, cvx, offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_cs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_cs_i(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOd.cv_add_cs_i(cvz1, offset, csx, size);
+        VOVecd.cv_add_cs_i(cvz2, offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_cv(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_add_cv(cvz1, 0, cvx, offset, cvy, offset, size);
+        VOVecd.cv_add_cv(cvz2, 0, cvx, offset, cvy, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_cv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_cv_i(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOd.cv_add_cv_i(cvz1, offset, cvx, offset, size);
+        VOVecd.cv_add_cv_i(cvz2, offset, cvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_conj({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_conj(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_conj(cvz1, 0, cvx, offset, size);
+        VOVecd.cv_conj(cvz2, 0, cvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_conj_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_conj_i(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOd.cv_conj_i(cvz1, offset, size);
+        VOVecd.cv_conj_i(cvz2, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_conjmul_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_conjmul_cv(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_conjmul_cv(cvz1, 0, cvx, offset, cvy, offset, size);
+        VOVecd.cv_conjmul_cv(cvz2, 0, cvx, offset, cvy, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_conjmul_cv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_conjmul_cv_i(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOd.cv_conjmul_cv_i(cvz1, offset, cvx, offset, size);
+        VOVecd.cv_conjmul_cv_i(cvz2, offset, cvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cpy({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cpy(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_cpy(cvz1, 0, cvx, offset, size);
+        VOVecd.cv_cpy(cvz2, 0, cvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_cv_cs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cs_lin_cv_cs(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_cs_lin_cv_cs(cvz1, 0, cvx, offset, csx, cvy, offset, csy, size);
+        VOVecd.cv_cs_lin_cv_cs(cvz2, 0, cvx, offset, csx, cvy, offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_cv_cs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cs_lin_cv_cs_i(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOd.cv_cs_lin_cv_cs_i(cvz1, offset, csz, cvx, offset, csx, size);
+        VOVecd.cv_cs_lin_cv_cs_i(cvz2, offset, csz, cvx, offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_dot_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_dot_cv(int size, int offset) {
+        double csz1[] = new double[2];
+        double csz2[] = new double[2];
+        VOd.cv_dot_cv(csz1, cvx, offset, cvy, offset, size);
+        VOVecd.cv_dot_cv(csz2, cvx, offset, cvy, offset, size);
+        assertArrayEquals(csz1, csz2, EPSILON * size);
+    }
+
+    @ParameterizedTest(name = "cv_dot_cv_zoffset({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_dot_cv_zoffset(int size, int offset) {
+        double csz1[] = new double[6];
+        double csz2[] = new double[6];
+        VOd.cv_dot_cv(csz1, 1, cvx, offset, cvy, offset, size);
+        VOVecd.cv_dot_cv(csz2, 1, cvx, offset, cvy, offset, size);
+        assertArrayEquals(csz1, csz2, EPSILON * size);
+    }
+
+    @ParameterizedTest(name = "cv_im({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_im(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.cv_im(rvz1, 0, cvx, offset, size);
+        VOVecd.cv_im(rvz2, 0, cvx, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_cs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_cs(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_mul_cs(cvz1, 0, cvx, offset, csy, size);
+        VOVecd.cv_mul_cs(cvz2, 0, cvx, offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_cs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_cs_i(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOd.cv_mul_cs_i(cvz1, offset, csx, size);
+        VOVecd.cv_mul_cs_i(cvz2, offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_cv(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_mul_cv(cvz1, 0, cvx, offset, cvy, offset, size);
+        VOVecd.cv_mul_cv(cvz2, 0, cvx, offset, cvy, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_cv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_cv_i(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOd.cv_mul_cv_i(cvz1, offset, cvx, offset, size);
+        VOVecd.cv_mul_cv_i(cvz2, offset, cvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_rs(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_mul_rs(cvz1, 0, cvx, offset, rsy, size);
+        VOVecd.cv_mul_rs(cvz2, 0, cvx, offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_rs_i(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOd.cv_mul_rs_i(cvz1, offset, rsx, size);
+        VOVecd.cv_mul_rs_i(cvz2, offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_rv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_rv(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_mul_rv(cvz1, 0, cvx, offset, rvy, offset, size);
+        VOVecd.cv_mul_rv(cvz2, 0, cvx, offset, rvy, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_rv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_rv_i(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOd.cv_mul_rv_i(cvz1, offset, rvx, offset, size);
+        VOVecd.cv_mul_rv_i(cvz2, offset, rvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_re({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_re(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.cv_re(rvz1, 0, cvx, offset, size);
+        VOVecd.cv_re(rvz2, 0, cvx, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_cs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_cs(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_sub_cs(cvz1, 0, cvx, offset, csy, size);
+        VOVecd.cv_sub_cs(cvz2, 0, cvx, offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_cs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_cs_i(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOd.cv_sub_cs_i(cvz1, offset, csx, size);
+        VOVecd.cv_sub_cs_i(cvz2, offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_cv(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_sub_cv(cvz1, 0, cvx, offset, cvy, offset, size);
+        VOVecd.cv_sub_cv(cvz2, 0, cvx, offset, cvy, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_cv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_cv_i(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOd.cv_sub_cv_i(cvz1, offset, cvx, offset, size);
+        VOVecd.cv_sub_cv_i(cvz2, offset, cvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sum({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sum(int size, int offset) {
+        double csz1[] = new double[2];
+        double csz2[] = new double[2];
+        VOd.cv_sum(csz1, cvx, offset, size);
+        VOVecd.cv_sum(csz2, cvx, offset, size);
+        assertArrayEquals(csz1, csz2, EPSILON * size);
+    }
+
+    @ParameterizedTest(name = "rv_10log10({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rv_10log10(rvz1, 0, rvx, offset, size);
+        VOVecd.rv_10log10(rvz2, 0, rvx, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_abs({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_abs(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rv_abs(rvz1, 0, rvx, offset, size);
+        VOVecd.rv_abs(rvz2, 0, rvx, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_abs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_abs_i(int size, int offset) {
+        double rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        double rvz2[] = Arrays.copyOf(rvz, rvz.length);
+        VOd.rv_abs_i(rvz1, offset, size);
+        VOVecd.rv_abs_i(rvz2, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_add_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_add_rs(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rv_add_rs(rvz1, 0, rvx, offset, rsy, size);
+        VOVecd.rv_add_rs(rvz2, 0, rvx, offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_add_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_add_rs_i(int size, int offset) {
+        double rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        double rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOd.rv_add_rs_i(rvz1, offset, rsx, size);
+        VOVecd.rv_add_rs_i(rvz2, offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_add_rv({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_add_rv(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rv_add_rv(rvz1, 0, rvx, offset, rvy, offset, size);
+        VOVecd.rv_add_rv(rvz2, 0, rvx, offset, rvy, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_add_rv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_add_rv_i(int size, int offset) {
+        double rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        double rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOd.rv_add_rv_i(rvz1, offset, rvx, offset, size);
+        VOVecd.rv_add_rv_i(rvz2, offset, rvx, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_cpy({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_cpy(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rv_cpy(rvz1, 0, rvx, offset, size);
+        VOVecd.rv_cpy(rvz2, 0, rvx, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_cvt({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_cvt(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.rv_cvt(cvz1, 0, rvx, offset, size);
+        VOVecd.rv_cvt(cvz2, 0, rvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_dot_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_dot_cv(int size, int offset) {
+        double csz1[] = new double[2];
+        double csz2[] = new double[2];
+        VOd.rv_dot_cv(csz1, rvx, offset, cvy, offset, size);
+        VOVecd.rv_dot_cv(csz2, rvx, offset, cvy, offset, size);
+        assertArrayEquals(csz1, csz2, EPSILON * size);
+    }
+
+    @ParameterizedTest(name = "rv_dot_cv_zoffset({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_dot_cv_zoffset(int size, int offset) {
+        double csz1[] = new double[6];
+        double csz2[] = new double[6];
+        VOd.rv_dot_cv(csz1, 1, rvx, offset, cvy, offset, size);
+        VOVecd.rv_dot_cv(csz2, 1, rvx, offset, cvy, offset, size);
+        assertArrayEquals(csz1, csz2, EPSILON * size);
+    }
+
+    @ParameterizedTest(name = "rv_dot_rv({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_dot_rv(int size, int offset) {
+        double rsz1 = VOd.rv_dot_rv(rvx, offset, rvy, offset, size);
+        double rsz2 = VOVecd.rv_dot_rv(rvx, offset, rvy, offset, size);
+        assertEquals(rsz1, rsz2, EPSILON * size);
+    }
+
+    @ParameterizedTest(name = "rv_mul_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_mul_rs(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rv_mul_rs(rvz1, 0, rvx, offset, rsy, size);
+        VOVecd.rv_mul_rs(rvz2, 0, rvx, offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_mul_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_mul_rs_i(int size, int offset) {
+        double rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        double rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOd.rv_mul_rs_i(rvz1, offset, rsx, size);
+        VOVecd.rv_mul_rs_i(rvz2, offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_mul_rv({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_mul_rv(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rv_mul_rv(rvz1, 0, rvx, offset, rvy, offset, size);
+        VOVecd.rv_mul_rv(rvz2, 0, rvx, offset, rvy, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_mul_rv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_mul_rv_i(int size, int offset) {
+        double rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        double rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOd.rv_mul_rv_i(rvz1, offset, rvx, offset, size);
+        VOVecd.rv_mul_rv_i(rvz2, offset, rvx, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_rs_lin_rv_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_rs_lin_rv_rs(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rv_rs_lin_rv_rs(rvz1, 0, rvx, offset, rsx, rvy, offset, rsy, size);
+        VOVecd.rv_rs_lin_rv_rs(rvz2, 0, rvx, offset, rsx, rvy, offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_rs_lin_rv_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_rs_lin_rv_rs_i(int size, int offset) {
+        double rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        double rvz2[] = Arrays.copyOf(rvz, rvz.length);
+        VOd.rv_rs_lin_rv_rs_i(rvz1, offset, rsz, rvx, offset, rsx, size);
+        VOVecd.rv_rs_lin_rv_rs_i(rvz2, offset, rsz, rvx, offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_sub_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sub_rs(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rv_sub_rs(rvz1, 0, rvx, offset, rsy, size);
+        VOVecd.rv_sub_rs(rvz2, 0, rvx, offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_sub_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sub_rs_i(int size, int offset) {
+        double rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        double rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOd.rv_sub_rs_i(rvz1, offset, rsx, size);
+        VOVecd.rv_sub_rs_i(rvz2, offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_sub_rv({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sub_rv(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rv_sub_rv(rvz1, 0, rvx, offset, rvy, offset, size);
+        VOVecd.rv_sub_rv(rvz2, 0, rvx, offset, rvy, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_sub_rv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sub_rv_i(int size, int offset) {
+        double rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        double rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOd.rv_sub_rv_i(rvz1, offset, rvx, offset, size);
+        VOVecd.rv_sub_rv_i(rvz2, offset, rvx, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_sum({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sum(int size, int offset) {
+        double rsz1 = VOd.rv_sum(rvx, offset, size);
+        double rsz2 = VOVecd.rv_sum(rvx, offset, size);
+        assertEquals(rsz1, rsz2, EPSILON * size);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,68 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi;
+
+import java.util.Random;
+
+/**
+ * Reproducible random inputs shared by tests.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration
+ */
+public final class TestData {
+	private TestData() {
+	}
+
+	/**
+	 * Returns {@code size} floats uniformly distributed in {@code [-1, 1)}.
+	 */
+	public static float[] random(int size, long seed) {
+		final Random r = new Random(seed);
+		final float x[] = new float[size];
+		for (int i = 0; i < x.length; i++)
+			x[i] = r.nextFloat() * 2.0f - 1.0f;
+		return x;
+	}
+
+	/**
+	 * Returns {@code size / 2} complex numbers with magnitude uniformly distributed in {@code [0, 1)}
+	 * and uniformly distributed phase, packed as re/im pairs.
+	 */
+	public static float[] randomComplex(int size, long seed) {
+		final Random r = new Random(seed);
+		final float x[] = new float[size];
+		for (int i = 0; i < size; i += 2) {
+			final double m = r.nextDouble();
+			final double a = r.nextDouble() * 2.0 * Math.PI;
+			x[i + 0] = (float)(m * Math.cos(a));
+			x[i + 1] = (float)(m * Math.sin(a));
+		}
+		return x;
+	}
+}
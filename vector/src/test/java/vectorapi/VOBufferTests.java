@@ -0,0 +1,280 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Buffers are allocated with exact size, so any access past last element fails.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration, WeakerAccess
+ */
+public class VOBufferTests {
+	private static final float EPSILON = 0.0001f;
+	private static final int DATA_SIZE = 8192;
+	private static final int MAX_OFFSET = 3;
+	private static final int SIZES[] = { 1, 3, 7, 8, 15, 16, 17, 63, 64, 65, 257, 4097, DATA_SIZE };
+
+	private static float x[];
+	private static float y[];
+	private static float r[];
+
+	@BeforeAll
+	public static void Setup() {
+		Random rnd = new Random(42);
+		x = new float[(DATA_SIZE + MAX_OFFSET) * 2];
+		y = new float[(DATA_SIZE + MAX_OFFSET) * 2];
+		r = new float[DATA_SIZE + MAX_OFFSET];
+		for (int i = 0; i < x.length; i++) {
+			x[i] = rnd.nextFloat() * 2.0f - 1.0f;
+			y[i] = rnd.nextFloat() * 2.0f - 1.0f;
+		}
+		for (int i = 0; i < r.length; i++)
+			r[i] = rnd.nextFloat() * 2.0f - 1.0f;
+	}
+
+	public static Stream<Arguments> params() {
+		return IntStream.of(SIZES).boxed().flatMap(size ->
+			IntStream.rangeClosed(0, MAX_OFFSET).mapToObj(offset -> Arguments.of(size, offset)));
+	}
+
+	@ParameterizedTest(name = "rv_add_rv({0}, {1})")
+	@MethodSource("params")
+	public void Test_rv_add_rv(int size, int offset) {
+		final float z1[] = new float[offset + size];
+		final ByteBuffer z2 = buffer(offset + size);
+		VO.rv_add_rv(z1, offset, x, offset, y, offset, size);
+		VOBuffer.rv_add_rv(z2, offset, buffer(x, offset + size), offset, buffer(y, offset + size), offset, size);
+		assertArrayEquals(z1, floats(z2), EPSILON);
+
+		final ByteBuffer z3 = buffer(x, offset + size);
+		VOBuffer.rv_add_rv_i(z3, offset, buffer(y, offset + size), offset, size);
+		check(z1, z3, offset, size);
+	}
+
+	@ParameterizedTest(name = "rv_sub_rv({0}, {1})")
+	@MethodSource("params")
+	public void Test_rv_sub_rv(int size, int offset) {
+		final float z1[] = new float[offset + size];
+		final ByteBuffer z2 = buffer(offset + size);
+		VO.rv_sub_rv(z1, offset, x, offset, y, offset, size);
+		VOBuffer.rv_sub_rv(z2, offset, buffer(x, offset + size), offset, buffer(y, offset + size), offset, size);
+		assertArrayEquals(z1, floats(z2), EPSILON);
+
+		final ByteBuffer z3 = buffer(x, offset + size);
+		VOBuffer.rv_sub_rv_i(z3, offset, buffer(y, offset + size), offset, size);
+		check(z1, z3, offset, size);
+	}
+
+	@ParameterizedTest(name = "rv_mul_rv({0}, {1})")
+	@MethodSource("params")
+	public void Test_rv_mul_rv(int size, int offset) {
+		final float z1[] = new float[offset + size];
+		final ByteBuffer z2 = buffer(offset + size);
+		VO.rv_mul_rv(z1, offset, x, offset, y, offset, size);
+		VOBuffer.rv_mul_rv(z2, offset, buffer(x, offset + size), offset, buffer(y, offset + size), offset, size);
+		assertArrayEquals(z1, floats(z2), EPSILON);
+
+		final ByteBuffer z3 = buffer(x, offset + size);
+		VOBuffer.rv_mul_rv_i(z3, offset, buffer(y, offset + size), offset, size);
+		check(z1, z3, offset, size);
+	}
+
+	@ParameterizedTest(name = "rv_mul_rs({0}, {1})")
+	@MethodSource("params")
+	public void Test_rv_mul_rs(int size, int offset) {
+		final float z1[] = new float[offset + size];
+		final ByteBuffer z2 = buffer(offset + size);
+		VO.rv_mul_rs(z1, offset, x, offset, 0.75f, size);
+		VOBuffer.rv_mul_rs(z2, offset, buffer(x, offset + size), offset, 0.75f, size);
+		assertArrayEquals(z1, floats(z2), EPSILON);
+
+		final ByteBuffer z3 = buffer(x, offset + size);
+		VOBuffer.rv_mul_rs_i(z3, offset, 0.75f, size);
+		check(z1, z3, offset, size);
+	}
+
+	@ParameterizedTest(name = "rv_sum({0}, {1})")
+	@MethodSource("params")
+	public void Test_rv_sum(int size, int offset) {
+		assertEquals(VO.rv_sum(x, offset, size), VOBuffer.rv_sum(buffer(x, offset + size), offset, size), EPSILON * size);
+	}
+
+	@ParameterizedTest(name = "rv_dot_rv({0}, {1})")
+	@MethodSource("params")
+	public void Test_rv_dot_rv(int size, int offset) {
+		assertEquals(VO.rv_dot_rv(x, offset, y, offset, size),
+			VOBuffer.rv_dot_rv(buffer(x, offset + size), offset, buffer(y, offset + size), offset, size), EPSILON * size);
+	}
+
+	@ParameterizedTest(name = "cv_mul_cv({0}, {1})")
+	@MethodSource("params")
+	public void Test_cv_mul_cv(int size, int offset) {
+		final float z1[] = new float[(offset + size) * 2];
+		final ByteBuffer z2 = buffer((offset + size) * 2);
+		VO.cv_mul_cv(z1, offset, x, offset, y, offset, size);
+		VOBuffer.cv_mul_cv(z2, offset, buffer(x, (offset + size) * 2), offset, buffer(y, (offset + size) * 2), offset, size);
+		assertArrayEquals(z1, floats(z2), EPSILON);
+
+		final ByteBuffer z3 = buffer(x, (offset + size) * 2);
+		VOBuffer.cv_mul_cv_i(z3, offset, buffer(y, (offset + size) * 2), offset, size);
+		check(z1, z3, offset * 2, size * 2);
+	}
+
+	@ParameterizedTest(name = "cv_conjmul_cv({0}, {1})")
+	@MethodSource("params")
+	public void Test_cv_conjmul_cv(int size, int offset) {
+		final float z1[] = new float[(offset + size) * 2];
+		final ByteBuffer z2 = buffer((offset + size) * 2);
+		VO.cv_conjmul_cv(z1, offset, x, offset, y, offset, size);
+		VOBuffer.cv_conjmul_cv(z2, offset, buffer(x, (offset + size) * 2), offset, buffer(y, (offset + size) * 2), offset, size);
+		assertArrayEquals(z1, floats(z2), EPSILON);
+
+		final ByteBuffer z3 = buffer(x, (offset + size) * 2);
+		VOBuffer.cv_conjmul_cv_i(z3, offset, buffer(y, (offset + size) * 2), offset, size);
+		check(z1, z3, offset * 2, size * 2);
+	}
+
+	@ParameterizedTest(name = "cv_mul_rv({0}, {1})")
+	@MethodSource("params")
+	public void Test_cv_mul_rv(int size, int offset) {
+		final float z1[] = new float[(offset + size) * 2];
+		final ByteBuffer z2 = buffer((offset + size) * 2);
+		VO.cv_mul_rv(z1, offset, x, offset, r, offset, size);
+		VOBuffer.cv_mul_rv(z2, offset, buffer(x, (offset + size) * 2), offset, buffer(r, offset + size), offset, size);
+		assertArrayEquals(z1, floats(z2), EPSILON);
+
+		final ByteBuffer z3 = buffer(x, (offset + size) * 2);
+		VOBuffer.cv_mul_rv_i(z3, offset, buffer(r, offset + size), offset, size);
+		check(z1, z3, offset * 2, size * 2);
+	}
+
+	@ParameterizedTest(name = "cv_abs({0}, {1})")
+	@MethodSource("params")
+	public void Test_cv_abs(int size, int offset) {
+		final float z1[] = new float[offset + size];
+		final ByteBuffer z2 = buffer(offset + size);
+		VO.cv_abs(z1, offset, x, offset, size);
+		VOBuffer.cv_abs(z2, offset, buffer(x, (offset + size) * 2), offset, size);
+		assertArrayEquals(z1, floats(z2), EPSILON);
+	}
+
+	@ParameterizedTest(name = "cv_10log10({0}, {1})")
+	@MethodSource("params")
+	public void Test_cv_10log10(int size, int offset) {
+		final float z1[] = new float[offset + size];
+		final ByteBuffer z2 = buffer(offset + size);
+		VO.cv_10log10(z1, offset, x, offset, size);
+		VOBuffer.cv_10log10(z2, offset, buffer(x, (offset + size) * 2), offset, size);
+		assertArrayEquals(z1, floats(z2), EPSILON * 10.0f);
+	}
+
+	@ParameterizedTest(name = "cv_dot_cv({0}, {1})")
+	@MethodSource("params")
+	public void Test_cv_dot_cv(int size, int offset) {
+		final float z1[] = new float[(MAX_OFFSET + 1) * 2];
+		final float z2[] = new float[(MAX_OFFSET + 1) * 2];
+		VO.cv_dot_cv(z1, offset, x, offset, y, offset, size);
+		VOBuffer.cv_dot_cv(z2, offset, buffer(x, (offset + size) * 2), offset, buffer(y, (offset + size) * 2), offset, size);
+		assertArrayEquals(z1, z2, EPSILON * size);
+	}
+
+	@ParameterizedTest(name = "aligned({0})")
+	@ValueSource(ints = { 0, 1, 2, 3, 4, 5, 7, 8, 9, 15, 16, 17 })
+	public void Test_aligned(int offset) {
+		final int size = 1000;
+		final ByteBuffer bx = VAlign.allocate((offset + size) * 2);
+		final ByteBuffer by = VAlign.allocate((offset + size) * 2);
+		final ByteBuffer bz = VAlign.allocate((offset + size) * 2);
+		assertEquals(0, bx.alignmentOffset(0, VAlign.ALIGNMENT));
+		assertTrue(VAlign.isAligned(bx, 0));
+		assertEquals((offset + size) * 2 * Float.BYTES, bx.capacity());
+		bx.asFloatBuffer().put(x, 0, (offset + size) * 2);
+		by.asFloatBuffer().put(y, 0, (offset + size) * 2);
+
+		final float z[] = new float[(offset + size) * 2];
+		VO.rv_mul_rv(z, offset, x, offset, y, offset, size);
+		VOBuffer.rv_mul_rv(bz, offset, bx, offset, by, offset, size);
+		check(z, bz, offset, size);
+		assertEquals(VO.rv_dot_rv(x, offset, y, offset, size), VOBuffer.rv_dot_rv(bx, offset, by, offset, size), EPSILON * size);
+
+		VO.cv_mul_cv(z, offset, x, offset, y, offset, size);
+		VOBuffer.cv_mul_cv(bz, offset, bx, offset, by, offset, size);
+		check(z, bz, offset * 2, size * 2);
+
+		final float d1[] = new float[2];
+		final float d2[] = new float[2];
+		VO.cv_dot_cv(d1, x, offset, y, offset, size);
+		VOBuffer.cv_dot_cv(d2, bx, offset, by, offset, size);
+		assertArrayEquals(d1, d2, EPSILON * size);
+	}
+
+	@Test
+	public void Test_heap_alignment() {
+		// Heap buffers have no stable address, alignment could not be checked
+		assertFalse(VAlign.isAligned(ByteBuffer.allocate(VAlign.ALIGNMENT * 2), 0));
+		assertFalse(VAlign.isAligned(ByteBuffer.allocate(VAlign.ALIGNMENT * 2).order(ByteOrder.nativeOrder()), 1));
+	}
+
+	private static ByteBuffer buffer(int size) {
+		return ByteBuffer.allocateDirect(size * Float.BYTES).order(ByteOrder.nativeOrder());
+	}
+
+	private static ByteBuffer buffer(float x[], int size) {
+		final ByteBuffer z = buffer(size);
+		z.asFloatBuffer().put(x, 0, size);
+		return z;
+	}
+
+	private static float[] floats(ByteBuffer x) {
+		final float z[] = new float[x.capacity() / Float.BYTES];
+		x.asFloatBuffer().get(z);
+		return z;
+	}
+
+	private static void check(float expected[], ByteBuffer z, int offset, int size) {
+		for (int i = offset; i < offset + size; i++)
+			assertEquals(expected[i], z.getFloat(i * Float.BYTES), EPSILON, "Element " + i);
+	}
+}
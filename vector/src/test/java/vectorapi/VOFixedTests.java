@@ -0,0 +1,204 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration, WeakerAccess
+ */
+public class VOFixedTests {
+	private static final float EPSILON = 0.00001f;
+	private static final int DATA_SIZE = 4096;
+	private static final int MAX_OFFSET = 3;
+	private static final int SIZES[] = { 1, 3, 7, 8, 15, 16, 17, 31, 32, 33, 63, 64, 65, 257, DATA_SIZE };
+	private static final float SCALE16 = 1.0f / 32768.0f;
+	private static final float SCALE8 = 1.0f / 128.0f;
+	private static final float DC[] = { 3.5f, -1.25f };
+
+	private static short i16[];
+	private static byte i8[];
+	private static float cv[];
+
+	@BeforeAll
+	public static void Setup() {
+		Random rnd = new Random(42);
+		i16 = new short[(DATA_SIZE + MAX_OFFSET) * 2];
+		i8 = new byte[(DATA_SIZE + MAX_OFFSET) * 2];
+		cv = new float[(DATA_SIZE + MAX_OFFSET) * 2];
+		for (int i = 0; i < i16.length; i++) {
+			i16[i] = (short)rnd.nextInt(65536);
+			i8[i] = (byte)rnd.nextInt(256);
+			// Some values are out of range of int16 after scaling
+			cv[i] = rnd.nextFloat() * 2.5f - 1.25f;
+		}
+		// Extremes and rounding of halves
+		i16[0] = Short.MIN_VALUE;
+		i16[1] = Short.MAX_VALUE;
+		i8[0] = Byte.MIN_VALUE;
+		i8[1] = Byte.MAX_VALUE;
+		cv[0] = 0.5f / 32767.0f;
+		cv[1] = -0.5f / 32767.0f;
+		cv[2] = 1.5f / 32767.0f;
+		cv[3] = -2.5f / 32767.0f;
+	}
+
+	public static Stream<Arguments> params() {
+		return IntStream.of(SIZES).boxed().flatMap(size ->
+			IntStream.rangeClosed(0, MAX_OFFSET).mapToObj(offset -> Arguments.of(size, offset)));
+	}
+
+	@ParameterizedTest(name = "i16_to_cv({0}, {1})")
+	@MethodSource("params")
+	public void Test_i16_to_cv(int size, int offset) {
+		final float z[] = new float[(size + MAX_OFFSET) * 2];
+		VOFixed.i16_to_cv(z, MAX_OFFSET - offset, i16, offset, SCALE16, DC, size);
+		for (int i = 0; i < size * 2; i++)
+			assertEquals((i16[offset * 2 + i] - DC[i % 2]) * SCALE16, z[(MAX_OFFSET - offset) * 2 + i], EPSILON, "Element " + i);
+
+		final float zb[] = new float[(size + MAX_OFFSET) * 2];
+		VOFixed.i16_to_cv(zb, MAX_OFFSET - offset, buffer(i16, (offset + size) * 2), offset, SCALE16, DC, size);
+		assertArrayEquals(z, zb, EPSILON);
+	}
+
+	@ParameterizedTest(name = "i16_to_rv({0}, {1})")
+	@MethodSource("params")
+	public void Test_i16_to_rv(int size, int offset) {
+		final float z[] = new float[size + MAX_OFFSET];
+		VOFixed.i16_to_rv(z, MAX_OFFSET - offset, i16, offset, SCALE16, DC[0], size);
+		for (int i = 0; i < size; i++)
+			assertEquals((i16[offset + i] - DC[0]) * SCALE16, z[MAX_OFFSET - offset + i], EPSILON, "Element " + i);
+
+		final float zb[] = new float[size + MAX_OFFSET];
+		VOFixed.i16_to_rv(zb, MAX_OFFSET - offset, buffer(i16, offset + size), offset, SCALE16, DC[0], size);
+		assertArrayEquals(z, zb, EPSILON);
+	}
+
+	@ParameterizedTest(name = "i8_to_cv({0}, {1})")
+	@MethodSource("params")
+	public void Test_i8_to_cv(int size, int offset) {
+		final float z[] = new float[(size + MAX_OFFSET) * 2];
+		VOFixed.i8_to_cv(z, MAX_OFFSET - offset, i8, offset, SCALE8, DC, size);
+		for (int i = 0; i < size * 2; i++)
+			assertEquals((i8[offset * 2 + i] - DC[i % 2]) * SCALE8, z[(MAX_OFFSET - offset) * 2 + i], EPSILON, "Element " + i);
+
+		final float zb[] = new float[(size + MAX_OFFSET) * 2];
+		VOFixed.i8_to_cv(zb, MAX_OFFSET - offset, buffer(i8, (offset + size) * 2), offset, SCALE8, DC, size);
+		assertArrayEquals(z, zb, EPSILON);
+	}
+
+	@ParameterizedTest(name = "i8_to_rv({0}, {1})")
+	@MethodSource("params")
+	public void Test_i8_to_rv(int size, int offset) {
+		final float z[] = new float[size + MAX_OFFSET];
+		VOFixed.i8_to_rv(z, MAX_OFFSET - offset, i8, offset, SCALE8, DC[1], size);
+		for (int i = 0; i < size; i++)
+			assertEquals((i8[offset + i] - DC[1]) * SCALE8, z[MAX_OFFSET - offset + i], EPSILON, "Element " + i);
+
+		final float zb[] = new float[size + MAX_OFFSET];
+		VOFixed.i8_to_rv(zb, MAX_OFFSET - offset, buffer(i8, offset + size), offset, SCALE8, DC[1], size);
+		assertArrayEquals(z, zb, EPSILON);
+	}
+
+	@ParameterizedTest(name = "cv_to_i16({0}, {1})")
+	@MethodSource("params")
+	public void Test_cv_to_i16(int size, int offset) {
+		final short z[] = new short[(size + MAX_OFFSET) * 2];
+		VOFixed.cv_to_i16(z, MAX_OFFSET - offset, cv, offset, 32767.0f, size);
+		for (int i = 0; i < size * 2; i++)
+			assertEquals(i16(cv[offset * 2 + i] * 32767.0f), z[(MAX_OFFSET - offset) * 2 + i], "Element " + i);
+
+		final ByteBuffer zb = ByteBuffer.allocateDirect((size + MAX_OFFSET) * 2 * Short.BYTES).order(ByteOrder.nativeOrder());
+		VOFixed.cv_to_i16(zb, MAX_OFFSET - offset, cv, offset, 32767.0f, size);
+		for (int i = 0; i < z.length; i++)
+			assertEquals(z[i], zb.getShort(i * Short.BYTES), "Element " + i);
+	}
+
+	@ParameterizedTest(name = "rv_to_i16({0}, {1})")
+	@MethodSource("params")
+	public void Test_rv_to_i16(int size, int offset) {
+		final short z[] = new short[size + MAX_OFFSET];
+		VOFixed.rv_to_i16(z, MAX_OFFSET - offset, cv, offset, 32767.0f, size);
+		for (int i = 0; i < size; i++)
+			assertEquals(i16(cv[offset + i] * 32767.0f), z[MAX_OFFSET - offset + i], "Element " + i);
+
+		final ByteBuffer zb = ByteBuffer.allocateDirect((size + MAX_OFFSET) * Short.BYTES).order(ByteOrder.nativeOrder());
+		VOFixed.rv_to_i16(zb, MAX_OFFSET - offset, cv, offset, 32767.0f, size);
+		for (int i = 0; i < z.length; i++)
+			assertEquals(z[i], zb.getShort(i * Short.BYTES), "Element " + i);
+	}
+
+	@Test
+	public void Test_round() {
+		// Largest float below half is rounded up by x + 0.5f, odd count checks tail too
+		final float halves[] = { 0.49999997f, -0.49999997f, 0.5f, -0.5f, 1.4999999f, -1.4999999f, 2.5f, -2.5f, 32766.5f, -32767.5f, 1e6f, -1e6f, 0.0f };
+		final float x[] = new float[halves.length * 5];
+		for (int i = 0; i < x.length; i++)
+			x[i] = halves[i % halves.length];
+
+		final short z[] = new short[x.length];
+		VOFixed.rv_to_i16(z, 0, x, 0, 1.0f, x.length);
+		for (int i = 0; i < x.length; i++)
+			assertEquals(i16(x[i]), z[i], "Element " + i + " (" + x[i] + ")");
+
+		final ByteBuffer zb = ByteBuffer.allocateDirect(x.length * Short.BYTES).order(ByteOrder.nativeOrder());
+		VOFixed.rv_to_i16(zb, 0, x, 0, 1.0f, x.length);
+		for (int i = 0; i < x.length; i++)
+			assertEquals(z[i], zb.getShort(i * Short.BYTES), "Element " + i);
+	}
+
+	// Reference rounding: half away from zero, with saturation
+	private static short i16(float x) {
+		return (short)Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, Math.round(Math.abs(x)) * (int)Math.signum(x)));
+	}
+
+	private static ByteBuffer buffer(short x[], int size) {
+		final ByteBuffer z = ByteBuffer.allocateDirect(size * Short.BYTES).order(ByteOrder.nativeOrder());
+		z.asShortBuffer().put(x, 0, size);
+		return z;
+	}
+
+	private static ByteBuffer buffer(byte x[], int size) {
+		final ByteBuffer z = ByteBuffer.allocateDirect(size);
+		z.put(x, 0, size);
+		return z;
+	}
+}
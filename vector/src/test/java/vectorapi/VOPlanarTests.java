@@ -0,0 +1,313 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration, WeakerAccess
+ */
+public class VOPlanarTests {
+	private static final float EPSILON = 0.0001f;
+	private static final int DATA_SIZE = 8192;
+	private static final int MAX_OFFSET = 3;
+	private static final int SIZES[] = { 1, 3, 7, 8, 15, 16, 17, 63, 64, 65, 257, 4097, DATA_SIZE };
+
+	private static float x[];
+	private static float y[];
+	private static float r[];
+	private static float xre[];
+	private static float xim[];
+	private static float yre[];
+	private static float yim[];
+	private static final float cs[] = { 0.75f, -0.5f };
+
+	@BeforeAll
+	public static void Setup() {
+		Random rnd = new Random(42);
+		x = new float[(DATA_SIZE + MAX_OFFSET) * 2];
+		y = new float[(DATA_SIZE + MAX_OFFSET) * 2];
+		r = new float[DATA_SIZE + MAX_OFFSET];
+		for (int i = 0; i < x.length; i++) {
+			x[i] = rnd.nextFloat() * 2.0f - 1.0f;
+			y[i] = rnd.nextFloat() * 2.0f - 1.0f;
+		}
+		for (int i = 0; i < r.length; i++)
+			r[i] = rnd.nextFloat() * 2.0f - 1.0f;
+		xre = re(x);
+		xim = im(x);
+		yre = re(y);
+		yim = im(y);
+	}
+
+	public static Stream<Arguments> params() {
+		return IntStream.of(SIZES).boxed().flatMap(size ->
+			IntStream.rangeClosed(0, MAX_OFFSET).mapToObj(offset -> Arguments.of(size, offset)));
+	}
+
+	@ParameterizedTest(name = "cv_deinterleave({0}, {1})")
+	@MethodSource("params")
+	public void Test_cv_deinterleave(int size, int offset) {
+		final float zre[] = new float[size + MAX_OFFSET];
+		final float zim[] = new float[size + MAX_OFFSET];
+		VOPlanar.cv_deinterleave(zre, zim, MAX_OFFSET - offset, x, offset, size);
+		for (int i = 0; i < size; i++) {
+			assertEquals(x[(offset + i) * 2 + 0], zre[MAX_OFFSET - offset + i], "Re " + i);
+			assertEquals(x[(offset + i) * 2 + 1], zim[MAX_OFFSET - offset + i], "Im " + i);
+		}
+	}
+
+	@ParameterizedTest(name = "pv_interleave({0}, {1})")
+	@MethodSource("params")
+	public void Test_pv_interleave(int size, int offset) {
+		final float z[] = new float[(size + MAX_OFFSET) * 2];
+		VOPlanar.pv_interleave(z, MAX_OFFSET - offset, xre, xim, offset, size);
+		for (int i = 0; i < size * 2; i++)
+			assertEquals(x[offset * 2 + i], z[(MAX_OFFSET - offset) * 2 + i], "Element " + i);
+	}
+
+	@ParameterizedTest(name = "pv_add_pv({0}, {1})")
+	@MethodSource("params")
+	public void Test_pv_add_pv(int size, int offset) {
+		final float z1[] = new float[(size + MAX_OFFSET) * 2];
+		final float zre[] = new float[size + MAX_OFFSET];
+		final float zim[] = new float[size + MAX_OFFSET];
+		VO.cv_add_cv(z1, offset, x, offset, y, offset, size);
+		VOPlanar.pv_add_pv(zre, zim, offset, xre, xim, offset, yre, yim, offset, size);
+		check(z1, zre, zim);
+
+		final float zre2[] = copy(xre, size + MAX_OFFSET);
+		final float zim2[] = copy(xim, size + MAX_OFFSET);
+		VOPlanar.pv_add_pv_i(zre2, zim2, offset, yre, yim, offset, size);
+		check(z1, offset, zre2, zim2, offset, size);
+	}
+
+	@ParameterizedTest(name = "pv_sub_pv({0}, {1})")
+	@MethodSource("params")
+	public void Test_pv_sub_pv(int size, int offset) {
+		final float z1[] = new float[(size + MAX_OFFSET) * 2];
+		final float zre[] = new float[size + MAX_OFFSET];
+		final float zim[] = new float[size + MAX_OFFSET];
+		VO.cv_sub_cv(z1, offset, x, offset, y, offset, size);
+		VOPlanar.pv_sub_pv(zre, zim, offset, xre, xim, offset, yre, yim, offset, size);
+		check(z1, zre, zim);
+
+		final float zre2[] = copy(xre, size + MAX_OFFSET);
+		final float zim2[] = copy(xim, size + MAX_OFFSET);
+		VOPlanar.pv_sub_pv_i(zre2, zim2, offset, yre, yim, offset, size);
+		check(z1, offset, zre2, zim2, offset, size);
+	}
+
+	@ParameterizedTest(name = "pv_mul_pv({0}, {1})")
+	@MethodSource("params")
+	public void Test_pv_mul_pv(int size, int offset) {
+		final float z1[] = new float[(size + MAX_OFFSET) * 2];
+		final float zre[] = new float[size + MAX_OFFSET];
+		final float zim[] = new float[size + MAX_OFFSET];
+		VO.cv_mul_cv(z1, offset, x, offset, y, offset, size);
+		VOPlanar.pv_mul_pv(zre, zim, offset, xre, xim, offset, yre, yim, offset, size);
+		check(z1, zre, zim);
+
+		final float zre2[] = copy(xre, size + MAX_OFFSET);
+		final float zim2[] = copy(xim, size + MAX_OFFSET);
+		VOPlanar.pv_mul_pv_i(zre2, zim2, offset, yre, yim, offset, size);
+		check(z1, offset, zre2, zim2, offset, size);
+	}
+
+	@ParameterizedTest(name = "pv_conjmul_pv({0}, {1})")
+	@MethodSource("params")
+	public void Test_pv_conjmul_pv(int size, int offset) {
+		final float z1[] = new float[(size + MAX_OFFSET) * 2];
+		final float zre[] = new float[size + MAX_OFFSET];
+		final float zim[] = new float[size + MAX_OFFSET];
+		VO.cv_conjmul_cv(z1, offset, x, offset, y, offset, size);
+		VOPlanar.pv_conjmul_pv(zre, zim, offset, xre, xim, offset, yre, yim, offset, size);
+		check(z1, zre, zim);
+
+		final float zre2[] = copy(xre, size + MAX_OFFSET);
+		final float zim2[] = copy(xim, size + MAX_OFFSET);
+		VOPlanar.pv_conjmul_pv_i(zre2, zim2, offset, yre, yim, offset, size);
+		check(z1, offset, zre2, zim2, offset, size);
+	}
+
+	@ParameterizedTest(name = "pv_div_pv({0}, {1})")
+	@MethodSource("params")
+	public void Test_pv_div_pv(int size, int offset) {
+		final float z1[] = new float[(size + MAX_OFFSET) * 2];
+		final float zre[] = new float[size + MAX_OFFSET];
+		final float zim[] = new float[size + MAX_OFFSET];
+		VO.cv_div_cv(z1, offset, x, offset, y, offset, size);
+		VOPlanar.pv_div_pv(zre, zim, offset, xre, xim, offset, yre, yim, offset, size);
+		checkRelative(z1, offset, zre, zim, offset, size);
+
+		final float zre2[] = copy(xre, size + MAX_OFFSET);
+		final float zim2[] = copy(xim, size + MAX_OFFSET);
+		VOPlanar.pv_div_pv_i(zre2, zim2, offset, yre, yim, offset, size);
+		checkRelative(z1, offset, zre2, zim2, offset, size);
+	}
+
+	@ParameterizedTest(name = "pv_mul_rv({0}, {1})")
+	@MethodSource("params")
+	public void Test_pv_mul_rv(int size, int offset) {
+		final float z1[] = new float[(size + MAX_OFFSET) * 2];
+		final float zre[] = new float[size + MAX_OFFSET];
+		final float zim[] = new float[size + MAX_OFFSET];
+		VO.cv_mul_rv(z1, offset, x, offset, r, offset, size);
+		VOPlanar.pv_mul_rv(zre, zim, offset, xre, xim, offset, r, offset, size);
+		check(z1, zre, zim);
+
+		final float zre2[] = copy(xre, size + MAX_OFFSET);
+		final float zim2[] = copy(xim, size + MAX_OFFSET);
+		VOPlanar.pv_mul_rv_i(zre2, zim2, offset, r, offset, size);
+		check(z1, offset, zre2, zim2, offset, size);
+	}
+
+	@ParameterizedTest(name = "pv_mul_cs({0}, {1})")
+	@MethodSource("params")
+	public void Test_pv_mul_cs(int size, int offset) {
+		final float z1[] = new float[(size + MAX_OFFSET) * 2];
+		final float zre[] = new float[size + MAX_OFFSET];
+		final float zim[] = new float[size + MAX_OFFSET];
+		VO.cv_mul_cs(z1, offset, x, offset, cs, size);
+		VOPlanar.pv_mul_cs(zre, zim, offset, xre, xim, offset, cs, size);
+		check(z1, zre, zim);
+
+		final float zre2[] = copy(xre, size + MAX_OFFSET);
+		final float zim2[] = copy(xim, size + MAX_OFFSET);
+		VOPlanar.pv_mul_cs_i(zre2, zim2, offset, cs, size);
+		check(z1, offset, zre2, zim2, offset, size);
+	}
+
+	@ParameterizedTest(name = "pv_conj({0}, {1})")
+	@MethodSource("params")
+	public void Test_pv_conj(int size, int offset) {
+		final float z1[] = new float[(size + MAX_OFFSET) * 2];
+		final float zre[] = new float[size + MAX_OFFSET];
+		final float zim[] = new float[size + MAX_OFFSET];
+		VO.cv_conj(z1, offset, x, offset, size);
+		VOPlanar.pv_conj(zre, zim, offset, xre, xim, offset, size);
+		check(z1, zre, zim);
+
+		final float zre2[] = copy(xre, size + MAX_OFFSET);
+		final float zim2[] = copy(xim, size + MAX_OFFSET);
+		VOPlanar.pv_conj_i(zre2, zim2, offset, size);
+		check(z1, offset, zre2, zim2, offset, size);
+	}
+
+	@ParameterizedTest(name = "pv_abs({0}, {1})")
+	@MethodSource("params")
+	public void Test_pv_abs(int size, int offset) {
+		final float z1[] = new float[size + MAX_OFFSET];
+		final float z2[] = new float[size + MAX_OFFSET];
+		VO.cv_abs(z1, offset, x, offset, size);
+		VOPlanar.pv_abs(z2, offset, xre, xim, offset, size);
+		assertArrayEquals(z1, z2, EPSILON);
+	}
+
+	@ParameterizedTest(name = "pv_10log10({0}, {1})")
+	@MethodSource("params")
+	public void Test_pv_10log10(int size, int offset) {
+		final float z1[] = new float[size + MAX_OFFSET];
+		final float z2[] = new float[size + MAX_OFFSET];
+		VO.cv_10log10(z1, offset, x, offset, size);
+		VOPlanar.pv_10log10(z2, offset, xre, xim, offset, size);
+		assertArrayEquals(z1, z2, EPSILON * 10.0f);
+	}
+
+	@ParameterizedTest(name = "pv_sum({0}, {1})")
+	@MethodSource("params")
+	public void Test_pv_sum(int size, int offset) {
+		final float z1[] = new float[(MAX_OFFSET + 1) * 2];
+		final float z2[] = new float[(MAX_OFFSET + 1) * 2];
+		VO.cv_sum(z1, offset, x, offset, size);
+		VOPlanar.pv_sum(z2, offset, xre, xim, offset, size);
+		assertArrayEquals(z1, z2, EPSILON * size);
+	}
+
+	@ParameterizedTest(name = "pv_dot_pv({0}, {1})")
+	@MethodSource("params")
+	public void Test_pv_dot_pv(int size, int offset) {
+		final float z1[] = new float[(MAX_OFFSET + 1) * 2];
+		final float z2[] = new float[(MAX_OFFSET + 1) * 2];
+		VO.cv_dot_cv(z1, offset, x, offset, y, offset, size);
+		VOPlanar.pv_dot_pv(z2, offset, xre, xim, offset, yre, yim, offset, size);
+		assertArrayEquals(z1, z2, EPSILON * size);
+	}
+
+	private static float[] re(float x[]) {
+		final float z[] = new float[x.length / 2];
+		for (int i = 0; i < z.length; i++)
+			z[i] = x[i * 2];
+		return z;
+	}
+
+	private static float[] im(float x[]) {
+		final float z[] = new float[x.length / 2];
+		for (int i = 0; i < z.length; i++)
+			z[i] = x[i * 2 + 1];
+		return z;
+	}
+
+	private static float[] copy(float x[], int size) {
+		final float z[] = new float[size];
+		System.arraycopy(x, 0, z, 0, size);
+		return z;
+	}
+
+	private static void check(float expected[], float zre[], float zim[]) {
+		assertArrayEquals(re(expected), zre, EPSILON, "Re");
+		assertArrayEquals(im(expected), zim, EPSILON, "Im");
+	}
+
+	private static void check(float expected[], int eOffset, float zre[], float zim[], int zOffset, int size) {
+		for (int i = 0; i < size; i++) {
+			assertEquals(expected[(eOffset + i) * 2 + 0], zre[zOffset + i], EPSILON, "Re " + i);
+			assertEquals(expected[(eOffset + i) * 2 + 1], zim[zOffset + i], EPSILON, "Im " + i);
+		}
+	}
+
+	private static void checkRelative(float expected[], int eOffset, float zre[], float zim[], int zOffset, int size) {
+		for (int i = 0; i < size; i++) {
+			final float re = expected[(eOffset + i) * 2 + 0];
+			final float im = expected[(eOffset + i) * 2 + 1];
+			assertEquals(re, zre[zOffset + i], EPSILON * (Math.abs(re) + 1.0f), "Re " + i);
+			assertEquals(im, zim[zOffset + i], EPSILON * (Math.abs(im) + 1.0f), "Im " + i);
+		}
+	}
+}
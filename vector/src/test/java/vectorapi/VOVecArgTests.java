@@ -0,0 +1,137 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Index of first occurrence must be same as in VO, so data with many equal values,
+ * NaNs and infinities is used here, unlike generated tests.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration, WeakerAccess
+ */
+public class VOVecArgTests {
+	private static final int DATA_SIZE = 4096;
+	private static final int MAX_OFFSET = 3;
+	private static final int SIZES[] = { 1, 3, 7, 8, 15, 16, 17, 31, 32, 33, 63, 64, 65, 257, DATA_SIZE };
+	private static final String DATA[] = { "random", "ties", "nan", "constant", "negative_infinity", "positive_infinity" };
+
+	private static final float x[][] = new float[DATA.length][];
+
+	@BeforeAll
+	public static void Setup() {
+		Random r = new Random(42);
+		for (int d = 0; d < DATA.length; d++) {
+			x[d] = new float[(DATA_SIZE + MAX_OFFSET) * 2];
+			for (int i = 0; i < x[d].length; i++) {
+				switch (DATA[d]) {
+					case "random": x[d][i] = r.nextFloat() * 2.0f - 1.0f; break;
+					case "ties": x[d][i] = r.nextInt(4) - 2; break;
+					case "nan": x[d][i] = r.nextInt(8) == 0 ? Float.NaN : r.nextInt(8) == 0 ? Float.NEGATIVE_INFINITY : r.nextInt(4); break;
+					case "constant": x[d][i] = 0.5f; break;
+					case "negative_infinity": x[d][i] = Float.NEGATIVE_INFINITY; break;
+					case "positive_infinity": x[d][i] = Float.POSITIVE_INFINITY; break;
+				}
+			}
+		}
+	}
+
+	public static Stream<Arguments> params() {
+		return IntStream.range(0, DATA.length).boxed().flatMap(d ->
+			IntStream.of(SIZES).boxed().flatMap(size ->
+				IntStream.rangeClosed(0, MAX_OFFSET).mapToObj(offset -> Arguments.of(DATA[d], d, size, offset))));
+	}
+
+	@ParameterizedTest(name = "rv_maxarg {0}({2}, {3})")
+	@MethodSource("params")
+	public void Test_rv_maxarg(String name, int data, int size, int offset) {
+		assertEquals(VO.rv_maxarg(x[data], offset, size), VOVec.rv_maxarg(x[data], offset, size));
+	}
+
+	@ParameterizedTest(name = "rv_minarg {0}({2}, {3})")
+	@MethodSource("params")
+	public void Test_rv_minarg(String name, int data, int size, int offset) {
+		assertEquals(VO.rv_minarg(x[data], offset, size), VOVec.rv_minarg(x[data], offset, size));
+	}
+
+	@ParameterizedTest(name = "cv_maxarg {0}({2}, {3})")
+	@MethodSource("params")
+	public void Test_cv_maxarg(String name, int data, int size, int offset) {
+		assertEquals(VO.cv_maxarg(x[data], offset, size), VOVec.cv_maxarg(x[data], offset, size));
+	}
+
+	@ParameterizedTest(name = "cv_minarg {0}({2}, {3})")
+	@MethodSource("params")
+	public void Test_cv_minarg(String name, int data, int size, int offset) {
+		assertEquals(VO.cv_minarg(x[data], offset, size), VOVec.cv_minarg(x[data], offset, size));
+	}
+
+	@ParameterizedTest(name = "rv_maxarg_w {0}({2}, {3})")
+	@MethodSource("params")
+	public void Test_rv_maxarg_w(String name, int data, int size, int offset) {
+		// Start near end of array to wrap
+		final float w[] = Arrays.copyOf(x[data], DATA_SIZE);
+		final int o = DATA_SIZE - size / 2 - offset;
+		assertEquals(VO.rv_maxarg_w(w, o, size), VOVec.rv_maxarg_w(w, o, size));
+	}
+
+	@ParameterizedTest(name = "rv_minarg_w {0}({2}, {3})")
+	@MethodSource("params")
+	public void Test_rv_minarg_w(String name, int data, int size, int offset) {
+		final float w[] = Arrays.copyOf(x[data], DATA_SIZE);
+		final int o = DATA_SIZE - size / 2 - offset;
+		assertEquals(VO.rv_minarg_w(w, o, size), VOVec.rv_minarg_w(w, o, size));
+	}
+
+	@ParameterizedTest(name = "cv_maxarg_w {0}({2}, {3})")
+	@MethodSource("params")
+	public void Test_cv_maxarg_w(String name, int data, int size, int offset) {
+		final float w[] = Arrays.copyOf(x[data], DATA_SIZE * 2);
+		final int o = DATA_SIZE - size / 2 - offset;
+		assertEquals(VO.cv_maxarg_w(w, o, size), VOVec.cv_maxarg_w(w, o, size));
+	}
+
+	@ParameterizedTest(name = "cv_minarg_w {0}({2}, {3})")
+	@MethodSource("params")
+	public void Test_cv_minarg_w(String name, int data, int size, int offset) {
+		final float w[] = Arrays.copyOf(x[data], DATA_SIZE * 2);
+		final int o = DATA_SIZE - size / 2 - offset;
+		assertEquals(VO.cv_minarg_w(w, o, size), VOVec.cv_minarg_w(w, o, size));
+	}
+}
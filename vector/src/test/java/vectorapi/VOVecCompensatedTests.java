@@ -0,0 +1,222 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compensated reductions are compared with exact sums calculated in double,
+ * as their error must be much smaller than error of {@link VO}.
+ * Dispatch of public reductions to compensated ones is checked on copy of {@link VOVec}
+ * loaded by its own class loader with threshold set, as threshold is read once.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration, WeakerAccess
+ */
+public class VOVecCompensatedTests {
+	// Relative error allowed: few ulps of float, sequential summation is much worse on such sizes
+	private static final double EPSILON = 4.0e-7;
+	private static final int DATA_SIZE = 1 << 20;
+	private static final int MAX_OFFSET = 1;
+	// Threshold for dispatch tests, compensated results differ from plain ones on this size
+	private static final int COMPENSATED_FROM = 100003;
+
+	private static float x[];
+	private static float y[];
+
+	private static URLClassLoader loader;
+	private static Class<?> compensated;
+
+	@BeforeAll
+	public static void Setup() {
+		// Positive values with large common part, so errors don't cancel out
+		Random r = new Random(42);
+		x = new float[(DATA_SIZE + MAX_OFFSET) * 2];
+		y = new float[(DATA_SIZE + MAX_OFFSET) * 2];
+		for (int i = 0; i < x.length; i++) {
+			x[i] = 1.0f + r.nextFloat() * 0.001f;
+			y[i] = 0.5f + r.nextFloat() * 0.001f;
+		}
+
+		System.setProperty("vectorapi.VOVec.compensated", Integer.toString(COMPENSATED_FROM));
+		try {
+			final URL classes = VOVec.class.getProtectionDomain().getCodeSource().getLocation();
+			loader = new URLClassLoader(new URL[] { classes }, ClassLoader.getPlatformClassLoader());
+			compensated = Class.forName(VOVec.class.getName(), true, loader);
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		} finally {
+			System.clearProperty("vectorapi.VOVec.compensated");
+		}
+	}
+
+	@AfterAll
+	public static void Teardown() throws Exception {
+		loader.close();
+	}
+
+	private static Object dispatch(String name, Object... args) throws Exception {
+		final Class<?> types[] = new Class<?>[args.length];
+		for (int i = 0; i < args.length; i++)
+			types[i] = args[i] instanceof Integer ? int.class : args[i].getClass();
+		final Method m = compensated.getMethod(name, types);
+		return m.invoke(null, args);
+	}
+
+	private static void assertClose(double expected, float actual) {
+		assertEquals(expected, actual, Math.abs(expected) * EPSILON);
+	}
+
+	@ParameterizedTest(name = "rv_sum({0})")
+	@ValueSource(ints = { 1, 17, 4097, DATA_SIZE })
+	public void Test_rv_sum(int size) {
+		double sum = 0.0;
+		for (int i = 0; i < size; i++)
+			sum += x[i + 1];
+		assertClose(sum, VOVec.rv_sum_kahan(x, 1, size));
+	}
+
+	@ParameterizedTest(name = "cv_sum({0})")
+	@ValueSource(ints = { 1, 17, 4097, DATA_SIZE })
+	public void Test_cv_sum(int size) {
+		double re = 0.0;
+		double im = 0.0;
+		for (int i = 0; i < size; i++) {
+			re += x[(i + 1) * 2 + 0];
+			im += x[(i + 1) * 2 + 1];
+		}
+		float z[] = new float[4];
+		VOVec.cv_sum_kahan(z, 1, x, 1, size);
+		assertClose(re, z[2]);
+		assertClose(im, z[3]);
+	}
+
+	@ParameterizedTest(name = "rv_dot_rv({0})")
+	@ValueSource(ints = { 1, 17, 4097, DATA_SIZE })
+	public void Test_rv_dot_rv(int size) {
+		double sum = 0.0;
+		for (int i = 0; i < size; i++)
+			sum += (double)x[i + 1] * y[i];
+		assertClose(sum, VOVec.rv_dot_rv_kahan(x, 1, y, 0, size));
+	}
+
+	@ParameterizedTest(name = "rv_dot_cv({0})")
+	@ValueSource(ints = { 1, 17, 4097, DATA_SIZE })
+	public void Test_rv_dot_cv(int size) {
+		double re = 0.0;
+		double im = 0.0;
+		for (int i = 0; i < size; i++) {
+			re += (double)x[i + 1] * y[i * 2 + 0];
+			im += (double)x[i + 1] * y[i * 2 + 1];
+		}
+		float z[] = new float[2];
+		VOVec.rv_dot_cv_kahan(z, 0, x, 1, y, 0, size);
+		assertClose(re, z[0]);
+		assertClose(im, z[1]);
+	}
+
+	@ParameterizedTest(name = "cv_dot_cv({0})")
+	@ValueSource(ints = { 1, 17, 4097, DATA_SIZE })
+	public void Test_cv_dot_cv(int size) {
+		double re = 0.0;
+		double im = 0.0;
+		for (int i = 0; i < size; i++) {
+			final double xre = x[(i + 1) * 2 + 0];
+			final double xim = x[(i + 1) * 2 + 1];
+			final double yre = y[i * 2 + 0];
+			final double yim = y[i * 2 + 1];
+			re += xre * yre - xim * yim;
+			im += xim * yre + xre * yim;
+		}
+		float z[] = new float[2];
+		VOVec.cv_dot_cv_kahan(z, 0, x, 1, y, 0, size);
+		// Real part is difference of close values, so its error is relative to imaginary part
+		assertEquals(re, z[0], Math.abs(im) * EPSILON);
+		assertClose(im, z[1]);
+	}
+
+	@Test
+	public void Test_rv_sum_dispatch() throws Exception {
+		assertEquals(VOVec.rv_sum_kahan(x, 1, COMPENSATED_FROM), dispatch("rv_sum", x, 1, COMPENSATED_FROM));
+		assertEquals(VOVec.rv_sum(x, 1, COMPENSATED_FROM - 1), dispatch("rv_sum", x, 1, COMPENSATED_FROM - 1));
+	}
+
+	@Test
+	public void Test_cv_sum_dispatch() throws Exception {
+		final float expected[] = new float[4];
+		final float actual[] = new float[4];
+		VOVec.cv_sum_kahan(expected, 1, x, 1, COMPENSATED_FROM);
+		dispatch("cv_sum", actual, 1, x, 1, COMPENSATED_FROM);
+		assertArrayEquals(expected, actual);
+		VOVec.cv_sum(expected, 1, x, 1, COMPENSATED_FROM - 1);
+		dispatch("cv_sum", actual, 1, x, 1, COMPENSATED_FROM - 1);
+		assertArrayEquals(expected, actual);
+	}
+
+	@Test
+	public void Test_rv_dot_rv_dispatch() throws Exception {
+		assertEquals(VOVec.rv_dot_rv_kahan(x, 1, y, 0, COMPENSATED_FROM), dispatch("rv_dot_rv", x, 1, y, 0, COMPENSATED_FROM));
+		assertEquals(VOVec.rv_dot_rv(x, 1, y, 0, COMPENSATED_FROM - 1), dispatch("rv_dot_rv", x, 1, y, 0, COMPENSATED_FROM - 1));
+	}
+
+	@Test
+	public void Test_rv_dot_cv_dispatch() throws Exception {
+		final float expected[] = new float[2];
+		final float actual[] = new float[2];
+		VOVec.rv_dot_cv_kahan(expected, 0, x, 1, y, 0, COMPENSATED_FROM);
+		dispatch("rv_dot_cv", actual, 0, x, 1, y, 0, COMPENSATED_FROM);
+		assertArrayEquals(expected, actual);
+		VOVec.rv_dot_cv(expected, 0, x, 1, y, 0, COMPENSATED_FROM - 1);
+		dispatch("rv_dot_cv", actual, 0, x, 1, y, 0, COMPENSATED_FROM - 1);
+		assertArrayEquals(expected, actual);
+	}
+
+	@Test
+	public void Test_cv_dot_cv_dispatch() throws Exception {
+		final float expected[] = new float[2];
+		final float actual[] = new float[2];
+		VOVec.cv_dot_cv_kahan(expected, 0, x, 1, y, 0, COMPENSATED_FROM);
+		dispatch("cv_dot_cv", actual, 0, x, 1, y, 0, COMPENSATED_FROM);
+		assertArrayEquals(expected, actual);
+		VOVec.cv_dot_cv(expected, 0, x, 1, y, 0, COMPENSATED_FROM - 1);
+		dispatch("cv_dot_cv", actual, 0, x, 1, y, 0, COMPENSATED_FROM - 1);
+		assertArrayEquals(expected, actual);
+	}
+}
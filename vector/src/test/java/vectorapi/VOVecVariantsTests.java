@@ -0,0 +1,116 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration, WeakerAccess
+ */
+public class VOVecVariantsTests {
+	private static final float EPSILON = 0.0001f;
+	private static final int DATA_SIZE = 8192;
+	private static final int MAX_OFFSET = 3;
+	private static final int SIZES[] = { 1, 3, 7, 8, 15, 16, 17, 63, 64, 65, 257, 4097, DATA_SIZE };
+
+	private static float x[];
+	private static float y[];
+	private static final float cs[] = { 0.75f, -0.5f };
+
+	@BeforeAll
+	public static void Setup() {
+		Random r = new Random(42);
+		x = new float[(DATA_SIZE + MAX_OFFSET) * 2];
+		y = new float[(DATA_SIZE + MAX_OFFSET) * 2];
+		for (int i = 0; i < x.length; i++) {
+			x[i] = r.nextFloat() * 2.0f - 1.0f;
+			y[i] = r.nextFloat() * 2.0f - 1.0f;
+		}
+	}
+
+	private static Stream<Arguments> params(String names[]) {
+		return IntStream.range(0, names.length).boxed().flatMap(v ->
+			IntStream.of(SIZES).boxed().flatMap(size ->
+				IntStream.rangeClosed(0, MAX_OFFSET).mapToObj(offset -> Arguments.of(names[v], v, size, offset))));
+	}
+
+	public static Stream<Arguments> rvDotRvParams() { return params(VOVecVariants.RV_DOT_RV); }
+	public static Stream<Arguments> cvMaxParams() { return params(VOVecVariants.CV_MAX); }
+	public static Stream<Arguments> csDivCvParams() { return params(VOVecVariants.CS_DIV_CV); }
+	public static Stream<Arguments> cvExpParams() { return params(VOVecVariants.CV_EXP); }
+
+	@ParameterizedTest(name = "rv_dot_rv {0}({2}, {3})")
+	@MethodSource("rvDotRvParams")
+	public void Test_rv_dot_rv(String name, int variant, int size, int offset) {
+		final float r1 = VO.rv_dot_rv(x, offset, y, offset, size);
+		final float r2 = VOVecVariants.rv_dot_rv(variant, x, offset, y, offset, size);
+		assertEquals(r1, r2, EPSILON * size);
+	}
+
+	@ParameterizedTest(name = "cv_max {0}({2}, {3})")
+	@MethodSource("cvMaxParams")
+	public void Test_cv_max(String name, int variant, int size, int offset) {
+		float z1[] = new float[(MAX_OFFSET + 1) * 2];
+		float z2[] = new float[(MAX_OFFSET + 1) * 2];
+		VO.cv_max(z1, offset, x, offset, size);
+		VOVecVariants.cv_max(variant, z2, offset, x, offset, size);
+		// Same element must be selected by every variant
+		assertArrayEquals(z1, z2);
+	}
+
+	@ParameterizedTest(name = "cs_div_cv {0}({2}, {3})")
+	@MethodSource("csDivCvParams")
+	public void Test_cs_div_cv(String name, int variant, int size, int offset) {
+		float z1[] = new float[(size + MAX_OFFSET) * 2];
+		float z2[] = new float[(size + MAX_OFFSET) * 2];
+		VO.cs_div_cv(z1, offset, cs, y, offset, size);
+		VOVecVariants.cs_div_cv(variant, z2, offset, cs, y, offset, size);
+		assertArrayEquals(z1, z2, EPSILON);
+	}
+
+	@ParameterizedTest(name = "cv_exp {0}({2}, {3})")
+	@MethodSource("cvExpParams")
+	public void Test_cv_exp(String name, int variant, int size, int offset) {
+		float z1[] = new float[(size + MAX_OFFSET) * 2];
+		float z2[] = new float[(size + MAX_OFFSET) * 2];
+		VO.cv_exp(z1, offset, x, offset, size);
+		VOVecVariants.cv_exp(variant, z2, offset, x, offset, size);
+		assertArrayEquals(z1, z2, EPSILON);
+	}
+}
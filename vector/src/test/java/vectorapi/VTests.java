@@ -0,0 +1,3308 @@
+/*!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!\
+!! THIS FILE IS GENERATED WITH genDispatcher.pl SCRIPT. DO NOT EDIT! !!
+\!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!*/
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares each method of {@link V} with {@link VO} on sizes just below, at and just above
+ * threshold of its operation. Below threshold results must be exactly the same, as call must
+ * be dispatched to {@link VO}.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration, WeakerAccess
+ */
+public class VTests {
+	private static final float EPSILON = 0.0001f;
+	// FastTrig.atan2() error is up to ~0.002, vectorized version is much closer to exact one
+	private static final float EPSILON_FAST = 0.0025f;
+
+	private static final int MAX_SIZE = 4096;
+
+	private static float vx[];
+	private static float vy[];
+	private static float vz[];
+	private static float va1[];
+	private static float va2[];
+
+	private static final float sx = 0.75f;
+	private static final float sy = -0.5f;
+	private static final float sa1 = 1.25f;
+	private static final float sa2 = -0.25f;
+	private static final float sbase = 2.0f;
+
+	@BeforeAll
+	public static void Setup() {
+		final Random r = new Random(42);
+		// Room for complex vectors
+		vx = new float[MAX_SIZE * 2];
+		vy = new float[MAX_SIZE * 2];
+		vz = new float[MAX_SIZE * 2];
+		va1 = new float[MAX_SIZE * 2];
+		va2 = new float[MAX_SIZE * 2];
+		for (int i = 0; i < MAX_SIZE * 2; i++) {
+			vx[i] = r.nextFloat() * 2.0f - 1.0f;
+			vy[i] = r.nextFloat() * 2.0f - 1.0f;
+			vz[i] = r.nextFloat() * 2.0f - 1.0f;
+			va1[i] = r.nextFloat() * 2.0f - 1.0f;
+			va2[i] = r.nextFloat() * 2.0f - 1.0f;
+		}
+	}
+
+	// Sizes around threshold, clamped to test data
+	private static int[] sizes(String name) {
+		final long th = VThresholds.get(name);
+		return LongStream.of(th - 1, th, th + 1).mapToInt(s -> (int)Math.max(1, Math.min(s, MAX_SIZE))).distinct().toArray();
+	}
+
+	private static float delta(String name, int size, float epsilon) {
+		return size < VThresholds.get(name) ? 0.0f : epsilon;
+	}
+
+	@Test
+	public void Test_rv_add_rs_i() {
+		for (int size : sizes("rv_add_rs_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_add_rs_i(z1, 0, sx, size);
+			VO.rv_add_rs_i(z2, 0, sx, size);
+			assertArrayEquals(z2, z1, delta("rv_add_rs_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_add_rs_iw() {
+		for (int size : sizes("rv_add_rs_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_add_rs_iw(z1, 0, sx, size);
+			VO.rv_add_rs_iw(z2, 0, sx, size);
+			assertArrayEquals(z2, z1, delta("rv_add_rs_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_add_rv_i() {
+		for (int size : sizes("rv_add_rv_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_add_rv_i(z1, 0, vx, 0, size);
+			VO.rv_add_rv_i(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_add_rv_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_add_rv_iw() {
+		for (int size : sizes("rv_add_rv_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_add_rv_iw(z1, 0, vx, 0, size);
+			VO.rv_add_rv_iw(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_add_rv_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_add_rs_i() {
+		for (int size : sizes("cv_add_rs_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_add_rs_i(z1, 0, sx, size);
+			VO.cv_add_rs_i(z2, 0, sx, size);
+			assertArrayEquals(z2, z1, delta("cv_add_rs_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_add_rs_iw() {
+		for (int size : sizes("cv_add_rs_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_add_rs_iw(z1, 0, sx, size);
+			VO.cv_add_rs_iw(z2, 0, sx, size);
+			assertArrayEquals(z2, z1, delta("cv_add_rs_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_add_rv_i() {
+		for (int size : sizes("cv_add_rv_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_add_rv_i(z1, 0, vx, 0, size);
+			VO.cv_add_rv_i(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_add_rv_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_add_rv_iw() {
+		for (int size : sizes("cv_add_rv_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_add_rv_iw(z1, 0, vx, 0, size);
+			VO.cv_add_rv_iw(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_add_rv_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_add_cs_i() {
+		for (int size : sizes("cv_add_cs_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_add_cs_i(z1, 0, vx, size);
+			VO.cv_add_cs_i(z2, 0, vx, size);
+			assertArrayEquals(z2, z1, delta("cv_add_cs_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_add_cs_iw() {
+		for (int size : sizes("cv_add_cs_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_add_cs_iw(z1, 0, vx, size);
+			VO.cv_add_cs_iw(z2, 0, vx, size);
+			assertArrayEquals(z2, z1, delta("cv_add_cs_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_add_cv_i() {
+		for (int size : sizes("cv_add_cv_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_add_cv_i(z1, 0, vx, 0, size);
+			VO.cv_add_cv_i(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_add_cv_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_add_cv_iw() {
+		for (int size : sizes("cv_add_cv_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_add_cv_iw(z1, 0, vx, 0, size);
+			VO.cv_add_cv_iw(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_add_cv_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_add_rs() {
+		for (int size : sizes("rv_add_rs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_add_rs(z1, 0, vx, 0, sy, size);
+			VO.rv_add_rs(z2, 0, vx, 0, sy, size);
+			assertArrayEquals(z2, z1, delta("rv_add_rs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_add_rs_w() {
+		for (int size : sizes("rv_add_rs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_add_rs_w(z1, 0, vx, 0, sy, size);
+			VO.rv_add_rs_w(z2, 0, vx, 0, sy, size);
+			assertArrayEquals(z2, z1, delta("rv_add_rs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_add_rv() {
+		for (int size : sizes("rv_add_rv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_add_rv(z1, 0, vx, 0, vy, 0, size);
+			VO.rv_add_rv(z2, 0, vx, 0, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_add_rv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_add_rv_w() {
+		for (int size : sizes("rv_add_rv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_add_rv_w(z1, 0, vx, 0, vy, 0, size);
+			VO.rv_add_rv_w(z2, 0, vx, 0, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_add_rv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_add_rs() {
+		for (int size : sizes("cv_add_rs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_add_rs(z1, 0, vx, 0, sy, size);
+			VO.cv_add_rs(z2, 0, vx, 0, sy, size);
+			assertArrayEquals(z2, z1, delta("cv_add_rs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_add_rs_w() {
+		for (int size : sizes("cv_add_rs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_add_rs_w(z1, 0, vx, 0, sy, size);
+			VO.cv_add_rs_w(z2, 0, vx, 0, sy, size);
+			assertArrayEquals(z2, z1, delta("cv_add_rs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_add_rv() {
+		for (int size : sizes("cv_add_rv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_add_rv(z1, 0, vx, 0, vy, 0, size);
+			VO.cv_add_rv(z2, 0, vx, 0, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_add_rv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_add_rv_w() {
+		for (int size : sizes("cv_add_rv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_add_rv_w(z1, 0, vx, 0, vy, 0, size);
+			VO.cv_add_rv_w(z2, 0, vx, 0, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_add_rv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_add_cs() {
+		for (int size : sizes("cv_add_cs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_add_cs(z1, 0, vx, 0, vy, size);
+			VO.cv_add_cs(z2, 0, vx, 0, vy, size);
+			assertArrayEquals(z2, z1, delta("cv_add_cs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_add_cs_w() {
+		for (int size : sizes("cv_add_cs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_add_cs_w(z1, 0, vx, 0, vy, size);
+			VO.cv_add_cs_w(z2, 0, vx, 0, vy, size);
+			assertArrayEquals(z2, z1, delta("cv_add_cs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_add_cv() {
+		for (int size : sizes("cv_add_cv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_add_cv(z1, 0, vx, 0, vy, 0, size);
+			VO.cv_add_cv(z2, 0, vx, 0, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_add_cv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_add_cv_w() {
+		for (int size : sizes("cv_add_cv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_add_cv_w(z1, 0, vx, 0, vy, 0, size);
+			VO.cv_add_cv_w(z2, 0, vx, 0, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_add_cv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_sub_rs_i() {
+		for (int size : sizes("rv_sub_rs_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_sub_rs_i(z1, 0, sx, size);
+			VO.rv_sub_rs_i(z2, 0, sx, size);
+			assertArrayEquals(z2, z1, delta("rv_sub_rs_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_sub_rs_iw() {
+		for (int size : sizes("rv_sub_rs_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_sub_rs_iw(z1, 0, sx, size);
+			VO.rv_sub_rs_iw(z2, 0, sx, size);
+			assertArrayEquals(z2, z1, delta("rv_sub_rs_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_sub_rv_i() {
+		for (int size : sizes("rv_sub_rv_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_sub_rv_i(z1, 0, vx, 0, size);
+			VO.rv_sub_rv_i(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_sub_rv_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_sub_rv_iw() {
+		for (int size : sizes("rv_sub_rv_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_sub_rv_iw(z1, 0, vx, 0, size);
+			VO.rv_sub_rv_iw(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_sub_rv_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_sub_rs_i() {
+		for (int size : sizes("cv_sub_rs_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_sub_rs_i(z1, 0, sx, size);
+			VO.cv_sub_rs_i(z2, 0, sx, size);
+			assertArrayEquals(z2, z1, delta("cv_sub_rs_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_sub_rs_iw() {
+		for (int size : sizes("cv_sub_rs_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_sub_rs_iw(z1, 0, sx, size);
+			VO.cv_sub_rs_iw(z2, 0, sx, size);
+			assertArrayEquals(z2, z1, delta("cv_sub_rs_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_sub_rv_i() {
+		for (int size : sizes("cv_sub_rv_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_sub_rv_i(z1, 0, vx, 0, size);
+			VO.cv_sub_rv_i(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_sub_rv_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_sub_rv_iw() {
+		for (int size : sizes("cv_sub_rv_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_sub_rv_iw(z1, 0, vx, 0, size);
+			VO.cv_sub_rv_iw(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_sub_rv_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_sub_cs_i() {
+		for (int size : sizes("cv_sub_cs_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_sub_cs_i(z1, 0, vx, size);
+			VO.cv_sub_cs_i(z2, 0, vx, size);
+			assertArrayEquals(z2, z1, delta("cv_sub_cs_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_sub_cs_iw() {
+		for (int size : sizes("cv_sub_cs_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_sub_cs_iw(z1, 0, vx, size);
+			VO.cv_sub_cs_iw(z2, 0, vx, size);
+			assertArrayEquals(z2, z1, delta("cv_sub_cs_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_sub_cv_i() {
+		for (int size : sizes("cv_sub_cv_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_sub_cv_i(z1, 0, vx, 0, size);
+			VO.cv_sub_cv_i(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_sub_cv_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_sub_cv_iw() {
+		for (int size : sizes("cv_sub_cv_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_sub_cv_iw(z1, 0, vx, 0, size);
+			VO.cv_sub_cv_iw(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_sub_cv_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_sub_rs() {
+		for (int size : sizes("rv_sub_rs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_sub_rs(z1, 0, vx, 0, sy, size);
+			VO.rv_sub_rs(z2, 0, vx, 0, sy, size);
+			assertArrayEquals(z2, z1, delta("rv_sub_rs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_sub_rs_w() {
+		for (int size : sizes("rv_sub_rs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_sub_rs_w(z1, 0, vx, 0, sy, size);
+			VO.rv_sub_rs_w(z2, 0, vx, 0, sy, size);
+			assertArrayEquals(z2, z1, delta("rv_sub_rs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rs_sub_rv() {
+		for (int size : sizes("rs_sub_rv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rs_sub_rv(z1, 0, sx, vy, 0, size);
+			VO.rs_sub_rv(z2, 0, sx, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("rs_sub_rv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rs_sub_rv_w() {
+		for (int size : sizes("rs_sub_rv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rs_sub_rv_w(z1, 0, sx, vy, 0, size);
+			VO.rs_sub_rv_w(z2, 0, sx, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("rs_sub_rv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_sub_rv() {
+		for (int size : sizes("rv_sub_rv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_sub_rv(z1, 0, vx, 0, vy, 0, size);
+			VO.rv_sub_rv(z2, 0, vx, 0, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_sub_rv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_sub_rv_w() {
+		for (int size : sizes("rv_sub_rv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_sub_rv_w(z1, 0, vx, 0, vy, 0, size);
+			VO.rv_sub_rv_w(z2, 0, vx, 0, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_sub_rv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_sub_rs() {
+		for (int size : sizes("cv_sub_rs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_sub_rs(z1, 0, vx, 0, sy, size);
+			VO.cv_sub_rs(z2, 0, vx, 0, sy, size);
+			assertArrayEquals(z2, z1, delta("cv_sub_rs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_sub_rs_w() {
+		for (int size : sizes("cv_sub_rs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_sub_rs_w(z1, 0, vx, 0, sy, size);
+			VO.cv_sub_rs_w(z2, 0, vx, 0, sy, size);
+			assertArrayEquals(z2, z1, delta("cv_sub_rs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rs_sub_cv() {
+		for (int size : sizes("rs_sub_cv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rs_sub_cv(z1, 0, sx, vy, 0, size);
+			VO.rs_sub_cv(z2, 0, sx, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("rs_sub_cv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rs_sub_cv_w() {
+		for (int size : sizes("rs_sub_cv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rs_sub_cv_w(z1, 0, sx, vy, 0, size);
+			VO.rs_sub_cv_w(z2, 0, sx, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("rs_sub_cv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_sub_rv() {
+		for (int size : sizes("cv_sub_rv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_sub_rv(z1, 0, vx, 0, vy, 0, size);
+			VO.cv_sub_rv(z2, 0, vx, 0, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_sub_rv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_sub_rv_w() {
+		for (int size : sizes("cv_sub_rv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_sub_rv_w(z1, 0, vx, 0, vy, 0, size);
+			VO.cv_sub_rv_w(z2, 0, vx, 0, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_sub_rv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_sub_cv() {
+		for (int size : sizes("rv_sub_cv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_sub_cv(z1, 0, vx, 0, vy, 0, size);
+			VO.rv_sub_cv(z2, 0, vx, 0, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_sub_cv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_sub_cv_w() {
+		for (int size : sizes("rv_sub_cv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_sub_cv_w(z1, 0, vx, 0, vy, 0, size);
+			VO.rv_sub_cv_w(z2, 0, vx, 0, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_sub_cv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_sub_cs() {
+		for (int size : sizes("cv_sub_cs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_sub_cs(z1, 0, vx, 0, vy, size);
+			VO.cv_sub_cs(z2, 0, vx, 0, vy, size);
+			assertArrayEquals(z2, z1, delta("cv_sub_cs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_sub_cs_w() {
+		for (int size : sizes("cv_sub_cs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_sub_cs_w(z1, 0, vx, 0, vy, size);
+			VO.cv_sub_cs_w(z2, 0, vx, 0, vy, size);
+			assertArrayEquals(z2, z1, delta("cv_sub_cs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cs_sub_cv() {
+		for (int size : sizes("cs_sub_cv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cs_sub_cv(z1, 0, vx, vy, 0, size);
+			VO.cs_sub_cv(z2, 0, vx, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("cs_sub_cv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cs_sub_cv_w() {
+		for (int size : sizes("cs_sub_cv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cs_sub_cv_w(z1, 0, vx, vy, 0, size);
+			VO.cs_sub_cv_w(z2, 0, vx, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("cs_sub_cv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_sub_cv() {
+		for (int size : sizes("cv_sub_cv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_sub_cv(z1, 0, vx, 0, vy, 0, size);
+			VO.cv_sub_cv(z2, 0, vx, 0, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_sub_cv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_sub_cv_w() {
+		for (int size : sizes("cv_sub_cv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_sub_cv_w(z1, 0, vx, 0, vy, 0, size);
+			VO.cv_sub_cv_w(z2, 0, vx, 0, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_sub_cv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_mul_rs_i() {
+		for (int size : sizes("rv_mul_rs_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_mul_rs_i(z1, 0, sx, size);
+			VO.rv_mul_rs_i(z2, 0, sx, size);
+			assertArrayEquals(z2, z1, delta("rv_mul_rs_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_mul_rs_iw() {
+		for (int size : sizes("rv_mul_rs_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_mul_rs_iw(z1, 0, sx, size);
+			VO.rv_mul_rs_iw(z2, 0, sx, size);
+			assertArrayEquals(z2, z1, delta("rv_mul_rs_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_mul_rv_i() {
+		for (int size : sizes("rv_mul_rv_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_mul_rv_i(z1, 0, vx, 0, size);
+			VO.rv_mul_rv_i(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_mul_rv_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_mul_rv_iw() {
+		for (int size : sizes("rv_mul_rv_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_mul_rv_iw(z1, 0, vx, 0, size);
+			VO.rv_mul_rv_iw(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_mul_rv_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_mul_rs_i() {
+		for (int size : sizes("cv_mul_rs_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_mul_rs_i(z1, 0, sx, size);
+			VO.cv_mul_rs_i(z2, 0, sx, size);
+			assertArrayEquals(z2, z1, delta("cv_mul_rs_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_mul_rs_iw() {
+		for (int size : sizes("cv_mul_rs_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_mul_rs_iw(z1, 0, sx, size);
+			VO.cv_mul_rs_iw(z2, 0, sx, size);
+			assertArrayEquals(z2, z1, delta("cv_mul_rs_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_mul_rv_i() {
+		for (int size : sizes("cv_mul_rv_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_mul_rv_i(z1, 0, vx, 0, size);
+			VO.cv_mul_rv_i(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_mul_rv_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_mul_rv_iw() {
+		for (int size : sizes("cv_mul_rv_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_mul_rv_iw(z1, 0, vx, 0, size);
+			VO.cv_mul_rv_iw(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_mul_rv_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_mul_cs_i() {
+		for (int size : sizes("cv_mul_cs_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_mul_cs_i(z1, 0, vx, size);
+			VO.cv_mul_cs_i(z2, 0, vx, size);
+			assertArrayEquals(z2, z1, delta("cv_mul_cs_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_mul_cs_iw() {
+		for (int size : sizes("cv_mul_cs_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_mul_cs_iw(z1, 0, vx, size);
+			VO.cv_mul_cs_iw(z2, 0, vx, size);
+			assertArrayEquals(z2, z1, delta("cv_mul_cs_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_mul_cv_i() {
+		for (int size : sizes("cv_mul_cv_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_mul_cv_i(z1, 0, vx, 0, size);
+			VO.cv_mul_cv_i(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_mul_cv_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_mul_cv_iw() {
+		for (int size : sizes("cv_mul_cv_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_mul_cv_iw(z1, 0, vx, 0, size);
+			VO.cv_mul_cv_iw(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_mul_cv_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_mul_rs() {
+		for (int size : sizes("rv_mul_rs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_mul_rs(z1, 0, vx, 0, sy, size);
+			VO.rv_mul_rs(z2, 0, vx, 0, sy, size);
+			assertArrayEquals(z2, z1, delta("rv_mul_rs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_mul_rs_w() {
+		for (int size : sizes("rv_mul_rs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_mul_rs_w(z1, 0, vx, 0, sy, size);
+			VO.rv_mul_rs_w(z2, 0, vx, 0, sy, size);
+			assertArrayEquals(z2, z1, delta("rv_mul_rs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_mul_rv() {
+		for (int size : sizes("rv_mul_rv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_mul_rv(z1, 0, vx, 0, vy, 0, size);
+			VO.rv_mul_rv(z2, 0, vx, 0, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_mul_rv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_mul_rv_w() {
+		for (int size : sizes("rv_mul_rv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_mul_rv_w(z1, 0, vx, 0, vy, 0, size);
+			VO.rv_mul_rv_w(z2, 0, vx, 0, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_mul_rv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_mul_rs() {
+		for (int size : sizes("cv_mul_rs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_mul_rs(z1, 0, vx, 0, sy, size);
+			VO.cv_mul_rs(z2, 0, vx, 0, sy, size);
+			assertArrayEquals(z2, z1, delta("cv_mul_rs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_mul_rs_w() {
+		for (int size : sizes("cv_mul_rs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_mul_rs_w(z1, 0, vx, 0, sy, size);
+			VO.cv_mul_rs_w(z2, 0, vx, 0, sy, size);
+			assertArrayEquals(z2, z1, delta("cv_mul_rs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_mul_rv() {
+		for (int size : sizes("cv_mul_rv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_mul_rv(z1, 0, vx, 0, vy, 0, size);
+			VO.cv_mul_rv(z2, 0, vx, 0, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_mul_rv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_mul_rv_w() {
+		for (int size : sizes("cv_mul_rv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_mul_rv_w(z1, 0, vx, 0, vy, 0, size);
+			VO.cv_mul_rv_w(z2, 0, vx, 0, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_mul_rv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_mul_cs() {
+		for (int size : sizes("cv_mul_cs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_mul_cs(z1, 0, vx, 0, vy, size);
+			VO.cv_mul_cs(z2, 0, vx, 0, vy, size);
+			assertArrayEquals(z2, z1, delta("cv_mul_cs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_mul_cs_w() {
+		for (int size : sizes("cv_mul_cs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_mul_cs_w(z1, 0, vx, 0, vy, size);
+			VO.cv_mul_cs_w(z2, 0, vx, 0, vy, size);
+			assertArrayEquals(z2, z1, delta("cv_mul_cs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_mul_cv() {
+		for (int size : sizes("cv_mul_cv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_mul_cv(z1, 0, vx, 0, vy, 0, size);
+			VO.cv_mul_cv(z2, 0, vx, 0, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_mul_cv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_mul_cv_w() {
+		for (int size : sizes("cv_mul_cv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_mul_cv_w(z1, 0, vx, 0, vy, 0, size);
+			VO.cv_mul_cv_w(z2, 0, vx, 0, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_mul_cv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_div_rs_i() {
+		for (int size : sizes("rv_div_rs_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_div_rs_i(z1, 0, sx, size);
+			VO.rv_div_rs_i(z2, 0, sx, size);
+			assertArrayEquals(z2, z1, delta("rv_div_rs_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_div_rs_iw() {
+		for (int size : sizes("rv_div_rs_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_div_rs_iw(z1, 0, sx, size);
+			VO.rv_div_rs_iw(z2, 0, sx, size);
+			assertArrayEquals(z2, z1, delta("rv_div_rs_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_div_rv_i() {
+		for (int size : sizes("rv_div_rv_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_div_rv_i(z1, 0, vx, 0, size);
+			VO.rv_div_rv_i(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_div_rv_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_div_rv_iw() {
+		for (int size : sizes("rv_div_rv_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_div_rv_iw(z1, 0, vx, 0, size);
+			VO.rv_div_rv_iw(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_div_rv_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_div_rs_i() {
+		for (int size : sizes("cv_div_rs_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_div_rs_i(z1, 0, sx, size);
+			VO.cv_div_rs_i(z2, 0, sx, size);
+			assertArrayEquals(z2, z1, delta("cv_div_rs_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_div_rs_iw() {
+		for (int size : sizes("cv_div_rs_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_div_rs_iw(z1, 0, sx, size);
+			VO.cv_div_rs_iw(z2, 0, sx, size);
+			assertArrayEquals(z2, z1, delta("cv_div_rs_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_div_rv_i() {
+		for (int size : sizes("cv_div_rv_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_div_rv_i(z1, 0, vx, 0, size);
+			VO.cv_div_rv_i(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_div_rv_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_div_rv_iw() {
+		for (int size : sizes("cv_div_rv_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_div_rv_iw(z1, 0, vx, 0, size);
+			VO.cv_div_rv_iw(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_div_rv_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_div_cs_i() {
+		for (int size : sizes("cv_div_cs_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_div_cs_i(z1, 0, vx, size);
+			VO.cv_div_cs_i(z2, 0, vx, size);
+			assertArrayEquals(z2, z1, delta("cv_div_cs_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_div_cs_iw() {
+		for (int size : sizes("cv_div_cs_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_div_cs_iw(z1, 0, vx, size);
+			VO.cv_div_cs_iw(z2, 0, vx, size);
+			assertArrayEquals(z2, z1, delta("cv_div_cs_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_div_cv_i() {
+		for (int size : sizes("cv_div_cv_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_div_cv_i(z1, 0, vx, 0, size);
+			VO.cv_div_cv_i(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_div_cv_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_div_cv_iw() {
+		for (int size : sizes("cv_div_cv_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_div_cv_iw(z1, 0, vx, 0, size);
+			VO.cv_div_cv_iw(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_div_cv_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_div_rs() {
+		for (int size : sizes("rv_div_rs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_div_rs(z1, 0, vx, 0, sy, size);
+			VO.rv_div_rs(z2, 0, vx, 0, sy, size);
+			assertArrayEquals(z2, z1, delta("rv_div_rs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_div_rs_w() {
+		for (int size : sizes("rv_div_rs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_div_rs_w(z1, 0, vx, 0, sy, size);
+			VO.rv_div_rs_w(z2, 0, vx, 0, sy, size);
+			assertArrayEquals(z2, z1, delta("rv_div_rs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rs_div_rv() {
+		for (int size : sizes("rs_div_rv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rs_div_rv(z1, 0, sx, vy, 0, size);
+			VO.rs_div_rv(z2, 0, sx, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("rs_div_rv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rs_div_rv_w() {
+		for (int size : sizes("rs_div_rv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rs_div_rv_w(z1, 0, sx, vy, 0, size);
+			VO.rs_div_rv_w(z2, 0, sx, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("rs_div_rv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_div_rv() {
+		for (int size : sizes("rv_div_rv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_div_rv(z1, 0, vx, 0, vy, 0, size);
+			VO.rv_div_rv(z2, 0, vx, 0, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_div_rv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_div_rv_w() {
+		for (int size : sizes("rv_div_rv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_div_rv_w(z1, 0, vx, 0, vy, 0, size);
+			VO.rv_div_rv_w(z2, 0, vx, 0, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_div_rv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_div_rs() {
+		for (int size : sizes("cv_div_rs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_div_rs(z1, 0, vx, 0, sy, size);
+			VO.cv_div_rs(z2, 0, vx, 0, sy, size);
+			assertArrayEquals(z2, z1, delta("cv_div_rs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_div_rs_w() {
+		for (int size : sizes("cv_div_rs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_div_rs_w(z1, 0, vx, 0, sy, size);
+			VO.cv_div_rs_w(z2, 0, vx, 0, sy, size);
+			assertArrayEquals(z2, z1, delta("cv_div_rs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rs_div_cv() {
+		for (int size : sizes("rs_div_cv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rs_div_cv(z1, 0, sx, vy, 0, size);
+			VO.rs_div_cv(z2, 0, sx, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("rs_div_cv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rs_div_cv_w() {
+		for (int size : sizes("rs_div_cv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rs_div_cv_w(z1, 0, sx, vy, 0, size);
+			VO.rs_div_cv_w(z2, 0, sx, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("rs_div_cv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_div_rv() {
+		for (int size : sizes("cv_div_rv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_div_rv(z1, 0, vx, 0, vy, 0, size);
+			VO.cv_div_rv(z2, 0, vx, 0, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_div_rv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_div_rv_w() {
+		for (int size : sizes("cv_div_rv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_div_rv_w(z1, 0, vx, 0, vy, 0, size);
+			VO.cv_div_rv_w(z2, 0, vx, 0, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_div_rv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_div_cv() {
+		for (int size : sizes("rv_div_cv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_div_cv(z1, 0, vx, 0, vy, 0, size);
+			VO.rv_div_cv(z2, 0, vx, 0, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_div_cv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_div_cv_w() {
+		for (int size : sizes("rv_div_cv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_div_cv_w(z1, 0, vx, 0, vy, 0, size);
+			VO.rv_div_cv_w(z2, 0, vx, 0, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_div_cv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_div_cs() {
+		for (int size : sizes("cv_div_cs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_div_cs(z1, 0, vx, 0, vy, size);
+			VO.cv_div_cs(z2, 0, vx, 0, vy, size);
+			assertArrayEquals(z2, z1, delta("cv_div_cs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_div_cs_w() {
+		for (int size : sizes("cv_div_cs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_div_cs_w(z1, 0, vx, 0, vy, size);
+			VO.cv_div_cs_w(z2, 0, vx, 0, vy, size);
+			assertArrayEquals(z2, z1, delta("cv_div_cs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cs_div_cv() {
+		for (int size : sizes("cs_div_cv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cs_div_cv(z1, 0, vx, vy, 0, size);
+			VO.cs_div_cv(z2, 0, vx, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("cs_div_cv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cs_div_cv_w() {
+		for (int size : sizes("cs_div_cv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cs_div_cv_w(z1, 0, vx, vy, 0, size);
+			VO.cs_div_cv_w(z2, 0, vx, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("cs_div_cv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_div_cv() {
+		for (int size : sizes("cv_div_cv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_div_cv(z1, 0, vx, 0, vy, 0, size);
+			VO.cv_div_cv(z2, 0, vx, 0, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_div_cv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_div_cv_w() {
+		for (int size : sizes("cv_div_cv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_div_cv_w(z1, 0, vx, 0, vy, 0, size);
+			VO.cv_div_cv_w(z2, 0, vx, 0, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_div_cv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_conjmul_cv() {
+		for (int size : sizes("rv_conjmul_cv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_conjmul_cv(z1, 0, vx, 0, vy, 0, size);
+			VO.rv_conjmul_cv(z2, 0, vx, 0, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_conjmul_cv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_conjmul_cv_w() {
+		for (int size : sizes("rv_conjmul_cv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_conjmul_cv_w(z1, 0, vx, 0, vy, 0, size);
+			VO.rv_conjmul_cv_w(z2, 0, vx, 0, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_conjmul_cv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_conjmul_cv_i() {
+		for (int size : sizes("cv_conjmul_cv_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_conjmul_cv_i(z1, 0, vx, 0, size);
+			VO.cv_conjmul_cv_i(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_conjmul_cv_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_conjmul_cv_iw() {
+		for (int size : sizes("cv_conjmul_cv_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_conjmul_cv_iw(z1, 0, vx, 0, size);
+			VO.cv_conjmul_cv_iw(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_conjmul_cv_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_conjmul_cv() {
+		for (int size : sizes("cv_conjmul_cv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_conjmul_cv(z1, 0, vx, 0, vy, 0, size);
+			VO.cv_conjmul_cv(z2, 0, vx, 0, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_conjmul_cv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_conjmul_cv_w() {
+		for (int size : sizes("cv_conjmul_cv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_conjmul_cv_w(z1, 0, vx, 0, vy, 0, size);
+			VO.cv_conjmul_cv_w(z2, 0, vx, 0, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_conjmul_cv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_conj_i() {
+		for (int size : sizes("cv_conj_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_conj_i(z1, 0, size);
+			VO.cv_conj_i(z2, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_conj_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_conj_iw() {
+		for (int size : sizes("cv_conj_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_conj_iw(z1, 0, size);
+			VO.cv_conj_iw(z2, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_conj_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_conj() {
+		for (int size : sizes("cv_conj")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_conj(z1, 0, vx, 0, size);
+			VO.cv_conj(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_conj", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_conj_w() {
+		for (int size : sizes("cv_conj")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_conj_w(z1, 0, vx, 0, size);
+			VO.cv_conj_w(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_conj", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_expi() {
+		for (int size : sizes("rv_expi")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_expi(z1, 0, vx, 0, size);
+			VO.rv_expi(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_expi", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_expi_w() {
+		for (int size : sizes("rv_expi")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_expi_w(z1, 0, vx, 0, size);
+			VO.rv_expi_w(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_expi", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_exp_i() {
+		for (int size : sizes("rv_exp_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_exp_i(z1, 0, size);
+			VO.rv_exp_i(z2, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_exp_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_exp_iw() {
+		for (int size : sizes("rv_exp_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_exp_iw(z1, 0, size);
+			VO.rv_exp_iw(z2, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_exp_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_exp_i() {
+		for (int size : sizes("cv_exp_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_exp_i(z1, 0, size);
+			VO.cv_exp_i(z2, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_exp_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_exp_iw() {
+		for (int size : sizes("cv_exp_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_exp_iw(z1, 0, size);
+			VO.cv_exp_iw(z2, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_exp_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_exp() {
+		for (int size : sizes("rv_exp")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_exp(z1, 0, vx, 0, size);
+			VO.rv_exp(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_exp", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_exp_w() {
+		for (int size : sizes("rv_exp")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_exp_w(z1, 0, vx, 0, size);
+			VO.rv_exp_w(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_exp", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_exp() {
+		for (int size : sizes("cv_exp")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_exp(z1, 0, vx, 0, size);
+			VO.cv_exp(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_exp", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_exp_w() {
+		for (int size : sizes("cv_exp")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_exp_w(z1, 0, vx, 0, size);
+			VO.cv_exp_w(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_exp", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_im() {
+		for (int size : sizes("cv_im")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_im(z1, 0, vx, 0, size);
+			VO.cv_im(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_im", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_im_w() {
+		for (int size : sizes("cv_im")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_im_w(z1, 0, vx, 0, size);
+			VO.cv_im_w(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_im", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_re() {
+		for (int size : sizes("cv_re")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_re(z1, 0, vx, 0, size);
+			VO.cv_re(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_re", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_re_w() {
+		for (int size : sizes("cv_re")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_re_w(z1, 0, vx, 0, size);
+			VO.cv_re_w(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_re", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_abs() {
+		for (int size : sizes("cv_abs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_abs(z1, 0, vx, 0, size);
+			VO.cv_abs(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_abs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_abs_w() {
+		for (int size : sizes("cv_abs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_abs_w(z1, 0, vx, 0, size);
+			VO.cv_abs_w(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_abs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_arg() {
+		for (int size : sizes("cv_arg")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_arg(z1, 0, vx, 0, size);
+			VO.cv_arg(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_arg", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_arg_w() {
+		for (int size : sizes("cv_arg")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_arg_w(z1, 0, vx, 0, size);
+			VO.cv_arg_w(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_arg", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_arg_f() {
+		for (int size : sizes("cv_arg_f")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_arg_f(z1, 0, vx, 0, size);
+			VO.cv_arg_f(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_arg_f", size, EPSILON_FAST), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_arg_fw() {
+		for (int size : sizes("cv_arg_f")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_arg_fw(z1, 0, vx, 0, size);
+			VO.cv_arg_fw(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_arg_f", size, EPSILON_FAST), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_argmul_rs() {
+		for (int size : sizes("cv_argmul_rs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_argmul_rs(z1, 0, vx, 0, sy, size);
+			VO.cv_argmul_rs(z2, 0, vx, 0, sy, size);
+			assertArrayEquals(z2, z1, delta("cv_argmul_rs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_argmul_rs_w() {
+		for (int size : sizes("cv_argmul_rs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_argmul_rs_w(z1, 0, vx, 0, sy, size);
+			VO.cv_argmul_rs_w(z2, 0, vx, 0, sy, size);
+			assertArrayEquals(z2, z1, delta("cv_argmul_rs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_argmul_rs_f() {
+		for (int size : sizes("cv_argmul_rs_f")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_argmul_rs_f(z1, 0, vx, 0, sy, size);
+			VO.cv_argmul_rs_f(z2, 0, vx, 0, sy, size);
+			assertArrayEquals(z2, z1, delta("cv_argmul_rs_f", size, EPSILON_FAST), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_argmul_rs_fw() {
+		for (int size : sizes("cv_argmul_rs_f")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_argmul_rs_fw(z1, 0, vx, 0, sy, size);
+			VO.cv_argmul_rs_fw(z2, 0, vx, 0, sy, size);
+			assertArrayEquals(z2, z1, delta("cv_argmul_rs_f", size, EPSILON_FAST), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_abs_i() {
+		for (int size : sizes("rv_abs_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_abs_i(z1, 0, size);
+			VO.rv_abs_i(z2, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_abs_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_abs_iw() {
+		for (int size : sizes("rv_abs_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_abs_iw(z1, 0, size);
+			VO.rv_abs_iw(z2, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_abs_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_abs() {
+		for (int size : sizes("rv_abs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_abs(z1, 0, vx, 0, size);
+			VO.rv_abs(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_abs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_abs_w() {
+		for (int size : sizes("rv_abs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_abs_w(z1, 0, vx, 0, size);
+			VO.rv_abs_w(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_abs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_cvt() {
+		for (int size : sizes("rv_cvt")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_cvt(z1, 0, vx, 0, size);
+			VO.rv_cvt(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_cvt", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_cvt_w() {
+		for (int size : sizes("rv_cvt")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_cvt_w(z1, 0, vx, 0, size);
+			VO.rv_cvt_w(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_cvt", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_r2p_i() {
+		for (int size : sizes("cv_r2p_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_r2p_i(z1, 0, size);
+			VO.cv_r2p_i(z2, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_r2p_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_r2p_iw() {
+		for (int size : sizes("cv_r2p_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_r2p_iw(z1, 0, size);
+			VO.cv_r2p_iw(z2, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_r2p_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_r2p_if() {
+		for (int size : sizes("cv_r2p_if")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_r2p_if(z1, 0, size);
+			VO.cv_r2p_if(z2, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_r2p_if", size, EPSILON_FAST), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_r2p_ifw() {
+		for (int size : sizes("cv_r2p_if")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_r2p_ifw(z1, 0, size);
+			VO.cv_r2p_ifw(z2, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_r2p_if", size, EPSILON_FAST), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_r2p() {
+		for (int size : sizes("cv_r2p")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_r2p(z1, 0, vx, 0, size);
+			VO.cv_r2p(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_r2p", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_r2p_w() {
+		for (int size : sizes("cv_r2p")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_r2p_w(z1, 0, vx, 0, size);
+			VO.cv_r2p_w(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_r2p", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_r2p_f() {
+		for (int size : sizes("cv_r2p_f")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_r2p_f(z1, 0, vx, 0, size);
+			VO.cv_r2p_f(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_r2p_f", size, EPSILON_FAST), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_r2p_fw() {
+		for (int size : sizes("cv_r2p_f")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_r2p_fw(z1, 0, vx, 0, size);
+			VO.cv_r2p_fw(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_r2p_f", size, EPSILON_FAST), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_p2r_i() {
+		for (int size : sizes("cv_p2r_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_p2r_i(z1, 0, size);
+			VO.cv_p2r_i(z2, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_p2r_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_p2r_iw() {
+		for (int size : sizes("cv_p2r_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_p2r_iw(z1, 0, size);
+			VO.cv_p2r_iw(z2, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_p2r_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_p2r() {
+		for (int size : sizes("cv_p2r")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_p2r(z1, 0, vx, 0, size);
+			VO.cv_p2r(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_p2r", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_p2r_w() {
+		for (int size : sizes("cv_p2r")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_p2r_w(z1, 0, vx, 0, size);
+			VO.cv_p2r_w(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_p2r", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_sum() {
+		for (int size : sizes("rv_sum")) {
+			final float r1 = V.rv_sum(vx, 0, size);
+			final float r2 = VO.rv_sum(vx, 0, size);
+			assertEquals(r2, r1, delta("rv_sum", size, EPSILON * size), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_sum_w() {
+		for (int size : sizes("rv_sum")) {
+			final float r1 = V.rv_sum_w(vx, 0, size);
+			final float r2 = VO.rv_sum_w(vx, 0, size);
+			assertEquals(r2, r1, delta("rv_sum", size, EPSILON * size), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_sum() {
+		for (int size : sizes("cv_sum")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_sum(z1, vx, 0, size);
+			VO.cv_sum(z2, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_sum", size, EPSILON * size), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_sum_z_x() {
+		for (int size : sizes("cv_sum")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_sum(z1, 0, vx, 0, size);
+			VO.cv_sum(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_sum", size, EPSILON * size), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_sum_w() {
+		for (int size : sizes("cv_sum")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_sum_w(z1, vx, 0, size);
+			VO.cv_sum_w(z2, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_sum", size, EPSILON * size), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_sum_w_z_x() {
+		for (int size : sizes("cv_sum")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_sum_w(z1, 0, vx, 0, size);
+			VO.cv_sum_w(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_sum", size, EPSILON * size), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_dot_rv() {
+		for (int size : sizes("rv_dot_rv")) {
+			final float r1 = V.rv_dot_rv(vx, 0, vy, 0, size);
+			final float r2 = VO.rv_dot_rv(vx, 0, vy, 0, size);
+			assertEquals(r2, r1, delta("rv_dot_rv", size, EPSILON * size), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_dot_rv_w() {
+		for (int size : sizes("rv_dot_rv")) {
+			final float r1 = V.rv_dot_rv_w(vx, 0, vy, size);
+			final float r2 = VO.rv_dot_rv_w(vx, 0, vy, size);
+			assertEquals(r2, r1, 0.0f, "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_dot_rv_w_x_y() {
+		for (int size : sizes("rv_dot_rv")) {
+			final float r1 = V.rv_dot_rv_w(vx, 0, vy, 0, size);
+			final float r2 = VO.rv_dot_rv_w(vx, 0, vy, 0, size);
+			assertEquals(r2, r1, delta("rv_dot_rv", size, EPSILON * size), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_dot_cv() {
+		for (int size : sizes("rv_dot_cv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_dot_cv(z1, vx, 0, vy, 0, size);
+			VO.rv_dot_cv(z2, vx, 0, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_dot_cv", size, EPSILON * size), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_dot_cv_z_x_y() {
+		for (int size : sizes("rv_dot_cv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_dot_cv(z1, 0, vx, 0, vy, 0, size);
+			VO.rv_dot_cv(z2, 0, vx, 0, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_dot_cv", size, EPSILON * size), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_dot_cv_w() {
+		for (int size : sizes("rv_dot_cv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_dot_cv_w(z1, vx, 0, vy, size);
+			VO.rv_dot_cv_w(z2, vx, 0, vy, size);
+			assertArrayEquals(z2, z1, 0.0f, "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_dot_cv_w_x_y() {
+		for (int size : sizes("rv_dot_cv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_dot_cv_w(z1, vx, 0, vy, 0, size);
+			VO.rv_dot_cv_w(z2, vx, 0, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_dot_cv", size, EPSILON * size), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_dot_cv_w_z_x() {
+		for (int size : sizes("rv_dot_cv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_dot_cv_w(z1, 0, vx, 0, vy, size);
+			VO.rv_dot_cv_w(z2, 0, vx, 0, vy, size);
+			assertArrayEquals(z2, z1, 0.0f, "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_dot_cv_w_z_x_y() {
+		for (int size : sizes("rv_dot_cv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_dot_cv_w(z1, 0, vx, 0, vy, 0, size);
+			VO.rv_dot_cv_w(z2, 0, vx, 0, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_dot_cv", size, EPSILON * size), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_dot_rv_w() {
+		for (int size : sizes("cv_dot_rv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_dot_rv_w(z1, vx, 0, vy, size);
+			VO.cv_dot_rv_w(z2, vx, 0, vy, size);
+			assertArrayEquals(z2, z1, 0.0f, "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_dot_rv_w_z_x() {
+		for (int size : sizes("cv_dot_rv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_dot_rv_w(z1, 0, vx, 0, vy, size);
+			VO.cv_dot_rv_w(z2, 0, vx, 0, vy, size);
+			assertArrayEquals(z2, z1, 0.0f, "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_dot_cv() {
+		for (int size : sizes("cv_dot_cv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_dot_cv(z1, vx, 0, vy, 0, size);
+			VO.cv_dot_cv(z2, vx, 0, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_dot_cv", size, EPSILON * size), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_dot_cv_z_x_y() {
+		for (int size : sizes("cv_dot_cv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_dot_cv(z1, 0, vx, 0, vy, 0, size);
+			VO.cv_dot_cv(z2, 0, vx, 0, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_dot_cv", size, EPSILON * size), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_dot_cv_w() {
+		for (int size : sizes("cv_dot_cv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_dot_cv_w(z1, vx, 0, vy, size);
+			VO.cv_dot_cv_w(z2, vx, 0, vy, size);
+			assertArrayEquals(z2, z1, 0.0f, "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_dot_cv_w_x_y() {
+		for (int size : sizes("cv_dot_cv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_dot_cv_w(z1, vx, 0, vy, 0, size);
+			VO.cv_dot_cv_w(z2, vx, 0, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_dot_cv", size, EPSILON * size), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_dot_cv_w_z_x() {
+		for (int size : sizes("cv_dot_cv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_dot_cv_w(z1, 0, vx, 0, vy, size);
+			VO.cv_dot_cv_w(z2, 0, vx, 0, vy, size);
+			assertArrayEquals(z2, z1, 0.0f, "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_dot_cv_w_z_x_y() {
+		for (int size : sizes("cv_dot_cv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_dot_cv_w(z1, 0, vx, 0, vy, 0, size);
+			VO.cv_dot_cv_w(z2, 0, vx, 0, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_dot_cv", size, EPSILON * size), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_cpy() {
+		for (int size : sizes("rv_cpy")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_cpy(z1, 0, vx, 0, size);
+			VO.rv_cpy(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_cpy", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_cpy_w() {
+		for (int size : sizes("rv_cpy")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_cpy_w(z1, 0, vx, 0, size);
+			VO.rv_cpy_w(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_cpy", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_cpy() {
+		for (int size : sizes("cv_cpy")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_cpy(z1, 0, vx, 0, size);
+			VO.cv_cpy(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_cpy", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_cpy_w() {
+		for (int size : sizes("cv_cpy")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_cpy_w(z1, 0, vx, 0, size);
+			VO.cv_cpy_w(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_cpy", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_rev_i() {
+		for (int size : sizes("rv_rev_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_rev_i(z1, 0, size);
+			VO.rv_rev_i(z2, 0, size);
+			assertArrayEquals(z2, z1, 0.0f, "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_rev_iw() {
+		for (int size : sizes("rv_rev_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_rev_iw(z1, 0, size);
+			VO.rv_rev_iw(z2, 0, size);
+			assertArrayEquals(z2, z1, 0.0f, "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_rev_i() {
+		for (int size : sizes("cv_rev_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_rev_i(z1, 0, size);
+			VO.cv_rev_i(z2, 0, size);
+			assertArrayEquals(z2, z1, 0.0f, "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_rev_iw() {
+		for (int size : sizes("cv_rev_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_rev_iw(z1, 0, size);
+			VO.cv_rev_iw(z2, 0, size);
+			assertArrayEquals(z2, z1, 0.0f, "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_rev() {
+		for (int size : sizes("rv_rev")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_rev(z1, 0, vx, 0, size);
+			VO.rv_rev(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, 0.0f, "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_rev_w() {
+		for (int size : sizes("rv_rev")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_rev_w(z1, 0, vx, 0, size);
+			VO.rv_rev_w(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, 0.0f, "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_rev() {
+		for (int size : sizes("cv_rev")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_rev(z1, 0, vx, 0, size);
+			VO.cv_rev(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, 0.0f, "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_rev_w() {
+		for (int size : sizes("cv_rev")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_rev_w(z1, 0, vx, 0, size);
+			VO.cv_rev_w(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, 0.0f, "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_max() {
+		for (int size : sizes("rv_max")) {
+			final float r1 = V.rv_max(vx, 0, size);
+			final float r2 = VO.rv_max(vx, 0, size);
+			assertEquals(r2, r1, delta("rv_max", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_max_w() {
+		for (int size : sizes("rv_max")) {
+			final float r1 = V.rv_max_w(vx, 0, size);
+			final float r2 = VO.rv_max_w(vx, 0, size);
+			assertEquals(r2, r1, delta("rv_max", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_max_rv_i() {
+		for (int size : sizes("rv_max_rv_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_max_rv_i(z1, 0, vx, 0, size);
+			VO.rv_max_rv_i(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_max_rv_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_max_rv_iw() {
+		for (int size : sizes("rv_max_rv_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_max_rv_iw(z1, 0, vx, 0, size);
+			VO.rv_max_rv_iw(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_max_rv_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_max_rv() {
+		for (int size : sizes("rv_max_rv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_max_rv(z1, 0, vx, 0, vy, 0, size);
+			VO.rv_max_rv(z2, 0, vx, 0, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_max_rv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_max_rv_w() {
+		for (int size : sizes("rv_max_rv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_max_rv_w(z1, 0, vx, 0, vy, 0, size);
+			VO.rv_max_rv_w(z2, 0, vx, 0, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_max_rv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_max() {
+		for (int size : sizes("cv_max")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_max(z1, vx, 0, size);
+			VO.cv_max(z2, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_max", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_max_z_x() {
+		for (int size : sizes("cv_max")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_max(z1, 0, vx, 0, size);
+			VO.cv_max(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_max", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_max_w() {
+		for (int size : sizes("cv_max")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_max_w(z1, vx, 0, size);
+			VO.cv_max_w(z2, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_max", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_max_w_z_x() {
+		for (int size : sizes("cv_max")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_max_w(z1, 0, vx, 0, size);
+			VO.cv_max_w(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_max", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_max_cv_i() {
+		for (int size : sizes("cv_max_cv_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_max_cv_i(z1, 0, vx, 0, size);
+			VO.cv_max_cv_i(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_max_cv_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_max_cv_iw() {
+		for (int size : sizes("cv_max_cv_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_max_cv_iw(z1, 0, vx, 0, size);
+			VO.cv_max_cv_iw(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_max_cv_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_max_cv() {
+		for (int size : sizes("cv_max_cv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_max_cv(z1, 0, vx, 0, vy, 0, size);
+			VO.cv_max_cv(z2, 0, vx, 0, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_max_cv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_max_cv_w() {
+		for (int size : sizes("cv_max_cv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_max_cv_w(z1, 0, vx, 0, vy, 0, size);
+			VO.cv_max_cv_w(z2, 0, vx, 0, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_max_cv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_min() {
+		for (int size : sizes("rv_min")) {
+			final float r1 = V.rv_min(vx, 0, size);
+			final float r2 = VO.rv_min(vx, 0, size);
+			assertEquals(r2, r1, delta("rv_min", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_min_w() {
+		for (int size : sizes("rv_min")) {
+			final float r1 = V.rv_min_w(vx, 0, size);
+			final float r2 = VO.rv_min_w(vx, 0, size);
+			assertEquals(r2, r1, delta("rv_min", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_min_rv_i() {
+		for (int size : sizes("rv_min_rv_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_min_rv_i(z1, 0, vx, 0, size);
+			VO.rv_min_rv_i(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_min_rv_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_min_rv_iw() {
+		for (int size : sizes("rv_min_rv_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_min_rv_iw(z1, 0, vx, 0, size);
+			VO.rv_min_rv_iw(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_min_rv_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_min_rv() {
+		for (int size : sizes("rv_min_rv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_min_rv(z1, 0, vx, 0, vy, 0, size);
+			VO.rv_min_rv(z2, 0, vx, 0, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_min_rv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_min_rv_w() {
+		for (int size : sizes("rv_min_rv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_min_rv_w(z1, 0, vx, 0, vy, 0, size);
+			VO.rv_min_rv_w(z2, 0, vx, 0, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_min_rv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_min() {
+		for (int size : sizes("cv_min")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_min(z1, vx, 0, size);
+			VO.cv_min(z2, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_min", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_min_z_x() {
+		for (int size : sizes("cv_min")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_min(z1, 0, vx, 0, size);
+			VO.cv_min(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_min", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_min_w() {
+		for (int size : sizes("cv_min")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_min_w(z1, vx, 0, size);
+			VO.cv_min_w(z2, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_min", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_min_w_z_x() {
+		for (int size : sizes("cv_min")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_min_w(z1, 0, vx, 0, size);
+			VO.cv_min_w(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_min", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_min_cv_i() {
+		for (int size : sizes("cv_min_cv_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_min_cv_i(z1, 0, vx, 0, size);
+			VO.cv_min_cv_i(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_min_cv_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_min_cv_iw() {
+		for (int size : sizes("cv_min_cv_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_min_cv_iw(z1, 0, vx, 0, size);
+			VO.cv_min_cv_iw(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_min_cv_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_min_cv() {
+		for (int size : sizes("cv_min_cv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_min_cv(z1, 0, vx, 0, vy, 0, size);
+			VO.cv_min_cv(z2, 0, vx, 0, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_min_cv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_min_cv_w() {
+		for (int size : sizes("cv_min_cv")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_min_cv_w(z1, 0, vx, 0, vy, 0, size);
+			VO.cv_min_cv_w(z2, 0, vx, 0, vy, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_min_cv", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_maxarg() {
+		for (int size : sizes("rv_maxarg")) {
+			final int r1 = V.rv_maxarg(vx, 0, size);
+			final int r2 = VO.rv_maxarg(vx, 0, size);
+			assertEquals(r2, r1, "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_maxarg_w() {
+		for (int size : sizes("rv_maxarg")) {
+			final int r1 = V.rv_maxarg_w(vx, 0, size);
+			final int r2 = VO.rv_maxarg_w(vx, 0, size);
+			assertEquals(r2, r1, "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_maxarg() {
+		for (int size : sizes("cv_maxarg")) {
+			final int r1 = V.cv_maxarg(vx, 0, size);
+			final int r2 = VO.cv_maxarg(vx, 0, size);
+			assertEquals(r2, r1, "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_maxarg_w() {
+		for (int size : sizes("cv_maxarg")) {
+			final int r1 = V.cv_maxarg_w(vx, 0, size);
+			final int r2 = VO.cv_maxarg_w(vx, 0, size);
+			assertEquals(r2, r1, "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_minarg() {
+		for (int size : sizes("rv_minarg")) {
+			final int r1 = V.rv_minarg(vx, 0, size);
+			final int r2 = VO.rv_minarg(vx, 0, size);
+			assertEquals(r2, r1, "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_minarg_w() {
+		for (int size : sizes("rv_minarg")) {
+			final int r1 = V.rv_minarg_w(vx, 0, size);
+			final int r2 = VO.rv_minarg_w(vx, 0, size);
+			assertEquals(r2, r1, "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_minarg() {
+		for (int size : sizes("cv_minarg")) {
+			final int r1 = V.cv_minarg(vx, 0, size);
+			final int r2 = VO.cv_minarg(vx, 0, size);
+			assertEquals(r2, r1, "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_minarg_w() {
+		for (int size : sizes("cv_minarg")) {
+			final int r1 = V.cv_minarg_w(vx, 0, size);
+			final int r2 = VO.cv_minarg_w(vx, 0, size);
+			assertEquals(r2, r1, "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_rs_lin_rv_rs_i() {
+		for (int size : sizes("rv_rs_lin_rv_rs_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_rs_lin_rv_rs_i(z1, 0, sa1, vx, 0, sa2, size);
+			VO.rv_rs_lin_rv_rs_i(z2, 0, sa1, vx, 0, sa2, size);
+			assertArrayEquals(z2, z1, delta("rv_rs_lin_rv_rs_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_rs_lin_rv_rs_iw() {
+		for (int size : sizes("rv_rs_lin_rv_rs_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_rs_lin_rv_rs_iw(z1, 0, sa1, vx, 0, sa2, size);
+			VO.rv_rs_lin_rv_rs_iw(z2, 0, sa1, vx, 0, sa2, size);
+			assertArrayEquals(z2, z1, delta("rv_rs_lin_rv_rs_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_rs_lin_rv_rs() {
+		for (int size : sizes("rv_rs_lin_rv_rs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_rs_lin_rv_rs(z1, 0, vx, 0, sa1, vy, 0, sa2, size);
+			VO.rv_rs_lin_rv_rs(z2, 0, vx, 0, sa1, vy, 0, sa2, size);
+			assertArrayEquals(z2, z1, delta("rv_rs_lin_rv_rs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_rs_lin_rv_rs_w() {
+		for (int size : sizes("rv_rs_lin_rv_rs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_rs_lin_rv_rs_w(z1, 0, vx, 0, sa1, vy, 0, sa2, size);
+			VO.rv_rs_lin_rv_rs_w(z2, 0, vx, 0, sa1, vy, 0, sa2, size);
+			assertArrayEquals(z2, z1, delta("rv_rs_lin_rv_rs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_rs_lin_rv_cs() {
+		for (int size : sizes("rv_rs_lin_rv_cs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_rs_lin_rv_cs(z1, 0, vx, 0, sa1, vy, 0, va2, size);
+			VO.rv_rs_lin_rv_cs(z2, 0, vx, 0, sa1, vy, 0, va2, size);
+			assertArrayEquals(z2, z1, delta("rv_rs_lin_rv_cs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_rs_lin_rv_cs_w() {
+		for (int size : sizes("rv_rs_lin_rv_cs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_rs_lin_rv_cs_w(z1, 0, vx, 0, sa1, vy, 0, va2, size);
+			VO.rv_rs_lin_rv_cs_w(z2, 0, vx, 0, sa1, vy, 0, va2, size);
+			assertArrayEquals(z2, z1, delta("rv_rs_lin_rv_cs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_cs_lin_rv_cs() {
+		for (int size : sizes("rv_cs_lin_rv_cs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_cs_lin_rv_cs(z1, 0, vx, 0, va1, vy, 0, va2, size);
+			VO.rv_cs_lin_rv_cs(z2, 0, vx, 0, va1, vy, 0, va2, size);
+			assertArrayEquals(z2, z1, delta("rv_cs_lin_rv_cs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_cs_lin_rv_cs_w() {
+		for (int size : sizes("rv_cs_lin_rv_cs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_cs_lin_rv_cs_w(z1, 0, vx, 0, va1, vy, 0, va2, size);
+			VO.rv_cs_lin_rv_cs_w(z2, 0, vx, 0, va1, vy, 0, va2, size);
+			assertArrayEquals(z2, z1, delta("rv_cs_lin_rv_cs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_rs_lin_rv_rs_i() {
+		for (int size : sizes("cv_rs_lin_rv_rs_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_rs_lin_rv_rs_i(z1, 0, sa1, vx, 0, sa2, size);
+			VO.cv_rs_lin_rv_rs_i(z2, 0, sa1, vx, 0, sa2, size);
+			assertArrayEquals(z2, z1, delta("cv_rs_lin_rv_rs_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_rs_lin_rv_rs_iw() {
+		for (int size : sizes("cv_rs_lin_rv_rs_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_rs_lin_rv_rs_iw(z1, 0, sa1, vx, 0, sa2, size);
+			VO.cv_rs_lin_rv_rs_iw(z2, 0, sa1, vx, 0, sa2, size);
+			assertArrayEquals(z2, z1, delta("cv_rs_lin_rv_rs_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_rs_lin_rv_rs() {
+		for (int size : sizes("cv_rs_lin_rv_rs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_rs_lin_rv_rs(z1, 0, vx, 0, sa1, vy, 0, sa2, size);
+			VO.cv_rs_lin_rv_rs(z2, 0, vx, 0, sa1, vy, 0, sa2, size);
+			assertArrayEquals(z2, z1, delta("cv_rs_lin_rv_rs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_rs_lin_rv_rs_w() {
+		for (int size : sizes("cv_rs_lin_rv_rs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_rs_lin_rv_rs_w(z1, 0, vx, 0, sa1, vy, 0, sa2, size);
+			VO.cv_rs_lin_rv_rs_w(z2, 0, vx, 0, sa1, vy, 0, sa2, size);
+			assertArrayEquals(z2, z1, delta("cv_rs_lin_rv_rs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_cs_lin_rv_rs_i() {
+		for (int size : sizes("cv_cs_lin_rv_rs_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_cs_lin_rv_rs_i(z1, 0, va1, vx, 0, sa2, size);
+			VO.cv_cs_lin_rv_rs_i(z2, 0, va1, vx, 0, sa2, size);
+			assertArrayEquals(z2, z1, delta("cv_cs_lin_rv_rs_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_cs_lin_rv_rs_iw() {
+		for (int size : sizes("cv_cs_lin_rv_rs_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_cs_lin_rv_rs_iw(z1, 0, va1, vx, 0, sa2, size);
+			VO.cv_cs_lin_rv_rs_iw(z2, 0, va1, vx, 0, sa2, size);
+			assertArrayEquals(z2, z1, delta("cv_cs_lin_rv_rs_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_cs_lin_rv_rs() {
+		for (int size : sizes("cv_cs_lin_rv_rs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_cs_lin_rv_rs(z1, 0, vx, 0, va1, vy, 0, sa2, size);
+			VO.cv_cs_lin_rv_rs(z2, 0, vx, 0, va1, vy, 0, sa2, size);
+			assertArrayEquals(z2, z1, delta("cv_cs_lin_rv_rs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_cs_lin_rv_rs_w() {
+		for (int size : sizes("cv_cs_lin_rv_rs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_cs_lin_rv_rs_w(z1, 0, vx, 0, va1, vy, 0, sa2, size);
+			VO.cv_cs_lin_rv_rs_w(z2, 0, vx, 0, va1, vy, 0, sa2, size);
+			assertArrayEquals(z2, z1, delta("cv_cs_lin_rv_rs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_rs_lin_rv_cs_i() {
+		for (int size : sizes("cv_rs_lin_rv_cs_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_rs_lin_rv_cs_i(z1, 0, sa1, vx, 0, va2, size);
+			VO.cv_rs_lin_rv_cs_i(z2, 0, sa1, vx, 0, va2, size);
+			assertArrayEquals(z2, z1, delta("cv_rs_lin_rv_cs_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_rs_lin_rv_cs_iw() {
+		for (int size : sizes("cv_rs_lin_rv_cs_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_rs_lin_rv_cs_iw(z1, 0, sa1, vx, 0, va2, size);
+			VO.cv_rs_lin_rv_cs_iw(z2, 0, sa1, vx, 0, va2, size);
+			assertArrayEquals(z2, z1, delta("cv_rs_lin_rv_cs_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_rs_lin_rv_cs() {
+		for (int size : sizes("cv_rs_lin_rv_cs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_rs_lin_rv_cs(z1, 0, vx, 0, sa1, vy, 0, va2, size);
+			VO.cv_rs_lin_rv_cs(z2, 0, vx, 0, sa1, vy, 0, va2, size);
+			assertArrayEquals(z2, z1, delta("cv_rs_lin_rv_cs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_rs_lin_rv_cs_w() {
+		for (int size : sizes("cv_rs_lin_rv_cs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_rs_lin_rv_cs_w(z1, 0, vx, 0, sa1, vy, 0, va2, size);
+			VO.cv_rs_lin_rv_cs_w(z2, 0, vx, 0, sa1, vy, 0, va2, size);
+			assertArrayEquals(z2, z1, delta("cv_rs_lin_rv_cs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_cs_lin_rv_cs_i() {
+		for (int size : sizes("cv_cs_lin_rv_cs_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_cs_lin_rv_cs_i(z1, 0, va1, vx, 0, va2, size);
+			VO.cv_cs_lin_rv_cs_i(z2, 0, va1, vx, 0, va2, size);
+			assertArrayEquals(z2, z1, delta("cv_cs_lin_rv_cs_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_cs_lin_rv_cs_iw() {
+		for (int size : sizes("cv_cs_lin_rv_cs_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_cs_lin_rv_cs_iw(z1, 0, va1, vx, 0, va2, size);
+			VO.cv_cs_lin_rv_cs_iw(z2, 0, va1, vx, 0, va2, size);
+			assertArrayEquals(z2, z1, delta("cv_cs_lin_rv_cs_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_cs_lin_rv_cs() {
+		for (int size : sizes("cv_cs_lin_rv_cs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_cs_lin_rv_cs(z1, 0, vx, 0, va1, vy, 0, va2, size);
+			VO.cv_cs_lin_rv_cs(z2, 0, vx, 0, va1, vy, 0, va2, size);
+			assertArrayEquals(z2, z1, delta("cv_cs_lin_rv_cs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_cs_lin_rv_cs_w() {
+		for (int size : sizes("cv_cs_lin_rv_cs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_cs_lin_rv_cs_w(z1, 0, vx, 0, va1, vy, 0, va2, size);
+			VO.cv_cs_lin_rv_cs_w(z2, 0, vx, 0, va1, vy, 0, va2, size);
+			assertArrayEquals(z2, z1, delta("cv_cs_lin_rv_cs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_rs_lin_cv_rs_i() {
+		for (int size : sizes("cv_rs_lin_cv_rs_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_rs_lin_cv_rs_i(z1, 0, sa1, vx, 0, sa2, size);
+			VO.cv_rs_lin_cv_rs_i(z2, 0, sa1, vx, 0, sa2, size);
+			assertArrayEquals(z2, z1, delta("cv_rs_lin_cv_rs_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_rs_lin_cv_rs_iw() {
+		for (int size : sizes("cv_rs_lin_cv_rs_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_rs_lin_cv_rs_iw(z1, 0, sa1, vx, 0, sa2, size);
+			VO.cv_rs_lin_cv_rs_iw(z2, 0, sa1, vx, 0, sa2, size);
+			assertArrayEquals(z2, z1, delta("cv_rs_lin_cv_rs_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_rs_lin_cv_rs() {
+		for (int size : sizes("cv_rs_lin_cv_rs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_rs_lin_cv_rs(z1, 0, vx, 0, sa1, vy, 0, sa2, size);
+			VO.cv_rs_lin_cv_rs(z2, 0, vx, 0, sa1, vy, 0, sa2, size);
+			assertArrayEquals(z2, z1, delta("cv_rs_lin_cv_rs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_rs_lin_cv_rs_w() {
+		for (int size : sizes("cv_rs_lin_cv_rs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_rs_lin_cv_rs_w(z1, 0, vx, 0, sa1, vy, 0, sa2, size);
+			VO.cv_rs_lin_cv_rs_w(z2, 0, vx, 0, sa1, vy, 0, sa2, size);
+			assertArrayEquals(z2, z1, delta("cv_rs_lin_cv_rs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_cs_lin_cv_rs_i() {
+		for (int size : sizes("cv_cs_lin_cv_rs_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_cs_lin_cv_rs_i(z1, 0, va1, vx, 0, sa2, size);
+			VO.cv_cs_lin_cv_rs_i(z2, 0, va1, vx, 0, sa2, size);
+			assertArrayEquals(z2, z1, delta("cv_cs_lin_cv_rs_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_cs_lin_cv_rs_iw() {
+		for (int size : sizes("cv_cs_lin_cv_rs_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_cs_lin_cv_rs_iw(z1, 0, va1, vx, 0, sa2, size);
+			VO.cv_cs_lin_cv_rs_iw(z2, 0, va1, vx, 0, sa2, size);
+			assertArrayEquals(z2, z1, delta("cv_cs_lin_cv_rs_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_cs_lin_cv_rs() {
+		for (int size : sizes("cv_cs_lin_cv_rs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_cs_lin_cv_rs(z1, 0, vx, 0, va1, vy, 0, sa2, size);
+			VO.cv_cs_lin_cv_rs(z2, 0, vx, 0, va1, vy, 0, sa2, size);
+			assertArrayEquals(z2, z1, delta("cv_cs_lin_cv_rs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_cs_lin_cv_rs_w() {
+		for (int size : sizes("cv_cs_lin_cv_rs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_cs_lin_cv_rs_w(z1, 0, vx, 0, va1, vy, 0, sa2, size);
+			VO.cv_cs_lin_cv_rs_w(z2, 0, vx, 0, va1, vy, 0, sa2, size);
+			assertArrayEquals(z2, z1, delta("cv_cs_lin_cv_rs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_cs_lin_cv_cs_i() {
+		for (int size : sizes("cv_cs_lin_cv_cs_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_cs_lin_cv_cs_i(z1, 0, va1, vx, 0, va2, size);
+			VO.cv_cs_lin_cv_cs_i(z2, 0, va1, vx, 0, va2, size);
+			assertArrayEquals(z2, z1, delta("cv_cs_lin_cv_cs_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_cs_lin_cv_cs_iw() {
+		for (int size : sizes("cv_cs_lin_cv_cs_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_cs_lin_cv_cs_iw(z1, 0, va1, vx, 0, va2, size);
+			VO.cv_cs_lin_cv_cs_iw(z2, 0, va1, vx, 0, va2, size);
+			assertArrayEquals(z2, z1, delta("cv_cs_lin_cv_cs_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_cs_lin_cv_cs() {
+		for (int size : sizes("cv_cs_lin_cv_cs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_cs_lin_cv_cs(z1, 0, vx, 0, va1, vy, 0, va2, size);
+			VO.cv_cs_lin_cv_cs(z2, 0, vx, 0, va1, vy, 0, va2, size);
+			assertArrayEquals(z2, z1, delta("cv_cs_lin_cv_cs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_cs_lin_cv_cs_w() {
+		for (int size : sizes("cv_cs_lin_cv_cs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_cs_lin_cv_cs_w(z1, 0, vx, 0, va1, vy, 0, va2, size);
+			VO.cv_cs_lin_cv_cs_w(z2, 0, vx, 0, va1, vy, 0, va2, size);
+			assertArrayEquals(z2, z1, delta("cv_cs_lin_cv_cs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_10log10_i() {
+		for (int size : sizes("rv_10log10_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_10log10_i(z1, 0, size);
+			VO.rv_10log10_i(z2, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_10log10_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_10log10_iw() {
+		for (int size : sizes("rv_10log10_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_10log10_iw(z1, 0, size);
+			VO.rv_10log10_iw(z2, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_10log10_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_10log10() {
+		for (int size : sizes("rv_10log10")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_10log10(z1, 0, vx, 0, size);
+			VO.rv_10log10(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_10log10", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_10log10_w() {
+		for (int size : sizes("rv_10log10")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_10log10_w(z1, 0, vx, 0, size);
+			VO.rv_10log10_w(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_10log10", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_10log10_rs_i() {
+		for (int size : sizes("rv_10log10_rs_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_10log10_rs_i(z1, 0, sbase, size);
+			VO.rv_10log10_rs_i(z2, 0, sbase, size);
+			assertArrayEquals(z2, z1, delta("rv_10log10_rs_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_10log10_rs_iw() {
+		for (int size : sizes("rv_10log10_rs_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_10log10_rs_iw(z1, 0, sbase, size);
+			VO.rv_10log10_rs_iw(z2, 0, sbase, size);
+			assertArrayEquals(z2, z1, delta("rv_10log10_rs_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_10log10_rs() {
+		for (int size : sizes("rv_10log10_rs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_10log10_rs(z1, 0, vx, 0, sbase, size);
+			VO.rv_10log10_rs(z2, 0, vx, 0, sbase, size);
+			assertArrayEquals(z2, z1, delta("rv_10log10_rs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_10log10_rs_w() {
+		for (int size : sizes("rv_10log10_rs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_10log10_rs_w(z1, 0, vx, 0, sbase, size);
+			VO.rv_10log10_rs_w(z2, 0, vx, 0, sbase, size);
+			assertArrayEquals(z2, z1, delta("rv_10log10_rs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_10log10() {
+		for (int size : sizes("cv_10log10")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_10log10(z1, 0, vx, 0, size);
+			VO.cv_10log10(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_10log10", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_10log10_w() {
+		for (int size : sizes("cv_10log10")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_10log10_w(z1, 0, vx, 0, size);
+			VO.cv_10log10_w(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_10log10", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_10log10_rs() {
+		for (int size : sizes("cv_10log10_rs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_10log10_rs(z1, 0, vx, 0, sbase, size);
+			VO.cv_10log10_rs(z2, 0, vx, 0, sbase, size);
+			assertArrayEquals(z2, z1, delta("cv_10log10_rs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_10log10_rs_w() {
+		for (int size : sizes("cv_10log10_rs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_10log10_rs_w(z1, 0, vx, 0, sbase, size);
+			VO.cv_10log10_rs_w(z2, 0, vx, 0, sbase, size);
+			assertArrayEquals(z2, z1, delta("cv_10log10_rs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_20log10_i() {
+		for (int size : sizes("rv_20log10_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_20log10_i(z1, 0, size);
+			VO.rv_20log10_i(z2, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_20log10_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_20log10_iw() {
+		for (int size : sizes("rv_20log10_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_20log10_iw(z1, 0, size);
+			VO.rv_20log10_iw(z2, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_20log10_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_20log10() {
+		for (int size : sizes("rv_20log10")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_20log10(z1, 0, vx, 0, size);
+			VO.rv_20log10(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_20log10", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_20log10_w() {
+		for (int size : sizes("rv_20log10")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_20log10_w(z1, 0, vx, 0, size);
+			VO.rv_20log10_w(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("rv_20log10", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_20log10_rs_i() {
+		for (int size : sizes("rv_20log10_rs_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_20log10_rs_i(z1, 0, sbase, size);
+			VO.rv_20log10_rs_i(z2, 0, sbase, size);
+			assertArrayEquals(z2, z1, delta("rv_20log10_rs_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_20log10_rs_iw() {
+		for (int size : sizes("rv_20log10_rs_i")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_20log10_rs_iw(z1, 0, sbase, size);
+			VO.rv_20log10_rs_iw(z2, 0, sbase, size);
+			assertArrayEquals(z2, z1, delta("rv_20log10_rs_i", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_20log10_rs() {
+		for (int size : sizes("rv_20log10_rs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_20log10_rs(z1, 0, vx, 0, sbase, size);
+			VO.rv_20log10_rs(z2, 0, vx, 0, sbase, size);
+			assertArrayEquals(z2, z1, delta("rv_20log10_rs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_rv_20log10_rs_w() {
+		for (int size : sizes("rv_20log10_rs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.rv_20log10_rs_w(z1, 0, vx, 0, sbase, size);
+			VO.rv_20log10_rs_w(z2, 0, vx, 0, sbase, size);
+			assertArrayEquals(z2, z1, delta("rv_20log10_rs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_20log10() {
+		for (int size : sizes("cv_20log10")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_20log10(z1, 0, vx, 0, size);
+			VO.cv_20log10(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_20log10", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_20log10_w() {
+		for (int size : sizes("cv_20log10")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_20log10_w(z1, 0, vx, 0, size);
+			VO.cv_20log10_w(z2, 0, vx, 0, size);
+			assertArrayEquals(z2, z1, delta("cv_20log10", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_20log10_rs() {
+		for (int size : sizes("cv_20log10_rs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_20log10_rs(z1, 0, vx, 0, sbase, size);
+			VO.cv_20log10_rs(z2, 0, vx, 0, sbase, size);
+			assertArrayEquals(z2, z1, delta("cv_20log10_rs", size, EPSILON), "Size " + size);
+		}
+	}
+
+	@Test
+	public void Test_cv_20log10_rs_w() {
+		for (int size : sizes("cv_20log10_rs")) {
+			final float z1[] = Arrays.copyOf(vz, vz.length);
+			final float z2[] = Arrays.copyOf(vz, vz.length);
+			V.cv_20log10_rs_w(z1, 0, vx, 0, sbase, size);
+			VO.cv_20log10_rs_w(z2, 0, vx, 0, sbase, size);
+			assertArrayEquals(z2, z1, delta("cv_20log10_rs", size, EPSILON), "Size " + size);
+		}
+	}
+}
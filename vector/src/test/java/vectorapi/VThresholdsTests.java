@@ -0,0 +1,123 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Thresholds are read once, when {@link V} is initialized, so each test loads fresh copy
+ * of {@link V} and {@link VThresholds} by its own class loader and checks constants of {@link V}.
+ *
+ * @author Lev Serebryakov
+ */
+public class VThresholdsTests {
+	@Test
+	public void Test_default() throws Exception {
+		assertEquals(VSpecies.FLOAT.length(), threshold(null, "TH_CV_MUL_CV"));
+		assertEquals(VSpecies.FLOAT.length(), threshold(null, "TH_RV_SUM"));
+	}
+
+	@Test
+	public void Test_file() throws Exception {
+		final Path file = write("# Test thresholds", "default = 7", "cv_mul_cv=100", "cv_mul_cv_i=3");
+		try {
+			assertEquals(100, threshold(file, "TH_CV_MUL_CV"));
+			// Wrapping variant uses same key
+			assertEquals(3, threshold(file, "TH_CV_MUL_CV_I"));
+			assertEquals(7, threshold(file, "TH_RV_SUM"));
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	@Test
+	public void Test_split() {
+		final int sizes[] = VThresholds.Calibration.SIZES;
+		final long fast[] = new long[sizes.length];
+		final long slow[] = new long[sizes.length];
+		Arrays.fill(fast, 1L);
+		Arrays.fill(slow, 2L);
+		assertEquals(sizes[0], VThresholds.Calibration.threshold(slow, fast));
+		// VO wins on all measured sizes, but larger calls are not routed to VO
+		assertEquals(sizes[sizes.length - 1] + 1, VThresholds.Calibration.threshold(fast, slow));
+
+		final long vo[] = fast.clone();
+		Arrays.fill(vo, 5, vo.length, 3L);
+		assertEquals(sizes[5], VThresholds.Calibration.threshold(vo, slow));
+	}
+
+	@Test
+	public void Test_invalid_file() throws Exception {
+		final Path file = write("cv_mul_cv=many");
+		try {
+			final ExceptionInInitializerError e = assertThrows(ExceptionInInitializerError.class, () -> threshold(file, "TH_CV_MUL_CV"));
+			assertTrue(e.getCause() instanceof IllegalStateException);
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	@Test
+	public void Test_missing_file() throws Exception {
+		final Path file = write();
+		Files.delete(file);
+		final ExceptionInInitializerError e = assertThrows(ExceptionInInitializerError.class, () -> threshold(file, "TH_CV_MUL_CV"));
+		assertTrue(e.getCause() instanceof IllegalStateException);
+	}
+
+	private static Path write(String... lines) throws Exception {
+		final Path file = Files.createTempFile("thresholds", ".properties");
+		Files.write(file, Arrays.asList(lines), StandardCharsets.ISO_8859_1);
+		return file;
+	}
+
+	private static int threshold(Path file, String constant) throws Exception {
+		if (file != null)
+			System.setProperty(VThresholds.FILE_PROPERTY, file.toString());
+		final URL classes = V.class.getProtectionDomain().getCodeSource().getLocation();
+		try (URLClassLoader loader = new URLClassLoader(new URL[] { classes }, ClassLoader.getPlatformClassLoader())) {
+			final Field f = Class.forName(V.class.getName(), true, loader).getDeclaredField(constant);
+			f.setAccessible(true);
+			return f.getInt(null);
+		} finally {
+			System.clearProperty(VThresholds.FILE_PROPERTY);
+		}
+	}
+}
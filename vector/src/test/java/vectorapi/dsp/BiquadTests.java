@@ -0,0 +1,164 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi.dsp;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static vectorapi.TestData.random;
+
+/**
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration, WeakerAccess
+ */
+public class BiquadTests {
+	// Relative to maximum of absolute values of output
+	private static final double EPSILON = 1e-5;
+	private static final int LENGTH = 5000;
+	private static final int OFFSET = 3;
+
+	public static Stream<Arguments> single() {
+		return Stream.of(1, 2, 4).flatMap(sections ->
+			Stream.of(false, true).flatMap(inPlace ->
+				Stream.of(LENGTH, 1, 7, 1000, 2000).map(block -> Arguments.of(sections, inPlace, block))));
+	}
+
+	public static Stream<Arguments> bank() {
+		return Stream.of(1, 3, 8, 17, 32, 33, 64).flatMap(channels ->
+			Stream.of(1, 3).flatMap(sections ->
+				Stream.of(false, true).flatMap(shared ->
+					Stream.of(LENGTH, 7, 1000).map(block -> Arguments.of(channels, sections, shared, block)))));
+	}
+
+	@ParameterizedTest(name = "Biquad(sections={0}, inPlace={1}, block={2})")
+	@MethodSource("single")
+	public void Test_Biquad(int sections, boolean inPlace, int block) {
+		final float sos[] = sections(sections, new Random(sections));
+		final float x[] = random(LENGTH + OFFSET, 2);
+		final float z[] = inPlace ? x.clone() : new float[LENGTH + OFFSET];
+		final Biquad f = new Biquad(sos);
+		for (int i = 0; i < LENGTH; i += block)
+			f.filter(z, OFFSET + i, inPlace ? z : x, OFFSET + i, Math.min(block, LENGTH - i));
+
+		check(reference(sos, 0, x, OFFSET, 1, LENGTH), z, OFFSET, 1, LENGTH);
+	}
+
+	@ParameterizedTest(name = "BiquadBank(channels={0}, sections={1}, shared={2}, block={3})")
+	@MethodSource("bank")
+	public void Test_BiquadBank(int channels, int sections, boolean shared, int block) {
+		final Random r = new Random(channels * 10 + sections);
+		final float sos[][] = new float[channels][];
+		sos[0] = sections(sections, r);
+		for (int c = 1; c < channels; c++)
+			sos[c] = shared ? sos[0] : sections(sections, r);
+		final float x[] = random(LENGTH * channels + OFFSET, 2);
+		final float z[] = new float[LENGTH * channels + OFFSET];
+		final BiquadBank f = shared ? new BiquadBank(channels, sos[0]) : new BiquadBank(sos);
+		for (int i = 0; i < LENGTH; i += block)
+			f.filter(z, OFFSET + i * channels, x, OFFSET + i * channels, Math.min(block, LENGTH - i));
+
+		for (int c = 0; c < channels; c++)
+			check(reference(sos[c], 0, x, OFFSET + c, channels, LENGTH), z, OFFSET + c, channels, LENGTH);
+	}
+
+	@ParameterizedTest(name = "reset(sections={0})")
+	@MethodSource("single")
+	public void Test_reset(int sections, boolean inPlace, int block) {
+		final float sos[] = sections(sections, new Random(sections));
+		final float x[] = random(block * 4, 2);
+		final float z1[] = new float[x.length];
+		final float z2[] = new float[x.length];
+		final Biquad f = new Biquad(sos);
+		final BiquadBank fb = new BiquadBank(4, sos);
+		f.filter(z1, 0, x, 0, x.length);
+		f.reset();
+		f.filter(z2, 0, x, 0, x.length);
+		for (int i = 0; i < x.length; i++)
+			assertEquals(z1[i], z2[i], "Biquad output " + i);
+		fb.filter(z1, 0, x, 0, block);
+		fb.reset();
+		fb.filter(z2, 0, x, 0, block);
+		for (int i = 0; i < x.length; i++)
+			assertEquals(z1[i], z2[i], "BiquadBank output " + i);
+	}
+
+	@Test
+	public void Test_badSections() {
+		assertThrows(IllegalArgumentException.class, () -> new Biquad(new float[4]));
+		assertThrows(IllegalArgumentException.class, () -> new BiquadBank(2, new float[0]));
+		assertThrows(IllegalArgumentException.class, () -> new BiquadBank(new float[][] { new float[5], new float[10] }));
+	}
+
+	// Stable sections with random poles and zeros
+	private static float[] sections(int sections, Random r) {
+		final float sos[] = new float[sections * 5];
+		for (int s = 0; s < sections; s++) {
+			final double radius = 0.3 + r.nextDouble() * 0.65;
+			final double angle = r.nextDouble() * Math.PI;
+			sos[s * 5 + 0] = r.nextFloat() * 2.0f - 1.0f;
+			sos[s * 5 + 1] = r.nextFloat() * 2.0f - 1.0f;
+			sos[s * 5 + 2] = r.nextFloat() * 2.0f - 1.0f;
+			sos[s * 5 + 3] = (float)(-2.0 * radius * Math.cos(angle));
+			sos[s * 5 + 4] = (float)(radius * radius);
+		}
+		return sos;
+	}
+
+	private static double[] reference(float sos[], int s, float x[], int xOffset, int step, int count) {
+		double y[] = new double[count];
+		for (int i = 0; i < count; i++)
+			y[i] = x[xOffset + i * step];
+		for (; s < sos.length / 5; s++) {
+			double xm1 = 0.0, xm2 = 0.0, ym1 = 0.0, ym2 = 0.0;
+			for (int i = 0; i < count; i++) {
+				final double xv = y[i];
+				y[i] = sos[s * 5] * xv + sos[s * 5 + 1] * xm1 + sos[s * 5 + 2] * xm2 - sos[s * 5 + 3] * ym1 - sos[s * 5 + 4] * ym2;
+				xm2 = xm1;
+				xm1 = xv;
+				ym2 = ym1;
+				ym1 = y[i];
+			}
+		}
+		return y;
+	}
+
+	private static void check(double expected[], float z[], int zOffset, int step, int count) {
+		double max = 0.0;
+		for (double e : expected)
+			max = Math.max(max, Math.abs(e));
+		for (int i = 0; i < count; i++)
+			assertEquals(expected[i], z[zOffset + i * step], EPSILON * max, "Output " + i);
+	}
+}
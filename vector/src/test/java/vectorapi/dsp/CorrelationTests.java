@@ -0,0 +1,182 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi.dsp;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static vectorapi.TestData.random;
+
+/**
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration, WeakerAccess
+ */
+public class CorrelationTests {
+	private static final double EPSILON = 1e-4;
+	private static final int X_COUNTS[] = { 1, 17, 100, 1000 };
+	private static final int Y_COUNTS[] = { 1, 5, 64, 300 };
+	private static final Boolean METHODS[] = { null, false, true };
+
+	private static Iterable<Arguments> params() {
+		final List<Arguments> rv = new ArrayList<>();
+		for (int xCount : X_COUNTS)
+			for (int yCount : Y_COUNTS)
+				for (Boolean fft : METHODS)
+					for (boolean complex : new boolean[] { false, true })
+						rv.add(Arguments.of(xCount, yCount, fft, complex));
+		return rv;
+	}
+
+	@ParameterizedTest(name = "xCount={0} yCount={1} fft={2} complex={3}")
+	@MethodSource("params")
+	public void Test_xcorr(int xCount, int yCount, Boolean fft, boolean complex) {
+		final int width = complex ? 2 : 1;
+		final float x[] = random((xCount + 3) * width, xCount);
+		final float y[] = random((yCount + 5) * width, yCount + 1000);
+		final Correlation c = new Correlation();
+		final int full = xCount + yCount - 1;
+		// Full range, window inside of it, window, which crosses its borders, and windows entirely before and after it
+		final int lags[][] = { { -(yCount - 1), full }, { 0, Math.max(1, xCount / 2) }, { -yCount - 10, full + 20 }, { -yCount - 500, 10 }, { xCount + 100, 10 } };
+
+		for (int w[] : lags) {
+			final float z[] = new float[(w[1] + 1) * width];
+			// All outputs must be written, even zero ones
+			Arrays.fill(z, width, z.length, Float.NaN);
+			if (fft == null && w[1] == full && w[0] == -(yCount - 1)) {
+				if (complex)
+					c.cv_xcorr_cv(z, 1, x, 3, xCount, y, 5, yCount);
+				else
+					c.rv_xcorr_rv(z, 1, x, 3, xCount, y, 5, yCount);
+			} else if (fft == null) {
+				if (complex)
+					c.cv_xcorr_cv(z, 1, x, 3, xCount, y, 5, yCount, w[0], w[1]);
+				else
+					c.rv_xcorr_rv(z, 1, x, 3, xCount, y, 5, yCount, w[0], w[1]);
+			} else {
+				if (complex)
+					c.cv_xcorr_cv(z, 1, x, 3, xCount, y, 5, yCount, w[0], w[1], fft);
+				else
+					c.rv_xcorr_rv(z, 1, x, 3, xCount, y, 5, yCount, w[0], w[1], fft);
+			}
+			assertEquals(0.0f, z[0], "Before output");
+
+			for (int k = 0; k < w[1]; k++) {
+				double re = 0.0;
+				double im = 0.0;
+				for (int n = 0; n < yCount; n++) {
+					final int i = n + w[0] + k;
+					if (i < 0 || i >= xCount)
+						continue;
+					if (complex) {
+						final double xre = x[(3 + i) * 2];
+						final double xim = x[(3 + i) * 2 + 1];
+						final double yre = y[(5 + n) * 2];
+						final double yim = -y[(5 + n) * 2 + 1];
+						re += xre * yre - xim * yim;
+						im += xre * yim + xim * yre;
+					} else {
+						re += (double)x[3 + i] * y[5 + n];
+					}
+				}
+				check(z, 1 + k, width, re, im, yCount, "Lag " + (w[0] + k));
+			}
+		}
+	}
+
+	@ParameterizedTest(name = "xCount={0} yCount={1} fft={2} complex={3}")
+	@MethodSource("params")
+	public void Test_conv(int xCount, int yCount, Boolean fft, boolean complex) {
+		final int width = complex ? 2 : 1;
+		final float x[] = random((xCount + 3) * width, xCount + 2000);
+		final float y[] = random((yCount + 5) * width, yCount + 3000);
+		final Correlation c = new Correlation();
+		final int full = xCount + yCount - 1;
+		final int windows[][] = { { 0, full }, { yCount - 1, xCount }, { -7, full + 14 }, { -500, 10 }, { full + 100, 10 } };
+
+		for (int w[] : windows) {
+			final float z[] = new float[(w[1] + 1) * width];
+			// All outputs must be written, even zero ones
+			Arrays.fill(z, width, z.length, Float.NaN);
+			if (fft == null && w[0] == 0 && w[1] == full) {
+				if (complex)
+					c.cv_conv_cv(z, 1, x, 3, xCount, y, 5, yCount);
+				else
+					c.rv_conv_rv(z, 1, x, 3, xCount, y, 5, yCount);
+			} else if (fft == null) {
+				if (complex)
+					c.cv_conv_cv(z, 1, x, 3, xCount, y, 5, yCount, w[0], w[1]);
+				else
+					c.rv_conv_rv(z, 1, x, 3, xCount, y, 5, yCount, w[0], w[1]);
+			} else {
+				if (complex)
+					c.cv_conv_cv(z, 1, x, 3, xCount, y, 5, yCount, w[0], w[1], fft);
+				else
+					c.rv_conv_rv(z, 1, x, 3, xCount, y, 5, yCount, w[0], w[1], fft);
+			}
+			assertEquals(0.0f, z[0], "Before output");
+
+			for (int k = 0; k < w[1]; k++) {
+				double re = 0.0;
+				double im = 0.0;
+				for (int m = 0; m < xCount; m++) {
+					final int i = w[0] + k - m;
+					if (i < 0 || i >= yCount)
+						continue;
+					if (complex) {
+						final double xre = x[(3 + m) * 2];
+						final double xim = x[(3 + m) * 2 + 1];
+						final double yre = y[(5 + i) * 2];
+						final double yim = y[(5 + i) * 2 + 1];
+						re += xre * yre - xim * yim;
+						im += xre * yim + xim * yre;
+					} else {
+						re += (double)x[3 + m] * y[5 + i];
+					}
+				}
+				check(z, 1 + k, width, re, im, yCount, "Output " + (w[0] + k));
+			}
+		}
+	}
+
+	private static void check(float z[], int k, int width, double re, double im, int taps, String message) {
+		// Error of FFT is spread over all outputs, and depends on length of sum
+		final double e = EPSILON * Math.sqrt(taps);
+		if (width == 1) {
+			assertEquals(re, z[k], e * (Math.abs(re) + 1.0), message);
+		} else {
+			assertEquals(re, z[k * 2], e * (Math.abs(re) + 1.0), "Re of " + message);
+			assertEquals(im, z[k * 2 + 1], e * (Math.abs(im) + 1.0), "Im of " + message);
+		}
+	}
+}
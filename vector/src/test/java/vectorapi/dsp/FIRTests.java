@@ -0,0 +1,142 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi.dsp;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static vectorapi.TestData.random;
+
+/**
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration, WeakerAccess
+ */
+public class FIRTests {
+	// Relative to sum of absolute values of products, plus absolute for FFT round-off on small outputs
+	private static final double EPSILON = 1e-5;
+	private static final int LENGTH = 10000;
+	private static final int OFFSET = 3;
+
+	public static Stream<Arguments> params() {
+		return Stream.of(1, 2, 7, 16, 33, 100, 257).flatMap(taps ->
+			Stream.of(false, true).flatMap(fft ->
+				Stream.of(LENGTH, 1, 17, 1000, 5000).map(block -> Arguments.of(taps, fft, block))));
+	}
+
+	public static Stream<Arguments> filters() {
+		return Stream.of(1, 2, 7, 16, 33, 100, 257).flatMap(taps ->
+			Stream.of(false, true).map(fft -> Arguments.of(taps, fft)));
+	}
+
+	@ParameterizedTest(name = "rv(taps={0}, fft={1}, block={2})")
+	@MethodSource("params")
+	public void Test_rv(int taps, boolean fft, int block) {
+		final float h[] = random(taps, 1);
+		final float x[] = random(LENGTH + OFFSET, 2);
+		final float z[] = new float[LENGTH + OFFSET];
+		final FIR fir = FIR.rv(h, fft);
+		for (int i = 0; i < LENGTH; i += block)
+			fir.filter(z, OFFSET + i, x, OFFSET + i, Math.min(block, LENGTH - i));
+
+		for (int n = 0; n < LENGTH; n++) {
+			double acc = 0.0, abs = 0.0;
+			for (int k = 0; k < taps && k <= n; k++) {
+				acc += (double)h[k] * x[OFFSET + n - k];
+				abs += Math.abs((double)h[k] * x[OFFSET + n - k]);
+			}
+			assertEquals(acc, z[OFFSET + n], EPSILON * (abs + 1.0), "Output " + n);
+		}
+	}
+
+	@ParameterizedTest(name = "cv(taps={0}, fft={1}, block={2})")
+	@MethodSource("params")
+	public void Test_cv(int taps, boolean fft, int block) {
+		final float h[] = random(taps * 2, 1);
+		final float x[] = random((LENGTH + OFFSET) * 2, 2);
+		final float z[] = new float[(LENGTH + OFFSET) * 2];
+		final FIR fir = FIR.cv(h, fft);
+		for (int i = 0; i < LENGTH; i += block)
+			fir.filter(z, OFFSET + i, x, OFFSET + i, Math.min(block, LENGTH - i));
+
+		for (int n = 0; n < LENGTH; n++) {
+			double re = 0.0, im = 0.0, abs = 0.0;
+			for (int k = 0; k < taps && k <= n; k++) {
+				final double hre = h[k * 2], him = h[k * 2 + 1];
+				final double xre = x[(OFFSET + n - k) * 2], xim = x[(OFFSET + n - k) * 2 + 1];
+				re += hre * xre - him * xim;
+				im += hre * xim + him * xre;
+				abs += Math.abs(hre * xre) + Math.abs(him * xim) + Math.abs(hre * xim) + Math.abs(him * xre);
+			}
+			assertEquals(re, z[(OFFSET + n) * 2], EPSILON * (abs + 1.0), "Output " + n + " re");
+			assertEquals(im, z[(OFFSET + n) * 2 + 1], EPSILON * (abs + 1.0), "Output " + n + " im");
+		}
+	}
+
+	@ParameterizedTest(name = "rv_cv(taps={0}, fft={1}, block={2})")
+	@MethodSource("params")
+	public void Test_rv_cv(int taps, boolean fft, int block) {
+		final float h[] = random(taps, 1);
+		final float x[] = random((LENGTH + OFFSET) * 2, 2);
+		// In place
+		final float z[] = x.clone();
+		final FIR fir = FIR.rv_cv(h, fft);
+		for (int i = 0; i < LENGTH; i += block)
+			fir.filter(z, OFFSET + i, z, OFFSET + i, Math.min(block, LENGTH - i));
+
+		for (int n = 0; n < LENGTH; n++) {
+			for (int c = 0; c < 2; c++) {
+				double acc = 0.0, abs = 0.0;
+				for (int k = 0; k < taps && k <= n; k++) {
+					acc += (double)h[k] * x[(OFFSET + n - k) * 2 + c];
+					abs += Math.abs((double)h[k] * x[(OFFSET + n - k) * 2 + c]);
+				}
+				assertEquals(acc, z[(OFFSET + n) * 2 + c], EPSILON * (abs + 1.0), "Output " + n + " part " + c);
+			}
+		}
+	}
+
+	@ParameterizedTest(name = "reset(taps={0}, fft={1})")
+	@MethodSource("filters")
+	public void Test_reset(int taps, boolean fft) {
+		final int block = 1000;
+		final float h[] = random(taps, 1);
+		final float x[] = random(block, 2);
+		final float z1[] = new float[block];
+		final float z2[] = new float[block];
+		final FIR fir = FIR.rv(h, fft);
+		fir.filter(z1, 0, x, 0, block);
+		fir.reset();
+		fir.filter(z2, 0, x, 0, block);
+		for (int i = 0; i < block; i++)
+			assertEquals(z1[i], z2[i], "Output " + i);
+	}
+}
@@ -0,0 +1,132 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi.dsp;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static vectorapi.TestData.random;
+
+/**
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration, WeakerAccess
+ */
+public class GoertzelTests {
+	private static final double EPSILON = 1e-4;
+	private static final int SIZES[] = { 2, 100, 256, 1024 };
+	private static final int FREQUENCIES[] = { 1, 3, 8, 17, 64, 70 };
+	private static final int BLOCKS[] = { 1, 33, 5000 };
+
+	private static Iterable<Arguments> params() {
+		final List<Arguments> rv = new ArrayList<>();
+		for (int size : SIZES)
+			for (int frequencies : FREQUENCIES)
+				for (int block : BLOCKS)
+					rv.add(Arguments.of(size, frequencies, block));
+		return rv;
+	}
+
+	@ParameterizedTest(name = "size={0} frequencies={1} block={2}")
+	@MethodSource("params")
+	public void Test_process(int size, int frequencies, int block) {
+		final int count = 5000;
+		final float x[] = random(count, size + frequencies);
+		final float f[] = new float[frequencies];
+		final Random r = new Random(frequencies);
+		// Goertzel filter loses precision near zero and Nyquist frequency, where 2 * cos(w) is close to 2
+		for (int i = 0; i < frequencies; i++)
+			f[i] = 0.02f + r.nextFloat() * 0.46f;
+		final Goertzel g = new Goertzel(size, f);
+		final int rows = count / size;
+
+		final float z[] = new float[rows * frequencies + 1];
+		int got = 0;
+		for (int i = 0; i < count; i += block) {
+			final int n = Math.min(block, count - i);
+			final int expected = g.blocks(n);
+			final int p = g.process(z, 1 + got * frequencies, x, i, n);
+			assertEquals(expected, p, "Rows of block at " + i);
+			got += p;
+		}
+		assertEquals(rows, got, "Rows");
+		assertEquals(0.0f, z[0], "Before first row");
+
+		for (int b = 0; b < rows; b++) {
+			for (int k = 0; k < frequencies; k++) {
+				double re = 0.0;
+				double im = 0.0;
+				for (int n = 0; n < size; n++) {
+					final double a = -2.0 * Math.PI * f[k] * n;
+					re += x[b * size + n] * Math.cos(a);
+					im += x[b * size + n] * Math.sin(a);
+				}
+				final double p = re * re + im * im;
+				assertEquals(p, z[1 + b * frequencies + k], EPSILON * (p + size), "Power of frequency " + k + " of block " + b);
+			}
+		}
+	}
+
+	@Test
+	public void Test_bins() {
+		final int size = 64;
+		final Goertzel g = Goertzel.bins(size, new int[] { 5, 10 });
+		final float x[] = new float[size];
+		for (int n = 0; n < size; n++)
+			x[n] = (float)Math.cos(2.0 * Math.PI * 5 * n / size);
+		final float z[] = new float[2];
+		assertEquals(1, g.process(z, 0, x, 0, size));
+		assertEquals(size * size / 4.0, z[0], 1e-2);
+		assertEquals(0.0, z[1], 1e-2);
+	}
+
+	@Test
+	public void Test_reset() {
+		final Goertzel g = new Goertzel(10, new float[] { 0.1f });
+		final float x[] = random(20, 1);
+		final float z1[] = new float[1];
+		final float z2[] = new float[1];
+		assertEquals(0, g.process(z1, 0, x, 0, 5));
+		g.reset();
+		assertEquals(1, g.process(z1, 0, x, 10, 10));
+		assertEquals(1, new Goertzel(10, new float[] { 0.1f }).process(z2, 0, x, 10, 10));
+		assertArrayEquals(z2, z1);
+	}
+
+	@Test
+	public void Test_bad() {
+		assertThrows(IllegalArgumentException.class, () -> new Goertzel(1, new float[] { 0.1f }));
+		assertThrows(IllegalArgumentException.class, () -> new Goertzel(10, new float[0]));
+	}
+}
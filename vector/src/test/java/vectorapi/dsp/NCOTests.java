@@ -0,0 +1,105 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi.dsp;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static vectorapi.TestData.randomComplex;
+
+/**
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration, WeakerAccess
+ */
+public class NCOTests {
+	// Absolute, for signal with amplitude 1
+	private static final double EPSILON = 2e-6;
+	private static final int LENGTH = 100000;
+	private static final int OFFSET = 3;
+
+	public static Stream<Arguments> params() {
+		return Stream.of(0.0, 1e-4, 0.1, -1.0, 3.0, Math.PI).flatMap(step ->
+			Stream.of(0.0, 2.5).flatMap(phase ->
+				Stream.of(LENGTH, 1, 7, 33, 1000, 4099).map(block -> Arguments.of(step, phase, block))));
+	}
+
+	@ParameterizedTest(name = "mix(step={0}, phase={1}, block={2})")
+	@MethodSource("params")
+	public void Test_mix(double step, double phase, int block) {
+		final float x[] = randomComplex((LENGTH + OFFSET) * 2, 1);
+		final float z[] = new float[(LENGTH + OFFSET) * 2];
+		final NCO nco = new NCO(phase, step);
+		for (int i = 0; i < LENGTH; i += block)
+			nco.mix(z, OFFSET + i, x, OFFSET + i, Math.min(block, LENGTH - i));
+
+		for (int k = 0; k < LENGTH; k++) {
+			final double a = phase + k * step;
+			final double xre = x[(OFFSET + k) * 2], xim = x[(OFFSET + k) * 2 + 1];
+			assertEquals(xre * Math.cos(a) - xim * Math.sin(a), z[(OFFSET + k) * 2], EPSILON, "Sample " + k + " re");
+			assertEquals(xre * Math.sin(a) + xim * Math.cos(a), z[(OFFSET + k) * 2 + 1], EPSILON, "Sample " + k + " im");
+		}
+		assertEquals(Math.IEEEremainder(phase + LENGTH * step, 2.0 * Math.PI), nco.getPhase(), 1e-9, "Phase");
+	}
+
+	@ParameterizedTest(name = "generate(step={0}, phase={1}, block={2})")
+	@MethodSource("params")
+	public void Test_generate(double step, double phase, int block) {
+		final float z[] = new float[(LENGTH + OFFSET) * 2];
+		final NCO nco = new NCO(phase, step);
+		for (int i = 0; i < LENGTH; i += block)
+			nco.generate(z, OFFSET + i, Math.min(block, LENGTH - i));
+
+		for (int k = 0; k < LENGTH; k++) {
+			final double a = phase + k * step;
+			assertEquals(Math.cos(a), z[(OFFSET + k) * 2], EPSILON, "Sample " + k + " re");
+			assertEquals(Math.sin(a), z[(OFFSET + k) * 2 + 1], EPSILON, "Sample " + k + " im");
+		}
+	}
+
+	@Test
+	public void Test_inPlaceAndStepChange() {
+		final float x[] = randomComplex(2000 * 2, 2);
+		final float z[] = x.clone();
+		final NCO nco = new NCO(1.0, 0.01);
+		nco.mix(z, 0, z, 0, 1000);
+		nco.setStep(-0.2);
+		nco.mix(z, 1000, z, 1000, 1000);
+
+		for (int k = 0; k < 2000; k++) {
+			final double a = (k < 1000) ? 1.0 + k * 0.01 : 1.0 + 1000 * 0.01 + (k - 1000) * -0.2;
+			final double xre = x[k * 2], xim = x[k * 2 + 1];
+			assertEquals(xre * Math.cos(a) - xim * Math.sin(a), z[k * 2], EPSILON, "Sample " + k + " re");
+			assertEquals(xre * Math.sin(a) + xim * Math.cos(a), z[k * 2 + 1], EPSILON, "Sample " + k + " im");
+		}
+	}
+}
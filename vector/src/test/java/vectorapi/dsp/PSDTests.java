@@ -0,0 +1,148 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi.dsp;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static vectorapi.TestData.random;
+
+/**
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration, WeakerAccess
+ */
+public class PSDTests {
+	private static final double EPSILON = 1e-5;
+	private static final int BINS[] = { 1, 7, 16, 33, 257, 1000 };
+	private static final int FRAMES[] = { 1, 2, 17 };
+
+	private static Iterable<Arguments> params() {
+		final List<Arguments> rv = new ArrayList<>();
+		for (int bins : BINS)
+			for (int frames : FRAMES)
+				for (PSD.Averaging averaging : PSD.Averaging.values())
+					rv.add(Arguments.of(bins, frames, averaging));
+		return rv;
+	}
+
+	@ParameterizedTest(name = "bins={0} frames={1} averaging={2}")
+	@MethodSource("params")
+	public void Test_accumulate(int bins, int frames, PSD.Averaging averaging) {
+		final float alpha = 0.25f;
+		final float scale = 0.5f;
+		final float x[] = random((bins * frames + 1) * 2, bins + frames);
+		final PSD psd = new PSD(bins, averaging, alpha);
+		psd.setScale(scale);
+		// First spectrum alone, rest as block of rows
+		psd.accumulate(x, 1);
+		psd.accumulate(x, 1 + bins, frames - 1);
+		assertEquals(frames, psd.getFrames());
+
+		final double expected[] = new double[bins];
+		for (int f = 0; f < frames; f++) {
+			for (int k = 0; k < bins; k++) {
+				final int o = (1 + f * bins + k) * 2;
+				final double p = (double)x[o] * x[o] + (double)x[o + 1] * x[o + 1];
+				if (f == 0)
+					expected[k] = p;
+				else if (averaging == PSD.Averaging.LINEAR)
+					expected[k] += p;
+				else if (averaging == PSD.Averaging.EXPONENTIAL)
+					expected[k] += alpha * (p - expected[k]);
+				else
+					expected[k] = Math.max(expected[k], p);
+			}
+		}
+		for (int k = 0; k < bins; k++)
+			expected[k] *= (averaging == PSD.Averaging.LINEAR) ? scale / frames : scale;
+
+		final float z[] = new float[bins + 3];
+		psd.read(z, 3);
+		for (int k = 0; k < bins; k++)
+			assertEquals(expected[k], z[3 + k], EPSILON * (expected[k] + 1.0), "Power of bin " + k);
+		psd.read_dB(z, 3);
+		for (int k = 0; k < bins; k++)
+			assertEquals(10.0 * Math.log10(expected[k]), z[3 + k], EPSILON * 10.0 / expected[k] + 1e-4, "Decibels of bin " + k);
+	}
+
+	@ParameterizedTest(name = "averaging={0}")
+	@EnumSource(PSD.Averaging.class)
+	public void Test_tail(PSD.Averaging averaging) {
+		// Same value in all bins of each spectrum, bins in vector loop and in scalar tail must match exactly
+		final int bins = 33;
+		final float v[] = random(34, 5);
+		final float x[] = new float[bins * 2 * 17];
+		for (int f = 0; f < 17; f++) {
+			for (int k = 0; k < bins; k++) {
+				x[(f * bins + k) * 2] = v[f * 2];
+				x[(f * bins + k) * 2 + 1] = v[f * 2 + 1];
+			}
+		}
+		final PSD psd = new PSD(bins, averaging, 0.25f);
+		psd.accumulate(x, 0, 17);
+		final float z[] = new float[bins];
+		psd.read(z, 0);
+		for (int k = 1; k < bins; k++)
+			assertEquals(z[0], z[k], "Power of bin " + k);
+	}
+
+	@Test
+	public void Test_reset() {
+		final int bins = 40;
+		final float x[] = random(bins * 4, 1);
+		final PSD psd = new PSD(bins, PSD.Averaging.MAX_HOLD);
+		final float z[] = new float[bins];
+		psd.read(z, 0);
+		assertArrayEquals(new float[bins], z);
+
+		psd.accumulate(x, 0);
+		psd.reset();
+		assertEquals(0, psd.getFrames());
+		psd.accumulate(x, bins);
+		psd.read(z, 0);
+		final PSD fresh = new PSD(bins, PSD.Averaging.MAX_HOLD);
+		final float zf[] = new float[bins];
+		fresh.accumulate(x, bins);
+		fresh.read(zf, 0);
+		assertArrayEquals(zf, z);
+	}
+
+	@Test
+	public void Test_bad() {
+		assertThrows(IllegalArgumentException.class, () -> new PSD(0, PSD.Averaging.LINEAR));
+		assertThrows(IllegalArgumentException.class, () -> new PSD(10, PSD.Averaging.EXPONENTIAL, 0.0f));
+		assertThrows(IllegalArgumentException.class, () -> new PSD(10, PSD.Averaging.EXPONENTIAL, 1.5f));
+	}
+}
@@ -0,0 +1,124 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi.dsp;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static vectorapi.TestData.random;
+
+/**
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration, WeakerAccess
+ */
+public class ResamplerTests {
+	// Relative to sum of absolute values of products
+	private static final double EPSILON = 1e-5;
+	private static final int LENGTH = 10000;
+	private static final int OFFSET = 3;
+
+	public static Stream<Arguments> params() {
+		return Stream.of(new int[] { 1, 1 }, new int[] { 1, 2 }, new int[] { 1, 5 }, new int[] { 2, 1 }, new int[] { 4, 1 },
+			new int[] { 3, 2 }, new int[] { 2, 3 }, new int[] { 160, 147 }, new int[] { 147, 160 }).flatMap(ratio ->
+			Stream.of(1, 13, 64).flatMap(taps ->
+				Stream.of(LENGTH, 1, 17, 5000).map(block -> Arguments.of(ratio[0], ratio[1], taps * Math.max(ratio[0], ratio[1]), block))));
+	}
+
+	@ParameterizedTest(name = "rv({0}/{1}, taps={2}, block={3})")
+	@MethodSource("params")
+	public void Test_rv(int up, int down, int taps, int block) {
+		final float h[] = random(taps, 1);
+		final float x[] = random(LENGTH + OFFSET, 2);
+		final Resampler r = Resampler.rv(up, down, h);
+		final float z[] = new float[r.outputs(LENGTH) + OFFSET];
+		int out = OFFSET;
+		for (int i = 0; i < LENGTH; i += block) {
+			final int n = Math.min(block, LENGTH - i);
+			final int expected = r.outputs(n);
+			assertEquals(expected, r.filter(z, out, x, OFFSET + i, n), "Outputs of block at " + i);
+			out += expected;
+		}
+		assertEquals(((long)LENGTH * up + down - 1) / down, out - OFFSET, "Outputs");
+
+		for (int m = 0; m < out - OFFSET; m++) {
+			double acc = 0.0, abs = 0.0;
+			final long t = (long)m * down;
+			for (int i = (int)(t % up); i < taps && i <= t; i += up) {
+				final double p = (double)h[i] * x[OFFSET + (int)((t - i) / up)];
+				acc += p;
+				abs += Math.abs(p);
+			}
+			assertEquals(acc, z[OFFSET + m], EPSILON * (abs + 1.0), "Output " + m);
+		}
+	}
+
+	@ParameterizedTest(name = "cv({0}/{1}, taps={2}, block={3})")
+	@MethodSource("params")
+	public void Test_cv(int up, int down, int taps, int block) {
+		final float h[] = random(taps, 1);
+		final float x[] = random((LENGTH + OFFSET) * 2, 2);
+		final Resampler r = Resampler.cv(up, down, h);
+		final float z[] = new float[(r.outputs(LENGTH) + OFFSET) * 2];
+		int out = OFFSET;
+		for (int i = 0; i < LENGTH; i += block)
+			out += r.filter(z, out, x, OFFSET + i, Math.min(block, LENGTH - i));
+		assertEquals(((long)LENGTH * up + down - 1) / down, out - OFFSET, "Outputs");
+
+		for (int m = 0; m < out - OFFSET; m++) {
+			final long t = (long)m * down;
+			for (int c = 0; c < 2; c++) {
+				double acc = 0.0, abs = 0.0;
+				for (int i = (int)(t % up); i < taps && i <= t; i += up) {
+					final double p = (double)h[i] * x[(OFFSET + (int)((t - i) / up)) * 2 + c];
+					acc += p;
+					abs += Math.abs(p);
+				}
+				assertEquals(acc, z[(OFFSET + m) * 2 + c], EPSILON * (abs + 1.0), "Output " + m + " part " + c);
+			}
+		}
+	}
+
+	@ParameterizedTest(name = "reset({0}/{1}, taps={2}, block={3})")
+	@MethodSource("params")
+	public void Test_reset(int up, int down, int taps, int block) {
+		final float h[] = random(taps, 1);
+		final float x[] = random(block, 2);
+		final Resampler r = Resampler.rv(up, down, h);
+		final float z1[] = new float[r.outputs(block)];
+		final float z2[] = new float[r.outputs(block)];
+		r.filter(z1, 0, x, 0, block);
+		r.reset();
+		assertEquals(z1.length, r.filter(z2, 0, x, 0, block), "Outputs");
+		for (int i = 0; i < z1.length; i++)
+			assertEquals(z1[i], z2[i], "Output " + i);
+	}
+}
@@ -0,0 +1,161 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi.dsp;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static vectorapi.TestData.random;
+
+/**
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration, WeakerAccess
+ */
+public class STFTTests {
+	private static final double EPSILON = 1e-4;
+	private static final int SIZES[] = { 16, 64, 256 };
+	// As part of frame size
+	private static final int HOPS_NUM[] = { 1, 1, 3, 2, 5 };
+	private static final int HOPS_DEN[] = { 16, 4, 4, 1, 2 };
+	private static final int BLOCKS[] = { 1, 7, 100, 1000, 10000 };
+
+	private static Iterable<Arguments> params() {
+		final List<Arguments> rv = new ArrayList<>();
+		for (int size : SIZES)
+			for (int h = 0; h < HOPS_NUM.length; h++)
+				for (int block : BLOCKS)
+					for (boolean complex : new boolean[] { false, true })
+						for (STFT.Output output : STFT.Output.values())
+							rv.add(Arguments.of(size, Math.max(1, size * HOPS_NUM[h] / HOPS_DEN[h]), block, complex, output));
+		return rv;
+	}
+
+	@ParameterizedTest(name = "size={0} hop={1} block={2} complex={3} output={4}")
+	@MethodSource("params")
+	public void Test_process(int size, int hop, int block, boolean complex, STFT.Output output) {
+		final int count = 3000;
+		final int width = complex ? 2 : 1;
+		final float x[] = random(count * width, size + hop);
+		final Window w = Window.hann(size);
+		final STFT stft = new STFT(size, hop, w, complex, output);
+		final int rowSize = stft.getRowSize();
+		final int frames = (count - size) / hop + 1;
+
+		final float z[] = new float[frames * rowSize + 1];
+		int rows = 0;
+		for (int i = 0; i < count; i += block) {
+			final int n = Math.min(block, count - i);
+			final int expected = stft.frames(n);
+			final int got = stft.process(z, rows * rowSize + 1, x, i, n);
+			assertEquals(expected, got, "Frames of block at " + i);
+			rows += got;
+		}
+		assertEquals(frames, rows, "Frames");
+		assertEquals(0.0f, z[0], "Before first row");
+
+		final double re[] = new double[size];
+		final double im[] = new double[size];
+		final double cos[] = new double[size];
+		final double sin[] = new double[size];
+		for (int i = 0; i < size; i++) {
+			cos[i] = Math.cos(-2.0 * Math.PI * i / size);
+			sin[i] = Math.sin(-2.0 * Math.PI * i / size);
+		}
+		final float coefficients[] = w.rv();
+		for (int f = 0; f < frames; f++) {
+			dft(re, im, x, f * hop, size, complex, coefficients, cos, sin);
+			for (int k = 0; k < stft.getBins(); k++) {
+				final double p = re[k] * re[k] + im[k] * im[k];
+				final int o = 1 + f * rowSize;
+				switch (output) {
+					case SPECTRUM:
+						assertEquals(re[k], z[o + k * 2], EPSILON * (Math.abs(re[k]) + size), "Re of bin " + k + " of frame " + f);
+						assertEquals(im[k], z[o + k * 2 + 1], EPSILON * (Math.abs(im[k]) + size), "Im of bin " + k + " of frame " + f);
+						break;
+					case POWER:
+						assertEquals(p, z[o + k], EPSILON * (p + size), "Power of bin " + k + " of frame " + f);
+						break;
+					case DB:
+						// Absolute error of power turns into large error of decibels near zero
+						final double db = 10.0 * Math.log10(p);
+						if (p > 1e-3 * size)
+							assertEquals(db, z[o + k], EPSILON * size * 10.0 / p + 1e-3, "Decibels of bin " + k + " of frame " + f);
+						break;
+				}
+			}
+		}
+	}
+
+	@Test
+	public void Test_reset() {
+		final int size = 64;
+		final STFT stft = new STFT(size, 16, Window.hamming(size), false, STFT.Output.POWER);
+		final float x[] = random(size * 2, 1);
+		final float z1[] = new float[stft.getRowSize()];
+		final float z2[] = new float[stft.getRowSize()];
+
+		assertEquals(0, stft.process(z1, 0, x, 0, size - 1));
+		assertEquals(1, stft.frames(1));
+		stft.reset();
+		assertEquals(0, stft.frames(size - 1));
+		assertEquals(1, stft.process(z1, 0, x, size, size));
+		assertEquals(1, new STFT(size, 16, Window.hamming(size), false, STFT.Output.POWER).process(z2, 0, x, size, size));
+		assertArrayEquals(z2, z1);
+	}
+
+	@Test
+	public void Test_bad() {
+		assertThrows(IllegalArgumentException.class, () -> new STFT(64, 0, Window.hann(64), false, STFT.Output.DB));
+		assertThrows(IllegalArgumentException.class, () -> new STFT(64, 16, Window.hann(32), false, STFT.Output.DB));
+		assertThrows(IllegalArgumentException.class, () -> new STFT(100, 16, Window.hann(100), true, STFT.Output.DB));
+	}
+
+	// cos[] and sin[] are exp(-2 * pi * i * n / size)
+	private static void dft(double re[], double im[], float x[], int offset, int size, boolean complex, float w[], double cos[], double sin[]) {
+		for (int k = 0; k < size; k++) {
+			double sre = 0.0;
+			double sim = 0.0;
+			for (int n = 0; n < size; n++) {
+				final double c = cos[k * n % size];
+				final double s = sin[k * n % size];
+				final double xre = (complex ? x[(offset + n) * 2] : x[offset + n]) * w[n];
+				final double xim = complex ? x[(offset + n) * 2 + 1] * w[n] : 0.0;
+				sre += xre * c - xim * s;
+				sim += xre * s + xim * c;
+			}
+			re[k] = sre;
+			im[k] = sim;
+		}
+	}
+}
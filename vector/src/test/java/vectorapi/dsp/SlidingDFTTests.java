@@ -0,0 +1,127 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi.dsp;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static vectorapi.TestData.random;
+
+/**
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration, WeakerAccess
+ */
+public class SlidingDFTTests {
+	private static final double EPSILON = 1e-3;
+	private static final int SIZES[] = { 1, 16, 100, 1024, 5000 };
+	private static final int BINS[] = { 1, 5, 16, 40, 64 };
+	private static final float DAMPINGS[] = { 1.0f, SlidingDFT.DAMPING, 0.999f };
+
+	private static Iterable<Arguments> params() {
+		final List<Arguments> rv = new ArrayList<>();
+		for (int size : SIZES)
+			for (int bins : BINS)
+				for (float damping : DAMPINGS)
+					rv.add(Arguments.of(size, bins, damping));
+		return rv;
+	}
+
+	@ParameterizedTest(name = "size={0} bins={1} damping={2}")
+	@MethodSource("params")
+	public void Test_process(int size, int bins, float damping) {
+		final int count = 20000;
+		final float x[] = random(count, size + bins);
+		final int k[] = new int[bins];
+		final Random r = new Random(bins);
+		for (int i = 0; i < bins; i++)
+			k[i] = r.nextInt(size);
+		final SlidingDFT sdft = new SlidingDFT(size, k, damping);
+
+		final float z[] = new float[bins * 2 + 2];
+		final float p[] = new float[bins + 1];
+		int processed = 0;
+		// Blocks of different sizes, check after each one
+		for (int block = 1; processed < count; block = block * 3 + 1) {
+			final int n = Math.min(block, count - processed);
+			sdft.process(x, processed, n);
+			processed += n;
+			sdft.read(z, 1);
+			sdft.read_power(p, 1);
+
+			for (int b = 0; b < bins; b++) {
+				// Missing samples before start of signal are zeroes
+				double re = 0.0;
+				double im = 0.0;
+				for (int m = 0; m < size; m++) {
+					final int i = processed - size + m;
+					if (i < 0)
+						continue;
+					final double w = Math.pow(damping, size - m);
+					final double a = -2.0 * Math.PI * ((long)k[b] * m % size) / size;
+					re += w * x[i] * Math.cos(a);
+					im += w * x[i] * Math.sin(a);
+				}
+				final double e = EPSILON * Math.sqrt(size);
+				assertEquals(re, z[2 + b * 2], e, "Re of bin " + k[b] + " after " + processed);
+				assertEquals(im, z[2 + b * 2 + 1], e, "Im of bin " + k[b] + " after " + processed);
+				assertEquals(re * re + im * im, p[1 + b], e * (Math.sqrt(p[1 + b]) * 2.0 + e), "Power of bin " + k[b] + " after " + processed);
+			}
+		}
+	}
+
+	@Test
+	public void Test_reset() {
+		final SlidingDFT sdft = new SlidingDFT(32, new int[] { 1, 2, 3 });
+		final float x[] = random(100, 1);
+		final float z1[] = new float[6];
+		final float z2[] = new float[6];
+		sdft.process(x, 0, 50);
+		sdft.reset();
+		sdft.process(x, 50, 50);
+		sdft.read(z1, 0);
+		final SlidingDFT fresh = new SlidingDFT(32, new int[] { 1, 2, 3 });
+		fresh.process(x, 50, 50);
+		fresh.read(z2, 0);
+		assertArrayEquals(z2, z1);
+	}
+
+	@Test
+	public void Test_bad() {
+		assertThrows(IllegalArgumentException.class, () -> new SlidingDFT(0, new int[] { 0 }));
+		assertThrows(IllegalArgumentException.class, () -> new SlidingDFT(10, new int[0]));
+		assertThrows(IllegalArgumentException.class, () -> new SlidingDFT(10, new int[] { 10 }));
+		assertThrows(IllegalArgumentException.class, () -> new SlidingDFT(10, new int[] { 1 }, 1.5f));
+	}
+}
@@ -0,0 +1,154 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi.dsp;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration, WeakerAccess
+ */
+public class WindowTests {
+	private static final double EPSILON = 1e-6;
+
+	@Test
+	public void Test_values() {
+		// Known values: symmetric windows of 5 points
+		check(new double[] { 0.0, 0.5, 1.0, 0.5, 0.0 }, Window.generate(Window.Type.HANN, 5, false, 0.0));
+		check(new double[] { 0.08, 0.54, 1.0, 0.54, 0.08 }, Window.generate(Window.Type.HAMMING, 5, false, 0.0));
+		check(new double[] { 0.0, 0.34, 1.0, 0.34, 0.0 }, Window.generate(Window.Type.BLACKMAN, 5, false, 0.0));
+		check(new double[] { 1.0, 1.0, 1.0 }, Window.generate(Window.Type.RECTANGULAR, 3, true, 0.0));
+		// I0(8 * sqrt(1 - r^2)) / I0(8) for r in [-1, 1]
+		check(new double[] { 0.00233883, 0.36897272, 1.0, 0.36897272, 0.00233883 }, Window.generate(Window.Type.KAISER, 5, false, 8.0));
+		// Kaiser with beta = 0 is rectangular
+		check(new double[] { 1.0, 1.0, 1.0, 1.0 }, Window.generate(Window.Type.KAISER, 4, false, 0.0));
+		check(new double[] { 1.0 }, Window.generate(Window.Type.HANN, 1, false, 0.0));
+	}
+
+	@ParameterizedTest
+	@EnumSource(Window.Type.class)
+	public void Test_periodic(Window.Type type) {
+		final float p[] = Window.generate(type, 64, true, 5.0);
+		final float s[] = Window.generate(type, 65, false, 5.0);
+		for (int i = 0; i < p.length; i++)
+			assertEquals(s[i], p[i], "Coefficient " + i);
+		for (int i = 0; i < s.length; i++)
+			assertEquals(s[i], s[s.length - 1 - i], EPSILON, "Symmetry of coefficient " + i);
+	}
+
+	@Test
+	public void Test_cache() {
+		final Window w = Window.hann(1000);
+		assertSame(w, Window.hann(1000));
+		assertSame(w, Window.get(Window.Type.HANN, 1000, true, 42.0));
+		assertNotSame(w, Window.get(Window.Type.HANN, 1000, false, 0.0));
+		assertNotSame(w, Window.hann(1001));
+		assertSame(Window.kaiser(1000, 6.0), Window.kaiser(1000, 6.0));
+		assertNotSame(Window.kaiser(1000, 6.0), Window.kaiser(1000, 8.0));
+		assertArrayEquals(Window.generate(Window.Type.HANN, 1000, true, 0.0), w.rv());
+
+		// Cache is bounded, old windows are evicted
+		for (int i = 0; i < 100; i++)
+			Window.blackman(2000 + i);
+		assertNotSame(w, Window.hann(1000));
+	}
+
+	@Test
+	public void Test_apply() {
+		final int size = 1001;
+		final Window w = Window.blackman(size);
+		final Random r = new Random(1);
+		final float x[] = new float[size * 2 + 6];
+		for (int i = 0; i < x.length; i++)
+			x[i] = r.nextFloat() * 2.0f - 1.0f;
+
+		final float c[] = w.rv();
+		final float zr[] = new float[size + 3];
+		w.apply_rv(zr, 3, x, 3);
+		for (int i = 0; i < size; i++)
+			assertEquals(x[3 + i] * c[i], zr[3 + i], "Real " + i);
+
+		final float zc[] = x.clone();
+		w.apply_cv(zc, 3, zc, 3);
+		for (int i = 0; i < size; i++) {
+			assertEquals(x[(3 + i) * 2 + 0] * c[i], zc[(3 + i) * 2 + 0], "Complex re " + i);
+			assertEquals(x[(3 + i) * 2 + 1] * c[i], zc[(3 + i) * 2 + 1], "Complex im " + i);
+		}
+	}
+
+	@Test
+	public void Test_copy() {
+		final Window w = Window.hann(500);
+		final float rv[] = w.rv();
+		final float cv[] = w.cv();
+		assertEquals(500, rv.length);
+		assertEquals(1000, cv.length);
+		for (int i = 0; i < rv.length; i++) {
+			assertEquals(rv[i], cv[i * 2 + 0], "Spread re " + i);
+			assertEquals(rv[i], cv[i * 2 + 1], "Spread im " + i);
+		}
+
+		// Changes of copies must not leak into shared window
+		Arrays.fill(rv, 2.0f);
+		Arrays.fill(cv, 2.0f);
+		assertArrayEquals(Window.generate(Window.Type.HANN, 500, true, 0.0), Window.hann(500).rv());
+		final float x[] = new float[1000];
+		Arrays.fill(x, 1.0f);
+		final float z[] = new float[1000];
+		w.apply_cv(z, 0, x, 0);
+		assertArrayEquals(w.cv(), z);
+	}
+
+	@Test
+	public void Test_param() {
+		// Parameter is ignored for all types except Kaiser
+		final Window w = Window.get(Window.Type.HAMMING, 700, true, 3.0);
+		assertEquals(0.0, w.getParam());
+		assertSame(w, Window.get(Window.Type.HAMMING, 700, true, 7.0));
+		assertSame(w, Window.hamming(700));
+		assertEquals(6.0, Window.kaiser(700, 6.0).getParam());
+	}
+
+	@Test
+	public void Test_badSize() {
+		assertThrows(IllegalArgumentException.class, () -> Window.hann(0));
+	}
+
+	private static void check(double expected[], float w[]) {
+		assertEquals(expected.length, w.length, "Size");
+		for (int i = 0; i < w.length; i++)
+			assertEquals(expected[i], w[i], EPSILON, "Coefficient " + i);
+	}
+}
@@ -0,0 +1,271 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi.expr;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import vectorapi.VO;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+/**
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration, WeakerAccess
+ */
+public class VExprTests {
+	private static final float EPSILON = 0.0001f;
+	private static final int DATA_SIZE = 65536;
+	private static final int MAX_OFFSET = 3;
+
+	private static float rvx[];
+	private static float rvy[];
+	private static float cvx[];
+	private static float cvy[];
+	private static float cvw[];
+
+	@BeforeAll
+	public static void Setup() {
+		Random r = new Random(42);
+		rvx = new float[DATA_SIZE + MAX_OFFSET];
+		rvy = new float[DATA_SIZE + MAX_OFFSET];
+		cvx = new float[(DATA_SIZE + MAX_OFFSET) * 2];
+		cvy = new float[(DATA_SIZE + MAX_OFFSET) * 2];
+		cvw = new float[(DATA_SIZE + MAX_OFFSET) * 2];
+		for (int i = 0; i < rvx.length; i++) {
+			rvx[i] = r.nextFloat() * 2.0f - 1.0f;
+			rvy[i] = r.nextFloat() * 2.0f - 1.0f;
+		}
+		for (int i = 0; i < cvx.length; i++) {
+			cvx[i] = r.nextFloat() * 2.0f - 1.0f;
+			cvy[i] = r.nextFloat() * 2.0f - 1.0f;
+			cvw[i] = r.nextFloat() * 2.0f - 1.0f;
+		}
+	}
+
+	@ParameterizedTest(name = "chain({0})")
+	@ValueSource(ints = { 1, 7, VExpr.TILE - 1, VExpr.TILE, VExpr.TILE + 1, DATA_SIZE })
+	public void Test_chain(int size) {
+		float t1[] = new float[size * 2];
+		float t2[] = new float[size * 2];
+		float t3[] = new float[size];
+		float z1[] = new float[size + 1];
+		float z2[] = new float[size + 1];
+
+		VO.cv_mul_cv(t1, 0, cvx, 1, cvy, 2, size);
+		VO.cv_conjmul_cv(t2, 0, t1, 0, cvw, 3, size);
+		VO.cv_abs(t3, 0, t2, 0, size);
+		VO.rv_10log10(z1, 1, t3, 0, size);
+
+		VExpr.cv(cvx, 1).mul(VExpr.cv(cvy, 2)).conjmul(VExpr.cv(cvw, 3)).abs().tenLog10().into(z2, 1, size);
+
+		assertArrayEquals(z1, z2, EPSILON);
+	}
+
+	@ParameterizedTest(name = "mixed({0})")
+	@ValueSource(ints = { 1, 7, VExpr.TILE - 1, VExpr.TILE, VExpr.TILE + 1, DATA_SIZE })
+	public void Test_mixed(int size) {
+		final float cs[] = { 0.5f, -0.25f };
+		float t1[] = new float[size * 2];
+		float t2[] = new float[size * 2];
+		float z1[] = new float[size * 2];
+		float z2[] = new float[size * 2];
+
+		VO.cv_add_rv(t1, 0, cvx, 0, rvx, 1, size);
+		VO.cv_mul_cs(t2, 0, t1, 0, cs, size);
+		VO.cv_sub_cv(z1, 0, t2, 0, cvy, 0, size);
+		VO.cv_mul_rs_i(z1, 0, 2.0f, size);
+
+		VExpr.rv(rvx, 1).add(VExpr.cv(cvx, 0)).mul(cs).sub(VExpr.cv(cvy, 0)).mul(2.0f).into(z2, 0, size);
+
+		assertArrayEquals(z1, z2, EPSILON);
+	}
+
+	@ParameterizedTest(name = "div({0})")
+	@ValueSource(ints = { 1, 7, VExpr.TILE - 1, VExpr.TILE, VExpr.TILE + 1, DATA_SIZE })
+	public void Test_div(int size) {
+		float z1[] = new float[size * 2];
+		float z2[] = new float[size * 2];
+
+		VO.cv_div_cv(z1, 0, cvx, 1, cvy, 2, size);
+		VExpr.cv(cvx, 1).div(VExpr.cv(cvy, 2)).into(z2, 0, size);
+		assertArrayEquals(z1, z2, EPSILON);
+
+		VO.cv_div_rv(z1, 0, cvx, 1, rvx, 2, size);
+		VExpr.cv(cvx, 1).div(VExpr.rv(rvx, 2)).into(z2, 0, size);
+		assertArrayEquals(z1, z2, EPSILON);
+
+		VO.rv_div_cv(z1, 0, rvx, 1, cvy, 2, size);
+		VExpr.rv(rvx, 1).div(VExpr.cv(cvy, 2)).into(z2, 0, size);
+		assertArrayEquals(z1, z2, EPSILON);
+
+		float r1[] = new float[size];
+		float r2[] = new float[size];
+		VO.rv_div_rv(r1, 0, rvx, 1, rvy, 2, size);
+		VExpr.rv(rvx, 1).div(VExpr.rv(rvy, 2)).into(r2, 0, size);
+		assertArrayEquals(r1, r2, EPSILON);
+	}
+
+	@ParameterizedTest(name = "sub({0})")
+	@ValueSource(ints = { 1, 7, VExpr.TILE - 1, VExpr.TILE, VExpr.TILE + 1, DATA_SIZE })
+	public void Test_sub(int size) {
+		float z1[] = new float[size * 2];
+		float z2[] = new float[size * 2];
+
+		VO.rv_sub_cv(z1, 0, rvx, 1, cvy, 2, size);
+		VExpr.rv(rvx, 1).sub(VExpr.cv(cvy, 2)).into(z2, 0, size);
+		assertArrayEquals(z1, z2, EPSILON);
+
+		VO.cv_sub_rv(z1, 0, cvx, 1, rvy, 2, size);
+		VExpr.cv(cvx, 1).sub(VExpr.rv(rvy, 2)).into(z2, 0, size);
+		assertArrayEquals(z1, z2, EPSILON);
+
+		float r1[] = new float[size];
+		float r2[] = new float[size];
+		VO.rv_sub_rv(r1, 0, rvx, 1, rvy, 2, size);
+		VExpr.rv(rvx, 1).sub(VExpr.rv(rvy, 2)).into(r2, 0, size);
+		assertArrayEquals(r1, r2, EPSILON);
+	}
+
+	@ParameterizedTest(name = "unary({0})")
+	@ValueSource(ints = { 1, 7, VExpr.TILE - 1, VExpr.TILE, VExpr.TILE + 1, DATA_SIZE })
+	public void Test_unary(int size) {
+		float z1[] = new float[size * 2];
+		float z2[] = new float[size * 2];
+		float r1[] = new float[size];
+		float r2[] = new float[size];
+
+		VO.cv_conj(z1, 0, cvx, 1, size);
+		VExpr.cv(cvx, 1).mul(2.0f).conj().into(z2, 0, size);
+		VO.cv_mul_rs_i(z1, 0, 2.0f, size);
+		assertArrayEquals(z1, z2, EPSILON);
+
+		VO.cv_re(r1, 0, cvx, 1, size);
+		VExpr.cv(cvx, 1).add(VExpr.cv(cvy, 2)).re().into(r2, 0, size);
+		VO.cv_re(z1, 0, cvy, 2, size);
+		VO.rv_add_rv_i(r1, 0, z1, 0, size);
+		assertArrayEquals(r1, r2, EPSILON);
+
+		VO.cv_im(r1, 0, cvx, 1, size);
+		VExpr.cv(cvx, 1).mul(0.5f).im().into(r2, 0, size);
+		VO.rv_mul_rs_i(r1, 0, 0.5f, size);
+		assertArrayEquals(r1, r2, EPSILON);
+
+		// Real expression has zero imaginary part and is real part itself
+		VExpr.rv(rvx, 1).mul(0.5f).im().into(r2, 0, size);
+		assertArrayEquals(new float[size], r2, 0.0f);
+		VO.rv_mul_rs(r1, 0, rvx, 1, 0.5f, size);
+		VExpr.rv(rvx, 1).mul(0.5f).re().into(r2, 0, size);
+		assertArrayEquals(r1, r2, EPSILON);
+	}
+
+	@ParameterizedTest(name = "log10({0})")
+	@ValueSource(ints = { 1, 7, VExpr.TILE - 1, VExpr.TILE, VExpr.TILE + 1, DATA_SIZE })
+	public void Test_log10(int size) {
+		float t1[] = new float[size * 2];
+		float r1[] = new float[size];
+		float r2[] = new float[size];
+
+		VO.rv_20log10(r1, 0, rvx, 1, size);
+		VExpr.rv(rvx, 1).twentyLog10().into(r2, 0, size);
+		assertArrayEquals(r1, r2, EPSILON);
+
+		VO.cv_mul_cv(t1, 0, cvx, 1, cvy, 2, size);
+		VO.cv_20log10(r1, 0, t1, 0, size);
+		VExpr.cv(cvx, 1).mul(VExpr.cv(cvy, 2)).twentyLog10().into(r2, 0, size);
+		assertArrayEquals(r1, r2, EPSILON);
+
+		VExpr.cv(cvx, 1).mul(VExpr.cv(cvy, 2)).abs().twentyLog10().into(r2, 0, size);
+		assertArrayEquals(r1, r2, EPSILON);
+
+		VO.cv_10log10(r1, 0, t1, 0, size);
+		VExpr.cv(cvx, 1).mul(VExpr.cv(cvy, 2)).tenLog10().into(r2, 0, size);
+		assertArrayEquals(r1, r2, EPSILON);
+	}
+
+	@ParameterizedTest(name = "scalar({0})")
+	@ValueSource(ints = { 1, 7, VExpr.TILE - 1, VExpr.TILE, VExpr.TILE + 1, DATA_SIZE })
+	public void Test_scalar(int size) {
+		final float cs[] = { 0.5f, -0.25f };
+		float z1[] = new float[size * 2];
+		float z2[] = new float[size * 2];
+		float r1[] = new float[size];
+		float r2[] = new float[size];
+
+		VO.rv_add_rs(r1, 0, rvx, 1, 0.75f, size);
+		VExpr.rv(rvx, 1).add(0.75f).into(r2, 0, size);
+		assertArrayEquals(r1, r2, EPSILON);
+
+		VO.cv_add_rs(z1, 0, cvx, 1, 0.75f, size);
+		VExpr.cv(cvx, 1).add(0.75f).into(z2, 0, size);
+		assertArrayEquals(z1, z2, EPSILON);
+
+		VO.rv_cvt(z1, 0, rvx, 1, size);
+		VO.cv_mul_cs_i(z1, 0, cs, size);
+		VExpr.rv(rvx, 1).mul(cs).into(z2, 0, size);
+		assertArrayEquals(z1, z2, EPSILON);
+	}
+
+	@Test
+	public void Test_rv_mul_cs_inf() {
+		final float x[] = { Float.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY, 1.0f };
+		final float cs[] = { 0.5f, -0.25f };
+		final float z[] = new float[x.length * 2];
+		VExpr.rv(x, 0).mul(cs).into(z, 0, x.length);
+		assertArrayEquals(new float[] {
+			Float.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY,
+			Float.NEGATIVE_INFINITY, Float.POSITIVE_INFINITY,
+			0.5f, -0.25f
+		}, z, 0.0f);
+	}
+
+	@ParameterizedTest(name = "reuse({0})")
+	@ValueSource(ints = { 1, 7, VExpr.TILE - 1, VExpr.TILE, VExpr.TILE + 1, DATA_SIZE })
+	public void Test_reuse(int size) {
+		float t1[] = new float[size * 2];
+		float t2[] = new float[size * 2];
+		float z1[] = new float[size * 2];
+		float z2[] = new float[size * 2];
+
+		final VExpr e = VExpr.cv(cvx, 1).mul(VExpr.cv(cvy, 2));
+		VO.cv_mul_cv(t1, 0, cvx, 1, cvy, 2, size);
+
+		VO.cv_conj(t2, 0, t1, 0, size);
+		VO.cv_mul_cv(z1, 0, t1, 0, t2, 0, size);
+		e.mul(e.conj()).into(z2, 0, size);
+		assertArrayEquals(z1, z2, EPSILON);
+
+		VO.cv_add_rs(t2, 0, t1, 0, 1.0f, size);
+		VO.cv_sub_cv(z1, 0, t2, 0, t1, 0, size);
+		e.add(1.0f).sub(e).into(z2, 0, size);
+		assertArrayEquals(z1, z2, EPSILON);
+	}
+}
@@ -0,0 +1,177 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi.fft;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static vectorapi.TestData.random;
+
+/**
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration, WeakerAccess
+ */
+public class CFFTTests {
+	// Relative to RMS of result, per stage
+	private static final double EPSILON = 5e-7;
+	private static final int MAX_LOG2 = 17;
+	private static final int OFFSET = 3;
+
+	public static Stream<Arguments> params() {
+		return IntStream.rangeClosed(0, MAX_LOG2).boxed().flatMap(log2 ->
+			Stream.of(false, true).flatMap(inPlace ->
+				Stream.of(0, OFFSET).map(offset -> Arguments.of(1 << log2, inPlace, offset))));
+	}
+
+	@ParameterizedTest(name = "forward({0}, inPlace={1}, offset={2})")
+	@MethodSource("params")
+	public void Test_forward(int size, boolean inPlace, int offset) {
+		final float x[] = random((size + offset * 2) * 2, size);
+		final double expected[] = reference(x, offset, size, false);
+		final float z[] = transform(new CFFT(size), x, offset, size, inPlace, false);
+		check(expected, z, offset, size);
+	}
+
+	@ParameterizedTest(name = "inverse({0}, inPlace={1}, offset={2})")
+	@MethodSource("params")
+	public void Test_inverse(int size, boolean inPlace, int offset) {
+		final float x[] = random((size + offset * 2) * 2, size);
+		final double expected[] = reference(x, offset, size, true);
+		final float z[] = transform(new CFFT(size), x, offset, size, inPlace, true);
+		check(expected, z, offset, size);
+	}
+
+	@ParameterizedTest(name = "roundtrip({0}, inPlace={1}, offset={2})")
+	@MethodSource("params")
+	public void Test_roundtrip(int size, boolean inPlace, int offset) {
+		final float x[] = random((size + offset * 2) * 2, size);
+		final CFFT fft = new CFFT(new FFTPlan(size));
+		final float y[] = transform(fft, x, offset, size, inPlace, false);
+		final float z[] = transform(fft, y, offset, size, inPlace, true);
+		final double expected[] = new double[size * 2];
+		for (int i = 0; i < expected.length; i++)
+			expected[i] = x[offset * 2 + i];
+		check(expected, z, offset, size);
+	}
+
+	@Test
+	public void Test_invalid_size() {
+		assertThrows(IllegalArgumentException.class, () -> new FFTPlan(0));
+		assertThrows(IllegalArgumentException.class, () -> new FFTPlan(12));
+	}
+
+	private static float[] transform(CFFT fft, float x[], int offset, int size, boolean inPlace, boolean inverse) {
+		final float z[];
+		if (inPlace) {
+			z = x.clone();
+			if (inverse)
+				fft.inverse(z, offset);
+			else
+				fft.forward(z, offset);
+		} else {
+			final float xc[] = x.clone();
+			z = new float[x.length];
+			if (inverse)
+				fft.inverse(z, offset, x, offset);
+			else
+				fft.forward(z, offset, x, offset);
+			// Input must not be touched
+			for (int i = 0; i < x.length; i++)
+				assertEquals(xc[i], x[i], 0.0f);
+		}
+		// Nor anything around
+		for (int i = 0; i < offset * 2; i++) {
+			assertEquals(inPlace ? x[i] : 0.0f, z[i], 0.0f);
+			assertEquals(inPlace ? x[z.length - 1 - i] : 0.0f, z[z.length - 1 - i], 0.0f);
+		}
+		return z;
+	}
+
+	private static void check(double expected[], float z[], int offset, int size) {
+		double rms = 0.0;
+		for (double e : expected)
+			rms += e * e;
+		rms = Math.sqrt(rms / expected.length);
+		final double epsilon = EPSILON * rms * (Integer.numberOfTrailingZeros(size) + 1);
+		for (int i = 0; i < size * 2; i++)
+			assertEquals(expected[i], z[offset * 2 + i], epsilon, "Element " + (i / 2) + ((i % 2 == 0) ? ".re" : ".im"));
+	}
+
+	// Recursive radix-2 FFT in double precision
+	private static double[] reference(float x[], int offset, int size, boolean inverse) {
+		final double re[] = new double[size];
+		final double im[] = new double[size];
+		for (int i = 0; i < size; i++) {
+			re[i] = x[(offset + i) * 2 + 0];
+			im[i] = x[(offset + i) * 2 + 1];
+		}
+		fft(re, im, inverse);
+		final double z[] = new double[size * 2];
+		for (int i = 0; i < size; i++) {
+			z[i * 2 + 0] = inverse ? re[i] / size : re[i];
+			z[i * 2 + 1] = inverse ? im[i] / size : im[i];
+		}
+		return z;
+	}
+
+	private static void fft(double re[], double im[], boolean inverse) {
+		final int n = re.length;
+		if (n == 1)
+			return;
+		final double ere[] = new double[n / 2];
+		final double eim[] = new double[n / 2];
+		final double ore[] = new double[n / 2];
+		final double oim[] = new double[n / 2];
+		for (int i = 0; i < n / 2; i++) {
+			ere[i] = re[i * 2];
+			eim[i] = im[i * 2];
+			ore[i] = re[i * 2 + 1];
+			oim[i] = im[i * 2 + 1];
+		}
+		fft(ere, eim, inverse);
+		fft(ore, oim, inverse);
+		for (int k = 0; k < n / 2; k++) {
+			final double a = (inverse ? 2.0 : -2.0) * Math.PI * k / n;
+			final double wre = Math.cos(a);
+			final double wim = Math.sin(a);
+			final double tre = ore[k] * wre - oim[k] * wim;
+			final double tim = ore[k] * wim + oim[k] * wre;
+			re[k] = ere[k] + tre;
+			im[k] = eim[k] + tim;
+			re[k + n / 2] = ere[k] - tre;
+			im[k + n / 2] = eim[k] - tim;
+		}
+	}
+}
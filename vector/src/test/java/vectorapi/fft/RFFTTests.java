@@ -0,0 +1,168 @@
+/*****************************************************************************
+ * Copyright (c) 2019, Lev Serebryakov <lev@serebryakov.spb.ru>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi.fft;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static vectorapi.TestData.random;
+
+/**
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration, WeakerAccess
+ */
+public class RFFTTests {
+	// Relative to RMS of result, per stage
+	private static final double EPSILON = 5e-7;
+	private static final int MAX_LOG2 = 17;
+	private static final int OFFSET = 3;
+
+	public static Stream<Arguments> params() {
+		return IntStream.rangeClosed(1, MAX_LOG2).boxed().flatMap(log2 ->
+			Stream.of(false, true).flatMap(inPlace ->
+				Stream.of(0, OFFSET).map(offset -> Arguments.of(1 << log2, inPlace, offset))));
+	}
+
+	@ParameterizedTest(name = "forward({0}, inPlace={1}, offset={2})")
+	@MethodSource("params")
+	public void Test_forward(int size, boolean inPlace, int offset) {
+		final RFFT fft = new RFFT(size);
+		final float x[] = random(size + offset * 4, size);
+		final double expected[] = packed(spectrum(x, offset, size));
+		final float z[];
+		if (inPlace) {
+			z = x.clone();
+			fft.forward(z, offset * 2);
+		} else {
+			z = new float[x.length];
+			fft.forward(z, offset, x, offset * 2);
+		}
+		check(expected, z, offset * 2, size);
+	}
+
+	@ParameterizedTest(name = "inverse({0}, inPlace={1}, offset={2})")
+	@MethodSource("params")
+	public void Test_inverse(int size, boolean inPlace, int offset) {
+		final RFFT fft = new RFFT(size);
+		final float x[] = random(size + offset * 4, size);
+		// Packed spectrum of real signal x
+		final double spectrum[] = packed(spectrum(x, offset, size));
+		final float y[] = new float[x.length];
+		for (int i = 0; i < size; i++)
+			y[offset * 2 + i] = (float)spectrum[i];
+		final float xc[] = y.clone();
+		final float z[];
+		if (inPlace) {
+			z = y.clone();
+			fft.inverse(z, offset * 2);
+		} else {
+			z = new float[x.length];
+			fft.inverse(z, offset * 2, y, offset);
+			for (int i = 0; i < y.length; i++)
+				assertEquals(xc[i], y[i], 0.0f);
+		}
+		final double expected[] = new double[size];
+		for (int i = 0; i < size; i++)
+			expected[i] = x[offset * 2 + i];
+		check(expected, z, offset * 2, size);
+	}
+
+	@Test
+	public void Test_invalid_size() {
+		assertThrows(IllegalArgumentException.class, () -> new RFFT(1));
+		assertThrows(IllegalArgumentException.class, () -> new RFFT(24));
+	}
+
+	private static void check(double expected[], float z[], int offset, int size) {
+		double rms = 0.0;
+		for (double e : expected)
+			rms += e * e;
+		rms = Math.sqrt(rms / expected.length);
+		final double epsilon = EPSILON * rms * (Integer.numberOfTrailingZeros(size) + 1);
+		for (int i = 0; i < size; i++)
+			assertEquals(expected[i], z[offset + i], epsilon, "Element " + i);
+	}
+
+	// Full complex spectrum of real signal, in double precision
+	private static double[][] spectrum(float x[], int offset, int size) {
+		final double re[] = new double[size];
+		final double im[] = new double[size];
+		for (int i = 0; i < size; i++)
+			re[i] = x[offset * 2 + i];
+		fft(re, im, false);
+		return new double[][] { re, im };
+	}
+
+	private static double[] packed(double s[][]) {
+		final int size = s[0].length;
+		final double z[] = new double[size];
+		z[0] = s[0][0];
+		z[1] = s[0][size / 2];
+		for (int k = 1; k < size / 2; k++) {
+			z[k * 2 + 0] = s[0][k];
+			z[k * 2 + 1] = s[1][k];
+		}
+		return z;
+	}
+
+	private static void fft(double re[], double im[], boolean inverse) {
+		final int n = re.length;
+		if (n == 1)
+			return;
+		final double ere[] = new double[n / 2];
+		final double eim[] = new double[n / 2];
+		final double ore[] = new double[n / 2];
+		final double oim[] = new double[n / 2];
+		for (int i = 0; i < n / 2; i++) {
+			ere[i] = re[i * 2];
+			eim[i] = im[i * 2];
+			ore[i] = re[i * 2 + 1];
+			oim[i] = im[i * 2 + 1];
+		}
+		fft(ere, eim, inverse);
+		fft(ore, oim, inverse);
+		for (int k = 0; k < n / 2; k++) {
+			final double a = (inverse ? 2.0 : -2.0) * Math.PI * k / n;
+			final double wre = Math.cos(a);
+			final double wim = Math.sin(a);
+			final double tre = ore[k] * wre - oim[k] * wim;
+			final double tim = ore[k] * wim + oim[k] * wre;
+			re[k] = ere[k] + tre;
+			im[k] = eim[k] + tim;
+			re[k + n / 2] = ere[k] - tre;
+			im[k + n / 2] = eim[k] - tim;
+		}
+	}
+}
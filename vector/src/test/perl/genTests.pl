@@ -29,6 +29,7 @@ use warnings;
 use strict;
 
 use Cwd qw(abs_path);
+use File::Basename;
 use FindBin;
 use lib abs_path("$FindBin::Bin/../../main/perl");
 
@@ -44,7 +45,25 @@ my $APPROX = {
 	'20log10' => 1
 };
 
-die "Syntax: $0 <BaseImpl.java> <VectorImpl.java>\n" unless @ARGV == 2;
+# Element type of implementations, "-d" selects double precision ones
+my $T = 'float';
+if (@ARGV && $ARGV[0] eq '-d') {
+	$T = 'double';
+	shift @ARGV;
+}
+die "Syntax: $0 [-d] <BaseImpl.java> <VectorImpl.java>\n" unless @ARGV == 2;
+$OpAnalyzer::REAL = $T;
+
+my $BASE_CLASS = basename($ARGV[0], '.java');
+my $VEC_CLASS  = basename($ARGV[1], '.java');
+my $TESTS_CLASS = ($T eq 'float') ? 'VectorTests' : 'VectorTestsDouble';
+my $SPECIES = uc($T);
+my $BOXED = ucfirst($T);
+# Double results differ only by order of operations
+my $EPSILON        = ($T eq 'float') ? '0.0001f' : '1.0e-10';
+my $EPSILON_APPROX = ($T eq 'float') ? '0.0001f' : '1.0e-10';
+my $EPSILON_FAST   = ($T eq 'float') ? '0.0025f' : '0.0025';
+my $RANDOM = ($T eq 'float') ? '(float)(Math.random() * 2.0 - 1.0)' : 'Math.random() * 2.0 - 1.0';
 
 my $BASE = &OpAnalyzer::loadFile($ARGV[0], 1);
 my $VEC  = &OpAnalyzer::loadFile($ARGV[1], 0);
@@ -93,8 +112,9 @@ print<<__HEADER;
  * POSSIBILITY OF SUCH DAMAGE.
  ****************************************************************************/
 
-import vectorapi.VO;
-import vectorapi.VOVec;
+import vectorapi.$BASE_CLASS;
+import vectorapi.$VEC_CLASS;
+import vectorapi.VSpecies;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -104,7 +124,6 @@ import org.junit.jupiter.params.provider.MethodSource;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.stream.Stream;
-import jdk.incubator.vector.FloatVector;
 import jdk.incubator.vector.VectorSpecies;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
@@ -114,14 +133,16 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
  * \@author Lev Serebryakov
  * \@noinspection CStyleArrayDeclaration, WeakerAccess
  */
-public class VectorTests {
-    private static final float EPSILON = 0.0001f;
-    private static final float EPSILON_APPROX = 0.0001f;
+public class $TESTS_CLASS {
+    private static final $T EPSILON = $EPSILON;
+    private static final $T EPSILON_APPROX = $EPSILON_APPROX;
+    // FastTrig.atan2() error is up to ~0.002, vectorized version is much closer to exact one
+    private static final $T EPSILON_FAST = $EPSILON_FAST;
 
     private static final int DATA_SIZE = 65536;
     private static final int MAX_OFFSET = 1;
 
-    private final static VectorSpecies<Float> PFS = FloatVector.SPECIES_PREFERRED;
+    private final static VectorSpecies<$BOXED> PFS = VSpecies.$SPECIES;
 
     static Stream<Arguments> params() {
         ArrayList<Arguments> rv = new ArrayList<>();
@@ -146,47 +167,64 @@ public class VectorTests {
         return rv.stream();
     }
 
-    private static float rvx[];
-    private static float rvy[];
-    private static float rvz[];
+    static Stream<Arguments> wrapParams() {
+        ArrayList<Arguments> rv = new ArrayList<>();
+        final int sizes[] = { 1, PFS.length() - 1, PFS.length(), PFS.length() + 1, PFS.length() * 2 + 1, DATA_SIZE, DATA_SIZE + MAX_OFFSET + PFS.length() + 1 };
+        // Offsets are in logical elements and all vectors have same logical length
+        final int offsets[] = { -1, 0, DATA_SIZE + MAX_OFFSET - PFS.length() - 1, DATA_SIZE + MAX_OFFSET - PFS.length() / 2, DATA_SIZE + MAX_OFFSET - 1 };
+        for (int size : sizes)
+            for (int offset : offsets)
+                rv.add(Arguments.of(size, offset));
+        return rv.stream();
+    }
+
+    static Stream<Arguments> wrapOnceParams() {
+        return wrapParams().filter(a -> (Integer)a.get()[0] <= DATA_SIZE + MAX_OFFSET);
+    }
+
+    private static $T rvx[];
+    private static $T rvy[];
+    private static $T rvz[];
 
-    private static float cvx[];
-    private static float cvy[];
-    private static float cvz[];
+    private static $T cvx[];
+    private static $T cvy[];
+    private static $T cvz[];
 
-    private static float rsx;
-    private static float rsy;
-    private static float rsz;
+    private static $T rsx;
+    private static $T rsy;
+    private static $T rsz;
 
-    private static float csx[];
-    private static float csy[];
+    private static $T csx[];
+    private static $T csy[];
+    private static $T csz[];
 
     \@BeforeAll
     public static void Setup() {
-        rvx = new float[DATA_SIZE + MAX_OFFSET];
-        rvy = new float[DATA_SIZE + MAX_OFFSET];
-        rvz = new float[DATA_SIZE + MAX_OFFSET];
+        rvx = new ${T}[DATA_SIZE + MAX_OFFSET];
+        rvy = new ${T}[DATA_SIZE + MAX_OFFSET];
+        rvz = new ${T}[DATA_SIZE + MAX_OFFSET];
         for (int i = 0; i < rvx.length; i++) {
-            rvx[i] = (float)(Math.random() * 2.0 - 1.0);
-            rvy[i] = (float)(Math.random() * 2.0 - 1.0);
-            rvz[i] = (float)(Math.random() * 2.0 - 1.0);
+            rvx[i] = $RANDOM;
+            rvy[i] = $RANDOM;
+            rvz[i] = $RANDOM;
         }
 
-        cvx = new float[(DATA_SIZE + MAX_OFFSET) * 2];
-        cvy = new float[(DATA_SIZE + MAX_OFFSET) * 2];
-        cvz = new float[(DATA_SIZE + MAX_OFFSET) * 2];
+        cvx = new ${T}[(DATA_SIZE + MAX_OFFSET) * 2];
+        cvy = new ${T}[(DATA_SIZE + MAX_OFFSET) * 2];
+        cvz = new ${T}[(DATA_SIZE + MAX_OFFSET) * 2];
         for (int i = 0; i < cvx.length; i++) {
-            cvx[i] = (float)(Math.random() * 2.0 - 1.0);
-            cvy[i] = (float)(Math.random() * 2.0 - 1.0);
-            cvz[i] = (float)(Math.random() * 2.0 - 1.0);
+            cvx[i] = $RANDOM;
+            cvy[i] = $RANDOM;
+            cvz[i] = $RANDOM;
         }
 
-        rsx = (float)(Math.random() * 2.0 - 1.0);
-        rsy = (float)(Math.random() * 2.0 - 1.0);
-        rsz = (float)(Math.random() * 2.0 - 1.0);
+        rsx = $RANDOM;
+        rsy = $RANDOM;
+        rsz = $RANDOM;
 
-        csx = new float[] { (float)(Math.random() * 2.0 - 1.0), (float)(Math.random() * 2.0 - 1.0) };
-        csy = new float[] { (float)(Math.random() * 2.0 - 1.0), (float)(Math.random() * 2.0 - 1.0) };
+        csx = new ${T}[] { $RANDOM, $RANDOM };
+        csy = new ${T}[] { $RANDOM, $RANDOM };
+        csz = new ${T}[] { $RANDOM, $RANDOM };
     }
 
 __HEADER
@@ -244,12 +282,12 @@ sub generateTest1i {
 	push @args1, 'size';
 	push @args2, 'size';
 
-	&generateTestHeader($op->{'name'});
-	print $CODE_INDENT, 'float ', $op->{'l'}.'z1[] = Arrays.copyOf(', $op->{'l'}.'z, ', $op->{'l'}."z.length);\n";
-	print $CODE_INDENT, 'float ', $op->{'l'}.'z2[] = Arrays.copyOf(', $op->{'l'}.'z, ', $op->{'l'}."z.length);\n";
-	print $CODE_INDENT, 'VO.',    $op->{'name'}, '(', join(', ', @args1), ");\n";
-	print $CODE_INDENT, 'VOVec.', $op->{'name'}, '(', join(', ', @args2), ");\n";
-	print $CODE_INDENT, "assertArrayEquals(", $op->{'l'}.'z1, ', $op->{'l'}.'z2, ', &getEpsilon($op->{'op'}), ");\n";
+	&generateTestHeader($op->{'name'}, &getParams($op));
+	print $CODE_INDENT, "$T ", $op->{'l'}.'z1[] = Arrays.copyOf(', $op->{'l'}.'z, ', $op->{'l'}."z.length);\n";
+	print $CODE_INDENT, "$T ", $op->{'l'}.'z2[] = Arrays.copyOf(', $op->{'l'}.'z, ', $op->{'l'}."z.length);\n";
+	print $CODE_INDENT, "$BASE_CLASS.", $op->{'name'}, '(', join(', ', @args1), ");\n";
+	print $CODE_INDENT, "$VEC_CLASS.", $op->{'name'}, '(', join(', ', @args2), ");\n";
+	print $CODE_INDENT, "assertArrayEquals(", $op->{'l'}.'z1, ', $op->{'l'}.'z2, ', &getEpsilon($op), ");\n";
 	&generateTestFooter();
 }
 
@@ -262,9 +300,9 @@ sub generateTest1o {
 	my @argsc = ();
 	eval {
 		$out = &OpAnalyzer::getOutType($op);
-		push @args1, &OpAnalyzer::generateArg($out,       'z1', '0',      $op->{'name'}, 'output') unless $out eq 'rs' || $out eq 'int';
-		push @args2, &OpAnalyzer::generateArg($out,       'z2', '0',      $op->{'name'}, 'output') unless $out eq 'rs' || $out eq 'int';
-		push @argsc, &OpAnalyzer::generateArg($op->{'l'}, 'x',  'offset', $op->{'name'}, 'first argument');
+		push @args1, &OpAnalyzer::generateArg($out,       'z1', &getOffset($op, 0), $op->{'name'}, 'output') unless $out eq 'rs' || $out eq 'int';
+		push @args2, &OpAnalyzer::generateArg($out,       'z2', &getOffset($op, 0), $op->{'name'}, 'output') unless $out eq 'rs' || $out eq 'int';
+		push @argsc, &OpAnalyzer::generateArg($op->{'l'}, 'x',  &getOffset($op, 1), $op->{'name'}, 'first argument');
 	};
 	if ($@) {
 		print STDERR $@;
@@ -274,23 +312,23 @@ sub generateTest1o {
 	push @args1, @argsc;
 	push @args2, @argsc;
 
-	&generateTestHeader($op->{'name'});
+	&generateTestHeader($op->{'name'}, &getParams($op));
 
 	if      ($out eq 'rs' || $out eq 'int') {
-		print $CODE_INDENT, $op->{'rt'}, " ${out}z1 = VO.",    $op->{'name'}, '(', join(', ', @args1), ");\n";
-		print $CODE_INDENT, $op->{'rt'}, " ${out}z2 = VOVec.", $op->{'name'}, '(', join(', ', @args2), ");\n";
-		if ($op->{'rt'} eq 'float') {
-			print $CODE_INDENT, "assertEquals(${out}z1, ${out}z2, ", &getEpsilon($op->{'op'}), ");\n";
+		print $CODE_INDENT, $op->{'rt'}, " ${out}z1 = $BASE_CLASS.", $op->{'name'}, '(', join(', ', @args1), ");\n";
+		print $CODE_INDENT, $op->{'rt'}, " ${out}z2 = $VEC_CLASS.", $op->{'name'}, '(', join(', ', @args2), ");\n";
+		if ($op->{'rt'} eq $T) {
+			print $CODE_INDENT, "assertEquals(${out}z1, ${out}z2, ", &getEpsilon($op), ");\n";
 		} else {
 			print $CODE_INDENT, "assertEquals(${out}z1, ${out}z2);\n";
 		}
 	} elsif ($out eq 'cs' || $out eq 'rv' || $out eq 'cv') {
 	 	my $zlen = ($out eq 'cs') ? '2' : "${out}z.length";
-		print $CODE_INDENT, "float ${out}z1[] = new float[$zlen];\n";
-		print $CODE_INDENT, "float ${out}z2[] = new float[$zlen];\n";
-		print $CODE_INDENT, 'VO.'    ,$op->{'name'}, '(', join(', ', @args1), ");\n";
-		print $CODE_INDENT, 'VOVec.', $op->{'name'}, '(', join(', ', @args2), ");\n";
-		print $CODE_INDENT, "assertArrayEquals(${out}z1, ${out}z2, ", &getEpsilon($op->{'op'}), ");\n";
+		print $CODE_INDENT, "$T ${out}z1[] = new ${T}[$zlen];\n";
+		print $CODE_INDENT, "$T ${out}z2[] = new ${T}[$zlen];\n";
+		print $CODE_INDENT, "$BASE_CLASS.", $op->{'name'}, '(', join(', ', @args1), ");\n";
+		print $CODE_INDENT, "$VEC_CLASS.", $op->{'name'}, '(', join(', ', @args2), ");\n";
+		print $CODE_INDENT, "assertArrayEquals(${out}z1, ${out}z2, ", &getEpsilon($op), ");\n";
 	} else {
 		die "Internal consistency error: Function \"".$op->{'name'}."\" has wrong output type \"$out\"\n";
 	}
@@ -310,7 +348,7 @@ sub generateTest2i {
 		$out = &OpAnalyzer::getOutType($op);
 		push @args1, &OpAnalyzer::generateArg($op->{'l'}, 'z1', 'offset', $op->{'name'}, 'first argument');
 		push @args2, &OpAnalyzer::generateArg($op->{'l'}, 'z2', 'offset', $op->{'name'}, 'first argument');
-		push @argsc, &OpAnalyzer::generateArg($op->{'r'}, 'x',  'offset', $op->{'name'}, 'second argument');
+		push @argsc, &OpAnalyzer::generateArg($op->{'r'}, 'x',  &getOffset($op, 1), $op->{'name'}, 'second argument');
 	};
 	if ($@) {
 		print STDERR $@;
@@ -320,15 +358,15 @@ sub generateTest2i {
 	push @args1, @argsc;
 	push @args2, @argsc;
 
-	&generateTestHeader($op->{'name'});
+	&generateTestHeader($op->{'name'}, &getParams($op));
 
-	print $CODE_INDENT, "float ${out}z1[] = Arrays.copyOf(${out}z, ${out}z.length);\n";
-	print $CODE_INDENT, "float ${out}z2[] = Arrays.copyOf(${out}z, ${out}z.length);\n";
+	print $CODE_INDENT, "$T ${out}z1[] = Arrays.copyOf(${out}z, ${out}z.length);\n";
+	print $CODE_INDENT, "$T ${out}z2[] = Arrays.copyOf(${out}z, ${out}z.length);\n";
 	print "\n";
 
-	print $CODE_INDENT, 'VO.',    $op->{'name'}, '(', join(', ', @args1), ");\n";
-	print $CODE_INDENT, 'VOVec.', $op->{'name'}, '(', join(', ', @args2), ");\n";
-	print $CODE_INDENT, "assertArrayEquals(${out}z1, ${out}z2, ", &getEpsilon($op->{'op'}), ");\n";
+	print $CODE_INDENT, "$BASE_CLASS.", $op->{'name'}, '(', join(', ', @args1), ");\n";
+	print $CODE_INDENT, "$VEC_CLASS.", $op->{'name'}, '(', join(', ', @args2), ");\n";
+	print $CODE_INDENT, "assertArrayEquals(${out}z1, ${out}z2, ", &getEpsilon($op), ");\n";
 
 	&generateTestFooter();
 }
@@ -342,10 +380,10 @@ sub generateTest2o {
 	my @argsc = ();
 	eval {
 		$out = &OpAnalyzer::getOutType($op);
-		push @args1, &OpAnalyzer::generateArg($out,       'z1', '0',      $op->{'name'}, 'output') unless $out eq 'rs' || $out eq 'int';
-		push @args2, &OpAnalyzer::generateArg($out,       'z2', '0',      $op->{'name'}, 'output') unless $out eq 'rs' || $out eq 'int';
-		push @argsc, &OpAnalyzer::generateArg($op->{'l'}, 'x',  'offset', $op->{'name'}, 'first argument');
-		push @argsc, &OpAnalyzer::generateArg($op->{'r'}, 'y',  'offset', $op->{'name'}, 'second argument');
+		push @args1, &OpAnalyzer::generateArg($out,       'z1', &getOffset($op, 0), $op->{'name'}, 'output') unless $out eq 'rs' || $out eq 'int';
+		push @args2, &OpAnalyzer::generateArg($out,       'z2', &getOffset($op, 0), $op->{'name'}, 'output') unless $out eq 'rs' || $out eq 'int';
+		push @argsc, &OpAnalyzer::generateArg($op->{'l'}, 'x',  &getOffset($op, 1), $op->{'name'}, 'first argument');
+		push @argsc, &OpAnalyzer::generateArg($op->{'r'}, 'y',  &getOffset($op, 2), $op->{'name'}, 'second argument');
 	};
 	if ($@) {
 		print STDERR $@;
@@ -355,41 +393,41 @@ sub generateTest2o {
 	push @args1, @argsc;
 	push @args2, @argsc;
 
-	&generateTestHeader($op->{'name'});
+	&generateTestHeader($op->{'name'}, &getParams($op));
 
 	if      ($out eq 'rs' || $out eq 'int') {
-		print $CODE_INDENT, $op->{'rt'}, " ${out}z1 = VO.",    $op->{'name'}, '(', join(', ', @args1), ");\n";
-		print $CODE_INDENT, $op->{'rt'}, " ${out}z2 = VOVec.", $op->{'name'}, '(', join(', ', @args2), ");\n";
-		if ($op->{'rt'} eq 'float') {
-			print $CODE_INDENT, "assertEquals(${out}z1, ${out}z2, ", &getEpsilon($op->{'op'}), ");\n";
+		print $CODE_INDENT, $op->{'rt'}, " ${out}z1 = $BASE_CLASS.", $op->{'name'}, '(', join(', ', @args1), ");\n";
+		print $CODE_INDENT, $op->{'rt'}, " ${out}z2 = $VEC_CLASS.", $op->{'name'}, '(', join(', ', @args2), ");\n";
+		if ($op->{'rt'} eq $T) {
+			print $CODE_INDENT, "assertEquals(${out}z1, ${out}z2, ", &getEpsilon($op), ");\n";
 		} else {
 			print $CODE_INDENT, "assertEquals(${out}z1, ${out}z2);\n";
 		}
 	} elsif ($out eq 'cs') {
-		print $CODE_INDENT, "float ${out}z1[] = new float[2];\n";
-		print $CODE_INDENT, "float ${out}z2[] = new float[2];\n";
-		print $CODE_INDENT, 'VO.',    $op->{'name'}, '(', join(', ', @args1), ");\n";
-		print $CODE_INDENT, 'VOVec.', $op->{'name'}, '(', join(', ', @args2), ");\n";
-		print $CODE_INDENT, "assertArrayEquals(${out}z1, ${out}z2, ", &getEpsilon($op->{'op'}), ");\n";
+		print $CODE_INDENT, "$T ${out}z1[] = new ${T}[2];\n";
+		print $CODE_INDENT, "$T ${out}z2[] = new ${T}[2];\n";
+		print $CODE_INDENT, "$BASE_CLASS.", $op->{'name'}, '(', join(', ', @args1), ");\n";
+		print $CODE_INDENT, "$VEC_CLASS.", $op->{'name'}, '(', join(', ', @args2), ");\n";
+		print $CODE_INDENT, "assertArrayEquals(${out}z1, ${out}z2, ", &getEpsilon($op), ");\n";
 
 		# And second one!
 		&generateTestFooter();
 
-		&generateTestHeader($op->{'name'}.'_zoffset');
+		&generateTestHeader($op->{'name'}.'_zoffset', &getParams($op));
 		# Add second argument "1" to mark output offset
 		splice @args1, 1, 0, "1";
 		splice @args2, 1, 0, "1";
-		print $CODE_INDENT, "float ${out}z1[] = new float[6];\n";
-		print $CODE_INDENT, "float ${out}z2[] = new float[6];\n";
-		print $CODE_INDENT, 'VO.',    $op->{'name'}, '(', join(', ', @args1), ");\n";
-		print $CODE_INDENT, 'VOVec.', $op->{'name'}. '(', join(', ', @args2), ");\n";
-		print $CODE_INDENT, "assertArrayEquals(${out}z1, ${out}z2, ", &getEpsilon($op->{'op'}), ");\n";
+		print $CODE_INDENT, "$T ${out}z1[] = new ${T}[6];\n";
+		print $CODE_INDENT, "$T ${out}z2[] = new ${T}[6];\n";
+		print $CODE_INDENT, "$BASE_CLASS.", $op->{'name'}, '(', join(', ', @args1), ");\n";
+		print $CODE_INDENT, "$VEC_CLASS.", $op->{'name'}. '(', join(', ', @args2), ");\n";
+		print $CODE_INDENT, "assertArrayEquals(${out}z1, ${out}z2, ", &getEpsilon($op), ");\n";
 	} elsif ($out eq 'rv' || $out eq 'cv') {
-		print $CODE_INDENT, "float ${out}z1[] = new float[${out}z.length];\n";
-		print $CODE_INDENT, "float ${out}z2[] = new float[${out}z.length];\n";
-		print $CODE_INDENT, 'VO.',    $op->{'name'}, '(', join(', ', @args1), ");\n";
-		print $CODE_INDENT, 'VOVec.', $op->{'name'}, '(', join(', ', @args2), ");\n";
-		print $CODE_INDENT, "assertArrayEquals(${out}z1, ${out}z2, ", &getEpsilon($op->{'op'}), ");\n";
+		print $CODE_INDENT, "$T ${out}z1[] = new ${T}[${out}z.length];\n";
+		print $CODE_INDENT, "$T ${out}z2[] = new ${T}[${out}z.length];\n";
+		print $CODE_INDENT, "$BASE_CLASS.", $op->{'name'}, '(', join(', ', @args1), ");\n";
+		print $CODE_INDENT, "$VEC_CLASS.", $op->{'name'}, '(', join(', ', @args2), ");\n";
+		print $CODE_INDENT, "assertArrayEquals(${out}z1, ${out}z2, ", &getEpsilon($op), ");\n";
 	} else {
 		die "Internal consistency error: Function \"".$op->{'name'}."\" has wrong output type \"$out\"\n";
 	}
@@ -414,8 +452,8 @@ sub generateTest4i {
 		push @args1, &OpAnalyzer::generateArg($op->{'l1'}, 'z1', 'offset', $op->{'name'}, 'first argument');
 		push @args2, &OpAnalyzer::generateArg($op->{'l1'}, 'z2', 'offset', $op->{'name'}, 'first argument');
 		push @argsc, &OpAnalyzer::generateArg($op->{'l2'}, 'z',  'offset', $op->{'name'}, 'second argument');
-		push @argsc, &OpAnalyzer::generateArg($op->{'r1'}, 'x',  'offset', $op->{'name'}, 'third argument');
-		push @argsc, &OpAnalyzer::generateArg($op->{'r2'}, 'x',  'offset', $op->{'name'}, 'fourth argument');
+		push @argsc, &OpAnalyzer::generateArg($op->{'r1'}, 'x',  &getOffset($op, 1), $op->{'name'}, 'third argument');
+		push @argsc, &OpAnalyzer::generateArg($op->{'r2'}, 'x',  &getOffset($op, 1), $op->{'name'}, 'fourth argument');
 	};
 	if ($@) {
 		print STDERR $@;
@@ -425,12 +463,12 @@ sub generateTest4i {
 	push @args1, @argsc;
 	push @args2, @argsc;
 
-	&generateTestHeader($op->{'name'});
-	print $CODE_INDENT, "float ${out}z1[] = Arrays.copyOf(${out}z, ${out}z.length);\n";
-	print $CODE_INDENT, "float ${out}z2[] = Arrays.copyOf(${out}z, ${out}z.length);\n";
-	print $CODE_INDENT, 'VO.',    $op->{'name'}, '(', join(', ', @args1), ");\n";
-	print $CODE_INDENT, 'VOVec.', $op->{'name'}, '(', join(', ', @args2), ");\n";
-	print $CODE_INDENT, "assertArrayEquals(${out}z2, ${out}z2, ", &getEpsilon($op->{'op'}), ");\n";
+	&generateTestHeader($op->{'name'}, &getParams($op));
+	print $CODE_INDENT, "$T ${out}z1[] = Arrays.copyOf(${out}z, ${out}z.length);\n";
+	print $CODE_INDENT, "$T ${out}z2[] = Arrays.copyOf(${out}z, ${out}z.length);\n";
+	print $CODE_INDENT, "$BASE_CLASS.", $op->{'name'}, '(', join(', ', @args1), ");\n";
+	print $CODE_INDENT, "$VEC_CLASS.", $op->{'name'}, '(', join(', ', @args2), ");\n";
+	print $CODE_INDENT, "assertArrayEquals(${out}z1, ${out}z2, ", &getEpsilon($op), ");\n";
 	&generateTestFooter();
 }
 
@@ -448,12 +486,12 @@ sub generateTest4o {
 	my @argsc = ();
 	eval {
 		$out = &OpAnalyzer::getOutType($op);
-		push @args1, &OpAnalyzer::generateArg($out,        'z1', '0',      $op->{'name'}, 'output') unless $out eq 'rs' || $out eq 'int';
-		push @args2, &OpAnalyzer::generateArg($out,        'z2', '0',      $op->{'name'}, 'output') unless $out eq 'rs' || $out eq 'int';
-		push @argsc, &OpAnalyzer::generateArg($op->{'l1'}, 'x',  'offset', $op->{'name'}, 'second argument');
-		push @argsc, &OpAnalyzer::generateArg($op->{'l2'}, 'x',  'offset', $op->{'name'}, 'third argument');
-		push @argsc, &OpAnalyzer::generateArg($op->{'r1'}, 'y',  'offset', $op->{'name'}, 'fourth argument');
-		push @argsc, &OpAnalyzer::generateArg($op->{'r2'}, 'y',  'offset', $op->{'name'}, 'fourth argument');
+		push @args1, &OpAnalyzer::generateArg($out,        'z1', &getOffset($op, 0), $op->{'name'}, 'output') unless $out eq 'rs' || $out eq 'int';
+		push @args2, &OpAnalyzer::generateArg($out,        'z2', &getOffset($op, 0), $op->{'name'}, 'output') unless $out eq 'rs' || $out eq 'int';
+		push @argsc, &OpAnalyzer::generateArg($op->{'l1'}, 'x',  &getOffset($op, 1), $op->{'name'}, 'second argument');
+		push @argsc, &OpAnalyzer::generateArg($op->{'l2'}, 'x',  &getOffset($op, 1), $op->{'name'}, 'third argument');
+		push @argsc, &OpAnalyzer::generateArg($op->{'r1'}, 'y',  &getOffset($op, 2), $op->{'name'}, 'fourth argument');
+		push @argsc, &OpAnalyzer::generateArg($op->{'r2'}, 'y',  &getOffset($op, 2), $op->{'name'}, 'fourth argument');
 	};
 	if ($@) {
 		print STDERR $@;
@@ -463,32 +501,58 @@ sub generateTest4o {
 	push @args1, @argsc;
 	push @args2, @argsc;
 
-	&generateTestHeader($op->{'name'});
-	print $CODE_INDENT, "float ${out}z1[] = new float[${out}z.length];\n";
-	print $CODE_INDENT, "float ${out}z2[] = new float[${out}z.length];\n";
-	print $CODE_INDENT, 'VO.',    $op->{'name'}, '(', join(', ', @args1), ");\n";
-	print $CODE_INDENT, 'VOVec.', $op->{'name'}, '(', join(', ', @args2), ");\n";
-	print $CODE_INDENT, "assertArrayEquals(${out}z1, ${out}z2, ", &getEpsilon($op->{'op'}), ");\n";
+	&generateTestHeader($op->{'name'}, &getParams($op));
+	print $CODE_INDENT, "$T ${out}z1[] = new ${T}[${out}z.length];\n";
+	print $CODE_INDENT, "$T ${out}z2[] = new ${T}[${out}z.length];\n";
+	print $CODE_INDENT, "$BASE_CLASS.", $op->{'name'}, '(', join(', ', @args1), ");\n";
+	print $CODE_INDENT, "$VEC_CLASS.", $op->{'name'}, '(', join(', ', @args2), ");\n";
+	print $CODE_INDENT, "assertArrayEquals(${out}z1, ${out}z2, ", &getEpsilon($op), ");\n";
 	&generateTestFooter();
 }
 
 sub generateTestHeader {
-	my ($name) = @_;
+	my ($name, $params) = @_;
 	print "\n";
 	print "    \@ParameterizedTest(name = \"${name}({0}, {1})\")\n";
-	print "    \@MethodSource(\"params\")\n";
+	print "    \@MethodSource(\"$params\")\n";
 	print "    public void Test_${name}(int size, int offset) {\n";
 }
 
+# In-place fast operations must not process any element twice, as
+# FastTrig errors are amplified when its output is fed to it again
+sub getParams {
+	my $op = shift;
+	if      (!$op->{'w'}) {
+		return 'params';
+	} elsif ($op->{'ip'} && $op->{'f'}) {
+		return 'wrapOnceParams';
+	} else {
+		return 'wrapParams';
+	}
+}
+
 sub generateTestFooter {
 	print "    }\n";
 }
 
+# Wrapping variants get different offsets for each argument,
+# so each argument crosses array boundary at its own place
+sub getOffset {
+	my ($op, $arg) = @_;
+	if ($op->{'w'}) {
+		return $arg == 0 ? 'offset' : "offset + $arg";
+	} else {
+		return $arg == 0 ? '0' : 'offset';
+	}
+}
+
 sub getEpsilon {
 	my $op = shift;
-	if      (exists $HORIZONTAL->{$op}) {
+	if      ($op->{'f'}) {
+		return 'EPSILON_FAST';
+	} elsif (exists $HORIZONTAL->{$op->{'op'}}) {
 		return 'EPSILON * size';
-	} elsif (exists $APPROX->{$op}) {
+	} elsif (exists $APPROX->{$op->{'op'}}) {
 		return 'EPSILON_APPROX';
 	} else {
 		return 'EPSILON';